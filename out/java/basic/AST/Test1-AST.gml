@@ -0,0 +1,353 @@
+graph [
+  directed 1
+  label "AST of Test1.java"
+  type "Abstract Syntax Tree (AST)"
+  file "Test1.java"
+
+  node [
+    id 0
+    line 0
+    type "ROOT"
+    label "Test1.java"
+    normalized "Test1.java"
+  ]
+  node [
+    id 1
+    line 2
+    type "CLASS"
+    label "CLASS"
+    normalized "CLASS"
+  ]
+  node [
+    id 2
+    line 2
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 3
+    line 2
+    type "NAME"
+    label "Test1"
+    normalized "Test1"
+  ]
+  node [
+    id 4
+    line 4
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 5
+    line 4
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 6
+    line 4
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 7
+    line 4
+    type "NAME"
+    label "main"
+    normalized "$METHOD_1"
+  ]
+  node [
+    id 8
+    line 4
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 9
+    line 4
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 10
+    line 4
+    type "TYPE"
+    label "String[]"
+    normalized "String[]"
+  ]
+  node [
+    id 11
+    line 4
+    type "NAME"
+    label "args"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 12
+    line 4
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 13
+    line 5
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 14
+    line 5
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 15
+    line 5
+    type "NAME"
+    label "i"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 16
+    line 5
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 17
+    line 6
+    type ""
+    label "i++"
+    normalized "$VARL_2++"
+  ]
+  node [
+    id 18
+    line 7
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 19
+    line 7
+    type "COND"
+    label "i > 0"
+    normalized "$VARL_2 > 0"
+  ]
+  node [
+    id 20
+    line 7
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 21
+    line 8
+    type ""
+    label "System.out.println('Positive')"
+    normalized "System.out.println('Positive')"
+  ]
+  node [
+    id 22
+    line 9
+    type ""
+    label "i *= 2"
+    normalized "$VARL_2 ?= 2"
+  ]
+  node [
+    id 23
+    line 10
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 24
+    line 11
+    type ""
+    label "System.out.println('Non-positive')"
+    normalized "System.out.println('Non-positive')"
+  ]
+  node [
+    id 25
+    line 12
+    type ""
+    label "i *= -2"
+    normalized "$VARL_2 ?= -2"
+  ]
+  node [
+    id 26
+    line 14
+    type ""
+    label "System.out.println('End')"
+    normalized "System.out.println('End')"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label "null"
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label "null"
+  ]
+  edge [
+    id 2
+    source 1
+    target 3
+    label "null"
+  ]
+  edge [
+    id 3
+    source 1
+    target 4
+    label "null"
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label "null"
+  ]
+  edge [
+    id 5
+    source 4
+    target 6
+    label "null"
+  ]
+  edge [
+    id 6
+    source 4
+    target 7
+    label "null"
+  ]
+  edge [
+    id 7
+    source 4
+    target 8
+    label "null"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label "null"
+  ]
+  edge [
+    id 9
+    source 9
+    target 10
+    label "null"
+  ]
+  edge [
+    id 10
+    source 9
+    target 11
+    label "null"
+  ]
+  edge [
+    id 11
+    source 4
+    target 12
+    label "null"
+  ]
+  edge [
+    id 12
+    source 12
+    target 13
+    label "null"
+  ]
+  edge [
+    id 13
+    source 13
+    target 14
+    label "null"
+  ]
+  edge [
+    id 14
+    source 13
+    target 15
+    label "null"
+  ]
+  edge [
+    id 15
+    source 13
+    target 16
+    label "null"
+  ]
+  edge [
+    id 16
+    source 12
+    target 17
+    label "null"
+  ]
+  edge [
+    id 17
+    source 12
+    target 18
+    label "null"
+  ]
+  edge [
+    id 18
+    source 18
+    target 19
+    label "null"
+  ]
+  edge [
+    id 19
+    source 18
+    target 20
+    label "null"
+  ]
+  edge [
+    id 20
+    source 20
+    target 21
+    label "null"
+  ]
+  edge [
+    id 21
+    source 20
+    target 22
+    label "null"
+  ]
+  edge [
+    id 22
+    source 18
+    target 23
+    label "null"
+  ]
+  edge [
+    id 23
+    source 23
+    target 24
+    label "null"
+  ]
+  edge [
+    id 24
+    source 23
+    target 25
+    label "null"
+  ]
+  edge [
+    id 25
+    source 12
+    target 26
+    label "null"
+  ]
+]
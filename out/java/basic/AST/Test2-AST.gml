@@ -0,0 +1,2095 @@
+graph [
+  directed 1
+  label "AST of Test2.java"
+  type "Abstract Syntax Tree (AST)"
+  file "Test2.java"
+
+  node [
+    id 0
+    line 0
+    type "ROOT"
+    label "Test2.java"
+    normalized "Test2.java"
+  ]
+  node [
+    id 1
+    line 2
+    type "CLASS"
+    label "CLASS"
+    normalized "CLASS"
+  ]
+  node [
+    id 2
+    line 2
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 3
+    line 2
+    type "NAME"
+    label "Test2"
+    normalized "Test2"
+  ]
+  node [
+    id 4
+    line 4
+    type "FIELD"
+    label "FIELD"
+    normalized "FIELD"
+  ]
+  node [
+    id 5
+    line 4
+    type "MODIFIER"
+    label "private"
+    normalized "private"
+  ]
+  node [
+    id 6
+    line 4
+    type "TYPE"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 7
+    line 4
+    type "NAME"
+    label "str"
+    normalized "$VARF_1"
+  ]
+  node [
+    id 8
+    line 6
+    type "CONSTRUCTOR"
+    label "CONSTRUCTOR"
+    normalized "CONSTRUCTOR"
+  ]
+  node [
+    id 9
+    line 6
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 10
+    line 6
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 11
+    line 7
+    type ""
+    label "str = 'init'"
+    normalized "$VARF_1 ?= 'init'"
+  ]
+  node [
+    id 12
+    line 10
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 13
+    line 10
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 14
+    line 10
+    type "RETURN"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 15
+    line 10
+    type "NAME"
+    label "getString"
+    normalized "$METHOD_1"
+  ]
+  node [
+    id 16
+    line 10
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 17
+    line 11
+    type ""
+    label "return str;"
+    normalized "return $VARF_1"
+  ]
+  node [
+    id 18
+    line 14
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 19
+    line 14
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 20
+    line 14
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 21
+    line 14
+    type "NAME"
+    label "setString"
+    normalized "$METHOD_2"
+  ]
+  node [
+    id 22
+    line 14
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 23
+    line 14
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 24
+    line 14
+    type "TYPE"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 25
+    line 14
+    type "NAME"
+    label "s"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 26
+    line 14
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 27
+    line 15
+    type ""
+    label "str = s"
+    normalized "$VARF_1 ?= $VARL_1"
+  ]
+  node [
+    id 28
+    line 18
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 29
+    line 18
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 30
+    line 18
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 31
+    line 18
+    type "NAME"
+    label "process"
+    normalized "$METHOD_3"
+  ]
+  node [
+    id 32
+    line 18
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 33
+    line 18
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 34
+    line 18
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 35
+    line 18
+    type "NAME"
+    label "x"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 36
+    line 18
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 37
+    line 18
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 38
+    line 18
+    type "NAME"
+    label "y"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 39
+    line 18
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 40
+    line 19
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 41
+    line 19
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 42
+    line 19
+    type "NAME"
+    label "res"
+    normalized "$VARL_3"
+  ]
+  node [
+    id 43
+    line 20
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 44
+    line 20
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 45
+    line 20
+    type "NAME"
+    label "i"
+    normalized "$VARL_4"
+  ]
+  node [
+    id 46
+    line 20
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 47
+    line 21
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 48
+    line 21
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 49
+    line 21
+    type "NAME"
+    label "test"
+    normalized "$VARL_5"
+  ]
+  node [
+    id 50
+    line 21
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 51
+    line 22
+    type "DO-WHILE"
+    label "DO-WHILE"
+    normalized "DO-WHILE"
+  ]
+  node [
+    id 52
+    line 38
+    type "COND"
+    label "i < 10"
+    normalized "$VARL_4 < 10"
+  ]
+  node [
+    id 53
+    line 22
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 54
+    line 23
+    type "DO-WHILE"
+    label "DO-WHILE"
+    normalized "DO-WHILE"
+  ]
+  node [
+    id 55
+    line 36
+    type "COND"
+    label "test < 10"
+    normalized "$VARL_5 < 10"
+  ]
+  node [
+    id 56
+    line 23
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 57
+    line 24
+    type "FOR"
+    label "FOR"
+    normalized "FOR"
+  ]
+  node [
+    id 58
+    line 0
+    type "INIT"
+    label "INIT"
+    normalized "INIT"
+  ]
+  node [
+    id 59
+    line 24
+    type ""
+    label "i = 0"
+    normalized "$VARL_4 ?= 0"
+  ]
+  node [
+    id 60
+    line 24
+    type "COND"
+    label "i <= 10"
+    normalized "$VARL_4 <= 10"
+  ]
+  node [
+    id 61
+    line 0
+    type "UPDATE"
+    label "UPDATE"
+    normalized "UPDATE"
+  ]
+  node [
+    id 62
+    line 24
+    type ""
+    label "i++"
+    normalized "$VARL_4++"
+  ]
+  node [
+    id 63
+    line 24
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 64
+    line 25
+    type "WHILE"
+    label "WHILE"
+    normalized "WHILE"
+  ]
+  node [
+    id 65
+    line 25
+    type "COND"
+    label "test == 0"
+    normalized "$VARL_5 == 0"
+  ]
+  node [
+    id 66
+    line 25
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 67
+    line 26
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 68
+    line 26
+    type "COND"
+    label "test <= 10"
+    normalized "$VARL_5 <= 10"
+  ]
+  node [
+    id 69
+    line 26
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 70
+    line 27
+    type ""
+    label "test += 2"
+    normalized "$VARL_5 ?= 2"
+  ]
+  node [
+    id 71
+    line 28
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 72
+    line 29
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 73
+    line 29
+    type "COND"
+    label "test == 10"
+    normalized "$VARL_5 == 10"
+  ]
+  node [
+    id 74
+    line 29
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 75
+    line 30
+    type ""
+    label "test++"
+    normalized "$VARL_5++"
+  ]
+  node [
+    id 76
+    line 32
+    type ""
+    label "test += 3"
+    normalized "$VARL_5 ?= 3"
+  ]
+  node [
+    id 77
+    line 37
+    type ""
+    label "i += 2"
+    normalized "$VARL_4 ?= 2"
+  ]
+  node [
+    id 78
+    line 40
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 79
+    line 40
+    type "COND"
+    label "x > y"
+    normalized "$VARL_1 > $VARL_2"
+  ]
+  node [
+    id 80
+    line 40
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 81
+    line 41
+    type ""
+    label "res = x - y"
+    normalized "$VARL_3 ?= $VARL_1 - $VARL_2"
+  ]
+  node [
+    id 82
+    line 42
+    type ""
+    label "System.out.println('x-y=' + res)"
+    normalized "System.out.println('x-y=' + $VARL_3)"
+  ]
+  node [
+    id 83
+    line 43
+    type ""
+    label "res = x / y"
+    normalized "$VARL_3 ?= $VARL_1 / $VARL_2"
+  ]
+  node [
+    id 84
+    line 44
+    type ""
+    label "System.out.println('x/y=' + res)"
+    normalized "System.out.println('x/y=' + $VARL_3)"
+  ]
+  node [
+    id 85
+    line 45
+    type ""
+    label "res = x % y"
+    normalized "$VARL_3 ?= $VARL_1 % $VARL_2"
+  ]
+  node [
+    id 86
+    line 46
+    type ""
+    label "System.out.println('x%y=' + res)"
+    normalized "System.out.println('x%y=' + $VARL_3)"
+  ]
+  node [
+    id 87
+    line 47
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 88
+    line 48
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 89
+    line 48
+    type "COND"
+    label "x == y"
+    normalized "$VARL_1 == $VARL_2"
+  ]
+  node [
+    id 90
+    line 48
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 91
+    line 49
+    type ""
+    label "System.out.println('x==y')"
+    normalized "System.out.println('x==y')"
+  ]
+  node [
+    id 92
+    line 50
+    type "WHILE"
+    label "WHILE"
+    normalized "WHILE"
+  ]
+  node [
+    id 93
+    line 50
+    type "COND"
+    label "test <= 10"
+    normalized "$VARL_5 <= 10"
+  ]
+  node [
+    id 94
+    line 50
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 95
+    line 51
+    type ""
+    label "test++"
+    normalized "$VARL_5++"
+  ]
+  node [
+    id 96
+    line 52
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 97
+    line 52
+    type "COND"
+    label "test <= 5"
+    normalized "$VARL_5 <= 5"
+  ]
+  node [
+    id 98
+    line 52
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 99
+    line 53
+    type ""
+    label "System.out.println(test)"
+    normalized "System.out.println($VARL_5)"
+  ]
+  node [
+    id 100
+    line 56
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 101
+    line 57
+    type ""
+    label "res = x + y"
+    normalized "$VARL_3 ?= $VARL_1 + $VARL_2"
+  ]
+  node [
+    id 102
+    line 58
+    type ""
+    label "System.out.println('x+y=' + res)"
+    normalized "System.out.println('x+y=' + $VARL_3)"
+  ]
+  node [
+    id 103
+    line 59
+    type ""
+    label "res = x * y"
+    normalized "$VARL_3 ?= $VARL_1 * $VARL_2"
+  ]
+  node [
+    id 104
+    line 60
+    type ""
+    label "System.out.println('x*y=' + res)"
+    normalized "System.out.println('x*y=' + $VARL_3)"
+  ]
+  node [
+    id 105
+    line 61
+    type "FOR"
+    label "FOR"
+    normalized "FOR"
+  ]
+  node [
+    id 106
+    line 0
+    type "INIT"
+    label "INIT"
+    normalized "INIT"
+  ]
+  node [
+    id 107
+    line 61
+    type ""
+    label "i = 0"
+    normalized "$VARL_4 ?= 0"
+  ]
+  node [
+    id 108
+    line 61
+    type "COND"
+    label "i < 10"
+    normalized "$VARL_4 < 10"
+  ]
+  node [
+    id 109
+    line 0
+    type "UPDATE"
+    label "UPDATE"
+    normalized "UPDATE"
+  ]
+  node [
+    id 110
+    line 61
+    type ""
+    label "i++"
+    normalized "$VARL_4++"
+  ]
+  node [
+    id 111
+    line 61
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 112
+    line 62
+    type ""
+    label "System.out.println(res)"
+    normalized "System.out.println($VARL_3)"
+  ]
+  node [
+    id 113
+    line 63
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 114
+    line 63
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 115
+    line 63
+    type "NAME"
+    label "j"
+    normalized "$VARL_6"
+  ]
+  node [
+    id 116
+    line 63
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 117
+    line 64
+    type "WHILE"
+    label "WHILE"
+    normalized "WHILE"
+  ]
+  node [
+    id 118
+    line 64
+    type "COND"
+    label "j < 5"
+    normalized "$VARL_6 < 5"
+  ]
+  node [
+    id 119
+    line 64
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 120
+    line 65
+    type ""
+    label "System.out.println(j)"
+    normalized "System.out.println($VARL_6)"
+  ]
+  node [
+    id 121
+    line 66
+    type "FOR"
+    label "FOR"
+    normalized "FOR"
+  ]
+  node [
+    id 122
+    line 0
+    type "INIT"
+    label "INIT"
+    normalized "INIT"
+  ]
+  node [
+    id 123
+    line 66
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 124
+    line 66
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 125
+    line 66
+    type "NAME"
+    label "k"
+    normalized "$VARL_7"
+  ]
+  node [
+    id 126
+    line 66
+    type "INIT"
+    label "= 10"
+    normalized "= 10"
+  ]
+  node [
+    id 127
+    line 66
+    type "COND"
+    label "k > 0"
+    normalized "$VARL_7 > 0"
+  ]
+  node [
+    id 128
+    line 0
+    type "UPDATE"
+    label "UPDATE"
+    normalized "UPDATE"
+  ]
+  node [
+    id 129
+    line 66
+    type ""
+    label "k--"
+    normalized "$VARL_7--"
+  ]
+  node [
+    id 130
+    line 66
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 131
+    line 67
+    type ""
+    label "System.out.println(k)"
+    normalized "System.out.println($VARL_7)"
+  ]
+  node [
+    id 132
+    line 69
+    type ""
+    label "j++"
+    normalized "$VARL_6++"
+  ]
+  node [
+    id 133
+    line 76
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 134
+    line 76
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 135
+    line 76
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 136
+    line 76
+    type "NAME"
+    label "main"
+    normalized "$METHOD_4"
+  ]
+  node [
+    id 137
+    line 76
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 138
+    line 76
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 139
+    line 76
+    type "TYPE"
+    label "String[]"
+    normalized "String[]"
+  ]
+  node [
+    id 140
+    line 76
+    type "NAME"
+    label "args"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 141
+    line 76
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 142
+    line 77
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 143
+    line 77
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 144
+    line 77
+    type "NAME"
+    label "i"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 145
+    line 77
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 146
+    line 78
+    type ""
+    label "i++"
+    normalized "$VARL_2++"
+  ]
+  node [
+    id 147
+    line 79
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 148
+    line 79
+    type "COND"
+    label "i > 0"
+    normalized "$VARL_2 > 0"
+  ]
+  node [
+    id 149
+    line 80
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 150
+    line 80
+    type ""
+    label "System.out.println('Positive')"
+    normalized "System.out.println('Positive')"
+  ]
+  node [
+    id 151
+    line 82
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 152
+    line 82
+    type ""
+    label "System.out.println('Non-positive')"
+    normalized "System.out.println('Non-positive')"
+  ]
+  node [
+    id 153
+    line 83
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 154
+    line 83
+    type "TYPE"
+    label "Test2"
+    normalized "Test2"
+  ]
+  node [
+    id 155
+    line 83
+    type "NAME"
+    label "tst"
+    normalized "$VARL_3"
+  ]
+  node [
+    id 156
+    line 83
+    type "INIT"
+    label "= new Test2()"
+    normalized "= ()"
+  ]
+  node [
+    id 157
+    line 84
+    type ""
+    label "tst.setString(tst.getString())"
+    normalized "$VARL_3.$METHOD_2($VARL_3.$METHOD_1())"
+  ]
+  node [
+    id 158
+    line 85
+    type ""
+    label "System.out.println(tst.getString())"
+    normalized "System.out.println($VARL_3.$METHOD_1())"
+  ]
+  node [
+    id 159
+    line 86
+    type ""
+    label "tst.process(10, i)"
+    normalized "$VARL_3.$METHOD_3(10, $VARL_2)"
+  ]
+  node [
+    id 160
+    line 87
+    type ""
+    label "System.out.println('End')"
+    normalized "System.out.println('End')"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label "null"
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label "null"
+  ]
+  edge [
+    id 2
+    source 1
+    target 3
+    label "null"
+  ]
+  edge [
+    id 3
+    source 1
+    target 4
+    label "null"
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label "null"
+  ]
+  edge [
+    id 5
+    source 4
+    target 6
+    label "null"
+  ]
+  edge [
+    id 6
+    source 4
+    target 7
+    label "null"
+  ]
+  edge [
+    id 7
+    source 1
+    target 8
+    label "null"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label "null"
+  ]
+  edge [
+    id 9
+    source 8
+    target 10
+    label "null"
+  ]
+  edge [
+    id 10
+    source 10
+    target 11
+    label "null"
+  ]
+  edge [
+    id 11
+    source 1
+    target 12
+    label "null"
+  ]
+  edge [
+    id 12
+    source 12
+    target 13
+    label "null"
+  ]
+  edge [
+    id 13
+    source 12
+    target 14
+    label "null"
+  ]
+  edge [
+    id 14
+    source 12
+    target 15
+    label "null"
+  ]
+  edge [
+    id 15
+    source 12
+    target 16
+    label "null"
+  ]
+  edge [
+    id 16
+    source 16
+    target 17
+    label "null"
+  ]
+  edge [
+    id 17
+    source 1
+    target 18
+    label "null"
+  ]
+  edge [
+    id 18
+    source 18
+    target 19
+    label "null"
+  ]
+  edge [
+    id 19
+    source 18
+    target 20
+    label "null"
+  ]
+  edge [
+    id 20
+    source 18
+    target 21
+    label "null"
+  ]
+  edge [
+    id 21
+    source 18
+    target 22
+    label "null"
+  ]
+  edge [
+    id 22
+    source 22
+    target 23
+    label "null"
+  ]
+  edge [
+    id 23
+    source 23
+    target 24
+    label "null"
+  ]
+  edge [
+    id 24
+    source 23
+    target 25
+    label "null"
+  ]
+  edge [
+    id 25
+    source 18
+    target 26
+    label "null"
+  ]
+  edge [
+    id 26
+    source 26
+    target 27
+    label "null"
+  ]
+  edge [
+    id 27
+    source 1
+    target 28
+    label "null"
+  ]
+  edge [
+    id 28
+    source 28
+    target 29
+    label "null"
+  ]
+  edge [
+    id 29
+    source 28
+    target 30
+    label "null"
+  ]
+  edge [
+    id 30
+    source 28
+    target 31
+    label "null"
+  ]
+  edge [
+    id 31
+    source 28
+    target 32
+    label "null"
+  ]
+  edge [
+    id 32
+    source 32
+    target 33
+    label "null"
+  ]
+  edge [
+    id 33
+    source 33
+    target 34
+    label "null"
+  ]
+  edge [
+    id 34
+    source 33
+    target 35
+    label "null"
+  ]
+  edge [
+    id 35
+    source 32
+    target 36
+    label "null"
+  ]
+  edge [
+    id 36
+    source 36
+    target 37
+    label "null"
+  ]
+  edge [
+    id 37
+    source 36
+    target 38
+    label "null"
+  ]
+  edge [
+    id 38
+    source 28
+    target 39
+    label "null"
+  ]
+  edge [
+    id 39
+    source 39
+    target 40
+    label "null"
+  ]
+  edge [
+    id 40
+    source 40
+    target 41
+    label "null"
+  ]
+  edge [
+    id 41
+    source 40
+    target 42
+    label "null"
+  ]
+  edge [
+    id 42
+    source 39
+    target 43
+    label "null"
+  ]
+  edge [
+    id 43
+    source 43
+    target 44
+    label "null"
+  ]
+  edge [
+    id 44
+    source 43
+    target 45
+    label "null"
+  ]
+  edge [
+    id 45
+    source 43
+    target 46
+    label "null"
+  ]
+  edge [
+    id 46
+    source 39
+    target 47
+    label "null"
+  ]
+  edge [
+    id 47
+    source 47
+    target 48
+    label "null"
+  ]
+  edge [
+    id 48
+    source 47
+    target 49
+    label "null"
+  ]
+  edge [
+    id 49
+    source 47
+    target 50
+    label "null"
+  ]
+  edge [
+    id 50
+    source 39
+    target 51
+    label "null"
+  ]
+  edge [
+    id 51
+    source 51
+    target 52
+    label "null"
+  ]
+  edge [
+    id 52
+    source 51
+    target 53
+    label "null"
+  ]
+  edge [
+    id 53
+    source 53
+    target 54
+    label "null"
+  ]
+  edge [
+    id 54
+    source 54
+    target 55
+    label "null"
+  ]
+  edge [
+    id 55
+    source 54
+    target 56
+    label "null"
+  ]
+  edge [
+    id 56
+    source 56
+    target 57
+    label "null"
+  ]
+  edge [
+    id 57
+    source 57
+    target 58
+    label "null"
+  ]
+  edge [
+    id 58
+    source 58
+    target 59
+    label "null"
+  ]
+  edge [
+    id 59
+    source 57
+    target 60
+    label "null"
+  ]
+  edge [
+    id 60
+    source 57
+    target 61
+    label "null"
+  ]
+  edge [
+    id 61
+    source 61
+    target 62
+    label "null"
+  ]
+  edge [
+    id 62
+    source 57
+    target 63
+    label "null"
+  ]
+  edge [
+    id 63
+    source 63
+    target 64
+    label "null"
+  ]
+  edge [
+    id 64
+    source 64
+    target 65
+    label "null"
+  ]
+  edge [
+    id 65
+    source 64
+    target 66
+    label "null"
+  ]
+  edge [
+    id 66
+    source 66
+    target 67
+    label "null"
+  ]
+  edge [
+    id 67
+    source 67
+    target 68
+    label "null"
+  ]
+  edge [
+    id 68
+    source 67
+    target 69
+    label "null"
+  ]
+  edge [
+    id 69
+    source 69
+    target 70
+    label "null"
+  ]
+  edge [
+    id 70
+    source 67
+    target 71
+    label "null"
+  ]
+  edge [
+    id 71
+    source 71
+    target 72
+    label "null"
+  ]
+  edge [
+    id 72
+    source 72
+    target 73
+    label "null"
+  ]
+  edge [
+    id 73
+    source 72
+    target 74
+    label "null"
+  ]
+  edge [
+    id 74
+    source 74
+    target 75
+    label "null"
+  ]
+  edge [
+    id 75
+    source 71
+    target 76
+    label "null"
+  ]
+  edge [
+    id 76
+    source 53
+    target 77
+    label "null"
+  ]
+  edge [
+    id 77
+    source 39
+    target 78
+    label "null"
+  ]
+  edge [
+    id 78
+    source 78
+    target 79
+    label "null"
+  ]
+  edge [
+    id 79
+    source 78
+    target 80
+    label "null"
+  ]
+  edge [
+    id 80
+    source 80
+    target 81
+    label "null"
+  ]
+  edge [
+    id 81
+    source 80
+    target 82
+    label "null"
+  ]
+  edge [
+    id 82
+    source 80
+    target 83
+    label "null"
+  ]
+  edge [
+    id 83
+    source 80
+    target 84
+    label "null"
+  ]
+  edge [
+    id 84
+    source 80
+    target 85
+    label "null"
+  ]
+  edge [
+    id 85
+    source 80
+    target 86
+    label "null"
+  ]
+  edge [
+    id 86
+    source 78
+    target 87
+    label "null"
+  ]
+  edge [
+    id 87
+    source 87
+    target 88
+    label "null"
+  ]
+  edge [
+    id 88
+    source 88
+    target 89
+    label "null"
+  ]
+  edge [
+    id 89
+    source 88
+    target 90
+    label "null"
+  ]
+  edge [
+    id 90
+    source 90
+    target 91
+    label "null"
+  ]
+  edge [
+    id 91
+    source 90
+    target 92
+    label "null"
+  ]
+  edge [
+    id 92
+    source 92
+    target 93
+    label "null"
+  ]
+  edge [
+    id 93
+    source 92
+    target 94
+    label "null"
+  ]
+  edge [
+    id 94
+    source 94
+    target 95
+    label "null"
+  ]
+  edge [
+    id 95
+    source 94
+    target 96
+    label "null"
+  ]
+  edge [
+    id 96
+    source 96
+    target 97
+    label "null"
+  ]
+  edge [
+    id 97
+    source 96
+    target 98
+    label "null"
+  ]
+  edge [
+    id 98
+    source 98
+    target 99
+    label "null"
+  ]
+  edge [
+    id 99
+    source 88
+    target 100
+    label "null"
+  ]
+  edge [
+    id 100
+    source 100
+    target 101
+    label "null"
+  ]
+  edge [
+    id 101
+    source 100
+    target 102
+    label "null"
+  ]
+  edge [
+    id 102
+    source 100
+    target 103
+    label "null"
+  ]
+  edge [
+    id 103
+    source 100
+    target 104
+    label "null"
+  ]
+  edge [
+    id 104
+    source 100
+    target 105
+    label "null"
+  ]
+  edge [
+    id 105
+    source 105
+    target 106
+    label "null"
+  ]
+  edge [
+    id 106
+    source 106
+    target 107
+    label "null"
+  ]
+  edge [
+    id 107
+    source 105
+    target 108
+    label "null"
+  ]
+  edge [
+    id 108
+    source 105
+    target 109
+    label "null"
+  ]
+  edge [
+    id 109
+    source 109
+    target 110
+    label "null"
+  ]
+  edge [
+    id 110
+    source 105
+    target 111
+    label "null"
+  ]
+  edge [
+    id 111
+    source 111
+    target 112
+    label "null"
+  ]
+  edge [
+    id 112
+    source 111
+    target 113
+    label "null"
+  ]
+  edge [
+    id 113
+    source 113
+    target 114
+    label "null"
+  ]
+  edge [
+    id 114
+    source 113
+    target 115
+    label "null"
+  ]
+  edge [
+    id 115
+    source 113
+    target 116
+    label "null"
+  ]
+  edge [
+    id 116
+    source 111
+    target 117
+    label "null"
+  ]
+  edge [
+    id 117
+    source 117
+    target 118
+    label "null"
+  ]
+  edge [
+    id 118
+    source 117
+    target 119
+    label "null"
+  ]
+  edge [
+    id 119
+    source 119
+    target 120
+    label "null"
+  ]
+  edge [
+    id 120
+    source 119
+    target 121
+    label "null"
+  ]
+  edge [
+    id 121
+    source 121
+    target 122
+    label "null"
+  ]
+  edge [
+    id 122
+    source 122
+    target 123
+    label "null"
+  ]
+  edge [
+    id 123
+    source 123
+    target 124
+    label "null"
+  ]
+  edge [
+    id 124
+    source 123
+    target 125
+    label "null"
+  ]
+  edge [
+    id 125
+    source 123
+    target 126
+    label "null"
+  ]
+  edge [
+    id 126
+    source 121
+    target 127
+    label "null"
+  ]
+  edge [
+    id 127
+    source 121
+    target 128
+    label "null"
+  ]
+  edge [
+    id 128
+    source 128
+    target 129
+    label "null"
+  ]
+  edge [
+    id 129
+    source 121
+    target 130
+    label "null"
+  ]
+  edge [
+    id 130
+    source 130
+    target 131
+    label "null"
+  ]
+  edge [
+    id 131
+    source 119
+    target 132
+    label "null"
+  ]
+  edge [
+    id 132
+    source 1
+    target 133
+    label "null"
+  ]
+  edge [
+    id 133
+    source 133
+    target 134
+    label "null"
+  ]
+  edge [
+    id 134
+    source 133
+    target 135
+    label "null"
+  ]
+  edge [
+    id 135
+    source 133
+    target 136
+    label "null"
+  ]
+  edge [
+    id 136
+    source 133
+    target 137
+    label "null"
+  ]
+  edge [
+    id 137
+    source 137
+    target 138
+    label "null"
+  ]
+  edge [
+    id 138
+    source 138
+    target 139
+    label "null"
+  ]
+  edge [
+    id 139
+    source 138
+    target 140
+    label "null"
+  ]
+  edge [
+    id 140
+    source 133
+    target 141
+    label "null"
+  ]
+  edge [
+    id 141
+    source 141
+    target 142
+    label "null"
+  ]
+  edge [
+    id 142
+    source 142
+    target 143
+    label "null"
+  ]
+  edge [
+    id 143
+    source 142
+    target 144
+    label "null"
+  ]
+  edge [
+    id 144
+    source 142
+    target 145
+    label "null"
+  ]
+  edge [
+    id 145
+    source 141
+    target 146
+    label "null"
+  ]
+  edge [
+    id 146
+    source 141
+    target 147
+    label "null"
+  ]
+  edge [
+    id 147
+    source 147
+    target 148
+    label "null"
+  ]
+  edge [
+    id 148
+    source 147
+    target 149
+    label "null"
+  ]
+  edge [
+    id 149
+    source 149
+    target 150
+    label "null"
+  ]
+  edge [
+    id 150
+    source 147
+    target 151
+    label "null"
+  ]
+  edge [
+    id 151
+    source 151
+    target 152
+    label "null"
+  ]
+  edge [
+    id 152
+    source 141
+    target 153
+    label "null"
+  ]
+  edge [
+    id 153
+    source 153
+    target 154
+    label "null"
+  ]
+  edge [
+    id 154
+    source 153
+    target 155
+    label "null"
+  ]
+  edge [
+    id 155
+    source 153
+    target 156
+    label "null"
+  ]
+  edge [
+    id 156
+    source 141
+    target 157
+    label "null"
+  ]
+  edge [
+    id 157
+    source 141
+    target 158
+    label "null"
+  ]
+  edge [
+    id 158
+    source 141
+    target 159
+    label "null"
+  ]
+  edge [
+    id 159
+    source 141
+    target 160
+    label "null"
+  ]
+]
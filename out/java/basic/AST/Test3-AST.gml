@@ -0,0 +1,1637 @@
+graph [
+  directed 1
+  label "AST of Test3.java"
+  type "Abstract Syntax Tree (AST)"
+  file "Test3.java"
+
+  node [
+    id 0
+    line 0
+    type "ROOT"
+    label "Test3.java"
+    normalized "Test3.java"
+  ]
+  node [
+    id 1
+    line 2
+    type "CLASS"
+    label "CLASS"
+    normalized "CLASS"
+  ]
+  node [
+    id 2
+    line 2
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 3
+    line 2
+    type "NAME"
+    label "Test3"
+    normalized "Test3"
+  ]
+  node [
+    id 4
+    line 4
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 5
+    line 4
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 6
+    line 4
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 7
+    line 4
+    type "NAME"
+    label "test1"
+    normalized "$METHOD_1"
+  ]
+  node [
+    id 8
+    line 4
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 9
+    line 4
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 10
+    line 4
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 11
+    line 4
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 12
+    line 4
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 13
+    line 5
+    type "SWITCH"
+    label "SWITCH"
+    normalized "SWITCH"
+  ]
+  node [
+    id 14
+    line 5
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 15
+    line 7
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 16
+    line 6
+    type "CASE"
+    label "1"
+    normalized "1"
+  ]
+  node [
+    id 17
+    line 7
+    type ""
+    label "System.out.println('One')"
+    normalized "System.out.println('One')"
+  ]
+  node [
+    id 18
+    line 8
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 19
+    line 13
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 20
+    line 9
+    type "CASE"
+    label "2"
+    normalized "2"
+  ]
+  node [
+    id 21
+    line 10
+    type "CASE"
+    label "3"
+    normalized "3"
+  ]
+  node [
+    id 22
+    line 11
+    type "CASE"
+    label "5"
+    normalized "5"
+  ]
+  node [
+    id 23
+    line 12
+    type "CASE"
+    label "7"
+    normalized "7"
+  ]
+  node [
+    id 24
+    line 13
+    type ""
+    label "System.out.println(i + ' is Prime')"
+    normalized "System.out.println($VARL_1 + ' is Prime')"
+  ]
+  node [
+    id 25
+    line 14
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 26
+    line 19
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 27
+    line 15
+    type "CASE"
+    label "4"
+    normalized "4"
+  ]
+  node [
+    id 28
+    line 16
+    type "CASE"
+    label "6"
+    normalized "6"
+  ]
+  node [
+    id 29
+    line 17
+    type "CASE"
+    label "8"
+    normalized "8"
+  ]
+  node [
+    id 30
+    line 18
+    type "CASE"
+    label "9"
+    normalized "9"
+  ]
+  node [
+    id 31
+    line 19
+    type ""
+    label "System.out.println(i + ' is Composite')"
+    normalized "System.out.println($VARL_1 + ' is Composite')"
+  ]
+  node [
+    id 32
+    line 20
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 33
+    line 22
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 34
+    line 21
+    type "DEFAULT"
+    label "DEFAULT"
+    normalized "DEFAULT"
+  ]
+  node [
+    id 35
+    line 22
+    type ""
+    label "System.out.println(i)"
+    normalized "System.out.println($VARL_1)"
+  ]
+  node [
+    id 36
+    line 27
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 37
+    line 27
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 38
+    line 27
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 39
+    line 27
+    type "NAME"
+    label "test2"
+    normalized "$METHOD_2"
+  ]
+  node [
+    id 40
+    line 27
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 41
+    line 27
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 42
+    line 27
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 43
+    line 27
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 44
+    line 27
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 45
+    line 28
+    type ""
+    label "System.out.println('Start')"
+    normalized "System.out.println('Start')"
+  ]
+  node [
+    id 46
+    line 29
+    type "SWITCH"
+    label "SWITCH"
+    normalized "SWITCH"
+  ]
+  node [
+    id 47
+    line 29
+    type "NAME"
+    label "i % 2"
+    normalized "$VARL_1 % 2"
+  ]
+  node [
+    id 48
+    line 31
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 49
+    line 30
+    type "CASE"
+    label "0"
+    normalized "0"
+  ]
+  node [
+    id 50
+    line 31
+    type ""
+    label "System.out.println(i + ' is Even')"
+    normalized "System.out.println($VARL_1 + ' is Even')"
+  ]
+  node [
+    id 51
+    line 34
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 52
+    line 33
+    type "CASE"
+    label "1"
+    normalized "1"
+  ]
+  node [
+    id 53
+    line 34
+    type ""
+    label "System.out.println(i + ' is Odd')"
+    normalized "System.out.println($VARL_1 + ' is Odd')"
+  ]
+  node [
+    id 54
+    line 37
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 55
+    line 36
+    type "DEFAULT"
+    label "DEFAULT"
+    normalized "DEFAULT"
+  ]
+  node [
+    id 56
+    line 37
+    type ""
+    label "System.out.println('WTF!')"
+    normalized "System.out.println('WTF!')"
+  ]
+  node [
+    id 57
+    line 39
+    type ""
+    label "System.out.println('Finish')"
+    normalized "System.out.println('Finish')"
+  ]
+  node [
+    id 58
+    line 43
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 59
+    line 43
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 60
+    line 43
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 61
+    line 43
+    type "NAME"
+    label "test3"
+    normalized "$METHOD_3"
+  ]
+  node [
+    id 62
+    line 43
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 63
+    line 43
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 64
+    line 43
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 65
+    line 43
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 66
+    line 43
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 67
+    line 44
+    type "SWITCH"
+    label "SWITCH"
+    normalized "SWITCH"
+  ]
+  node [
+    id 68
+    line 44
+    type "NAME"
+    label "i % 2"
+    normalized "$VARL_1 % 2"
+  ]
+  node [
+    id 69
+    line 46
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 70
+    line 45
+    type "CASE"
+    label "0"
+    normalized "0"
+  ]
+  node [
+    id 71
+    line 46
+    type ""
+    label "System.out.println(i + ' is Even')"
+    normalized "System.out.println($VARL_1 + ' is Even')"
+  ]
+  node [
+    id 72
+    line 47
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 73
+    line 49
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 74
+    line 48
+    type "CASE"
+    label "1"
+    normalized "1"
+  ]
+  node [
+    id 75
+    line 49
+    type ""
+    label "System.out.println(i + ' is Odd')"
+    normalized "System.out.println($VARL_1 + ' is Odd')"
+  ]
+  node [
+    id 76
+    line 50
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 77
+    line 55
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 78
+    line 55
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 79
+    line 55
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 80
+    line 55
+    type "NAME"
+    label "test4"
+    normalized "$METHOD_4"
+  ]
+  node [
+    id 81
+    line 55
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 82
+    line 56
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 83
+    line 56
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 84
+    line 56
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 85
+    line 56
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 86
+    line 57
+    type "SWITCH"
+    label "SWITCH"
+    normalized "SWITCH"
+  ]
+  node [
+    id 87
+    line 57
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 88
+    line 58
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 89
+    line 58
+    type "DEFAULT"
+    label "DEFAULT"
+    normalized "DEFAULT"
+  ]
+  node [
+    id 90
+    line 60
+    type ""
+    label "System.out.println('Finish')"
+    normalized "System.out.println('Finish')"
+  ]
+  node [
+    id 91
+    line 64
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 92
+    line 64
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 93
+    line 64
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 94
+    line 64
+    type "NAME"
+    label "test5"
+    normalized "$METHOD_5"
+  ]
+  node [
+    id 95
+    line 64
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 96
+    line 65
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 97
+    line 65
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 98
+    line 65
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 99
+    line 65
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 100
+    line 66
+    type "SWITCH"
+    label "SWITCH"
+    normalized "SWITCH"
+  ]
+  node [
+    id 101
+    line 66
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 102
+    line 67
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 103
+    line 67
+    type "CASE"
+    label "0"
+    normalized "0"
+  ]
+  node [
+    id 104
+    line 72
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 105
+    line 72
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 106
+    line 72
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 107
+    line 72
+    type "NAME"
+    label "main"
+    normalized "$METHOD_6"
+  ]
+  node [
+    id 108
+    line 72
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 109
+    line 72
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 110
+    line 72
+    type "TYPE"
+    label "String[]"
+    normalized "String[]"
+  ]
+  node [
+    id 111
+    line 72
+    type "NAME"
+    label "args"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 112
+    line 72
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 113
+    line 73
+    type ""
+    label "System.out.println('test-1:')"
+    normalized "System.out.println('test-1:')"
+  ]
+  node [
+    id 114
+    line 74
+    type ""
+    label "test1(5)"
+    normalized "$METHOD_1(5)"
+  ]
+  node [
+    id 115
+    line 75
+    type ""
+    label "System.out.println('\\ntest-2:')"
+    normalized "System.out.println('\\ntest-2:')"
+  ]
+  node [
+    id 116
+    line 76
+    type ""
+    label "test2(7)"
+    normalized "$METHOD_2(7)"
+  ]
+  node [
+    id 117
+    line 77
+    type ""
+    label "System.out.println('\\ntest-3:')"
+    normalized "System.out.println('\\ntest-3:')"
+  ]
+  node [
+    id 118
+    line 78
+    type ""
+    label "test3(4)"
+    normalized "$METHOD_3(4)"
+  ]
+  node [
+    id 119
+    line 79
+    type ""
+    label "System.out.println('\\ntest-4:')"
+    normalized "System.out.println('\\ntest-4:')"
+  ]
+  node [
+    id 120
+    line 80
+    type ""
+    label "test4()"
+    normalized "$METHOD_4()"
+  ]
+  node [
+    id 121
+    line 81
+    type ""
+    label "System.out.println('\\ntest-5:')"
+    normalized "System.out.println('\\ntest-5:')"
+  ]
+  node [
+    id 122
+    line 82
+    type ""
+    label "test5()"
+    normalized "$METHOD_5()"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label "null"
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label "null"
+  ]
+  edge [
+    id 2
+    source 1
+    target 3
+    label "null"
+  ]
+  edge [
+    id 3
+    source 1
+    target 4
+    label "null"
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label "null"
+  ]
+  edge [
+    id 5
+    source 4
+    target 6
+    label "null"
+  ]
+  edge [
+    id 6
+    source 4
+    target 7
+    label "null"
+  ]
+  edge [
+    id 7
+    source 4
+    target 8
+    label "null"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label "null"
+  ]
+  edge [
+    id 9
+    source 9
+    target 10
+    label "null"
+  ]
+  edge [
+    id 10
+    source 9
+    target 11
+    label "null"
+  ]
+  edge [
+    id 11
+    source 4
+    target 12
+    label "null"
+  ]
+  edge [
+    id 12
+    source 12
+    target 13
+    label "null"
+  ]
+  edge [
+    id 13
+    source 13
+    target 14
+    label "null"
+  ]
+  edge [
+    id 14
+    source 13
+    target 16
+    label "null"
+  ]
+  edge [
+    id 15
+    source 16
+    target 15
+    label "null"
+  ]
+  edge [
+    id 16
+    source 15
+    target 17
+    label "null"
+  ]
+  edge [
+    id 17
+    source 15
+    target 18
+    label "null"
+  ]
+  edge [
+    id 18
+    source 13
+    target 20
+    label "null"
+  ]
+  edge [
+    id 19
+    source 20
+    target 19
+    label "null"
+  ]
+  edge [
+    id 20
+    source 13
+    target 21
+    label "null"
+  ]
+  edge [
+    id 21
+    source 21
+    target 19
+    label "null"
+  ]
+  edge [
+    id 22
+    source 13
+    target 22
+    label "null"
+  ]
+  edge [
+    id 23
+    source 22
+    target 19
+    label "null"
+  ]
+  edge [
+    id 24
+    source 13
+    target 23
+    label "null"
+  ]
+  edge [
+    id 25
+    source 23
+    target 19
+    label "null"
+  ]
+  edge [
+    id 26
+    source 19
+    target 24
+    label "null"
+  ]
+  edge [
+    id 27
+    source 19
+    target 25
+    label "null"
+  ]
+  edge [
+    id 28
+    source 13
+    target 27
+    label "null"
+  ]
+  edge [
+    id 29
+    source 27
+    target 26
+    label "null"
+  ]
+  edge [
+    id 30
+    source 13
+    target 28
+    label "null"
+  ]
+  edge [
+    id 31
+    source 28
+    target 26
+    label "null"
+  ]
+  edge [
+    id 32
+    source 13
+    target 29
+    label "null"
+  ]
+  edge [
+    id 33
+    source 29
+    target 26
+    label "null"
+  ]
+  edge [
+    id 34
+    source 13
+    target 30
+    label "null"
+  ]
+  edge [
+    id 35
+    source 30
+    target 26
+    label "null"
+  ]
+  edge [
+    id 36
+    source 26
+    target 31
+    label "null"
+  ]
+  edge [
+    id 37
+    source 26
+    target 32
+    label "null"
+  ]
+  edge [
+    id 38
+    source 13
+    target 34
+    label "null"
+  ]
+  edge [
+    id 39
+    source 34
+    target 33
+    label "null"
+  ]
+  edge [
+    id 40
+    source 33
+    target 35
+    label "null"
+  ]
+  edge [
+    id 41
+    source 1
+    target 36
+    label "null"
+  ]
+  edge [
+    id 42
+    source 36
+    target 37
+    label "null"
+  ]
+  edge [
+    id 43
+    source 36
+    target 38
+    label "null"
+  ]
+  edge [
+    id 44
+    source 36
+    target 39
+    label "null"
+  ]
+  edge [
+    id 45
+    source 36
+    target 40
+    label "null"
+  ]
+  edge [
+    id 46
+    source 40
+    target 41
+    label "null"
+  ]
+  edge [
+    id 47
+    source 41
+    target 42
+    label "null"
+  ]
+  edge [
+    id 48
+    source 41
+    target 43
+    label "null"
+  ]
+  edge [
+    id 49
+    source 36
+    target 44
+    label "null"
+  ]
+  edge [
+    id 50
+    source 44
+    target 45
+    label "null"
+  ]
+  edge [
+    id 51
+    source 44
+    target 46
+    label "null"
+  ]
+  edge [
+    id 52
+    source 46
+    target 47
+    label "null"
+  ]
+  edge [
+    id 53
+    source 46
+    target 49
+    label "null"
+  ]
+  edge [
+    id 54
+    source 49
+    target 48
+    label "null"
+  ]
+  edge [
+    id 55
+    source 48
+    target 50
+    label "null"
+  ]
+  edge [
+    id 56
+    source 46
+    target 52
+    label "null"
+  ]
+  edge [
+    id 57
+    source 52
+    target 51
+    label "null"
+  ]
+  edge [
+    id 58
+    source 51
+    target 53
+    label "null"
+  ]
+  edge [
+    id 59
+    source 46
+    target 55
+    label "null"
+  ]
+  edge [
+    id 60
+    source 55
+    target 54
+    label "null"
+  ]
+  edge [
+    id 61
+    source 54
+    target 56
+    label "null"
+  ]
+  edge [
+    id 62
+    source 44
+    target 57
+    label "null"
+  ]
+  edge [
+    id 63
+    source 1
+    target 58
+    label "null"
+  ]
+  edge [
+    id 64
+    source 58
+    target 59
+    label "null"
+  ]
+  edge [
+    id 65
+    source 58
+    target 60
+    label "null"
+  ]
+  edge [
+    id 66
+    source 58
+    target 61
+    label "null"
+  ]
+  edge [
+    id 67
+    source 58
+    target 62
+    label "null"
+  ]
+  edge [
+    id 68
+    source 62
+    target 63
+    label "null"
+  ]
+  edge [
+    id 69
+    source 63
+    target 64
+    label "null"
+  ]
+  edge [
+    id 70
+    source 63
+    target 65
+    label "null"
+  ]
+  edge [
+    id 71
+    source 58
+    target 66
+    label "null"
+  ]
+  edge [
+    id 72
+    source 66
+    target 67
+    label "null"
+  ]
+  edge [
+    id 73
+    source 67
+    target 68
+    label "null"
+  ]
+  edge [
+    id 74
+    source 67
+    target 70
+    label "null"
+  ]
+  edge [
+    id 75
+    source 70
+    target 69
+    label "null"
+  ]
+  edge [
+    id 76
+    source 69
+    target 71
+    label "null"
+  ]
+  edge [
+    id 77
+    source 69
+    target 72
+    label "null"
+  ]
+  edge [
+    id 78
+    source 67
+    target 74
+    label "null"
+  ]
+  edge [
+    id 79
+    source 74
+    target 73
+    label "null"
+  ]
+  edge [
+    id 80
+    source 73
+    target 75
+    label "null"
+  ]
+  edge [
+    id 81
+    source 73
+    target 76
+    label "null"
+  ]
+  edge [
+    id 82
+    source 1
+    target 77
+    label "null"
+  ]
+  edge [
+    id 83
+    source 77
+    target 78
+    label "null"
+  ]
+  edge [
+    id 84
+    source 77
+    target 79
+    label "null"
+  ]
+  edge [
+    id 85
+    source 77
+    target 80
+    label "null"
+  ]
+  edge [
+    id 86
+    source 77
+    target 81
+    label "null"
+  ]
+  edge [
+    id 87
+    source 81
+    target 82
+    label "null"
+  ]
+  edge [
+    id 88
+    source 82
+    target 83
+    label "null"
+  ]
+  edge [
+    id 89
+    source 82
+    target 84
+    label "null"
+  ]
+  edge [
+    id 90
+    source 82
+    target 85
+    label "null"
+  ]
+  edge [
+    id 91
+    source 81
+    target 86
+    label "null"
+  ]
+  edge [
+    id 92
+    source 86
+    target 87
+    label "null"
+  ]
+  edge [
+    id 93
+    source 86
+    target 89
+    label "null"
+  ]
+  edge [
+    id 94
+    source 89
+    target 88
+    label "null"
+  ]
+  edge [
+    id 95
+    source 81
+    target 90
+    label "null"
+  ]
+  edge [
+    id 96
+    source 1
+    target 91
+    label "null"
+  ]
+  edge [
+    id 97
+    source 91
+    target 92
+    label "null"
+  ]
+  edge [
+    id 98
+    source 91
+    target 93
+    label "null"
+  ]
+  edge [
+    id 99
+    source 91
+    target 94
+    label "null"
+  ]
+  edge [
+    id 100
+    source 91
+    target 95
+    label "null"
+  ]
+  edge [
+    id 101
+    source 95
+    target 96
+    label "null"
+  ]
+  edge [
+    id 102
+    source 96
+    target 97
+    label "null"
+  ]
+  edge [
+    id 103
+    source 96
+    target 98
+    label "null"
+  ]
+  edge [
+    id 104
+    source 96
+    target 99
+    label "null"
+  ]
+  edge [
+    id 105
+    source 95
+    target 100
+    label "null"
+  ]
+  edge [
+    id 106
+    source 100
+    target 101
+    label "null"
+  ]
+  edge [
+    id 107
+    source 100
+    target 103
+    label "null"
+  ]
+  edge [
+    id 108
+    source 103
+    target 102
+    label "null"
+  ]
+  edge [
+    id 109
+    source 1
+    target 104
+    label "null"
+  ]
+  edge [
+    id 110
+    source 104
+    target 105
+    label "null"
+  ]
+  edge [
+    id 111
+    source 104
+    target 106
+    label "null"
+  ]
+  edge [
+    id 112
+    source 104
+    target 107
+    label "null"
+  ]
+  edge [
+    id 113
+    source 104
+    target 108
+    label "null"
+  ]
+  edge [
+    id 114
+    source 108
+    target 109
+    label "null"
+  ]
+  edge [
+    id 115
+    source 109
+    target 110
+    label "null"
+  ]
+  edge [
+    id 116
+    source 109
+    target 111
+    label "null"
+  ]
+  edge [
+    id 117
+    source 104
+    target 112
+    label "null"
+  ]
+  edge [
+    id 118
+    source 112
+    target 113
+    label "null"
+  ]
+  edge [
+    id 119
+    source 112
+    target 114
+    label "null"
+  ]
+  edge [
+    id 120
+    source 112
+    target 115
+    label "null"
+  ]
+  edge [
+    id 121
+    source 112
+    target 116
+    label "null"
+  ]
+  edge [
+    id 122
+    source 112
+    target 117
+    label "null"
+  ]
+  edge [
+    id 123
+    source 112
+    target 118
+    label "null"
+  ]
+  edge [
+    id 124
+    source 112
+    target 119
+    label "null"
+  ]
+  edge [
+    id 125
+    source 112
+    target 120
+    label "null"
+  ]
+  edge [
+    id 126
+    source 112
+    target 121
+    label "null"
+  ]
+  edge [
+    id 127
+    source 112
+    target 122
+    label "null"
+  ]
+]
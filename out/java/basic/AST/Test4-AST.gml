@@ -0,0 +1,2979 @@
+graph [
+  directed 1
+  label "AST of Test4.java"
+  type "Abstract Syntax Tree (AST)"
+  file "Test4.java"
+
+  node [
+    id 0
+    line 0
+    type "ROOT"
+    label "Test4.java"
+    normalized "Test4.java"
+  ]
+  node [
+    id 1
+    line 2
+    type "CLASS"
+    label "CLASS"
+    normalized "CLASS"
+  ]
+  node [
+    id 2
+    line 2
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 3
+    line 2
+    type "NAME"
+    label "Test4"
+    normalized "Test4"
+  ]
+  node [
+    id 4
+    line 4
+    type "FIELD"
+    label "FIELD"
+    normalized "FIELD"
+  ]
+  node [
+    id 5
+    line 4
+    type "MODIFIER"
+    label "private"
+    normalized "private"
+  ]
+  node [
+    id 6
+    line 4
+    type "TYPE"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 7
+    line 4
+    type "NAME"
+    label "str"
+    normalized "$VARF_1"
+  ]
+  node [
+    id 8
+    line 6
+    type "CONSTRUCTOR"
+    label "CONSTRUCTOR"
+    normalized "CONSTRUCTOR"
+  ]
+  node [
+    id 9
+    line 6
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 10
+    line 6
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 11
+    line 7
+    type ""
+    label "str = 'init'"
+    normalized "$VARF_1 ?= 'init'"
+  ]
+  node [
+    id 12
+    line 10
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 13
+    line 10
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 14
+    line 10
+    type "RETURN"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 15
+    line 10
+    type "NAME"
+    label "getString"
+    normalized "$METHOD_1"
+  ]
+  node [
+    id 16
+    line 10
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 17
+    line 11
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 18
+    line 11
+    type "COND"
+    label "str == null"
+    normalized "$VARF_1 == null"
+  ]
+  node [
+    id 19
+    line 12
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 20
+    line 12
+    type ""
+    label "str = ''"
+    normalized "$VARF_1 ?= ''"
+  ]
+  node [
+    id 21
+    line 13
+    type ""
+    label "return str;"
+    normalized "return $VARF_1"
+  ]
+  node [
+    id 22
+    line 16
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 23
+    line 16
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 24
+    line 16
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 25
+    line 16
+    type "NAME"
+    label "setString"
+    normalized "$METHOD_2"
+  ]
+  node [
+    id 26
+    line 16
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 27
+    line 16
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 28
+    line 16
+    type "TYPE"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 29
+    line 16
+    type "NAME"
+    label "s"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 30
+    line 16
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 31
+    line 17
+    type ""
+    label "str = s"
+    normalized "$VARF_1 ?= $VARL_1"
+  ]
+  node [
+    id 32
+    line 20
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 33
+    line 20
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 34
+    line 20
+    type "RETURN"
+    label "boolean"
+    normalized "boolean"
+  ]
+  node [
+    id 35
+    line 20
+    type "NAME"
+    label "isPrime"
+    normalized "$METHOD_3"
+  ]
+  node [
+    id 36
+    line 20
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 37
+    line 20
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 38
+    line 20
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 39
+    line 20
+    type "NAME"
+    label "x"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 40
+    line 20
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 41
+    line 21
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 42
+    line 21
+    type "TYPE"
+    label "int[]"
+    normalized "int[]"
+  ]
+  node [
+    id 43
+    line 21
+    type "NAME"
+    label "primes"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 44
+    line 21
+    type "INIT"
+    label "= {2, 3, 5, 7, 11, 13, 17, 19}"
+    normalized "= {2, 3, 5, 7, 11, 13, 17, 19}"
+  ]
+  node [
+    id 45
+    line 22
+    type "FOR-EACH"
+    label "FOR-EACH"
+    normalized "FOR-EACH"
+  ]
+  node [
+    id 46
+    line 22
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 47
+    line 22
+    type "NAME"
+    label "p"
+    normalized "$VARL_3"
+  ]
+  node [
+    id 48
+    line 22
+    type "IN"
+    label "primes"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 49
+    line 22
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 50
+    line 23
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 51
+    line 23
+    type "COND"
+    label "x == p"
+    normalized "$VARL_1 == $VARL_3"
+  ]
+  node [
+    id 52
+    line 24
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 53
+    line 24
+    type ""
+    label "return true;"
+    normalized "return true"
+  ]
+  node [
+    id 54
+    line 26
+    type ""
+    label "return false;"
+    normalized "return false"
+  ]
+  node [
+    id 55
+    line 29
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 56
+    line 29
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 57
+    line 29
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 58
+    line 29
+    type "NAME"
+    label "test1"
+    normalized "$METHOD_4"
+  ]
+  node [
+    id 59
+    line 29
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 60
+    line 29
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 61
+    line 29
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 62
+    line 29
+    type "NAME"
+    label "n"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 63
+    line 29
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 64
+    line 30
+    type "FOR"
+    label "FOR"
+    normalized "FOR"
+  ]
+  node [
+    id 65
+    line 0
+    type "INIT"
+    label "INIT"
+    normalized "INIT"
+  ]
+  node [
+    id 66
+    line 30
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 67
+    line 30
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 68
+    line 30
+    type "NAME"
+    label "i"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 69
+    line 30
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 70
+    line 30
+    type "COND"
+    label "i < n"
+    normalized "$VARL_2 < $VARL_1"
+  ]
+  node [
+    id 71
+    line 0
+    type "UPDATE"
+    label "UPDATE"
+    normalized "UPDATE"
+  ]
+  node [
+    id 72
+    line 30
+    type ""
+    label "++i"
+    normalized "++$VARL_2"
+  ]
+  node [
+    id 73
+    line 30
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 74
+    line 31
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 75
+    line 31
+    type "COND"
+    label "isPrime(i)"
+    normalized "$METHOD_3($VARL_2)"
+  ]
+  node [
+    id 76
+    line 32
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 77
+    line 32
+    type ""
+    label "System.out.println(i)"
+    normalized "System.out.println($VARL_2)"
+  ]
+  node [
+    id 78
+    line 34
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 79
+    line 34
+    type ""
+    label "continue;"
+    normalized "continue;"
+  ]
+  node [
+    id 80
+    line 35
+    type ""
+    label "test2(i)"
+    normalized "test2($VARL_2)"
+  ]
+  node [
+    id 81
+    line 39
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 82
+    line 39
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 83
+    line 39
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 84
+    line 39
+    type "NAME"
+    label "test2"
+    normalized "$METHOD_5"
+  ]
+  node [
+    id 85
+    line 39
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 86
+    line 39
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 87
+    line 39
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 88
+    line 39
+    type "NAME"
+    label "n"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 89
+    line 39
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 90
+    line 40
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 91
+    line 40
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 92
+    line 40
+    type "NAME"
+    label "counter"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 93
+    line 40
+    type "INIT"
+    label "= n"
+    normalized "= $VARL_1"
+  ]
+  node [
+    id 94
+    line 41
+    type "DO-WHILE"
+    label "DO-WHILE"
+    normalized "DO-WHILE"
+  ]
+  node [
+    id 95
+    line 47
+    type "COND"
+    label "counter > 2"
+    normalized "$VARL_2 > 2"
+  ]
+  node [
+    id 96
+    line 41
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 97
+    line 42
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 98
+    line 42
+    type "COND"
+    label "isPrime(counter)"
+    normalized "$METHOD_3($VARL_2)"
+  ]
+  node [
+    id 99
+    line 42
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 100
+    line 43
+    type ""
+    label "System.out.println(counter)"
+    normalized "System.out.println($VARL_2)"
+  ]
+  node [
+    id 101
+    line 44
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 102
+    line 46
+    type ""
+    label "--counter"
+    normalized "--$VARL_2"
+  ]
+  node [
+    id 103
+    line 50
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 104
+    line 50
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 105
+    line 50
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 106
+    line 50
+    type "NAME"
+    label "test3"
+    normalized "$METHOD_6"
+  ]
+  node [
+    id 107
+    line 50
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 108
+    line 50
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 109
+    line 50
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 110
+    line 50
+    type "NAME"
+    label "x"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 111
+    line 50
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 112
+    line 50
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 113
+    line 50
+    type "NAME"
+    label "y"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 114
+    line 50
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 115
+    line 51
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 116
+    line 51
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 117
+    line 51
+    type "NAME"
+    label "res"
+    normalized "$VARL_3"
+  ]
+  node [
+    id 118
+    line 52
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 119
+    line 52
+    type "COND"
+    label "x > y"
+    normalized "$VARL_1 > $VARL_2"
+  ]
+  node [
+    id 120
+    line 52
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 121
+    line 53
+    type ""
+    label "res = x - y"
+    normalized "$VARL_3 ?= $VARL_1 - $VARL_2"
+  ]
+  node [
+    id 122
+    line 54
+    type ""
+    label "System.out.println('x-y=' + res)"
+    normalized "System.out.println('x-y=' + $VARL_3)"
+  ]
+  node [
+    id 123
+    line 55
+    type ""
+    label "res = x / y"
+    normalized "$VARL_3 ?= $VARL_1 / $VARL_2"
+  ]
+  node [
+    id 124
+    line 56
+    type ""
+    label "System.out.println('x/y=' + res)"
+    normalized "System.out.println('x/y=' + $VARL_3)"
+  ]
+  node [
+    id 125
+    line 57
+    type ""
+    label "res = x % y"
+    normalized "$VARL_3 ?= $VARL_1 % $VARL_2"
+  ]
+  node [
+    id 126
+    line 58
+    type ""
+    label "System.out.println('x%y=' + res)"
+    normalized "System.out.println('x%y=' + $VARL_3)"
+  ]
+  node [
+    id 127
+    line 59
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 128
+    line 60
+    type ""
+    label "res = x + y"
+    normalized "$VARL_3 ?= $VARL_1 + $VARL_2"
+  ]
+  node [
+    id 129
+    line 61
+    type ""
+    label "System.out.println('x+y=' + res)"
+    normalized "System.out.println('x+y=' + $VARL_3)"
+  ]
+  node [
+    id 130
+    line 62
+    type ""
+    label "res = x * y"
+    normalized "$VARL_3 ?= $VARL_1 * $VARL_2"
+  ]
+  node [
+    id 131
+    line 63
+    type ""
+    label "System.out.println('x*y=' + res)"
+    normalized "System.out.println('x*y=' + $VARL_3)"
+  ]
+  node [
+    id 132
+    line 67
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 133
+    line 67
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 134
+    line 67
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 135
+    line 67
+    type "NAME"
+    label "test4"
+    normalized "$METHOD_7"
+  ]
+  node [
+    id 136
+    line 67
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 137
+    line 68
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 138
+    line 68
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 139
+    line 68
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 140
+    line 68
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 141
+    line 69
+    type "WHILE"
+    label "WHILE"
+    normalized "WHILE"
+  ]
+  node [
+    id 142
+    line 69
+    type "COND"
+    label "i < 10"
+    normalized "$VARL_1 < 10"
+  ]
+  node [
+    id 143
+    line 69
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 144
+    line 70
+    type ""
+    label "i += 2"
+    normalized "$VARL_1 ?= 2"
+  ]
+  node [
+    id 145
+    line 71
+    type ""
+    label "i--"
+    normalized "$VARL_1--"
+  ]
+  node [
+    id 146
+    line 72
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 147
+    line 72
+    type "COND"
+    label "i == 8"
+    normalized "$VARL_1 == 8"
+  ]
+  node [
+    id 148
+    line 73
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 149
+    line 73
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 150
+    line 74
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 151
+    line 74
+    type "COND"
+    label "i == 5"
+    normalized "$VARL_1 == 5"
+  ]
+  node [
+    id 152
+    line 75
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 153
+    line 75
+    type ""
+    label "continue;"
+    normalized "continue;"
+  ]
+  node [
+    id 154
+    line 76
+    type ""
+    label "System.out.println(i)"
+    normalized "System.out.println($VARL_1)"
+  ]
+  node [
+    id 155
+    line 80
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 156
+    line 80
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 157
+    line 80
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 158
+    line 80
+    type "NAME"
+    label "test5"
+    normalized "$METHOD_8"
+  ]
+  node [
+    id 159
+    line 80
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 160
+    line 81
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 161
+    line 81
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 162
+    line 81
+    type "NAME"
+    label "x"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 163
+    line 81
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 164
+    line 82
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 165
+    line 82
+    type "TYPE"
+    label "boolean"
+    normalized "boolean"
+  ]
+  node [
+    id 166
+    line 82
+    type "NAME"
+    label "p0"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 167
+    line 82
+    type "INIT"
+    label "= true"
+    normalized "= true"
+  ]
+  node [
+    id 168
+    line 83
+    type "WHILE"
+    label "WHILE"
+    normalized "WHILE"
+  ]
+  node [
+    id 169
+    line 83
+    type "COND"
+    label "p0"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 170
+    line 83
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 171
+    line 84
+    type ""
+    label "x += 7"
+    normalized "$VARL_1 ?= 7"
+  ]
+  node [
+    id 172
+    line 85
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 173
+    line 85
+    type "TYPE"
+    label "boolean"
+    normalized "boolean"
+  ]
+  node [
+    id 174
+    line 85
+    type "NAME"
+    label "p1"
+    normalized "$VARL_3"
+  ]
+  node [
+    id 175
+    line 85
+    type "INIT"
+    label "= true"
+    normalized "= true"
+  ]
+  node [
+    id 176
+    line 86
+    type "WHILE"
+    label "WHILE"
+    normalized "WHILE"
+  ]
+  node [
+    id 177
+    line 86
+    type "COND"
+    label "p1"
+    normalized "$VARL_3"
+  ]
+  node [
+    id 178
+    line 86
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 179
+    line 87
+    type ""
+    label "x *= 2"
+    normalized "$VARL_1 ?= 2"
+  ]
+  node [
+    id 180
+    line 88
+    type ""
+    label "x -= 10"
+    normalized "$VARL_1 ?= 10"
+  ]
+  node [
+    id 181
+    line 89
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 182
+    line 89
+    type "COND"
+    label "x > 10"
+    normalized "$VARL_1 > 10"
+  ]
+  node [
+    id 183
+    line 89
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 184
+    line 90
+    type ""
+    label "x += 8"
+    normalized "$VARL_1 ?= 8"
+  ]
+  node [
+    id 185
+    line 91
+    type ""
+    label "x /= 3"
+    normalized "$VARL_1 ?= 3"
+  ]
+  node [
+    id 186
+    line 92
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 187
+    line 92
+    type "COND"
+    label "x > 0"
+    normalized "$VARL_1 > 0"
+  ]
+  node [
+    id 188
+    line 93
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 189
+    line 93
+    type ""
+    label "x -= 2"
+    normalized "$VARL_1 ?= 2"
+  ]
+  node [
+    id 190
+    line 95
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 191
+    line 95
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 192
+    line 97
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 193
+    line 97
+    type ""
+    label "continue;"
+    normalized "continue;"
+  ]
+  node [
+    id 194
+    line 98
+    type ""
+    label "x--"
+    normalized "$VARL_1--"
+  ]
+  node [
+    id 195
+    line 99
+    type ""
+    label "System.out.println(x)"
+    normalized "System.out.println($VARL_1)"
+  ]
+  node [
+    id 196
+    line 100
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 197
+    line 100
+    type "COND"
+    label "x > 20"
+    normalized "$VARL_1 > 20"
+  ]
+  node [
+    id 198
+    line 101
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 199
+    line 101
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 200
+    line 102
+    type ""
+    label "--x"
+    normalized "--$VARL_1"
+  ]
+  node [
+    id 201
+    line 103
+    type ""
+    label "p1 = x > 7 ? true : false"
+    normalized "$VARL_3 ?= $VARL_1 > 7 ? true : false"
+  ]
+  node [
+    id 202
+    line 105
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 203
+    line 105
+    type "COND"
+    label "x > 40"
+    normalized "$VARL_1 > 40"
+  ]
+  node [
+    id 204
+    line 106
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 205
+    line 106
+    type ""
+    label "p0 = false"
+    normalized "$VARL_2 ?= false"
+  ]
+  node [
+    id 206
+    line 107
+    type ""
+    label "System.out.println(x)"
+    normalized "System.out.println($VARL_1)"
+  ]
+  node [
+    id 207
+    line 109
+    type ""
+    label "System.out.println(x)"
+    normalized "System.out.println($VARL_1)"
+  ]
+  node [
+    id 208
+    line 112
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 209
+    line 112
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 210
+    line 112
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 211
+    line 112
+    type "NAME"
+    label "main"
+    normalized "$METHOD_9"
+  ]
+  node [
+    id 212
+    line 112
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 213
+    line 112
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 214
+    line 112
+    type "TYPE"
+    label "String[]"
+    normalized "String[]"
+  ]
+  node [
+    id 215
+    line 112
+    type "NAME"
+    label "args"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 216
+    line 112
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 217
+    line 113
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 218
+    line 113
+    type "TYPE"
+    label "Test4"
+    normalized "Test4"
+  ]
+  node [
+    id 219
+    line 113
+    type "NAME"
+    label "tst"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 220
+    line 113
+    type "INIT"
+    label "= new Test4()"
+    normalized "= ()"
+  ]
+  node [
+    id 221
+    line 114
+    type ""
+    label "tst.setString(tst.getString())"
+    normalized "$VARL_2.$METHOD_2($VARL_2.$METHOD_1())"
+  ]
+  node [
+    id 222
+    line 115
+    type ""
+    label "System.out.println(tst.getString())"
+    normalized "System.out.println($VARL_2.$METHOD_1())"
+  ]
+  node [
+    id 223
+    line 116
+    type ""
+    label "tst.test1(9)"
+    normalized "$VARL_2.$METHOD_4(9)"
+  ]
+  node [
+    id 224
+    line 117
+    type ""
+    label "tst.test2(16)"
+    normalized "$VARL_2.$METHOD_5(16)"
+  ]
+  node [
+    id 225
+    line 118
+    type ""
+    label "tst.test3(20, 5)"
+    normalized "$VARL_2.$METHOD_6(20, 5)"
+  ]
+  node [
+    id 226
+    line 119
+    type ""
+    label "tst.test4()"
+    normalized "$VARL_2.$METHOD_7()"
+  ]
+  node [
+    id 227
+    line 120
+    type ""
+    label "tst.test5()"
+    normalized "$VARL_2.$METHOD_8()"
+  ]
+  node [
+    id 228
+    line 121
+    type ""
+    label "System.out.println('End')"
+    normalized "System.out.println('End')"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label "null"
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label "null"
+  ]
+  edge [
+    id 2
+    source 1
+    target 3
+    label "null"
+  ]
+  edge [
+    id 3
+    source 1
+    target 4
+    label "null"
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label "null"
+  ]
+  edge [
+    id 5
+    source 4
+    target 6
+    label "null"
+  ]
+  edge [
+    id 6
+    source 4
+    target 7
+    label "null"
+  ]
+  edge [
+    id 7
+    source 1
+    target 8
+    label "null"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label "null"
+  ]
+  edge [
+    id 9
+    source 8
+    target 10
+    label "null"
+  ]
+  edge [
+    id 10
+    source 10
+    target 11
+    label "null"
+  ]
+  edge [
+    id 11
+    source 1
+    target 12
+    label "null"
+  ]
+  edge [
+    id 12
+    source 12
+    target 13
+    label "null"
+  ]
+  edge [
+    id 13
+    source 12
+    target 14
+    label "null"
+  ]
+  edge [
+    id 14
+    source 12
+    target 15
+    label "null"
+  ]
+  edge [
+    id 15
+    source 12
+    target 16
+    label "null"
+  ]
+  edge [
+    id 16
+    source 16
+    target 17
+    label "null"
+  ]
+  edge [
+    id 17
+    source 17
+    target 18
+    label "null"
+  ]
+  edge [
+    id 18
+    source 17
+    target 19
+    label "null"
+  ]
+  edge [
+    id 19
+    source 19
+    target 20
+    label "null"
+  ]
+  edge [
+    id 20
+    source 16
+    target 21
+    label "null"
+  ]
+  edge [
+    id 21
+    source 1
+    target 22
+    label "null"
+  ]
+  edge [
+    id 22
+    source 22
+    target 23
+    label "null"
+  ]
+  edge [
+    id 23
+    source 22
+    target 24
+    label "null"
+  ]
+  edge [
+    id 24
+    source 22
+    target 25
+    label "null"
+  ]
+  edge [
+    id 25
+    source 22
+    target 26
+    label "null"
+  ]
+  edge [
+    id 26
+    source 26
+    target 27
+    label "null"
+  ]
+  edge [
+    id 27
+    source 27
+    target 28
+    label "null"
+  ]
+  edge [
+    id 28
+    source 27
+    target 29
+    label "null"
+  ]
+  edge [
+    id 29
+    source 22
+    target 30
+    label "null"
+  ]
+  edge [
+    id 30
+    source 30
+    target 31
+    label "null"
+  ]
+  edge [
+    id 31
+    source 1
+    target 32
+    label "null"
+  ]
+  edge [
+    id 32
+    source 32
+    target 33
+    label "null"
+  ]
+  edge [
+    id 33
+    source 32
+    target 34
+    label "null"
+  ]
+  edge [
+    id 34
+    source 32
+    target 35
+    label "null"
+  ]
+  edge [
+    id 35
+    source 32
+    target 36
+    label "null"
+  ]
+  edge [
+    id 36
+    source 36
+    target 37
+    label "null"
+  ]
+  edge [
+    id 37
+    source 37
+    target 38
+    label "null"
+  ]
+  edge [
+    id 38
+    source 37
+    target 39
+    label "null"
+  ]
+  edge [
+    id 39
+    source 32
+    target 40
+    label "null"
+  ]
+  edge [
+    id 40
+    source 40
+    target 41
+    label "null"
+  ]
+  edge [
+    id 41
+    source 41
+    target 42
+    label "null"
+  ]
+  edge [
+    id 42
+    source 41
+    target 43
+    label "null"
+  ]
+  edge [
+    id 43
+    source 41
+    target 44
+    label "null"
+  ]
+  edge [
+    id 44
+    source 40
+    target 45
+    label "null"
+  ]
+  edge [
+    id 45
+    source 45
+    target 46
+    label "null"
+  ]
+  edge [
+    id 46
+    source 45
+    target 47
+    label "null"
+  ]
+  edge [
+    id 47
+    source 45
+    target 48
+    label "null"
+  ]
+  edge [
+    id 48
+    source 45
+    target 49
+    label "null"
+  ]
+  edge [
+    id 49
+    source 49
+    target 50
+    label "null"
+  ]
+  edge [
+    id 50
+    source 50
+    target 51
+    label "null"
+  ]
+  edge [
+    id 51
+    source 50
+    target 52
+    label "null"
+  ]
+  edge [
+    id 52
+    source 52
+    target 53
+    label "null"
+  ]
+  edge [
+    id 53
+    source 40
+    target 54
+    label "null"
+  ]
+  edge [
+    id 54
+    source 1
+    target 55
+    label "null"
+  ]
+  edge [
+    id 55
+    source 55
+    target 56
+    label "null"
+  ]
+  edge [
+    id 56
+    source 55
+    target 57
+    label "null"
+  ]
+  edge [
+    id 57
+    source 55
+    target 58
+    label "null"
+  ]
+  edge [
+    id 58
+    source 55
+    target 59
+    label "null"
+  ]
+  edge [
+    id 59
+    source 59
+    target 60
+    label "null"
+  ]
+  edge [
+    id 60
+    source 60
+    target 61
+    label "null"
+  ]
+  edge [
+    id 61
+    source 60
+    target 62
+    label "null"
+  ]
+  edge [
+    id 62
+    source 55
+    target 63
+    label "null"
+  ]
+  edge [
+    id 63
+    source 63
+    target 64
+    label "null"
+  ]
+  edge [
+    id 64
+    source 64
+    target 65
+    label "null"
+  ]
+  edge [
+    id 65
+    source 65
+    target 66
+    label "null"
+  ]
+  edge [
+    id 66
+    source 66
+    target 67
+    label "null"
+  ]
+  edge [
+    id 67
+    source 66
+    target 68
+    label "null"
+  ]
+  edge [
+    id 68
+    source 66
+    target 69
+    label "null"
+  ]
+  edge [
+    id 69
+    source 64
+    target 70
+    label "null"
+  ]
+  edge [
+    id 70
+    source 64
+    target 71
+    label "null"
+  ]
+  edge [
+    id 71
+    source 71
+    target 72
+    label "null"
+  ]
+  edge [
+    id 72
+    source 64
+    target 73
+    label "null"
+  ]
+  edge [
+    id 73
+    source 73
+    target 74
+    label "null"
+  ]
+  edge [
+    id 74
+    source 74
+    target 75
+    label "null"
+  ]
+  edge [
+    id 75
+    source 74
+    target 76
+    label "null"
+  ]
+  edge [
+    id 76
+    source 76
+    target 77
+    label "null"
+  ]
+  edge [
+    id 77
+    source 74
+    target 78
+    label "null"
+  ]
+  edge [
+    id 78
+    source 78
+    target 79
+    label "null"
+  ]
+  edge [
+    id 79
+    source 73
+    target 80
+    label "null"
+  ]
+  edge [
+    id 80
+    source 1
+    target 81
+    label "null"
+  ]
+  edge [
+    id 81
+    source 81
+    target 82
+    label "null"
+  ]
+  edge [
+    id 82
+    source 81
+    target 83
+    label "null"
+  ]
+  edge [
+    id 83
+    source 81
+    target 84
+    label "null"
+  ]
+  edge [
+    id 84
+    source 81
+    target 85
+    label "null"
+  ]
+  edge [
+    id 85
+    source 85
+    target 86
+    label "null"
+  ]
+  edge [
+    id 86
+    source 86
+    target 87
+    label "null"
+  ]
+  edge [
+    id 87
+    source 86
+    target 88
+    label "null"
+  ]
+  edge [
+    id 88
+    source 81
+    target 89
+    label "null"
+  ]
+  edge [
+    id 89
+    source 89
+    target 90
+    label "null"
+  ]
+  edge [
+    id 90
+    source 90
+    target 91
+    label "null"
+  ]
+  edge [
+    id 91
+    source 90
+    target 92
+    label "null"
+  ]
+  edge [
+    id 92
+    source 90
+    target 93
+    label "null"
+  ]
+  edge [
+    id 93
+    source 89
+    target 94
+    label "null"
+  ]
+  edge [
+    id 94
+    source 94
+    target 95
+    label "null"
+  ]
+  edge [
+    id 95
+    source 94
+    target 96
+    label "null"
+  ]
+  edge [
+    id 96
+    source 96
+    target 97
+    label "null"
+  ]
+  edge [
+    id 97
+    source 97
+    target 98
+    label "null"
+  ]
+  edge [
+    id 98
+    source 97
+    target 99
+    label "null"
+  ]
+  edge [
+    id 99
+    source 99
+    target 100
+    label "null"
+  ]
+  edge [
+    id 100
+    source 99
+    target 101
+    label "null"
+  ]
+  edge [
+    id 101
+    source 96
+    target 102
+    label "null"
+  ]
+  edge [
+    id 102
+    source 1
+    target 103
+    label "null"
+  ]
+  edge [
+    id 103
+    source 103
+    target 104
+    label "null"
+  ]
+  edge [
+    id 104
+    source 103
+    target 105
+    label "null"
+  ]
+  edge [
+    id 105
+    source 103
+    target 106
+    label "null"
+  ]
+  edge [
+    id 106
+    source 103
+    target 107
+    label "null"
+  ]
+  edge [
+    id 107
+    source 107
+    target 108
+    label "null"
+  ]
+  edge [
+    id 108
+    source 108
+    target 109
+    label "null"
+  ]
+  edge [
+    id 109
+    source 108
+    target 110
+    label "null"
+  ]
+  edge [
+    id 110
+    source 107
+    target 111
+    label "null"
+  ]
+  edge [
+    id 111
+    source 111
+    target 112
+    label "null"
+  ]
+  edge [
+    id 112
+    source 111
+    target 113
+    label "null"
+  ]
+  edge [
+    id 113
+    source 103
+    target 114
+    label "null"
+  ]
+  edge [
+    id 114
+    source 114
+    target 115
+    label "null"
+  ]
+  edge [
+    id 115
+    source 115
+    target 116
+    label "null"
+  ]
+  edge [
+    id 116
+    source 115
+    target 117
+    label "null"
+  ]
+  edge [
+    id 117
+    source 114
+    target 118
+    label "null"
+  ]
+  edge [
+    id 118
+    source 118
+    target 119
+    label "null"
+  ]
+  edge [
+    id 119
+    source 118
+    target 120
+    label "null"
+  ]
+  edge [
+    id 120
+    source 120
+    target 121
+    label "null"
+  ]
+  edge [
+    id 121
+    source 120
+    target 122
+    label "null"
+  ]
+  edge [
+    id 122
+    source 120
+    target 123
+    label "null"
+  ]
+  edge [
+    id 123
+    source 120
+    target 124
+    label "null"
+  ]
+  edge [
+    id 124
+    source 120
+    target 125
+    label "null"
+  ]
+  edge [
+    id 125
+    source 120
+    target 126
+    label "null"
+  ]
+  edge [
+    id 126
+    source 118
+    target 127
+    label "null"
+  ]
+  edge [
+    id 127
+    source 127
+    target 128
+    label "null"
+  ]
+  edge [
+    id 128
+    source 127
+    target 129
+    label "null"
+  ]
+  edge [
+    id 129
+    source 127
+    target 130
+    label "null"
+  ]
+  edge [
+    id 130
+    source 127
+    target 131
+    label "null"
+  ]
+  edge [
+    id 131
+    source 1
+    target 132
+    label "null"
+  ]
+  edge [
+    id 132
+    source 132
+    target 133
+    label "null"
+  ]
+  edge [
+    id 133
+    source 132
+    target 134
+    label "null"
+  ]
+  edge [
+    id 134
+    source 132
+    target 135
+    label "null"
+  ]
+  edge [
+    id 135
+    source 132
+    target 136
+    label "null"
+  ]
+  edge [
+    id 136
+    source 136
+    target 137
+    label "null"
+  ]
+  edge [
+    id 137
+    source 137
+    target 138
+    label "null"
+  ]
+  edge [
+    id 138
+    source 137
+    target 139
+    label "null"
+  ]
+  edge [
+    id 139
+    source 137
+    target 140
+    label "null"
+  ]
+  edge [
+    id 140
+    source 136
+    target 141
+    label "null"
+  ]
+  edge [
+    id 141
+    source 141
+    target 142
+    label "null"
+  ]
+  edge [
+    id 142
+    source 141
+    target 143
+    label "null"
+  ]
+  edge [
+    id 143
+    source 143
+    target 144
+    label "null"
+  ]
+  edge [
+    id 144
+    source 143
+    target 145
+    label "null"
+  ]
+  edge [
+    id 145
+    source 143
+    target 146
+    label "null"
+  ]
+  edge [
+    id 146
+    source 146
+    target 147
+    label "null"
+  ]
+  edge [
+    id 147
+    source 146
+    target 148
+    label "null"
+  ]
+  edge [
+    id 148
+    source 148
+    target 149
+    label "null"
+  ]
+  edge [
+    id 149
+    source 143
+    target 150
+    label "null"
+  ]
+  edge [
+    id 150
+    source 150
+    target 151
+    label "null"
+  ]
+  edge [
+    id 151
+    source 150
+    target 152
+    label "null"
+  ]
+  edge [
+    id 152
+    source 152
+    target 153
+    label "null"
+  ]
+  edge [
+    id 153
+    source 143
+    target 154
+    label "null"
+  ]
+  edge [
+    id 154
+    source 1
+    target 155
+    label "null"
+  ]
+  edge [
+    id 155
+    source 155
+    target 156
+    label "null"
+  ]
+  edge [
+    id 156
+    source 155
+    target 157
+    label "null"
+  ]
+  edge [
+    id 157
+    source 155
+    target 158
+    label "null"
+  ]
+  edge [
+    id 158
+    source 155
+    target 159
+    label "null"
+  ]
+  edge [
+    id 159
+    source 159
+    target 160
+    label "null"
+  ]
+  edge [
+    id 160
+    source 160
+    target 161
+    label "null"
+  ]
+  edge [
+    id 161
+    source 160
+    target 162
+    label "null"
+  ]
+  edge [
+    id 162
+    source 160
+    target 163
+    label "null"
+  ]
+  edge [
+    id 163
+    source 159
+    target 164
+    label "null"
+  ]
+  edge [
+    id 164
+    source 164
+    target 165
+    label "null"
+  ]
+  edge [
+    id 165
+    source 164
+    target 166
+    label "null"
+  ]
+  edge [
+    id 166
+    source 164
+    target 167
+    label "null"
+  ]
+  edge [
+    id 167
+    source 159
+    target 168
+    label "null"
+  ]
+  edge [
+    id 168
+    source 168
+    target 169
+    label "null"
+  ]
+  edge [
+    id 169
+    source 168
+    target 170
+    label "null"
+  ]
+  edge [
+    id 170
+    source 170
+    target 171
+    label "null"
+  ]
+  edge [
+    id 171
+    source 170
+    target 172
+    label "null"
+  ]
+  edge [
+    id 172
+    source 172
+    target 173
+    label "null"
+  ]
+  edge [
+    id 173
+    source 172
+    target 174
+    label "null"
+  ]
+  edge [
+    id 174
+    source 172
+    target 175
+    label "null"
+  ]
+  edge [
+    id 175
+    source 170
+    target 176
+    label "null"
+  ]
+  edge [
+    id 176
+    source 176
+    target 177
+    label "null"
+  ]
+  edge [
+    id 177
+    source 176
+    target 178
+    label "null"
+  ]
+  edge [
+    id 178
+    source 178
+    target 179
+    label "null"
+  ]
+  edge [
+    id 179
+    source 178
+    target 180
+    label "null"
+  ]
+  edge [
+    id 180
+    source 178
+    target 181
+    label "null"
+  ]
+  edge [
+    id 181
+    source 181
+    target 182
+    label "null"
+  ]
+  edge [
+    id 182
+    source 181
+    target 183
+    label "null"
+  ]
+  edge [
+    id 183
+    source 183
+    target 184
+    label "null"
+  ]
+  edge [
+    id 184
+    source 183
+    target 185
+    label "null"
+  ]
+  edge [
+    id 185
+    source 183
+    target 186
+    label "null"
+  ]
+  edge [
+    id 186
+    source 186
+    target 187
+    label "null"
+  ]
+  edge [
+    id 187
+    source 186
+    target 188
+    label "null"
+  ]
+  edge [
+    id 188
+    source 188
+    target 189
+    label "null"
+  ]
+  edge [
+    id 189
+    source 186
+    target 190
+    label "null"
+  ]
+  edge [
+    id 190
+    source 190
+    target 191
+    label "null"
+  ]
+  edge [
+    id 191
+    source 181
+    target 192
+    label "null"
+  ]
+  edge [
+    id 192
+    source 192
+    target 193
+    label "null"
+  ]
+  edge [
+    id 193
+    source 178
+    target 194
+    label "null"
+  ]
+  edge [
+    id 194
+    source 178
+    target 195
+    label "null"
+  ]
+  edge [
+    id 195
+    source 178
+    target 196
+    label "null"
+  ]
+  edge [
+    id 196
+    source 196
+    target 197
+    label "null"
+  ]
+  edge [
+    id 197
+    source 196
+    target 198
+    label "null"
+  ]
+  edge [
+    id 198
+    source 198
+    target 199
+    label "null"
+  ]
+  edge [
+    id 199
+    source 178
+    target 200
+    label "null"
+  ]
+  edge [
+    id 200
+    source 178
+    target 201
+    label "null"
+  ]
+  edge [
+    id 201
+    source 170
+    target 202
+    label "null"
+  ]
+  edge [
+    id 202
+    source 202
+    target 203
+    label "null"
+  ]
+  edge [
+    id 203
+    source 202
+    target 204
+    label "null"
+  ]
+  edge [
+    id 204
+    source 204
+    target 205
+    label "null"
+  ]
+  edge [
+    id 205
+    source 170
+    target 206
+    label "null"
+  ]
+  edge [
+    id 206
+    source 159
+    target 207
+    label "null"
+  ]
+  edge [
+    id 207
+    source 1
+    target 208
+    label "null"
+  ]
+  edge [
+    id 208
+    source 208
+    target 209
+    label "null"
+  ]
+  edge [
+    id 209
+    source 208
+    target 210
+    label "null"
+  ]
+  edge [
+    id 210
+    source 208
+    target 211
+    label "null"
+  ]
+  edge [
+    id 211
+    source 208
+    target 212
+    label "null"
+  ]
+  edge [
+    id 212
+    source 212
+    target 213
+    label "null"
+  ]
+  edge [
+    id 213
+    source 213
+    target 214
+    label "null"
+  ]
+  edge [
+    id 214
+    source 213
+    target 215
+    label "null"
+  ]
+  edge [
+    id 215
+    source 208
+    target 216
+    label "null"
+  ]
+  edge [
+    id 216
+    source 216
+    target 217
+    label "null"
+  ]
+  edge [
+    id 217
+    source 217
+    target 218
+    label "null"
+  ]
+  edge [
+    id 218
+    source 217
+    target 219
+    label "null"
+  ]
+  edge [
+    id 219
+    source 217
+    target 220
+    label "null"
+  ]
+  edge [
+    id 220
+    source 216
+    target 221
+    label "null"
+  ]
+  edge [
+    id 221
+    source 216
+    target 222
+    label "null"
+  ]
+  edge [
+    id 222
+    source 216
+    target 223
+    label "null"
+  ]
+  edge [
+    id 223
+    source 216
+    target 224
+    label "null"
+  ]
+  edge [
+    id 224
+    source 216
+    target 225
+    label "null"
+  ]
+  edge [
+    id 225
+    source 216
+    target 226
+    label "null"
+  ]
+  edge [
+    id 226
+    source 216
+    target 227
+    label "null"
+  ]
+  edge [
+    id 227
+    source 216
+    target 228
+    label "null"
+  ]
+]
@@ -0,0 +1,1757 @@
+graph [
+  directed 1
+  label "AST of Test5.java"
+  type "Abstract Syntax Tree (AST)"
+  file "Test5.java"
+
+  node [
+    id 0
+    line 0
+    type "ROOT"
+    label "Test5.java"
+    normalized "Test5.java"
+  ]
+  node [
+    id 1
+    line 2
+    type "IMPORTS"
+    label "IMPORTS"
+    normalized "IMPORTS"
+  ]
+  node [
+    id 2
+    line 2
+    type "IMPORT"
+    label "java.io.File"
+    normalized "java.io.File"
+  ]
+  node [
+    id 3
+    line 3
+    type "IMPORT"
+    label "java.io.FileInputStream"
+    normalized "java.io.FileInputStream"
+  ]
+  node [
+    id 4
+    line 4
+    type "IMPORT"
+    label "java.io.FileNotFoundException"
+    normalized "java.io.FileNotFoundException"
+  ]
+  node [
+    id 5
+    line 5
+    type "IMPORT"
+    label "java.io.IOException"
+    normalized "java.io.IOException"
+  ]
+  node [
+    id 6
+    line 6
+    type "IMPORT"
+    label "java.util.Arrays"
+    normalized "java.util.Arrays"
+  ]
+  node [
+    id 7
+    line 8
+    type "CLASS"
+    label "CLASS"
+    normalized "CLASS"
+  ]
+  node [
+    id 8
+    line 8
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 9
+    line 8
+    type "NAME"
+    label "Test5"
+    normalized "Test5"
+  ]
+  node [
+    id 10
+    line 10
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 11
+    line 10
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 12
+    line 10
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 13
+    line 10
+    type "NAME"
+    label "test1"
+    normalized "$METHOD_1"
+  ]
+  node [
+    id 14
+    line 10
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 15
+    line 11
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 16
+    line 11
+    type "TYPE"
+    label "File"
+    normalized "File"
+  ]
+  node [
+    id 17
+    line 11
+    type "NAME"
+    label "file"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 18
+    line 11
+    type "INIT"
+    label "= new File('file.log')"
+    normalized "= ('file.log')"
+  ]
+  node [
+    id 19
+    line 12
+    type "TRY"
+    label "TRY"
+    normalized "TRY"
+  ]
+  node [
+    id 20
+    line 12
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 21
+    line 13
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 22
+    line 13
+    type "TYPE"
+    label "FileInputStream"
+    normalized "FileInputStream"
+  ]
+  node [
+    id 23
+    line 13
+    type "NAME"
+    label "fis"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 24
+    line 13
+    type "INIT"
+    label "= new FileInputStream(file)"
+    normalized "= ($VARL_1)"
+  ]
+  node [
+    id 25
+    line 14
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 26
+    line 14
+    type "TYPE"
+    label "byte[]"
+    normalized "byte[]"
+  ]
+  node [
+    id 27
+    line 14
+    type "NAME"
+    label "buffer"
+    normalized "$VARL_3"
+  ]
+  node [
+    id 28
+    line 14
+    type "INIT"
+    label "= new byte[256]"
+    normalized "= null"
+  ]
+  node [
+    id 29
+    line 15
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 30
+    line 15
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 31
+    line 15
+    type "NAME"
+    label "read"
+    normalized "$VARL_4"
+  ]
+  node [
+    id 32
+    line 15
+    type "INIT"
+    label "= fis.read(buffer)"
+    normalized "= $VARL_2.$VARL_4($VARL_3)"
+  ]
+  node [
+    id 33
+    line 16
+    type ""
+    label "System.out.println(read + ' bytes read.')"
+    normalized "System.out.println($VARL_4 + ' bytes read.')"
+  ]
+  node [
+    id 34
+    line 17
+    type ""
+    label "System.out.println(Arrays.toString(Arrays.copyOf(buffer, read)))"
+    normalized "System.out.println(Arrays.toString(Arrays.copyOf($VARL_3, $VARL_4)))"
+  ]
+  node [
+    id 35
+    line 18
+    type "CATCH"
+    label "CATCH"
+    normalized "CATCH"
+  ]
+  node [
+    id 36
+    line 18
+    type "TYPE"
+    label "FileNotFoundException"
+    normalized "FileNotFoundException"
+  ]
+  node [
+    id 37
+    line 18
+    type "NAME"
+    label "ex"
+    normalized "$VARL_5"
+  ]
+  node [
+    id 38
+    line 18
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 39
+    line 19
+    type ""
+    label "System.err.println(ex)"
+    normalized "System.err.println($VARL_5)"
+  ]
+  node [
+    id 40
+    line 20
+    type "CATCH"
+    label "CATCH"
+    normalized "CATCH"
+  ]
+  node [
+    id 41
+    line 20
+    type "TYPE"
+    label "IOException"
+    normalized "IOException"
+  ]
+  node [
+    id 42
+    line 20
+    type "NAME"
+    label "ex"
+    normalized "$VARL_6"
+  ]
+  node [
+    id 43
+    line 20
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 44
+    line 21
+    type ""
+    label "System.err.println(ex)"
+    normalized "System.err.println($VARL_6)"
+  ]
+  node [
+    id 45
+    line 22
+    type "FINALLY"
+    label "FINALLY"
+    normalized "FINALLY"
+  ]
+  node [
+    id 46
+    line 23
+    type ""
+    label "System.out.println('finally')"
+    normalized "System.out.println('finally')"
+  ]
+  node [
+    id 47
+    line 28
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 48
+    line 28
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 49
+    line 28
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 50
+    line 28
+    type "NAME"
+    label "test2"
+    normalized "$METHOD_2"
+  ]
+  node [
+    id 51
+    line 28
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 52
+    line 29
+    type "TRY"
+    label "TRY"
+    normalized "TRY"
+  ]
+  node [
+    id 53
+    line 29
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 54
+    line 30
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 55
+    line 30
+    type "TYPE"
+    label "File"
+    normalized "File"
+  ]
+  node [
+    id 56
+    line 30
+    type "NAME"
+    label "file"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 57
+    line 30
+    type "INIT"
+    label "= new File('file.log')"
+    normalized "= ('file.log')"
+  ]
+  node [
+    id 58
+    line 31
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 59
+    line 31
+    type "COND"
+    label "file.exists()"
+    normalized "$VARL_1.exists()"
+  ]
+  node [
+    id 60
+    line 31
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 61
+    line 32
+    type ""
+    label "System.out.println('Permissions for 'file.log':')"
+    normalized "System.out.println('Permissions for 'file.log':')"
+  ]
+  node [
+    id 62
+    line 33
+    type ""
+    label "System.out.println('  Read = ' + file.canRead())"
+    normalized "System.out.println('  Read = ' + $VARL_1.canRead())"
+  ]
+  node [
+    id 63
+    line 34
+    type ""
+    label "System.out.println('  Write = ' + file.canWrite())"
+    normalized "System.out.println('  Write = ' + $VARL_1.canWrite())"
+  ]
+  node [
+    id 64
+    line 35
+    type ""
+    label "System.out.println('  Execute = ' + file.canExecute())"
+    normalized "System.out.println('  Execute = ' + $VARL_1.canExecute())"
+  ]
+  node [
+    id 65
+    line 36
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 66
+    line 37
+    type ""
+    label "System.out.println(''file.log' does not exist!')"
+    normalized "System.out.println(''file.log' does not exist!')"
+  ]
+  node [
+    id 67
+    line 39
+    type "FINALLY"
+    label "FINALLY"
+    normalized "FINALLY"
+  ]
+  node [
+    id 68
+    line 40
+    type ""
+    label "System.out.println('finally')"
+    normalized "System.out.println('finally')"
+  ]
+  node [
+    id 69
+    line 45
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 70
+    line 45
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 71
+    line 45
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 72
+    line 45
+    type "NAME"
+    label "test3"
+    normalized "$METHOD_3"
+  ]
+  node [
+    id 73
+    line 45
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 74
+    line 46
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 75
+    line 46
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 76
+    line 46
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 77
+    line 46
+    type "INIT"
+    label "= 10"
+    normalized "= 10"
+  ]
+  node [
+    id 78
+    line 47
+    type "TRY"
+    label "TRY"
+    normalized "TRY"
+  ]
+  node [
+    id 79
+    line 47
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 80
+    line 48
+    type "WHILE"
+    label "WHILE"
+    normalized "WHILE"
+  ]
+  node [
+    id 81
+    line 48
+    type "COND"
+    label "true"
+    normalized "true"
+  ]
+  node [
+    id 82
+    line 48
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 83
+    line 49
+    type ""
+    label "System.out.println(10 / i)"
+    normalized "System.out.println(10 / $VARL_1)"
+  ]
+  node [
+    id 84
+    line 50
+    type ""
+    label "--i"
+    normalized "--$VARL_1"
+  ]
+  node [
+    id 85
+    line 52
+    type "CATCH"
+    label "CATCH"
+    normalized "CATCH"
+  ]
+  node [
+    id 86
+    line 52
+    type "TYPE"
+    label "ArithmeticException"
+    normalized "ArithmeticException"
+  ]
+  node [
+    id 87
+    line 52
+    type "NAME"
+    label "ex"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 88
+    line 52
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 89
+    line 53
+    type ""
+    label "System.err.println(ex)"
+    normalized "System.err.println($VARL_2)"
+  ]
+  node [
+    id 90
+    line 55
+    type ""
+    label "System.out.println('i = ' + i)"
+    normalized "System.out.println('i = ' + $VARL_1)"
+  ]
+  node [
+    id 91
+    line 59
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 92
+    line 59
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 93
+    line 59
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 94
+    line 59
+    type "NAME"
+    label "test4"
+    normalized "$METHOD_4"
+  ]
+  node [
+    id 95
+    line 59
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 96
+    line 59
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 97
+    line 59
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 98
+    line 59
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 99
+    line 59
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 100
+    line 60
+    type "TRY"
+    label "TRY"
+    normalized "TRY"
+  ]
+  node [
+    id 101
+    line 60
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 102
+    line 61
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 103
+    line 61
+    type "COND"
+    label "i > 0"
+    normalized "$VARL_1 > 0"
+  ]
+  node [
+    id 104
+    line 61
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 105
+    line 62
+    type ""
+    label "System.out.println('Positive')"
+    normalized "System.out.println('Positive')"
+  ]
+  node [
+    id 106
+    line 63
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 107
+    line 64
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 108
+    line 64
+    type "COND"
+    label "i == 0"
+    normalized "$VARL_1 == 0"
+  ]
+  node [
+    id 109
+    line 65
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 110
+    line 65
+    type ""
+    label "throw new Exception('ZERO! [ A Pointless Exception! ]');"
+    normalized "throw ('ZERO! [ A Pointless Exception! ]')"
+  ]
+  node [
+    id 111
+    line 66
+    type ""
+    label "System.out.println('Negative')"
+    normalized "System.out.println('Negative')"
+  ]
+  node [
+    id 112
+    line 68
+    type "CATCH"
+    label "CATCH"
+    normalized "CATCH"
+  ]
+  node [
+    id 113
+    line 68
+    type "TYPE"
+    label "Exception"
+    normalized "Exception"
+  ]
+  node [
+    id 114
+    line 68
+    type "NAME"
+    label "ex"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 115
+    line 68
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 116
+    line 69
+    type ""
+    label "System.err.println(ex)"
+    normalized "System.err.println($VARL_2)"
+  ]
+  node [
+    id 117
+    line 71
+    type ""
+    label "System.out.println('Finish')"
+    normalized "System.out.println('Finish')"
+  ]
+  node [
+    id 118
+    line 75
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 119
+    line 75
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 120
+    line 75
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 121
+    line 75
+    type "NAME"
+    label "main"
+    normalized "$METHOD_5"
+  ]
+  node [
+    id 122
+    line 75
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 123
+    line 75
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 124
+    line 75
+    type "TYPE"
+    label "String[]"
+    normalized "String[]"
+  ]
+  node [
+    id 125
+    line 75
+    type "NAME"
+    label "args"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 126
+    line 75
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 127
+    line 76
+    type ""
+    label "System.out.println('test-1:')"
+    normalized "System.out.println('test-1:')"
+  ]
+  node [
+    id 128
+    line 77
+    type ""
+    label "test1()"
+    normalized "$METHOD_1()"
+  ]
+  node [
+    id 129
+    line 78
+    type ""
+    label "System.out.println('\\ntest-2:')"
+    normalized "System.out.println('\\ntest-2:')"
+  ]
+  node [
+    id 130
+    line 79
+    type ""
+    label "test2()"
+    normalized "$METHOD_2()"
+  ]
+  node [
+    id 131
+    line 80
+    type ""
+    label "System.out.println('\\ntest-3:')"
+    normalized "System.out.println('\\ntest-3:')"
+  ]
+  node [
+    id 132
+    line 81
+    type ""
+    label "test3()"
+    normalized "$METHOD_3()"
+  ]
+  node [
+    id 133
+    line 82
+    type ""
+    label "System.out.println('\\ntest-4:')"
+    normalized "System.out.println('\\ntest-4:')"
+  ]
+  node [
+    id 134
+    line 83
+    type ""
+    label "test4(0)"
+    normalized "$METHOD_4(0)"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label "null"
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label "null"
+  ]
+  edge [
+    id 2
+    source 1
+    target 3
+    label "null"
+  ]
+  edge [
+    id 3
+    source 1
+    target 4
+    label "null"
+  ]
+  edge [
+    id 4
+    source 1
+    target 5
+    label "null"
+  ]
+  edge [
+    id 5
+    source 1
+    target 6
+    label "null"
+  ]
+  edge [
+    id 6
+    source 0
+    target 7
+    label "null"
+  ]
+  edge [
+    id 7
+    source 7
+    target 8
+    label "null"
+  ]
+  edge [
+    id 8
+    source 7
+    target 9
+    label "null"
+  ]
+  edge [
+    id 9
+    source 7
+    target 10
+    label "null"
+  ]
+  edge [
+    id 10
+    source 10
+    target 11
+    label "null"
+  ]
+  edge [
+    id 11
+    source 10
+    target 12
+    label "null"
+  ]
+  edge [
+    id 12
+    source 10
+    target 13
+    label "null"
+  ]
+  edge [
+    id 13
+    source 10
+    target 14
+    label "null"
+  ]
+  edge [
+    id 14
+    source 14
+    target 15
+    label "null"
+  ]
+  edge [
+    id 15
+    source 15
+    target 16
+    label "null"
+  ]
+  edge [
+    id 16
+    source 15
+    target 17
+    label "null"
+  ]
+  edge [
+    id 17
+    source 15
+    target 18
+    label "null"
+  ]
+  edge [
+    id 18
+    source 14
+    target 19
+    label "null"
+  ]
+  edge [
+    id 19
+    source 19
+    target 20
+    label "null"
+  ]
+  edge [
+    id 20
+    source 20
+    target 21
+    label "null"
+  ]
+  edge [
+    id 21
+    source 21
+    target 22
+    label "null"
+  ]
+  edge [
+    id 22
+    source 21
+    target 23
+    label "null"
+  ]
+  edge [
+    id 23
+    source 21
+    target 24
+    label "null"
+  ]
+  edge [
+    id 24
+    source 20
+    target 25
+    label "null"
+  ]
+  edge [
+    id 25
+    source 25
+    target 26
+    label "null"
+  ]
+  edge [
+    id 26
+    source 25
+    target 27
+    label "null"
+  ]
+  edge [
+    id 27
+    source 25
+    target 28
+    label "null"
+  ]
+  edge [
+    id 28
+    source 20
+    target 29
+    label "null"
+  ]
+  edge [
+    id 29
+    source 29
+    target 30
+    label "null"
+  ]
+  edge [
+    id 30
+    source 29
+    target 31
+    label "null"
+  ]
+  edge [
+    id 31
+    source 29
+    target 32
+    label "null"
+  ]
+  edge [
+    id 32
+    source 20
+    target 33
+    label "null"
+  ]
+  edge [
+    id 33
+    source 20
+    target 34
+    label "null"
+  ]
+  edge [
+    id 34
+    source 19
+    target 35
+    label "null"
+  ]
+  edge [
+    id 35
+    source 35
+    target 36
+    label "null"
+  ]
+  edge [
+    id 36
+    source 35
+    target 37
+    label "null"
+  ]
+  edge [
+    id 37
+    source 35
+    target 38
+    label "null"
+  ]
+  edge [
+    id 38
+    source 38
+    target 39
+    label "null"
+  ]
+  edge [
+    id 39
+    source 19
+    target 40
+    label "null"
+  ]
+  edge [
+    id 40
+    source 40
+    target 41
+    label "null"
+  ]
+  edge [
+    id 41
+    source 40
+    target 42
+    label "null"
+  ]
+  edge [
+    id 42
+    source 40
+    target 43
+    label "null"
+  ]
+  edge [
+    id 43
+    source 43
+    target 44
+    label "null"
+  ]
+  edge [
+    id 44
+    source 19
+    target 45
+    label "null"
+  ]
+  edge [
+    id 45
+    source 45
+    target 46
+    label "null"
+  ]
+  edge [
+    id 46
+    source 7
+    target 47
+    label "null"
+  ]
+  edge [
+    id 47
+    source 47
+    target 48
+    label "null"
+  ]
+  edge [
+    id 48
+    source 47
+    target 49
+    label "null"
+  ]
+  edge [
+    id 49
+    source 47
+    target 50
+    label "null"
+  ]
+  edge [
+    id 50
+    source 47
+    target 51
+    label "null"
+  ]
+  edge [
+    id 51
+    source 51
+    target 52
+    label "null"
+  ]
+  edge [
+    id 52
+    source 52
+    target 53
+    label "null"
+  ]
+  edge [
+    id 53
+    source 53
+    target 54
+    label "null"
+  ]
+  edge [
+    id 54
+    source 54
+    target 55
+    label "null"
+  ]
+  edge [
+    id 55
+    source 54
+    target 56
+    label "null"
+  ]
+  edge [
+    id 56
+    source 54
+    target 57
+    label "null"
+  ]
+  edge [
+    id 57
+    source 53
+    target 58
+    label "null"
+  ]
+  edge [
+    id 58
+    source 58
+    target 59
+    label "null"
+  ]
+  edge [
+    id 59
+    source 58
+    target 60
+    label "null"
+  ]
+  edge [
+    id 60
+    source 60
+    target 61
+    label "null"
+  ]
+  edge [
+    id 61
+    source 60
+    target 62
+    label "null"
+  ]
+  edge [
+    id 62
+    source 60
+    target 63
+    label "null"
+  ]
+  edge [
+    id 63
+    source 60
+    target 64
+    label "null"
+  ]
+  edge [
+    id 64
+    source 58
+    target 65
+    label "null"
+  ]
+  edge [
+    id 65
+    source 65
+    target 66
+    label "null"
+  ]
+  edge [
+    id 66
+    source 52
+    target 67
+    label "null"
+  ]
+  edge [
+    id 67
+    source 67
+    target 68
+    label "null"
+  ]
+  edge [
+    id 68
+    source 7
+    target 69
+    label "null"
+  ]
+  edge [
+    id 69
+    source 69
+    target 70
+    label "null"
+  ]
+  edge [
+    id 70
+    source 69
+    target 71
+    label "null"
+  ]
+  edge [
+    id 71
+    source 69
+    target 72
+    label "null"
+  ]
+  edge [
+    id 72
+    source 69
+    target 73
+    label "null"
+  ]
+  edge [
+    id 73
+    source 73
+    target 74
+    label "null"
+  ]
+  edge [
+    id 74
+    source 74
+    target 75
+    label "null"
+  ]
+  edge [
+    id 75
+    source 74
+    target 76
+    label "null"
+  ]
+  edge [
+    id 76
+    source 74
+    target 77
+    label "null"
+  ]
+  edge [
+    id 77
+    source 73
+    target 78
+    label "null"
+  ]
+  edge [
+    id 78
+    source 78
+    target 79
+    label "null"
+  ]
+  edge [
+    id 79
+    source 79
+    target 80
+    label "null"
+  ]
+  edge [
+    id 80
+    source 80
+    target 81
+    label "null"
+  ]
+  edge [
+    id 81
+    source 80
+    target 82
+    label "null"
+  ]
+  edge [
+    id 82
+    source 82
+    target 83
+    label "null"
+  ]
+  edge [
+    id 83
+    source 82
+    target 84
+    label "null"
+  ]
+  edge [
+    id 84
+    source 78
+    target 85
+    label "null"
+  ]
+  edge [
+    id 85
+    source 85
+    target 86
+    label "null"
+  ]
+  edge [
+    id 86
+    source 85
+    target 87
+    label "null"
+  ]
+  edge [
+    id 87
+    source 85
+    target 88
+    label "null"
+  ]
+  edge [
+    id 88
+    source 88
+    target 89
+    label "null"
+  ]
+  edge [
+    id 89
+    source 73
+    target 90
+    label "null"
+  ]
+  edge [
+    id 90
+    source 7
+    target 91
+    label "null"
+  ]
+  edge [
+    id 91
+    source 91
+    target 92
+    label "null"
+  ]
+  edge [
+    id 92
+    source 91
+    target 93
+    label "null"
+  ]
+  edge [
+    id 93
+    source 91
+    target 94
+    label "null"
+  ]
+  edge [
+    id 94
+    source 91
+    target 95
+    label "null"
+  ]
+  edge [
+    id 95
+    source 95
+    target 96
+    label "null"
+  ]
+  edge [
+    id 96
+    source 96
+    target 97
+    label "null"
+  ]
+  edge [
+    id 97
+    source 96
+    target 98
+    label "null"
+  ]
+  edge [
+    id 98
+    source 91
+    target 99
+    label "null"
+  ]
+  edge [
+    id 99
+    source 99
+    target 100
+    label "null"
+  ]
+  edge [
+    id 100
+    source 100
+    target 101
+    label "null"
+  ]
+  edge [
+    id 101
+    source 101
+    target 102
+    label "null"
+  ]
+  edge [
+    id 102
+    source 102
+    target 103
+    label "null"
+  ]
+  edge [
+    id 103
+    source 102
+    target 104
+    label "null"
+  ]
+  edge [
+    id 104
+    source 104
+    target 105
+    label "null"
+  ]
+  edge [
+    id 105
+    source 102
+    target 106
+    label "null"
+  ]
+  edge [
+    id 106
+    source 106
+    target 107
+    label "null"
+  ]
+  edge [
+    id 107
+    source 107
+    target 108
+    label "null"
+  ]
+  edge [
+    id 108
+    source 107
+    target 109
+    label "null"
+  ]
+  edge [
+    id 109
+    source 109
+    target 110
+    label "null"
+  ]
+  edge [
+    id 110
+    source 106
+    target 111
+    label "null"
+  ]
+  edge [
+    id 111
+    source 100
+    target 112
+    label "null"
+  ]
+  edge [
+    id 112
+    source 112
+    target 113
+    label "null"
+  ]
+  edge [
+    id 113
+    source 112
+    target 114
+    label "null"
+  ]
+  edge [
+    id 114
+    source 112
+    target 115
+    label "null"
+  ]
+  edge [
+    id 115
+    source 115
+    target 116
+    label "null"
+  ]
+  edge [
+    id 116
+    source 99
+    target 117
+    label "null"
+  ]
+  edge [
+    id 117
+    source 7
+    target 118
+    label "null"
+  ]
+  edge [
+    id 118
+    source 118
+    target 119
+    label "null"
+  ]
+  edge [
+    id 119
+    source 118
+    target 120
+    label "null"
+  ]
+  edge [
+    id 120
+    source 118
+    target 121
+    label "null"
+  ]
+  edge [
+    id 121
+    source 118
+    target 122
+    label "null"
+  ]
+  edge [
+    id 122
+    source 122
+    target 123
+    label "null"
+  ]
+  edge [
+    id 123
+    source 123
+    target 124
+    label "null"
+  ]
+  edge [
+    id 124
+    source 123
+    target 125
+    label "null"
+  ]
+  edge [
+    id 125
+    source 118
+    target 126
+    label "null"
+  ]
+  edge [
+    id 126
+    source 126
+    target 127
+    label "null"
+  ]
+  edge [
+    id 127
+    source 126
+    target 128
+    label "null"
+  ]
+  edge [
+    id 128
+    source 126
+    target 129
+    label "null"
+  ]
+  edge [
+    id 129
+    source 126
+    target 130
+    label "null"
+  ]
+  edge [
+    id 130
+    source 126
+    target 131
+    label "null"
+  ]
+  edge [
+    id 131
+    source 126
+    target 132
+    label "null"
+  ]
+  edge [
+    id 132
+    source 126
+    target 133
+    label "null"
+  ]
+  edge [
+    id 133
+    source 126
+    target 134
+    label "null"
+  ]
+]
@@ -0,0 +1,1003 @@
+graph [
+  directed 1
+  label "AST of Test6.java"
+  type "Abstract Syntax Tree (AST)"
+  file "Test6.java"
+
+  node [
+    id 0
+    line 0
+    type "ROOT"
+    label "Test6.java"
+    normalized "Test6.java"
+  ]
+  node [
+    id 1
+    line 2
+    type "CLASS"
+    label "CLASS"
+    normalized "CLASS"
+  ]
+  node [
+    id 2
+    line 2
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 3
+    line 2
+    type "NAME"
+    label "Test6"
+    normalized "Test6"
+  ]
+  node [
+    id 4
+    line 4
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 5
+    line 4
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 6
+    line 4
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 7
+    line 4
+    type "NAME"
+    label "test"
+    normalized "$METHOD_1"
+  ]
+  node [
+    id 8
+    line 4
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 9
+    line 5
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 10
+    line 5
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 11
+    line 5
+    type "NAME"
+    label "x"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 12
+    line 5
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 13
+    line 6
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 14
+    line 6
+    type "TYPE"
+    label "boolean"
+    normalized "boolean"
+  ]
+  node [
+    id 15
+    line 6
+    type "NAME"
+    label "p1"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 16
+    line 6
+    type "INIT"
+    label "= true"
+    normalized "= true"
+  ]
+  node [
+    id 17
+    line 7
+    type "WHILE"
+    label "WHILE"
+    normalized "WHILE"
+  ]
+  node [
+    id 18
+    line 7
+    type "COND"
+    label "p1"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 19
+    line 7
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 20
+    line 8
+    type ""
+    label "x *= 2"
+    normalized "$VARL_1 ?= 2"
+  ]
+  node [
+    id 21
+    line 9
+    type ""
+    label "x -= 10"
+    normalized "$VARL_1 ?= 10"
+  ]
+  node [
+    id 22
+    line 10
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 23
+    line 10
+    type "COND"
+    label "x > 10"
+    normalized "$VARL_1 > 10"
+  ]
+  node [
+    id 24
+    line 10
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 25
+    line 11
+    type ""
+    label "x += 8"
+    normalized "$VARL_1 ?= 8"
+  ]
+  node [
+    id 26
+    line 12
+    type ""
+    label "x /= 3"
+    normalized "$VARL_1 ?= 3"
+  ]
+  node [
+    id 27
+    line 13
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 28
+    line 13
+    type "COND"
+    label "x > 0"
+    normalized "$VARL_1 > 0"
+  ]
+  node [
+    id 29
+    line 14
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 30
+    line 14
+    type ""
+    label "x -= 2"
+    normalized "$VARL_1 ?= 2"
+  ]
+  node [
+    id 31
+    line 16
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 32
+    line 16
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 33
+    line 18
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 34
+    line 18
+    type ""
+    label "continue;"
+    normalized "continue;"
+  ]
+  node [
+    id 35
+    line 19
+    type ""
+    label "x--"
+    normalized "$VARL_1--"
+  ]
+  node [
+    id 36
+    line 20
+    type ""
+    label "System.out.println(x)"
+    normalized "System.out.println($VARL_1)"
+  ]
+  node [
+    id 37
+    line 21
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 38
+    line 21
+    type "COND"
+    label "x > 20"
+    normalized "$VARL_1 > 20"
+  ]
+  node [
+    id 39
+    line 22
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 40
+    line 22
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 41
+    line 23
+    type ""
+    label "--x"
+    normalized "--$VARL_1"
+  ]
+  node [
+    id 42
+    line 24
+    type ""
+    label "p1 = x > 7 ? true : false"
+    normalized "$VARL_2 ?= $VARL_1 > 7 ? true : false"
+  ]
+  node [
+    id 43
+    line 28
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 44
+    line 28
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 45
+    line 28
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 46
+    line 28
+    type "NAME"
+    label "main"
+    normalized "$METHOD_2"
+  ]
+  node [
+    id 47
+    line 28
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 48
+    line 28
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 49
+    line 28
+    type "TYPE"
+    label "String[]"
+    normalized "String[]"
+  ]
+  node [
+    id 50
+    line 28
+    type "NAME"
+    label "args"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 51
+    line 28
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 52
+    line 29
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 53
+    line 29
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 54
+    line 29
+    type "NAME"
+    label "x"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 55
+    line 29
+    type "INIT"
+    label "= 120"
+    normalized "= 120"
+  ]
+  node [
+    id 56
+    line 30
+    type "WHILE"
+    label "WHILE"
+    normalized "WHILE"
+  ]
+  node [
+    id 57
+    line 30
+    type "COND"
+    label "true"
+    normalized "true"
+  ]
+  node [
+    id 58
+    line 30
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 59
+    line 31
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 60
+    line 31
+    type "COND"
+    label "x > 100"
+    normalized "$VARL_2 > 100"
+  ]
+  node [
+    id 61
+    line 31
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 62
+    line 32
+    type ""
+    label "x -= 10"
+    normalized "$VARL_2 ?= 10"
+  ]
+  node [
+    id 63
+    line 33
+    type ""
+    label "continue;"
+    normalized "continue;"
+  ]
+  node [
+    id 64
+    line 34
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 65
+    line 35
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 66
+    line 35
+    type "COND"
+    label "x < 10"
+    normalized "$VARL_2 < 10"
+  ]
+  node [
+    id 67
+    line 36
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 68
+    line 36
+    type ""
+    label "break;"
+    normalized "break;"
+  ]
+  node [
+    id 69
+    line 38
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 70
+    line 38
+    type ""
+    label "x -= 5"
+    normalized "$VARL_2 ?= 5"
+  ]
+  node [
+    id 71
+    line 40
+    type ""
+    label "System.out.println(x)"
+    normalized "System.out.println($VARL_2)"
+  ]
+  node [
+    id 72
+    line 43
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 73
+    line 43
+    type "TYPE"
+    label "Test6"
+    normalized "Test6"
+  ]
+  node [
+    id 74
+    line 43
+    type "NAME"
+    label "tst"
+    normalized "$VARL_3"
+  ]
+  node [
+    id 75
+    line 43
+    type "INIT"
+    label "= new Test6()"
+    normalized "= ()"
+  ]
+  node [
+    id 76
+    line 44
+    type ""
+    label "tst.test()"
+    normalized "$VARL_3.$METHOD_1()"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label "null"
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label "null"
+  ]
+  edge [
+    id 2
+    source 1
+    target 3
+    label "null"
+  ]
+  edge [
+    id 3
+    source 1
+    target 4
+    label "null"
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label "null"
+  ]
+  edge [
+    id 5
+    source 4
+    target 6
+    label "null"
+  ]
+  edge [
+    id 6
+    source 4
+    target 7
+    label "null"
+  ]
+  edge [
+    id 7
+    source 4
+    target 8
+    label "null"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label "null"
+  ]
+  edge [
+    id 9
+    source 9
+    target 10
+    label "null"
+  ]
+  edge [
+    id 10
+    source 9
+    target 11
+    label "null"
+  ]
+  edge [
+    id 11
+    source 9
+    target 12
+    label "null"
+  ]
+  edge [
+    id 12
+    source 8
+    target 13
+    label "null"
+  ]
+  edge [
+    id 13
+    source 13
+    target 14
+    label "null"
+  ]
+  edge [
+    id 14
+    source 13
+    target 15
+    label "null"
+  ]
+  edge [
+    id 15
+    source 13
+    target 16
+    label "null"
+  ]
+  edge [
+    id 16
+    source 8
+    target 17
+    label "null"
+  ]
+  edge [
+    id 17
+    source 17
+    target 18
+    label "null"
+  ]
+  edge [
+    id 18
+    source 17
+    target 19
+    label "null"
+  ]
+  edge [
+    id 19
+    source 19
+    target 20
+    label "null"
+  ]
+  edge [
+    id 20
+    source 19
+    target 21
+    label "null"
+  ]
+  edge [
+    id 21
+    source 19
+    target 22
+    label "null"
+  ]
+  edge [
+    id 22
+    source 22
+    target 23
+    label "null"
+  ]
+  edge [
+    id 23
+    source 22
+    target 24
+    label "null"
+  ]
+  edge [
+    id 24
+    source 24
+    target 25
+    label "null"
+  ]
+  edge [
+    id 25
+    source 24
+    target 26
+    label "null"
+  ]
+  edge [
+    id 26
+    source 24
+    target 27
+    label "null"
+  ]
+  edge [
+    id 27
+    source 27
+    target 28
+    label "null"
+  ]
+  edge [
+    id 28
+    source 27
+    target 29
+    label "null"
+  ]
+  edge [
+    id 29
+    source 29
+    target 30
+    label "null"
+  ]
+  edge [
+    id 30
+    source 27
+    target 31
+    label "null"
+  ]
+  edge [
+    id 31
+    source 31
+    target 32
+    label "null"
+  ]
+  edge [
+    id 32
+    source 22
+    target 33
+    label "null"
+  ]
+  edge [
+    id 33
+    source 33
+    target 34
+    label "null"
+  ]
+  edge [
+    id 34
+    source 19
+    target 35
+    label "null"
+  ]
+  edge [
+    id 35
+    source 19
+    target 36
+    label "null"
+  ]
+  edge [
+    id 36
+    source 19
+    target 37
+    label "null"
+  ]
+  edge [
+    id 37
+    source 37
+    target 38
+    label "null"
+  ]
+  edge [
+    id 38
+    source 37
+    target 39
+    label "null"
+  ]
+  edge [
+    id 39
+    source 39
+    target 40
+    label "null"
+  ]
+  edge [
+    id 40
+    source 19
+    target 41
+    label "null"
+  ]
+  edge [
+    id 41
+    source 19
+    target 42
+    label "null"
+  ]
+  edge [
+    id 42
+    source 1
+    target 43
+    label "null"
+  ]
+  edge [
+    id 43
+    source 43
+    target 44
+    label "null"
+  ]
+  edge [
+    id 44
+    source 43
+    target 45
+    label "null"
+  ]
+  edge [
+    id 45
+    source 43
+    target 46
+    label "null"
+  ]
+  edge [
+    id 46
+    source 43
+    target 47
+    label "null"
+  ]
+  edge [
+    id 47
+    source 47
+    target 48
+    label "null"
+  ]
+  edge [
+    id 48
+    source 48
+    target 49
+    label "null"
+  ]
+  edge [
+    id 49
+    source 48
+    target 50
+    label "null"
+  ]
+  edge [
+    id 50
+    source 43
+    target 51
+    label "null"
+  ]
+  edge [
+    id 51
+    source 51
+    target 52
+    label "null"
+  ]
+  edge [
+    id 52
+    source 52
+    target 53
+    label "null"
+  ]
+  edge [
+    id 53
+    source 52
+    target 54
+    label "null"
+  ]
+  edge [
+    id 54
+    source 52
+    target 55
+    label "null"
+  ]
+  edge [
+    id 55
+    source 51
+    target 56
+    label "null"
+  ]
+  edge [
+    id 56
+    source 56
+    target 57
+    label "null"
+  ]
+  edge [
+    id 57
+    source 56
+    target 58
+    label "null"
+  ]
+  edge [
+    id 58
+    source 58
+    target 59
+    label "null"
+  ]
+  edge [
+    id 59
+    source 59
+    target 60
+    label "null"
+  ]
+  edge [
+    id 60
+    source 59
+    target 61
+    label "null"
+  ]
+  edge [
+    id 61
+    source 61
+    target 62
+    label "null"
+  ]
+  edge [
+    id 62
+    source 61
+    target 63
+    label "null"
+  ]
+  edge [
+    id 63
+    source 59
+    target 64
+    label "null"
+  ]
+  edge [
+    id 64
+    source 64
+    target 65
+    label "null"
+  ]
+  edge [
+    id 65
+    source 65
+    target 66
+    label "null"
+  ]
+  edge [
+    id 66
+    source 65
+    target 67
+    label "null"
+  ]
+  edge [
+    id 67
+    source 67
+    target 68
+    label "null"
+  ]
+  edge [
+    id 68
+    source 65
+    target 69
+    label "null"
+  ]
+  edge [
+    id 69
+    source 69
+    target 70
+    label "null"
+  ]
+  edge [
+    id 70
+    source 58
+    target 71
+    label "null"
+  ]
+  edge [
+    id 71
+    source 51
+    target 72
+    label "null"
+  ]
+  edge [
+    id 72
+    source 72
+    target 73
+    label "null"
+  ]
+  edge [
+    id 73
+    source 72
+    target 74
+    label "null"
+  ]
+  edge [
+    id 74
+    source 72
+    target 75
+    label "null"
+  ]
+  edge [
+    id 75
+    source 51
+    target 76
+    label "null"
+  ]
+]
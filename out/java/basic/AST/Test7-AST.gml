@@ -0,0 +1,1978 @@
+graph [
+  directed 1
+  label "AST of Test7.java"
+  type "Abstract Syntax Tree (AST)"
+  file "Test7.java"
+
+  node [
+    id 0
+    line 0
+    type "ROOT"
+    label "Test7.java"
+    normalized "Test7.java"
+  ]
+  node [
+    id 1
+    line 2
+    type "CLASS"
+    label "CLASS"
+    normalized "CLASS"
+  ]
+  node [
+    id 2
+    line 2
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 3
+    line 2
+    type "NAME"
+    label "Test7"
+    normalized "Test7"
+  ]
+  node [
+    id 4
+    line 4
+    type "FIELD"
+    label "FIELD"
+    normalized "FIELD"
+  ]
+  node [
+    id 5
+    line 4
+    type "MODIFIER"
+    label "private"
+    normalized "private"
+  ]
+  node [
+    id 6
+    line 4
+    type "TYPE"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 7
+    line 4
+    type "NAME"
+    label "str"
+    normalized "$VARF_1"
+  ]
+  node [
+    id 8
+    line 5
+    type "FIELD"
+    label "FIELD"
+    normalized "FIELD"
+  ]
+  node [
+    id 9
+    line 5
+    type "MODIFIER"
+    label "private"
+    normalized "private"
+  ]
+  node [
+    id 10
+    line 5
+    type "TYPE"
+    label "Integer"
+    normalized "Integer"
+  ]
+  node [
+    id 11
+    line 5
+    type "NAME"
+    label "integer"
+    normalized "$VARF_2"
+  ]
+  node [
+    id 12
+    line 7
+    type "CONSTRUCTOR"
+    label "CONSTRUCTOR"
+    normalized "CONSTRUCTOR"
+  ]
+  node [
+    id 13
+    line 7
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 14
+    line 7
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 15
+    line 8
+    type ""
+    label "str = ''"
+    normalized "$VARF_1 ?= ''"
+  ]
+  node [
+    id 16
+    line 9
+    type ""
+    label "integer = 0"
+    normalized "$VARF_2 ?= 0"
+  ]
+  node [
+    id 17
+    line 12
+    type "CONSTRUCTOR"
+    label "CONSTRUCTOR"
+    normalized "CONSTRUCTOR"
+  ]
+  node [
+    id 18
+    line 12
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 19
+    line 12
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 20
+    line 12
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 21
+    line 12
+    type "TYPE"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 22
+    line 12
+    type "NAME"
+    label "str"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 23
+    line 12
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 24
+    line 12
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 25
+    line 12
+    type "NAME"
+    label "sub"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 26
+    line 12
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 27
+    line 13
+    type ""
+    label "this.str = str.substring(sub)"
+    normalized "this.$VARL_1 ?= $VARL_1.substring($VARL_2)"
+  ]
+  node [
+    id 28
+    line 14
+    type ""
+    label "integer = 0"
+    normalized "$VARF_2 ?= 0"
+  ]
+  node [
+    id 29
+    line 17
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 30
+    line 17
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 31
+    line 17
+    type "RETURN"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 32
+    line 17
+    type "NAME"
+    label "getSTR"
+    normalized "$METHOD_1"
+  ]
+  node [
+    id 33
+    line 17
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 34
+    line 18
+    type ""
+    label "return str;"
+    normalized "return $VARF_1"
+  ]
+  node [
+    id 35
+    line 21
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 36
+    line 21
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 37
+    line 21
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 38
+    line 21
+    type "NAME"
+    label "setInteger"
+    normalized "$METHOD_2"
+  ]
+  node [
+    id 39
+    line 21
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 40
+    line 21
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 41
+    line 21
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 42
+    line 21
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 43
+    line 21
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 44
+    line 22
+    type ""
+    label "integer = i"
+    normalized "$VARF_2 ?= $VARL_1"
+  ]
+  node [
+    id 45
+    line 25
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 46
+    line 25
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 47
+    line 25
+    type "RETURN"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 48
+    line 25
+    type "NAME"
+    label "getInteger"
+    normalized "$METHOD_3"
+  ]
+  node [
+    id 49
+    line 25
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 50
+    line 26
+    type ""
+    label "return integer;"
+    normalized "return $VARF_2"
+  ]
+  node [
+    id 51
+    line 29
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 52
+    line 29
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 53
+    line 29
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 54
+    line 29
+    type "NAME"
+    label "setSTR"
+    normalized "$METHOD_4"
+  ]
+  node [
+    id 55
+    line 29
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 56
+    line 29
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 57
+    line 29
+    type "TYPE"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 58
+    line 29
+    type "NAME"
+    label "str"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 59
+    line 29
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 60
+    line 30
+    type ""
+    label "this.str = str"
+    normalized "this.$VARL_1 ?= $VARL_1"
+  ]
+  node [
+    id 61
+    line 33
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 62
+    line 33
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 63
+    line 33
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 64
+    line 33
+    type "NAME"
+    label "method1"
+    normalized "$METHOD_5"
+  ]
+  node [
+    id 65
+    line 33
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 66
+    line 34
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 67
+    line 34
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 68
+    line 34
+    type "NAME"
+    label "len"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 69
+    line 34
+    type "INIT"
+    label "= str.length()"
+    normalized "= $VARF_1.length()"
+  ]
+  node [
+    id 70
+    line 35
+    type ""
+    label "System.out.println('STR length is ' + len)"
+    normalized "System.out.println('STR length is ' + $VARL_1)"
+  ]
+  node [
+    id 71
+    line 38
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 72
+    line 38
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 73
+    line 38
+    type "RETURN"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 74
+    line 38
+    type "NAME"
+    label "addSTR"
+    normalized "$METHOD_6"
+  ]
+  node [
+    id 75
+    line 38
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 76
+    line 38
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 77
+    line 38
+    type "TYPE"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 78
+    line 38
+    type "NAME"
+    label "str"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 79
+    line 38
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 80
+    line 39
+    type ""
+    label "return this.str + str;"
+    normalized "return this.$VARL_1 + $VARL_1"
+  ]
+  node [
+    id 81
+    line 42
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 82
+    line 42
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 83
+    line 42
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 84
+    line 42
+    type "NAME"
+    label "simple"
+    normalized "$METHOD_7"
+  ]
+  node [
+    id 85
+    line 42
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 86
+    line 43
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 87
+    line 43
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 88
+    line 43
+    type "NAME"
+    label "i"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 89
+    line 43
+    type "INIT"
+    label "= 1"
+    normalized "= 1"
+  ]
+  node [
+    id 90
+    line 43
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 91
+    line 43
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 92
+    line 43
+    type "NAME"
+    label "j"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 93
+    line 44
+    type ""
+    label "i++"
+    normalized "$VARL_1++"
+  ]
+  node [
+    id 94
+    line 45
+    type ""
+    label "System.out.println(i)"
+    normalized "System.out.println($VARL_1)"
+  ]
+  node [
+    id 95
+    line 46
+    type ""
+    label "j = i + 3"
+    normalized "$VARL_2 ?= $VARL_1 + 3"
+  ]
+  node [
+    id 96
+    line 47
+    type ""
+    label "System.out.println(j)"
+    normalized "System.out.println($VARL_2)"
+  ]
+  node [
+    id 97
+    line 50
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 98
+    line 50
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 99
+    line 50
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 100
+    line 50
+    type "NAME"
+    label "main"
+    normalized "$METHOD_8"
+  ]
+  node [
+    id 101
+    line 50
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 102
+    line 50
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 103
+    line 50
+    type "TYPE"
+    label "String[]"
+    normalized "String[]"
+  ]
+  node [
+    id 104
+    line 50
+    type "NAME"
+    label "args"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 105
+    line 50
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 106
+    line 51
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 107
+    line 51
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 108
+    line 51
+    type "NAME"
+    label "idx"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 109
+    line 51
+    type "INIT"
+    label "= 4"
+    normalized "= 4"
+  ]
+  node [
+    id 110
+    line 52
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 111
+    line 52
+    type "TYPE"
+    label "Test7"
+    normalized "Test7"
+  ]
+  node [
+    id 112
+    line 52
+    type "NAME"
+    label "t"
+    normalized "$VARL_3"
+  ]
+  node [
+    id 113
+    line 52
+    type "INIT"
+    label "= new Test7()"
+    normalized "= ()"
+  ]
+  node [
+    id 114
+    line 53
+    type ""
+    label "t.method1()"
+    normalized "$VARL_3.$METHOD_5()"
+  ]
+  node [
+    id 115
+    line 54
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 116
+    line 54
+    type "TYPE"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 117
+    line 54
+    type "NAME"
+    label "str"
+    normalized "$VARL_4"
+  ]
+  node [
+    id 118
+    line 54
+    type "INIT"
+    label "= 'some-string'"
+    normalized "= 'some-string'"
+  ]
+  node [
+    id 119
+    line 55
+    type ""
+    label "t.setSTR(t.addSTR(str).concat(str))"
+    normalized "$VARL_3.$METHOD_4($VARL_3.$METHOD_6($VARL_4).concat($VARL_4))"
+  ]
+  node [
+    id 120
+    line 56
+    type ""
+    label "System.out.println(t.getSTR())"
+    normalized "System.out.println($VARL_3.$METHOD_1())"
+  ]
+  node [
+    id 121
+    line 57
+    type ""
+    label "System.out.println(t.getSTR().charAt(idx += 2))"
+    normalized "System.out.println($VARL_3.$METHOD_1().charAt($VARL_2 ?= 2))"
+  ]
+  node [
+    id 122
+    line 58
+    type ""
+    label "t = new Test7(str.concat('-plus-more'), idx)"
+    normalized "$VARL_3 ?= ($VARL_4.concat('-plus-more'), $VARL_2)"
+  ]
+  node [
+    id 123
+    line 59
+    type ""
+    label "new Test7('This is a string', 10).getSTR()"
+    normalized "('This is a string', 10).$METHOD_1()"
+  ]
+  node [
+    id 124
+    line 60
+    type ""
+    label "simple()"
+    normalized "$METHOD_7()"
+  ]
+  node [
+    id 125
+    line 61
+    type ""
+    label "t.sideEffect()"
+    normalized "$VARL_3.sideEffect()"
+  ]
+  node [
+    id 126
+    line 62
+    type ""
+    label "System.out.println('t.integer = ' + t.getInteger())"
+    normalized "System.out.println('t.integer = ' + $VARL_3.$METHOD_3())"
+  ]
+  node [
+    id 127
+    line 63
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 128
+    line 63
+    type "TYPE"
+    label "StringBuilder"
+    normalized "StringBuilder"
+  ]
+  node [
+    id 129
+    line 63
+    type "NAME"
+    label "val"
+    normalized "$VARL_5"
+  ]
+  node [
+    id 130
+    line 63
+    type "INIT"
+    label "= new StringBuilder('10')"
+    normalized "= ('10')"
+  ]
+  node [
+    id 131
+    line 64
+    type ""
+    label "System.out.println('val = ' + val)"
+    normalized "System.out.println('val = ' + $VARL_5)"
+  ]
+  node [
+    id 132
+    line 65
+    type ""
+    label "t.doubleSideEffect(val)"
+    normalized "$VARL_3.doubleSideEffect($VARL_5)"
+  ]
+  node [
+    id 133
+    line 66
+    type ""
+    label "System.out.println('val = ' + val)"
+    normalized "System.out.println('val = ' + $VARL_5)"
+  ]
+  node [
+    id 134
+    line 67
+    type ""
+    label "System.out.println('t.integer = ' + t.getInteger())"
+    normalized "System.out.println('t.integer = ' + $VARL_3.$METHOD_3())"
+  ]
+  node [
+    id 135
+    line 70
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 136
+    line 70
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 137
+    line 70
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 138
+    line 70
+    type "NAME"
+    label "sideEffect"
+    normalized "$METHOD_9"
+  ]
+  node [
+    id 139
+    line 70
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 140
+    line 71
+    type ""
+    label "integer++"
+    normalized "$VARF_2++"
+  ]
+  node [
+    id 141
+    line 74
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 142
+    line 74
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 143
+    line 74
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 144
+    line 74
+    type "NAME"
+    label "doubleSideEffect"
+    normalized "$METHOD_10"
+  ]
+  node [
+    id 145
+    line 74
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 146
+    line 74
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 147
+    line 74
+    type "TYPE"
+    label "StringBuilder"
+    normalized "StringBuilder"
+  ]
+  node [
+    id 148
+    line 74
+    type "NAME"
+    label "intStr"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 149
+    line 74
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 150
+    line 75
+    type ""
+    label "intStr.append(0)"
+    normalized "$VARL_1.append(0)"
+  ]
+  node [
+    id 151
+    line 76
+    type ""
+    label "integer = Integer.parseInt(intStr.toString())"
+    normalized "$VARF_2 ?= Integer.parseInt($VARL_1.toString())"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label "null"
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label "null"
+  ]
+  edge [
+    id 2
+    source 1
+    target 3
+    label "null"
+  ]
+  edge [
+    id 3
+    source 1
+    target 4
+    label "null"
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label "null"
+  ]
+  edge [
+    id 5
+    source 4
+    target 6
+    label "null"
+  ]
+  edge [
+    id 6
+    source 4
+    target 7
+    label "null"
+  ]
+  edge [
+    id 7
+    source 1
+    target 8
+    label "null"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label "null"
+  ]
+  edge [
+    id 9
+    source 8
+    target 10
+    label "null"
+  ]
+  edge [
+    id 10
+    source 8
+    target 11
+    label "null"
+  ]
+  edge [
+    id 11
+    source 1
+    target 12
+    label "null"
+  ]
+  edge [
+    id 12
+    source 12
+    target 13
+    label "null"
+  ]
+  edge [
+    id 13
+    source 12
+    target 14
+    label "null"
+  ]
+  edge [
+    id 14
+    source 14
+    target 15
+    label "null"
+  ]
+  edge [
+    id 15
+    source 14
+    target 16
+    label "null"
+  ]
+  edge [
+    id 16
+    source 1
+    target 17
+    label "null"
+  ]
+  edge [
+    id 17
+    source 17
+    target 18
+    label "null"
+  ]
+  edge [
+    id 18
+    source 17
+    target 19
+    label "null"
+  ]
+  edge [
+    id 19
+    source 19
+    target 20
+    label "null"
+  ]
+  edge [
+    id 20
+    source 20
+    target 21
+    label "null"
+  ]
+  edge [
+    id 21
+    source 20
+    target 22
+    label "null"
+  ]
+  edge [
+    id 22
+    source 19
+    target 23
+    label "null"
+  ]
+  edge [
+    id 23
+    source 23
+    target 24
+    label "null"
+  ]
+  edge [
+    id 24
+    source 23
+    target 25
+    label "null"
+  ]
+  edge [
+    id 25
+    source 17
+    target 26
+    label "null"
+  ]
+  edge [
+    id 26
+    source 26
+    target 27
+    label "null"
+  ]
+  edge [
+    id 27
+    source 26
+    target 28
+    label "null"
+  ]
+  edge [
+    id 28
+    source 1
+    target 29
+    label "null"
+  ]
+  edge [
+    id 29
+    source 29
+    target 30
+    label "null"
+  ]
+  edge [
+    id 30
+    source 29
+    target 31
+    label "null"
+  ]
+  edge [
+    id 31
+    source 29
+    target 32
+    label "null"
+  ]
+  edge [
+    id 32
+    source 29
+    target 33
+    label "null"
+  ]
+  edge [
+    id 33
+    source 33
+    target 34
+    label "null"
+  ]
+  edge [
+    id 34
+    source 1
+    target 35
+    label "null"
+  ]
+  edge [
+    id 35
+    source 35
+    target 36
+    label "null"
+  ]
+  edge [
+    id 36
+    source 35
+    target 37
+    label "null"
+  ]
+  edge [
+    id 37
+    source 35
+    target 38
+    label "null"
+  ]
+  edge [
+    id 38
+    source 35
+    target 39
+    label "null"
+  ]
+  edge [
+    id 39
+    source 39
+    target 40
+    label "null"
+  ]
+  edge [
+    id 40
+    source 40
+    target 41
+    label "null"
+  ]
+  edge [
+    id 41
+    source 40
+    target 42
+    label "null"
+  ]
+  edge [
+    id 42
+    source 35
+    target 43
+    label "null"
+  ]
+  edge [
+    id 43
+    source 43
+    target 44
+    label "null"
+  ]
+  edge [
+    id 44
+    source 1
+    target 45
+    label "null"
+  ]
+  edge [
+    id 45
+    source 45
+    target 46
+    label "null"
+  ]
+  edge [
+    id 46
+    source 45
+    target 47
+    label "null"
+  ]
+  edge [
+    id 47
+    source 45
+    target 48
+    label "null"
+  ]
+  edge [
+    id 48
+    source 45
+    target 49
+    label "null"
+  ]
+  edge [
+    id 49
+    source 49
+    target 50
+    label "null"
+  ]
+  edge [
+    id 50
+    source 1
+    target 51
+    label "null"
+  ]
+  edge [
+    id 51
+    source 51
+    target 52
+    label "null"
+  ]
+  edge [
+    id 52
+    source 51
+    target 53
+    label "null"
+  ]
+  edge [
+    id 53
+    source 51
+    target 54
+    label "null"
+  ]
+  edge [
+    id 54
+    source 51
+    target 55
+    label "null"
+  ]
+  edge [
+    id 55
+    source 55
+    target 56
+    label "null"
+  ]
+  edge [
+    id 56
+    source 56
+    target 57
+    label "null"
+  ]
+  edge [
+    id 57
+    source 56
+    target 58
+    label "null"
+  ]
+  edge [
+    id 58
+    source 51
+    target 59
+    label "null"
+  ]
+  edge [
+    id 59
+    source 59
+    target 60
+    label "null"
+  ]
+  edge [
+    id 60
+    source 1
+    target 61
+    label "null"
+  ]
+  edge [
+    id 61
+    source 61
+    target 62
+    label "null"
+  ]
+  edge [
+    id 62
+    source 61
+    target 63
+    label "null"
+  ]
+  edge [
+    id 63
+    source 61
+    target 64
+    label "null"
+  ]
+  edge [
+    id 64
+    source 61
+    target 65
+    label "null"
+  ]
+  edge [
+    id 65
+    source 65
+    target 66
+    label "null"
+  ]
+  edge [
+    id 66
+    source 66
+    target 67
+    label "null"
+  ]
+  edge [
+    id 67
+    source 66
+    target 68
+    label "null"
+  ]
+  edge [
+    id 68
+    source 66
+    target 69
+    label "null"
+  ]
+  edge [
+    id 69
+    source 65
+    target 70
+    label "null"
+  ]
+  edge [
+    id 70
+    source 1
+    target 71
+    label "null"
+  ]
+  edge [
+    id 71
+    source 71
+    target 72
+    label "null"
+  ]
+  edge [
+    id 72
+    source 71
+    target 73
+    label "null"
+  ]
+  edge [
+    id 73
+    source 71
+    target 74
+    label "null"
+  ]
+  edge [
+    id 74
+    source 71
+    target 75
+    label "null"
+  ]
+  edge [
+    id 75
+    source 75
+    target 76
+    label "null"
+  ]
+  edge [
+    id 76
+    source 76
+    target 77
+    label "null"
+  ]
+  edge [
+    id 77
+    source 76
+    target 78
+    label "null"
+  ]
+  edge [
+    id 78
+    source 71
+    target 79
+    label "null"
+  ]
+  edge [
+    id 79
+    source 79
+    target 80
+    label "null"
+  ]
+  edge [
+    id 80
+    source 1
+    target 81
+    label "null"
+  ]
+  edge [
+    id 81
+    source 81
+    target 82
+    label "null"
+  ]
+  edge [
+    id 82
+    source 81
+    target 83
+    label "null"
+  ]
+  edge [
+    id 83
+    source 81
+    target 84
+    label "null"
+  ]
+  edge [
+    id 84
+    source 81
+    target 85
+    label "null"
+  ]
+  edge [
+    id 85
+    source 85
+    target 86
+    label "null"
+  ]
+  edge [
+    id 86
+    source 86
+    target 87
+    label "null"
+  ]
+  edge [
+    id 87
+    source 86
+    target 88
+    label "null"
+  ]
+  edge [
+    id 88
+    source 86
+    target 89
+    label "null"
+  ]
+  edge [
+    id 89
+    source 85
+    target 90
+    label "null"
+  ]
+  edge [
+    id 90
+    source 90
+    target 91
+    label "null"
+  ]
+  edge [
+    id 91
+    source 90
+    target 92
+    label "null"
+  ]
+  edge [
+    id 92
+    source 85
+    target 93
+    label "null"
+  ]
+  edge [
+    id 93
+    source 85
+    target 94
+    label "null"
+  ]
+  edge [
+    id 94
+    source 85
+    target 95
+    label "null"
+  ]
+  edge [
+    id 95
+    source 85
+    target 96
+    label "null"
+  ]
+  edge [
+    id 96
+    source 1
+    target 97
+    label "null"
+  ]
+  edge [
+    id 97
+    source 97
+    target 98
+    label "null"
+  ]
+  edge [
+    id 98
+    source 97
+    target 99
+    label "null"
+  ]
+  edge [
+    id 99
+    source 97
+    target 100
+    label "null"
+  ]
+  edge [
+    id 100
+    source 97
+    target 101
+    label "null"
+  ]
+  edge [
+    id 101
+    source 101
+    target 102
+    label "null"
+  ]
+  edge [
+    id 102
+    source 102
+    target 103
+    label "null"
+  ]
+  edge [
+    id 103
+    source 102
+    target 104
+    label "null"
+  ]
+  edge [
+    id 104
+    source 97
+    target 105
+    label "null"
+  ]
+  edge [
+    id 105
+    source 105
+    target 106
+    label "null"
+  ]
+  edge [
+    id 106
+    source 106
+    target 107
+    label "null"
+  ]
+  edge [
+    id 107
+    source 106
+    target 108
+    label "null"
+  ]
+  edge [
+    id 108
+    source 106
+    target 109
+    label "null"
+  ]
+  edge [
+    id 109
+    source 105
+    target 110
+    label "null"
+  ]
+  edge [
+    id 110
+    source 110
+    target 111
+    label "null"
+  ]
+  edge [
+    id 111
+    source 110
+    target 112
+    label "null"
+  ]
+  edge [
+    id 112
+    source 110
+    target 113
+    label "null"
+  ]
+  edge [
+    id 113
+    source 105
+    target 114
+    label "null"
+  ]
+  edge [
+    id 114
+    source 105
+    target 115
+    label "null"
+  ]
+  edge [
+    id 115
+    source 115
+    target 116
+    label "null"
+  ]
+  edge [
+    id 116
+    source 115
+    target 117
+    label "null"
+  ]
+  edge [
+    id 117
+    source 115
+    target 118
+    label "null"
+  ]
+  edge [
+    id 118
+    source 105
+    target 119
+    label "null"
+  ]
+  edge [
+    id 119
+    source 105
+    target 120
+    label "null"
+  ]
+  edge [
+    id 120
+    source 105
+    target 121
+    label "null"
+  ]
+  edge [
+    id 121
+    source 105
+    target 122
+    label "null"
+  ]
+  edge [
+    id 122
+    source 105
+    target 123
+    label "null"
+  ]
+  edge [
+    id 123
+    source 105
+    target 124
+    label "null"
+  ]
+  edge [
+    id 124
+    source 105
+    target 125
+    label "null"
+  ]
+  edge [
+    id 125
+    source 105
+    target 126
+    label "null"
+  ]
+  edge [
+    id 126
+    source 105
+    target 127
+    label "null"
+  ]
+  edge [
+    id 127
+    source 127
+    target 128
+    label "null"
+  ]
+  edge [
+    id 128
+    source 127
+    target 129
+    label "null"
+  ]
+  edge [
+    id 129
+    source 127
+    target 130
+    label "null"
+  ]
+  edge [
+    id 130
+    source 105
+    target 131
+    label "null"
+  ]
+  edge [
+    id 131
+    source 105
+    target 132
+    label "null"
+  ]
+  edge [
+    id 132
+    source 105
+    target 133
+    label "null"
+  ]
+  edge [
+    id 133
+    source 105
+    target 134
+    label "null"
+  ]
+  edge [
+    id 134
+    source 1
+    target 135
+    label "null"
+  ]
+  edge [
+    id 135
+    source 135
+    target 136
+    label "null"
+  ]
+  edge [
+    id 136
+    source 135
+    target 137
+    label "null"
+  ]
+  edge [
+    id 137
+    source 135
+    target 138
+    label "null"
+  ]
+  edge [
+    id 138
+    source 135
+    target 139
+    label "null"
+  ]
+  edge [
+    id 139
+    source 139
+    target 140
+    label "null"
+  ]
+  edge [
+    id 140
+    source 1
+    target 141
+    label "null"
+  ]
+  edge [
+    id 141
+    source 141
+    target 142
+    label "null"
+  ]
+  edge [
+    id 142
+    source 141
+    target 143
+    label "null"
+  ]
+  edge [
+    id 143
+    source 141
+    target 144
+    label "null"
+  ]
+  edge [
+    id 144
+    source 141
+    target 145
+    label "null"
+  ]
+  edge [
+    id 145
+    source 145
+    target 146
+    label "null"
+  ]
+  edge [
+    id 146
+    source 146
+    target 147
+    label "null"
+  ]
+  edge [
+    id 147
+    source 146
+    target 148
+    label "null"
+  ]
+  edge [
+    id 148
+    source 141
+    target 149
+    label "null"
+  ]
+  edge [
+    id 149
+    source 149
+    target 150
+    label "null"
+  ]
+  edge [
+    id 150
+    source 149
+    target 151
+    label "null"
+  ]
+]
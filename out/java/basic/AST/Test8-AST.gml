@@ -0,0 +1,1601 @@
+graph [
+  directed 1
+  label "AST of Test8.java"
+  type "Abstract Syntax Tree (AST)"
+  file "Test8.java"
+
+  node [
+    id 0
+    line 0
+    type "ROOT"
+    label "Test8.java"
+    normalized "Test8.java"
+  ]
+  node [
+    id 1
+    line 1
+    type "IMPORTS"
+    label "IMPORTS"
+    normalized "IMPORTS"
+  ]
+  node [
+    id 2
+    line 1
+    type "IMPORT"
+    label "java.io.File"
+    normalized "java.io.File"
+  ]
+  node [
+    id 3
+    line 2
+    type "IMPORT"
+    label "java.io.FileInputStream"
+    normalized "java.io.FileInputStream"
+  ]
+  node [
+    id 4
+    line 3
+    type "IMPORT"
+    label "java.io.FileNotFoundException"
+    normalized "java.io.FileNotFoundException"
+  ]
+  node [
+    id 5
+    line 4
+    type "IMPORT"
+    label "java.io.IOException"
+    normalized "java.io.IOException"
+  ]
+  node [
+    id 6
+    line 5
+    type "IMPORT"
+    label "java.util.Arrays"
+    normalized "java.util.Arrays"
+  ]
+  node [
+    id 7
+    line 8
+    type "CLASS"
+    label "CLASS"
+    normalized "CLASS"
+  ]
+  node [
+    id 8
+    line 8
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 9
+    line 8
+    type "NAME"
+    label "Test8"
+    normalized "Test8"
+  ]
+  node [
+    id 10
+    line 10
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 11
+    line 10
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 12
+    line 10
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 13
+    line 10
+    type "NAME"
+    label "run"
+    normalized "$METHOD_1"
+  ]
+  node [
+    id 14
+    line 10
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 15
+    line 10
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 16
+    line 10
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 17
+    line 10
+    type "NAME"
+    label "x"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 18
+    line 10
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 19
+    line 12
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 20
+    line 12
+    type "TYPE"
+    label "boolean"
+    normalized "boolean"
+  ]
+  node [
+    id 21
+    line 12
+    type "NAME"
+    label "isPrime"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 22
+    line 12
+    type "INIT"
+    label "= false"
+    normalized "= false"
+  ]
+  node [
+    id 23
+    line 13
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 24
+    line 13
+    type "TYPE"
+    label "int[]"
+    normalized "int[]"
+  ]
+  node [
+    id 25
+    line 13
+    type "NAME"
+    label "primes"
+    normalized "$VARL_3"
+  ]
+  node [
+    id 26
+    line 13
+    type "INIT"
+    label "= {2, 3, 5, 7, 11, 13, 17, 19}"
+    normalized "= {2, 3, 5, 7, 11, 13, 17, 19}"
+  ]
+  node [
+    id 27
+    line 14
+    type "FOR-EACH"
+    label "FOR-EACH"
+    normalized "FOR-EACH"
+  ]
+  node [
+    id 28
+    line 14
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 29
+    line 14
+    type "NAME"
+    label "p"
+    normalized "$VARL_4"
+  ]
+  node [
+    id 30
+    line 14
+    type "IN"
+    label "primes"
+    normalized "$VARL_3"
+  ]
+  node [
+    id 31
+    line 14
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 32
+    line 15
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 33
+    line 15
+    type "COND"
+    label "x == p"
+    normalized "$VARL_1 == $VARL_4"
+  ]
+  node [
+    id 34
+    line 16
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 35
+    line 16
+    type ""
+    label "isPrime = true"
+    normalized "$VARL_2 ?= true"
+  ]
+  node [
+    id 36
+    line 18
+    type ""
+    label "System.out.println(x + (isPrime ? ' is prime' : ' is not prime'))"
+    normalized "System.out.println($VARL_1 + ($VARL_2 ? ' is prime' : ' is not prime'))"
+  ]
+  node [
+    id 37
+    line 21
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 38
+    line 21
+    type "TYPE"
+    label "File"
+    normalized "File"
+  ]
+  node [
+    id 39
+    line 21
+    type "NAME"
+    label "file"
+    normalized "$VARL_5"
+  ]
+  node [
+    id 40
+    line 21
+    type "INIT"
+    label "= new File('manifest.mf')"
+    normalized "= ('manifest.mf')"
+  ]
+  node [
+    id 41
+    line 22
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 42
+    line 22
+    type "TYPE"
+    label "FileInputStream"
+    normalized "FileInputStream"
+  ]
+  node [
+    id 43
+    line 22
+    type "NAME"
+    label "fis"
+    normalized "$VARL_6"
+  ]
+  node [
+    id 44
+    line 22
+    type "INIT"
+    label "= null"
+    normalized "= null"
+  ]
+  node [
+    id 45
+    line 23
+    type "TRY"
+    label "TRY"
+    normalized "TRY"
+  ]
+  node [
+    id 46
+    line 23
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 47
+    line 24
+    type ""
+    label "fis = new FileInputStream(file)"
+    normalized "$VARL_6 ?= ($VARL_5)"
+  ]
+  node [
+    id 48
+    line 25
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 49
+    line 25
+    type "TYPE"
+    label "byte[]"
+    normalized "byte[]"
+  ]
+  node [
+    id 50
+    line 25
+    type "NAME"
+    label "buffer"
+    normalized "$VARL_7"
+  ]
+  node [
+    id 51
+    line 25
+    type "INIT"
+    label "= new byte[x]"
+    normalized "= null"
+  ]
+  node [
+    id 52
+    line 26
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 53
+    line 26
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 54
+    line 26
+    type "NAME"
+    label "read"
+    normalized "$VARL_8"
+  ]
+  node [
+    id 55
+    line 26
+    type "INIT"
+    label "= fis.read(buffer)"
+    normalized "= $VARL_6.$VARL_8($VARL_7)"
+  ]
+  node [
+    id 56
+    line 27
+    type ""
+    label "System.out.println(read + ' bytes read.')"
+    normalized "System.out.println($VARL_8 + ' bytes read.')"
+  ]
+  node [
+    id 57
+    line 28
+    type ""
+    label "System.out.println(Arrays.toString(Arrays.copyOf(buffer, read)))"
+    normalized "System.out.println(Arrays.toString(Arrays.copyOf($VARL_7, $VARL_8)))"
+  ]
+  node [
+    id 58
+    line 29
+    type "CATCH"
+    label "CATCH"
+    normalized "CATCH"
+  ]
+  node [
+    id 59
+    line 29
+    type "TYPE"
+    label "FileNotFoundException"
+    normalized "FileNotFoundException"
+  ]
+  node [
+    id 60
+    line 29
+    type "NAME"
+    label "ex"
+    normalized "$VARL_9"
+  ]
+  node [
+    id 61
+    line 29
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 62
+    line 30
+    type ""
+    label "System.err.println(ex)"
+    normalized "System.err.println($VARL_9)"
+  ]
+  node [
+    id 63
+    line 31
+    type "CATCH"
+    label "CATCH"
+    normalized "CATCH"
+  ]
+  node [
+    id 64
+    line 31
+    type "TYPE"
+    label "IOException"
+    normalized "IOException"
+  ]
+  node [
+    id 65
+    line 31
+    type "NAME"
+    label "ex"
+    normalized "$VARL_10"
+  ]
+  node [
+    id 66
+    line 31
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 67
+    line 32
+    type ""
+    label "System.err.println(ex)"
+    normalized "System.err.println($VARL_10)"
+  ]
+  node [
+    id 68
+    line 33
+    type "FINALLY"
+    label "FINALLY"
+    normalized "FINALLY"
+  ]
+  node [
+    id 69
+    line 34
+    type "TRY"
+    label "TRY"
+    normalized "TRY"
+  ]
+  node [
+    id 70
+    line 34
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 71
+    line 35
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 72
+    line 35
+    type "COND"
+    label "fis != null"
+    normalized "$VARL_6 != null"
+  ]
+  node [
+    id 73
+    line 36
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 74
+    line 36
+    type ""
+    label "fis.close()"
+    normalized "$VARL_6.close()"
+  ]
+  node [
+    id 75
+    line 37
+    type "CATCH"
+    label "CATCH"
+    normalized "CATCH"
+  ]
+  node [
+    id 76
+    line 37
+    type "TYPE"
+    label "IOException"
+    normalized "IOException"
+  ]
+  node [
+    id 77
+    line 37
+    type "NAME"
+    label "ex"
+    normalized "$VARL_11"
+  ]
+  node [
+    id 78
+    line 37
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 79
+    line 38
+    type ""
+    label "System.err.println(ex)"
+    normalized "System.err.println($VARL_11)"
+  ]
+  node [
+    id 80
+    line 43
+    type ""
+    label "file = new File('build.xml')"
+    normalized "$VARL_5 ?= ('build.xml')"
+  ]
+  node [
+    id 81
+    line 44
+    type "TRY"
+    label "TRY"
+    normalized "TRY"
+  ]
+  node [
+    id 82
+    line 44
+    type "RESOURCES"
+    label "RESOURCES"
+    normalized "RESOURCES"
+  ]
+  node [
+    id 83
+    line 44
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 84
+    line 44
+    type "TYPE"
+    label "FileInputStream"
+    normalized "FileInputStream"
+  ]
+  node [
+    id 85
+    line 44
+    type "NAME"
+    label "fism"
+    normalized "$VARL_12"
+  ]
+  node [
+    id 86
+    line 44
+    type "INIT"
+    label "= new FileInputStream(file)"
+    normalized "= ($VARL_5)"
+  ]
+  node [
+    id 87
+    line 44
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 88
+    line 45
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 89
+    line 45
+    type "TYPE"
+    label "byte[]"
+    normalized "byte[]"
+  ]
+  node [
+    id 90
+    line 45
+    type "NAME"
+    label "buffer"
+    normalized "$VARL_13"
+  ]
+  node [
+    id 91
+    line 45
+    type "INIT"
+    label "= new byte[2 * x]"
+    normalized "= null"
+  ]
+  node [
+    id 92
+    line 46
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 93
+    line 46
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 94
+    line 46
+    type "NAME"
+    label "read"
+    normalized "$VARL_14"
+  ]
+  node [
+    id 95
+    line 46
+    type "INIT"
+    label "= fism.read(buffer)"
+    normalized "= $VARL_12.$VARL_14($VARL_13)"
+  ]
+  node [
+    id 96
+    line 47
+    type ""
+    label "System.out.println(read + ' bytes read.')"
+    normalized "System.out.println($VARL_14 + ' bytes read.')"
+  ]
+  node [
+    id 97
+    line 48
+    type ""
+    label "System.out.println(Arrays.toString(Arrays.copyOf(buffer, read)))"
+    normalized "System.out.println(Arrays.toString(Arrays.copyOf($VARL_13, $VARL_14)))"
+  ]
+  node [
+    id 98
+    line 49
+    type "CATCH"
+    label "CATCH"
+    normalized "CATCH"
+  ]
+  node [
+    id 99
+    line 49
+    type "TYPE"
+    label "FileNotFoundException"
+    normalized "FileNotFoundException"
+  ]
+  node [
+    id 100
+    line 49
+    type "NAME"
+    label "ex"
+    normalized "$VARL_15"
+  ]
+  node [
+    id 101
+    line 49
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 102
+    line 50
+    type ""
+    label "System.err.println(ex)"
+    normalized "System.err.println($VARL_15)"
+  ]
+  node [
+    id 103
+    line 51
+    type "CATCH"
+    label "CATCH"
+    normalized "CATCH"
+  ]
+  node [
+    id 104
+    line 51
+    type "TYPE"
+    label "IOException"
+    normalized "IOException"
+  ]
+  node [
+    id 105
+    line 51
+    type "NAME"
+    label "ex"
+    normalized "$VARL_16"
+  ]
+  node [
+    id 106
+    line 51
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 107
+    line 52
+    type ""
+    label "System.err.println(ex)"
+    normalized "System.err.println($VARL_16)"
+  ]
+  node [
+    id 108
+    line 57
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 109
+    line 57
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 110
+    line 57
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 111
+    line 57
+    type "NAME"
+    label "main"
+    normalized "$METHOD_2"
+  ]
+  node [
+    id 112
+    line 57
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 113
+    line 57
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 114
+    line 57
+    type "TYPE"
+    label "String[]"
+    normalized "String[]"
+  ]
+  node [
+    id 115
+    line 57
+    type "NAME"
+    label "args"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 116
+    line 57
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 117
+    line 58
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 118
+    line 58
+    type "COND"
+    label "args.length > 0"
+    normalized "$VARL_1.length > 0"
+  ]
+  node [
+    id 119
+    line 59
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 120
+    line 59
+    type ""
+    label "Test8.run(Integer.parseInt(args[0]))"
+    normalized "Test8.$METHOD_1(Integer.parseInt($VARL_1[0]))"
+  ]
+  node [
+    id 121
+    line 61
+    type "ELSE"
+    label "ELSE"
+    normalized "ELSE"
+  ]
+  node [
+    id 122
+    line 61
+    type ""
+    label "System.out.println('Nothing to process!')"
+    normalized "System.out.println('Nothing to process!')"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label "null"
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label "null"
+  ]
+  edge [
+    id 2
+    source 1
+    target 3
+    label "null"
+  ]
+  edge [
+    id 3
+    source 1
+    target 4
+    label "null"
+  ]
+  edge [
+    id 4
+    source 1
+    target 5
+    label "null"
+  ]
+  edge [
+    id 5
+    source 1
+    target 6
+    label "null"
+  ]
+  edge [
+    id 6
+    source 0
+    target 7
+    label "null"
+  ]
+  edge [
+    id 7
+    source 7
+    target 8
+    label "null"
+  ]
+  edge [
+    id 8
+    source 7
+    target 9
+    label "null"
+  ]
+  edge [
+    id 9
+    source 7
+    target 10
+    label "null"
+  ]
+  edge [
+    id 10
+    source 10
+    target 11
+    label "null"
+  ]
+  edge [
+    id 11
+    source 10
+    target 12
+    label "null"
+  ]
+  edge [
+    id 12
+    source 10
+    target 13
+    label "null"
+  ]
+  edge [
+    id 13
+    source 10
+    target 14
+    label "null"
+  ]
+  edge [
+    id 14
+    source 14
+    target 15
+    label "null"
+  ]
+  edge [
+    id 15
+    source 15
+    target 16
+    label "null"
+  ]
+  edge [
+    id 16
+    source 15
+    target 17
+    label "null"
+  ]
+  edge [
+    id 17
+    source 10
+    target 18
+    label "null"
+  ]
+  edge [
+    id 18
+    source 18
+    target 19
+    label "null"
+  ]
+  edge [
+    id 19
+    source 19
+    target 20
+    label "null"
+  ]
+  edge [
+    id 20
+    source 19
+    target 21
+    label "null"
+  ]
+  edge [
+    id 21
+    source 19
+    target 22
+    label "null"
+  ]
+  edge [
+    id 22
+    source 18
+    target 23
+    label "null"
+  ]
+  edge [
+    id 23
+    source 23
+    target 24
+    label "null"
+  ]
+  edge [
+    id 24
+    source 23
+    target 25
+    label "null"
+  ]
+  edge [
+    id 25
+    source 23
+    target 26
+    label "null"
+  ]
+  edge [
+    id 26
+    source 18
+    target 27
+    label "null"
+  ]
+  edge [
+    id 27
+    source 27
+    target 28
+    label "null"
+  ]
+  edge [
+    id 28
+    source 27
+    target 29
+    label "null"
+  ]
+  edge [
+    id 29
+    source 27
+    target 30
+    label "null"
+  ]
+  edge [
+    id 30
+    source 27
+    target 31
+    label "null"
+  ]
+  edge [
+    id 31
+    source 31
+    target 32
+    label "null"
+  ]
+  edge [
+    id 32
+    source 32
+    target 33
+    label "null"
+  ]
+  edge [
+    id 33
+    source 32
+    target 34
+    label "null"
+  ]
+  edge [
+    id 34
+    source 34
+    target 35
+    label "null"
+  ]
+  edge [
+    id 35
+    source 18
+    target 36
+    label "null"
+  ]
+  edge [
+    id 36
+    source 18
+    target 37
+    label "null"
+  ]
+  edge [
+    id 37
+    source 37
+    target 38
+    label "null"
+  ]
+  edge [
+    id 38
+    source 37
+    target 39
+    label "null"
+  ]
+  edge [
+    id 39
+    source 37
+    target 40
+    label "null"
+  ]
+  edge [
+    id 40
+    source 18
+    target 41
+    label "null"
+  ]
+  edge [
+    id 41
+    source 41
+    target 42
+    label "null"
+  ]
+  edge [
+    id 42
+    source 41
+    target 43
+    label "null"
+  ]
+  edge [
+    id 43
+    source 41
+    target 44
+    label "null"
+  ]
+  edge [
+    id 44
+    source 18
+    target 45
+    label "null"
+  ]
+  edge [
+    id 45
+    source 45
+    target 46
+    label "null"
+  ]
+  edge [
+    id 46
+    source 46
+    target 47
+    label "null"
+  ]
+  edge [
+    id 47
+    source 46
+    target 48
+    label "null"
+  ]
+  edge [
+    id 48
+    source 48
+    target 49
+    label "null"
+  ]
+  edge [
+    id 49
+    source 48
+    target 50
+    label "null"
+  ]
+  edge [
+    id 50
+    source 48
+    target 51
+    label "null"
+  ]
+  edge [
+    id 51
+    source 46
+    target 52
+    label "null"
+  ]
+  edge [
+    id 52
+    source 52
+    target 53
+    label "null"
+  ]
+  edge [
+    id 53
+    source 52
+    target 54
+    label "null"
+  ]
+  edge [
+    id 54
+    source 52
+    target 55
+    label "null"
+  ]
+  edge [
+    id 55
+    source 46
+    target 56
+    label "null"
+  ]
+  edge [
+    id 56
+    source 46
+    target 57
+    label "null"
+  ]
+  edge [
+    id 57
+    source 45
+    target 58
+    label "null"
+  ]
+  edge [
+    id 58
+    source 58
+    target 59
+    label "null"
+  ]
+  edge [
+    id 59
+    source 58
+    target 60
+    label "null"
+  ]
+  edge [
+    id 60
+    source 58
+    target 61
+    label "null"
+  ]
+  edge [
+    id 61
+    source 61
+    target 62
+    label "null"
+  ]
+  edge [
+    id 62
+    source 45
+    target 63
+    label "null"
+  ]
+  edge [
+    id 63
+    source 63
+    target 64
+    label "null"
+  ]
+  edge [
+    id 64
+    source 63
+    target 65
+    label "null"
+  ]
+  edge [
+    id 65
+    source 63
+    target 66
+    label "null"
+  ]
+  edge [
+    id 66
+    source 66
+    target 67
+    label "null"
+  ]
+  edge [
+    id 67
+    source 45
+    target 68
+    label "null"
+  ]
+  edge [
+    id 68
+    source 68
+    target 69
+    label "null"
+  ]
+  edge [
+    id 69
+    source 69
+    target 70
+    label "null"
+  ]
+  edge [
+    id 70
+    source 70
+    target 71
+    label "null"
+  ]
+  edge [
+    id 71
+    source 71
+    target 72
+    label "null"
+  ]
+  edge [
+    id 72
+    source 71
+    target 73
+    label "null"
+  ]
+  edge [
+    id 73
+    source 73
+    target 74
+    label "null"
+  ]
+  edge [
+    id 74
+    source 69
+    target 75
+    label "null"
+  ]
+  edge [
+    id 75
+    source 75
+    target 76
+    label "null"
+  ]
+  edge [
+    id 76
+    source 75
+    target 77
+    label "null"
+  ]
+  edge [
+    id 77
+    source 75
+    target 78
+    label "null"
+  ]
+  edge [
+    id 78
+    source 78
+    target 79
+    label "null"
+  ]
+  edge [
+    id 79
+    source 18
+    target 80
+    label "null"
+  ]
+  edge [
+    id 80
+    source 18
+    target 81
+    label "null"
+  ]
+  edge [
+    id 81
+    source 81
+    target 82
+    label "null"
+  ]
+  edge [
+    id 82
+    source 82
+    target 83
+    label "null"
+  ]
+  edge [
+    id 83
+    source 83
+    target 84
+    label "null"
+  ]
+  edge [
+    id 84
+    source 83
+    target 85
+    label "null"
+  ]
+  edge [
+    id 85
+    source 83
+    target 86
+    label "null"
+  ]
+  edge [
+    id 86
+    source 81
+    target 87
+    label "null"
+  ]
+  edge [
+    id 87
+    source 87
+    target 88
+    label "null"
+  ]
+  edge [
+    id 88
+    source 88
+    target 89
+    label "null"
+  ]
+  edge [
+    id 89
+    source 88
+    target 90
+    label "null"
+  ]
+  edge [
+    id 90
+    source 88
+    target 91
+    label "null"
+  ]
+  edge [
+    id 91
+    source 87
+    target 92
+    label "null"
+  ]
+  edge [
+    id 92
+    source 92
+    target 93
+    label "null"
+  ]
+  edge [
+    id 93
+    source 92
+    target 94
+    label "null"
+  ]
+  edge [
+    id 94
+    source 92
+    target 95
+    label "null"
+  ]
+  edge [
+    id 95
+    source 87
+    target 96
+    label "null"
+  ]
+  edge [
+    id 96
+    source 87
+    target 97
+    label "null"
+  ]
+  edge [
+    id 97
+    source 81
+    target 98
+    label "null"
+  ]
+  edge [
+    id 98
+    source 98
+    target 99
+    label "null"
+  ]
+  edge [
+    id 99
+    source 98
+    target 100
+    label "null"
+  ]
+  edge [
+    id 100
+    source 98
+    target 101
+    label "null"
+  ]
+  edge [
+    id 101
+    source 101
+    target 102
+    label "null"
+  ]
+  edge [
+    id 102
+    source 81
+    target 103
+    label "null"
+  ]
+  edge [
+    id 103
+    source 103
+    target 104
+    label "null"
+  ]
+  edge [
+    id 104
+    source 103
+    target 105
+    label "null"
+  ]
+  edge [
+    id 105
+    source 103
+    target 106
+    label "null"
+  ]
+  edge [
+    id 106
+    source 106
+    target 107
+    label "null"
+  ]
+  edge [
+    id 107
+    source 7
+    target 108
+    label "null"
+  ]
+  edge [
+    id 108
+    source 108
+    target 109
+    label "null"
+  ]
+  edge [
+    id 109
+    source 108
+    target 110
+    label "null"
+  ]
+  edge [
+    id 110
+    source 108
+    target 111
+    label "null"
+  ]
+  edge [
+    id 111
+    source 108
+    target 112
+    label "null"
+  ]
+  edge [
+    id 112
+    source 112
+    target 113
+    label "null"
+  ]
+  edge [
+    id 113
+    source 113
+    target 114
+    label "null"
+  ]
+  edge [
+    id 114
+    source 113
+    target 115
+    label "null"
+  ]
+  edge [
+    id 115
+    source 108
+    target 116
+    label "null"
+  ]
+  edge [
+    id 116
+    source 116
+    target 117
+    label "null"
+  ]
+  edge [
+    id 117
+    source 117
+    target 118
+    label "null"
+  ]
+  edge [
+    id 118
+    source 117
+    target 119
+    label "null"
+  ]
+  edge [
+    id 119
+    source 119
+    target 120
+    label "null"
+  ]
+  edge [
+    id 120
+    source 117
+    target 121
+    label "null"
+  ]
+  edge [
+    id 121
+    source 121
+    target 122
+    label "null"
+  ]
+]
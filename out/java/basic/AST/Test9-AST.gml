@@ -0,0 +1,431 @@
+graph [
+  directed 1
+  label "AST of Test9.java"
+  type "Abstract Syntax Tree (AST)"
+  file "Test9.java"
+
+  node [
+    id 0
+    line 0
+    type "ROOT"
+    label "Test9.java"
+    normalized "Test9.java"
+  ]
+  node [
+    id 1
+    line 2
+    type "CLASS"
+    label "CLASS"
+    normalized "CLASS"
+  ]
+  node [
+    id 2
+    line 2
+    type "MODIFIER"
+    label "public"
+    normalized "public"
+  ]
+  node [
+    id 3
+    line 2
+    type "NAME"
+    label "Test9"
+    normalized "Test9"
+  ]
+  node [
+    id 4
+    line 4
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 5
+    line 4
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 6
+    line 4
+    type "RETURN"
+    label "String"
+    normalized "String"
+  ]
+  node [
+    id 7
+    line 4
+    type "NAME"
+    label "test"
+    normalized "$METHOD_1"
+  ]
+  node [
+    id 8
+    line 4
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 9
+    line 5
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 10
+    line 5
+    type "TYPE"
+    label "StringBuilder"
+    normalized "StringBuilder"
+  ]
+  node [
+    id 11
+    line 5
+    type "NAME"
+    label "str"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 12
+    line 5
+    type "INIT"
+    label "= new StringBuilder()"
+    normalized "= ()"
+  ]
+  node [
+    id 13
+    line 6
+    type ""
+    label "str.append('hello').append('World')"
+    normalized "$VARL_1.append('hello').append('World')"
+  ]
+  node [
+    id 14
+    line 7
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 15
+    line 7
+    type "TYPE"
+    label "int"
+    normalized "int"
+  ]
+  node [
+    id 16
+    line 7
+    type "NAME"
+    label "x"
+    normalized "$VARL_2"
+  ]
+  node [
+    id 17
+    line 7
+    type "INIT"
+    label "= 0"
+    normalized "= 0"
+  ]
+  node [
+    id 18
+    line 8
+    type "IF"
+    label "IF"
+    normalized "IF"
+  ]
+  node [
+    id 19
+    line 8
+    type "COND"
+    label "x < 0"
+    normalized "$VARL_2 < 0"
+  ]
+  node [
+    id 20
+    line 9
+    type "THEN"
+    label "THEN"
+    normalized "THEN"
+  ]
+  node [
+    id 21
+    line 9
+    type ""
+    label "return '';"
+    normalized "return ''"
+  ]
+  node [
+    id 22
+    line 10
+    type ""
+    label "return str.toString();"
+    normalized "return $VARL_1.toString()"
+  ]
+  node [
+    id 23
+    line 13
+    type "METHOD"
+    label "METHOD"
+    normalized "METHOD"
+  ]
+  node [
+    id 24
+    line 13
+    type "MODIFIER"
+    label "public static"
+    normalized "public static"
+  ]
+  node [
+    id 25
+    line 13
+    type "RETURN"
+    label "void"
+    normalized "void"
+  ]
+  node [
+    id 26
+    line 13
+    type "NAME"
+    label "main"
+    normalized "$METHOD_2"
+  ]
+  node [
+    id 27
+    line 13
+    type "PARAMS"
+    label "PARAMS"
+    normalized "PARAMS"
+  ]
+  node [
+    id 28
+    line 13
+    type "VAR"
+    label "VAR"
+    normalized "VAR"
+  ]
+  node [
+    id 29
+    line 13
+    type "TYPE"
+    label "String[]"
+    normalized "String[]"
+  ]
+  node [
+    id 30
+    line 13
+    type "NAME"
+    label "args"
+    normalized "$VARL_1"
+  ]
+  node [
+    id 31
+    line 13
+    type "BLOCK"
+    label "BLOCK"
+    normalized "BLOCK"
+  ]
+  node [
+    id 32
+    line 14
+    type ""
+    label "System.out.println(test() + test())"
+    normalized "System.out.println($METHOD_1() + $METHOD_1())"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label "null"
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label "null"
+  ]
+  edge [
+    id 2
+    source 1
+    target 3
+    label "null"
+  ]
+  edge [
+    id 3
+    source 1
+    target 4
+    label "null"
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label "null"
+  ]
+  edge [
+    id 5
+    source 4
+    target 6
+    label "null"
+  ]
+  edge [
+    id 6
+    source 4
+    target 7
+    label "null"
+  ]
+  edge [
+    id 7
+    source 4
+    target 8
+    label "null"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label "null"
+  ]
+  edge [
+    id 9
+    source 9
+    target 10
+    label "null"
+  ]
+  edge [
+    id 10
+    source 9
+    target 11
+    label "null"
+  ]
+  edge [
+    id 11
+    source 9
+    target 12
+    label "null"
+  ]
+  edge [
+    id 12
+    source 8
+    target 13
+    label "null"
+  ]
+  edge [
+    id 13
+    source 8
+    target 14
+    label "null"
+  ]
+  edge [
+    id 14
+    source 14
+    target 15
+    label "null"
+  ]
+  edge [
+    id 15
+    source 14
+    target 16
+    label "null"
+  ]
+  edge [
+    id 16
+    source 14
+    target 17
+    label "null"
+  ]
+  edge [
+    id 17
+    source 8
+    target 18
+    label "null"
+  ]
+  edge [
+    id 18
+    source 18
+    target 19
+    label "null"
+  ]
+  edge [
+    id 19
+    source 18
+    target 20
+    label "null"
+  ]
+  edge [
+    id 20
+    source 20
+    target 21
+    label "null"
+  ]
+  edge [
+    id 21
+    source 8
+    target 22
+    label "null"
+  ]
+  edge [
+    id 22
+    source 1
+    target 23
+    label "null"
+  ]
+  edge [
+    id 23
+    source 23
+    target 24
+    label "null"
+  ]
+  edge [
+    id 24
+    source 23
+    target 25
+    label "null"
+  ]
+  edge [
+    id 25
+    source 23
+    target 26
+    label "null"
+  ]
+  edge [
+    id 26
+    source 23
+    target 27
+    label "null"
+  ]
+  edge [
+    id 27
+    source 27
+    target 28
+    label "null"
+  ]
+  edge [
+    id 28
+    source 28
+    target 29
+    label "null"
+  ]
+  edge [
+    id 29
+    source 28
+    target 30
+    label "null"
+  ]
+  edge [
+    id 30
+    source 23
+    target 31
+    label "null"
+  ]
+  edge [
+    id 31
+    source 31
+    target 32
+    label "null"
+  ]
+]
@@ -0,0 +1,120 @@
+graph [
+  directed 1
+  multigraph 1
+  label "CFG of Test1.java"
+  type "Control Flow Graph (CFG)"
+  file "Test1.java"
+  package ""
+
+  node [
+    id 0
+    line 4
+    label "void main(String[] args)"
+  ]
+  node [
+    id 1
+    line 5
+    label "int i = 0"
+  ]
+  node [
+    id 2
+    line 6
+    label "i++"
+  ]
+  node [
+    id 3
+    line 7
+    label "if (i > 0)"
+  ]
+  node [
+    id 4
+    line 8
+    label "System.out.println('Positive')"
+  ]
+  node [
+    id 5
+    line 9
+    label "i *= 2"
+  ]
+  node [
+    id 6
+    line 0
+    label "endif"
+  ]
+  node [
+    id 7
+    line 11
+    label "System.out.println('Non-positive')"
+  ]
+  node [
+    id 8
+    line 12
+    label "i *= -2"
+  ]
+  node [
+    id 9
+    line 14
+    label "System.out.println('End')"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 2
+    target 3
+    label ""
+  ]
+  edge [
+    id 3
+    source 3
+    target 4
+    label "True"
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label ""
+  ]
+  edge [
+    id 5
+    source 5
+    target 6
+    label ""
+  ]
+  edge [
+    id 6
+    source 3
+    target 7
+    label "False"
+  ]
+  edge [
+    id 7
+    source 7
+    target 8
+    label ""
+  ]
+  edge [
+    id 8
+    source 8
+    target 6
+    label ""
+  ]
+  edge [
+    id 9
+    source 6
+    target 9
+    label ""
+  ]
+]
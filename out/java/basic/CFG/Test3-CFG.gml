@@ -0,0 +1,740 @@
+graph [
+  directed 1
+  multigraph 1
+  label "CFG of Test3.java"
+  type "Control Flow Graph (CFG)"
+  file "Test3.java"
+  package ""
+
+  node [
+    id 0
+    line 4
+    label "void test1(int i)"
+  ]
+  node [
+    id 1
+    line 5
+    label "switch (i)"
+  ]
+  node [
+    id 2
+    line 0
+    label "end-switch"
+  ]
+  node [
+    id 3
+    line 6
+    label "case 1:"
+  ]
+  node [
+    id 4
+    line 7
+    label "System.out.println('One')"
+  ]
+  node [
+    id 5
+    line 8
+    label "break;"
+  ]
+  node [
+    id 6
+    line 9
+    label "case 2:"
+  ]
+  node [
+    id 7
+    line 10
+    label "case 3:"
+  ]
+  node [
+    id 8
+    line 11
+    label "case 5:"
+  ]
+  node [
+    id 9
+    line 12
+    label "case 7:"
+  ]
+  node [
+    id 10
+    line 13
+    label "System.out.println(i + ' is Prime')"
+  ]
+  node [
+    id 11
+    line 14
+    label "break;"
+  ]
+  node [
+    id 12
+    line 15
+    label "case 4:"
+  ]
+  node [
+    id 13
+    line 16
+    label "case 6:"
+  ]
+  node [
+    id 14
+    line 17
+    label "case 8:"
+  ]
+  node [
+    id 15
+    line 18
+    label "case 9:"
+  ]
+  node [
+    id 16
+    line 19
+    label "System.out.println(i + ' is Composite')"
+  ]
+  node [
+    id 17
+    line 20
+    label "break;"
+  ]
+  node [
+    id 18
+    line 21
+    label "default:"
+  ]
+  node [
+    id 19
+    line 22
+    label "System.out.println(i)"
+  ]
+  node [
+    id 20
+    line 27
+    label "void test2(int i)"
+  ]
+  node [
+    id 21
+    line 28
+    label "System.out.println('Start')"
+  ]
+  node [
+    id 22
+    line 29
+    label "switch (i % 2)"
+  ]
+  node [
+    id 23
+    line 0
+    label "end-switch"
+  ]
+  node [
+    id 24
+    line 30
+    label "case 0:"
+  ]
+  node [
+    id 25
+    line 31
+    label "System.out.println(i + ' is Even')"
+  ]
+  node [
+    id 26
+    line 33
+    label "case 1:"
+  ]
+  node [
+    id 27
+    line 34
+    label "System.out.println(i + ' is Odd')"
+  ]
+  node [
+    id 28
+    line 36
+    label "default:"
+  ]
+  node [
+    id 29
+    line 37
+    label "System.out.println('WTF!')"
+  ]
+  node [
+    id 30
+    line 39
+    label "System.out.println('Finish')"
+  ]
+  node [
+    id 31
+    line 43
+    label "void test3(int i)"
+  ]
+  node [
+    id 32
+    line 44
+    label "switch (i % 2)"
+  ]
+  node [
+    id 33
+    line 0
+    label "end-switch"
+  ]
+  node [
+    id 34
+    line 45
+    label "case 0:"
+  ]
+  node [
+    id 35
+    line 46
+    label "System.out.println(i + ' is Even')"
+  ]
+  node [
+    id 36
+    line 47
+    label "break;"
+  ]
+  node [
+    id 37
+    line 48
+    label "case 1:"
+  ]
+  node [
+    id 38
+    line 49
+    label "System.out.println(i + ' is Odd')"
+  ]
+  node [
+    id 39
+    line 50
+    label "break;"
+  ]
+  node [
+    id 40
+    line 55
+    label "void test4()"
+  ]
+  node [
+    id 41
+    line 56
+    label "int i = 0"
+  ]
+  node [
+    id 42
+    line 57
+    label "switch (i)"
+  ]
+  node [
+    id 43
+    line 0
+    label "end-switch"
+  ]
+  node [
+    id 44
+    line 58
+    label "default:"
+  ]
+  node [
+    id 45
+    line 60
+    label "System.out.println('Finish')"
+  ]
+  node [
+    id 46
+    line 64
+    label "void test5()"
+  ]
+  node [
+    id 47
+    line 65
+    label "int i = 0"
+  ]
+  node [
+    id 48
+    line 66
+    label "switch (i)"
+  ]
+  node [
+    id 49
+    line 0
+    label "end-switch"
+  ]
+  node [
+    id 50
+    line 67
+    label "case 0:"
+  ]
+  node [
+    id 51
+    line 72
+    label "void main(String[] args)"
+  ]
+  node [
+    id 52
+    line 73
+    label "System.out.println('test-1:')"
+  ]
+  node [
+    id 53
+    line 74
+    label "test1(5)"
+  ]
+  node [
+    id 54
+    line 75
+    label "System.out.println('\\ntest-2:')"
+  ]
+  node [
+    id 55
+    line 76
+    label "test2(7)"
+  ]
+  node [
+    id 56
+    line 77
+    label "System.out.println('\\ntest-3:')"
+  ]
+  node [
+    id 57
+    line 78
+    label "test3(4)"
+  ]
+  node [
+    id 58
+    line 79
+    label "System.out.println('\\ntest-4:')"
+  ]
+  node [
+    id 59
+    line 80
+    label "test4()"
+  ]
+  node [
+    id 60
+    line 81
+    label "System.out.println('\\ntest-5:')"
+  ]
+  node [
+    id 61
+    line 82
+    label "test5()"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 3
+    label ""
+  ]
+  edge [
+    id 2
+    source 3
+    target 4
+    label "True"
+  ]
+  edge [
+    id 3
+    source 4
+    target 5
+    label ""
+  ]
+  edge [
+    id 4
+    source 5
+    target 2
+    label ""
+  ]
+  edge [
+    id 5
+    source 3
+    target 6
+    label "False"
+  ]
+  edge [
+    id 6
+    source 6
+    target 7
+    label "False"
+  ]
+  edge [
+    id 7
+    source 7
+    target 8
+    label "False"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label "False"
+  ]
+  edge [
+    id 9
+    source 6
+    target 10
+    label "True"
+  ]
+  edge [
+    id 10
+    source 7
+    target 10
+    label "True"
+  ]
+  edge [
+    id 11
+    source 8
+    target 10
+    label "True"
+  ]
+  edge [
+    id 12
+    source 9
+    target 10
+    label "True"
+  ]
+  edge [
+    id 13
+    source 10
+    target 11
+    label ""
+  ]
+  edge [
+    id 14
+    source 11
+    target 2
+    label ""
+  ]
+  edge [
+    id 15
+    source 9
+    target 12
+    label "False"
+  ]
+  edge [
+    id 16
+    source 12
+    target 13
+    label "False"
+  ]
+  edge [
+    id 17
+    source 13
+    target 14
+    label "False"
+  ]
+  edge [
+    id 18
+    source 14
+    target 15
+    label "False"
+  ]
+  edge [
+    id 19
+    source 12
+    target 16
+    label "True"
+  ]
+  edge [
+    id 20
+    source 13
+    target 16
+    label "True"
+  ]
+  edge [
+    id 21
+    source 14
+    target 16
+    label "True"
+  ]
+  edge [
+    id 22
+    source 15
+    target 16
+    label "True"
+  ]
+  edge [
+    id 23
+    source 16
+    target 17
+    label ""
+  ]
+  edge [
+    id 24
+    source 17
+    target 2
+    label ""
+  ]
+  edge [
+    id 25
+    source 15
+    target 18
+    label "False"
+  ]
+  edge [
+    id 26
+    source 18
+    target 19
+    label ""
+  ]
+  edge [
+    id 27
+    source 19
+    target 2
+    label ""
+  ]
+  edge [
+    id 28
+    source 20
+    target 21
+    label ""
+  ]
+  edge [
+    id 29
+    source 21
+    target 22
+    label ""
+  ]
+  edge [
+    id 30
+    source 22
+    target 24
+    label ""
+  ]
+  edge [
+    id 31
+    source 24
+    target 25
+    label "True"
+  ]
+  edge [
+    id 32
+    source 25
+    target 26
+    label ""
+  ]
+  edge [
+    id 33
+    source 24
+    target 26
+    label "False"
+  ]
+  edge [
+    id 34
+    source 26
+    target 27
+    label "True"
+  ]
+  edge [
+    id 35
+    source 27
+    target 28
+    label ""
+  ]
+  edge [
+    id 36
+    source 26
+    target 28
+    label "False"
+  ]
+  edge [
+    id 37
+    source 28
+    target 29
+    label ""
+  ]
+  edge [
+    id 38
+    source 29
+    target 23
+    label ""
+  ]
+  edge [
+    id 39
+    source 23
+    target 30
+    label ""
+  ]
+  edge [
+    id 40
+    source 31
+    target 32
+    label ""
+  ]
+  edge [
+    id 41
+    source 32
+    target 34
+    label ""
+  ]
+  edge [
+    id 42
+    source 34
+    target 35
+    label "True"
+  ]
+  edge [
+    id 43
+    source 35
+    target 36
+    label ""
+  ]
+  edge [
+    id 44
+    source 36
+    target 33
+    label ""
+  ]
+  edge [
+    id 45
+    source 34
+    target 37
+    label "False"
+  ]
+  edge [
+    id 46
+    source 37
+    target 38
+    label "True"
+  ]
+  edge [
+    id 47
+    source 38
+    target 39
+    label ""
+  ]
+  edge [
+    id 48
+    source 39
+    target 33
+    label ""
+  ]
+  edge [
+    id 49
+    source 37
+    target 33
+    label "False"
+  ]
+  edge [
+    id 50
+    source 40
+    target 41
+    label ""
+  ]
+  edge [
+    id 51
+    source 41
+    target 42
+    label ""
+  ]
+  edge [
+    id 52
+    source 42
+    target 44
+    label ""
+  ]
+  edge [
+    id 53
+    source 44
+    target 43
+    label ""
+  ]
+  edge [
+    id 54
+    source 43
+    target 45
+    label ""
+  ]
+  edge [
+    id 55
+    source 46
+    target 47
+    label ""
+  ]
+  edge [
+    id 56
+    source 47
+    target 48
+    label ""
+  ]
+  edge [
+    id 57
+    source 48
+    target 50
+    label ""
+  ]
+  edge [
+    id 58
+    source 50
+    target 49
+    label "True"
+  ]
+  edge [
+    id 59
+    source 50
+    target 49
+    label "False"
+  ]
+  edge [
+    id 60
+    source 51
+    target 52
+    label ""
+  ]
+  edge [
+    id 61
+    source 52
+    target 53
+    label ""
+  ]
+  edge [
+    id 62
+    source 53
+    target 54
+    label ""
+  ]
+  edge [
+    id 63
+    source 54
+    target 55
+    label ""
+  ]
+  edge [
+    id 64
+    source 55
+    target 56
+    label ""
+  ]
+  edge [
+    id 65
+    source 56
+    target 57
+    label ""
+  ]
+  edge [
+    id 66
+    source 57
+    target 58
+    label ""
+  ]
+  edge [
+    id 67
+    source 58
+    target 59
+    label ""
+  ]
+  edge [
+    id 68
+    source 59
+    target 60
+    label ""
+  ]
+  edge [
+    id 69
+    source 60
+    target 61
+    label ""
+  ]
+]
@@ -0,0 +1,1212 @@
+graph [
+  directed 1
+  multigraph 1
+  label "CFG of Test4.java"
+  type "Control Flow Graph (CFG)"
+  file "Test4.java"
+  package ""
+
+  node [
+    id 0
+    line 6
+    label "Test4 ()"
+  ]
+  node [
+    id 1
+    line 7
+    label "str = 'init'"
+  ]
+  node [
+    id 2
+    line 10
+    label "String getString()"
+  ]
+  node [
+    id 3
+    line 11
+    label "if (str == null)"
+  ]
+  node [
+    id 4
+    line 12
+    label "str = ''"
+  ]
+  node [
+    id 5
+    line 0
+    label "endif"
+  ]
+  node [
+    id 6
+    line 13
+    label "return str;"
+  ]
+  node [
+    id 7
+    line 16
+    label "void setString(String s)"
+  ]
+  node [
+    id 8
+    line 17
+    label "str = s"
+  ]
+  node [
+    id 9
+    line 20
+    label "boolean isPrime(int x)"
+  ]
+  node [
+    id 10
+    line 21
+    label "int[] primes = {2, 3, 5, 7, 11, 13, 17, 19}"
+  ]
+  node [
+    id 11
+    line 22
+    label "for (int p: primes)"
+  ]
+  node [
+    id 12
+    line 0
+    label "endfor"
+  ]
+  node [
+    id 13
+    line 23
+    label "if (x == p)"
+  ]
+  node [
+    id 14
+    line 24
+    label "return true;"
+  ]
+  node [
+    id 15
+    line 0
+    label "endif"
+  ]
+  node [
+    id 16
+    line 26
+    label "return false;"
+  ]
+  node [
+    id 17
+    line 29
+    label "void test1(int n)"
+  ]
+  node [
+    id 18
+    line 30
+    label "int i = 0"
+  ]
+  node [
+    id 19
+    line 30
+    label "for (i < n)"
+  ]
+  node [
+    id 20
+    line 30
+    label "++i"
+  ]
+  node [
+    id 21
+    line 0
+    label "endfor"
+  ]
+  node [
+    id 22
+    line 31
+    label "if (isPrime(i))"
+  ]
+  node [
+    id 23
+    line 32
+    label "System.out.println(i)"
+  ]
+  node [
+    id 24
+    line 0
+    label "endif"
+  ]
+  node [
+    id 25
+    line 34
+    label "continue;"
+  ]
+  node [
+    id 26
+    line 35
+    label "test2(i)"
+  ]
+  node [
+    id 27
+    line 39
+    label "void test2(int n)"
+  ]
+  node [
+    id 28
+    line 40
+    label "int counter = n"
+  ]
+  node [
+    id 29
+    line 41
+    label "do"
+  ]
+  node [
+    id 30
+    line 47
+    label "while (counter > 2)"
+  ]
+  node [
+    id 31
+    line 0
+    label "end-do-while"
+  ]
+  node [
+    id 32
+    line 42
+    label "if (isPrime(counter))"
+  ]
+  node [
+    id 33
+    line 43
+    label "System.out.println(counter)"
+  ]
+  node [
+    id 34
+    line 44
+    label "break;"
+  ]
+  node [
+    id 35
+    line 0
+    label "endif"
+  ]
+  node [
+    id 36
+    line 46
+    label "--counter"
+  ]
+  node [
+    id 37
+    line 50
+    label "void test3(int x, int y)"
+  ]
+  node [
+    id 38
+    line 51
+    label "int res"
+  ]
+  node [
+    id 39
+    line 52
+    label "if (x > y)"
+  ]
+  node [
+    id 40
+    line 53
+    label "res = x - y"
+  ]
+  node [
+    id 41
+    line 54
+    label "System.out.println('x-y=' + res)"
+  ]
+  node [
+    id 42
+    line 55
+    label "res = x / y"
+  ]
+  node [
+    id 43
+    line 56
+    label "System.out.println('x/y=' + res)"
+  ]
+  node [
+    id 44
+    line 57
+    label "res = x % y"
+  ]
+  node [
+    id 45
+    line 58
+    label "System.out.println('x%y=' + res)"
+  ]
+  node [
+    id 46
+    line 0
+    label "endif"
+  ]
+  node [
+    id 47
+    line 60
+    label "res = x + y"
+  ]
+  node [
+    id 48
+    line 61
+    label "System.out.println('x+y=' + res)"
+  ]
+  node [
+    id 49
+    line 62
+    label "res = x * y"
+  ]
+  node [
+    id 50
+    line 63
+    label "System.out.println('x*y=' + res)"
+  ]
+  node [
+    id 51
+    line 67
+    label "void test4()"
+  ]
+  node [
+    id 52
+    line 68
+    label "int i = 0"
+  ]
+  node [
+    id 53
+    line 69
+    label "while (i < 10)"
+  ]
+  node [
+    id 54
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 55
+    line 70
+    label "i += 2"
+  ]
+  node [
+    id 56
+    line 71
+    label "i--"
+  ]
+  node [
+    id 57
+    line 72
+    label "if (i == 8)"
+  ]
+  node [
+    id 58
+    line 73
+    label "break;"
+  ]
+  node [
+    id 59
+    line 0
+    label "endif"
+  ]
+  node [
+    id 60
+    line 74
+    label "if (i == 5)"
+  ]
+  node [
+    id 61
+    line 75
+    label "continue;"
+  ]
+  node [
+    id 62
+    line 0
+    label "endif"
+  ]
+  node [
+    id 63
+    line 76
+    label "System.out.println(i)"
+  ]
+  node [
+    id 64
+    line 80
+    label "void test5()"
+  ]
+  node [
+    id 65
+    line 81
+    label "int x = 0"
+  ]
+  node [
+    id 66
+    line 82
+    label "boolean p0 =  true"
+  ]
+  node [
+    id 67
+    line 83
+    label "while (p0)"
+  ]
+  node [
+    id 68
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 69
+    line 84
+    label "x += 7"
+  ]
+  node [
+    id 70
+    line 85
+    label "boolean p1 = true"
+  ]
+  node [
+    id 71
+    line 86
+    label "while (p1)"
+  ]
+  node [
+    id 72
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 73
+    line 87
+    label "x *= 2"
+  ]
+  node [
+    id 74
+    line 88
+    label "x -= 10"
+  ]
+  node [
+    id 75
+    line 89
+    label "if (x > 10)"
+  ]
+  node [
+    id 76
+    line 90
+    label "x += 8"
+  ]
+  node [
+    id 77
+    line 91
+    label "x /= 3"
+  ]
+  node [
+    id 78
+    line 92
+    label "if (x > 0)"
+  ]
+  node [
+    id 79
+    line 93
+    label "x -= 2"
+  ]
+  node [
+    id 80
+    line 0
+    label "endif"
+  ]
+  node [
+    id 81
+    line 95
+    label "break;"
+  ]
+  node [
+    id 82
+    line 0
+    label "endif"
+  ]
+  node [
+    id 83
+    line 97
+    label "continue;"
+  ]
+  node [
+    id 84
+    line 98
+    label "x--"
+  ]
+  node [
+    id 85
+    line 99
+    label "System.out.println(x)"
+  ]
+  node [
+    id 86
+    line 100
+    label "if (x > 20)"
+  ]
+  node [
+    id 87
+    line 101
+    label "break;"
+  ]
+  node [
+    id 88
+    line 0
+    label "endif"
+  ]
+  node [
+    id 89
+    line 102
+    label "--x"
+  ]
+  node [
+    id 90
+    line 103
+    label "p1 = x > 7 ? true : false"
+  ]
+  node [
+    id 91
+    line 105
+    label "if (x > 40)"
+  ]
+  node [
+    id 92
+    line 106
+    label "p0 = false"
+  ]
+  node [
+    id 93
+    line 0
+    label "endif"
+  ]
+  node [
+    id 94
+    line 107
+    label "System.out.println(x)"
+  ]
+  node [
+    id 95
+    line 109
+    label "System.out.println(x)"
+  ]
+  node [
+    id 96
+    line 112
+    label "void main(String[] args)"
+  ]
+  node [
+    id 97
+    line 113
+    label "Test4 tst = new Test4()"
+  ]
+  node [
+    id 98
+    line 114
+    label "tst.setString(tst.getString())"
+  ]
+  node [
+    id 99
+    line 115
+    label "System.out.println(tst.getString())"
+  ]
+  node [
+    id 100
+    line 116
+    label "tst.test1(9)"
+  ]
+  node [
+    id 101
+    line 117
+    label "tst.test2(16)"
+  ]
+  node [
+    id 102
+    line 118
+    label "tst.test3(20, 5)"
+  ]
+  node [
+    id 103
+    line 119
+    label "tst.test4()"
+  ]
+  node [
+    id 104
+    line 120
+    label "tst.test5()"
+  ]
+  node [
+    id 105
+    line 121
+    label "System.out.println('End')"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 2
+    target 3
+    label ""
+  ]
+  edge [
+    id 2
+    source 3
+    target 4
+    label "True"
+  ]
+  edge [
+    id 3
+    source 4
+    target 5
+    label ""
+  ]
+  edge [
+    id 4
+    source 3
+    target 5
+    label "False"
+  ]
+  edge [
+    id 5
+    source 5
+    target 6
+    label ""
+  ]
+  edge [
+    id 6
+    source 7
+    target 8
+    label ""
+  ]
+  edge [
+    id 7
+    source 9
+    target 10
+    label ""
+  ]
+  edge [
+    id 8
+    source 10
+    target 11
+    label ""
+  ]
+  edge [
+    id 9
+    source 11
+    target 12
+    label "False"
+  ]
+  edge [
+    id 10
+    source 11
+    target 13
+    label "True"
+  ]
+  edge [
+    id 11
+    source 13
+    target 14
+    label "True"
+  ]
+  edge [
+    id 12
+    source 13
+    target 15
+    label "False"
+  ]
+  edge [
+    id 13
+    source 15
+    target 11
+    label ""
+  ]
+  edge [
+    id 14
+    source 12
+    target 16
+    label ""
+  ]
+  edge [
+    id 15
+    source 17
+    target 18
+    label ""
+  ]
+  edge [
+    id 16
+    source 18
+    target 19
+    label ""
+  ]
+  edge [
+    id 17
+    source 19
+    target 21
+    label "False"
+  ]
+  edge [
+    id 18
+    source 19
+    target 22
+    label "True"
+  ]
+  edge [
+    id 19
+    source 22
+    target 23
+    label "True"
+  ]
+  edge [
+    id 20
+    source 23
+    target 24
+    label ""
+  ]
+  edge [
+    id 21
+    source 22
+    target 25
+    label "False"
+  ]
+  edge [
+    id 22
+    source 25
+    target 20
+    label ""
+  ]
+  edge [
+    id 23
+    source 24
+    target 26
+    label ""
+  ]
+  edge [
+    id 24
+    source 26
+    target 20
+    label ""
+  ]
+  edge [
+    id 25
+    source 20
+    target 19
+    label ""
+  ]
+  edge [
+    id 26
+    source 27
+    target 28
+    label ""
+  ]
+  edge [
+    id 27
+    source 28
+    target 29
+    label ""
+  ]
+  edge [
+    id 28
+    source 29
+    target 32
+    label ""
+  ]
+  edge [
+    id 29
+    source 32
+    target 33
+    label "True"
+  ]
+  edge [
+    id 30
+    source 33
+    target 34
+    label ""
+  ]
+  edge [
+    id 31
+    source 34
+    target 31
+    label ""
+  ]
+  edge [
+    id 32
+    source 32
+    target 35
+    label "False"
+  ]
+  edge [
+    id 33
+    source 35
+    target 36
+    label ""
+  ]
+  edge [
+    id 34
+    source 36
+    target 30
+    label ""
+  ]
+  edge [
+    id 35
+    source 30
+    target 29
+    label "True"
+  ]
+  edge [
+    id 36
+    source 30
+    target 31
+    label "False"
+  ]
+  edge [
+    id 37
+    source 37
+    target 38
+    label ""
+  ]
+  edge [
+    id 38
+    source 38
+    target 39
+    label ""
+  ]
+  edge [
+    id 39
+    source 39
+    target 40
+    label "True"
+  ]
+  edge [
+    id 40
+    source 40
+    target 41
+    label ""
+  ]
+  edge [
+    id 41
+    source 41
+    target 42
+    label ""
+  ]
+  edge [
+    id 42
+    source 42
+    target 43
+    label ""
+  ]
+  edge [
+    id 43
+    source 43
+    target 44
+    label ""
+  ]
+  edge [
+    id 44
+    source 44
+    target 45
+    label ""
+  ]
+  edge [
+    id 45
+    source 45
+    target 46
+    label ""
+  ]
+  edge [
+    id 46
+    source 39
+    target 47
+    label "False"
+  ]
+  edge [
+    id 47
+    source 47
+    target 48
+    label ""
+  ]
+  edge [
+    id 48
+    source 48
+    target 49
+    label ""
+  ]
+  edge [
+    id 49
+    source 49
+    target 50
+    label ""
+  ]
+  edge [
+    id 50
+    source 50
+    target 46
+    label ""
+  ]
+  edge [
+    id 51
+    source 51
+    target 52
+    label ""
+  ]
+  edge [
+    id 52
+    source 52
+    target 53
+    label ""
+  ]
+  edge [
+    id 53
+    source 53
+    target 54
+    label "False"
+  ]
+  edge [
+    id 54
+    source 53
+    target 55
+    label "True"
+  ]
+  edge [
+    id 55
+    source 55
+    target 56
+    label ""
+  ]
+  edge [
+    id 56
+    source 56
+    target 57
+    label ""
+  ]
+  edge [
+    id 57
+    source 57
+    target 58
+    label "True"
+  ]
+  edge [
+    id 58
+    source 58
+    target 54
+    label ""
+  ]
+  edge [
+    id 59
+    source 57
+    target 59
+    label "False"
+  ]
+  edge [
+    id 60
+    source 59
+    target 60
+    label ""
+  ]
+  edge [
+    id 61
+    source 60
+    target 61
+    label "True"
+  ]
+  edge [
+    id 62
+    source 61
+    target 53
+    label ""
+  ]
+  edge [
+    id 63
+    source 60
+    target 62
+    label "False"
+  ]
+  edge [
+    id 64
+    source 62
+    target 63
+    label ""
+  ]
+  edge [
+    id 65
+    source 63
+    target 53
+    label ""
+  ]
+  edge [
+    id 66
+    source 64
+    target 65
+    label ""
+  ]
+  edge [
+    id 67
+    source 65
+    target 66
+    label ""
+  ]
+  edge [
+    id 68
+    source 66
+    target 67
+    label ""
+  ]
+  edge [
+    id 69
+    source 67
+    target 68
+    label "False"
+  ]
+  edge [
+    id 70
+    source 67
+    target 69
+    label "True"
+  ]
+  edge [
+    id 71
+    source 69
+    target 70
+    label ""
+  ]
+  edge [
+    id 72
+    source 70
+    target 71
+    label ""
+  ]
+  edge [
+    id 73
+    source 71
+    target 72
+    label "False"
+  ]
+  edge [
+    id 74
+    source 71
+    target 73
+    label "True"
+  ]
+  edge [
+    id 75
+    source 73
+    target 74
+    label ""
+  ]
+  edge [
+    id 76
+    source 74
+    target 75
+    label ""
+  ]
+  edge [
+    id 77
+    source 75
+    target 76
+    label "True"
+  ]
+  edge [
+    id 78
+    source 76
+    target 77
+    label ""
+  ]
+  edge [
+    id 79
+    source 77
+    target 78
+    label ""
+  ]
+  edge [
+    id 80
+    source 78
+    target 79
+    label "True"
+  ]
+  edge [
+    id 81
+    source 79
+    target 80
+    label ""
+  ]
+  edge [
+    id 82
+    source 78
+    target 81
+    label "False"
+  ]
+  edge [
+    id 83
+    source 81
+    target 72
+    label ""
+  ]
+  edge [
+    id 84
+    source 80
+    target 82
+    label ""
+  ]
+  edge [
+    id 85
+    source 75
+    target 83
+    label "False"
+  ]
+  edge [
+    id 86
+    source 83
+    target 71
+    label ""
+  ]
+  edge [
+    id 87
+    source 82
+    target 84
+    label ""
+  ]
+  edge [
+    id 88
+    source 84
+    target 85
+    label ""
+  ]
+  edge [
+    id 89
+    source 85
+    target 86
+    label ""
+  ]
+  edge [
+    id 90
+    source 86
+    target 87
+    label "True"
+  ]
+  edge [
+    id 91
+    source 87
+    target 72
+    label ""
+  ]
+  edge [
+    id 92
+    source 86
+    target 88
+    label "False"
+  ]
+  edge [
+    id 93
+    source 88
+    target 89
+    label ""
+  ]
+  edge [
+    id 94
+    source 89
+    target 90
+    label ""
+  ]
+  edge [
+    id 95
+    source 90
+    target 71
+    label ""
+  ]
+  edge [
+    id 96
+    source 72
+    target 91
+    label ""
+  ]
+  edge [
+    id 97
+    source 91
+    target 92
+    label "True"
+  ]
+  edge [
+    id 98
+    source 92
+    target 93
+    label ""
+  ]
+  edge [
+    id 99
+    source 91
+    target 93
+    label "False"
+  ]
+  edge [
+    id 100
+    source 93
+    target 94
+    label ""
+  ]
+  edge [
+    id 101
+    source 94
+    target 67
+    label ""
+  ]
+  edge [
+    id 102
+    source 68
+    target 95
+    label ""
+  ]
+  edge [
+    id 103
+    source 96
+    target 97
+    label ""
+  ]
+  edge [
+    id 104
+    source 97
+    target 98
+    label ""
+  ]
+  edge [
+    id 105
+    source 98
+    target 99
+    label ""
+  ]
+  edge [
+    id 106
+    source 99
+    target 100
+    label ""
+  ]
+  edge [
+    id 107
+    source 100
+    target 101
+    label ""
+  ]
+  edge [
+    id 108
+    source 101
+    target 102
+    label ""
+  ]
+  edge [
+    id 109
+    source 102
+    target 103
+    label ""
+  ]
+  edge [
+    id 110
+    source 103
+    target 104
+    label ""
+  ]
+  edge [
+    id 111
+    source 104
+    target 105
+    label ""
+  ]
+]
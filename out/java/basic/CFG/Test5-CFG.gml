@@ -0,0 +1,754 @@
+graph [
+  directed 1
+  multigraph 1
+  label "CFG of Test5.java"
+  type "Control Flow Graph (CFG)"
+  file "Test5.java"
+  package ""
+
+  node [
+    id 0
+    line 10
+    label "void test1()"
+  ]
+  node [
+    id 1
+    line 11
+    label "File file = new File('file.log')"
+  ]
+  node [
+    id 2
+    line 12
+    label "try"
+  ]
+  node [
+    id 3
+    line 0
+    label "end-try"
+  ]
+  node [
+    id 4
+    line 13
+    label "FileInputStream fis = new FileInputStream(file)"
+  ]
+  node [
+    id 5
+    line 14
+    label "byte[] buffer = new byte[256]"
+  ]
+  node [
+    id 6
+    line 15
+    label "int read = fis.read(buffer)"
+  ]
+  node [
+    id 7
+    line 16
+    label "System.out.println(read + ' bytes read.')"
+  ]
+  node [
+    id 8
+    line 17
+    label "System.out.println(Arrays.toString(Arrays.copyOf(buffer, read)))"
+  ]
+  node [
+    id 9
+    line 22
+    label "finally"
+  ]
+  node [
+    id 10
+    line 23
+    label "System.out.println('finally')"
+  ]
+  node [
+    id 11
+    line 0
+    label "end-finally"
+  ]
+  node [
+    id 12
+    line 0
+    label "end-catch"
+  ]
+  node [
+    id 13
+    line 18
+    label "catch (FileNotFoundException ex)"
+  ]
+  node [
+    id 14
+    line 19
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 15
+    line 20
+    label "catch (IOException ex)"
+  ]
+  node [
+    id 16
+    line 21
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 17
+    line 28
+    label "void test2()"
+  ]
+  node [
+    id 18
+    line 29
+    label "try"
+  ]
+  node [
+    id 19
+    line 0
+    label "end-try"
+  ]
+  node [
+    id 20
+    line 30
+    label "File file = new File('file.log')"
+  ]
+  node [
+    id 21
+    line 31
+    label "if (file.exists())"
+  ]
+  node [
+    id 22
+    line 32
+    label "System.out.println('Permissions for 'file.log':')"
+  ]
+  node [
+    id 23
+    line 33
+    label "System.out.println('  Read = ' + file.canRead())"
+  ]
+  node [
+    id 24
+    line 34
+    label "System.out.println('  Write = ' + file.canWrite())"
+  ]
+  node [
+    id 25
+    line 35
+    label "System.out.println('  Execute = ' + file.canExecute())"
+  ]
+  node [
+    id 26
+    line 0
+    label "endif"
+  ]
+  node [
+    id 27
+    line 37
+    label "System.out.println(''file.log' does not exist!')"
+  ]
+  node [
+    id 28
+    line 39
+    label "finally"
+  ]
+  node [
+    id 29
+    line 40
+    label "System.out.println('finally')"
+  ]
+  node [
+    id 30
+    line 0
+    label "end-finally"
+  ]
+  node [
+    id 31
+    line 45
+    label "void test3()"
+  ]
+  node [
+    id 32
+    line 46
+    label "int i = 10"
+  ]
+  node [
+    id 33
+    line 47
+    label "try"
+  ]
+  node [
+    id 34
+    line 0
+    label "end-try"
+  ]
+  node [
+    id 35
+    line 48
+    label "while (true)"
+  ]
+  node [
+    id 36
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 37
+    line 49
+    label "System.out.println(10 / i)"
+  ]
+  node [
+    id 38
+    line 50
+    label "--i"
+  ]
+  node [
+    id 39
+    line 0
+    label "end-catch"
+  ]
+  node [
+    id 40
+    line 52
+    label "catch (ArithmeticException ex)"
+  ]
+  node [
+    id 41
+    line 53
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 42
+    line 55
+    label "System.out.println('i = ' + i)"
+  ]
+  node [
+    id 43
+    line 59
+    label "void test4(int i)"
+  ]
+  node [
+    id 44
+    line 60
+    label "try"
+  ]
+  node [
+    id 45
+    line 0
+    label "end-try"
+  ]
+  node [
+    id 46
+    line 61
+    label "if (i > 0)"
+  ]
+  node [
+    id 47
+    line 62
+    label "System.out.println('Positive')"
+  ]
+  node [
+    id 48
+    line 0
+    label "endif"
+  ]
+  node [
+    id 49
+    line 64
+    label "if (i == 0)"
+  ]
+  node [
+    id 50
+    line 65
+    label "throw new Exception('ZERO! [ A Pointless Exception! ]')"
+  ]
+  node [
+    id 51
+    line 0
+    label "endif"
+  ]
+  node [
+    id 52
+    line 66
+    label "System.out.println('Negative')"
+  ]
+  node [
+    id 53
+    line 0
+    label "end-catch"
+  ]
+  node [
+    id 54
+    line 68
+    label "catch (Exception ex)"
+  ]
+  node [
+    id 55
+    line 69
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 56
+    line 71
+    label "System.out.println('Finish')"
+  ]
+  node [
+    id 57
+    line 75
+    label "void main(String[] args)"
+  ]
+  node [
+    id 58
+    line 76
+    label "System.out.println('test-1:')"
+  ]
+  node [
+    id 59
+    line 77
+    label "test1()"
+  ]
+  node [
+    id 60
+    line 78
+    label "System.out.println('\\ntest-2:')"
+  ]
+  node [
+    id 61
+    line 79
+    label "test2()"
+  ]
+  node [
+    id 62
+    line 80
+    label "System.out.println('\\ntest-3:')"
+  ]
+  node [
+    id 63
+    line 81
+    label "test3()"
+  ]
+  node [
+    id 64
+    line 82
+    label "System.out.println('\\ntest-4:')"
+  ]
+  node [
+    id 65
+    line 83
+    label "test4(0)"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 2
+    target 4
+    label ""
+  ]
+  edge [
+    id 3
+    source 4
+    target 5
+    label ""
+  ]
+  edge [
+    id 4
+    source 5
+    target 6
+    label ""
+  ]
+  edge [
+    id 5
+    source 6
+    target 7
+    label ""
+  ]
+  edge [
+    id 6
+    source 7
+    target 8
+    label ""
+  ]
+  edge [
+    id 7
+    source 8
+    target 3
+    label ""
+  ]
+  edge [
+    id 8
+    source 3
+    target 9
+    label ""
+  ]
+  edge [
+    id 9
+    source 9
+    target 10
+    label ""
+  ]
+  edge [
+    id 10
+    source 10
+    target 11
+    label ""
+  ]
+  edge [
+    id 11
+    source 3
+    target 13
+    label "Throws"
+  ]
+  edge [
+    id 12
+    source 13
+    target 14
+    label ""
+  ]
+  edge [
+    id 13
+    source 14
+    target 12
+    label ""
+  ]
+  edge [
+    id 14
+    source 3
+    target 15
+    label "Throws"
+  ]
+  edge [
+    id 15
+    source 15
+    target 16
+    label ""
+  ]
+  edge [
+    id 16
+    source 16
+    target 12
+    label ""
+  ]
+  edge [
+    id 17
+    source 12
+    target 9
+    label ""
+  ]
+  edge [
+    id 18
+    source 17
+    target 18
+    label ""
+  ]
+  edge [
+    id 19
+    source 18
+    target 20
+    label ""
+  ]
+  edge [
+    id 20
+    source 20
+    target 21
+    label ""
+  ]
+  edge [
+    id 21
+    source 21
+    target 22
+    label "True"
+  ]
+  edge [
+    id 22
+    source 22
+    target 23
+    label ""
+  ]
+  edge [
+    id 23
+    source 23
+    target 24
+    label ""
+  ]
+  edge [
+    id 24
+    source 24
+    target 25
+    label ""
+  ]
+  edge [
+    id 25
+    source 25
+    target 26
+    label ""
+  ]
+  edge [
+    id 26
+    source 21
+    target 27
+    label "False"
+  ]
+  edge [
+    id 27
+    source 27
+    target 26
+    label ""
+  ]
+  edge [
+    id 28
+    source 26
+    target 19
+    label ""
+  ]
+  edge [
+    id 29
+    source 19
+    target 28
+    label ""
+  ]
+  edge [
+    id 30
+    source 28
+    target 29
+    label ""
+  ]
+  edge [
+    id 31
+    source 29
+    target 30
+    label ""
+  ]
+  edge [
+    id 32
+    source 31
+    target 32
+    label ""
+  ]
+  edge [
+    id 33
+    source 32
+    target 33
+    label ""
+  ]
+  edge [
+    id 34
+    source 33
+    target 35
+    label ""
+  ]
+  edge [
+    id 35
+    source 35
+    target 36
+    label "False"
+  ]
+  edge [
+    id 36
+    source 35
+    target 37
+    label "True"
+  ]
+  edge [
+    id 37
+    source 37
+    target 38
+    label ""
+  ]
+  edge [
+    id 38
+    source 38
+    target 35
+    label ""
+  ]
+  edge [
+    id 39
+    source 36
+    target 34
+    label ""
+  ]
+  edge [
+    id 40
+    source 34
+    target 40
+    label "Throws"
+  ]
+  edge [
+    id 41
+    source 40
+    target 41
+    label ""
+  ]
+  edge [
+    id 42
+    source 41
+    target 39
+    label ""
+  ]
+  edge [
+    id 43
+    source 39
+    target 34
+    label ""
+  ]
+  edge [
+    id 44
+    source 34
+    target 42
+    label ""
+  ]
+  edge [
+    id 45
+    source 43
+    target 44
+    label ""
+  ]
+  edge [
+    id 46
+    source 44
+    target 46
+    label ""
+  ]
+  edge [
+    id 47
+    source 46
+    target 47
+    label "True"
+  ]
+  edge [
+    id 48
+    source 47
+    target 48
+    label ""
+  ]
+  edge [
+    id 49
+    source 46
+    target 49
+    label "False"
+  ]
+  edge [
+    id 50
+    source 49
+    target 50
+    label "True"
+  ]
+  edge [
+    id 51
+    source 50
+    target 45
+    label "Throws"
+  ]
+  edge [
+    id 52
+    source 49
+    target 51
+    label "False"
+  ]
+  edge [
+    id 53
+    source 51
+    target 52
+    label ""
+  ]
+  edge [
+    id 54
+    source 52
+    target 48
+    label ""
+  ]
+  edge [
+    id 55
+    source 48
+    target 45
+    label ""
+  ]
+  edge [
+    id 56
+    source 45
+    target 54
+    label "Throws"
+  ]
+  edge [
+    id 57
+    source 54
+    target 55
+    label ""
+  ]
+  edge [
+    id 58
+    source 55
+    target 53
+    label ""
+  ]
+  edge [
+    id 59
+    source 53
+    target 45
+    label ""
+  ]
+  edge [
+    id 60
+    source 45
+    target 56
+    label ""
+  ]
+  edge [
+    id 61
+    source 57
+    target 58
+    label ""
+  ]
+  edge [
+    id 62
+    source 58
+    target 59
+    label ""
+  ]
+  edge [
+    id 63
+    source 59
+    target 60
+    label ""
+  ]
+  edge [
+    id 64
+    source 60
+    target 61
+    label ""
+  ]
+  edge [
+    id 65
+    source 61
+    target 62
+    label ""
+  ]
+  edge [
+    id 66
+    source 62
+    target 63
+    label ""
+  ]
+  edge [
+    id 67
+    source 63
+    target 64
+    label ""
+  ]
+  edge [
+    id 68
+    source 64
+    target 65
+    label ""
+  ]
+]
@@ -0,0 +1,458 @@
+graph [
+  directed 1
+  multigraph 1
+  label "CFG of Test6.java"
+  type "Control Flow Graph (CFG)"
+  file "Test6.java"
+  package ""
+
+  node [
+    id 0
+    line 4
+    label "void test()"
+  ]
+  node [
+    id 1
+    line 5
+    label "int x = 0"
+  ]
+  node [
+    id 2
+    line 6
+    label "boolean p1 = true"
+  ]
+  node [
+    id 3
+    line 7
+    label "while (p1)"
+  ]
+  node [
+    id 4
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 5
+    line 8
+    label "x *= 2"
+  ]
+  node [
+    id 6
+    line 9
+    label "x -= 10"
+  ]
+  node [
+    id 7
+    line 10
+    label "if (x > 10)"
+  ]
+  node [
+    id 8
+    line 11
+    label "x += 8"
+  ]
+  node [
+    id 9
+    line 12
+    label "x /= 3"
+  ]
+  node [
+    id 10
+    line 13
+    label "if (x > 0)"
+  ]
+  node [
+    id 11
+    line 14
+    label "x -= 2"
+  ]
+  node [
+    id 12
+    line 0
+    label "endif"
+  ]
+  node [
+    id 13
+    line 16
+    label "break;"
+  ]
+  node [
+    id 14
+    line 0
+    label "endif"
+  ]
+  node [
+    id 15
+    line 18
+    label "continue;"
+  ]
+  node [
+    id 16
+    line 19
+    label "x--"
+  ]
+  node [
+    id 17
+    line 20
+    label "System.out.println(x)"
+  ]
+  node [
+    id 18
+    line 21
+    label "if (x > 20)"
+  ]
+  node [
+    id 19
+    line 22
+    label "break;"
+  ]
+  node [
+    id 20
+    line 0
+    label "endif"
+  ]
+  node [
+    id 21
+    line 23
+    label "--x"
+  ]
+  node [
+    id 22
+    line 24
+    label "p1 = x > 7 ? true : false"
+  ]
+  node [
+    id 23
+    line 28
+    label "void main(String[] args)"
+  ]
+  node [
+    id 24
+    line 29
+    label "int x = 120"
+  ]
+  node [
+    id 25
+    line 30
+    label "while (true)"
+  ]
+  node [
+    id 26
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 27
+    line 31
+    label "if (x > 100)"
+  ]
+  node [
+    id 28
+    line 32
+    label "x -= 10"
+  ]
+  node [
+    id 29
+    line 33
+    label "continue;"
+  ]
+  node [
+    id 30
+    line 0
+    label "endif"
+  ]
+  node [
+    id 31
+    line 35
+    label "if (x < 10)"
+  ]
+  node [
+    id 32
+    line 36
+    label "break;"
+  ]
+  node [
+    id 33
+    line 0
+    label "endif"
+  ]
+  node [
+    id 34
+    line 38
+    label "x -= 5"
+  ]
+  node [
+    id 35
+    line 40
+    label "System.out.println(x)"
+  ]
+  node [
+    id 36
+    line 43
+    label "Test6 tst = new Test6()"
+  ]
+  node [
+    id 37
+    line 44
+    label "tst.test()"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 2
+    target 3
+    label ""
+  ]
+  edge [
+    id 3
+    source 3
+    target 4
+    label "False"
+  ]
+  edge [
+    id 4
+    source 3
+    target 5
+    label "True"
+  ]
+  edge [
+    id 5
+    source 5
+    target 6
+    label ""
+  ]
+  edge [
+    id 6
+    source 6
+    target 7
+    label ""
+  ]
+  edge [
+    id 7
+    source 7
+    target 8
+    label "True"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label ""
+  ]
+  edge [
+    id 9
+    source 9
+    target 10
+    label ""
+  ]
+  edge [
+    id 10
+    source 10
+    target 11
+    label "True"
+  ]
+  edge [
+    id 11
+    source 11
+    target 12
+    label ""
+  ]
+  edge [
+    id 12
+    source 10
+    target 13
+    label "False"
+  ]
+  edge [
+    id 13
+    source 13
+    target 4
+    label ""
+  ]
+  edge [
+    id 14
+    source 12
+    target 14
+    label ""
+  ]
+  edge [
+    id 15
+    source 7
+    target 15
+    label "False"
+  ]
+  edge [
+    id 16
+    source 15
+    target 3
+    label ""
+  ]
+  edge [
+    id 17
+    source 14
+    target 16
+    label ""
+  ]
+  edge [
+    id 18
+    source 16
+    target 17
+    label ""
+  ]
+  edge [
+    id 19
+    source 17
+    target 18
+    label ""
+  ]
+  edge [
+    id 20
+    source 18
+    target 19
+    label "True"
+  ]
+  edge [
+    id 21
+    source 19
+    target 4
+    label ""
+  ]
+  edge [
+    id 22
+    source 18
+    target 20
+    label "False"
+  ]
+  edge [
+    id 23
+    source 20
+    target 21
+    label ""
+  ]
+  edge [
+    id 24
+    source 21
+    target 22
+    label ""
+  ]
+  edge [
+    id 25
+    source 22
+    target 3
+    label ""
+  ]
+  edge [
+    id 26
+    source 23
+    target 24
+    label ""
+  ]
+  edge [
+    id 27
+    source 24
+    target 25
+    label ""
+  ]
+  edge [
+    id 28
+    source 25
+    target 26
+    label "False"
+  ]
+  edge [
+    id 29
+    source 25
+    target 27
+    label "True"
+  ]
+  edge [
+    id 30
+    source 27
+    target 28
+    label "True"
+  ]
+  edge [
+    id 31
+    source 28
+    target 29
+    label ""
+  ]
+  edge [
+    id 32
+    source 29
+    target 25
+    label ""
+  ]
+  edge [
+    id 33
+    source 27
+    target 31
+    label "False"
+  ]
+  edge [
+    id 34
+    source 31
+    target 32
+    label "True"
+  ]
+  edge [
+    id 35
+    source 32
+    target 26
+    label ""
+  ]
+  edge [
+    id 36
+    source 31
+    target 34
+    label "False"
+  ]
+  edge [
+    id 37
+    source 34
+    target 33
+    label ""
+  ]
+  edge [
+    id 38
+    source 33
+    target 30
+    label ""
+  ]
+  edge [
+    id 39
+    source 30
+    target 35
+    label ""
+  ]
+  edge [
+    id 40
+    source 35
+    target 25
+    label ""
+  ]
+  edge [
+    id 41
+    source 26
+    target 36
+    label ""
+  ]
+  edge [
+    id 42
+    source 36
+    target 37
+    label ""
+  ]
+]
@@ -0,0 +1,466 @@
+graph [
+  directed 1
+  multigraph 1
+  label "CFG of Test7.java"
+  type "Control Flow Graph (CFG)"
+  file "Test7.java"
+  package ""
+
+  node [
+    id 0
+    line 7
+    label "Test7 ()"
+  ]
+  node [
+    id 1
+    line 8
+    label "str = ''"
+  ]
+  node [
+    id 2
+    line 9
+    label "integer = 0"
+  ]
+  node [
+    id 3
+    line 12
+    label "Test7 (String str, int sub)"
+  ]
+  node [
+    id 4
+    line 13
+    label "this.str = str.substring(sub)"
+  ]
+  node [
+    id 5
+    line 14
+    label "integer = 0"
+  ]
+  node [
+    id 6
+    line 17
+    label "String getSTR()"
+  ]
+  node [
+    id 7
+    line 18
+    label "return str;"
+  ]
+  node [
+    id 8
+    line 21
+    label "void setInteger(int i)"
+  ]
+  node [
+    id 9
+    line 22
+    label "integer = i"
+  ]
+  node [
+    id 10
+    line 25
+    label "int getInteger()"
+  ]
+  node [
+    id 11
+    line 26
+    label "return integer;"
+  ]
+  node [
+    id 12
+    line 29
+    label "void setSTR(String str)"
+  ]
+  node [
+    id 13
+    line 30
+    label "this.str = str"
+  ]
+  node [
+    id 14
+    line 33
+    label "void method1()"
+  ]
+  node [
+    id 15
+    line 34
+    label "int len = str.length()"
+  ]
+  node [
+    id 16
+    line 35
+    label "System.out.println('STR length is ' + len)"
+  ]
+  node [
+    id 17
+    line 38
+    label "String addSTR(String str)"
+  ]
+  node [
+    id 18
+    line 39
+    label "return this.str + str;"
+  ]
+  node [
+    id 19
+    line 42
+    label "void simple()"
+  ]
+  node [
+    id 20
+    line 43
+    label "int i = 1, j"
+  ]
+  node [
+    id 21
+    line 44
+    label "i++"
+  ]
+  node [
+    id 22
+    line 45
+    label "System.out.println(i)"
+  ]
+  node [
+    id 23
+    line 46
+    label "j = i + 3"
+  ]
+  node [
+    id 24
+    line 47
+    label "System.out.println(j)"
+  ]
+  node [
+    id 25
+    line 50
+    label "void main(String[] args)"
+  ]
+  node [
+    id 26
+    line 51
+    label "int idx = 4"
+  ]
+  node [
+    id 27
+    line 52
+    label "Test7 t = new Test7()"
+  ]
+  node [
+    id 28
+    line 53
+    label "t.method1()"
+  ]
+  node [
+    id 29
+    line 54
+    label "String str = 'some-string'"
+  ]
+  node [
+    id 30
+    line 55
+    label "t.setSTR(t.addSTR(str).concat(str))"
+  ]
+  node [
+    id 31
+    line 56
+    label "System.out.println(t.getSTR())"
+  ]
+  node [
+    id 32
+    line 57
+    label "System.out.println(t.getSTR().charAt(idx += 2))"
+  ]
+  node [
+    id 33
+    line 58
+    label "t = new Test7(str.concat('-plus-more'), idx)"
+  ]
+  node [
+    id 34
+    line 59
+    label "new Test7('This is a string', 10).getSTR()"
+  ]
+  node [
+    id 35
+    line 60
+    label "simple()"
+  ]
+  node [
+    id 36
+    line 61
+    label "t.sideEffect()"
+  ]
+  node [
+    id 37
+    line 62
+    label "System.out.println('t.integer = ' + t.getInteger())"
+  ]
+  node [
+    id 38
+    line 63
+    label "StringBuilder val = new StringBuilder('10')"
+  ]
+  node [
+    id 39
+    line 64
+    label "System.out.println('val = ' + val)"
+  ]
+  node [
+    id 40
+    line 65
+    label "t.doubleSideEffect(val)"
+  ]
+  node [
+    id 41
+    line 66
+    label "System.out.println('val = ' + val)"
+  ]
+  node [
+    id 42
+    line 67
+    label "System.out.println('t.integer = ' + t.getInteger())"
+  ]
+  node [
+    id 43
+    line 70
+    label "void sideEffect()"
+  ]
+  node [
+    id 44
+    line 71
+    label "integer++"
+  ]
+  node [
+    id 45
+    line 74
+    label "void doubleSideEffect(StringBuilder intStr)"
+  ]
+  node [
+    id 46
+    line 75
+    label "intStr.append(0)"
+  ]
+  node [
+    id 47
+    line 76
+    label "integer = Integer.parseInt(intStr.toString())"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 3
+    target 4
+    label ""
+  ]
+  edge [
+    id 3
+    source 4
+    target 5
+    label ""
+  ]
+  edge [
+    id 4
+    source 6
+    target 7
+    label ""
+  ]
+  edge [
+    id 5
+    source 8
+    target 9
+    label ""
+  ]
+  edge [
+    id 6
+    source 10
+    target 11
+    label ""
+  ]
+  edge [
+    id 7
+    source 12
+    target 13
+    label ""
+  ]
+  edge [
+    id 8
+    source 14
+    target 15
+    label ""
+  ]
+  edge [
+    id 9
+    source 15
+    target 16
+    label ""
+  ]
+  edge [
+    id 10
+    source 17
+    target 18
+    label ""
+  ]
+  edge [
+    id 11
+    source 19
+    target 20
+    label ""
+  ]
+  edge [
+    id 12
+    source 20
+    target 21
+    label ""
+  ]
+  edge [
+    id 13
+    source 21
+    target 22
+    label ""
+  ]
+  edge [
+    id 14
+    source 22
+    target 23
+    label ""
+  ]
+  edge [
+    id 15
+    source 23
+    target 24
+    label ""
+  ]
+  edge [
+    id 16
+    source 25
+    target 26
+    label ""
+  ]
+  edge [
+    id 17
+    source 26
+    target 27
+    label ""
+  ]
+  edge [
+    id 18
+    source 27
+    target 28
+    label ""
+  ]
+  edge [
+    id 19
+    source 28
+    target 29
+    label ""
+  ]
+  edge [
+    id 20
+    source 29
+    target 30
+    label ""
+  ]
+  edge [
+    id 21
+    source 30
+    target 31
+    label ""
+  ]
+  edge [
+    id 22
+    source 31
+    target 32
+    label ""
+  ]
+  edge [
+    id 23
+    source 32
+    target 33
+    label ""
+  ]
+  edge [
+    id 24
+    source 33
+    target 34
+    label ""
+  ]
+  edge [
+    id 25
+    source 34
+    target 35
+    label ""
+  ]
+  edge [
+    id 26
+    source 35
+    target 36
+    label ""
+  ]
+  edge [
+    id 27
+    source 36
+    target 37
+    label ""
+  ]
+  edge [
+    id 28
+    source 37
+    target 38
+    label ""
+  ]
+  edge [
+    id 29
+    source 38
+    target 39
+    label ""
+  ]
+  edge [
+    id 30
+    source 39
+    target 40
+    label ""
+  ]
+  edge [
+    id 31
+    source 40
+    target 41
+    label ""
+  ]
+  edge [
+    id 32
+    source 41
+    target 42
+    label ""
+  ]
+  edge [
+    id 33
+    source 43
+    target 44
+    label ""
+  ]
+  edge [
+    id 34
+    source 45
+    target 46
+    label ""
+  ]
+  edge [
+    id 35
+    source 46
+    target 47
+    label ""
+  ]
+]
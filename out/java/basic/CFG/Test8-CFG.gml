@@ -0,0 +1,613 @@
+graph [
+  directed 1
+  multigraph 1
+  label "CFG of Test8.java"
+  type "Control Flow Graph (CFG)"
+  file "Test8.java"
+  package ""
+
+  node [
+    id 0
+    line 10
+    label "void run(int x)"
+  ]
+  node [
+    id 1
+    line 12
+    label "boolean isPrime = false"
+  ]
+  node [
+    id 2
+    line 13
+    label "int[] primes = {2, 3, 5, 7, 11, 13, 17, 19}"
+  ]
+  node [
+    id 3
+    line 14
+    label "for (int p: primes)"
+  ]
+  node [
+    id 4
+    line 0
+    label "endfor"
+  ]
+  node [
+    id 5
+    line 15
+    label "if (x == p)"
+  ]
+  node [
+    id 6
+    line 16
+    label "isPrime = true"
+  ]
+  node [
+    id 7
+    line 0
+    label "endif"
+  ]
+  node [
+    id 8
+    line 18
+    label "System.out.println(x + (isPrime ? ' is prime' : ' is not prime'))"
+  ]
+  node [
+    id 9
+    line 21
+    label "File file = new File('manifest.mf')"
+  ]
+  node [
+    id 10
+    line 22
+    label "FileInputStream fis = null"
+  ]
+  node [
+    id 11
+    line 23
+    label "try"
+  ]
+  node [
+    id 12
+    line 0
+    label "end-try"
+  ]
+  node [
+    id 13
+    line 24
+    label "fis = new FileInputStream(file)"
+  ]
+  node [
+    id 14
+    line 25
+    label "byte[] buffer = new byte[x]"
+  ]
+  node [
+    id 15
+    line 26
+    label "int read = fis.read(buffer)"
+  ]
+  node [
+    id 16
+    line 27
+    label "System.out.println(read + ' bytes read.')"
+  ]
+  node [
+    id 17
+    line 28
+    label "System.out.println(Arrays.toString(Arrays.copyOf(buffer, read)))"
+  ]
+  node [
+    id 18
+    line 33
+    label "finally"
+  ]
+  node [
+    id 19
+    line 34
+    label "try"
+  ]
+  node [
+    id 20
+    line 0
+    label "end-try"
+  ]
+  node [
+    id 21
+    line 35
+    label "if (fis != null)"
+  ]
+  node [
+    id 22
+    line 36
+    label "fis.close()"
+  ]
+  node [
+    id 23
+    line 0
+    label "endif"
+  ]
+  node [
+    id 24
+    line 0
+    label "end-catch"
+  ]
+  node [
+    id 25
+    line 37
+    label "catch (IOException ex)"
+  ]
+  node [
+    id 26
+    line 38
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 27
+    line 0
+    label "end-finally"
+  ]
+  node [
+    id 28
+    line 0
+    label "end-catch"
+  ]
+  node [
+    id 29
+    line 29
+    label "catch (FileNotFoundException ex)"
+  ]
+  node [
+    id 30
+    line 30
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 31
+    line 31
+    label "catch (IOException ex)"
+  ]
+  node [
+    id 32
+    line 32
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 33
+    line 43
+    label "file = new File('build.xml')"
+  ]
+  node [
+    id 34
+    line 44
+    label "try"
+  ]
+  node [
+    id 35
+    line 44
+    label "FileInputStream fism = new FileInputStream(file)"
+  ]
+  node [
+    id 36
+    line 0
+    label "end-try"
+  ]
+  node [
+    id 37
+    line 45
+    label "byte[] buffer = new byte[2 * x]"
+  ]
+  node [
+    id 38
+    line 46
+    label "int read = fism.read(buffer)"
+  ]
+  node [
+    id 39
+    line 47
+    label "System.out.println(read + ' bytes read.')"
+  ]
+  node [
+    id 40
+    line 48
+    label "System.out.println(Arrays.toString(Arrays.copyOf(buffer, read)))"
+  ]
+  node [
+    id 41
+    line 0
+    label "end-catch"
+  ]
+  node [
+    id 42
+    line 49
+    label "catch (FileNotFoundException ex)"
+  ]
+  node [
+    id 43
+    line 50
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 44
+    line 51
+    label "catch (IOException ex)"
+  ]
+  node [
+    id 45
+    line 52
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 46
+    line 57
+    label "void main(String[] args)"
+  ]
+  node [
+    id 47
+    line 58
+    label "if (args.length > 0)"
+  ]
+  node [
+    id 48
+    line 59
+    label "Test8.run(Integer.parseInt(args[0]))"
+  ]
+  node [
+    id 49
+    line 0
+    label "endif"
+  ]
+  node [
+    id 50
+    line 61
+    label "System.out.println('Nothing to process!')"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 2
+    target 3
+    label ""
+  ]
+  edge [
+    id 3
+    source 3
+    target 4
+    label "False"
+  ]
+  edge [
+    id 4
+    source 3
+    target 5
+    label "True"
+  ]
+  edge [
+    id 5
+    source 5
+    target 6
+    label "True"
+  ]
+  edge [
+    id 6
+    source 6
+    target 7
+    label ""
+  ]
+  edge [
+    id 7
+    source 5
+    target 7
+    label "False"
+  ]
+  edge [
+    id 8
+    source 7
+    target 3
+    label ""
+  ]
+  edge [
+    id 9
+    source 4
+    target 8
+    label ""
+  ]
+  edge [
+    id 10
+    source 8
+    target 9
+    label ""
+  ]
+  edge [
+    id 11
+    source 9
+    target 10
+    label ""
+  ]
+  edge [
+    id 12
+    source 10
+    target 11
+    label ""
+  ]
+  edge [
+    id 13
+    source 11
+    target 13
+    label ""
+  ]
+  edge [
+    id 14
+    source 13
+    target 14
+    label ""
+  ]
+  edge [
+    id 15
+    source 14
+    target 15
+    label ""
+  ]
+  edge [
+    id 16
+    source 15
+    target 16
+    label ""
+  ]
+  edge [
+    id 17
+    source 16
+    target 17
+    label ""
+  ]
+  edge [
+    id 18
+    source 17
+    target 12
+    label ""
+  ]
+  edge [
+    id 19
+    source 12
+    target 18
+    label ""
+  ]
+  edge [
+    id 20
+    source 18
+    target 19
+    label ""
+  ]
+  edge [
+    id 21
+    source 19
+    target 21
+    label ""
+  ]
+  edge [
+    id 22
+    source 21
+    target 22
+    label "True"
+  ]
+  edge [
+    id 23
+    source 22
+    target 23
+    label ""
+  ]
+  edge [
+    id 24
+    source 21
+    target 23
+    label "False"
+  ]
+  edge [
+    id 25
+    source 23
+    target 20
+    label ""
+  ]
+  edge [
+    id 26
+    source 20
+    target 25
+    label "Throws"
+  ]
+  edge [
+    id 27
+    source 25
+    target 26
+    label ""
+  ]
+  edge [
+    id 28
+    source 26
+    target 24
+    label ""
+  ]
+  edge [
+    id 29
+    source 24
+    target 20
+    label ""
+  ]
+  edge [
+    id 30
+    source 20
+    target 27
+    label ""
+  ]
+  edge [
+    id 31
+    source 12
+    target 29
+    label "Throws"
+  ]
+  edge [
+    id 32
+    source 29
+    target 30
+    label ""
+  ]
+  edge [
+    id 33
+    source 30
+    target 28
+    label ""
+  ]
+  edge [
+    id 34
+    source 12
+    target 31
+    label "Throws"
+  ]
+  edge [
+    id 35
+    source 31
+    target 32
+    label ""
+  ]
+  edge [
+    id 36
+    source 32
+    target 28
+    label ""
+  ]
+  edge [
+    id 37
+    source 28
+    target 18
+    label ""
+  ]
+  edge [
+    id 38
+    source 27
+    target 33
+    label ""
+  ]
+  edge [
+    id 39
+    source 33
+    target 34
+    label ""
+  ]
+  edge [
+    id 40
+    source 34
+    target 35
+    label ""
+  ]
+  edge [
+    id 41
+    source 35
+    target 37
+    label ""
+  ]
+  edge [
+    id 42
+    source 37
+    target 38
+    label ""
+  ]
+  edge [
+    id 43
+    source 38
+    target 39
+    label ""
+  ]
+  edge [
+    id 44
+    source 39
+    target 40
+    label ""
+  ]
+  edge [
+    id 45
+    source 40
+    target 36
+    label ""
+  ]
+  edge [
+    id 46
+    source 36
+    target 42
+    label "Throws"
+  ]
+  edge [
+    id 47
+    source 42
+    target 43
+    label ""
+  ]
+  edge [
+    id 48
+    source 43
+    target 41
+    label ""
+  ]
+  edge [
+    id 49
+    source 36
+    target 44
+    label "Throws"
+  ]
+  edge [
+    id 50
+    source 44
+    target 45
+    label ""
+  ]
+  edge [
+    id 51
+    source 45
+    target 41
+    label ""
+  ]
+  edge [
+    id 52
+    source 41
+    target 36
+    label ""
+  ]
+  edge [
+    id 53
+    source 46
+    target 47
+    label ""
+  ]
+  edge [
+    id 54
+    source 47
+    target 48
+    label "True"
+  ]
+  edge [
+    id 55
+    source 48
+    target 49
+    label ""
+  ]
+  edge [
+    id 56
+    source 47
+    target 50
+    label "False"
+  ]
+  edge [
+    id 57
+    source 50
+    target 49
+    label ""
+  ]
+]
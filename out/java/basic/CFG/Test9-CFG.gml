@@ -0,0 +1,108 @@
+graph [
+  directed 1
+  multigraph 1
+  label "CFG of Test9.java"
+  type "Control Flow Graph (CFG)"
+  file "Test9.java"
+  package ""
+
+  node [
+    id 0
+    line 4
+    label "String test()"
+  ]
+  node [
+    id 1
+    line 5
+    label "StringBuilder str = new StringBuilder()"
+  ]
+  node [
+    id 2
+    line 6
+    label "str.append('hello').append('World')"
+  ]
+  node [
+    id 3
+    line 7
+    label "int x = 0"
+  ]
+  node [
+    id 4
+    line 8
+    label "if (x < 0)"
+  ]
+  node [
+    id 5
+    line 9
+    label "return '';"
+  ]
+  node [
+    id 6
+    line 0
+    label "endif"
+  ]
+  node [
+    id 7
+    line 10
+    label "return str.toString();"
+  ]
+  node [
+    id 8
+    line 13
+    label "void main(String [] args)"
+  ]
+  node [
+    id 9
+    line 14
+    label "System.out.println(test() + test())"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 2
+    target 3
+    label ""
+  ]
+  edge [
+    id 3
+    source 3
+    target 4
+    label ""
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label "True"
+  ]
+  edge [
+    id 5
+    source 4
+    target 6
+    label "False"
+  ]
+  edge [
+    id 6
+    source 6
+    target 7
+    label ""
+  ]
+  edge [
+    id 7
+    source 8
+    target 9
+    label ""
+  ]
+]
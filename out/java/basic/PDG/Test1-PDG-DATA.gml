@@ -0,0 +1,175 @@
+graph [
+  directed 1
+  multigraph 1
+  label "DDG of Test1.java"
+  type "Data Dependence Graph (DDG)"
+  file "Test1.java"
+
+  node [
+    id 0
+    line 4
+    label "void main(String[] args)"
+    defs [var "args"]
+    uses []
+  ]
+  node [
+    id 1
+    line 5
+    label "int i = 0"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 2
+    line 6
+    label "i++"
+    defs [var "i"]
+    uses [var "i"]
+  ]
+  node [
+    id 3
+    line 7
+    label "if (i > 0)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 4
+    line 8
+    label "System.out.println('Positive')"
+    defs []
+    uses []
+  ]
+  node [
+    id 5
+    line 9
+    label "i *= 2"
+    defs [var "i"]
+    uses [var "i"]
+  ]
+  node [
+    id 6
+    line 0
+    label "endif"
+  ]
+  node [
+    id 7
+    line 11
+    label "System.out.println('Non-positive')"
+    defs []
+    uses []
+  ]
+  node [
+    id 8
+    line 12
+    label "i *= -2"
+    defs [var "i"]
+    uses [var "i"]
+  ]
+  node [
+    id 9
+    line 14
+    label "System.out.println('End')"
+    defs []
+    uses []
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 2
+    source 2
+    target 3
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 3
+    source 3
+    target 4
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 5
+    source 5
+    target 6
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 6
+    source 3
+    target 7
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 7
+    source 7
+    target 8
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 8
+    source 8
+    target 6
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 9
+    source 6
+    target 9
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 10
+    source 1
+    target 2
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 11
+    source 2
+    target 3
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 12
+    source 2
+    target 5
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 13
+    source 2
+    target 8
+    type "Flows"
+    label "i"
+  ]
+]
@@ -0,0 +1,913 @@
+graph [
+  directed 1
+  label "CDG of Test2.java"
+  type "Control Dependence Graph (CDG)"
+  file "Test2.java"
+
+  node [
+    id 0
+    line 6
+    label "Test2 ()"
+  ]
+  node [
+    id 1
+    line 7
+    label "str = 'init'"
+  ]
+  node [
+    id 2
+    line 0
+    label "exit"
+  ]
+  node [
+    id 3
+    line 10
+    label "String getString()"
+  ]
+  node [
+    id 4
+    line 11
+    label "return str;"
+  ]
+  node [
+    id 5
+    line 0
+    label "exit"
+  ]
+  node [
+    id 6
+    line 14
+    label "void setString(String s)"
+  ]
+  node [
+    id 7
+    line 15
+    label "str = s"
+  ]
+  node [
+    id 8
+    line 0
+    label "exit"
+  ]
+  node [
+    id 9
+    line 18
+    label "void process(int x, int y)"
+  ]
+  node [
+    id 10
+    line 19
+    label "int res"
+  ]
+  node [
+    id 11
+    line 20
+    label "int i = 0"
+  ]
+  node [
+    id 12
+    line 21
+    label "int test = 0"
+  ]
+  node [
+    id 13
+    line 22
+    label "do"
+  ]
+  node [
+    id 14
+    line 23
+    label "do"
+  ]
+  node [
+    id 15
+    line 24
+    label "i = 0"
+  ]
+  node [
+    id 16
+    line 24
+    label "for (i <= 10)"
+  ]
+  node [
+    id 17
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 18
+    line 25
+    label "while (test == 0)"
+  ]
+  node [
+    id 19
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 20
+    line 26
+    label "if (test <= 10)"
+  ]
+  node [
+    id 21
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 22
+    line 27
+    label "test += 2"
+  ]
+  node [
+    id 23
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 24
+    line 29
+    label "if (test == 10)"
+  ]
+  node [
+    id 25
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 26
+    line 30
+    label "test++"
+  ]
+  node [
+    id 27
+    line 32
+    label "test += 3"
+  ]
+  node [
+    id 28
+    line 24
+    label "i++"
+  ]
+  node [
+    id 29
+    line 36
+    label "while (test < 10)"
+  ]
+  node [
+    id 30
+    line 37
+    label "i += 2"
+  ]
+  node [
+    id 31
+    line 38
+    label "while (i < 10)"
+  ]
+  node [
+    id 32
+    line 40
+    label "if (x > y)"
+  ]
+  node [
+    id 33
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 34
+    line 41
+    label "res = x - y"
+  ]
+  node [
+    id 35
+    line 42
+    label "System.out.println('x-y=' + res)"
+  ]
+  node [
+    id 36
+    line 43
+    label "res = x / y"
+  ]
+  node [
+    id 37
+    line 44
+    label "System.out.println('x/y=' + res)"
+  ]
+  node [
+    id 38
+    line 45
+    label "res = x % y"
+  ]
+  node [
+    id 39
+    line 46
+    label "System.out.println('x%y=' + res)"
+  ]
+  node [
+    id 40
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 41
+    line 48
+    label "if (x == y)"
+  ]
+  node [
+    id 42
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 43
+    line 49
+    label "System.out.println('x==y')"
+  ]
+  node [
+    id 44
+    line 50
+    label "while (test <= 10)"
+  ]
+  node [
+    id 45
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 46
+    line 51
+    label "test++"
+  ]
+  node [
+    id 47
+    line 52
+    label "if (test <= 5)"
+  ]
+  node [
+    id 48
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 49
+    line 53
+    label "System.out.println(test)"
+  ]
+  node [
+    id 50
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 51
+    line 57
+    label "res = x + y"
+  ]
+  node [
+    id 52
+    line 58
+    label "System.out.println('x+y=' + res)"
+  ]
+  node [
+    id 53
+    line 59
+    label "res = x * y"
+  ]
+  node [
+    id 54
+    line 60
+    label "System.out.println('x*y=' + res)"
+  ]
+  node [
+    id 55
+    line 61
+    label "i = 0"
+  ]
+  node [
+    id 56
+    line 61
+    label "for (i < 10)"
+  ]
+  node [
+    id 57
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 58
+    line 62
+    label "System.out.println(res)"
+  ]
+  node [
+    id 59
+    line 63
+    label "int j = 0"
+  ]
+  node [
+    id 60
+    line 64
+    label "while (j < 5)"
+  ]
+  node [
+    id 61
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 62
+    line 65
+    label "System.out.println(j)"
+  ]
+  node [
+    id 63
+    line 66
+    label "int k = 10"
+  ]
+  node [
+    id 64
+    line 66
+    label "for (k > 0)"
+  ]
+  node [
+    id 65
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 66
+    line 67
+    label "System.out.println(k)"
+  ]
+  node [
+    id 67
+    line 66
+    label "k--"
+  ]
+  node [
+    id 68
+    line 69
+    label "j++"
+  ]
+  node [
+    id 69
+    line 61
+    label "i++"
+  ]
+  node [
+    id 70
+    line 0
+    label "exit"
+  ]
+  node [
+    id 71
+    line 76
+    label "void main(String[] args)"
+  ]
+  node [
+    id 72
+    line 77
+    label "int i = 0"
+  ]
+  node [
+    id 73
+    line 78
+    label "i++"
+  ]
+  node [
+    id 74
+    line 79
+    label "if (i > 0)"
+  ]
+  node [
+    id 75
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 76
+    line 80
+    label "System.out.println('Positive')"
+  ]
+  node [
+    id 77
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 78
+    line 82
+    label "System.out.println('Non-positive')"
+  ]
+  node [
+    id 79
+    line 83
+    label "Test2 tst = new Test2()"
+  ]
+  node [
+    id 80
+    line 84
+    label "tst.setString(tst.getString())"
+  ]
+  node [
+    id 81
+    line 85
+    label "System.out.println(tst.getString())"
+  ]
+  node [
+    id 82
+    line 86
+    label "tst.process(10, i)"
+  ]
+  node [
+    id 83
+    line 87
+    label "System.out.println('End')"
+  ]
+  node [
+    id 84
+    line 0
+    label "exit"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 0
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 3
+    target 4
+    label ""
+  ]
+  edge [
+    id 3
+    source 3
+    target 5
+    label ""
+  ]
+  edge [
+    id 4
+    source 6
+    target 7
+    label ""
+  ]
+  edge [
+    id 5
+    source 6
+    target 8
+    label ""
+  ]
+  edge [
+    id 6
+    source 9
+    target 10
+    label ""
+  ]
+  edge [
+    id 7
+    source 9
+    target 11
+    label ""
+  ]
+  edge [
+    id 8
+    source 9
+    target 12
+    label ""
+  ]
+  edge [
+    id 9
+    source 9
+    target 13
+    label ""
+  ]
+  edge [
+    id 10
+    source 13
+    target 14
+    label ""
+  ]
+  edge [
+    id 11
+    source 14
+    target 15
+    label ""
+  ]
+  edge [
+    id 12
+    source 14
+    target 16
+    label ""
+  ]
+  edge [
+    id 13
+    source 16
+    target 17
+    label "True"
+  ]
+  edge [
+    id 14
+    source 17
+    target 18
+    label ""
+  ]
+  edge [
+    id 15
+    source 18
+    target 19
+    label "True"
+  ]
+  edge [
+    id 16
+    source 19
+    target 20
+    label ""
+  ]
+  edge [
+    id 17
+    source 20
+    target 21
+    label "True"
+  ]
+  edge [
+    id 18
+    source 21
+    target 22
+    label ""
+  ]
+  edge [
+    id 19
+    source 20
+    target 23
+    label "False"
+  ]
+  edge [
+    id 20
+    source 23
+    target 24
+    label ""
+  ]
+  edge [
+    id 21
+    source 24
+    target 25
+    label "True"
+  ]
+  edge [
+    id 22
+    source 25
+    target 26
+    label ""
+  ]
+  edge [
+    id 23
+    source 23
+    target 27
+    label ""
+  ]
+  edge [
+    id 24
+    source 17
+    target 28
+    label ""
+  ]
+  edge [
+    id 25
+    source 14
+    target 29
+    label ""
+  ]
+  edge [
+    id 26
+    source 13
+    target 30
+    label ""
+  ]
+  edge [
+    id 27
+    source 13
+    target 31
+    label ""
+  ]
+  edge [
+    id 28
+    source 9
+    target 32
+    label ""
+  ]
+  edge [
+    id 29
+    source 32
+    target 33
+    label "True"
+  ]
+  edge [
+    id 30
+    source 33
+    target 34
+    label ""
+  ]
+  edge [
+    id 31
+    source 33
+    target 35
+    label ""
+  ]
+  edge [
+    id 32
+    source 33
+    target 36
+    label ""
+  ]
+  edge [
+    id 33
+    source 33
+    target 37
+    label ""
+  ]
+  edge [
+    id 34
+    source 33
+    target 38
+    label ""
+  ]
+  edge [
+    id 35
+    source 33
+    target 39
+    label ""
+  ]
+  edge [
+    id 36
+    source 32
+    target 40
+    label "False"
+  ]
+  edge [
+    id 37
+    source 40
+    target 41
+    label ""
+  ]
+  edge [
+    id 38
+    source 41
+    target 42
+    label "True"
+  ]
+  edge [
+    id 39
+    source 42
+    target 43
+    label ""
+  ]
+  edge [
+    id 40
+    source 42
+    target 44
+    label ""
+  ]
+  edge [
+    id 41
+    source 44
+    target 45
+    label "True"
+  ]
+  edge [
+    id 42
+    source 45
+    target 46
+    label ""
+  ]
+  edge [
+    id 43
+    source 45
+    target 47
+    label ""
+  ]
+  edge [
+    id 44
+    source 47
+    target 48
+    label "True"
+  ]
+  edge [
+    id 45
+    source 48
+    target 49
+    label ""
+  ]
+  edge [
+    id 46
+    source 41
+    target 50
+    label "False"
+  ]
+  edge [
+    id 47
+    source 50
+    target 51
+    label ""
+  ]
+  edge [
+    id 48
+    source 50
+    target 52
+    label ""
+  ]
+  edge [
+    id 49
+    source 50
+    target 53
+    label ""
+  ]
+  edge [
+    id 50
+    source 50
+    target 54
+    label ""
+  ]
+  edge [
+    id 51
+    source 50
+    target 55
+    label ""
+  ]
+  edge [
+    id 52
+    source 50
+    target 56
+    label ""
+  ]
+  edge [
+    id 53
+    source 56
+    target 57
+    label "True"
+  ]
+  edge [
+    id 54
+    source 57
+    target 58
+    label ""
+  ]
+  edge [
+    id 55
+    source 57
+    target 59
+    label ""
+  ]
+  edge [
+    id 56
+    source 57
+    target 60
+    label ""
+  ]
+  edge [
+    id 57
+    source 60
+    target 61
+    label "True"
+  ]
+  edge [
+    id 58
+    source 61
+    target 62
+    label ""
+  ]
+  edge [
+    id 59
+    source 61
+    target 63
+    label ""
+  ]
+  edge [
+    id 60
+    source 61
+    target 64
+    label ""
+  ]
+  edge [
+    id 61
+    source 64
+    target 65
+    label "True"
+  ]
+  edge [
+    id 62
+    source 65
+    target 66
+    label ""
+  ]
+  edge [
+    id 63
+    source 65
+    target 67
+    label ""
+  ]
+  edge [
+    id 64
+    source 61
+    target 68
+    label ""
+  ]
+  edge [
+    id 65
+    source 57
+    target 69
+    label ""
+  ]
+  edge [
+    id 66
+    source 9
+    target 70
+    label ""
+  ]
+  edge [
+    id 67
+    source 71
+    target 72
+    label ""
+  ]
+  edge [
+    id 68
+    source 71
+    target 73
+    label ""
+  ]
+  edge [
+    id 69
+    source 71
+    target 74
+    label ""
+  ]
+  edge [
+    id 70
+    source 74
+    target 75
+    label "True"
+  ]
+  edge [
+    id 71
+    source 75
+    target 76
+    label ""
+  ]
+  edge [
+    id 72
+    source 74
+    target 77
+    label "False"
+  ]
+  edge [
+    id 73
+    source 77
+    target 78
+    label ""
+  ]
+  edge [
+    id 74
+    source 71
+    target 79
+    label ""
+  ]
+  edge [
+    id 75
+    source 71
+    target 80
+    label ""
+  ]
+  edge [
+    id 76
+    source 71
+    target 81
+    label ""
+  ]
+  edge [
+    id 77
+    source 71
+    target 82
+    label ""
+  ]
+  edge [
+    id 78
+    source 71
+    target 83
+    label ""
+  ]
+  edge [
+    id 79
+    source 71
+    target 84
+    label ""
+  ]
+]
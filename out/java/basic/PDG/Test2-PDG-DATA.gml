@@ -0,0 +1,1657 @@
+graph [
+  directed 1
+  multigraph 1
+  label "DDG of Test2.java"
+  type "Data Dependence Graph (DDG)"
+  file "Test2.java"
+
+  node [
+    id 0
+    line 6
+    label "Test2 ()"
+    defs []
+    uses []
+  ]
+  node [
+    id 1
+    line 7
+    label "str = 'init'"
+    defs [var "$THIS.str"]
+    uses []
+  ]
+  node [
+    id 2
+    line 10
+    label "String getString()"
+    defs []
+    uses []
+  ]
+  node [
+    id 3
+    line 11
+    label "return str;"
+    defs []
+    uses [var "$THIS.str"]
+  ]
+  node [
+    id 4
+    line 14
+    label "void setString(String s)"
+    defs [var "s"]
+    uses []
+  ]
+  node [
+    id 5
+    line 15
+    label "str = s"
+    defs [var "$THIS.str"]
+    uses [var "s"]
+  ]
+  node [
+    id 6
+    line 18
+    label "void process(int x, int y)"
+    defs [var "x" var "y"]
+    uses []
+  ]
+  node [
+    id 7
+    line 19
+    label "int res"
+    defs []
+    uses []
+  ]
+  node [
+    id 8
+    line 20
+    label "int i = 0"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 9
+    line 21
+    label "int test = 0"
+    defs [var "test"]
+    uses []
+  ]
+  node [
+    id 10
+    line 22
+    label "do"
+  ]
+  node [
+    id 11
+    line 38
+    label "while (i < 10)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 12
+    line 0
+    label "end-do-while"
+  ]
+  node [
+    id 13
+    line 23
+    label "do"
+  ]
+  node [
+    id 14
+    line 36
+    label "while (test < 10)"
+    defs []
+    uses [var "test"]
+  ]
+  node [
+    id 15
+    line 0
+    label "end-do-while"
+  ]
+  node [
+    id 16
+    line 24
+    label "i = 0"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 17
+    line 24
+    label "for (i <= 10)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 18
+    line 24
+    label "i++"
+    defs [var "i"]
+    uses [var "i"]
+  ]
+  node [
+    id 19
+    line 0
+    label "endfor"
+  ]
+  node [
+    id 20
+    line 25
+    label "while (test == 0)"
+    defs []
+    uses [var "test"]
+  ]
+  node [
+    id 21
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 22
+    line 26
+    label "if (test <= 10)"
+    defs []
+    uses [var "test"]
+  ]
+  node [
+    id 23
+    line 27
+    label "test += 2"
+    defs [var "test"]
+    uses [var "test"]
+  ]
+  node [
+    id 24
+    line 0
+    label "endif"
+  ]
+  node [
+    id 25
+    line 29
+    label "if (test == 10)"
+    defs []
+    uses [var "test"]
+  ]
+  node [
+    id 26
+    line 30
+    label "test++"
+    defs [var "test"]
+    uses [var "test"]
+  ]
+  node [
+    id 27
+    line 0
+    label "endif"
+  ]
+  node [
+    id 28
+    line 32
+    label "test += 3"
+    defs [var "test"]
+    uses [var "test"]
+  ]
+  node [
+    id 29
+    line 37
+    label "i += 2"
+    defs [var "i"]
+    uses [var "i"]
+  ]
+  node [
+    id 30
+    line 40
+    label "if (x > y)"
+    defs []
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 31
+    line 41
+    label "res = x - y"
+    defs [var "res"]
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 32
+    line 42
+    label "System.out.println('x-y=' + res)"
+    defs []
+    uses [var "res"]
+  ]
+  node [
+    id 33
+    line 43
+    label "res = x / y"
+    defs [var "res"]
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 34
+    line 44
+    label "System.out.println('x/y=' + res)"
+    defs []
+    uses [var "res"]
+  ]
+  node [
+    id 35
+    line 45
+    label "res = x % y"
+    defs [var "res"]
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 36
+    line 46
+    label "System.out.println('x%y=' + res)"
+    defs []
+    uses [var "res"]
+  ]
+  node [
+    id 37
+    line 0
+    label "endif"
+  ]
+  node [
+    id 38
+    line 48
+    label "if (x == y)"
+    defs []
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 39
+    line 49
+    label "System.out.println('x==y')"
+    defs []
+    uses []
+  ]
+  node [
+    id 40
+    line 50
+    label "while (test <= 10)"
+    defs []
+    uses [var "test"]
+  ]
+  node [
+    id 41
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 42
+    line 51
+    label "test++"
+    defs [var "test"]
+    uses [var "test"]
+  ]
+  node [
+    id 43
+    line 52
+    label "if (test <= 5)"
+    defs []
+    uses [var "test"]
+  ]
+  node [
+    id 44
+    line 53
+    label "System.out.println(test)"
+    defs []
+    uses [var "test"]
+  ]
+  node [
+    id 45
+    line 0
+    label "endif"
+  ]
+  node [
+    id 46
+    line 0
+    label "endif"
+  ]
+  node [
+    id 47
+    line 57
+    label "res = x + y"
+    defs [var "res"]
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 48
+    line 58
+    label "System.out.println('x+y=' + res)"
+    defs []
+    uses [var "res"]
+  ]
+  node [
+    id 49
+    line 59
+    label "res = x * y"
+    defs [var "res"]
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 50
+    line 60
+    label "System.out.println('x*y=' + res)"
+    defs []
+    uses [var "res"]
+  ]
+  node [
+    id 51
+    line 61
+    label "i = 0"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 52
+    line 61
+    label "for (i < 10)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 53
+    line 61
+    label "i++"
+    defs [var "i"]
+    uses [var "i"]
+  ]
+  node [
+    id 54
+    line 0
+    label "endfor"
+  ]
+  node [
+    id 55
+    line 62
+    label "System.out.println(res)"
+    defs []
+    uses [var "res"]
+  ]
+  node [
+    id 56
+    line 63
+    label "int j = 0"
+    defs [var "j"]
+    uses []
+  ]
+  node [
+    id 57
+    line 64
+    label "while (j < 5)"
+    defs []
+    uses [var "j"]
+  ]
+  node [
+    id 58
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 59
+    line 65
+    label "System.out.println(j)"
+    defs []
+    uses [var "j"]
+  ]
+  node [
+    id 60
+    line 66
+    label "int k = 10"
+    defs [var "k"]
+    uses []
+  ]
+  node [
+    id 61
+    line 66
+    label "for (k > 0)"
+    defs []
+    uses [var "k"]
+  ]
+  node [
+    id 62
+    line 66
+    label "k--"
+    defs [var "k"]
+    uses [var "k"]
+  ]
+  node [
+    id 63
+    line 0
+    label "endfor"
+  ]
+  node [
+    id 64
+    line 67
+    label "System.out.println(k)"
+    defs []
+    uses [var "k"]
+  ]
+  node [
+    id 65
+    line 69
+    label "j++"
+    defs [var "j"]
+    uses [var "j"]
+  ]
+  node [
+    id 66
+    line 76
+    label "void main(String[] args)"
+    defs [var "args"]
+    uses []
+  ]
+  node [
+    id 67
+    line 77
+    label "int i = 0"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 68
+    line 78
+    label "i++"
+    defs [var "i"]
+    uses [var "i"]
+  ]
+  node [
+    id 69
+    line 79
+    label "if (i > 0)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 70
+    line 80
+    label "System.out.println('Positive')"
+    defs []
+    uses []
+  ]
+  node [
+    id 71
+    line 0
+    label "endif"
+  ]
+  node [
+    id 72
+    line 82
+    label "System.out.println('Non-positive')"
+    defs []
+    uses []
+  ]
+  node [
+    id 73
+    line 83
+    label "Test2 tst = new Test2()"
+    defs [var "tst"]
+    uses []
+  ]
+  node [
+    id 74
+    line 84
+    label "tst.setString(tst.getString())"
+    defs [var "tst"]
+    uses [var "tst"]
+  ]
+  node [
+    id 75
+    line 85
+    label "System.out.println(tst.getString())"
+    defs []
+    uses [var "tst"]
+  ]
+  node [
+    id 76
+    line 86
+    label "tst.process(10, i)"
+    defs []
+    uses [var "tst" var "i"]
+  ]
+  node [
+    id 77
+    line 87
+    label "System.out.println('End')"
+    defs []
+    uses []
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 1
+    source 2
+    target 3
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 2
+    source 4
+    target 5
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 3
+    source 6
+    target 7
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 4
+    source 7
+    target 8
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 5
+    source 8
+    target 9
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 6
+    source 9
+    target 10
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 7
+    source 10
+    target 13
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 8
+    source 13
+    target 16
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 9
+    source 16
+    target 17
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 10
+    source 17
+    target 19
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 11
+    source 17
+    target 20
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 12
+    source 20
+    target 21
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 13
+    source 20
+    target 22
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 14
+    source 22
+    target 23
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 15
+    source 23
+    target 24
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 16
+    source 22
+    target 25
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 17
+    source 25
+    target 26
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 18
+    source 26
+    target 27
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 19
+    source 25
+    target 27
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 20
+    source 27
+    target 28
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 21
+    source 28
+    target 24
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 22
+    source 24
+    target 20
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 23
+    source 21
+    target 18
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 24
+    source 18
+    target 17
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 25
+    source 19
+    target 14
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 26
+    source 14
+    target 13
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 27
+    source 14
+    target 15
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 28
+    source 15
+    target 29
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 29
+    source 29
+    target 11
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 30
+    source 11
+    target 10
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 31
+    source 11
+    target 12
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 32
+    source 12
+    target 30
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 33
+    source 30
+    target 31
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 34
+    source 31
+    target 32
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 35
+    source 32
+    target 33
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 36
+    source 33
+    target 34
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 37
+    source 34
+    target 35
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 38
+    source 35
+    target 36
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 39
+    source 36
+    target 37
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 40
+    source 30
+    target 38
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 41
+    source 38
+    target 39
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 42
+    source 39
+    target 40
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 43
+    source 40
+    target 41
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 44
+    source 40
+    target 42
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 45
+    source 42
+    target 43
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 46
+    source 43
+    target 44
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 47
+    source 44
+    target 45
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 48
+    source 43
+    target 45
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 49
+    source 45
+    target 40
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 50
+    source 41
+    target 46
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 51
+    source 38
+    target 47
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 52
+    source 47
+    target 48
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 53
+    source 48
+    target 49
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 54
+    source 49
+    target 50
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 55
+    source 50
+    target 51
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 56
+    source 51
+    target 52
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 57
+    source 52
+    target 54
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 58
+    source 52
+    target 55
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 59
+    source 55
+    target 56
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 60
+    source 56
+    target 57
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 61
+    source 57
+    target 58
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 62
+    source 57
+    target 59
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 63
+    source 59
+    target 60
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 64
+    source 60
+    target 61
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 65
+    source 61
+    target 63
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 66
+    source 61
+    target 64
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 67
+    source 64
+    target 62
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 68
+    source 62
+    target 61
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 69
+    source 63
+    target 65
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 70
+    source 65
+    target 57
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 71
+    source 58
+    target 53
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 72
+    source 53
+    target 52
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 73
+    source 54
+    target 46
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 74
+    source 46
+    target 37
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 75
+    source 66
+    target 67
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 76
+    source 67
+    target 68
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 77
+    source 68
+    target 69
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 78
+    source 69
+    target 70
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 79
+    source 70
+    target 71
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 80
+    source 69
+    target 72
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 81
+    source 72
+    target 71
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 82
+    source 71
+    target 73
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 83
+    source 73
+    target 74
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 84
+    source 74
+    target 75
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 85
+    source 75
+    target 76
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 86
+    source 76
+    target 77
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 87
+    source 4
+    target 5
+    type "Flows"
+    label "s"
+  ]
+  edge [
+    id 88
+    source 6
+    target 30
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 89
+    source 6
+    target 31
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 90
+    source 6
+    target 38
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 91
+    source 6
+    target 47
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 92
+    source 6
+    target 33
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 93
+    source 6
+    target 49
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 94
+    source 6
+    target 35
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 95
+    source 6
+    target 30
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 96
+    source 6
+    target 31
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 97
+    source 6
+    target 38
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 98
+    source 6
+    target 47
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 99
+    source 6
+    target 33
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 100
+    source 6
+    target 49
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 101
+    source 6
+    target 35
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 102
+    source 9
+    target 20
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 103
+    source 9
+    target 14
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 104
+    source 9
+    target 22
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 105
+    source 9
+    target 23
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 106
+    source 9
+    target 25
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 107
+    source 9
+    target 26
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 108
+    source 9
+    target 28
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 109
+    source 9
+    target 40
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 110
+    source 9
+    target 42
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 111
+    source 16
+    target 17
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 112
+    source 16
+    target 18
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 113
+    source 16
+    target 29
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 114
+    source 18
+    target 17
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 115
+    source 18
+    target 29
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 116
+    source 23
+    target 20
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 117
+    source 23
+    target 14
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 118
+    source 23
+    target 22
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 119
+    source 23
+    target 25
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 120
+    source 23
+    target 26
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 121
+    source 23
+    target 28
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 122
+    source 23
+    target 40
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 123
+    source 23
+    target 42
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 124
+    source 29
+    target 11
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 125
+    source 26
+    target 28
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 126
+    source 28
+    target 20
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 127
+    source 28
+    target 14
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 128
+    source 28
+    target 22
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 129
+    source 28
+    target 23
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 130
+    source 28
+    target 25
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 131
+    source 28
+    target 26
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 132
+    source 28
+    target 40
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 133
+    source 28
+    target 42
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 134
+    source 31
+    target 32
+    type "Flows"
+    label "res"
+  ]
+  edge [
+    id 135
+    source 47
+    target 48
+    type "Flows"
+    label "res"
+  ]
+  edge [
+    id 136
+    source 33
+    target 34
+    type "Flows"
+    label "res"
+  ]
+  edge [
+    id 137
+    source 42
+    target 40
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 138
+    source 42
+    target 43
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 139
+    source 42
+    target 44
+    type "Flows"
+    label "test"
+  ]
+  edge [
+    id 140
+    source 49
+    target 50
+    type "Flows"
+    label "res"
+  ]
+  edge [
+    id 141
+    source 49
+    target 55
+    type "Flows"
+    label "res"
+  ]
+  edge [
+    id 142
+    source 35
+    target 36
+    type "Flows"
+    label "res"
+  ]
+  edge [
+    id 143
+    source 51
+    target 52
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 144
+    source 51
+    target 53
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 145
+    source 56
+    target 57
+    type "Flows"
+    label "j"
+  ]
+  edge [
+    id 146
+    source 56
+    target 59
+    type "Flows"
+    label "j"
+  ]
+  edge [
+    id 147
+    source 56
+    target 65
+    type "Flows"
+    label "j"
+  ]
+  edge [
+    id 148
+    source 53
+    target 52
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 149
+    source 60
+    target 61
+    type "Flows"
+    label "k"
+  ]
+  edge [
+    id 150
+    source 60
+    target 64
+    type "Flows"
+    label "k"
+  ]
+  edge [
+    id 151
+    source 60
+    target 62
+    type "Flows"
+    label "k"
+  ]
+  edge [
+    id 152
+    source 65
+    target 57
+    type "Flows"
+    label "j"
+  ]
+  edge [
+    id 153
+    source 65
+    target 59
+    type "Flows"
+    label "j"
+  ]
+  edge [
+    id 154
+    source 62
+    target 61
+    type "Flows"
+    label "k"
+  ]
+  edge [
+    id 155
+    source 62
+    target 64
+    type "Flows"
+    label "k"
+  ]
+  edge [
+    id 156
+    source 67
+    target 68
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 157
+    source 68
+    target 69
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 158
+    source 68
+    target 76
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 159
+    source 73
+    target 74
+    type "Flows"
+    label "tst"
+  ]
+  edge [
+    id 160
+    source 74
+    target 75
+    type "Flows"
+    label "tst"
+  ]
+  edge [
+    id 161
+    source 74
+    target 76
+    type "Flows"
+    label "tst"
+  ]
+]
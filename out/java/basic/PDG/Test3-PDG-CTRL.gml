@@ -0,0 +1,877 @@
+graph [
+  directed 1
+  label "CDG of Test3.java"
+  type "Control Dependence Graph (CDG)"
+  file "Test3.java"
+
+  node [
+    id 0
+    line 4
+    label "void test1(int i)"
+  ]
+  node [
+    id 1
+    line 5
+    label "switch (i)"
+  ]
+  node [
+    id 2
+    line 6
+    label "case 1:"
+  ]
+  node [
+    id 3
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 4
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 5
+    line 7
+    label "System.out.println('One')"
+  ]
+  node [
+    id 6
+    line 8
+    label "break;"
+  ]
+  node [
+    id 7
+    line 0
+    label "FOLLOW-1"
+  ]
+  node [
+    id 8
+    line 9
+    label "case 2:"
+  ]
+  node [
+    id 9
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 10
+    line 10
+    label "case 3:"
+  ]
+  node [
+    id 11
+    line 11
+    label "case 5:"
+  ]
+  node [
+    id 12
+    line 12
+    label "case 7:"
+  ]
+  node [
+    id 13
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 14
+    line 13
+    label "System.out.println(i + ' is Prime')"
+  ]
+  node [
+    id 15
+    line 14
+    label "break;"
+  ]
+  node [
+    id 16
+    line 0
+    label "FOLLOW-2"
+  ]
+  node [
+    id 17
+    line 15
+    label "case 4:"
+  ]
+  node [
+    id 18
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 19
+    line 16
+    label "case 6:"
+  ]
+  node [
+    id 20
+    line 17
+    label "case 8:"
+  ]
+  node [
+    id 21
+    line 18
+    label "case 9:"
+  ]
+  node [
+    id 22
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 23
+    line 19
+    label "System.out.println(i + ' is Composite')"
+  ]
+  node [
+    id 24
+    line 20
+    label "break;"
+  ]
+  node [
+    id 25
+    line 0
+    label "FOLLOW-3"
+  ]
+  node [
+    id 26
+    line 21
+    label "default:"
+  ]
+  node [
+    id 27
+    line 22
+    label "System.out.println(i)"
+  ]
+  node [
+    id 28
+    line 0
+    label "exit"
+  ]
+  node [
+    id 29
+    line 27
+    label "void test2(int i)"
+  ]
+  node [
+    id 30
+    line 28
+    label "System.out.println('Start')"
+  ]
+  node [
+    id 31
+    line 29
+    label "switch (i % 2)"
+  ]
+  node [
+    id 32
+    line 30
+    label "case 0:"
+  ]
+  node [
+    id 33
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 34
+    line 31
+    label "System.out.println(i + ' is Even')"
+  ]
+  node [
+    id 35
+    line 33
+    label "case 1:"
+  ]
+  node [
+    id 36
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 37
+    line 34
+    label "System.out.println(i + ' is Odd')"
+  ]
+  node [
+    id 38
+    line 36
+    label "default:"
+  ]
+  node [
+    id 39
+    line 37
+    label "System.out.println('WTF!')"
+  ]
+  node [
+    id 40
+    line 39
+    label "System.out.println('Finish')"
+  ]
+  node [
+    id 41
+    line 0
+    label "exit"
+  ]
+  node [
+    id 42
+    line 43
+    label "void test3(int i)"
+  ]
+  node [
+    id 43
+    line 44
+    label "switch (i % 2)"
+  ]
+  node [
+    id 44
+    line 45
+    label "case 0:"
+  ]
+  node [
+    id 45
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 46
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 47
+    line 46
+    label "System.out.println(i + ' is Even')"
+  ]
+  node [
+    id 48
+    line 47
+    label "break;"
+  ]
+  node [
+    id 49
+    line 0
+    label "FOLLOW-1"
+  ]
+  node [
+    id 50
+    line 48
+    label "case 1:"
+  ]
+  node [
+    id 51
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 52
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 53
+    line 49
+    label "System.out.println(i + ' is Odd')"
+  ]
+  node [
+    id 54
+    line 50
+    label "break;"
+  ]
+  node [
+    id 55
+    line 0
+    label "exit"
+  ]
+  node [
+    id 56
+    line 55
+    label "void test4()"
+  ]
+  node [
+    id 57
+    line 56
+    label "int i = 0"
+  ]
+  node [
+    id 58
+    line 57
+    label "switch (i)"
+  ]
+  node [
+    id 59
+    line 58
+    label "default:"
+  ]
+  node [
+    id 60
+    line 60
+    label "System.out.println('Finish')"
+  ]
+  node [
+    id 61
+    line 0
+    label "exit"
+  ]
+  node [
+    id 62
+    line 64
+    label "void test5()"
+  ]
+  node [
+    id 63
+    line 65
+    label "int i = 0"
+  ]
+  node [
+    id 64
+    line 66
+    label "switch (i)"
+  ]
+  node [
+    id 65
+    line 67
+    label "case 0:"
+  ]
+  node [
+    id 66
+    line 0
+    label "exit"
+  ]
+  node [
+    id 67
+    line 72
+    label "void main(String[] args)"
+  ]
+  node [
+    id 68
+    line 73
+    label "System.out.println('test-1:')"
+  ]
+  node [
+    id 69
+    line 74
+    label "test1(5)"
+  ]
+  node [
+    id 70
+    line 75
+    label "System.out.println('\\ntest-2:')"
+  ]
+  node [
+    id 71
+    line 76
+    label "test2(7)"
+  ]
+  node [
+    id 72
+    line 77
+    label "System.out.println('\\ntest-3:')"
+  ]
+  node [
+    id 73
+    line 78
+    label "test3(4)"
+  ]
+  node [
+    id 74
+    line 79
+    label "System.out.println('\\ntest-4:')"
+  ]
+  node [
+    id 75
+    line 80
+    label "test4()"
+  ]
+  node [
+    id 76
+    line 81
+    label "System.out.println('\\ntest-5:')"
+  ]
+  node [
+    id 77
+    line 82
+    label "test5()"
+  ]
+  node [
+    id 78
+    line 0
+    label "exit"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 2
+    target 3
+    label "True"
+  ]
+  edge [
+    id 3
+    source 3
+    target 5
+    label ""
+  ]
+  edge [
+    id 4
+    source 3
+    target 6
+    label ""
+  ]
+  edge [
+    id 5
+    source 2
+    target 4
+    label "False"
+  ]
+  edge [
+    id 6
+    source 4
+    target 7
+    label ""
+  ]
+  edge [
+    id 7
+    source 7
+    target 8
+    label ""
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label "True"
+  ]
+  edge [
+    id 9
+    source 8
+    target 10
+    label "False"
+  ]
+  edge [
+    id 10
+    source 10
+    target 9
+    label "True"
+  ]
+  edge [
+    id 11
+    source 10
+    target 11
+    label "False"
+  ]
+  edge [
+    id 12
+    source 11
+    target 9
+    label "True"
+  ]
+  edge [
+    id 13
+    source 11
+    target 12
+    label "False"
+  ]
+  edge [
+    id 14
+    source 12
+    target 9
+    label "True"
+  ]
+  edge [
+    id 15
+    source 9
+    target 14
+    label ""
+  ]
+  edge [
+    id 16
+    source 9
+    target 15
+    label ""
+  ]
+  edge [
+    id 17
+    source 12
+    target 13
+    label "False"
+  ]
+  edge [
+    id 18
+    source 13
+    target 16
+    label ""
+  ]
+  edge [
+    id 19
+    source 16
+    target 17
+    label ""
+  ]
+  edge [
+    id 20
+    source 17
+    target 18
+    label "True"
+  ]
+  edge [
+    id 21
+    source 17
+    target 19
+    label "False"
+  ]
+  edge [
+    id 22
+    source 19
+    target 18
+    label "True"
+  ]
+  edge [
+    id 23
+    source 19
+    target 20
+    label "False"
+  ]
+  edge [
+    id 24
+    source 20
+    target 18
+    label "True"
+  ]
+  edge [
+    id 25
+    source 20
+    target 21
+    label "False"
+  ]
+  edge [
+    id 26
+    source 21
+    target 18
+    label "True"
+  ]
+  edge [
+    id 27
+    source 18
+    target 23
+    label ""
+  ]
+  edge [
+    id 28
+    source 18
+    target 24
+    label ""
+  ]
+  edge [
+    id 29
+    source 21
+    target 22
+    label "False"
+  ]
+  edge [
+    id 30
+    source 22
+    target 25
+    label ""
+  ]
+  edge [
+    id 31
+    source 25
+    target 26
+    label ""
+  ]
+  edge [
+    id 32
+    source 25
+    target 27
+    label ""
+  ]
+  edge [
+    id 33
+    source 0
+    target 28
+    label ""
+  ]
+  edge [
+    id 34
+    source 29
+    target 30
+    label ""
+  ]
+  edge [
+    id 35
+    source 29
+    target 31
+    label ""
+  ]
+  edge [
+    id 36
+    source 31
+    target 32
+    label ""
+  ]
+  edge [
+    id 37
+    source 32
+    target 33
+    label "True"
+  ]
+  edge [
+    id 38
+    source 33
+    target 34
+    label ""
+  ]
+  edge [
+    id 39
+    source 31
+    target 35
+    label ""
+  ]
+  edge [
+    id 40
+    source 35
+    target 36
+    label "True"
+  ]
+  edge [
+    id 41
+    source 36
+    target 37
+    label ""
+  ]
+  edge [
+    id 42
+    source 31
+    target 38
+    label ""
+  ]
+  edge [
+    id 43
+    source 31
+    target 39
+    label ""
+  ]
+  edge [
+    id 44
+    source 29
+    target 40
+    label ""
+  ]
+  edge [
+    id 45
+    source 29
+    target 41
+    label ""
+  ]
+  edge [
+    id 46
+    source 42
+    target 43
+    label ""
+  ]
+  edge [
+    id 47
+    source 43
+    target 44
+    label ""
+  ]
+  edge [
+    id 48
+    source 44
+    target 45
+    label "True"
+  ]
+  edge [
+    id 49
+    source 45
+    target 47
+    label ""
+  ]
+  edge [
+    id 50
+    source 45
+    target 48
+    label ""
+  ]
+  edge [
+    id 51
+    source 44
+    target 46
+    label "False"
+  ]
+  edge [
+    id 52
+    source 46
+    target 49
+    label ""
+  ]
+  edge [
+    id 53
+    source 49
+    target 50
+    label ""
+  ]
+  edge [
+    id 54
+    source 50
+    target 51
+    label "True"
+  ]
+  edge [
+    id 55
+    source 51
+    target 53
+    label ""
+  ]
+  edge [
+    id 56
+    source 51
+    target 54
+    label ""
+  ]
+  edge [
+    id 57
+    source 50
+    target 52
+    label "False"
+  ]
+  edge [
+    id 58
+    source 42
+    target 55
+    label ""
+  ]
+  edge [
+    id 59
+    source 56
+    target 57
+    label ""
+  ]
+  edge [
+    id 60
+    source 56
+    target 58
+    label ""
+  ]
+  edge [
+    id 61
+    source 58
+    target 59
+    label ""
+  ]
+  edge [
+    id 62
+    source 56
+    target 60
+    label ""
+  ]
+  edge [
+    id 63
+    source 56
+    target 61
+    label ""
+  ]
+  edge [
+    id 64
+    source 62
+    target 63
+    label ""
+  ]
+  edge [
+    id 65
+    source 62
+    target 64
+    label ""
+  ]
+  edge [
+    id 66
+    source 64
+    target 65
+    label ""
+  ]
+  edge [
+    id 67
+    source 62
+    target 66
+    label ""
+  ]
+  edge [
+    id 68
+    source 67
+    target 68
+    label ""
+  ]
+  edge [
+    id 69
+    source 67
+    target 69
+    label ""
+  ]
+  edge [
+    id 70
+    source 67
+    target 70
+    label ""
+  ]
+  edge [
+    id 71
+    source 67
+    target 71
+    label ""
+  ]
+  edge [
+    id 72
+    source 67
+    target 72
+    label ""
+  ]
+  edge [
+    id 73
+    source 67
+    target 73
+    label ""
+  ]
+  edge [
+    id 74
+    source 67
+    target 74
+    label ""
+  ]
+  edge [
+    id 75
+    source 67
+    target 75
+    label ""
+  ]
+  edge [
+    id 76
+    source 67
+    target 76
+    label ""
+  ]
+  edge [
+    id 77
+    source 67
+    target 77
+    label ""
+  ]
+  edge [
+    id 78
+    source 67
+    target 78
+    label ""
+  ]
+]
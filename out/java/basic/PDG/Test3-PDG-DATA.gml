@@ -0,0 +1,963 @@
+graph [
+  directed 1
+  multigraph 1
+  label "DDG of Test3.java"
+  type "Data Dependence Graph (DDG)"
+  file "Test3.java"
+
+  node [
+    id 0
+    line 4
+    label "void test1(int i)"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 1
+    line 5
+    label "switch (i)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 2
+    line 0
+    label "end-switch"
+  ]
+  node [
+    id 3
+    line 6
+    label "case 1:"
+  ]
+  node [
+    id 4
+    line 7
+    label "System.out.println('One')"
+    defs []
+    uses []
+  ]
+  node [
+    id 5
+    line 8
+    label "break;"
+  ]
+  node [
+    id 6
+    line 9
+    label "case 2:"
+  ]
+  node [
+    id 7
+    line 10
+    label "case 3:"
+  ]
+  node [
+    id 8
+    line 11
+    label "case 5:"
+  ]
+  node [
+    id 9
+    line 12
+    label "case 7:"
+  ]
+  node [
+    id 10
+    line 13
+    label "System.out.println(i + ' is Prime')"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 11
+    line 14
+    label "break;"
+  ]
+  node [
+    id 12
+    line 15
+    label "case 4:"
+  ]
+  node [
+    id 13
+    line 16
+    label "case 6:"
+  ]
+  node [
+    id 14
+    line 17
+    label "case 8:"
+  ]
+  node [
+    id 15
+    line 18
+    label "case 9:"
+  ]
+  node [
+    id 16
+    line 19
+    label "System.out.println(i + ' is Composite')"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 17
+    line 20
+    label "break;"
+  ]
+  node [
+    id 18
+    line 21
+    label "default:"
+  ]
+  node [
+    id 19
+    line 22
+    label "System.out.println(i)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 20
+    line 27
+    label "void test2(int i)"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 21
+    line 28
+    label "System.out.println('Start')"
+    defs []
+    uses []
+  ]
+  node [
+    id 22
+    line 29
+    label "switch (i % 2)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 23
+    line 0
+    label "end-switch"
+  ]
+  node [
+    id 24
+    line 30
+    label "case 0:"
+  ]
+  node [
+    id 25
+    line 31
+    label "System.out.println(i + ' is Even')"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 26
+    line 33
+    label "case 1:"
+  ]
+  node [
+    id 27
+    line 34
+    label "System.out.println(i + ' is Odd')"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 28
+    line 36
+    label "default:"
+  ]
+  node [
+    id 29
+    line 37
+    label "System.out.println('WTF!')"
+    defs []
+    uses []
+  ]
+  node [
+    id 30
+    line 39
+    label "System.out.println('Finish')"
+    defs []
+    uses []
+  ]
+  node [
+    id 31
+    line 43
+    label "void test3(int i)"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 32
+    line 44
+    label "switch (i % 2)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 33
+    line 0
+    label "end-switch"
+  ]
+  node [
+    id 34
+    line 45
+    label "case 0:"
+  ]
+  node [
+    id 35
+    line 46
+    label "System.out.println(i + ' is Even')"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 36
+    line 47
+    label "break;"
+  ]
+  node [
+    id 37
+    line 48
+    label "case 1:"
+  ]
+  node [
+    id 38
+    line 49
+    label "System.out.println(i + ' is Odd')"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 39
+    line 50
+    label "break;"
+  ]
+  node [
+    id 40
+    line 55
+    label "void test4()"
+    defs []
+    uses []
+  ]
+  node [
+    id 41
+    line 56
+    label "int i = 0"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 42
+    line 57
+    label "switch (i)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 43
+    line 0
+    label "end-switch"
+  ]
+  node [
+    id 44
+    line 58
+    label "default:"
+  ]
+  node [
+    id 45
+    line 60
+    label "System.out.println('Finish')"
+    defs []
+    uses []
+  ]
+  node [
+    id 46
+    line 64
+    label "void test5()"
+    defs []
+    uses []
+  ]
+  node [
+    id 47
+    line 65
+    label "int i = 0"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 48
+    line 66
+    label "switch (i)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 49
+    line 0
+    label "end-switch"
+  ]
+  node [
+    id 50
+    line 67
+    label "case 0:"
+  ]
+  node [
+    id 51
+    line 72
+    label "void main(String[] args)"
+    defs [var "args"]
+    uses []
+  ]
+  node [
+    id 52
+    line 73
+    label "System.out.println('test-1:')"
+    defs []
+    uses []
+  ]
+  node [
+    id 53
+    line 74
+    label "test1(5)"
+    defs []
+    uses []
+  ]
+  node [
+    id 54
+    line 75
+    label "System.out.println('\\ntest-2:')"
+    defs []
+    uses []
+  ]
+  node [
+    id 55
+    line 76
+    label "test2(7)"
+    defs []
+    uses []
+  ]
+  node [
+    id 56
+    line 77
+    label "System.out.println('\\ntest-3:')"
+    defs []
+    uses []
+  ]
+  node [
+    id 57
+    line 78
+    label "test3(4)"
+    defs []
+    uses []
+  ]
+  node [
+    id 58
+    line 79
+    label "System.out.println('\\ntest-4:')"
+    defs []
+    uses []
+  ]
+  node [
+    id 59
+    line 80
+    label "test4()"
+    defs []
+    uses []
+  ]
+  node [
+    id 60
+    line 81
+    label "System.out.println('\\ntest-5:')"
+    defs []
+    uses []
+  ]
+  node [
+    id 61
+    line 82
+    label "test5()"
+    defs []
+    uses []
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 3
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 2
+    source 3
+    target 4
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 3
+    source 4
+    target 5
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 4
+    source 5
+    target 2
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 5
+    source 3
+    target 6
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 6
+    source 6
+    target 7
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 7
+    source 7
+    target 8
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 9
+    source 6
+    target 10
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 10
+    source 7
+    target 10
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 11
+    source 8
+    target 10
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 12
+    source 9
+    target 10
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 13
+    source 10
+    target 11
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 14
+    source 11
+    target 2
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 15
+    source 9
+    target 12
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 16
+    source 12
+    target 13
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 17
+    source 13
+    target 14
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 18
+    source 14
+    target 15
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 19
+    source 12
+    target 16
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 20
+    source 13
+    target 16
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 21
+    source 14
+    target 16
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 22
+    source 15
+    target 16
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 23
+    source 16
+    target 17
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 24
+    source 17
+    target 2
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 25
+    source 15
+    target 18
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 26
+    source 18
+    target 19
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 27
+    source 19
+    target 2
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 28
+    source 20
+    target 21
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 29
+    source 21
+    target 22
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 30
+    source 22
+    target 24
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 31
+    source 24
+    target 25
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 32
+    source 25
+    target 26
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 33
+    source 24
+    target 26
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 34
+    source 26
+    target 27
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 35
+    source 27
+    target 28
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 36
+    source 26
+    target 28
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 37
+    source 28
+    target 29
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 38
+    source 29
+    target 23
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 39
+    source 23
+    target 30
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 40
+    source 31
+    target 32
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 41
+    source 32
+    target 34
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 42
+    source 34
+    target 35
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 43
+    source 35
+    target 36
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 44
+    source 36
+    target 33
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 45
+    source 34
+    target 37
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 46
+    source 37
+    target 38
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 47
+    source 38
+    target 39
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 48
+    source 39
+    target 33
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 49
+    source 37
+    target 33
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 50
+    source 40
+    target 41
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 51
+    source 41
+    target 42
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 52
+    source 42
+    target 44
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 53
+    source 44
+    target 43
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 54
+    source 43
+    target 45
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 55
+    source 46
+    target 47
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 56
+    source 47
+    target 48
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 57
+    source 48
+    target 50
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 58
+    source 50
+    target 49
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 59
+    source 50
+    target 49
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 60
+    source 51
+    target 52
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 61
+    source 52
+    target 53
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 62
+    source 53
+    target 54
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 63
+    source 54
+    target 55
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 64
+    source 55
+    target 56
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 65
+    source 56
+    target 57
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 66
+    source 57
+    target 58
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 67
+    source 58
+    target 59
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 68
+    source 59
+    target 60
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 69
+    source 60
+    target 61
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 70
+    source 0
+    target 1
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 71
+    source 0
+    target 10
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 72
+    source 0
+    target 16
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 73
+    source 0
+    target 19
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 74
+    source 20
+    target 22
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 75
+    source 20
+    target 25
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 76
+    source 20
+    target 27
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 77
+    source 31
+    target 32
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 78
+    source 31
+    target 35
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 79
+    source 31
+    target 38
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 80
+    source 41
+    target 42
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 81
+    source 47
+    target 48
+    type "Flows"
+    label "i"
+  ]
+]
@@ -0,0 +1,1389 @@
+graph [
+  directed 1
+  label "CDG of Test4.java"
+  type "Control Dependence Graph (CDG)"
+  file "Test4.java"
+
+  node [
+    id 0
+    line 6
+    label "Test4 ()"
+  ]
+  node [
+    id 1
+    line 7
+    label "str = 'init'"
+  ]
+  node [
+    id 2
+    line 0
+    label "exit"
+  ]
+  node [
+    id 3
+    line 10
+    label "String getString()"
+  ]
+  node [
+    id 4
+    line 11
+    label "if (str == null)"
+  ]
+  node [
+    id 5
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 6
+    line 12
+    label "str = ''"
+  ]
+  node [
+    id 7
+    line 13
+    label "return str;"
+  ]
+  node [
+    id 8
+    line 0
+    label "exit"
+  ]
+  node [
+    id 9
+    line 16
+    label "void setString(String s)"
+  ]
+  node [
+    id 10
+    line 17
+    label "str = s"
+  ]
+  node [
+    id 11
+    line 0
+    label "exit"
+  ]
+  node [
+    id 12
+    line 20
+    label "boolean isPrime(int x)"
+  ]
+  node [
+    id 13
+    line 21
+    label "int[] primes = {2, 3, 5, 7, 11, 13, 17, 19}"
+  ]
+  node [
+    id 14
+    line 22
+    label "for (int p: primes)"
+  ]
+  node [
+    id 15
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 16
+    line 23
+    label "if (x == p)"
+  ]
+  node [
+    id 17
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 18
+    line 24
+    label "return true;"
+  ]
+  node [
+    id 19
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 20
+    line 0
+    label "FOLLOW-1"
+  ]
+  node [
+    id 21
+    line 26
+    label "return false;"
+  ]
+  node [
+    id 22
+    line 0
+    label "exit"
+  ]
+  node [
+    id 23
+    line 29
+    label "void test1(int n)"
+  ]
+  node [
+    id 24
+    line 30
+    label "int i = 0"
+  ]
+  node [
+    id 25
+    line 30
+    label "for (i < n)"
+  ]
+  node [
+    id 26
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 27
+    line 31
+    label "if (isPrime(i))"
+  ]
+  node [
+    id 28
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 29
+    line 32
+    label "System.out.println(i)"
+  ]
+  node [
+    id 30
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 31
+    line 34
+    label "continue;"
+  ]
+  node [
+    id 32
+    line 0
+    label "FOLLOW-1"
+  ]
+  node [
+    id 33
+    line 35
+    label "test2(i)"
+  ]
+  node [
+    id 34
+    line 30
+    label "++i"
+  ]
+  node [
+    id 35
+    line 0
+    label "exit"
+  ]
+  node [
+    id 36
+    line 39
+    label "void test2(int n)"
+  ]
+  node [
+    id 37
+    line 40
+    label "int counter = n"
+  ]
+  node [
+    id 38
+    line 41
+    label "do"
+  ]
+  node [
+    id 39
+    line 42
+    label "if (isPrime(counter))"
+  ]
+  node [
+    id 40
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 41
+    line 43
+    label "System.out.println(counter)"
+  ]
+  node [
+    id 42
+    line 44
+    label "break;"
+  ]
+  node [
+    id 43
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 44
+    line 0
+    label "FOLLOW-1"
+  ]
+  node [
+    id 45
+    line 46
+    label "--counter"
+  ]
+  node [
+    id 46
+    line 47
+    label "while (counter > 2)"
+  ]
+  node [
+    id 47
+    line 0
+    label "exit"
+  ]
+  node [
+    id 48
+    line 50
+    label "void test3(int x, int y)"
+  ]
+  node [
+    id 49
+    line 51
+    label "int res"
+  ]
+  node [
+    id 50
+    line 52
+    label "if (x > y)"
+  ]
+  node [
+    id 51
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 52
+    line 53
+    label "res = x - y"
+  ]
+  node [
+    id 53
+    line 54
+    label "System.out.println('x-y=' + res)"
+  ]
+  node [
+    id 54
+    line 55
+    label "res = x / y"
+  ]
+  node [
+    id 55
+    line 56
+    label "System.out.println('x/y=' + res)"
+  ]
+  node [
+    id 56
+    line 57
+    label "res = x % y"
+  ]
+  node [
+    id 57
+    line 58
+    label "System.out.println('x%y=' + res)"
+  ]
+  node [
+    id 58
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 59
+    line 60
+    label "res = x + y"
+  ]
+  node [
+    id 60
+    line 61
+    label "System.out.println('x+y=' + res)"
+  ]
+  node [
+    id 61
+    line 62
+    label "res = x * y"
+  ]
+  node [
+    id 62
+    line 63
+    label "System.out.println('x*y=' + res)"
+  ]
+  node [
+    id 63
+    line 0
+    label "exit"
+  ]
+  node [
+    id 64
+    line 67
+    label "void test4()"
+  ]
+  node [
+    id 65
+    line 68
+    label "int i = 0"
+  ]
+  node [
+    id 66
+    line 69
+    label "while (i < 10)"
+  ]
+  node [
+    id 67
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 68
+    line 70
+    label "i += 2"
+  ]
+  node [
+    id 69
+    line 71
+    label "i--"
+  ]
+  node [
+    id 70
+    line 72
+    label "if (i == 8)"
+  ]
+  node [
+    id 71
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 72
+    line 73
+    label "break;"
+  ]
+  node [
+    id 73
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 74
+    line 0
+    label "FOLLOW-1"
+  ]
+  node [
+    id 75
+    line 74
+    label "if (i == 5)"
+  ]
+  node [
+    id 76
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 77
+    line 75
+    label "continue;"
+  ]
+  node [
+    id 78
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 79
+    line 0
+    label "FOLLOW-2"
+  ]
+  node [
+    id 80
+    line 76
+    label "System.out.println(i)"
+  ]
+  node [
+    id 81
+    line 0
+    label "exit"
+  ]
+  node [
+    id 82
+    line 80
+    label "void test5()"
+  ]
+  node [
+    id 83
+    line 81
+    label "int x = 0"
+  ]
+  node [
+    id 84
+    line 82
+    label "boolean p0 =  true"
+  ]
+  node [
+    id 85
+    line 83
+    label "while (p0)"
+  ]
+  node [
+    id 86
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 87
+    line 84
+    label "x += 7"
+  ]
+  node [
+    id 88
+    line 85
+    label "boolean p1 = true"
+  ]
+  node [
+    id 89
+    line 86
+    label "while (p1)"
+  ]
+  node [
+    id 90
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 91
+    line 87
+    label "x *= 2"
+  ]
+  node [
+    id 92
+    line 88
+    label "x -= 10"
+  ]
+  node [
+    id 93
+    line 89
+    label "if (x > 10)"
+  ]
+  node [
+    id 94
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 95
+    line 90
+    label "x += 8"
+  ]
+  node [
+    id 96
+    line 91
+    label "x /= 3"
+  ]
+  node [
+    id 97
+    line 92
+    label "if (x > 0)"
+  ]
+  node [
+    id 98
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 99
+    line 93
+    label "x -= 2"
+  ]
+  node [
+    id 100
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 101
+    line 95
+    label "break;"
+  ]
+  node [
+    id 102
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 103
+    line 97
+    label "continue;"
+  ]
+  node [
+    id 104
+    line 0
+    label "FOLLOW-1"
+  ]
+  node [
+    id 105
+    line 98
+    label "x--"
+  ]
+  node [
+    id 106
+    line 99
+    label "System.out.println(x)"
+  ]
+  node [
+    id 107
+    line 100
+    label "if (x > 20)"
+  ]
+  node [
+    id 108
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 109
+    line 101
+    label "break;"
+  ]
+  node [
+    id 110
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 111
+    line 0
+    label "FOLLOW-2"
+  ]
+  node [
+    id 112
+    line 102
+    label "--x"
+  ]
+  node [
+    id 113
+    line 103
+    label "p1 = x > 7 ? true : false"
+  ]
+  node [
+    id 114
+    line 105
+    label "if (x > 40)"
+  ]
+  node [
+    id 115
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 116
+    line 106
+    label "p0 = false"
+  ]
+  node [
+    id 117
+    line 107
+    label "System.out.println(x)"
+  ]
+  node [
+    id 118
+    line 109
+    label "System.out.println(x)"
+  ]
+  node [
+    id 119
+    line 0
+    label "exit"
+  ]
+  node [
+    id 120
+    line 112
+    label "void main(String[] args)"
+  ]
+  node [
+    id 121
+    line 113
+    label "Test4 tst = new Test4()"
+  ]
+  node [
+    id 122
+    line 114
+    label "tst.setString(tst.getString())"
+  ]
+  node [
+    id 123
+    line 115
+    label "System.out.println(tst.getString())"
+  ]
+  node [
+    id 124
+    line 116
+    label "tst.test1(9)"
+  ]
+  node [
+    id 125
+    line 117
+    label "tst.test2(16)"
+  ]
+  node [
+    id 126
+    line 118
+    label "tst.test3(20, 5)"
+  ]
+  node [
+    id 127
+    line 119
+    label "tst.test4()"
+  ]
+  node [
+    id 128
+    line 120
+    label "tst.test5()"
+  ]
+  node [
+    id 129
+    line 121
+    label "System.out.println('End')"
+  ]
+  node [
+    id 130
+    line 0
+    label "exit"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 0
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 3
+    target 4
+    label ""
+  ]
+  edge [
+    id 3
+    source 4
+    target 5
+    label "True"
+  ]
+  edge [
+    id 4
+    source 5
+    target 6
+    label ""
+  ]
+  edge [
+    id 5
+    source 3
+    target 7
+    label ""
+  ]
+  edge [
+    id 6
+    source 3
+    target 8
+    label ""
+  ]
+  edge [
+    id 7
+    source 9
+    target 10
+    label ""
+  ]
+  edge [
+    id 8
+    source 9
+    target 11
+    label ""
+  ]
+  edge [
+    id 9
+    source 12
+    target 13
+    label ""
+  ]
+  edge [
+    id 10
+    source 12
+    target 14
+    label ""
+  ]
+  edge [
+    id 11
+    source 14
+    target 15
+    label "True"
+  ]
+  edge [
+    id 12
+    source 15
+    target 16
+    label ""
+  ]
+  edge [
+    id 13
+    source 16
+    target 17
+    label "True"
+  ]
+  edge [
+    id 14
+    source 17
+    target 18
+    label ""
+  ]
+  edge [
+    id 15
+    source 16
+    target 19
+    label "False"
+  ]
+  edge [
+    id 16
+    source 19
+    target 20
+    label ""
+  ]
+  edge [
+    id 17
+    source 20
+    target 21
+    label ""
+  ]
+  edge [
+    id 18
+    source 12
+    target 22
+    label ""
+  ]
+  edge [
+    id 19
+    source 23
+    target 24
+    label ""
+  ]
+  edge [
+    id 20
+    source 23
+    target 25
+    label ""
+  ]
+  edge [
+    id 21
+    source 25
+    target 26
+    label "True"
+  ]
+  edge [
+    id 22
+    source 26
+    target 27
+    label ""
+  ]
+  edge [
+    id 23
+    source 27
+    target 28
+    label "True"
+  ]
+  edge [
+    id 24
+    source 28
+    target 29
+    label ""
+  ]
+  edge [
+    id 25
+    source 27
+    target 30
+    label "False"
+  ]
+  edge [
+    id 26
+    source 30
+    target 31
+    label ""
+  ]
+  edge [
+    id 27
+    source 28
+    target 32
+    label ""
+  ]
+  edge [
+    id 28
+    source 32
+    target 33
+    label ""
+  ]
+  edge [
+    id 29
+    source 32
+    target 34
+    label ""
+  ]
+  edge [
+    id 30
+    source 23
+    target 35
+    label ""
+  ]
+  edge [
+    id 31
+    source 36
+    target 37
+    label ""
+  ]
+  edge [
+    id 32
+    source 36
+    target 38
+    label ""
+  ]
+  edge [
+    id 33
+    source 38
+    target 39
+    label ""
+  ]
+  edge [
+    id 34
+    source 39
+    target 40
+    label "True"
+  ]
+  edge [
+    id 35
+    source 40
+    target 41
+    label ""
+  ]
+  edge [
+    id 36
+    source 40
+    target 42
+    label ""
+  ]
+  edge [
+    id 37
+    source 39
+    target 43
+    label "False"
+  ]
+  edge [
+    id 38
+    source 43
+    target 44
+    label ""
+  ]
+  edge [
+    id 39
+    source 44
+    target 45
+    label ""
+  ]
+  edge [
+    id 40
+    source 44
+    target 46
+    label ""
+  ]
+  edge [
+    id 41
+    source 36
+    target 47
+    label ""
+  ]
+  edge [
+    id 42
+    source 48
+    target 49
+    label ""
+  ]
+  edge [
+    id 43
+    source 48
+    target 50
+    label ""
+  ]
+  edge [
+    id 44
+    source 50
+    target 51
+    label "True"
+  ]
+  edge [
+    id 45
+    source 51
+    target 52
+    label ""
+  ]
+  edge [
+    id 46
+    source 51
+    target 53
+    label ""
+  ]
+  edge [
+    id 47
+    source 51
+    target 54
+    label ""
+  ]
+  edge [
+    id 48
+    source 51
+    target 55
+    label ""
+  ]
+  edge [
+    id 49
+    source 51
+    target 56
+    label ""
+  ]
+  edge [
+    id 50
+    source 51
+    target 57
+    label ""
+  ]
+  edge [
+    id 51
+    source 50
+    target 58
+    label "False"
+  ]
+  edge [
+    id 52
+    source 58
+    target 59
+    label ""
+  ]
+  edge [
+    id 53
+    source 58
+    target 60
+    label ""
+  ]
+  edge [
+    id 54
+    source 58
+    target 61
+    label ""
+  ]
+  edge [
+    id 55
+    source 58
+    target 62
+    label ""
+  ]
+  edge [
+    id 56
+    source 48
+    target 63
+    label ""
+  ]
+  edge [
+    id 57
+    source 64
+    target 65
+    label ""
+  ]
+  edge [
+    id 58
+    source 64
+    target 66
+    label ""
+  ]
+  edge [
+    id 59
+    source 66
+    target 67
+    label "True"
+  ]
+  edge [
+    id 60
+    source 67
+    target 68
+    label ""
+  ]
+  edge [
+    id 61
+    source 67
+    target 69
+    label ""
+  ]
+  edge [
+    id 62
+    source 67
+    target 70
+    label ""
+  ]
+  edge [
+    id 63
+    source 70
+    target 71
+    label "True"
+  ]
+  edge [
+    id 64
+    source 71
+    target 72
+    label ""
+  ]
+  edge [
+    id 65
+    source 70
+    target 73
+    label "False"
+  ]
+  edge [
+    id 66
+    source 73
+    target 74
+    label ""
+  ]
+  edge [
+    id 67
+    source 74
+    target 75
+    label ""
+  ]
+  edge [
+    id 68
+    source 75
+    target 76
+    label "True"
+  ]
+  edge [
+    id 69
+    source 76
+    target 77
+    label ""
+  ]
+  edge [
+    id 70
+    source 75
+    target 78
+    label "False"
+  ]
+  edge [
+    id 71
+    source 78
+    target 79
+    label ""
+  ]
+  edge [
+    id 72
+    source 79
+    target 80
+    label ""
+  ]
+  edge [
+    id 73
+    source 64
+    target 81
+    label ""
+  ]
+  edge [
+    id 74
+    source 82
+    target 83
+    label ""
+  ]
+  edge [
+    id 75
+    source 82
+    target 84
+    label ""
+  ]
+  edge [
+    id 76
+    source 82
+    target 85
+    label ""
+  ]
+  edge [
+    id 77
+    source 85
+    target 86
+    label "True"
+  ]
+  edge [
+    id 78
+    source 86
+    target 87
+    label ""
+  ]
+  edge [
+    id 79
+    source 86
+    target 88
+    label ""
+  ]
+  edge [
+    id 80
+    source 86
+    target 89
+    label ""
+  ]
+  edge [
+    id 81
+    source 89
+    target 90
+    label "True"
+  ]
+  edge [
+    id 82
+    source 90
+    target 91
+    label ""
+  ]
+  edge [
+    id 83
+    source 90
+    target 92
+    label ""
+  ]
+  edge [
+    id 84
+    source 90
+    target 93
+    label ""
+  ]
+  edge [
+    id 85
+    source 93
+    target 94
+    label "True"
+  ]
+  edge [
+    id 86
+    source 94
+    target 95
+    label ""
+  ]
+  edge [
+    id 87
+    source 94
+    target 96
+    label ""
+  ]
+  edge [
+    id 88
+    source 94
+    target 97
+    label ""
+  ]
+  edge [
+    id 89
+    source 97
+    target 98
+    label "True"
+  ]
+  edge [
+    id 90
+    source 98
+    target 99
+    label ""
+  ]
+  edge [
+    id 91
+    source 97
+    target 100
+    label "False"
+  ]
+  edge [
+    id 92
+    source 100
+    target 101
+    label ""
+  ]
+  edge [
+    id 93
+    source 93
+    target 102
+    label "False"
+  ]
+  edge [
+    id 94
+    source 102
+    target 103
+    label ""
+  ]
+  edge [
+    id 95
+    source 98
+    target 104
+    label ""
+  ]
+  edge [
+    id 96
+    source 104
+    target 105
+    label ""
+  ]
+  edge [
+    id 97
+    source 104
+    target 106
+    label ""
+  ]
+  edge [
+    id 98
+    source 104
+    target 107
+    label ""
+  ]
+  edge [
+    id 99
+    source 107
+    target 108
+    label "True"
+  ]
+  edge [
+    id 100
+    source 108
+    target 109
+    label ""
+  ]
+  edge [
+    id 101
+    source 107
+    target 110
+    label "False"
+  ]
+  edge [
+    id 102
+    source 110
+    target 111
+    label ""
+  ]
+  edge [
+    id 103
+    source 111
+    target 112
+    label ""
+  ]
+  edge [
+    id 104
+    source 111
+    target 113
+    label ""
+  ]
+  edge [
+    id 105
+    source 86
+    target 114
+    label ""
+  ]
+  edge [
+    id 106
+    source 114
+    target 115
+    label "True"
+  ]
+  edge [
+    id 107
+    source 115
+    target 116
+    label ""
+  ]
+  edge [
+    id 108
+    source 86
+    target 117
+    label ""
+  ]
+  edge [
+    id 109
+    source 82
+    target 118
+    label ""
+  ]
+  edge [
+    id 110
+    source 82
+    target 119
+    label ""
+  ]
+  edge [
+    id 111
+    source 120
+    target 121
+    label ""
+  ]
+  edge [
+    id 112
+    source 120
+    target 122
+    label ""
+  ]
+  edge [
+    id 113
+    source 120
+    target 123
+    label ""
+  ]
+  edge [
+    id 114
+    source 120
+    target 124
+    label ""
+  ]
+  edge [
+    id 115
+    source 120
+    target 125
+    label ""
+  ]
+  edge [
+    id 116
+    source 120
+    target 126
+    label ""
+  ]
+  edge [
+    id 117
+    source 120
+    target 127
+    label ""
+  ]
+  edge [
+    id 118
+    source 120
+    target 128
+    label ""
+  ]
+  edge [
+    id 119
+    source 120
+    target 129
+    label ""
+  ]
+  edge [
+    id 120
+    source 120
+    target 130
+    label ""
+  ]
+]
@@ -0,0 +1,2157 @@
+graph [
+  directed 1
+  multigraph 1
+  label "DDG of Test4.java"
+  type "Data Dependence Graph (DDG)"
+  file "Test4.java"
+
+  node [
+    id 0
+    line 6
+    label "Test4 ()"
+    defs []
+    uses []
+  ]
+  node [
+    id 1
+    line 7
+    label "str = 'init'"
+    defs [var "$THIS.str"]
+    uses []
+  ]
+  node [
+    id 2
+    line 10
+    label "String getString()"
+    defs []
+    uses []
+  ]
+  node [
+    id 3
+    line 11
+    label "if (str == null)"
+    defs []
+    uses [var "$THIS.str"]
+  ]
+  node [
+    id 4
+    line 12
+    label "str = ''"
+    defs [var "$THIS.str"]
+    uses []
+  ]
+  node [
+    id 5
+    line 0
+    label "endif"
+  ]
+  node [
+    id 6
+    line 13
+    label "return str;"
+    defs []
+    uses [var "$THIS.str"]
+  ]
+  node [
+    id 7
+    line 16
+    label "void setString(String s)"
+    defs [var "s"]
+    uses []
+  ]
+  node [
+    id 8
+    line 17
+    label "str = s"
+    defs [var "$THIS.str"]
+    uses [var "s"]
+  ]
+  node [
+    id 9
+    line 20
+    label "boolean isPrime(int x)"
+    defs [var "x"]
+    uses []
+  ]
+  node [
+    id 10
+    line 21
+    label "int[] primes = {2, 3, 5, 7, 11, 13, 17, 19}"
+    defs [var "primes"]
+    uses []
+  ]
+  node [
+    id 11
+    line 22
+    label "for (int p: primes)"
+    defs [var "p"]
+    uses [var "primes"]
+  ]
+  node [
+    id 12
+    line 0
+    label "endfor"
+  ]
+  node [
+    id 13
+    line 23
+    label "if (x == p)"
+    defs []
+    uses [var "p" var "x"]
+  ]
+  node [
+    id 14
+    line 24
+    label "return true;"
+    defs []
+    uses []
+  ]
+  node [
+    id 15
+    line 0
+    label "endif"
+  ]
+  node [
+    id 16
+    line 26
+    label "return false;"
+    defs []
+    uses []
+  ]
+  node [
+    id 17
+    line 29
+    label "void test1(int n)"
+    defs [var "n"]
+    uses []
+  ]
+  node [
+    id 18
+    line 30
+    label "int i = 0"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 19
+    line 30
+    label "for (i < n)"
+    defs []
+    uses [var "i" var "n"]
+  ]
+  node [
+    id 20
+    line 30
+    label "++i"
+    defs [var "i"]
+    uses [var "i"]
+  ]
+  node [
+    id 21
+    line 0
+    label "endfor"
+  ]
+  node [
+    id 22
+    line 31
+    label "if (isPrime(i))"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 23
+    line 32
+    label "System.out.println(i)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 24
+    line 0
+    label "endif"
+  ]
+  node [
+    id 25
+    line 34
+    label "continue;"
+  ]
+  node [
+    id 26
+    line 35
+    label "test2(i)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 27
+    line 39
+    label "void test2(int n)"
+    defs [var "n"]
+    uses []
+  ]
+  node [
+    id 28
+    line 40
+    label "int counter = n"
+    defs [var "counter"]
+    uses [var "n"]
+  ]
+  node [
+    id 29
+    line 41
+    label "do"
+  ]
+  node [
+    id 30
+    line 47
+    label "while (counter > 2)"
+    defs []
+    uses [var "counter"]
+  ]
+  node [
+    id 31
+    line 0
+    label "end-do-while"
+  ]
+  node [
+    id 32
+    line 42
+    label "if (isPrime(counter))"
+    defs []
+    uses [var "counter"]
+  ]
+  node [
+    id 33
+    line 43
+    label "System.out.println(counter)"
+    defs []
+    uses [var "counter"]
+  ]
+  node [
+    id 34
+    line 44
+    label "break;"
+  ]
+  node [
+    id 35
+    line 0
+    label "endif"
+  ]
+  node [
+    id 36
+    line 46
+    label "--counter"
+    defs [var "counter"]
+    uses [var "counter"]
+  ]
+  node [
+    id 37
+    line 50
+    label "void test3(int x, int y)"
+    defs [var "x" var "y"]
+    uses []
+  ]
+  node [
+    id 38
+    line 51
+    label "int res"
+    defs []
+    uses []
+  ]
+  node [
+    id 39
+    line 52
+    label "if (x > y)"
+    defs []
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 40
+    line 53
+    label "res = x - y"
+    defs [var "res"]
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 41
+    line 54
+    label "System.out.println('x-y=' + res)"
+    defs []
+    uses [var "res"]
+  ]
+  node [
+    id 42
+    line 55
+    label "res = x / y"
+    defs [var "res"]
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 43
+    line 56
+    label "System.out.println('x/y=' + res)"
+    defs []
+    uses [var "res"]
+  ]
+  node [
+    id 44
+    line 57
+    label "res = x % y"
+    defs [var "res"]
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 45
+    line 58
+    label "System.out.println('x%y=' + res)"
+    defs []
+    uses [var "res"]
+  ]
+  node [
+    id 46
+    line 0
+    label "endif"
+  ]
+  node [
+    id 47
+    line 60
+    label "res = x + y"
+    defs [var "res"]
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 48
+    line 61
+    label "System.out.println('x+y=' + res)"
+    defs []
+    uses [var "res"]
+  ]
+  node [
+    id 49
+    line 62
+    label "res = x * y"
+    defs [var "res"]
+    uses [var "x" var "y"]
+  ]
+  node [
+    id 50
+    line 63
+    label "System.out.println('x*y=' + res)"
+    defs []
+    uses [var "res"]
+  ]
+  node [
+    id 51
+    line 67
+    label "void test4()"
+    defs []
+    uses []
+  ]
+  node [
+    id 52
+    line 68
+    label "int i = 0"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 53
+    line 69
+    label "while (i < 10)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 54
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 55
+    line 70
+    label "i += 2"
+    defs [var "i"]
+    uses [var "i"]
+  ]
+  node [
+    id 56
+    line 71
+    label "i--"
+    defs [var "i"]
+    uses [var "i"]
+  ]
+  node [
+    id 57
+    line 72
+    label "if (i == 8)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 58
+    line 73
+    label "break;"
+  ]
+  node [
+    id 59
+    line 0
+    label "endif"
+  ]
+  node [
+    id 60
+    line 74
+    label "if (i == 5)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 61
+    line 75
+    label "continue;"
+  ]
+  node [
+    id 62
+    line 0
+    label "endif"
+  ]
+  node [
+    id 63
+    line 76
+    label "System.out.println(i)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 64
+    line 80
+    label "void test5()"
+    defs []
+    uses []
+  ]
+  node [
+    id 65
+    line 81
+    label "int x = 0"
+    defs [var "x"]
+    uses []
+  ]
+  node [
+    id 66
+    line 82
+    label "boolean p0 =  true"
+    defs [var "p0"]
+    uses []
+  ]
+  node [
+    id 67
+    line 83
+    label "while (p0)"
+    defs []
+    uses [var "p0"]
+  ]
+  node [
+    id 68
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 69
+    line 84
+    label "x += 7"
+    defs [var "x"]
+    uses [var "x"]
+  ]
+  node [
+    id 70
+    line 85
+    label "boolean p1 = true"
+    defs [var "p1"]
+    uses []
+  ]
+  node [
+    id 71
+    line 86
+    label "while (p1)"
+    defs []
+    uses [var "p1"]
+  ]
+  node [
+    id 72
+    line 0
+    label "endwhile"
+  ]
+  node [
+    id 73
+    line 87
+    label "x *= 2"
+    defs [var "x"]
+    uses [var "x"]
+  ]
+  node [
+    id 74
+    line 88
+    label "x -= 10"
+    defs [var "x"]
+    uses [var "x"]
+  ]
+  node [
+    id 75
+    line 89
+    label "if (x > 10)"
+    defs []
+    uses [var "x"]
+  ]
+  node [
+    id 76
+    line 90
+    label "x += 8"
+    defs [var "x"]
+    uses [var "x"]
+  ]
+  node [
+    id 77
+    line 91
+    label "x /= 3"
+    defs [var "x"]
+    uses [var "x"]
+  ]
+  node [
+    id 78
+    line 92
+    label "if (x > 0)"
+    defs []
+    uses [var "x"]
+  ]
+  node [
+    id 79
+    line 93
+    label "x -= 2"
+    defs [var "x"]
+    uses [var "x"]
+  ]
+  node [
+    id 80
+    line 0
+    label "endif"
+  ]
+  node [
+    id 81
+    line 95
+    label "break;"
+  ]
+  node [
+    id 82
+    line 0
+    label "endif"
+  ]
+  node [
+    id 83
+    line 97
+    label "continue;"
+  ]
+  node [
+    id 84
+    line 98
+    label "x--"
+    defs [var "x"]
+    uses [var "x"]
+  ]
+  node [
+    id 85
+    line 99
+    label "System.out.println(x)"
+    defs []
+    uses [var "x"]
+  ]
+  node [
+    id 86
+    line 100
+    label "if (x > 20)"
+    defs []
+    uses [var "x"]
+  ]
+  node [
+    id 87
+    line 101
+    label "break;"
+  ]
+  node [
+    id 88
+    line 0
+    label "endif"
+  ]
+  node [
+    id 89
+    line 102
+    label "--x"
+    defs [var "x"]
+    uses [var "x"]
+  ]
+  node [
+    id 90
+    line 103
+    label "p1 = x > 7 ? true : false"
+    defs [var "p1"]
+    uses [var "x"]
+  ]
+  node [
+    id 91
+    line 105
+    label "if (x > 40)"
+    defs []
+    uses [var "x"]
+  ]
+  node [
+    id 92
+    line 106
+    label "p0 = false"
+    defs [var "p0"]
+    uses []
+  ]
+  node [
+    id 93
+    line 0
+    label "endif"
+  ]
+  node [
+    id 94
+    line 107
+    label "System.out.println(x)"
+    defs []
+    uses [var "x"]
+  ]
+  node [
+    id 95
+    line 109
+    label "System.out.println(x)"
+    defs []
+    uses [var "x"]
+  ]
+  node [
+    id 96
+    line 112
+    label "void main(String[] args)"
+    defs [var "args"]
+    uses []
+  ]
+  node [
+    id 97
+    line 113
+    label "Test4 tst = new Test4()"
+    defs [var "tst"]
+    uses []
+  ]
+  node [
+    id 98
+    line 114
+    label "tst.setString(tst.getString())"
+    defs [var "tst"]
+    uses [var "tst"]
+  ]
+  node [
+    id 99
+    line 115
+    label "System.out.println(tst.getString())"
+    defs [var "tst"]
+    uses [var "tst"]
+  ]
+  node [
+    id 100
+    line 116
+    label "tst.test1(9)"
+    defs []
+    uses [var "tst"]
+  ]
+  node [
+    id 101
+    line 117
+    label "tst.test2(16)"
+    defs []
+    uses [var "tst"]
+  ]
+  node [
+    id 102
+    line 118
+    label "tst.test3(20, 5)"
+    defs []
+    uses [var "tst"]
+  ]
+  node [
+    id 103
+    line 119
+    label "tst.test4()"
+    defs []
+    uses [var "tst"]
+  ]
+  node [
+    id 104
+    line 120
+    label "tst.test5()"
+    defs []
+    uses [var "tst"]
+  ]
+  node [
+    id 105
+    line 121
+    label "System.out.println('End')"
+    defs []
+    uses []
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 1
+    source 2
+    target 3
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 2
+    source 3
+    target 4
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 3
+    source 4
+    target 5
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 4
+    source 3
+    target 5
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 5
+    source 5
+    target 6
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 6
+    source 7
+    target 8
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 7
+    source 9
+    target 10
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 8
+    source 10
+    target 11
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 9
+    source 11
+    target 12
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 10
+    source 11
+    target 13
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 11
+    source 13
+    target 14
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 12
+    source 13
+    target 15
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 13
+    source 15
+    target 11
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 14
+    source 12
+    target 16
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 15
+    source 17
+    target 18
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 16
+    source 18
+    target 19
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 17
+    source 19
+    target 21
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 18
+    source 19
+    target 22
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 19
+    source 22
+    target 23
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 20
+    source 23
+    target 24
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 21
+    source 22
+    target 25
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 22
+    source 25
+    target 20
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 23
+    source 24
+    target 26
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 24
+    source 26
+    target 20
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 25
+    source 20
+    target 19
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 26
+    source 27
+    target 28
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 27
+    source 28
+    target 29
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 28
+    source 29
+    target 32
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 29
+    source 32
+    target 33
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 30
+    source 33
+    target 34
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 31
+    source 34
+    target 31
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 32
+    source 32
+    target 35
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 33
+    source 35
+    target 36
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 34
+    source 36
+    target 30
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 35
+    source 30
+    target 29
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 36
+    source 30
+    target 31
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 37
+    source 37
+    target 38
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 38
+    source 38
+    target 39
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 39
+    source 39
+    target 40
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 40
+    source 40
+    target 41
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 41
+    source 41
+    target 42
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 42
+    source 42
+    target 43
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 43
+    source 43
+    target 44
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 44
+    source 44
+    target 45
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 45
+    source 45
+    target 46
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 46
+    source 39
+    target 47
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 47
+    source 47
+    target 48
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 48
+    source 48
+    target 49
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 49
+    source 49
+    target 50
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 50
+    source 50
+    target 46
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 51
+    source 51
+    target 52
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 52
+    source 52
+    target 53
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 53
+    source 53
+    target 54
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 54
+    source 53
+    target 55
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 55
+    source 55
+    target 56
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 56
+    source 56
+    target 57
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 57
+    source 57
+    target 58
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 58
+    source 58
+    target 54
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 59
+    source 57
+    target 59
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 60
+    source 59
+    target 60
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 61
+    source 60
+    target 61
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 62
+    source 61
+    target 53
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 63
+    source 60
+    target 62
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 64
+    source 62
+    target 63
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 65
+    source 63
+    target 53
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 66
+    source 64
+    target 65
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 67
+    source 65
+    target 66
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 68
+    source 66
+    target 67
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 69
+    source 67
+    target 68
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 70
+    source 67
+    target 69
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 71
+    source 69
+    target 70
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 72
+    source 70
+    target 71
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 73
+    source 71
+    target 72
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 74
+    source 71
+    target 73
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 75
+    source 73
+    target 74
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 76
+    source 74
+    target 75
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 77
+    source 75
+    target 76
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 78
+    source 76
+    target 77
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 79
+    source 77
+    target 78
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 80
+    source 78
+    target 79
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 81
+    source 79
+    target 80
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 82
+    source 78
+    target 81
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 83
+    source 81
+    target 72
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 84
+    source 80
+    target 82
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 85
+    source 75
+    target 83
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 86
+    source 83
+    target 71
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 87
+    source 82
+    target 84
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 88
+    source 84
+    target 85
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 89
+    source 85
+    target 86
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 90
+    source 86
+    target 87
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 91
+    source 87
+    target 72
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 92
+    source 86
+    target 88
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 93
+    source 88
+    target 89
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 94
+    source 89
+    target 90
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 95
+    source 90
+    target 71
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 96
+    source 72
+    target 91
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 97
+    source 91
+    target 92
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 98
+    source 92
+    target 93
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 99
+    source 91
+    target 93
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 100
+    source 93
+    target 94
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 101
+    source 94
+    target 67
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 102
+    source 68
+    target 95
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 103
+    source 96
+    target 97
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 104
+    source 97
+    target 98
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 105
+    source 98
+    target 99
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 106
+    source 99
+    target 100
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 107
+    source 100
+    target 101
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 108
+    source 101
+    target 102
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 109
+    source 102
+    target 103
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 110
+    source 103
+    target 104
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 111
+    source 104
+    target 105
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 112
+    source 4
+    target 6
+    type "Flows"
+    label "$THIS.str"
+  ]
+  edge [
+    id 113
+    source 7
+    target 8
+    type "Flows"
+    label "s"
+  ]
+  edge [
+    id 114
+    source 9
+    target 13
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 115
+    source 10
+    target 11
+    type "Flows"
+    label "primes"
+  ]
+  edge [
+    id 116
+    source 11
+    target 13
+    type "Flows"
+    label "p"
+  ]
+  edge [
+    id 117
+    source 17
+    target 19
+    type "Flows"
+    label "n"
+  ]
+  edge [
+    id 118
+    source 18
+    target 19
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 119
+    source 18
+    target 22
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 120
+    source 18
+    target 23
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 121
+    source 18
+    target 20
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 122
+    source 18
+    target 26
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 123
+    source 20
+    target 20
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 124
+    source 20
+    target 19
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 125
+    source 20
+    target 22
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 126
+    source 20
+    target 23
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 127
+    source 20
+    target 26
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 128
+    source 27
+    target 28
+    type "Flows"
+    label "n"
+  ]
+  edge [
+    id 129
+    source 28
+    target 32
+    type "Flows"
+    label "counter"
+  ]
+  edge [
+    id 130
+    source 28
+    target 33
+    type "Flows"
+    label "counter"
+  ]
+  edge [
+    id 131
+    source 28
+    target 36
+    type "Flows"
+    label "counter"
+  ]
+  edge [
+    id 132
+    source 36
+    target 36
+    type "Flows"
+    label "counter"
+  ]
+  edge [
+    id 133
+    source 36
+    target 32
+    type "Flows"
+    label "counter"
+  ]
+  edge [
+    id 134
+    source 36
+    target 33
+    type "Flows"
+    label "counter"
+  ]
+  edge [
+    id 135
+    source 36
+    target 30
+    type "Flows"
+    label "counter"
+  ]
+  edge [
+    id 136
+    source 37
+    target 39
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 137
+    source 37
+    target 40
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 138
+    source 37
+    target 47
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 139
+    source 37
+    target 42
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 140
+    source 37
+    target 49
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 141
+    source 37
+    target 44
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 142
+    source 37
+    target 39
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 143
+    source 37
+    target 40
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 144
+    source 37
+    target 47
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 145
+    source 37
+    target 42
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 146
+    source 37
+    target 49
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 147
+    source 37
+    target 44
+    type "Flows"
+    label "y"
+  ]
+  edge [
+    id 148
+    source 40
+    target 41
+    type "Flows"
+    label "res"
+  ]
+  edge [
+    id 149
+    source 47
+    target 48
+    type "Flows"
+    label "res"
+  ]
+  edge [
+    id 150
+    source 42
+    target 43
+    type "Flows"
+    label "res"
+  ]
+  edge [
+    id 151
+    source 49
+    target 50
+    type "Flows"
+    label "res"
+  ]
+  edge [
+    id 152
+    source 44
+    target 45
+    type "Flows"
+    label "res"
+  ]
+  edge [
+    id 153
+    source 52
+    target 53
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 154
+    source 52
+    target 55
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 155
+    source 55
+    target 56
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 156
+    source 56
+    target 53
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 157
+    source 56
+    target 55
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 158
+    source 56
+    target 57
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 159
+    source 56
+    target 60
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 160
+    source 56
+    target 63
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 161
+    source 65
+    target 69
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 162
+    source 65
+    target 95
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 163
+    source 66
+    target 67
+    type "Flows"
+    label "p0"
+  ]
+  edge [
+    id 164
+    source 69
+    target 95
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 165
+    source 69
+    target 73
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 166
+    source 69
+    target 91
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 167
+    source 69
+    target 94
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 168
+    source 70
+    target 71
+    type "Flows"
+    label "p1"
+  ]
+  edge [
+    id 169
+    source 73
+    target 74
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 170
+    source 74
+    target 69
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 171
+    source 74
+    target 95
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 172
+    source 74
+    target 73
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 173
+    source 74
+    target 91
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 174
+    source 74
+    target 75
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 175
+    source 74
+    target 94
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 176
+    source 74
+    target 76
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 177
+    source 92
+    target 67
+    type "Flows"
+    label "p0"
+  ]
+  edge [
+    id 178
+    source 76
+    target 77
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 179
+    source 77
+    target 69
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 180
+    source 77
+    target 95
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 181
+    source 77
+    target 91
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 182
+    source 77
+    target 94
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 183
+    source 77
+    target 78
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 184
+    source 77
+    target 79
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 185
+    source 79
+    target 84
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 186
+    source 84
+    target 69
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 187
+    source 84
+    target 95
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 188
+    source 84
+    target 91
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 189
+    source 84
+    target 94
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 190
+    source 84
+    target 85
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 191
+    source 84
+    target 86
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 192
+    source 84
+    target 89
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 193
+    source 89
+    target 89
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 194
+    source 89
+    target 69
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 195
+    source 89
+    target 95
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 196
+    source 89
+    target 73
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 197
+    source 89
+    target 91
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 198
+    source 89
+    target 94
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 199
+    source 89
+    target 90
+    type "Flows"
+    label "x"
+  ]
+  edge [
+    id 200
+    source 90
+    target 71
+    type "Flows"
+    label "p1"
+  ]
+  edge [
+    id 201
+    source 97
+    target 98
+    type "Flows"
+    label "tst"
+  ]
+  edge [
+    id 202
+    source 98
+    target 99
+    type "Flows"
+    label "tst"
+  ]
+  edge [
+    id 203
+    source 99
+    target 100
+    type "Flows"
+    label "tst"
+  ]
+  edge [
+    id 204
+    source 99
+    target 101
+    type "Flows"
+    label "tst"
+  ]
+  edge [
+    id 205
+    source 99
+    target 102
+    type "Flows"
+    label "tst"
+  ]
+  edge [
+    id 206
+    source 99
+    target 103
+    type "Flows"
+    label "tst"
+  ]
+  edge [
+    id 207
+    source 99
+    target 104
+    type "Flows"
+    label "tst"
+  ]
+]
@@ -0,0 +1,704 @@
+graph [
+  directed 1
+  label "CDG of Test5.java"
+  type "Control Dependence Graph (CDG)"
+  file "Test5.java"
+
+  node [
+    id 0
+    line 10
+    label "void test1()"
+  ]
+  node [
+    id 1
+    line 11
+    label "File file = new File('file.log')"
+  ]
+  node [
+    id 2
+    line 12
+    label "try"
+  ]
+  node [
+    id 3
+    line 13
+    label "FileInputStream fis = new FileInputStream(file)"
+  ]
+  node [
+    id 4
+    line 14
+    label "byte[] buffer = new byte[256]"
+  ]
+  node [
+    id 5
+    line 15
+    label "int read = fis.read(buffer)"
+  ]
+  node [
+    id 6
+    line 16
+    label "System.out.println(read + ' bytes read.')"
+  ]
+  node [
+    id 7
+    line 17
+    label "System.out.println(Arrays.toString(Arrays.copyOf(buffer, read)))"
+  ]
+  node [
+    id 8
+    line 18
+    label "catch (FileNotFoundException ex)"
+  ]
+  node [
+    id 9
+    line 19
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 10
+    line 20
+    label "catch (IOException ex)"
+  ]
+  node [
+    id 11
+    line 21
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 12
+    line 22
+    label "finally"
+  ]
+  node [
+    id 13
+    line 23
+    label "System.out.println('finally')"
+  ]
+  node [
+    id 14
+    line 0
+    label "exit"
+  ]
+  node [
+    id 15
+    line 28
+    label "void test2()"
+  ]
+  node [
+    id 16
+    line 29
+    label "try"
+  ]
+  node [
+    id 17
+    line 30
+    label "File file = new File('file.log')"
+  ]
+  node [
+    id 18
+    line 31
+    label "if (file.exists())"
+  ]
+  node [
+    id 19
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 20
+    line 32
+    label "System.out.println('Permissions for 'file.log':')"
+  ]
+  node [
+    id 21
+    line 33
+    label "System.out.println('  Read = ' + file.canRead())"
+  ]
+  node [
+    id 22
+    line 34
+    label "System.out.println('  Write = ' + file.canWrite())"
+  ]
+  node [
+    id 23
+    line 35
+    label "System.out.println('  Execute = ' + file.canExecute())"
+  ]
+  node [
+    id 24
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 25
+    line 37
+    label "System.out.println(''file.log' does not exist!')"
+  ]
+  node [
+    id 26
+    line 39
+    label "finally"
+  ]
+  node [
+    id 27
+    line 40
+    label "System.out.println('finally')"
+  ]
+  node [
+    id 28
+    line 0
+    label "exit"
+  ]
+  node [
+    id 29
+    line 45
+    label "void test3()"
+  ]
+  node [
+    id 30
+    line 46
+    label "int i = 10"
+  ]
+  node [
+    id 31
+    line 47
+    label "try"
+  ]
+  node [
+    id 32
+    line 48
+    label "while (true)"
+  ]
+  node [
+    id 33
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 34
+    line 49
+    label "System.out.println(10 / i)"
+  ]
+  node [
+    id 35
+    line 50
+    label "--i"
+  ]
+  node [
+    id 36
+    line 52
+    label "catch (ArithmeticException ex)"
+  ]
+  node [
+    id 37
+    line 53
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 38
+    line 55
+    label "System.out.println('i = ' + i)"
+  ]
+  node [
+    id 39
+    line 0
+    label "exit"
+  ]
+  node [
+    id 40
+    line 59
+    label "void test4(int i)"
+  ]
+  node [
+    id 41
+    line 60
+    label "try"
+  ]
+  node [
+    id 42
+    line 61
+    label "if (i > 0)"
+  ]
+  node [
+    id 43
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 44
+    line 62
+    label "System.out.println('Positive')"
+  ]
+  node [
+    id 45
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 46
+    line 64
+    label "if (i == 0)"
+  ]
+  node [
+    id 47
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 48
+    line 65
+    label "throw new Exception('ZERO! [ A Pointless Exception! ]')"
+  ]
+  node [
+    id 49
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 50
+    line 0
+    label "FOLLOW-1"
+  ]
+  node [
+    id 51
+    line 66
+    label "System.out.println('Negative')"
+  ]
+  node [
+    id 52
+    line 68
+    label "catch (Exception ex)"
+  ]
+  node [
+    id 53
+    line 69
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 54
+    line 71
+    label "System.out.println('Finish')"
+  ]
+  node [
+    id 55
+    line 0
+    label "exit"
+  ]
+  node [
+    id 56
+    line 75
+    label "void main(String[] args)"
+  ]
+  node [
+    id 57
+    line 76
+    label "System.out.println('test-1:')"
+  ]
+  node [
+    id 58
+    line 77
+    label "test1()"
+  ]
+  node [
+    id 59
+    line 78
+    label "System.out.println('\\ntest-2:')"
+  ]
+  node [
+    id 60
+    line 79
+    label "test2()"
+  ]
+  node [
+    id 61
+    line 80
+    label "System.out.println('\\ntest-3:')"
+  ]
+  node [
+    id 62
+    line 81
+    label "test3()"
+  ]
+  node [
+    id 63
+    line 82
+    label "System.out.println('\\ntest-4:')"
+  ]
+  node [
+    id 64
+    line 83
+    label "test4(0)"
+  ]
+  node [
+    id 65
+    line 0
+    label "exit"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 0
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 2
+    target 3
+    label ""
+  ]
+  edge [
+    id 3
+    source 2
+    target 4
+    label ""
+  ]
+  edge [
+    id 4
+    source 2
+    target 5
+    label ""
+  ]
+  edge [
+    id 5
+    source 2
+    target 6
+    label ""
+  ]
+  edge [
+    id 6
+    source 2
+    target 7
+    label ""
+  ]
+  edge [
+    id 7
+    source 2
+    target 8
+    label "Throws"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label ""
+  ]
+  edge [
+    id 9
+    source 2
+    target 10
+    label "Throws"
+  ]
+  edge [
+    id 10
+    source 10
+    target 11
+    label ""
+  ]
+  edge [
+    id 11
+    source 0
+    target 12
+    label ""
+  ]
+  edge [
+    id 12
+    source 12
+    target 13
+    label ""
+  ]
+  edge [
+    id 13
+    source 0
+    target 14
+    label ""
+  ]
+  edge [
+    id 14
+    source 15
+    target 16
+    label ""
+  ]
+  edge [
+    id 15
+    source 16
+    target 17
+    label ""
+  ]
+  edge [
+    id 16
+    source 16
+    target 18
+    label ""
+  ]
+  edge [
+    id 17
+    source 18
+    target 19
+    label "True"
+  ]
+  edge [
+    id 18
+    source 19
+    target 20
+    label ""
+  ]
+  edge [
+    id 19
+    source 19
+    target 21
+    label ""
+  ]
+  edge [
+    id 20
+    source 19
+    target 22
+    label ""
+  ]
+  edge [
+    id 21
+    source 19
+    target 23
+    label ""
+  ]
+  edge [
+    id 22
+    source 18
+    target 24
+    label "False"
+  ]
+  edge [
+    id 23
+    source 24
+    target 25
+    label ""
+  ]
+  edge [
+    id 24
+    source 15
+    target 26
+    label ""
+  ]
+  edge [
+    id 25
+    source 26
+    target 27
+    label ""
+  ]
+  edge [
+    id 26
+    source 15
+    target 28
+    label ""
+  ]
+  edge [
+    id 27
+    source 29
+    target 30
+    label ""
+  ]
+  edge [
+    id 28
+    source 29
+    target 31
+    label ""
+  ]
+  edge [
+    id 29
+    source 31
+    target 32
+    label ""
+  ]
+  edge [
+    id 30
+    source 32
+    target 33
+    label "True"
+  ]
+  edge [
+    id 31
+    source 33
+    target 34
+    label ""
+  ]
+  edge [
+    id 32
+    source 33
+    target 35
+    label ""
+  ]
+  edge [
+    id 33
+    source 31
+    target 36
+    label "Throws"
+  ]
+  edge [
+    id 34
+    source 36
+    target 37
+    label ""
+  ]
+  edge [
+    id 35
+    source 29
+    target 38
+    label ""
+  ]
+  edge [
+    id 36
+    source 29
+    target 39
+    label ""
+  ]
+  edge [
+    id 37
+    source 40
+    target 41
+    label ""
+  ]
+  edge [
+    id 38
+    source 41
+    target 42
+    label ""
+  ]
+  edge [
+    id 39
+    source 42
+    target 43
+    label "True"
+  ]
+  edge [
+    id 40
+    source 43
+    target 44
+    label ""
+  ]
+  edge [
+    id 41
+    source 42
+    target 45
+    label "False"
+  ]
+  edge [
+    id 42
+    source 45
+    target 46
+    label ""
+  ]
+  edge [
+    id 43
+    source 46
+    target 47
+    label "True"
+  ]
+  edge [
+    id 44
+    source 47
+    target 48
+    label ""
+  ]
+  edge [
+    id 45
+    source 46
+    target 49
+    label "False"
+  ]
+  edge [
+    id 46
+    source 49
+    target 50
+    label ""
+  ]
+  edge [
+    id 47
+    source 50
+    target 51
+    label ""
+  ]
+  edge [
+    id 48
+    source 41
+    target 52
+    label "Throws"
+  ]
+  edge [
+    id 49
+    source 52
+    target 53
+    label ""
+  ]
+  edge [
+    id 50
+    source 50
+    target 54
+    label ""
+  ]
+  edge [
+    id 51
+    source 40
+    target 55
+    label ""
+  ]
+  edge [
+    id 52
+    source 56
+    target 57
+    label ""
+  ]
+  edge [
+    id 53
+    source 56
+    target 58
+    label ""
+  ]
+  edge [
+    id 54
+    source 56
+    target 59
+    label ""
+  ]
+  edge [
+    id 55
+    source 56
+    target 60
+    label ""
+  ]
+  edge [
+    id 56
+    source 56
+    target 61
+    label ""
+  ]
+  edge [
+    id 57
+    source 56
+    target 62
+    label ""
+  ]
+  edge [
+    id 58
+    source 56
+    target 63
+    label ""
+  ]
+  edge [
+    id 59
+    source 56
+    target 64
+    label ""
+  ]
+  edge [
+    id 60
+    source 56
+    target 65
+    label ""
+  ]
+]
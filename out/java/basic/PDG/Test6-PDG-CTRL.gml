@@ -0,0 +1,524 @@
+graph [
+  directed 1
+  label "CDG of Test6.java"
+  type "Control Dependence Graph (CDG)"
+  file "Test6.java"
+
+  node [
+    id 0
+    line 4
+    label "void test()"
+  ]
+  node [
+    id 1
+    line 5
+    label "int x = 0"
+  ]
+  node [
+    id 2
+    line 6
+    label "boolean p1 = true"
+  ]
+  node [
+    id 3
+    line 7
+    label "while (p1)"
+  ]
+  node [
+    id 4
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 5
+    line 8
+    label "x *= 2"
+  ]
+  node [
+    id 6
+    line 9
+    label "x -= 10"
+  ]
+  node [
+    id 7
+    line 10
+    label "if (x > 10)"
+  ]
+  node [
+    id 8
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 9
+    line 11
+    label "x += 8"
+  ]
+  node [
+    id 10
+    line 12
+    label "x /= 3"
+  ]
+  node [
+    id 11
+    line 13
+    label "if (x > 0)"
+  ]
+  node [
+    id 12
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 13
+    line 14
+    label "x -= 2"
+  ]
+  node [
+    id 14
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 15
+    line 16
+    label "break;"
+  ]
+  node [
+    id 16
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 17
+    line 18
+    label "continue;"
+  ]
+  node [
+    id 18
+    line 0
+    label "FOLLOW-1"
+  ]
+  node [
+    id 19
+    line 19
+    label "x--"
+  ]
+  node [
+    id 20
+    line 20
+    label "System.out.println(x)"
+  ]
+  node [
+    id 21
+    line 21
+    label "if (x > 20)"
+  ]
+  node [
+    id 22
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 23
+    line 22
+    label "break;"
+  ]
+  node [
+    id 24
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 25
+    line 0
+    label "FOLLOW-2"
+  ]
+  node [
+    id 26
+    line 23
+    label "--x"
+  ]
+  node [
+    id 27
+    line 24
+    label "p1 = x > 7 ? true : false"
+  ]
+  node [
+    id 28
+    line 0
+    label "exit"
+  ]
+  node [
+    id 29
+    line 28
+    label "void main(String[] args)"
+  ]
+  node [
+    id 30
+    line 29
+    label "int x = 120"
+  ]
+  node [
+    id 31
+    line 30
+    label "while (true)"
+  ]
+  node [
+    id 32
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 33
+    line 31
+    label "if (x > 100)"
+  ]
+  node [
+    id 34
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 35
+    line 32
+    label "x -= 10"
+  ]
+  node [
+    id 36
+    line 33
+    label "continue;"
+  ]
+  node [
+    id 37
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 38
+    line 35
+    label "if (x < 10)"
+  ]
+  node [
+    id 39
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 40
+    line 36
+    label "break;"
+  ]
+  node [
+    id 41
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 42
+    line 38
+    label "x -= 5"
+  ]
+  node [
+    id 43
+    line 0
+    label "FOLLOW-1"
+  ]
+  node [
+    id 44
+    line 40
+    label "System.out.println(x)"
+  ]
+  node [
+    id 45
+    line 43
+    label "Test6 tst = new Test6()"
+  ]
+  node [
+    id 46
+    line 44
+    label "tst.test()"
+  ]
+  node [
+    id 47
+    line 0
+    label "exit"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 0
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 0
+    target 3
+    label ""
+  ]
+  edge [
+    id 3
+    source 3
+    target 4
+    label "True"
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label ""
+  ]
+  edge [
+    id 5
+    source 4
+    target 6
+    label ""
+  ]
+  edge [
+    id 6
+    source 4
+    target 7
+    label ""
+  ]
+  edge [
+    id 7
+    source 7
+    target 8
+    label "True"
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label ""
+  ]
+  edge [
+    id 9
+    source 8
+    target 10
+    label ""
+  ]
+  edge [
+    id 10
+    source 8
+    target 11
+    label ""
+  ]
+  edge [
+    id 11
+    source 11
+    target 12
+    label "True"
+  ]
+  edge [
+    id 12
+    source 12
+    target 13
+    label ""
+  ]
+  edge [
+    id 13
+    source 11
+    target 14
+    label "False"
+  ]
+  edge [
+    id 14
+    source 14
+    target 15
+    label ""
+  ]
+  edge [
+    id 15
+    source 7
+    target 16
+    label "False"
+  ]
+  edge [
+    id 16
+    source 16
+    target 17
+    label ""
+  ]
+  edge [
+    id 17
+    source 12
+    target 18
+    label ""
+  ]
+  edge [
+    id 18
+    source 18
+    target 19
+    label ""
+  ]
+  edge [
+    id 19
+    source 18
+    target 20
+    label ""
+  ]
+  edge [
+    id 20
+    source 18
+    target 21
+    label ""
+  ]
+  edge [
+    id 21
+    source 21
+    target 22
+    label "True"
+  ]
+  edge [
+    id 22
+    source 22
+    target 23
+    label ""
+  ]
+  edge [
+    id 23
+    source 21
+    target 24
+    label "False"
+  ]
+  edge [
+    id 24
+    source 24
+    target 25
+    label ""
+  ]
+  edge [
+    id 25
+    source 25
+    target 26
+    label ""
+  ]
+  edge [
+    id 26
+    source 25
+    target 27
+    label ""
+  ]
+  edge [
+    id 27
+    source 0
+    target 28
+    label ""
+  ]
+  edge [
+    id 28
+    source 29
+    target 30
+    label ""
+  ]
+  edge [
+    id 29
+    source 29
+    target 31
+    label ""
+  ]
+  edge [
+    id 30
+    source 31
+    target 32
+    label "True"
+  ]
+  edge [
+    id 31
+    source 32
+    target 33
+    label ""
+  ]
+  edge [
+    id 32
+    source 33
+    target 34
+    label "True"
+  ]
+  edge [
+    id 33
+    source 34
+    target 35
+    label ""
+  ]
+  edge [
+    id 34
+    source 34
+    target 36
+    label ""
+  ]
+  edge [
+    id 35
+    source 33
+    target 37
+    label "False"
+  ]
+  edge [
+    id 36
+    source 37
+    target 38
+    label ""
+  ]
+  edge [
+    id 37
+    source 38
+    target 39
+    label "True"
+  ]
+  edge [
+    id 38
+    source 39
+    target 40
+    label ""
+  ]
+  edge [
+    id 39
+    source 38
+    target 41
+    label "False"
+  ]
+  edge [
+    id 40
+    source 41
+    target 42
+    label ""
+  ]
+  edge [
+    id 41
+    source 41
+    target 43
+    label ""
+  ]
+  edge [
+    id 42
+    source 43
+    target 44
+    label ""
+  ]
+  edge [
+    id 43
+    source 29
+    target 45
+    label ""
+  ]
+  edge [
+    id 44
+    source 29
+    target 46
+    label ""
+  ]
+  edge [
+    id 45
+    source 29
+    target 47
+    label ""
+  ]
+]
@@ -0,0 +1,596 @@
+graph [
+  directed 1
+  label "CDG of Test7.java"
+  type "Control Dependence Graph (CDG)"
+  file "Test7.java"
+
+  node [
+    id 0
+    line 7
+    label "Test7 ()"
+  ]
+  node [
+    id 1
+    line 8
+    label "str = ''"
+  ]
+  node [
+    id 2
+    line 9
+    label "integer = 0"
+  ]
+  node [
+    id 3
+    line 0
+    label "exit"
+  ]
+  node [
+    id 4
+    line 12
+    label "Test7 (String str, int sub)"
+  ]
+  node [
+    id 5
+    line 13
+    label "this.str = str.substring(sub)"
+  ]
+  node [
+    id 6
+    line 14
+    label "integer = 0"
+  ]
+  node [
+    id 7
+    line 0
+    label "exit"
+  ]
+  node [
+    id 8
+    line 17
+    label "String getSTR()"
+  ]
+  node [
+    id 9
+    line 18
+    label "return str;"
+  ]
+  node [
+    id 10
+    line 0
+    label "exit"
+  ]
+  node [
+    id 11
+    line 21
+    label "void setInteger(int i)"
+  ]
+  node [
+    id 12
+    line 22
+    label "integer = i"
+  ]
+  node [
+    id 13
+    line 0
+    label "exit"
+  ]
+  node [
+    id 14
+    line 25
+    label "int getInteger()"
+  ]
+  node [
+    id 15
+    line 26
+    label "return integer;"
+  ]
+  node [
+    id 16
+    line 0
+    label "exit"
+  ]
+  node [
+    id 17
+    line 29
+    label "void setSTR(String str)"
+  ]
+  node [
+    id 18
+    line 30
+    label "this.str = str"
+  ]
+  node [
+    id 19
+    line 0
+    label "exit"
+  ]
+  node [
+    id 20
+    line 33
+    label "void method1()"
+  ]
+  node [
+    id 21
+    line 34
+    label "int len = str.length()"
+  ]
+  node [
+    id 22
+    line 35
+    label "System.out.println('STR length is ' + len)"
+  ]
+  node [
+    id 23
+    line 0
+    label "exit"
+  ]
+  node [
+    id 24
+    line 38
+    label "String addSTR(String str)"
+  ]
+  node [
+    id 25
+    line 39
+    label "return this.str + str;"
+  ]
+  node [
+    id 26
+    line 0
+    label "exit"
+  ]
+  node [
+    id 27
+    line 42
+    label "void simple()"
+  ]
+  node [
+    id 28
+    line 43
+    label "int i = 1, j"
+  ]
+  node [
+    id 29
+    line 44
+    label "i++"
+  ]
+  node [
+    id 30
+    line 45
+    label "System.out.println(i)"
+  ]
+  node [
+    id 31
+    line 46
+    label "j = i + 3"
+  ]
+  node [
+    id 32
+    line 47
+    label "System.out.println(j)"
+  ]
+  node [
+    id 33
+    line 0
+    label "exit"
+  ]
+  node [
+    id 34
+    line 50
+    label "void main(String[] args)"
+  ]
+  node [
+    id 35
+    line 51
+    label "int idx = 4"
+  ]
+  node [
+    id 36
+    line 52
+    label "Test7 t = new Test7()"
+  ]
+  node [
+    id 37
+    line 53
+    label "t.method1()"
+  ]
+  node [
+    id 38
+    line 54
+    label "String str = 'some-string'"
+  ]
+  node [
+    id 39
+    line 55
+    label "t.setSTR(t.addSTR(str).concat(str))"
+  ]
+  node [
+    id 40
+    line 56
+    label "System.out.println(t.getSTR())"
+  ]
+  node [
+    id 41
+    line 57
+    label "System.out.println(t.getSTR().charAt(idx += 2))"
+  ]
+  node [
+    id 42
+    line 58
+    label "t = new Test7(str.concat('-plus-more'), idx)"
+  ]
+  node [
+    id 43
+    line 59
+    label "new Test7('This is a string', 10).getSTR()"
+  ]
+  node [
+    id 44
+    line 60
+    label "simple()"
+  ]
+  node [
+    id 45
+    line 61
+    label "t.sideEffect()"
+  ]
+  node [
+    id 46
+    line 62
+    label "System.out.println('t.integer = ' + t.getInteger())"
+  ]
+  node [
+    id 47
+    line 63
+    label "StringBuilder val = new StringBuilder('10')"
+  ]
+  node [
+    id 48
+    line 64
+    label "System.out.println('val = ' + val)"
+  ]
+  node [
+    id 49
+    line 65
+    label "t.doubleSideEffect(val)"
+  ]
+  node [
+    id 50
+    line 66
+    label "System.out.println('val = ' + val)"
+  ]
+  node [
+    id 51
+    line 67
+    label "System.out.println('t.integer = ' + t.getInteger())"
+  ]
+  node [
+    id 52
+    line 0
+    label "exit"
+  ]
+  node [
+    id 53
+    line 70
+    label "void sideEffect()"
+  ]
+  node [
+    id 54
+    line 71
+    label "integer++"
+  ]
+  node [
+    id 55
+    line 0
+    label "exit"
+  ]
+  node [
+    id 56
+    line 74
+    label "void doubleSideEffect(StringBuilder intStr)"
+  ]
+  node [
+    id 57
+    line 75
+    label "intStr.append(0)"
+  ]
+  node [
+    id 58
+    line 76
+    label "integer = Integer.parseInt(intStr.toString())"
+  ]
+  node [
+    id 59
+    line 0
+    label "exit"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 0
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 0
+    target 3
+    label ""
+  ]
+  edge [
+    id 3
+    source 4
+    target 5
+    label ""
+  ]
+  edge [
+    id 4
+    source 4
+    target 6
+    label ""
+  ]
+  edge [
+    id 5
+    source 4
+    target 7
+    label ""
+  ]
+  edge [
+    id 6
+    source 8
+    target 9
+    label ""
+  ]
+  edge [
+    id 7
+    source 8
+    target 10
+    label ""
+  ]
+  edge [
+    id 8
+    source 11
+    target 12
+    label ""
+  ]
+  edge [
+    id 9
+    source 11
+    target 13
+    label ""
+  ]
+  edge [
+    id 10
+    source 14
+    target 15
+    label ""
+  ]
+  edge [
+    id 11
+    source 14
+    target 16
+    label ""
+  ]
+  edge [
+    id 12
+    source 17
+    target 18
+    label ""
+  ]
+  edge [
+    id 13
+    source 17
+    target 19
+    label ""
+  ]
+  edge [
+    id 14
+    source 20
+    target 21
+    label ""
+  ]
+  edge [
+    id 15
+    source 20
+    target 22
+    label ""
+  ]
+  edge [
+    id 16
+    source 20
+    target 23
+    label ""
+  ]
+  edge [
+    id 17
+    source 24
+    target 25
+    label ""
+  ]
+  edge [
+    id 18
+    source 24
+    target 26
+    label ""
+  ]
+  edge [
+    id 19
+    source 27
+    target 28
+    label ""
+  ]
+  edge [
+    id 20
+    source 27
+    target 29
+    label ""
+  ]
+  edge [
+    id 21
+    source 27
+    target 30
+    label ""
+  ]
+  edge [
+    id 22
+    source 27
+    target 31
+    label ""
+  ]
+  edge [
+    id 23
+    source 27
+    target 32
+    label ""
+  ]
+  edge [
+    id 24
+    source 27
+    target 33
+    label ""
+  ]
+  edge [
+    id 25
+    source 34
+    target 35
+    label ""
+  ]
+  edge [
+    id 26
+    source 34
+    target 36
+    label ""
+  ]
+  edge [
+    id 27
+    source 34
+    target 37
+    label ""
+  ]
+  edge [
+    id 28
+    source 34
+    target 38
+    label ""
+  ]
+  edge [
+    id 29
+    source 34
+    target 39
+    label ""
+  ]
+  edge [
+    id 30
+    source 34
+    target 40
+    label ""
+  ]
+  edge [
+    id 31
+    source 34
+    target 41
+    label ""
+  ]
+  edge [
+    id 32
+    source 34
+    target 42
+    label ""
+  ]
+  edge [
+    id 33
+    source 34
+    target 43
+    label ""
+  ]
+  edge [
+    id 34
+    source 34
+    target 44
+    label ""
+  ]
+  edge [
+    id 35
+    source 34
+    target 45
+    label ""
+  ]
+  edge [
+    id 36
+    source 34
+    target 46
+    label ""
+  ]
+  edge [
+    id 37
+    source 34
+    target 47
+    label ""
+  ]
+  edge [
+    id 38
+    source 34
+    target 48
+    label ""
+  ]
+  edge [
+    id 39
+    source 34
+    target 49
+    label ""
+  ]
+  edge [
+    id 40
+    source 34
+    target 50
+    label ""
+  ]
+  edge [
+    id 41
+    source 34
+    target 51
+    label ""
+  ]
+  edge [
+    id 42
+    source 34
+    target 52
+    label ""
+  ]
+  edge [
+    id 43
+    source 53
+    target 54
+    label ""
+  ]
+  edge [
+    id 44
+    source 53
+    target 55
+    label ""
+  ]
+  edge [
+    id 45
+    source 56
+    target 57
+    label ""
+  ]
+  edge [
+    id 46
+    source 56
+    target 58
+    label ""
+  ]
+  edge [
+    id 47
+    source 56
+    target 59
+    label ""
+  ]
+]
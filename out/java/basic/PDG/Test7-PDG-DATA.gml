@@ -0,0 +1,786 @@
+graph [
+  directed 1
+  multigraph 1
+  label "DDG of Test7.java"
+  type "Data Dependence Graph (DDG)"
+  file "Test7.java"
+
+  node [
+    id 0
+    line 7
+    label "Test7 ()"
+    defs []
+    uses []
+  ]
+  node [
+    id 1
+    line 8
+    label "str = ''"
+    defs [var "$THIS.str"]
+    uses []
+  ]
+  node [
+    id 2
+    line 9
+    label "integer = 0"
+    defs [var "$THIS.integer"]
+    uses []
+  ]
+  node [
+    id 3
+    line 12
+    label "Test7 (String str, int sub)"
+    defs [var "str" var "sub"]
+    uses []
+  ]
+  node [
+    id 4
+    line 13
+    label "this.str = str.substring(sub)"
+    defs [var "$THIS.str"]
+    uses [var "str" var "sub"]
+  ]
+  node [
+    id 5
+    line 14
+    label "integer = 0"
+    defs [var "$THIS.integer"]
+    uses []
+  ]
+  node [
+    id 6
+    line 17
+    label "String getSTR()"
+    defs []
+    uses []
+  ]
+  node [
+    id 7
+    line 18
+    label "return str;"
+    defs []
+    uses [var "$THIS.str"]
+  ]
+  node [
+    id 8
+    line 21
+    label "void setInteger(int i)"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 9
+    line 22
+    label "integer = i"
+    defs [var "$THIS.integer"]
+    uses [var "i"]
+  ]
+  node [
+    id 10
+    line 25
+    label "int getInteger()"
+    defs []
+    uses []
+  ]
+  node [
+    id 11
+    line 26
+    label "return integer;"
+    defs []
+    uses [var "$THIS.integer"]
+  ]
+  node [
+    id 12
+    line 29
+    label "void setSTR(String str)"
+    defs [var "str"]
+    uses []
+  ]
+  node [
+    id 13
+    line 30
+    label "this.str = str"
+    defs [var "$THIS.str"]
+    uses [var "str"]
+  ]
+  node [
+    id 14
+    line 33
+    label "void method1()"
+    defs []
+    uses []
+  ]
+  node [
+    id 15
+    line 34
+    label "int len = str.length()"
+    defs [var "len"]
+    uses [var "$THIS.str"]
+  ]
+  node [
+    id 16
+    line 35
+    label "System.out.println('STR length is ' + len)"
+    defs []
+    uses [var "len"]
+  ]
+  node [
+    id 17
+    line 38
+    label "String addSTR(String str)"
+    defs [var "str"]
+    uses []
+  ]
+  node [
+    id 18
+    line 39
+    label "return this.str + str;"
+    defs []
+    uses [var "str" var "$THIS.str"]
+  ]
+  node [
+    id 19
+    line 42
+    label "void simple()"
+    defs []
+    uses []
+  ]
+  node [
+    id 20
+    line 43
+    label "int i = 1, j"
+    defs [var "i"]
+    uses []
+  ]
+  node [
+    id 21
+    line 44
+    label "i++"
+    defs [var "i"]
+    uses [var "i"]
+  ]
+  node [
+    id 22
+    line 45
+    label "System.out.println(i)"
+    defs []
+    uses [var "i"]
+  ]
+  node [
+    id 23
+    line 46
+    label "j = i + 3"
+    defs [var "j"]
+    uses [var "i"]
+  ]
+  node [
+    id 24
+    line 47
+    label "System.out.println(j)"
+    defs []
+    uses [var "j"]
+  ]
+  node [
+    id 25
+    line 50
+    label "void main(String[] args)"
+    defs [var "args"]
+    uses []
+  ]
+  node [
+    id 26
+    line 51
+    label "int idx = 4"
+    defs [var "idx"]
+    uses []
+  ]
+  node [
+    id 27
+    line 52
+    label "Test7 t = new Test7()"
+    defs [var "t"]
+    uses []
+  ]
+  node [
+    id 28
+    line 53
+    label "t.method1()"
+    defs []
+    uses [var "t"]
+  ]
+  node [
+    id 29
+    line 54
+    label "String str = 'some-string'"
+    defs [var "str"]
+    uses []
+  ]
+  node [
+    id 30
+    line 55
+    label "t.setSTR(t.addSTR(str).concat(str))"
+    defs [var "t"]
+    uses [var "str" var "t"]
+  ]
+  node [
+    id 31
+    line 56
+    label "System.out.println(t.getSTR())"
+    defs []
+    uses [var "t"]
+  ]
+  node [
+    id 32
+    line 57
+    label "System.out.println(t.getSTR().charAt(idx += 2))"
+    defs [var "idx"]
+    uses [var "t" var "idx"]
+  ]
+  node [
+    id 33
+    line 58
+    label "t = new Test7(str.concat('-plus-more'), idx)"
+    defs [var "t"]
+    uses [var "str" var "idx"]
+  ]
+  node [
+    id 34
+    line 59
+    label "new Test7('This is a string', 10).getSTR()"
+    defs []
+    uses []
+  ]
+  node [
+    id 35
+    line 60
+    label "simple()"
+    defs []
+    uses []
+  ]
+  node [
+    id 36
+    line 61
+    label "t.sideEffect()"
+    defs [var "t"]
+    uses [var "t"]
+  ]
+  node [
+    id 37
+    line 62
+    label "System.out.println('t.integer = ' + t.getInteger())"
+    defs []
+    uses [var "t"]
+  ]
+  node [
+    id 38
+    line 63
+    label "StringBuilder val = new StringBuilder('10')"
+    defs [var "val"]
+    uses []
+  ]
+  node [
+    id 39
+    line 64
+    label "System.out.println('val = ' + val)"
+    defs []
+    uses [var "val"]
+  ]
+  node [
+    id 40
+    line 65
+    label "t.doubleSideEffect(val)"
+    defs [var "val" var "t"]
+    uses [var "val" var "t"]
+  ]
+  node [
+    id 41
+    line 66
+    label "System.out.println('val = ' + val)"
+    defs []
+    uses [var "val"]
+  ]
+  node [
+    id 42
+    line 67
+    label "System.out.println('t.integer = ' + t.getInteger())"
+    defs []
+    uses [var "t"]
+  ]
+  node [
+    id 43
+    line 70
+    label "void sideEffect()"
+    defs []
+    uses []
+  ]
+  node [
+    id 44
+    line 71
+    label "integer++"
+    defs [var "$THIS.integer"]
+    uses [var "$THIS.integer"]
+  ]
+  node [
+    id 45
+    line 74
+    label "void doubleSideEffect(StringBuilder intStr)"
+    defs [var "intStr"]
+    uses []
+  ]
+  node [
+    id 46
+    line 75
+    label "intStr.append(0)"
+    defs [var "intStr"]
+    uses [var "intStr"]
+  ]
+  node [
+    id 47
+    line 76
+    label "integer = Integer.parseInt(intStr.toString())"
+    defs [var "$THIS.integer"]
+    uses [var "intStr"]
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 2
+    source 3
+    target 4
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 3
+    source 4
+    target 5
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 4
+    source 6
+    target 7
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 5
+    source 8
+    target 9
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 6
+    source 10
+    target 11
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 7
+    source 12
+    target 13
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 8
+    source 14
+    target 15
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 9
+    source 15
+    target 16
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 10
+    source 17
+    target 18
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 11
+    source 19
+    target 20
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 12
+    source 20
+    target 21
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 13
+    source 21
+    target 22
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 14
+    source 22
+    target 23
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 15
+    source 23
+    target 24
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 16
+    source 25
+    target 26
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 17
+    source 26
+    target 27
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 18
+    source 27
+    target 28
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 19
+    source 28
+    target 29
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 20
+    source 29
+    target 30
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 21
+    source 30
+    target 31
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 22
+    source 31
+    target 32
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 23
+    source 32
+    target 33
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 24
+    source 33
+    target 34
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 25
+    source 34
+    target 35
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 26
+    source 35
+    target 36
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 27
+    source 36
+    target 37
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 28
+    source 37
+    target 38
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 29
+    source 38
+    target 39
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 30
+    source 39
+    target 40
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 31
+    source 40
+    target 41
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 32
+    source 41
+    target 42
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 33
+    source 43
+    target 44
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 34
+    source 45
+    target 46
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 35
+    source 46
+    target 47
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 36
+    source 3
+    target 4
+    type "Flows"
+    label "str"
+  ]
+  edge [
+    id 37
+    source 3
+    target 4
+    type "Flows"
+    label "sub"
+  ]
+  edge [
+    id 38
+    source 8
+    target 9
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 39
+    source 12
+    target 13
+    type "Flows"
+    label "str"
+  ]
+  edge [
+    id 40
+    source 15
+    target 16
+    type "Flows"
+    label "len"
+  ]
+  edge [
+    id 41
+    source 17
+    target 18
+    type "Flows"
+    label "str"
+  ]
+  edge [
+    id 42
+    source 20
+    target 21
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 43
+    source 21
+    target 22
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 44
+    source 21
+    target 23
+    type "Flows"
+    label "i"
+  ]
+  edge [
+    id 45
+    source 23
+    target 24
+    type "Flows"
+    label "j"
+  ]
+  edge [
+    id 46
+    source 26
+    target 32
+    type "Flows"
+    label "idx"
+  ]
+  edge [
+    id 47
+    source 27
+    target 28
+    type "Flows"
+    label "t"
+  ]
+  edge [
+    id 48
+    source 27
+    target 30
+    type "Flows"
+    label "t"
+  ]
+  edge [
+    id 49
+    source 29
+    target 30
+    type "Flows"
+    label "str"
+  ]
+  edge [
+    id 50
+    source 29
+    target 33
+    type "Flows"
+    label "str"
+  ]
+  edge [
+    id 51
+    source 30
+    target 31
+    type "Flows"
+    label "t"
+  ]
+  edge [
+    id 52
+    source 30
+    target 32
+    type "Flows"
+    label "t"
+  ]
+  edge [
+    id 53
+    source 32
+    target 33
+    type "Flows"
+    label "idx"
+  ]
+  edge [
+    id 54
+    source 33
+    target 36
+    type "Flows"
+    label "t"
+  ]
+  edge [
+    id 55
+    source 36
+    target 37
+    type "Flows"
+    label "t"
+  ]
+  edge [
+    id 56
+    source 36
+    target 40
+    type "Flows"
+    label "t"
+  ]
+  edge [
+    id 57
+    source 38
+    target 39
+    type "Flows"
+    label "val"
+  ]
+  edge [
+    id 58
+    source 38
+    target 40
+    type "Flows"
+    label "val"
+  ]
+  edge [
+    id 59
+    source 40
+    target 41
+    type "Flows"
+    label "val"
+  ]
+  edge [
+    id 60
+    source 40
+    target 42
+    type "Flows"
+    label "t"
+  ]
+  edge [
+    id 61
+    source 45
+    target 46
+    type "Flows"
+    label "intStr"
+  ]
+  edge [
+    id 62
+    source 46
+    target 47
+    type "Flows"
+    label "intStr"
+  ]
+]
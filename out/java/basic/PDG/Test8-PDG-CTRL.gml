@@ -0,0 +1,513 @@
+graph [
+  directed 1
+  label "CDG of Test8.java"
+  type "Control Dependence Graph (CDG)"
+  file "Test8.java"
+
+  node [
+    id 0
+    line 10
+    label "void run(int x)"
+  ]
+  node [
+    id 1
+    line 12
+    label "boolean isPrime = false"
+  ]
+  node [
+    id 2
+    line 13
+    label "int[] primes = {2, 3, 5, 7, 11, 13, 17, 19}"
+  ]
+  node [
+    id 3
+    line 14
+    label "for (int p: primes)"
+  ]
+  node [
+    id 4
+    line 0
+    label "LOOP"
+  ]
+  node [
+    id 5
+    line 15
+    label "if (x == p)"
+  ]
+  node [
+    id 6
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 7
+    line 16
+    label "isPrime = true"
+  ]
+  node [
+    id 8
+    line 18
+    label "System.out.println(x + (isPrime ? ' is prime' : ' is not prime'))"
+  ]
+  node [
+    id 9
+    line 21
+    label "File file = new File('manifest.mf')"
+  ]
+  node [
+    id 10
+    line 22
+    label "FileInputStream fis = null"
+  ]
+  node [
+    id 11
+    line 23
+    label "try"
+  ]
+  node [
+    id 12
+    line 24
+    label "fis = new FileInputStream(file)"
+  ]
+  node [
+    id 13
+    line 25
+    label "byte[] buffer = new byte[x]"
+  ]
+  node [
+    id 14
+    line 26
+    label "int read = fis.read(buffer)"
+  ]
+  node [
+    id 15
+    line 27
+    label "System.out.println(read + ' bytes read.')"
+  ]
+  node [
+    id 16
+    line 28
+    label "System.out.println(Arrays.toString(Arrays.copyOf(buffer, read)))"
+  ]
+  node [
+    id 17
+    line 29
+    label "catch (FileNotFoundException ex)"
+  ]
+  node [
+    id 18
+    line 30
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 19
+    line 31
+    label "catch (IOException ex)"
+  ]
+  node [
+    id 20
+    line 32
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 21
+    line 33
+    label "finally"
+  ]
+  node [
+    id 22
+    line 34
+    label "try"
+  ]
+  node [
+    id 23
+    line 35
+    label "if (fis != null)"
+  ]
+  node [
+    id 24
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 25
+    line 36
+    label "fis.close()"
+  ]
+  node [
+    id 26
+    line 37
+    label "catch (IOException ex)"
+  ]
+  node [
+    id 27
+    line 38
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 28
+    line 43
+    label "file = new File('build.xml')"
+  ]
+  node [
+    id 29
+    line 44
+    label "try"
+  ]
+  node [
+    id 30
+    line 44
+    label "FileInputStream fism = new FileInputStream(file)"
+  ]
+  node [
+    id 31
+    line 45
+    label "byte[] buffer = new byte[2 * x]"
+  ]
+  node [
+    id 32
+    line 46
+    label "int read = fism.read(buffer)"
+  ]
+  node [
+    id 33
+    line 47
+    label "System.out.println(read + ' bytes read.')"
+  ]
+  node [
+    id 34
+    line 48
+    label "System.out.println(Arrays.toString(Arrays.copyOf(buffer, read)))"
+  ]
+  node [
+    id 35
+    line 49
+    label "catch (FileNotFoundException ex)"
+  ]
+  node [
+    id 36
+    line 50
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 37
+    line 51
+    label "catch (IOException ex)"
+  ]
+  node [
+    id 38
+    line 52
+    label "System.err.println(ex)"
+  ]
+  node [
+    id 39
+    line 0
+    label "exit"
+  ]
+  node [
+    id 40
+    line 57
+    label "void main(String[] args)"
+  ]
+  node [
+    id 41
+    line 58
+    label "if (args.length > 0)"
+  ]
+  node [
+    id 42
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 43
+    line 59
+    label "Test8.run(Integer.parseInt(args[0]))"
+  ]
+  node [
+    id 44
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 45
+    line 61
+    label "System.out.println('Nothing to process!')"
+  ]
+  node [
+    id 46
+    line 0
+    label "exit"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 0
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 0
+    target 3
+    label ""
+  ]
+  edge [
+    id 3
+    source 3
+    target 4
+    label "True"
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label ""
+  ]
+  edge [
+    id 5
+    source 5
+    target 6
+    label "True"
+  ]
+  edge [
+    id 6
+    source 6
+    target 7
+    label ""
+  ]
+  edge [
+    id 7
+    source 0
+    target 8
+    label ""
+  ]
+  edge [
+    id 8
+    source 0
+    target 9
+    label ""
+  ]
+  edge [
+    id 9
+    source 0
+    target 10
+    label ""
+  ]
+  edge [
+    id 10
+    source 0
+    target 11
+    label ""
+  ]
+  edge [
+    id 11
+    source 11
+    target 12
+    label ""
+  ]
+  edge [
+    id 12
+    source 11
+    target 13
+    label ""
+  ]
+  edge [
+    id 13
+    source 11
+    target 14
+    label ""
+  ]
+  edge [
+    id 14
+    source 11
+    target 15
+    label ""
+  ]
+  edge [
+    id 15
+    source 11
+    target 16
+    label ""
+  ]
+  edge [
+    id 16
+    source 11
+    target 17
+    label "Throws"
+  ]
+  edge [
+    id 17
+    source 17
+    target 18
+    label ""
+  ]
+  edge [
+    id 18
+    source 11
+    target 19
+    label "Throws"
+  ]
+  edge [
+    id 19
+    source 19
+    target 20
+    label ""
+  ]
+  edge [
+    id 20
+    source 0
+    target 21
+    label ""
+  ]
+  edge [
+    id 21
+    source 21
+    target 22
+    label ""
+  ]
+  edge [
+    id 22
+    source 22
+    target 23
+    label ""
+  ]
+  edge [
+    id 23
+    source 23
+    target 24
+    label "True"
+  ]
+  edge [
+    id 24
+    source 24
+    target 25
+    label ""
+  ]
+  edge [
+    id 25
+    source 22
+    target 26
+    label "Throws"
+  ]
+  edge [
+    id 26
+    source 26
+    target 27
+    label ""
+  ]
+  edge [
+    id 27
+    source 0
+    target 28
+    label ""
+  ]
+  edge [
+    id 28
+    source 0
+    target 29
+    label ""
+  ]
+  edge [
+    id 29
+    source 29
+    target 30
+    label ""
+  ]
+  edge [
+    id 30
+    source 29
+    target 31
+    label ""
+  ]
+  edge [
+    id 31
+    source 29
+    target 32
+    label ""
+  ]
+  edge [
+    id 32
+    source 29
+    target 33
+    label ""
+  ]
+  edge [
+    id 33
+    source 29
+    target 34
+    label ""
+  ]
+  edge [
+    id 34
+    source 29
+    target 35
+    label "Throws"
+  ]
+  edge [
+    id 35
+    source 35
+    target 36
+    label ""
+  ]
+  edge [
+    id 36
+    source 29
+    target 37
+    label "Throws"
+  ]
+  edge [
+    id 37
+    source 37
+    target 38
+    label ""
+  ]
+  edge [
+    id 38
+    source 0
+    target 39
+    label ""
+  ]
+  edge [
+    id 39
+    source 40
+    target 41
+    label ""
+  ]
+  edge [
+    id 40
+    source 41
+    target 42
+    label "True"
+  ]
+  edge [
+    id 41
+    source 42
+    target 43
+    label ""
+  ]
+  edge [
+    id 42
+    source 41
+    target 44
+    label "False"
+  ]
+  edge [
+    id 43
+    source 44
+    target 45
+    label ""
+  ]
+  edge [
+    id 44
+    source 40
+    target 46
+    label ""
+  ]
+]
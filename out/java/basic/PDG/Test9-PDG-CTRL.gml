@@ -0,0 +1,150 @@
+graph [
+  directed 1
+  label "CDG of Test9.java"
+  type "Control Dependence Graph (CDG)"
+  file "Test9.java"
+
+  node [
+    id 0
+    line 4
+    label "String test()"
+  ]
+  node [
+    id 1
+    line 5
+    label "StringBuilder str = new StringBuilder()"
+  ]
+  node [
+    id 2
+    line 6
+    label "str.append('hello').append('World')"
+  ]
+  node [
+    id 3
+    line 7
+    label "int x = 0"
+  ]
+  node [
+    id 4
+    line 8
+    label "if (x < 0)"
+  ]
+  node [
+    id 5
+    line 0
+    label "THEN"
+  ]
+  node [
+    id 6
+    line 9
+    label "return '';"
+  ]
+  node [
+    id 7
+    line 0
+    label "ELSE"
+  ]
+  node [
+    id 8
+    line 0
+    label "FOLLOW-1"
+  ]
+  node [
+    id 9
+    line 10
+    label "return str.toString();"
+  ]
+  node [
+    id 10
+    line 0
+    label "exit"
+  ]
+  node [
+    id 11
+    line 13
+    label "void main(String [] args)"
+  ]
+  node [
+    id 12
+    line 14
+    label "System.out.println(test() + test())"
+  ]
+  node [
+    id 13
+    line 0
+    label "exit"
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    label ""
+  ]
+  edge [
+    id 1
+    source 0
+    target 2
+    label ""
+  ]
+  edge [
+    id 2
+    source 0
+    target 3
+    label ""
+  ]
+  edge [
+    id 3
+    source 0
+    target 4
+    label ""
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    label "True"
+  ]
+  edge [
+    id 5
+    source 5
+    target 6
+    label ""
+  ]
+  edge [
+    id 6
+    source 4
+    target 7
+    label "False"
+  ]
+  edge [
+    id 7
+    source 7
+    target 8
+    label ""
+  ]
+  edge [
+    id 8
+    source 8
+    target 9
+    label ""
+  ]
+  edge [
+    id 9
+    source 0
+    target 10
+    label ""
+  ]
+  edge [
+    id 10
+    source 11
+    target 12
+    label ""
+  ]
+  edge [
+    id 11
+    source 11
+    target 13
+    label ""
+  ]
+]
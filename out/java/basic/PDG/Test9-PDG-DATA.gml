@@ -0,0 +1,154 @@
+graph [
+  directed 1
+  multigraph 1
+  label "DDG of Test9.java"
+  type "Data Dependence Graph (DDG)"
+  file "Test9.java"
+
+  node [
+    id 0
+    line 4
+    label "String test()"
+    defs []
+    uses []
+  ]
+  node [
+    id 1
+    line 5
+    label "StringBuilder str = new StringBuilder()"
+    defs [var "str"]
+    uses []
+  ]
+  node [
+    id 2
+    line 6
+    label "str.append('hello').append('World')"
+    defs [var "str"]
+    uses [var "str"]
+  ]
+  node [
+    id 3
+    line 7
+    label "int x = 0"
+    defs [var "x"]
+    uses []
+  ]
+  node [
+    id 4
+    line 8
+    label "if (x < 0)"
+    defs []
+    uses [var "x"]
+  ]
+  node [
+    id 5
+    line 9
+    label "return '';"
+    defs []
+    uses []
+  ]
+  node [
+    id 6
+    line 0
+    label "endif"
+  ]
+  node [
+    id 7
+    line 10
+    label "return str.toString();"
+    defs []
+    uses [var "str"]
+  ]
+  node [
+    id 8
+    line 13
+    label "void main(String [] args)"
+    defs [var "args"]
+    uses []
+  ]
+  node [
+    id 9
+    line 14
+    label "System.out.println(test() + test())"
+    defs []
+    uses []
+  ]
+
+  edge [
+    id 0
+    source 0
+    target 1
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 1
+    source 1
+    target 2
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 2
+    source 2
+    target 3
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 3
+    source 3
+    target 4
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 4
+    source 4
+    target 5
+    type "Control"
+    label "True"
+  ]
+  edge [
+    id 5
+    source 4
+    target 6
+    type "Control"
+    label "False"
+  ]
+  edge [
+    id 6
+    source 6
+    target 7
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 7
+    source 8
+    target 9
+    type "Control"
+    label ""
+  ]
+  edge [
+    id 8
+    source 1
+    target 2
+    type "Flows"
+    label "str"
+  ]
+  edge [
+    id 9
+    source 2
+    target 7
+    type "Flows"
+    label "str"
+  ]
+  edge [
+    id 10
+    source 3
+    target 4
+    type "Flows"
+    label "x"
+  ]
+]
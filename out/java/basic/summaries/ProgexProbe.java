@@ -0,0 +1 @@
+class ProgexProbe { int length() { return 0; } }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package p;
+public class A {
+    public void f() { int y = 2; g(y); B b = new B(); b.h(); }
+    public void g(int x) { x = x + 1; }
+}
@@ -0,0 +1,4 @@
+package p;
+public class B {
+    public void h() { int z = 3; }
+}
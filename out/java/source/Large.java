@@ -0,0 +1,11767 @@
+class Large {
+    int field0 = 0;
+    int field1 = 1;
+    int field2 = 2;
+    int field3 = 3;
+    int field4 = 4;
+    int field5 = 5;
+    int field6 = 6;
+    int field7 = 7;
+    int field8 = 8;
+    int field9 = 9;
+    int field10 = 10;
+    int field11 = 11;
+    int field12 = 12;
+    int field13 = 13;
+    int field14 = 14;
+    int field15 = 15;
+    int field16 = 16;
+    int field17 = 17;
+    int field18 = 18;
+    int field19 = 19;
+    int field20 = 20;
+    int field21 = 21;
+    int field22 = 22;
+    int field23 = 23;
+    int field24 = 24;
+    int field25 = 25;
+    int field26 = 26;
+    int field27 = 27;
+    int field28 = 28;
+    int field29 = 29;
+    int field30 = 30;
+    int field31 = 31;
+    int field32 = 32;
+    int field33 = 33;
+    int field34 = 34;
+    int field35 = 35;
+    int field36 = 36;
+    int field37 = 37;
+    int field38 = 38;
+    int field39 = 39;
+    int field40 = 40;
+    int field41 = 41;
+    int field42 = 42;
+    int field43 = 43;
+    int field44 = 44;
+    int field45 = 45;
+    int field46 = 46;
+    int field47 = 47;
+    int field48 = 48;
+    int field49 = 49;
+    int field50 = 50;
+    int field51 = 51;
+    int field52 = 52;
+    int field53 = 53;
+    int field54 = 54;
+    int field55 = 55;
+    int field56 = 56;
+    int field57 = 57;
+    int field58 = 58;
+    int field59 = 59;
+    int field60 = 60;
+    int field61 = 61;
+    int field62 = 62;
+    int field63 = 63;
+    int field64 = 64;
+    int field65 = 65;
+    int field66 = 66;
+    int field67 = 67;
+    int field68 = 68;
+    int field69 = 69;
+    int field70 = 70;
+    int field71 = 71;
+    int field72 = 72;
+    int field73 = 73;
+    int field74 = 74;
+    int field75 = 75;
+    int field76 = 76;
+    int field77 = 77;
+    int field78 = 78;
+    int field79 = 79;
+    int field80 = 80;
+    int field81 = 81;
+    int field82 = 82;
+    int field83 = 83;
+    int field84 = 84;
+    int field85 = 85;
+    int field86 = 86;
+    int field87 = 87;
+    int field88 = 88;
+    int field89 = 89;
+    int field90 = 90;
+    int field91 = 91;
+    int field92 = 92;
+    int field93 = 93;
+    int field94 = 94;
+    int field95 = 95;
+    int field96 = 96;
+    int field97 = 97;
+    int field98 = 98;
+    int field99 = 99;
+    int field100 = 100;
+    int field101 = 101;
+    int field102 = 102;
+    int field103 = 103;
+    int field104 = 104;
+    int field105 = 105;
+    int field106 = 106;
+    int field107 = 107;
+    int field108 = 108;
+    int field109 = 109;
+    int field110 = 110;
+    int field111 = 111;
+    int field112 = 112;
+    int field113 = 113;
+    int field114 = 114;
+    int field115 = 115;
+    int field116 = 116;
+    int field117 = 117;
+    int field118 = 118;
+    int field119 = 119;
+    int field120 = 120;
+    int field121 = 121;
+    int field122 = 122;
+    int field123 = 123;
+    int field124 = 124;
+    int field125 = 125;
+    int field126 = 126;
+    int field127 = 127;
+    int field128 = 128;
+    int field129 = 129;
+    int field130 = 130;
+    int field131 = 131;
+    int field132 = 132;
+    int field133 = 133;
+    int field134 = 134;
+    int field135 = 135;
+    int field136 = 136;
+    int field137 = 137;
+    int field138 = 138;
+    int field139 = 139;
+    int field140 = 140;
+    int field141 = 141;
+    int field142 = 142;
+    int field143 = 143;
+    int field144 = 144;
+    int field145 = 145;
+    int field146 = 146;
+    int field147 = 147;
+    int field148 = 148;
+    int field149 = 149;
+    int field150 = 150;
+    int field151 = 151;
+    int field152 = 152;
+    int field153 = 153;
+    int field154 = 154;
+    int field155 = 155;
+    int field156 = 156;
+    int field157 = 157;
+    int field158 = 158;
+    int field159 = 159;
+    int field160 = 160;
+    int field161 = 161;
+    int field162 = 162;
+    int field163 = 163;
+    int field164 = 164;
+    int field165 = 165;
+    int field166 = 166;
+    int field167 = 167;
+    int field168 = 168;
+    int field169 = 169;
+    int field170 = 170;
+    int field171 = 171;
+    int field172 = 172;
+    int field173 = 173;
+    int field174 = 174;
+    int field175 = 175;
+    int field176 = 176;
+    int field177 = 177;
+    int field178 = 178;
+    int field179 = 179;
+    int field180 = 180;
+    int field181 = 181;
+    int field182 = 182;
+    int field183 = 183;
+    int field184 = 184;
+    int field185 = 185;
+    int field186 = 186;
+    int field187 = 187;
+    int field188 = 188;
+    int field189 = 189;
+    int field190 = 190;
+    int field191 = 191;
+    int field192 = 192;
+    int field193 = 193;
+    int field194 = 194;
+    int field195 = 195;
+    int field196 = 196;
+    int field197 = 197;
+    int field198 = 198;
+    int field199 = 199;
+    int field200 = 200;
+    int field201 = 201;
+    int field202 = 202;
+    int field203 = 203;
+    int field204 = 204;
+    int field205 = 205;
+    int field206 = 206;
+    int field207 = 207;
+    int field208 = 208;
+    int field209 = 209;
+    int field210 = 210;
+    int field211 = 211;
+    int field212 = 212;
+    int field213 = 213;
+    int field214 = 214;
+    int field215 = 215;
+    int field216 = 216;
+    int field217 = 217;
+    int field218 = 218;
+    int field219 = 219;
+    int field220 = 220;
+    int field221 = 221;
+    int field222 = 222;
+    int field223 = 223;
+    int field224 = 224;
+    int field225 = 225;
+    int field226 = 226;
+    int field227 = 227;
+    int field228 = 228;
+    int field229 = 229;
+    int field230 = 230;
+    int field231 = 231;
+    int field232 = 232;
+    int field233 = 233;
+    int field234 = 234;
+    int field235 = 235;
+    int field236 = 236;
+    int field237 = 237;
+    int field238 = 238;
+    int field239 = 239;
+    int field240 = 240;
+    int field241 = 241;
+    int field242 = 242;
+    int field243 = 243;
+    int field244 = 244;
+    int field245 = 245;
+    int field246 = 246;
+    int field247 = 247;
+    int field248 = 248;
+    int field249 = 249;
+    int field250 = 250;
+    int field251 = 251;
+    int field252 = 252;
+    int field253 = 253;
+    int field254 = 254;
+    int field255 = 255;
+    int field256 = 256;
+    int field257 = 257;
+    int field258 = 258;
+    int field259 = 259;
+    int field260 = 260;
+    int field261 = 261;
+    int field262 = 262;
+    int field263 = 263;
+    int field264 = 264;
+    int field265 = 265;
+    int field266 = 266;
+    int field267 = 267;
+    int field268 = 268;
+    int field269 = 269;
+    int field270 = 270;
+    int field271 = 271;
+    int field272 = 272;
+    int field273 = 273;
+    int field274 = 274;
+    int field275 = 275;
+    int field276 = 276;
+    int field277 = 277;
+    int field278 = 278;
+    int field279 = 279;
+    int field280 = 280;
+    int field281 = 281;
+    int field282 = 282;
+    int field283 = 283;
+    int field284 = 284;
+    int field285 = 285;
+    int field286 = 286;
+    int field287 = 287;
+    int field288 = 288;
+    int field289 = 289;
+    int field290 = 290;
+    int field291 = 291;
+    int field292 = 292;
+    int field293 = 293;
+    int field294 = 294;
+    int field295 = 295;
+    int field296 = 296;
+    int field297 = 297;
+    int field298 = 298;
+    int field299 = 299;
+    int field300 = 300;
+    int field301 = 301;
+    int field302 = 302;
+    int field303 = 303;
+    int field304 = 304;
+    int field305 = 305;
+    int field306 = 306;
+    int field307 = 307;
+    int field308 = 308;
+    int field309 = 309;
+    int field310 = 310;
+    int field311 = 311;
+    int field312 = 312;
+    int field313 = 313;
+    int field314 = 314;
+    int field315 = 315;
+    int field316 = 316;
+    int field317 = 317;
+    int field318 = 318;
+    int field319 = 319;
+    int field320 = 320;
+    int field321 = 321;
+    int field322 = 322;
+    int field323 = 323;
+    int field324 = 324;
+    int field325 = 325;
+    int field326 = 326;
+    int field327 = 327;
+    int field328 = 328;
+    int field329 = 329;
+    int field330 = 330;
+    int field331 = 331;
+    int field332 = 332;
+    int field333 = 333;
+    int field334 = 334;
+    int field335 = 335;
+    int field336 = 336;
+    int field337 = 337;
+    int field338 = 338;
+    int field339 = 339;
+    int field340 = 340;
+    int field341 = 341;
+    int field342 = 342;
+    int field343 = 343;
+    int field344 = 344;
+    int field345 = 345;
+    int field346 = 346;
+    int field347 = 347;
+    int field348 = 348;
+    int field349 = 349;
+    int field350 = 350;
+    int field351 = 351;
+    int field352 = 352;
+    int field353 = 353;
+    int field354 = 354;
+    int field355 = 355;
+    int field356 = 356;
+    int field357 = 357;
+    int field358 = 358;
+    int field359 = 359;
+    int field360 = 360;
+    int field361 = 361;
+    int field362 = 362;
+    int field363 = 363;
+    int field364 = 364;
+    int field365 = 365;
+    int field366 = 366;
+    int field367 = 367;
+    int field368 = 368;
+    int field369 = 369;
+    int field370 = 370;
+    int field371 = 371;
+    int field372 = 372;
+    int field373 = 373;
+    int field374 = 374;
+    int field375 = 375;
+    int field376 = 376;
+    int field377 = 377;
+    int field378 = 378;
+    int field379 = 379;
+    int field380 = 380;
+    int field381 = 381;
+    int field382 = 382;
+    int field383 = 383;
+    int field384 = 384;
+    int field385 = 385;
+    int field386 = 386;
+    int field387 = 387;
+    int field388 = 388;
+    int field389 = 389;
+    int field390 = 390;
+    int field391 = 391;
+    int field392 = 392;
+    int field393 = 393;
+    int field394 = 394;
+    int field395 = 395;
+    int field396 = 396;
+    int field397 = 397;
+    int field398 = 398;
+    int field399 = 399;
+    int field400 = 400;
+    int field401 = 401;
+    int field402 = 402;
+    int field403 = 403;
+    int field404 = 404;
+    int field405 = 405;
+    int field406 = 406;
+    int field407 = 407;
+    int field408 = 408;
+    int field409 = 409;
+    int field410 = 410;
+    int field411 = 411;
+    int field412 = 412;
+    int field413 = 413;
+    int field414 = 414;
+    int field415 = 415;
+    int field416 = 416;
+    int field417 = 417;
+    int field418 = 418;
+    int field419 = 419;
+    int field420 = 420;
+    int field421 = 421;
+    int field422 = 422;
+    int field423 = 423;
+    int field424 = 424;
+    int field425 = 425;
+    int field426 = 426;
+    int field427 = 427;
+    int field428 = 428;
+    int field429 = 429;
+    int field430 = 430;
+    int field431 = 431;
+    int field432 = 432;
+    int field433 = 433;
+    int field434 = 434;
+    int field435 = 435;
+    int field436 = 436;
+    int field437 = 437;
+    int field438 = 438;
+    int field439 = 439;
+    int field440 = 440;
+    int field441 = 441;
+    int field442 = 442;
+    int field443 = 443;
+    int field444 = 444;
+    int field445 = 445;
+    int field446 = 446;
+    int field447 = 447;
+    int field448 = 448;
+    int field449 = 449;
+    int field450 = 450;
+    int field451 = 451;
+    int field452 = 452;
+    int field453 = 453;
+    int field454 = 454;
+    int field455 = 455;
+    int field456 = 456;
+    int field457 = 457;
+    int field458 = 458;
+    int field459 = 459;
+    int field460 = 460;
+    int field461 = 461;
+    int field462 = 462;
+    int field463 = 463;
+    int field464 = 464;
+    int field465 = 465;
+    int field466 = 466;
+    int field467 = 467;
+    int field468 = 468;
+    int field469 = 469;
+    int field470 = 470;
+    int field471 = 471;
+    int field472 = 472;
+    int field473 = 473;
+    int field474 = 474;
+    int field475 = 475;
+    int field476 = 476;
+    int field477 = 477;
+    int field478 = 478;
+    int field479 = 479;
+    int field480 = 480;
+    int field481 = 481;
+    int field482 = 482;
+    int field483 = 483;
+    int field484 = 484;
+    int field485 = 485;
+    int field486 = 486;
+    int field487 = 487;
+    int field488 = 488;
+    int field489 = 489;
+    int field490 = 490;
+    int field491 = 491;
+    int field492 = 492;
+    int field493 = 493;
+    int field494 = 494;
+    int field495 = 495;
+    int field496 = 496;
+    int field497 = 497;
+    int field498 = 498;
+    int field499 = 499;
+    int field500 = 500;
+    int field501 = 501;
+    int field502 = 502;
+    int field503 = 503;
+    int field504 = 504;
+    int field505 = 505;
+    int field506 = 506;
+    int field507 = 507;
+    int field508 = 508;
+    int field509 = 509;
+    int field510 = 510;
+    int field511 = 511;
+    int field512 = 512;
+    int field513 = 513;
+    int field514 = 514;
+    int field515 = 515;
+    int field516 = 516;
+    int field517 = 517;
+    int field518 = 518;
+    int field519 = 519;
+    int field520 = 520;
+    int field521 = 521;
+    int field522 = 522;
+    int field523 = 523;
+    int field524 = 524;
+    int field525 = 525;
+    int field526 = 526;
+    int field527 = 527;
+    int field528 = 528;
+    int field529 = 529;
+    int field530 = 530;
+    int field531 = 531;
+    int field532 = 532;
+    int field533 = 533;
+    int field534 = 534;
+    int field535 = 535;
+    int field536 = 536;
+    int field537 = 537;
+    int field538 = 538;
+    int field539 = 539;
+    int field540 = 540;
+    int field541 = 541;
+    int field542 = 542;
+    int field543 = 543;
+    int field544 = 544;
+    int field545 = 545;
+    int field546 = 546;
+    int field547 = 547;
+    int field548 = 548;
+    int field549 = 549;
+    int field550 = 550;
+    int field551 = 551;
+    int field552 = 552;
+    int field553 = 553;
+    int field554 = 554;
+    int field555 = 555;
+    int field556 = 556;
+    int field557 = 557;
+    int field558 = 558;
+    int field559 = 559;
+    int field560 = 560;
+    int field561 = 561;
+    int field562 = 562;
+    int field563 = 563;
+    int field564 = 564;
+    int field565 = 565;
+    int field566 = 566;
+    int field567 = 567;
+    int field568 = 568;
+    int field569 = 569;
+    int field570 = 570;
+    int field571 = 571;
+    int field572 = 572;
+    int field573 = 573;
+    int field574 = 574;
+    int field575 = 575;
+    int field576 = 576;
+    int field577 = 577;
+    int field578 = 578;
+    int field579 = 579;
+    int field580 = 580;
+    int field581 = 581;
+    int field582 = 582;
+    int field583 = 583;
+    int field584 = 584;
+    int field585 = 585;
+    int field586 = 586;
+    int field587 = 587;
+    int field588 = 588;
+    int field589 = 589;
+    int field590 = 590;
+    int field591 = 591;
+    int field592 = 592;
+    int field593 = 593;
+    int field594 = 594;
+    int field595 = 595;
+    int field596 = 596;
+    int field597 = 597;
+    int field598 = 598;
+    int field599 = 599;
+    int field600 = 600;
+    int field601 = 601;
+    int field602 = 602;
+    int field603 = 603;
+    int field604 = 604;
+    int field605 = 605;
+    int field606 = 606;
+    int field607 = 607;
+    int field608 = 608;
+    int field609 = 609;
+    int field610 = 610;
+    int field611 = 611;
+    int field612 = 612;
+    int field613 = 613;
+    int field614 = 614;
+    int field615 = 615;
+    int field616 = 616;
+    int field617 = 617;
+    int field618 = 618;
+    int field619 = 619;
+    int field620 = 620;
+    int field621 = 621;
+    int field622 = 622;
+    int field623 = 623;
+    int field624 = 624;
+    int field625 = 625;
+    int field626 = 626;
+    int field627 = 627;
+    int field628 = 628;
+    int field629 = 629;
+    int field630 = 630;
+    int field631 = 631;
+    int field632 = 632;
+    int field633 = 633;
+    int field634 = 634;
+    int field635 = 635;
+    int field636 = 636;
+    int field637 = 637;
+    int field638 = 638;
+    int field639 = 639;
+    int field640 = 640;
+    int field641 = 641;
+    int field642 = 642;
+    int field643 = 643;
+    int field644 = 644;
+    int field645 = 645;
+    int field646 = 646;
+    int field647 = 647;
+    int field648 = 648;
+    int field649 = 649;
+    int field650 = 650;
+    int field651 = 651;
+    int field652 = 652;
+    int field653 = 653;
+    int field654 = 654;
+    int field655 = 655;
+    int field656 = 656;
+    int field657 = 657;
+    int field658 = 658;
+    int field659 = 659;
+    int field660 = 660;
+    int field661 = 661;
+    int field662 = 662;
+    int field663 = 663;
+    int field664 = 664;
+    int field665 = 665;
+    int field666 = 666;
+    int field667 = 667;
+    int field668 = 668;
+    int field669 = 669;
+    int field670 = 670;
+    int field671 = 671;
+    int field672 = 672;
+    int field673 = 673;
+    int field674 = 674;
+    int field675 = 675;
+    int field676 = 676;
+    int field677 = 677;
+    int field678 = 678;
+    int field679 = 679;
+    int field680 = 680;
+    int field681 = 681;
+    int field682 = 682;
+    int field683 = 683;
+    int field684 = 684;
+    int field685 = 685;
+    int field686 = 686;
+    int field687 = 687;
+    int field688 = 688;
+    int field689 = 689;
+    int field690 = 690;
+    int field691 = 691;
+    int field692 = 692;
+    int field693 = 693;
+    int field694 = 694;
+    int field695 = 695;
+    int field696 = 696;
+    int field697 = 697;
+    int field698 = 698;
+    int field699 = 699;
+    int field700 = 700;
+    int field701 = 701;
+    int field702 = 702;
+    int field703 = 703;
+    int field704 = 704;
+    int field705 = 705;
+    int field706 = 706;
+    int field707 = 707;
+    int field708 = 708;
+    int field709 = 709;
+    int field710 = 710;
+    int field711 = 711;
+    int field712 = 712;
+    int field713 = 713;
+    int field714 = 714;
+    int field715 = 715;
+    int field716 = 716;
+    int field717 = 717;
+    int field718 = 718;
+    int field719 = 719;
+    int field720 = 720;
+    int field721 = 721;
+    int field722 = 722;
+    int field723 = 723;
+    int field724 = 724;
+    int field725 = 725;
+    int field726 = 726;
+    int field727 = 727;
+    int field728 = 728;
+    int field729 = 729;
+    int field730 = 730;
+    int field731 = 731;
+    int field732 = 732;
+    int field733 = 733;
+    int field734 = 734;
+    int field735 = 735;
+    int field736 = 736;
+    int field737 = 737;
+    int field738 = 738;
+    int field739 = 739;
+    int field740 = 740;
+    int field741 = 741;
+    int field742 = 742;
+    int field743 = 743;
+    int field744 = 744;
+    int field745 = 745;
+    int field746 = 746;
+    int field747 = 747;
+    int field748 = 748;
+    int field749 = 749;
+    int field750 = 750;
+    int field751 = 751;
+    int field752 = 752;
+    int field753 = 753;
+    int field754 = 754;
+    int field755 = 755;
+    int field756 = 756;
+    int field757 = 757;
+    int field758 = 758;
+    int field759 = 759;
+    int field760 = 760;
+    int field761 = 761;
+    int field762 = 762;
+    int field763 = 763;
+    int field764 = 764;
+    int field765 = 765;
+    int field766 = 766;
+    int field767 = 767;
+    int field768 = 768;
+    int field769 = 769;
+    int field770 = 770;
+    int field771 = 771;
+    int field772 = 772;
+    int field773 = 773;
+    int field774 = 774;
+    int field775 = 775;
+    int field776 = 776;
+    int field777 = 777;
+    int field778 = 778;
+    int field779 = 779;
+    int field780 = 780;
+    int field781 = 781;
+    int field782 = 782;
+    int field783 = 783;
+    int field784 = 784;
+    int field785 = 785;
+    int field786 = 786;
+    int field787 = 787;
+    int field788 = 788;
+    int field789 = 789;
+    int field790 = 790;
+    int field791 = 791;
+    int field792 = 792;
+    int field793 = 793;
+    int field794 = 794;
+    int field795 = 795;
+    int field796 = 796;
+    int field797 = 797;
+    int field798 = 798;
+    int field799 = 799;
+    int field800 = 800;
+    int field801 = 801;
+    int field802 = 802;
+    int field803 = 803;
+    int field804 = 804;
+    int field805 = 805;
+    int field806 = 806;
+    int field807 = 807;
+    int field808 = 808;
+    int field809 = 809;
+    int field810 = 810;
+    int field811 = 811;
+    int field812 = 812;
+    int field813 = 813;
+    int field814 = 814;
+    int field815 = 815;
+    int field816 = 816;
+    int field817 = 817;
+    int field818 = 818;
+    int field819 = 819;
+    int field820 = 820;
+    int field821 = 821;
+    int field822 = 822;
+    int field823 = 823;
+    int field824 = 824;
+    int field825 = 825;
+    int field826 = 826;
+    int field827 = 827;
+    int field828 = 828;
+    int field829 = 829;
+    int field830 = 830;
+    int field831 = 831;
+    int field832 = 832;
+    int field833 = 833;
+    int field834 = 834;
+    int field835 = 835;
+    int field836 = 836;
+    int field837 = 837;
+    int field838 = 838;
+    int field839 = 839;
+    int field840 = 840;
+    int field841 = 841;
+    int field842 = 842;
+    int field843 = 843;
+    int field844 = 844;
+    int field845 = 845;
+    int field846 = 846;
+    int field847 = 847;
+    int field848 = 848;
+    int field849 = 849;
+    int field850 = 850;
+    int field851 = 851;
+    int field852 = 852;
+    int field853 = 853;
+    int field854 = 854;
+    int field855 = 855;
+    int field856 = 856;
+    int field857 = 857;
+    int field858 = 858;
+    int field859 = 859;
+    int field860 = 860;
+    int field861 = 861;
+    int field862 = 862;
+    int field863 = 863;
+    int field864 = 864;
+    int field865 = 865;
+    int field866 = 866;
+    int field867 = 867;
+    int field868 = 868;
+    int field869 = 869;
+    int field870 = 870;
+    int field871 = 871;
+    int field872 = 872;
+    int field873 = 873;
+    int field874 = 874;
+    int field875 = 875;
+    int field876 = 876;
+    int field877 = 877;
+    int field878 = 878;
+    int field879 = 879;
+    int field880 = 880;
+    int field881 = 881;
+    int field882 = 882;
+    int field883 = 883;
+    int field884 = 884;
+    int field885 = 885;
+    int field886 = 886;
+    int field887 = 887;
+    int field888 = 888;
+    int field889 = 889;
+    int field890 = 890;
+    int field891 = 891;
+    int field892 = 892;
+    int field893 = 893;
+    int field894 = 894;
+    int field895 = 895;
+    int field896 = 896;
+    int field897 = 897;
+    int field898 = 898;
+    int field899 = 899;
+    int field900 = 900;
+    int field901 = 901;
+    int field902 = 902;
+    int field903 = 903;
+    int field904 = 904;
+    int field905 = 905;
+    int field906 = 906;
+    int field907 = 907;
+    int field908 = 908;
+    int field909 = 909;
+    int field910 = 910;
+    int field911 = 911;
+    int field912 = 912;
+    int field913 = 913;
+    int field914 = 914;
+    int field915 = 915;
+    int field916 = 916;
+    int field917 = 917;
+    int field918 = 918;
+    int field919 = 919;
+    int field920 = 920;
+    int field921 = 921;
+    int field922 = 922;
+    int field923 = 923;
+    int field924 = 924;
+    int field925 = 925;
+    int field926 = 926;
+    int field927 = 927;
+    int field928 = 928;
+    int field929 = 929;
+    int field930 = 930;
+    int field931 = 931;
+    int field932 = 932;
+    int field933 = 933;
+    int field934 = 934;
+    int field935 = 935;
+    int field936 = 936;
+    int field937 = 937;
+    int field938 = 938;
+    int field939 = 939;
+    int field940 = 940;
+    int field941 = 941;
+    int field942 = 942;
+    int field943 = 943;
+    int field944 = 944;
+    int field945 = 945;
+    int field946 = 946;
+    int field947 = 947;
+    int field948 = 948;
+    int field949 = 949;
+    int field950 = 950;
+    int field951 = 951;
+    int field952 = 952;
+    int field953 = 953;
+    int field954 = 954;
+    int field955 = 955;
+    int field956 = 956;
+    int field957 = 957;
+    int field958 = 958;
+    int field959 = 959;
+    int field960 = 960;
+    int field961 = 961;
+    int field962 = 962;
+    int field963 = 963;
+    int field964 = 964;
+    int field965 = 965;
+    int field966 = 966;
+    int field967 = 967;
+    int field968 = 968;
+    int field969 = 969;
+    int field970 = 970;
+    int field971 = 971;
+    int field972 = 972;
+    int field973 = 973;
+    int field974 = 974;
+    int field975 = 975;
+    int field976 = 976;
+    int field977 = 977;
+    int field978 = 978;
+    int field979 = 979;
+    int field980 = 980;
+    int field981 = 981;
+    int field982 = 982;
+    int field983 = 983;
+    int field984 = 984;
+    int field985 = 985;
+    int field986 = 986;
+    int field987 = 987;
+    int field988 = 988;
+    int field989 = 989;
+    int field990 = 990;
+    int field991 = 991;
+    int field992 = 992;
+    int field993 = 993;
+    int field994 = 994;
+    int field995 = 995;
+    int field996 = 996;
+    int field997 = 997;
+    int field998 = 998;
+    int field999 = 999;
+    int field1000 = 1000;
+    int field1001 = 1001;
+    int field1002 = 1002;
+    int field1003 = 1003;
+    int field1004 = 1004;
+    int field1005 = 1005;
+    int field1006 = 1006;
+    int field1007 = 1007;
+    int field1008 = 1008;
+    int field1009 = 1009;
+    int field1010 = 1010;
+    int field1011 = 1011;
+    int field1012 = 1012;
+    int field1013 = 1013;
+    int field1014 = 1014;
+    int field1015 = 1015;
+    int field1016 = 1016;
+    int field1017 = 1017;
+    int field1018 = 1018;
+    int field1019 = 1019;
+    int field1020 = 1020;
+    int field1021 = 1021;
+    int field1022 = 1022;
+    int field1023 = 1023;
+    int field1024 = 1024;
+    int field1025 = 1025;
+    int field1026 = 1026;
+    int field1027 = 1027;
+    int field1028 = 1028;
+    int field1029 = 1029;
+    int field1030 = 1030;
+    int field1031 = 1031;
+    int field1032 = 1032;
+    int field1033 = 1033;
+    int field1034 = 1034;
+    int field1035 = 1035;
+    int field1036 = 1036;
+    int field1037 = 1037;
+    int field1038 = 1038;
+    int field1039 = 1039;
+    int field1040 = 1040;
+    int field1041 = 1041;
+    int field1042 = 1042;
+    int field1043 = 1043;
+    int field1044 = 1044;
+    int field1045 = 1045;
+    int field1046 = 1046;
+    int field1047 = 1047;
+    int field1048 = 1048;
+    int field1049 = 1049;
+    int field1050 = 1050;
+    int field1051 = 1051;
+    int field1052 = 1052;
+    int field1053 = 1053;
+    int field1054 = 1054;
+    int field1055 = 1055;
+    int field1056 = 1056;
+    int field1057 = 1057;
+    int field1058 = 1058;
+    int field1059 = 1059;
+    int field1060 = 1060;
+    int field1061 = 1061;
+    int field1062 = 1062;
+    int field1063 = 1063;
+    int field1064 = 1064;
+    int field1065 = 1065;
+    int field1066 = 1066;
+    int field1067 = 1067;
+    int field1068 = 1068;
+    int field1069 = 1069;
+    int field1070 = 1070;
+    int field1071 = 1071;
+    int field1072 = 1072;
+    int field1073 = 1073;
+    int field1074 = 1074;
+    int field1075 = 1075;
+    int field1076 = 1076;
+    int field1077 = 1077;
+    int field1078 = 1078;
+    int field1079 = 1079;
+    int field1080 = 1080;
+    int field1081 = 1081;
+    int field1082 = 1082;
+    int field1083 = 1083;
+    int field1084 = 1084;
+    int field1085 = 1085;
+    int field1086 = 1086;
+    int field1087 = 1087;
+    int field1088 = 1088;
+    int field1089 = 1089;
+    int field1090 = 1090;
+    int field1091 = 1091;
+    int field1092 = 1092;
+    int field1093 = 1093;
+    int field1094 = 1094;
+    int field1095 = 1095;
+    int field1096 = 1096;
+    int field1097 = 1097;
+    int field1098 = 1098;
+    int field1099 = 1099;
+    int field1100 = 1100;
+    int field1101 = 1101;
+    int field1102 = 1102;
+    int field1103 = 1103;
+    int field1104 = 1104;
+    int field1105 = 1105;
+    int field1106 = 1106;
+    int field1107 = 1107;
+    int field1108 = 1108;
+    int field1109 = 1109;
+    int field1110 = 1110;
+    int field1111 = 1111;
+    int field1112 = 1112;
+    int field1113 = 1113;
+    int field1114 = 1114;
+    int field1115 = 1115;
+    int field1116 = 1116;
+    int field1117 = 1117;
+    int field1118 = 1118;
+    int field1119 = 1119;
+    int field1120 = 1120;
+    int field1121 = 1121;
+    int field1122 = 1122;
+    int field1123 = 1123;
+    int field1124 = 1124;
+    int field1125 = 1125;
+    int field1126 = 1126;
+    int field1127 = 1127;
+    int field1128 = 1128;
+    int field1129 = 1129;
+    int field1130 = 1130;
+    int field1131 = 1131;
+    int field1132 = 1132;
+    int field1133 = 1133;
+    int field1134 = 1134;
+    int field1135 = 1135;
+    int field1136 = 1136;
+    int field1137 = 1137;
+    int field1138 = 1138;
+    int field1139 = 1139;
+    int field1140 = 1140;
+    int field1141 = 1141;
+    int field1142 = 1142;
+    int field1143 = 1143;
+    int field1144 = 1144;
+    int field1145 = 1145;
+    int field1146 = 1146;
+    int field1147 = 1147;
+    int field1148 = 1148;
+    int field1149 = 1149;
+    int field1150 = 1150;
+    int field1151 = 1151;
+    int field1152 = 1152;
+    int field1153 = 1153;
+    int field1154 = 1154;
+    int field1155 = 1155;
+    int field1156 = 1156;
+    int field1157 = 1157;
+    int field1158 = 1158;
+    int field1159 = 1159;
+    int field1160 = 1160;
+    int field1161 = 1161;
+    int field1162 = 1162;
+    int field1163 = 1163;
+    int field1164 = 1164;
+    int field1165 = 1165;
+    int field1166 = 1166;
+    int field1167 = 1167;
+    int field1168 = 1168;
+    int field1169 = 1169;
+    int field1170 = 1170;
+    int field1171 = 1171;
+    int field1172 = 1172;
+    int field1173 = 1173;
+    int field1174 = 1174;
+    int field1175 = 1175;
+    int field1176 = 1176;
+    int field1177 = 1177;
+    int field1178 = 1178;
+    int field1179 = 1179;
+    int field1180 = 1180;
+    int field1181 = 1181;
+    int field1182 = 1182;
+    int field1183 = 1183;
+    int field1184 = 1184;
+    int field1185 = 1185;
+    int field1186 = 1186;
+    int field1187 = 1187;
+    int field1188 = 1188;
+    int field1189 = 1189;
+    int field1190 = 1190;
+    int field1191 = 1191;
+    int field1192 = 1192;
+    int field1193 = 1193;
+    int field1194 = 1194;
+    int field1195 = 1195;
+    int field1196 = 1196;
+    int field1197 = 1197;
+    int field1198 = 1198;
+    int field1199 = 1199;
+    int field1200 = 1200;
+    int field1201 = 1201;
+    int field1202 = 1202;
+    int field1203 = 1203;
+    int field1204 = 1204;
+    int field1205 = 1205;
+    int field1206 = 1206;
+    int field1207 = 1207;
+    int field1208 = 1208;
+    int field1209 = 1209;
+    int field1210 = 1210;
+    int field1211 = 1211;
+    int field1212 = 1212;
+    int field1213 = 1213;
+    int field1214 = 1214;
+    int field1215 = 1215;
+    int field1216 = 1216;
+    int field1217 = 1217;
+    int field1218 = 1218;
+    int field1219 = 1219;
+    int field1220 = 1220;
+    int field1221 = 1221;
+    int field1222 = 1222;
+    int field1223 = 1223;
+    int field1224 = 1224;
+    int field1225 = 1225;
+    int field1226 = 1226;
+    int field1227 = 1227;
+    int field1228 = 1228;
+    int field1229 = 1229;
+    int field1230 = 1230;
+    int field1231 = 1231;
+    int field1232 = 1232;
+    int field1233 = 1233;
+    int field1234 = 1234;
+    int field1235 = 1235;
+    int field1236 = 1236;
+    int field1237 = 1237;
+    int field1238 = 1238;
+    int field1239 = 1239;
+    int field1240 = 1240;
+    int field1241 = 1241;
+    int field1242 = 1242;
+    int field1243 = 1243;
+    int field1244 = 1244;
+    int field1245 = 1245;
+    int field1246 = 1246;
+    int field1247 = 1247;
+    int field1248 = 1248;
+    int field1249 = 1249;
+    int field1250 = 1250;
+    int field1251 = 1251;
+    int field1252 = 1252;
+    int field1253 = 1253;
+    int field1254 = 1254;
+    int field1255 = 1255;
+    int field1256 = 1256;
+    int field1257 = 1257;
+    int field1258 = 1258;
+    int field1259 = 1259;
+    int field1260 = 1260;
+    int field1261 = 1261;
+    int field1262 = 1262;
+    int field1263 = 1263;
+    int field1264 = 1264;
+    int field1265 = 1265;
+    int field1266 = 1266;
+    int field1267 = 1267;
+    int field1268 = 1268;
+    int field1269 = 1269;
+    int field1270 = 1270;
+    int field1271 = 1271;
+    int field1272 = 1272;
+    int field1273 = 1273;
+    int field1274 = 1274;
+    int field1275 = 1275;
+    int field1276 = 1276;
+    int field1277 = 1277;
+    int field1278 = 1278;
+    int field1279 = 1279;
+    int field1280 = 1280;
+    int field1281 = 1281;
+    int field1282 = 1282;
+    int field1283 = 1283;
+    int field1284 = 1284;
+    int field1285 = 1285;
+    int field1286 = 1286;
+    int field1287 = 1287;
+    int field1288 = 1288;
+    int field1289 = 1289;
+    int field1290 = 1290;
+    int field1291 = 1291;
+    int field1292 = 1292;
+    int field1293 = 1293;
+    int field1294 = 1294;
+    int field1295 = 1295;
+    int field1296 = 1296;
+    int field1297 = 1297;
+    int field1298 = 1298;
+    int field1299 = 1299;
+    int field1300 = 1300;
+    int field1301 = 1301;
+    int field1302 = 1302;
+    int field1303 = 1303;
+    int field1304 = 1304;
+    int field1305 = 1305;
+    int field1306 = 1306;
+    int field1307 = 1307;
+    int field1308 = 1308;
+    int field1309 = 1309;
+    int field1310 = 1310;
+    int field1311 = 1311;
+    int field1312 = 1312;
+    int field1313 = 1313;
+    int field1314 = 1314;
+    int field1315 = 1315;
+    int field1316 = 1316;
+    int field1317 = 1317;
+    int field1318 = 1318;
+    int field1319 = 1319;
+    int field1320 = 1320;
+    int field1321 = 1321;
+    int field1322 = 1322;
+    int field1323 = 1323;
+    int field1324 = 1324;
+    int field1325 = 1325;
+    int field1326 = 1326;
+    int field1327 = 1327;
+    int field1328 = 1328;
+    int field1329 = 1329;
+    int field1330 = 1330;
+    int field1331 = 1331;
+    int field1332 = 1332;
+    int field1333 = 1333;
+    int field1334 = 1334;
+    int field1335 = 1335;
+    int field1336 = 1336;
+    int field1337 = 1337;
+    int field1338 = 1338;
+    int field1339 = 1339;
+    int field1340 = 1340;
+    int field1341 = 1341;
+    int field1342 = 1342;
+    int field1343 = 1343;
+    int field1344 = 1344;
+    int field1345 = 1345;
+    int field1346 = 1346;
+    int field1347 = 1347;
+    int field1348 = 1348;
+    int field1349 = 1349;
+    int field1350 = 1350;
+    int field1351 = 1351;
+    int field1352 = 1352;
+    int field1353 = 1353;
+    int field1354 = 1354;
+    int field1355 = 1355;
+    int field1356 = 1356;
+    int field1357 = 1357;
+    int field1358 = 1358;
+    int field1359 = 1359;
+    int field1360 = 1360;
+    int field1361 = 1361;
+    int field1362 = 1362;
+    int field1363 = 1363;
+    int field1364 = 1364;
+    int field1365 = 1365;
+    int field1366 = 1366;
+    int field1367 = 1367;
+    int field1368 = 1368;
+    int field1369 = 1369;
+    int field1370 = 1370;
+    int field1371 = 1371;
+    int field1372 = 1372;
+    int field1373 = 1373;
+    int field1374 = 1374;
+    int field1375 = 1375;
+    int field1376 = 1376;
+    int field1377 = 1377;
+    int field1378 = 1378;
+    int field1379 = 1379;
+    int field1380 = 1380;
+    int field1381 = 1381;
+    int field1382 = 1382;
+    int field1383 = 1383;
+    int field1384 = 1384;
+    int field1385 = 1385;
+    int field1386 = 1386;
+    int field1387 = 1387;
+    int field1388 = 1388;
+    int field1389 = 1389;
+    int field1390 = 1390;
+    int field1391 = 1391;
+    int field1392 = 1392;
+    int field1393 = 1393;
+    int field1394 = 1394;
+    int field1395 = 1395;
+    int field1396 = 1396;
+    int field1397 = 1397;
+    int field1398 = 1398;
+    int field1399 = 1399;
+    int field1400 = 1400;
+    int field1401 = 1401;
+    int field1402 = 1402;
+    int field1403 = 1403;
+    int field1404 = 1404;
+    int field1405 = 1405;
+    int field1406 = 1406;
+    int field1407 = 1407;
+    int field1408 = 1408;
+    int field1409 = 1409;
+    int field1410 = 1410;
+    int field1411 = 1411;
+    int field1412 = 1412;
+    int field1413 = 1413;
+    int field1414 = 1414;
+    int field1415 = 1415;
+    int field1416 = 1416;
+    int field1417 = 1417;
+    int field1418 = 1418;
+    int field1419 = 1419;
+    int field1420 = 1420;
+    int field1421 = 1421;
+    int field1422 = 1422;
+    int field1423 = 1423;
+    int field1424 = 1424;
+    int field1425 = 1425;
+    int field1426 = 1426;
+    int field1427 = 1427;
+    int field1428 = 1428;
+    int field1429 = 1429;
+    int field1430 = 1430;
+    int field1431 = 1431;
+    int field1432 = 1432;
+    int field1433 = 1433;
+    int field1434 = 1434;
+    int field1435 = 1435;
+    int field1436 = 1436;
+    int field1437 = 1437;
+    int field1438 = 1438;
+    int field1439 = 1439;
+    int field1440 = 1440;
+    int field1441 = 1441;
+    int field1442 = 1442;
+    int field1443 = 1443;
+    int field1444 = 1444;
+    int field1445 = 1445;
+    int field1446 = 1446;
+    int field1447 = 1447;
+    int field1448 = 1448;
+    int field1449 = 1449;
+    int field1450 = 1450;
+    int field1451 = 1451;
+    int field1452 = 1452;
+    int field1453 = 1453;
+    int field1454 = 1454;
+    int field1455 = 1455;
+    int field1456 = 1456;
+    int field1457 = 1457;
+    int field1458 = 1458;
+    int field1459 = 1459;
+    int field1460 = 1460;
+    int field1461 = 1461;
+    int field1462 = 1462;
+    int field1463 = 1463;
+    int field1464 = 1464;
+    int field1465 = 1465;
+    int field1466 = 1466;
+    int field1467 = 1467;
+    int field1468 = 1468;
+    int field1469 = 1469;
+    int field1470 = 1470;
+    int field1471 = 1471;
+    int field1472 = 1472;
+    int field1473 = 1473;
+    int field1474 = 1474;
+    int field1475 = 1475;
+    int field1476 = 1476;
+    int field1477 = 1477;
+    int field1478 = 1478;
+    int field1479 = 1479;
+    int field1480 = 1480;
+    int field1481 = 1481;
+    int field1482 = 1482;
+    int field1483 = 1483;
+    int field1484 = 1484;
+    int field1485 = 1485;
+    int field1486 = 1486;
+    int field1487 = 1487;
+    int field1488 = 1488;
+    int field1489 = 1489;
+    int field1490 = 1490;
+    int field1491 = 1491;
+    int field1492 = 1492;
+    int field1493 = 1493;
+    int field1494 = 1494;
+    int field1495 = 1495;
+    int field1496 = 1496;
+    int field1497 = 1497;
+    int field1498 = 1498;
+    int field1499 = 1499;
+    int field1500 = 1500;
+    int field1501 = 1501;
+    int field1502 = 1502;
+    int field1503 = 1503;
+    int field1504 = 1504;
+    int field1505 = 1505;
+    int field1506 = 1506;
+    int field1507 = 1507;
+    int field1508 = 1508;
+    int field1509 = 1509;
+    int field1510 = 1510;
+    int field1511 = 1511;
+    int field1512 = 1512;
+    int field1513 = 1513;
+    int field1514 = 1514;
+    int field1515 = 1515;
+    int field1516 = 1516;
+    int field1517 = 1517;
+    int field1518 = 1518;
+    int field1519 = 1519;
+    int field1520 = 1520;
+    int field1521 = 1521;
+    int field1522 = 1522;
+    int field1523 = 1523;
+    int field1524 = 1524;
+    int field1525 = 1525;
+    int field1526 = 1526;
+    int field1527 = 1527;
+    int field1528 = 1528;
+    int field1529 = 1529;
+    int field1530 = 1530;
+    int field1531 = 1531;
+    int field1532 = 1532;
+    int field1533 = 1533;
+    int field1534 = 1534;
+    int field1535 = 1535;
+    int field1536 = 1536;
+    int field1537 = 1537;
+    int field1538 = 1538;
+    int field1539 = 1539;
+    int field1540 = 1540;
+    int field1541 = 1541;
+    int field1542 = 1542;
+    int field1543 = 1543;
+    int field1544 = 1544;
+    int field1545 = 1545;
+    int field1546 = 1546;
+    int field1547 = 1547;
+    int field1548 = 1548;
+    int field1549 = 1549;
+    int field1550 = 1550;
+    int field1551 = 1551;
+    int field1552 = 1552;
+    int field1553 = 1553;
+    int field1554 = 1554;
+    int field1555 = 1555;
+    int field1556 = 1556;
+    int field1557 = 1557;
+    int field1558 = 1558;
+    int field1559 = 1559;
+    int field1560 = 1560;
+    int field1561 = 1561;
+    int field1562 = 1562;
+    int field1563 = 1563;
+    int field1564 = 1564;
+    int field1565 = 1565;
+    int field1566 = 1566;
+    int field1567 = 1567;
+    int field1568 = 1568;
+    int field1569 = 1569;
+    int field1570 = 1570;
+    int field1571 = 1571;
+    int field1572 = 1572;
+    int field1573 = 1573;
+    int field1574 = 1574;
+    int field1575 = 1575;
+    int field1576 = 1576;
+    int field1577 = 1577;
+    int field1578 = 1578;
+    int field1579 = 1579;
+    int field1580 = 1580;
+    int field1581 = 1581;
+    int field1582 = 1582;
+    int field1583 = 1583;
+    int field1584 = 1584;
+    int field1585 = 1585;
+    int field1586 = 1586;
+    int field1587 = 1587;
+    int field1588 = 1588;
+    int field1589 = 1589;
+    int field1590 = 1590;
+    int field1591 = 1591;
+    int field1592 = 1592;
+    int field1593 = 1593;
+    int field1594 = 1594;
+    int field1595 = 1595;
+    int field1596 = 1596;
+    int field1597 = 1597;
+    int field1598 = 1598;
+    int field1599 = 1599;
+    int field1600 = 1600;
+    int field1601 = 1601;
+    int field1602 = 1602;
+    int field1603 = 1603;
+    int field1604 = 1604;
+    int field1605 = 1605;
+    int field1606 = 1606;
+    int field1607 = 1607;
+    int field1608 = 1608;
+    int field1609 = 1609;
+    int field1610 = 1610;
+    int field1611 = 1611;
+    int field1612 = 1612;
+    int field1613 = 1613;
+    int field1614 = 1614;
+    int field1615 = 1615;
+    int field1616 = 1616;
+    int field1617 = 1617;
+    int field1618 = 1618;
+    int field1619 = 1619;
+    int field1620 = 1620;
+    int field1621 = 1621;
+    int field1622 = 1622;
+    int field1623 = 1623;
+    int field1624 = 1624;
+    int field1625 = 1625;
+    int field1626 = 1626;
+    int field1627 = 1627;
+    int field1628 = 1628;
+    int field1629 = 1629;
+    int field1630 = 1630;
+    int field1631 = 1631;
+    int field1632 = 1632;
+    int field1633 = 1633;
+    int field1634 = 1634;
+    int field1635 = 1635;
+    int field1636 = 1636;
+    int field1637 = 1637;
+    int field1638 = 1638;
+    int field1639 = 1639;
+    int field1640 = 1640;
+    int field1641 = 1641;
+    int field1642 = 1642;
+    int field1643 = 1643;
+    int field1644 = 1644;
+    int field1645 = 1645;
+    int field1646 = 1646;
+    int field1647 = 1647;
+    int field1648 = 1648;
+    int field1649 = 1649;
+    int field1650 = 1650;
+    int field1651 = 1651;
+    int field1652 = 1652;
+    int field1653 = 1653;
+    int field1654 = 1654;
+    int field1655 = 1655;
+    int field1656 = 1656;
+    int field1657 = 1657;
+    int field1658 = 1658;
+    int field1659 = 1659;
+    int field1660 = 1660;
+    int field1661 = 1661;
+    int field1662 = 1662;
+    int field1663 = 1663;
+    int field1664 = 1664;
+    int field1665 = 1665;
+    int field1666 = 1666;
+    int field1667 = 1667;
+    int field1668 = 1668;
+    int field1669 = 1669;
+    int field1670 = 1670;
+    int field1671 = 1671;
+    int field1672 = 1672;
+    int field1673 = 1673;
+    int field1674 = 1674;
+    int field1675 = 1675;
+    int field1676 = 1676;
+    int field1677 = 1677;
+    int field1678 = 1678;
+    int field1679 = 1679;
+    int field1680 = 1680;
+    int field1681 = 1681;
+    int field1682 = 1682;
+    int field1683 = 1683;
+    int field1684 = 1684;
+    int field1685 = 1685;
+    int field1686 = 1686;
+    int field1687 = 1687;
+    int field1688 = 1688;
+    int field1689 = 1689;
+    int field1690 = 1690;
+    int field1691 = 1691;
+    int field1692 = 1692;
+    int field1693 = 1693;
+    int field1694 = 1694;
+    int field1695 = 1695;
+    int field1696 = 1696;
+    int field1697 = 1697;
+    int field1698 = 1698;
+    int field1699 = 1699;
+    int field1700 = 1700;
+    int field1701 = 1701;
+    int field1702 = 1702;
+    int field1703 = 1703;
+    int field1704 = 1704;
+    int field1705 = 1705;
+    int field1706 = 1706;
+    int field1707 = 1707;
+    int field1708 = 1708;
+    int field1709 = 1709;
+    int field1710 = 1710;
+    int field1711 = 1711;
+    int field1712 = 1712;
+    int field1713 = 1713;
+    int field1714 = 1714;
+    int field1715 = 1715;
+    int field1716 = 1716;
+    int field1717 = 1717;
+    int field1718 = 1718;
+    int field1719 = 1719;
+    int field1720 = 1720;
+    int field1721 = 1721;
+    int field1722 = 1722;
+    int field1723 = 1723;
+    int field1724 = 1724;
+    int field1725 = 1725;
+    int field1726 = 1726;
+    int field1727 = 1727;
+    int field1728 = 1728;
+    int field1729 = 1729;
+    int field1730 = 1730;
+    int field1731 = 1731;
+    int field1732 = 1732;
+    int field1733 = 1733;
+    int field1734 = 1734;
+    int field1735 = 1735;
+    int field1736 = 1736;
+    int field1737 = 1737;
+    int field1738 = 1738;
+    int field1739 = 1739;
+    int field1740 = 1740;
+    int field1741 = 1741;
+    int field1742 = 1742;
+    int field1743 = 1743;
+    int field1744 = 1744;
+    int field1745 = 1745;
+    int field1746 = 1746;
+    int field1747 = 1747;
+    int field1748 = 1748;
+    int field1749 = 1749;
+    int field1750 = 1750;
+    int field1751 = 1751;
+    int field1752 = 1752;
+    int field1753 = 1753;
+    int field1754 = 1754;
+    int field1755 = 1755;
+    int field1756 = 1756;
+    int field1757 = 1757;
+    int field1758 = 1758;
+    int field1759 = 1759;
+    int field1760 = 1760;
+    int field1761 = 1761;
+    int field1762 = 1762;
+    int field1763 = 1763;
+    int field1764 = 1764;
+    int field1765 = 1765;
+    int field1766 = 1766;
+    int field1767 = 1767;
+    int field1768 = 1768;
+    int field1769 = 1769;
+    int field1770 = 1770;
+    int field1771 = 1771;
+    int field1772 = 1772;
+    int field1773 = 1773;
+    int field1774 = 1774;
+    int field1775 = 1775;
+    int field1776 = 1776;
+    int field1777 = 1777;
+    int field1778 = 1778;
+    int field1779 = 1779;
+    int field1780 = 1780;
+    int field1781 = 1781;
+    int field1782 = 1782;
+    int field1783 = 1783;
+    int field1784 = 1784;
+    int field1785 = 1785;
+    int field1786 = 1786;
+    int field1787 = 1787;
+    int field1788 = 1788;
+    int field1789 = 1789;
+    int field1790 = 1790;
+    int field1791 = 1791;
+    int field1792 = 1792;
+    int field1793 = 1793;
+    int field1794 = 1794;
+    int field1795 = 1795;
+    int field1796 = 1796;
+    int field1797 = 1797;
+    int field1798 = 1798;
+    int field1799 = 1799;
+    int field1800 = 1800;
+    int field1801 = 1801;
+    int field1802 = 1802;
+    int field1803 = 1803;
+    int field1804 = 1804;
+    int field1805 = 1805;
+    int field1806 = 1806;
+    int field1807 = 1807;
+    int field1808 = 1808;
+    int field1809 = 1809;
+    int field1810 = 1810;
+    int field1811 = 1811;
+    int field1812 = 1812;
+    int field1813 = 1813;
+    int field1814 = 1814;
+    int field1815 = 1815;
+    int field1816 = 1816;
+    int field1817 = 1817;
+    int field1818 = 1818;
+    int field1819 = 1819;
+    int field1820 = 1820;
+    int field1821 = 1821;
+    int field1822 = 1822;
+    int field1823 = 1823;
+    int field1824 = 1824;
+    int field1825 = 1825;
+    int field1826 = 1826;
+    int field1827 = 1827;
+    int field1828 = 1828;
+    int field1829 = 1829;
+    int field1830 = 1830;
+    int field1831 = 1831;
+    int field1832 = 1832;
+    int field1833 = 1833;
+    int field1834 = 1834;
+    int field1835 = 1835;
+    int field1836 = 1836;
+    int field1837 = 1837;
+    int field1838 = 1838;
+    int field1839 = 1839;
+    int field1840 = 1840;
+    int field1841 = 1841;
+    int field1842 = 1842;
+    int field1843 = 1843;
+    int field1844 = 1844;
+    int field1845 = 1845;
+    int field1846 = 1846;
+    int field1847 = 1847;
+    int field1848 = 1848;
+    int field1849 = 1849;
+    int field1850 = 1850;
+    int field1851 = 1851;
+    int field1852 = 1852;
+    int field1853 = 1853;
+    int field1854 = 1854;
+    int field1855 = 1855;
+    int field1856 = 1856;
+    int field1857 = 1857;
+    int field1858 = 1858;
+    int field1859 = 1859;
+    int field1860 = 1860;
+    int field1861 = 1861;
+    int field1862 = 1862;
+    int field1863 = 1863;
+    int field1864 = 1864;
+    int field1865 = 1865;
+    int field1866 = 1866;
+    int field1867 = 1867;
+    int field1868 = 1868;
+    int field1869 = 1869;
+    int field1870 = 1870;
+    int field1871 = 1871;
+    int field1872 = 1872;
+    int field1873 = 1873;
+    int field1874 = 1874;
+    int field1875 = 1875;
+    int field1876 = 1876;
+    int field1877 = 1877;
+    int field1878 = 1878;
+    int field1879 = 1879;
+    int field1880 = 1880;
+    int field1881 = 1881;
+    int field1882 = 1882;
+    int field1883 = 1883;
+    int field1884 = 1884;
+    int field1885 = 1885;
+    int field1886 = 1886;
+    int field1887 = 1887;
+    int field1888 = 1888;
+    int field1889 = 1889;
+    int field1890 = 1890;
+    int field1891 = 1891;
+    int field1892 = 1892;
+    int field1893 = 1893;
+    int field1894 = 1894;
+    int field1895 = 1895;
+    int field1896 = 1896;
+    int field1897 = 1897;
+    int field1898 = 1898;
+    int field1899 = 1899;
+    int field1900 = 1900;
+    int field1901 = 1901;
+    int field1902 = 1902;
+    int field1903 = 1903;
+    int field1904 = 1904;
+    int field1905 = 1905;
+    int field1906 = 1906;
+    int field1907 = 1907;
+    int field1908 = 1908;
+    int field1909 = 1909;
+    int field1910 = 1910;
+    int field1911 = 1911;
+    int field1912 = 1912;
+    int field1913 = 1913;
+    int field1914 = 1914;
+    int field1915 = 1915;
+    int field1916 = 1916;
+    int field1917 = 1917;
+    int field1918 = 1918;
+    int field1919 = 1919;
+    int field1920 = 1920;
+    int field1921 = 1921;
+    int field1922 = 1922;
+    int field1923 = 1923;
+    int field1924 = 1924;
+    int field1925 = 1925;
+    int field1926 = 1926;
+    int field1927 = 1927;
+    int field1928 = 1928;
+    int field1929 = 1929;
+    int field1930 = 1930;
+    int field1931 = 1931;
+    int field1932 = 1932;
+    int field1933 = 1933;
+    int field1934 = 1934;
+    int field1935 = 1935;
+    int field1936 = 1936;
+    int field1937 = 1937;
+    int field1938 = 1938;
+    int field1939 = 1939;
+    int field1940 = 1940;
+    int field1941 = 1941;
+    int field1942 = 1942;
+    int field1943 = 1943;
+    int field1944 = 1944;
+    int field1945 = 1945;
+    int field1946 = 1946;
+    int field1947 = 1947;
+    int field1948 = 1948;
+    int field1949 = 1949;
+    int field1950 = 1950;
+    int field1951 = 1951;
+    int field1952 = 1952;
+    int field1953 = 1953;
+    int field1954 = 1954;
+    int field1955 = 1955;
+    int field1956 = 1956;
+    int field1957 = 1957;
+    int field1958 = 1958;
+    int field1959 = 1959;
+    int field1960 = 1960;
+    int field1961 = 1961;
+    int field1962 = 1962;
+    int field1963 = 1963;
+    int field1964 = 1964;
+    int field1965 = 1965;
+    int field1966 = 1966;
+    int field1967 = 1967;
+    int field1968 = 1968;
+    int field1969 = 1969;
+    int field1970 = 1970;
+    int field1971 = 1971;
+    int field1972 = 1972;
+    int field1973 = 1973;
+    int field1974 = 1974;
+    int field1975 = 1975;
+    int field1976 = 1976;
+    int field1977 = 1977;
+    int field1978 = 1978;
+    int field1979 = 1979;
+    int field1980 = 1980;
+    int field1981 = 1981;
+    int field1982 = 1982;
+    int field1983 = 1983;
+    int field1984 = 1984;
+    int field1985 = 1985;
+    int field1986 = 1986;
+    int field1987 = 1987;
+    int field1988 = 1988;
+    int field1989 = 1989;
+    int field1990 = 1990;
+    int field1991 = 1991;
+    int field1992 = 1992;
+    int field1993 = 1993;
+    int field1994 = 1994;
+    int field1995 = 1995;
+    int field1996 = 1996;
+    int field1997 = 1997;
+    int field1998 = 1998;
+    int field1999 = 1999;
+    int field2000 = 2000;
+    int field2001 = 2001;
+    int field2002 = 2002;
+    int field2003 = 2003;
+    int field2004 = 2004;
+    int field2005 = 2005;
+    int field2006 = 2006;
+    int field2007 = 2007;
+    int field2008 = 2008;
+    int field2009 = 2009;
+    int field2010 = 2010;
+    int field2011 = 2011;
+    int field2012 = 2012;
+    int field2013 = 2013;
+    int field2014 = 2014;
+    int field2015 = 2015;
+    int field2016 = 2016;
+    int field2017 = 2017;
+    int field2018 = 2018;
+    int field2019 = 2019;
+    int field2020 = 2020;
+    int field2021 = 2021;
+    int field2022 = 2022;
+    int field2023 = 2023;
+    int field2024 = 2024;
+    int field2025 = 2025;
+    int field2026 = 2026;
+    int field2027 = 2027;
+    int field2028 = 2028;
+    int field2029 = 2029;
+    int field2030 = 2030;
+    int field2031 = 2031;
+    int field2032 = 2032;
+    int field2033 = 2033;
+    int field2034 = 2034;
+    int field2035 = 2035;
+    int field2036 = 2036;
+    int field2037 = 2037;
+    int field2038 = 2038;
+    int field2039 = 2039;
+    int field2040 = 2040;
+    int field2041 = 2041;
+    int field2042 = 2042;
+    int field2043 = 2043;
+    int field2044 = 2044;
+    int field2045 = 2045;
+    int field2046 = 2046;
+    int field2047 = 2047;
+    int field2048 = 2048;
+    int field2049 = 2049;
+    int field2050 = 2050;
+    int field2051 = 2051;
+    int field2052 = 2052;
+    int field2053 = 2053;
+    int field2054 = 2054;
+    int field2055 = 2055;
+    int field2056 = 2056;
+    int field2057 = 2057;
+    int field2058 = 2058;
+    int field2059 = 2059;
+    int field2060 = 2060;
+    int field2061 = 2061;
+    int field2062 = 2062;
+    int field2063 = 2063;
+    int field2064 = 2064;
+    int field2065 = 2065;
+    int field2066 = 2066;
+    int field2067 = 2067;
+    int field2068 = 2068;
+    int field2069 = 2069;
+    int field2070 = 2070;
+    int field2071 = 2071;
+    int field2072 = 2072;
+    int field2073 = 2073;
+    int field2074 = 2074;
+    int field2075 = 2075;
+    int field2076 = 2076;
+    int field2077 = 2077;
+    int field2078 = 2078;
+    int field2079 = 2079;
+    int field2080 = 2080;
+    int field2081 = 2081;
+    int field2082 = 2082;
+    int field2083 = 2083;
+    int field2084 = 2084;
+    int field2085 = 2085;
+    int field2086 = 2086;
+    int field2087 = 2087;
+    int field2088 = 2088;
+    int field2089 = 2089;
+    int field2090 = 2090;
+    int field2091 = 2091;
+    int field2092 = 2092;
+    int field2093 = 2093;
+    int field2094 = 2094;
+    int field2095 = 2095;
+    int field2096 = 2096;
+    int field2097 = 2097;
+    int field2098 = 2098;
+    int field2099 = 2099;
+    int field2100 = 2100;
+    int field2101 = 2101;
+    int field2102 = 2102;
+    int field2103 = 2103;
+    int field2104 = 2104;
+    int field2105 = 2105;
+    int field2106 = 2106;
+    int field2107 = 2107;
+    int field2108 = 2108;
+    int field2109 = 2109;
+    int field2110 = 2110;
+    int field2111 = 2111;
+    int field2112 = 2112;
+    int field2113 = 2113;
+    int field2114 = 2114;
+    int field2115 = 2115;
+    int field2116 = 2116;
+    int field2117 = 2117;
+    int field2118 = 2118;
+    int field2119 = 2119;
+    int field2120 = 2120;
+    int field2121 = 2121;
+    int field2122 = 2122;
+    int field2123 = 2123;
+    int field2124 = 2124;
+    int field2125 = 2125;
+    int field2126 = 2126;
+    int field2127 = 2127;
+    int field2128 = 2128;
+    int field2129 = 2129;
+    int field2130 = 2130;
+    int field2131 = 2131;
+    int field2132 = 2132;
+    int field2133 = 2133;
+    int field2134 = 2134;
+    int field2135 = 2135;
+    int field2136 = 2136;
+    int field2137 = 2137;
+    int field2138 = 2138;
+    int field2139 = 2139;
+    int field2140 = 2140;
+    int field2141 = 2141;
+    int field2142 = 2142;
+    int field2143 = 2143;
+    int field2144 = 2144;
+    int field2145 = 2145;
+    int field2146 = 2146;
+    int field2147 = 2147;
+    int field2148 = 2148;
+    int field2149 = 2149;
+    int field2150 = 2150;
+    int field2151 = 2151;
+    int field2152 = 2152;
+    int field2153 = 2153;
+    int field2154 = 2154;
+    int field2155 = 2155;
+    int field2156 = 2156;
+    int field2157 = 2157;
+    int field2158 = 2158;
+    int field2159 = 2159;
+    int field2160 = 2160;
+    int field2161 = 2161;
+    int field2162 = 2162;
+    int field2163 = 2163;
+    int field2164 = 2164;
+    int field2165 = 2165;
+    int field2166 = 2166;
+    int field2167 = 2167;
+    int field2168 = 2168;
+    int field2169 = 2169;
+    int field2170 = 2170;
+    int field2171 = 2171;
+    int field2172 = 2172;
+    int field2173 = 2173;
+    int field2174 = 2174;
+    int field2175 = 2175;
+    int field2176 = 2176;
+    int field2177 = 2177;
+    int field2178 = 2178;
+    int field2179 = 2179;
+    int field2180 = 2180;
+    int field2181 = 2181;
+    int field2182 = 2182;
+    int field2183 = 2183;
+    int field2184 = 2184;
+    int field2185 = 2185;
+    int field2186 = 2186;
+    int field2187 = 2187;
+    int field2188 = 2188;
+    int field2189 = 2189;
+    int field2190 = 2190;
+    int field2191 = 2191;
+    int field2192 = 2192;
+    int field2193 = 2193;
+    int field2194 = 2194;
+    int field2195 = 2195;
+    int field2196 = 2196;
+    int field2197 = 2197;
+    int field2198 = 2198;
+    int field2199 = 2199;
+    int field2200 = 2200;
+    int field2201 = 2201;
+    int field2202 = 2202;
+    int field2203 = 2203;
+    int field2204 = 2204;
+    int field2205 = 2205;
+    int field2206 = 2206;
+    int field2207 = 2207;
+    int field2208 = 2208;
+    int field2209 = 2209;
+    int field2210 = 2210;
+    int field2211 = 2211;
+    int field2212 = 2212;
+    int field2213 = 2213;
+    int field2214 = 2214;
+    int field2215 = 2215;
+    int field2216 = 2216;
+    int field2217 = 2217;
+    int field2218 = 2218;
+    int field2219 = 2219;
+    int field2220 = 2220;
+    int field2221 = 2221;
+    int field2222 = 2222;
+    int field2223 = 2223;
+    int field2224 = 2224;
+    int field2225 = 2225;
+    int field2226 = 2226;
+    int field2227 = 2227;
+    int field2228 = 2228;
+    int field2229 = 2229;
+    int field2230 = 2230;
+    int field2231 = 2231;
+    int field2232 = 2232;
+    int field2233 = 2233;
+    int field2234 = 2234;
+    int field2235 = 2235;
+    int field2236 = 2236;
+    int field2237 = 2237;
+    int field2238 = 2238;
+    int field2239 = 2239;
+    int field2240 = 2240;
+    int field2241 = 2241;
+    int field2242 = 2242;
+    int field2243 = 2243;
+    int field2244 = 2244;
+    int field2245 = 2245;
+    int field2246 = 2246;
+    int field2247 = 2247;
+    int field2248 = 2248;
+    int field2249 = 2249;
+    int field2250 = 2250;
+    int field2251 = 2251;
+    int field2252 = 2252;
+    int field2253 = 2253;
+    int field2254 = 2254;
+    int field2255 = 2255;
+    int field2256 = 2256;
+    int field2257 = 2257;
+    int field2258 = 2258;
+    int field2259 = 2259;
+    int field2260 = 2260;
+    int field2261 = 2261;
+    int field2262 = 2262;
+    int field2263 = 2263;
+    int field2264 = 2264;
+    int field2265 = 2265;
+    int field2266 = 2266;
+    int field2267 = 2267;
+    int field2268 = 2268;
+    int field2269 = 2269;
+    int field2270 = 2270;
+    int field2271 = 2271;
+    int field2272 = 2272;
+    int field2273 = 2273;
+    int field2274 = 2274;
+    int field2275 = 2275;
+    int field2276 = 2276;
+    int field2277 = 2277;
+    int field2278 = 2278;
+    int field2279 = 2279;
+    int field2280 = 2280;
+    int field2281 = 2281;
+    int field2282 = 2282;
+    int field2283 = 2283;
+    int field2284 = 2284;
+    int field2285 = 2285;
+    int field2286 = 2286;
+    int field2287 = 2287;
+    int field2288 = 2288;
+    int field2289 = 2289;
+    int field2290 = 2290;
+    int field2291 = 2291;
+    int field2292 = 2292;
+    int field2293 = 2293;
+    int field2294 = 2294;
+    int field2295 = 2295;
+    int field2296 = 2296;
+    int field2297 = 2297;
+    int field2298 = 2298;
+    int field2299 = 2299;
+    int field2300 = 2300;
+    int field2301 = 2301;
+    int field2302 = 2302;
+    int field2303 = 2303;
+    int field2304 = 2304;
+    int field2305 = 2305;
+    int field2306 = 2306;
+    int field2307 = 2307;
+    int field2308 = 2308;
+    int field2309 = 2309;
+    int field2310 = 2310;
+    int field2311 = 2311;
+    int field2312 = 2312;
+    int field2313 = 2313;
+    int field2314 = 2314;
+    int field2315 = 2315;
+    int field2316 = 2316;
+    int field2317 = 2317;
+    int field2318 = 2318;
+    int field2319 = 2319;
+    int field2320 = 2320;
+    int field2321 = 2321;
+    int field2322 = 2322;
+    int field2323 = 2323;
+    int field2324 = 2324;
+    int field2325 = 2325;
+    int field2326 = 2326;
+    int field2327 = 2327;
+    int field2328 = 2328;
+    int field2329 = 2329;
+    int field2330 = 2330;
+    int field2331 = 2331;
+    int field2332 = 2332;
+    int field2333 = 2333;
+    int field2334 = 2334;
+    int field2335 = 2335;
+    int field2336 = 2336;
+    int field2337 = 2337;
+    int field2338 = 2338;
+    int field2339 = 2339;
+    int field2340 = 2340;
+    int field2341 = 2341;
+    int field2342 = 2342;
+    int field2343 = 2343;
+    int field2344 = 2344;
+    int field2345 = 2345;
+    int field2346 = 2346;
+    int field2347 = 2347;
+    int field2348 = 2348;
+    int field2349 = 2349;
+    int field2350 = 2350;
+    int field2351 = 2351;
+    int field2352 = 2352;
+    int field2353 = 2353;
+    int field2354 = 2354;
+    int field2355 = 2355;
+    int field2356 = 2356;
+    int field2357 = 2357;
+    int field2358 = 2358;
+    int field2359 = 2359;
+    int field2360 = 2360;
+    int field2361 = 2361;
+    int field2362 = 2362;
+    int field2363 = 2363;
+    int field2364 = 2364;
+    int field2365 = 2365;
+    int field2366 = 2366;
+    int field2367 = 2367;
+    int field2368 = 2368;
+    int field2369 = 2369;
+    int field2370 = 2370;
+    int field2371 = 2371;
+    int field2372 = 2372;
+    int field2373 = 2373;
+    int field2374 = 2374;
+    int field2375 = 2375;
+    int field2376 = 2376;
+    int field2377 = 2377;
+    int field2378 = 2378;
+    int field2379 = 2379;
+    int field2380 = 2380;
+    int field2381 = 2381;
+    int field2382 = 2382;
+    int field2383 = 2383;
+    int field2384 = 2384;
+    int field2385 = 2385;
+    int field2386 = 2386;
+    int field2387 = 2387;
+    int field2388 = 2388;
+    int field2389 = 2389;
+    int field2390 = 2390;
+    int field2391 = 2391;
+    int field2392 = 2392;
+    int field2393 = 2393;
+    int field2394 = 2394;
+    int field2395 = 2395;
+    int field2396 = 2396;
+    int field2397 = 2397;
+    int field2398 = 2398;
+    int field2399 = 2399;
+    int field2400 = 2400;
+    int field2401 = 2401;
+    int field2402 = 2402;
+    int field2403 = 2403;
+    int field2404 = 2404;
+    int field2405 = 2405;
+    int field2406 = 2406;
+    int field2407 = 2407;
+    int field2408 = 2408;
+    int field2409 = 2409;
+    int field2410 = 2410;
+    int field2411 = 2411;
+    int field2412 = 2412;
+    int field2413 = 2413;
+    int field2414 = 2414;
+    int field2415 = 2415;
+    int field2416 = 2416;
+    int field2417 = 2417;
+    int field2418 = 2418;
+    int field2419 = 2419;
+    int field2420 = 2420;
+    int field2421 = 2421;
+    int field2422 = 2422;
+    int field2423 = 2423;
+    int field2424 = 2424;
+    int field2425 = 2425;
+    int field2426 = 2426;
+    int field2427 = 2427;
+    int field2428 = 2428;
+    int field2429 = 2429;
+    int field2430 = 2430;
+    int field2431 = 2431;
+    int field2432 = 2432;
+    int field2433 = 2433;
+    int field2434 = 2434;
+    int field2435 = 2435;
+    int field2436 = 2436;
+    int field2437 = 2437;
+    int field2438 = 2438;
+    int field2439 = 2439;
+    int field2440 = 2440;
+    int field2441 = 2441;
+    int field2442 = 2442;
+    int field2443 = 2443;
+    int field2444 = 2444;
+    int field2445 = 2445;
+    int field2446 = 2446;
+    int field2447 = 2447;
+    int field2448 = 2448;
+    int field2449 = 2449;
+    int field2450 = 2450;
+    int field2451 = 2451;
+    int field2452 = 2452;
+    int field2453 = 2453;
+    int field2454 = 2454;
+    int field2455 = 2455;
+    int field2456 = 2456;
+    int field2457 = 2457;
+    int field2458 = 2458;
+    int field2459 = 2459;
+    int field2460 = 2460;
+    int field2461 = 2461;
+    int field2462 = 2462;
+    int field2463 = 2463;
+    int field2464 = 2464;
+    int field2465 = 2465;
+    int field2466 = 2466;
+    int field2467 = 2467;
+    int field2468 = 2468;
+    int field2469 = 2469;
+    int field2470 = 2470;
+    int field2471 = 2471;
+    int field2472 = 2472;
+    int field2473 = 2473;
+    int field2474 = 2474;
+    int field2475 = 2475;
+    int field2476 = 2476;
+    int field2477 = 2477;
+    int field2478 = 2478;
+    int field2479 = 2479;
+    int field2480 = 2480;
+    int field2481 = 2481;
+    int field2482 = 2482;
+    int field2483 = 2483;
+    int field2484 = 2484;
+    int field2485 = 2485;
+    int field2486 = 2486;
+    int field2487 = 2487;
+    int field2488 = 2488;
+    int field2489 = 2489;
+    int field2490 = 2490;
+    int field2491 = 2491;
+    int field2492 = 2492;
+    int field2493 = 2493;
+    int field2494 = 2494;
+    int field2495 = 2495;
+    int field2496 = 2496;
+    int field2497 = 2497;
+    int field2498 = 2498;
+    int field2499 = 2499;
+    int field2500 = 2500;
+    int field2501 = 2501;
+    int field2502 = 2502;
+    int field2503 = 2503;
+    int field2504 = 2504;
+    int field2505 = 2505;
+    int field2506 = 2506;
+    int field2507 = 2507;
+    int field2508 = 2508;
+    int field2509 = 2509;
+    int field2510 = 2510;
+    int field2511 = 2511;
+    int field2512 = 2512;
+    int field2513 = 2513;
+    int field2514 = 2514;
+    int field2515 = 2515;
+    int field2516 = 2516;
+    int field2517 = 2517;
+    int field2518 = 2518;
+    int field2519 = 2519;
+    int field2520 = 2520;
+    int field2521 = 2521;
+    int field2522 = 2522;
+    int field2523 = 2523;
+    int field2524 = 2524;
+    int field2525 = 2525;
+    int field2526 = 2526;
+    int field2527 = 2527;
+    int field2528 = 2528;
+    int field2529 = 2529;
+    int field2530 = 2530;
+    int field2531 = 2531;
+    int field2532 = 2532;
+    int field2533 = 2533;
+    int field2534 = 2534;
+    int field2535 = 2535;
+    int field2536 = 2536;
+    int field2537 = 2537;
+    int field2538 = 2538;
+    int field2539 = 2539;
+    int field2540 = 2540;
+    int field2541 = 2541;
+    int field2542 = 2542;
+    int field2543 = 2543;
+    int field2544 = 2544;
+    int field2545 = 2545;
+    int field2546 = 2546;
+    int field2547 = 2547;
+    int field2548 = 2548;
+    int field2549 = 2549;
+    int field2550 = 2550;
+    int field2551 = 2551;
+    int field2552 = 2552;
+    int field2553 = 2553;
+    int field2554 = 2554;
+    int field2555 = 2555;
+    int field2556 = 2556;
+    int field2557 = 2557;
+    int field2558 = 2558;
+    int field2559 = 2559;
+    int field2560 = 2560;
+    int field2561 = 2561;
+    int field2562 = 2562;
+    int field2563 = 2563;
+    int field2564 = 2564;
+    int field2565 = 2565;
+    int field2566 = 2566;
+    int field2567 = 2567;
+    int field2568 = 2568;
+    int field2569 = 2569;
+    int field2570 = 2570;
+    int field2571 = 2571;
+    int field2572 = 2572;
+    int field2573 = 2573;
+    int field2574 = 2574;
+    int field2575 = 2575;
+    int field2576 = 2576;
+    int field2577 = 2577;
+    int field2578 = 2578;
+    int field2579 = 2579;
+    int field2580 = 2580;
+    int field2581 = 2581;
+    int field2582 = 2582;
+    int field2583 = 2583;
+    int field2584 = 2584;
+    int field2585 = 2585;
+    int field2586 = 2586;
+    int field2587 = 2587;
+    int field2588 = 2588;
+    int field2589 = 2589;
+    int field2590 = 2590;
+    int field2591 = 2591;
+    int field2592 = 2592;
+    int field2593 = 2593;
+    int field2594 = 2594;
+    int field2595 = 2595;
+    int field2596 = 2596;
+    int field2597 = 2597;
+    int field2598 = 2598;
+    int field2599 = 2599;
+    int field2600 = 2600;
+    int field2601 = 2601;
+    int field2602 = 2602;
+    int field2603 = 2603;
+    int field2604 = 2604;
+    int field2605 = 2605;
+    int field2606 = 2606;
+    int field2607 = 2607;
+    int field2608 = 2608;
+    int field2609 = 2609;
+    int field2610 = 2610;
+    int field2611 = 2611;
+    int field2612 = 2612;
+    int field2613 = 2613;
+    int field2614 = 2614;
+    int field2615 = 2615;
+    int field2616 = 2616;
+    int field2617 = 2617;
+    int field2618 = 2618;
+    int field2619 = 2619;
+    int field2620 = 2620;
+    int field2621 = 2621;
+    int field2622 = 2622;
+    int field2623 = 2623;
+    int field2624 = 2624;
+    int field2625 = 2625;
+    int field2626 = 2626;
+    int field2627 = 2627;
+    int field2628 = 2628;
+    int field2629 = 2629;
+    int field2630 = 2630;
+    int field2631 = 2631;
+    int field2632 = 2632;
+    int field2633 = 2633;
+    int field2634 = 2634;
+    int field2635 = 2635;
+    int field2636 = 2636;
+    int field2637 = 2637;
+    int field2638 = 2638;
+    int field2639 = 2639;
+    int field2640 = 2640;
+    int field2641 = 2641;
+    int field2642 = 2642;
+    int field2643 = 2643;
+    int field2644 = 2644;
+    int field2645 = 2645;
+    int field2646 = 2646;
+    int field2647 = 2647;
+    int field2648 = 2648;
+    int field2649 = 2649;
+    int field2650 = 2650;
+    int field2651 = 2651;
+    int field2652 = 2652;
+    int field2653 = 2653;
+    int field2654 = 2654;
+    int field2655 = 2655;
+    int field2656 = 2656;
+    int field2657 = 2657;
+    int field2658 = 2658;
+    int field2659 = 2659;
+    int field2660 = 2660;
+    int field2661 = 2661;
+    int field2662 = 2662;
+    int field2663 = 2663;
+    int field2664 = 2664;
+    int field2665 = 2665;
+    int field2666 = 2666;
+    int field2667 = 2667;
+    int field2668 = 2668;
+    int field2669 = 2669;
+    int field2670 = 2670;
+    int field2671 = 2671;
+    int field2672 = 2672;
+    int field2673 = 2673;
+    int field2674 = 2674;
+    int field2675 = 2675;
+    int field2676 = 2676;
+    int field2677 = 2677;
+    int field2678 = 2678;
+    int field2679 = 2679;
+    int field2680 = 2680;
+    int field2681 = 2681;
+    int field2682 = 2682;
+    int field2683 = 2683;
+    int field2684 = 2684;
+    int field2685 = 2685;
+    int field2686 = 2686;
+    int field2687 = 2687;
+    int field2688 = 2688;
+    int field2689 = 2689;
+    int field2690 = 2690;
+    int field2691 = 2691;
+    int field2692 = 2692;
+    int field2693 = 2693;
+    int field2694 = 2694;
+    int field2695 = 2695;
+    int field2696 = 2696;
+    int field2697 = 2697;
+    int field2698 = 2698;
+    int field2699 = 2699;
+    int field2700 = 2700;
+    int field2701 = 2701;
+    int field2702 = 2702;
+    int field2703 = 2703;
+    int field2704 = 2704;
+    int field2705 = 2705;
+    int field2706 = 2706;
+    int field2707 = 2707;
+    int field2708 = 2708;
+    int field2709 = 2709;
+    int field2710 = 2710;
+    int field2711 = 2711;
+    int field2712 = 2712;
+    int field2713 = 2713;
+    int field2714 = 2714;
+    int field2715 = 2715;
+    int field2716 = 2716;
+    int field2717 = 2717;
+    int field2718 = 2718;
+    int field2719 = 2719;
+    int field2720 = 2720;
+    int field2721 = 2721;
+    int field2722 = 2722;
+    int field2723 = 2723;
+    int field2724 = 2724;
+    int field2725 = 2725;
+    int field2726 = 2726;
+    int field2727 = 2727;
+    int field2728 = 2728;
+    int field2729 = 2729;
+    int field2730 = 2730;
+    int field2731 = 2731;
+    int field2732 = 2732;
+    int field2733 = 2733;
+    int field2734 = 2734;
+    int field2735 = 2735;
+    int field2736 = 2736;
+    int field2737 = 2737;
+    int field2738 = 2738;
+    int field2739 = 2739;
+    int field2740 = 2740;
+    int field2741 = 2741;
+    int field2742 = 2742;
+    int field2743 = 2743;
+    int field2744 = 2744;
+    int field2745 = 2745;
+    int field2746 = 2746;
+    int field2747 = 2747;
+    int field2748 = 2748;
+    int field2749 = 2749;
+    int field2750 = 2750;
+    int field2751 = 2751;
+    int field2752 = 2752;
+    int field2753 = 2753;
+    int field2754 = 2754;
+    int field2755 = 2755;
+    int field2756 = 2756;
+    int field2757 = 2757;
+    int field2758 = 2758;
+    int field2759 = 2759;
+    int field2760 = 2760;
+    int field2761 = 2761;
+    int field2762 = 2762;
+    int field2763 = 2763;
+    int field2764 = 2764;
+    int field2765 = 2765;
+    int field2766 = 2766;
+    int field2767 = 2767;
+    int field2768 = 2768;
+    int field2769 = 2769;
+    int field2770 = 2770;
+    int field2771 = 2771;
+    int field2772 = 2772;
+    int field2773 = 2773;
+    int field2774 = 2774;
+    int field2775 = 2775;
+    int field2776 = 2776;
+    int field2777 = 2777;
+    int field2778 = 2778;
+    int field2779 = 2779;
+    int field2780 = 2780;
+    int field2781 = 2781;
+    int field2782 = 2782;
+    int field2783 = 2783;
+    int field2784 = 2784;
+    int field2785 = 2785;
+    int field2786 = 2786;
+    int field2787 = 2787;
+    int field2788 = 2788;
+    int field2789 = 2789;
+    int field2790 = 2790;
+    int field2791 = 2791;
+    int field2792 = 2792;
+    int field2793 = 2793;
+    int field2794 = 2794;
+    int field2795 = 2795;
+    int field2796 = 2796;
+    int field2797 = 2797;
+    int field2798 = 2798;
+    int field2799 = 2799;
+    int field2800 = 2800;
+    int field2801 = 2801;
+    int field2802 = 2802;
+    int field2803 = 2803;
+    int field2804 = 2804;
+    int field2805 = 2805;
+    int field2806 = 2806;
+    int field2807 = 2807;
+    int field2808 = 2808;
+    int field2809 = 2809;
+    int field2810 = 2810;
+    int field2811 = 2811;
+    int field2812 = 2812;
+    int field2813 = 2813;
+    int field2814 = 2814;
+    int field2815 = 2815;
+    int field2816 = 2816;
+    int field2817 = 2817;
+    int field2818 = 2818;
+    int field2819 = 2819;
+    int field2820 = 2820;
+    int field2821 = 2821;
+    int field2822 = 2822;
+    int field2823 = 2823;
+    int field2824 = 2824;
+    int field2825 = 2825;
+    int field2826 = 2826;
+    int field2827 = 2827;
+    int field2828 = 2828;
+    int field2829 = 2829;
+    int field2830 = 2830;
+    int field2831 = 2831;
+    int field2832 = 2832;
+    int field2833 = 2833;
+    int field2834 = 2834;
+    int field2835 = 2835;
+    int field2836 = 2836;
+    int field2837 = 2837;
+    int field2838 = 2838;
+    int field2839 = 2839;
+    int field2840 = 2840;
+    int field2841 = 2841;
+    int field2842 = 2842;
+    int field2843 = 2843;
+    int field2844 = 2844;
+    int field2845 = 2845;
+    int field2846 = 2846;
+    int field2847 = 2847;
+    int field2848 = 2848;
+    int field2849 = 2849;
+    int field2850 = 2850;
+    int field2851 = 2851;
+    int field2852 = 2852;
+    int field2853 = 2853;
+    int field2854 = 2854;
+    int field2855 = 2855;
+    int field2856 = 2856;
+    int field2857 = 2857;
+    int field2858 = 2858;
+    int field2859 = 2859;
+    int field2860 = 2860;
+    int field2861 = 2861;
+    int field2862 = 2862;
+    int field2863 = 2863;
+    int field2864 = 2864;
+    int field2865 = 2865;
+    int field2866 = 2866;
+    int field2867 = 2867;
+    int field2868 = 2868;
+    int field2869 = 2869;
+    int field2870 = 2870;
+    int field2871 = 2871;
+    int field2872 = 2872;
+    int field2873 = 2873;
+    int field2874 = 2874;
+    int field2875 = 2875;
+    int field2876 = 2876;
+    int field2877 = 2877;
+    int field2878 = 2878;
+    int field2879 = 2879;
+    int field2880 = 2880;
+    int field2881 = 2881;
+    int field2882 = 2882;
+    int field2883 = 2883;
+    int field2884 = 2884;
+    int field2885 = 2885;
+    int field2886 = 2886;
+    int field2887 = 2887;
+    int field2888 = 2888;
+    int field2889 = 2889;
+    int field2890 = 2890;
+    int field2891 = 2891;
+    int field2892 = 2892;
+    int field2893 = 2893;
+    int field2894 = 2894;
+    int field2895 = 2895;
+    int field2896 = 2896;
+    int field2897 = 2897;
+    int field2898 = 2898;
+    int field2899 = 2899;
+    int field2900 = 2900;
+    int field2901 = 2901;
+    int field2902 = 2902;
+    int field2903 = 2903;
+    int field2904 = 2904;
+    int field2905 = 2905;
+    int field2906 = 2906;
+    int field2907 = 2907;
+    int field2908 = 2908;
+    int field2909 = 2909;
+    int field2910 = 2910;
+    int field2911 = 2911;
+    int field2912 = 2912;
+    int field2913 = 2913;
+    int field2914 = 2914;
+    int field2915 = 2915;
+    int field2916 = 2916;
+    int field2917 = 2917;
+    int field2918 = 2918;
+    int field2919 = 2919;
+    int field2920 = 2920;
+    int field2921 = 2921;
+    int field2922 = 2922;
+    int field2923 = 2923;
+    int field2924 = 2924;
+    int field2925 = 2925;
+    int field2926 = 2926;
+    int field2927 = 2927;
+    int field2928 = 2928;
+    int field2929 = 2929;
+    int field2930 = 2930;
+    int field2931 = 2931;
+    int field2932 = 2932;
+    int field2933 = 2933;
+    int field2934 = 2934;
+    int field2935 = 2935;
+    int field2936 = 2936;
+    int field2937 = 2937;
+    int field2938 = 2938;
+    int field2939 = 2939;
+    int field2940 = 2940;
+    int field2941 = 2941;
+    int field2942 = 2942;
+    int field2943 = 2943;
+    int field2944 = 2944;
+    int field2945 = 2945;
+    int field2946 = 2946;
+    int field2947 = 2947;
+    int field2948 = 2948;
+    int field2949 = 2949;
+    int field2950 = 2950;
+    int field2951 = 2951;
+    int field2952 = 2952;
+    int field2953 = 2953;
+    int field2954 = 2954;
+    int field2955 = 2955;
+    int field2956 = 2956;
+    int field2957 = 2957;
+    int field2958 = 2958;
+    int field2959 = 2959;
+    int field2960 = 2960;
+    int field2961 = 2961;
+    int field2962 = 2962;
+    int field2963 = 2963;
+    int field2964 = 2964;
+    int field2965 = 2965;
+    int field2966 = 2966;
+    int field2967 = 2967;
+    int field2968 = 2968;
+    int field2969 = 2969;
+    int field2970 = 2970;
+    int field2971 = 2971;
+    int field2972 = 2972;
+    int field2973 = 2973;
+    int field2974 = 2974;
+    int field2975 = 2975;
+    int field2976 = 2976;
+    int field2977 = 2977;
+    int field2978 = 2978;
+    int field2979 = 2979;
+    int field2980 = 2980;
+    int field2981 = 2981;
+    int field2982 = 2982;
+    int field2983 = 2983;
+    int field2984 = 2984;
+    int field2985 = 2985;
+    int field2986 = 2986;
+    int field2987 = 2987;
+    int field2988 = 2988;
+    int field2989 = 2989;
+    int field2990 = 2990;
+    int field2991 = 2991;
+    int field2992 = 2992;
+    int field2993 = 2993;
+    int field2994 = 2994;
+    int field2995 = 2995;
+    int field2996 = 2996;
+    int field2997 = 2997;
+    int field2998 = 2998;
+    int field2999 = 2999;
+    int field3000 = 3000;
+    int field3001 = 3001;
+    int field3002 = 3002;
+    int field3003 = 3003;
+    int field3004 = 3004;
+    int field3005 = 3005;
+    int field3006 = 3006;
+    int field3007 = 3007;
+    int field3008 = 3008;
+    int field3009 = 3009;
+    int field3010 = 3010;
+    int field3011 = 3011;
+    int field3012 = 3012;
+    int field3013 = 3013;
+    int field3014 = 3014;
+    int field3015 = 3015;
+    int field3016 = 3016;
+    int field3017 = 3017;
+    int field3018 = 3018;
+    int field3019 = 3019;
+    int field3020 = 3020;
+    int field3021 = 3021;
+    int field3022 = 3022;
+    int field3023 = 3023;
+    int field3024 = 3024;
+    int field3025 = 3025;
+    int field3026 = 3026;
+    int field3027 = 3027;
+    int field3028 = 3028;
+    int field3029 = 3029;
+    int field3030 = 3030;
+    int field3031 = 3031;
+    int field3032 = 3032;
+    int field3033 = 3033;
+    int field3034 = 3034;
+    int field3035 = 3035;
+    int field3036 = 3036;
+    int field3037 = 3037;
+    int field3038 = 3038;
+    int field3039 = 3039;
+    int field3040 = 3040;
+    int field3041 = 3041;
+    int field3042 = 3042;
+    int field3043 = 3043;
+    int field3044 = 3044;
+    int field3045 = 3045;
+    int field3046 = 3046;
+    int field3047 = 3047;
+    int field3048 = 3048;
+    int field3049 = 3049;
+    int field3050 = 3050;
+    int field3051 = 3051;
+    int field3052 = 3052;
+    int field3053 = 3053;
+    int field3054 = 3054;
+    int field3055 = 3055;
+    int field3056 = 3056;
+    int field3057 = 3057;
+    int field3058 = 3058;
+    int field3059 = 3059;
+    int field3060 = 3060;
+    int field3061 = 3061;
+    int field3062 = 3062;
+    int field3063 = 3063;
+    int field3064 = 3064;
+    int field3065 = 3065;
+    int field3066 = 3066;
+    int field3067 = 3067;
+    int field3068 = 3068;
+    int field3069 = 3069;
+    int field3070 = 3070;
+    int field3071 = 3071;
+    int field3072 = 3072;
+    int field3073 = 3073;
+    int field3074 = 3074;
+    int field3075 = 3075;
+    int field3076 = 3076;
+    int field3077 = 3077;
+    int field3078 = 3078;
+    int field3079 = 3079;
+    int field3080 = 3080;
+    int field3081 = 3081;
+    int field3082 = 3082;
+    int field3083 = 3083;
+    int field3084 = 3084;
+    int field3085 = 3085;
+    int field3086 = 3086;
+    int field3087 = 3087;
+    int field3088 = 3088;
+    int field3089 = 3089;
+    int field3090 = 3090;
+    int field3091 = 3091;
+    int field3092 = 3092;
+    int field3093 = 3093;
+    int field3094 = 3094;
+    int field3095 = 3095;
+    int field3096 = 3096;
+    int field3097 = 3097;
+    int field3098 = 3098;
+    int field3099 = 3099;
+    int field3100 = 3100;
+    int field3101 = 3101;
+    int field3102 = 3102;
+    int field3103 = 3103;
+    int field3104 = 3104;
+    int field3105 = 3105;
+    int field3106 = 3106;
+    int field3107 = 3107;
+    int field3108 = 3108;
+    int field3109 = 3109;
+    int field3110 = 3110;
+    int field3111 = 3111;
+    int field3112 = 3112;
+    int field3113 = 3113;
+    int field3114 = 3114;
+    int field3115 = 3115;
+    int field3116 = 3116;
+    int field3117 = 3117;
+    int field3118 = 3118;
+    int field3119 = 3119;
+    int field3120 = 3120;
+    int field3121 = 3121;
+    int field3122 = 3122;
+    int field3123 = 3123;
+    int field3124 = 3124;
+    int field3125 = 3125;
+    int field3126 = 3126;
+    int field3127 = 3127;
+    int field3128 = 3128;
+    int field3129 = 3129;
+    int field3130 = 3130;
+    int field3131 = 3131;
+    int field3132 = 3132;
+    int field3133 = 3133;
+    int field3134 = 3134;
+    int field3135 = 3135;
+    int field3136 = 3136;
+    int field3137 = 3137;
+    int field3138 = 3138;
+    int field3139 = 3139;
+    int field3140 = 3140;
+    int field3141 = 3141;
+    int field3142 = 3142;
+    int field3143 = 3143;
+    int field3144 = 3144;
+    int field3145 = 3145;
+    int field3146 = 3146;
+    int field3147 = 3147;
+    int field3148 = 3148;
+    int field3149 = 3149;
+    int field3150 = 3150;
+    int field3151 = 3151;
+    int field3152 = 3152;
+    int field3153 = 3153;
+    int field3154 = 3154;
+    int field3155 = 3155;
+    int field3156 = 3156;
+    int field3157 = 3157;
+    int field3158 = 3158;
+    int field3159 = 3159;
+    int field3160 = 3160;
+    int field3161 = 3161;
+    int field3162 = 3162;
+    int field3163 = 3163;
+    int field3164 = 3164;
+    int field3165 = 3165;
+    int field3166 = 3166;
+    int field3167 = 3167;
+    int field3168 = 3168;
+    int field3169 = 3169;
+    int field3170 = 3170;
+    int field3171 = 3171;
+    int field3172 = 3172;
+    int field3173 = 3173;
+    int field3174 = 3174;
+    int field3175 = 3175;
+    int field3176 = 3176;
+    int field3177 = 3177;
+    int field3178 = 3178;
+    int field3179 = 3179;
+    int field3180 = 3180;
+    int field3181 = 3181;
+    int field3182 = 3182;
+    int field3183 = 3183;
+    int field3184 = 3184;
+    int field3185 = 3185;
+    int field3186 = 3186;
+    int field3187 = 3187;
+    int field3188 = 3188;
+    int field3189 = 3189;
+    int field3190 = 3190;
+    int field3191 = 3191;
+    int field3192 = 3192;
+    int field3193 = 3193;
+    int field3194 = 3194;
+    int field3195 = 3195;
+    int field3196 = 3196;
+    int field3197 = 3197;
+    int field3198 = 3198;
+    int field3199 = 3199;
+    int field3200 = 3200;
+    int field3201 = 3201;
+    int field3202 = 3202;
+    int field3203 = 3203;
+    int field3204 = 3204;
+    int field3205 = 3205;
+    int field3206 = 3206;
+    int field3207 = 3207;
+    int field3208 = 3208;
+    int field3209 = 3209;
+    int field3210 = 3210;
+    int field3211 = 3211;
+    int field3212 = 3212;
+    int field3213 = 3213;
+    int field3214 = 3214;
+    int field3215 = 3215;
+    int field3216 = 3216;
+    int field3217 = 3217;
+    int field3218 = 3218;
+    int field3219 = 3219;
+    int field3220 = 3220;
+    int field3221 = 3221;
+    int field3222 = 3222;
+    int field3223 = 3223;
+    int field3224 = 3224;
+    int field3225 = 3225;
+    int field3226 = 3226;
+    int field3227 = 3227;
+    int field3228 = 3228;
+    int field3229 = 3229;
+    int field3230 = 3230;
+    int field3231 = 3231;
+    int field3232 = 3232;
+    int field3233 = 3233;
+    int field3234 = 3234;
+    int field3235 = 3235;
+    int field3236 = 3236;
+    int field3237 = 3237;
+    int field3238 = 3238;
+    int field3239 = 3239;
+    int field3240 = 3240;
+    int field3241 = 3241;
+    int field3242 = 3242;
+    int field3243 = 3243;
+    int field3244 = 3244;
+    int field3245 = 3245;
+    int field3246 = 3246;
+    int field3247 = 3247;
+    int field3248 = 3248;
+    int field3249 = 3249;
+    int field3250 = 3250;
+    int field3251 = 3251;
+    int field3252 = 3252;
+    int field3253 = 3253;
+    int field3254 = 3254;
+    int field3255 = 3255;
+    int field3256 = 3256;
+    int field3257 = 3257;
+    int field3258 = 3258;
+    int field3259 = 3259;
+    int field3260 = 3260;
+    int field3261 = 3261;
+    int field3262 = 3262;
+    int field3263 = 3263;
+    int field3264 = 3264;
+    int field3265 = 3265;
+    int field3266 = 3266;
+    int field3267 = 3267;
+    int field3268 = 3268;
+    int field3269 = 3269;
+    int field3270 = 3270;
+    int field3271 = 3271;
+    int field3272 = 3272;
+    int field3273 = 3273;
+    int field3274 = 3274;
+    int field3275 = 3275;
+    int field3276 = 3276;
+    int field3277 = 3277;
+    int field3278 = 3278;
+    int field3279 = 3279;
+    int field3280 = 3280;
+    int field3281 = 3281;
+    int field3282 = 3282;
+    int field3283 = 3283;
+    int field3284 = 3284;
+    int field3285 = 3285;
+    int field3286 = 3286;
+    int field3287 = 3287;
+    int field3288 = 3288;
+    int field3289 = 3289;
+    int field3290 = 3290;
+    int field3291 = 3291;
+    int field3292 = 3292;
+    int field3293 = 3293;
+    int field3294 = 3294;
+    int field3295 = 3295;
+    int field3296 = 3296;
+    int field3297 = 3297;
+    int field3298 = 3298;
+    int field3299 = 3299;
+    int field3300 = 3300;
+    int field3301 = 3301;
+    int field3302 = 3302;
+    int field3303 = 3303;
+    int field3304 = 3304;
+    int field3305 = 3305;
+    int field3306 = 3306;
+    int field3307 = 3307;
+    int field3308 = 3308;
+    int field3309 = 3309;
+    int field3310 = 3310;
+    int field3311 = 3311;
+    int field3312 = 3312;
+    int field3313 = 3313;
+    int field3314 = 3314;
+    int field3315 = 3315;
+    int field3316 = 3316;
+    int field3317 = 3317;
+    int field3318 = 3318;
+    int field3319 = 3319;
+    int field3320 = 3320;
+    int field3321 = 3321;
+    int field3322 = 3322;
+    int field3323 = 3323;
+    int field3324 = 3324;
+    int field3325 = 3325;
+    int field3326 = 3326;
+    int field3327 = 3327;
+    int field3328 = 3328;
+    int field3329 = 3329;
+    int field3330 = 3330;
+    int field3331 = 3331;
+    int field3332 = 3332;
+    int field3333 = 3333;
+    int field3334 = 3334;
+    int field3335 = 3335;
+    int field3336 = 3336;
+    int field3337 = 3337;
+    int field3338 = 3338;
+    int field3339 = 3339;
+    int field3340 = 3340;
+    int field3341 = 3341;
+    int field3342 = 3342;
+    int field3343 = 3343;
+    int field3344 = 3344;
+    int field3345 = 3345;
+    int field3346 = 3346;
+    int field3347 = 3347;
+    int field3348 = 3348;
+    int field3349 = 3349;
+    int field3350 = 3350;
+    int field3351 = 3351;
+    int field3352 = 3352;
+    int field3353 = 3353;
+    int field3354 = 3354;
+    int field3355 = 3355;
+    int field3356 = 3356;
+    int field3357 = 3357;
+    int field3358 = 3358;
+    int field3359 = 3359;
+    int field3360 = 3360;
+    int field3361 = 3361;
+    int field3362 = 3362;
+    int field3363 = 3363;
+    int field3364 = 3364;
+    int field3365 = 3365;
+    int field3366 = 3366;
+    int field3367 = 3367;
+    int field3368 = 3368;
+    int field3369 = 3369;
+    int field3370 = 3370;
+    int field3371 = 3371;
+    int field3372 = 3372;
+    int field3373 = 3373;
+    int field3374 = 3374;
+    int field3375 = 3375;
+    int field3376 = 3376;
+    int field3377 = 3377;
+    int field3378 = 3378;
+    int field3379 = 3379;
+    int field3380 = 3380;
+    int field3381 = 3381;
+    int field3382 = 3382;
+    int field3383 = 3383;
+    int field3384 = 3384;
+    int field3385 = 3385;
+    int field3386 = 3386;
+    int field3387 = 3387;
+    int field3388 = 3388;
+    int field3389 = 3389;
+    int field3390 = 3390;
+    int field3391 = 3391;
+    int field3392 = 3392;
+    int field3393 = 3393;
+    int field3394 = 3394;
+    int field3395 = 3395;
+    int field3396 = 3396;
+    int field3397 = 3397;
+    int field3398 = 3398;
+    int field3399 = 3399;
+    int field3400 = 3400;
+    int field3401 = 3401;
+    int field3402 = 3402;
+    int field3403 = 3403;
+    int field3404 = 3404;
+    int field3405 = 3405;
+    int field3406 = 3406;
+    int field3407 = 3407;
+    int field3408 = 3408;
+    int field3409 = 3409;
+    int field3410 = 3410;
+    int field3411 = 3411;
+    int field3412 = 3412;
+    int field3413 = 3413;
+    int field3414 = 3414;
+    int field3415 = 3415;
+    int field3416 = 3416;
+    int field3417 = 3417;
+    int field3418 = 3418;
+    int field3419 = 3419;
+    int field3420 = 3420;
+    int field3421 = 3421;
+    int field3422 = 3422;
+    int field3423 = 3423;
+    int field3424 = 3424;
+    int field3425 = 3425;
+    int field3426 = 3426;
+    int field3427 = 3427;
+    int field3428 = 3428;
+    int field3429 = 3429;
+    int field3430 = 3430;
+    int field3431 = 3431;
+    int field3432 = 3432;
+    int field3433 = 3433;
+    int field3434 = 3434;
+    int field3435 = 3435;
+    int field3436 = 3436;
+    int field3437 = 3437;
+    int field3438 = 3438;
+    int field3439 = 3439;
+    int field3440 = 3440;
+    int field3441 = 3441;
+    int field3442 = 3442;
+    int field3443 = 3443;
+    int field3444 = 3444;
+    int field3445 = 3445;
+    int field3446 = 3446;
+    int field3447 = 3447;
+    int field3448 = 3448;
+    int field3449 = 3449;
+    int field3450 = 3450;
+    int field3451 = 3451;
+    int field3452 = 3452;
+    int field3453 = 3453;
+    int field3454 = 3454;
+    int field3455 = 3455;
+    int field3456 = 3456;
+    int field3457 = 3457;
+    int field3458 = 3458;
+    int field3459 = 3459;
+    int field3460 = 3460;
+    int field3461 = 3461;
+    int field3462 = 3462;
+    int field3463 = 3463;
+    int field3464 = 3464;
+    int field3465 = 3465;
+    int field3466 = 3466;
+    int field3467 = 3467;
+    int field3468 = 3468;
+    int field3469 = 3469;
+    int field3470 = 3470;
+    int field3471 = 3471;
+    int field3472 = 3472;
+    int field3473 = 3473;
+    int field3474 = 3474;
+    int field3475 = 3475;
+    int field3476 = 3476;
+    int field3477 = 3477;
+    int field3478 = 3478;
+    int field3479 = 3479;
+    int field3480 = 3480;
+    int field3481 = 3481;
+    int field3482 = 3482;
+    int field3483 = 3483;
+    int field3484 = 3484;
+    int field3485 = 3485;
+    int field3486 = 3486;
+    int field3487 = 3487;
+    int field3488 = 3488;
+    int field3489 = 3489;
+    int field3490 = 3490;
+    int field3491 = 3491;
+    int field3492 = 3492;
+    int field3493 = 3493;
+    int field3494 = 3494;
+    int field3495 = 3495;
+    int field3496 = 3496;
+    int field3497 = 3497;
+    int field3498 = 3498;
+    int field3499 = 3499;
+    int field3500 = 3500;
+    int field3501 = 3501;
+    int field3502 = 3502;
+    int field3503 = 3503;
+    int field3504 = 3504;
+    int field3505 = 3505;
+    int field3506 = 3506;
+    int field3507 = 3507;
+    int field3508 = 3508;
+    int field3509 = 3509;
+    int field3510 = 3510;
+    int field3511 = 3511;
+    int field3512 = 3512;
+    int field3513 = 3513;
+    int field3514 = 3514;
+    int field3515 = 3515;
+    int field3516 = 3516;
+    int field3517 = 3517;
+    int field3518 = 3518;
+    int field3519 = 3519;
+    int field3520 = 3520;
+    int field3521 = 3521;
+    int field3522 = 3522;
+    int field3523 = 3523;
+    int field3524 = 3524;
+    int field3525 = 3525;
+    int field3526 = 3526;
+    int field3527 = 3527;
+    int field3528 = 3528;
+    int field3529 = 3529;
+    int field3530 = 3530;
+    int field3531 = 3531;
+    int field3532 = 3532;
+    int field3533 = 3533;
+    int field3534 = 3534;
+    int field3535 = 3535;
+    int field3536 = 3536;
+    int field3537 = 3537;
+    int field3538 = 3538;
+    int field3539 = 3539;
+    int field3540 = 3540;
+    int field3541 = 3541;
+    int field3542 = 3542;
+    int field3543 = 3543;
+    int field3544 = 3544;
+    int field3545 = 3545;
+    int field3546 = 3546;
+    int field3547 = 3547;
+    int field3548 = 3548;
+    int field3549 = 3549;
+    int field3550 = 3550;
+    int field3551 = 3551;
+    int field3552 = 3552;
+    int field3553 = 3553;
+    int field3554 = 3554;
+    int field3555 = 3555;
+    int field3556 = 3556;
+    int field3557 = 3557;
+    int field3558 = 3558;
+    int field3559 = 3559;
+    int field3560 = 3560;
+    int field3561 = 3561;
+    int field3562 = 3562;
+    int field3563 = 3563;
+    int field3564 = 3564;
+    int field3565 = 3565;
+    int field3566 = 3566;
+    int field3567 = 3567;
+    int field3568 = 3568;
+    int field3569 = 3569;
+    int field3570 = 3570;
+    int field3571 = 3571;
+    int field3572 = 3572;
+    int field3573 = 3573;
+    int field3574 = 3574;
+    int field3575 = 3575;
+    int field3576 = 3576;
+    int field3577 = 3577;
+    int field3578 = 3578;
+    int field3579 = 3579;
+    int field3580 = 3580;
+    int field3581 = 3581;
+    int field3582 = 3582;
+    int field3583 = 3583;
+    int field3584 = 3584;
+    int field3585 = 3585;
+    int field3586 = 3586;
+    int field3587 = 3587;
+    int field3588 = 3588;
+    int field3589 = 3589;
+    int field3590 = 3590;
+    int field3591 = 3591;
+    int field3592 = 3592;
+    int field3593 = 3593;
+    int field3594 = 3594;
+    int field3595 = 3595;
+    int field3596 = 3596;
+    int field3597 = 3597;
+    int field3598 = 3598;
+    int field3599 = 3599;
+    int field3600 = 3600;
+    int field3601 = 3601;
+    int field3602 = 3602;
+    int field3603 = 3603;
+    int field3604 = 3604;
+    int field3605 = 3605;
+    int field3606 = 3606;
+    int field3607 = 3607;
+    int field3608 = 3608;
+    int field3609 = 3609;
+    int field3610 = 3610;
+    int field3611 = 3611;
+    int field3612 = 3612;
+    int field3613 = 3613;
+    int field3614 = 3614;
+    int field3615 = 3615;
+    int field3616 = 3616;
+    int field3617 = 3617;
+    int field3618 = 3618;
+    int field3619 = 3619;
+    int field3620 = 3620;
+    int field3621 = 3621;
+    int field3622 = 3622;
+    int field3623 = 3623;
+    int field3624 = 3624;
+    int field3625 = 3625;
+    int field3626 = 3626;
+    int field3627 = 3627;
+    int field3628 = 3628;
+    int field3629 = 3629;
+    int field3630 = 3630;
+    int field3631 = 3631;
+    int field3632 = 3632;
+    int field3633 = 3633;
+    int field3634 = 3634;
+    int field3635 = 3635;
+    int field3636 = 3636;
+    int field3637 = 3637;
+    int field3638 = 3638;
+    int field3639 = 3639;
+    int field3640 = 3640;
+    int field3641 = 3641;
+    int field3642 = 3642;
+    int field3643 = 3643;
+    int field3644 = 3644;
+    int field3645 = 3645;
+    int field3646 = 3646;
+    int field3647 = 3647;
+    int field3648 = 3648;
+    int field3649 = 3649;
+    int field3650 = 3650;
+    int field3651 = 3651;
+    int field3652 = 3652;
+    int field3653 = 3653;
+    int field3654 = 3654;
+    int field3655 = 3655;
+    int field3656 = 3656;
+    int field3657 = 3657;
+    int field3658 = 3658;
+    int field3659 = 3659;
+    int field3660 = 3660;
+    int field3661 = 3661;
+    int field3662 = 3662;
+    int field3663 = 3663;
+    int field3664 = 3664;
+    int field3665 = 3665;
+    int field3666 = 3666;
+    int field3667 = 3667;
+    int field3668 = 3668;
+    int field3669 = 3669;
+    int field3670 = 3670;
+    int field3671 = 3671;
+    int field3672 = 3672;
+    int field3673 = 3673;
+    int field3674 = 3674;
+    int field3675 = 3675;
+    int field3676 = 3676;
+    int field3677 = 3677;
+    int field3678 = 3678;
+    int field3679 = 3679;
+    int field3680 = 3680;
+    int field3681 = 3681;
+    int field3682 = 3682;
+    int field3683 = 3683;
+    int field3684 = 3684;
+    int field3685 = 3685;
+    int field3686 = 3686;
+    int field3687 = 3687;
+    int field3688 = 3688;
+    int field3689 = 3689;
+    int field3690 = 3690;
+    int field3691 = 3691;
+    int field3692 = 3692;
+    int field3693 = 3693;
+    int field3694 = 3694;
+    int field3695 = 3695;
+    int field3696 = 3696;
+    int field3697 = 3697;
+    int field3698 = 3698;
+    int field3699 = 3699;
+    int field3700 = 3700;
+    int field3701 = 3701;
+    int field3702 = 3702;
+    int field3703 = 3703;
+    int field3704 = 3704;
+    int field3705 = 3705;
+    int field3706 = 3706;
+    int field3707 = 3707;
+    int field3708 = 3708;
+    int field3709 = 3709;
+    int field3710 = 3710;
+    int field3711 = 3711;
+    int field3712 = 3712;
+    int field3713 = 3713;
+    int field3714 = 3714;
+    int field3715 = 3715;
+    int field3716 = 3716;
+    int field3717 = 3717;
+    int field3718 = 3718;
+    int field3719 = 3719;
+    int field3720 = 3720;
+    int field3721 = 3721;
+    int field3722 = 3722;
+    int field3723 = 3723;
+    int field3724 = 3724;
+    int field3725 = 3725;
+    int field3726 = 3726;
+    int field3727 = 3727;
+    int field3728 = 3728;
+    int field3729 = 3729;
+    int field3730 = 3730;
+    int field3731 = 3731;
+    int field3732 = 3732;
+    int field3733 = 3733;
+    int field3734 = 3734;
+    int field3735 = 3735;
+    int field3736 = 3736;
+    int field3737 = 3737;
+    int field3738 = 3738;
+    int field3739 = 3739;
+    int field3740 = 3740;
+    int field3741 = 3741;
+    int field3742 = 3742;
+    int field3743 = 3743;
+    int field3744 = 3744;
+    int field3745 = 3745;
+    int field3746 = 3746;
+    int field3747 = 3747;
+    int field3748 = 3748;
+    int field3749 = 3749;
+    int field3750 = 3750;
+    int field3751 = 3751;
+    int field3752 = 3752;
+    int field3753 = 3753;
+    int field3754 = 3754;
+    int field3755 = 3755;
+    int field3756 = 3756;
+    int field3757 = 3757;
+    int field3758 = 3758;
+    int field3759 = 3759;
+    int field3760 = 3760;
+    int field3761 = 3761;
+    int field3762 = 3762;
+    int field3763 = 3763;
+    int field3764 = 3764;
+    int field3765 = 3765;
+    int field3766 = 3766;
+    int field3767 = 3767;
+    int field3768 = 3768;
+    int field3769 = 3769;
+    int field3770 = 3770;
+    int field3771 = 3771;
+    int field3772 = 3772;
+    int field3773 = 3773;
+    int field3774 = 3774;
+    int field3775 = 3775;
+    int field3776 = 3776;
+    int field3777 = 3777;
+    int field3778 = 3778;
+    int field3779 = 3779;
+    int field3780 = 3780;
+    int field3781 = 3781;
+    int field3782 = 3782;
+    int field3783 = 3783;
+    int field3784 = 3784;
+    int field3785 = 3785;
+    int field3786 = 3786;
+    int field3787 = 3787;
+    int field3788 = 3788;
+    int field3789 = 3789;
+    int field3790 = 3790;
+    int field3791 = 3791;
+    int field3792 = 3792;
+    int field3793 = 3793;
+    int field3794 = 3794;
+    int field3795 = 3795;
+    int field3796 = 3796;
+    int field3797 = 3797;
+    int field3798 = 3798;
+    int field3799 = 3799;
+    int field3800 = 3800;
+    int field3801 = 3801;
+    int field3802 = 3802;
+    int field3803 = 3803;
+    int field3804 = 3804;
+    int field3805 = 3805;
+    int field3806 = 3806;
+    int field3807 = 3807;
+    int field3808 = 3808;
+    int field3809 = 3809;
+    int field3810 = 3810;
+    int field3811 = 3811;
+    int field3812 = 3812;
+    int field3813 = 3813;
+    int field3814 = 3814;
+    int field3815 = 3815;
+    int field3816 = 3816;
+    int field3817 = 3817;
+    int field3818 = 3818;
+    int field3819 = 3819;
+    int field3820 = 3820;
+    int field3821 = 3821;
+    int field3822 = 3822;
+    int field3823 = 3823;
+    int field3824 = 3824;
+    int field3825 = 3825;
+    int field3826 = 3826;
+    int field3827 = 3827;
+    int field3828 = 3828;
+    int field3829 = 3829;
+    int field3830 = 3830;
+    int field3831 = 3831;
+    int field3832 = 3832;
+    int field3833 = 3833;
+    int field3834 = 3834;
+    int field3835 = 3835;
+    int field3836 = 3836;
+    int field3837 = 3837;
+    int field3838 = 3838;
+    int field3839 = 3839;
+    int field3840 = 3840;
+    int field3841 = 3841;
+    int field3842 = 3842;
+    int field3843 = 3843;
+    int field3844 = 3844;
+    int field3845 = 3845;
+    int field3846 = 3846;
+    int field3847 = 3847;
+    int field3848 = 3848;
+    int field3849 = 3849;
+    int field3850 = 3850;
+    int field3851 = 3851;
+    int field3852 = 3852;
+    int field3853 = 3853;
+    int field3854 = 3854;
+    int field3855 = 3855;
+    int field3856 = 3856;
+    int field3857 = 3857;
+    int field3858 = 3858;
+    int field3859 = 3859;
+    int field3860 = 3860;
+    int field3861 = 3861;
+    int field3862 = 3862;
+    int field3863 = 3863;
+    int field3864 = 3864;
+    int field3865 = 3865;
+    int field3866 = 3866;
+    int field3867 = 3867;
+    int field3868 = 3868;
+    int field3869 = 3869;
+    int field3870 = 3870;
+    int field3871 = 3871;
+    int field3872 = 3872;
+    int field3873 = 3873;
+    int field3874 = 3874;
+    int field3875 = 3875;
+    int field3876 = 3876;
+    int field3877 = 3877;
+    int field3878 = 3878;
+    int field3879 = 3879;
+    int field3880 = 3880;
+    int field3881 = 3881;
+    int field3882 = 3882;
+    int field3883 = 3883;
+    int field3884 = 3884;
+    int field3885 = 3885;
+    int field3886 = 3886;
+    int field3887 = 3887;
+    int field3888 = 3888;
+    int field3889 = 3889;
+    int field3890 = 3890;
+    int field3891 = 3891;
+    int field3892 = 3892;
+    int field3893 = 3893;
+    int field3894 = 3894;
+    int field3895 = 3895;
+    int field3896 = 3896;
+    int field3897 = 3897;
+    int field3898 = 3898;
+    int field3899 = 3899;
+    int field3900 = 3900;
+    int field3901 = 3901;
+    int field3902 = 3902;
+    int field3903 = 3903;
+    int field3904 = 3904;
+    int field3905 = 3905;
+    int field3906 = 3906;
+    int field3907 = 3907;
+    int field3908 = 3908;
+    int field3909 = 3909;
+    int field3910 = 3910;
+    int field3911 = 3911;
+    int field3912 = 3912;
+    int field3913 = 3913;
+    int field3914 = 3914;
+    int field3915 = 3915;
+    int field3916 = 3916;
+    int field3917 = 3917;
+    int field3918 = 3918;
+    int field3919 = 3919;
+    int field3920 = 3920;
+    int field3921 = 3921;
+    int field3922 = 3922;
+    int field3923 = 3923;
+    int field3924 = 3924;
+    int field3925 = 3925;
+    int field3926 = 3926;
+    int field3927 = 3927;
+    int field3928 = 3928;
+    int field3929 = 3929;
+    int field3930 = 3930;
+    int field3931 = 3931;
+    int field3932 = 3932;
+    int field3933 = 3933;
+    int field3934 = 3934;
+    int field3935 = 3935;
+    int field3936 = 3936;
+    int field3937 = 3937;
+    int field3938 = 3938;
+    int field3939 = 3939;
+    int field3940 = 3940;
+    int field3941 = 3941;
+    int field3942 = 3942;
+    int field3943 = 3943;
+    int field3944 = 3944;
+    int field3945 = 3945;
+    int field3946 = 3946;
+    int field3947 = 3947;
+    int field3948 = 3948;
+    int field3949 = 3949;
+    int field3950 = 3950;
+    int field3951 = 3951;
+    int field3952 = 3952;
+    int field3953 = 3953;
+    int field3954 = 3954;
+    int field3955 = 3955;
+    int field3956 = 3956;
+    int field3957 = 3957;
+    int field3958 = 3958;
+    int field3959 = 3959;
+    int field3960 = 3960;
+    int field3961 = 3961;
+    int field3962 = 3962;
+    int field3963 = 3963;
+    int field3964 = 3964;
+    int field3965 = 3965;
+    int field3966 = 3966;
+    int field3967 = 3967;
+    int field3968 = 3968;
+    int field3969 = 3969;
+    int field3970 = 3970;
+    int field3971 = 3971;
+    int field3972 = 3972;
+    int field3973 = 3973;
+    int field3974 = 3974;
+    int field3975 = 3975;
+    int field3976 = 3976;
+    int field3977 = 3977;
+    int field3978 = 3978;
+    int field3979 = 3979;
+    int field3980 = 3980;
+    int field3981 = 3981;
+    int field3982 = 3982;
+    int field3983 = 3983;
+    int field3984 = 3984;
+    int field3985 = 3985;
+    int field3986 = 3986;
+    int field3987 = 3987;
+    int field3988 = 3988;
+    int field3989 = 3989;
+    int field3990 = 3990;
+    int field3991 = 3991;
+    int field3992 = 3992;
+    int field3993 = 3993;
+    int field3994 = 3994;
+    int field3995 = 3995;
+    int field3996 = 3996;
+    int field3997 = 3997;
+    int field3998 = 3998;
+    int field3999 = 3999;
+    int field4000 = 4000;
+    int field4001 = 4001;
+    int field4002 = 4002;
+    int field4003 = 4003;
+    int field4004 = 4004;
+    int field4005 = 4005;
+    int field4006 = 4006;
+    int field4007 = 4007;
+    int field4008 = 4008;
+    int field4009 = 4009;
+    int field4010 = 4010;
+    int field4011 = 4011;
+    int field4012 = 4012;
+    int field4013 = 4013;
+    int field4014 = 4014;
+    int field4015 = 4015;
+    int field4016 = 4016;
+    int field4017 = 4017;
+    int field4018 = 4018;
+    int field4019 = 4019;
+    int field4020 = 4020;
+    int field4021 = 4021;
+    int field4022 = 4022;
+    int field4023 = 4023;
+    int field4024 = 4024;
+    int field4025 = 4025;
+    int field4026 = 4026;
+    int field4027 = 4027;
+    int field4028 = 4028;
+    int field4029 = 4029;
+    int field4030 = 4030;
+    int field4031 = 4031;
+    int field4032 = 4032;
+    int field4033 = 4033;
+    int field4034 = 4034;
+    int field4035 = 4035;
+    int field4036 = 4036;
+    int field4037 = 4037;
+    int field4038 = 4038;
+    int field4039 = 4039;
+    int field4040 = 4040;
+    int field4041 = 4041;
+    int field4042 = 4042;
+    int field4043 = 4043;
+    int field4044 = 4044;
+    int field4045 = 4045;
+    int field4046 = 4046;
+    int field4047 = 4047;
+    int field4048 = 4048;
+    int field4049 = 4049;
+    int field4050 = 4050;
+    int field4051 = 4051;
+    int field4052 = 4052;
+    int field4053 = 4053;
+    int field4054 = 4054;
+    int field4055 = 4055;
+    int field4056 = 4056;
+    int field4057 = 4057;
+    int field4058 = 4058;
+    int field4059 = 4059;
+    int field4060 = 4060;
+    int field4061 = 4061;
+    int field4062 = 4062;
+    int field4063 = 4063;
+    int field4064 = 4064;
+    int field4065 = 4065;
+    int field4066 = 4066;
+    int field4067 = 4067;
+    int field4068 = 4068;
+    int field4069 = 4069;
+    int field4070 = 4070;
+    int field4071 = 4071;
+    int field4072 = 4072;
+    int field4073 = 4073;
+    int field4074 = 4074;
+    int field4075 = 4075;
+    int field4076 = 4076;
+    int field4077 = 4077;
+    int field4078 = 4078;
+    int field4079 = 4079;
+    int field4080 = 4080;
+    int field4081 = 4081;
+    int field4082 = 4082;
+    int field4083 = 4083;
+    int field4084 = 4084;
+    int field4085 = 4085;
+    int field4086 = 4086;
+    int field4087 = 4087;
+    int field4088 = 4088;
+    int field4089 = 4089;
+    int field4090 = 4090;
+    int field4091 = 4091;
+    int field4092 = 4092;
+    int field4093 = 4093;
+    int field4094 = 4094;
+    int field4095 = 4095;
+    int field4096 = 4096;
+    int field4097 = 4097;
+    int field4098 = 4098;
+    int field4099 = 4099;
+    int field4100 = 4100;
+    int field4101 = 4101;
+    int field4102 = 4102;
+    int field4103 = 4103;
+    int field4104 = 4104;
+    int field4105 = 4105;
+    int field4106 = 4106;
+    int field4107 = 4107;
+    int field4108 = 4108;
+    int field4109 = 4109;
+    int field4110 = 4110;
+    int field4111 = 4111;
+    int field4112 = 4112;
+    int field4113 = 4113;
+    int field4114 = 4114;
+    int field4115 = 4115;
+    int field4116 = 4116;
+    int field4117 = 4117;
+    int field4118 = 4118;
+    int field4119 = 4119;
+    int field4120 = 4120;
+    int field4121 = 4121;
+    int field4122 = 4122;
+    int field4123 = 4123;
+    int field4124 = 4124;
+    int field4125 = 4125;
+    int field4126 = 4126;
+    int field4127 = 4127;
+    int field4128 = 4128;
+    int field4129 = 4129;
+    int field4130 = 4130;
+    int field4131 = 4131;
+    int field4132 = 4132;
+    int field4133 = 4133;
+    int field4134 = 4134;
+    int field4135 = 4135;
+    int field4136 = 4136;
+    int field4137 = 4137;
+    int field4138 = 4138;
+    int field4139 = 4139;
+    int field4140 = 4140;
+    int field4141 = 4141;
+    int field4142 = 4142;
+    int field4143 = 4143;
+    int field4144 = 4144;
+    int field4145 = 4145;
+    int field4146 = 4146;
+    int field4147 = 4147;
+    int field4148 = 4148;
+    int field4149 = 4149;
+    int field4150 = 4150;
+    int field4151 = 4151;
+    int field4152 = 4152;
+    int field4153 = 4153;
+    int field4154 = 4154;
+    int field4155 = 4155;
+    int field4156 = 4156;
+    int field4157 = 4157;
+    int field4158 = 4158;
+    int field4159 = 4159;
+    int field4160 = 4160;
+    int field4161 = 4161;
+    int field4162 = 4162;
+    int field4163 = 4163;
+    int field4164 = 4164;
+    int field4165 = 4165;
+    int field4166 = 4166;
+    int field4167 = 4167;
+    int field4168 = 4168;
+    int field4169 = 4169;
+    int field4170 = 4170;
+    int field4171 = 4171;
+    int field4172 = 4172;
+    int field4173 = 4173;
+    int field4174 = 4174;
+    int field4175 = 4175;
+    int field4176 = 4176;
+    int field4177 = 4177;
+    int field4178 = 4178;
+    int field4179 = 4179;
+    int field4180 = 4180;
+    int field4181 = 4181;
+    int field4182 = 4182;
+    int field4183 = 4183;
+    int field4184 = 4184;
+    int field4185 = 4185;
+    int field4186 = 4186;
+    int field4187 = 4187;
+    int field4188 = 4188;
+    int field4189 = 4189;
+    int field4190 = 4190;
+    int field4191 = 4191;
+    int field4192 = 4192;
+    int field4193 = 4193;
+    int field4194 = 4194;
+    int field4195 = 4195;
+    int field4196 = 4196;
+    int field4197 = 4197;
+    int field4198 = 4198;
+    int field4199 = 4199;
+    int field4200 = 4200;
+    int field4201 = 4201;
+    int field4202 = 4202;
+    int field4203 = 4203;
+    int field4204 = 4204;
+    int field4205 = 4205;
+    int field4206 = 4206;
+    int field4207 = 4207;
+    int field4208 = 4208;
+    int field4209 = 4209;
+    int field4210 = 4210;
+    int field4211 = 4211;
+    int field4212 = 4212;
+    int field4213 = 4213;
+    int field4214 = 4214;
+    int field4215 = 4215;
+    int field4216 = 4216;
+    int field4217 = 4217;
+    int field4218 = 4218;
+    int field4219 = 4219;
+    int field4220 = 4220;
+    int field4221 = 4221;
+    int field4222 = 4222;
+    int field4223 = 4223;
+    int field4224 = 4224;
+    int field4225 = 4225;
+    int field4226 = 4226;
+    int field4227 = 4227;
+    int field4228 = 4228;
+    int field4229 = 4229;
+    int field4230 = 4230;
+    int field4231 = 4231;
+    int field4232 = 4232;
+    int field4233 = 4233;
+    int field4234 = 4234;
+    int field4235 = 4235;
+    int field4236 = 4236;
+    int field4237 = 4237;
+    int field4238 = 4238;
+    int field4239 = 4239;
+    int field4240 = 4240;
+    int field4241 = 4241;
+    int field4242 = 4242;
+    int field4243 = 4243;
+    int field4244 = 4244;
+    int field4245 = 4245;
+    int field4246 = 4246;
+    int field4247 = 4247;
+    int field4248 = 4248;
+    int field4249 = 4249;
+    int field4250 = 4250;
+    int field4251 = 4251;
+    int field4252 = 4252;
+    int field4253 = 4253;
+    int field4254 = 4254;
+    int field4255 = 4255;
+    int field4256 = 4256;
+    int field4257 = 4257;
+    int field4258 = 4258;
+    int field4259 = 4259;
+    int field4260 = 4260;
+    int field4261 = 4261;
+    int field4262 = 4262;
+    int field4263 = 4263;
+    int field4264 = 4264;
+    int field4265 = 4265;
+    int field4266 = 4266;
+    int field4267 = 4267;
+    int field4268 = 4268;
+    int field4269 = 4269;
+    int field4270 = 4270;
+    int field4271 = 4271;
+    int field4272 = 4272;
+    int field4273 = 4273;
+    int field4274 = 4274;
+    int field4275 = 4275;
+    int field4276 = 4276;
+    int field4277 = 4277;
+    int field4278 = 4278;
+    int field4279 = 4279;
+    int field4280 = 4280;
+    int field4281 = 4281;
+    int field4282 = 4282;
+    int field4283 = 4283;
+    int field4284 = 4284;
+    int field4285 = 4285;
+    int field4286 = 4286;
+    int field4287 = 4287;
+    int field4288 = 4288;
+    int field4289 = 4289;
+    int field4290 = 4290;
+    int field4291 = 4291;
+    int field4292 = 4292;
+    int field4293 = 4293;
+    int field4294 = 4294;
+    int field4295 = 4295;
+    int field4296 = 4296;
+    int field4297 = 4297;
+    int field4298 = 4298;
+    int field4299 = 4299;
+    int field4300 = 4300;
+    int field4301 = 4301;
+    int field4302 = 4302;
+    int field4303 = 4303;
+    int field4304 = 4304;
+    int field4305 = 4305;
+    int field4306 = 4306;
+    int field4307 = 4307;
+    int field4308 = 4308;
+    int field4309 = 4309;
+    int field4310 = 4310;
+    int field4311 = 4311;
+    int field4312 = 4312;
+    int field4313 = 4313;
+    int field4314 = 4314;
+    int field4315 = 4315;
+    int field4316 = 4316;
+    int field4317 = 4317;
+    int field4318 = 4318;
+    int field4319 = 4319;
+    int field4320 = 4320;
+    int field4321 = 4321;
+    int field4322 = 4322;
+    int field4323 = 4323;
+    int field4324 = 4324;
+    int field4325 = 4325;
+    int field4326 = 4326;
+    int field4327 = 4327;
+    int field4328 = 4328;
+    int field4329 = 4329;
+    int field4330 = 4330;
+    int field4331 = 4331;
+    int field4332 = 4332;
+    int field4333 = 4333;
+    int field4334 = 4334;
+    int field4335 = 4335;
+    int field4336 = 4336;
+    int field4337 = 4337;
+    int field4338 = 4338;
+    int field4339 = 4339;
+    int field4340 = 4340;
+    int field4341 = 4341;
+    int field4342 = 4342;
+    int field4343 = 4343;
+    int field4344 = 4344;
+    int field4345 = 4345;
+    int field4346 = 4346;
+    int field4347 = 4347;
+    int field4348 = 4348;
+    int field4349 = 4349;
+    int field4350 = 4350;
+    int field4351 = 4351;
+    int field4352 = 4352;
+    int field4353 = 4353;
+    int field4354 = 4354;
+    int field4355 = 4355;
+    int field4356 = 4356;
+    int field4357 = 4357;
+    int field4358 = 4358;
+    int field4359 = 4359;
+    int field4360 = 4360;
+    int field4361 = 4361;
+    int field4362 = 4362;
+    int field4363 = 4363;
+    int field4364 = 4364;
+    int field4365 = 4365;
+    int field4366 = 4366;
+    int field4367 = 4367;
+    int field4368 = 4368;
+    int field4369 = 4369;
+    int field4370 = 4370;
+    int field4371 = 4371;
+    int field4372 = 4372;
+    int field4373 = 4373;
+    int field4374 = 4374;
+    int field4375 = 4375;
+    int field4376 = 4376;
+    int field4377 = 4377;
+    int field4378 = 4378;
+    int field4379 = 4379;
+    int field4380 = 4380;
+    int field4381 = 4381;
+    int field4382 = 4382;
+    int field4383 = 4383;
+    int field4384 = 4384;
+    int field4385 = 4385;
+    int field4386 = 4386;
+    int field4387 = 4387;
+    int field4388 = 4388;
+    int field4389 = 4389;
+    int field4390 = 4390;
+    int field4391 = 4391;
+    int field4392 = 4392;
+    int field4393 = 4393;
+    int field4394 = 4394;
+    int field4395 = 4395;
+    int field4396 = 4396;
+    int field4397 = 4397;
+    int field4398 = 4398;
+    int field4399 = 4399;
+    int field4400 = 4400;
+    int field4401 = 4401;
+    int field4402 = 4402;
+    int field4403 = 4403;
+    int field4404 = 4404;
+    int field4405 = 4405;
+    int field4406 = 4406;
+    int field4407 = 4407;
+    int field4408 = 4408;
+    int field4409 = 4409;
+    int field4410 = 4410;
+    int field4411 = 4411;
+    int field4412 = 4412;
+    int field4413 = 4413;
+    int field4414 = 4414;
+    int field4415 = 4415;
+    int field4416 = 4416;
+    int field4417 = 4417;
+    int field4418 = 4418;
+    int field4419 = 4419;
+    int field4420 = 4420;
+    int field4421 = 4421;
+    int field4422 = 4422;
+    int field4423 = 4423;
+    int field4424 = 4424;
+    int field4425 = 4425;
+    int field4426 = 4426;
+    int field4427 = 4427;
+    int field4428 = 4428;
+    int field4429 = 4429;
+    int field4430 = 4430;
+    int field4431 = 4431;
+    int field4432 = 4432;
+    int field4433 = 4433;
+    int field4434 = 4434;
+    int field4435 = 4435;
+    int field4436 = 4436;
+    int field4437 = 4437;
+    int field4438 = 4438;
+    int field4439 = 4439;
+    int field4440 = 4440;
+    int field4441 = 4441;
+    int field4442 = 4442;
+    int field4443 = 4443;
+    int field4444 = 4444;
+    int field4445 = 4445;
+    int field4446 = 4446;
+    int field4447 = 4447;
+    int field4448 = 4448;
+    int field4449 = 4449;
+    int field4450 = 4450;
+    int field4451 = 4451;
+    int field4452 = 4452;
+    int field4453 = 4453;
+    int field4454 = 4454;
+    int field4455 = 4455;
+    int field4456 = 4456;
+    int field4457 = 4457;
+    int field4458 = 4458;
+    int field4459 = 4459;
+    int field4460 = 4460;
+    int field4461 = 4461;
+    int field4462 = 4462;
+    int field4463 = 4463;
+    int field4464 = 4464;
+    int field4465 = 4465;
+    int field4466 = 4466;
+    int field4467 = 4467;
+    int field4468 = 4468;
+    int field4469 = 4469;
+    int field4470 = 4470;
+    int field4471 = 4471;
+    int field4472 = 4472;
+    int field4473 = 4473;
+    int field4474 = 4474;
+    int field4475 = 4475;
+    int field4476 = 4476;
+    int field4477 = 4477;
+    int field4478 = 4478;
+    int field4479 = 4479;
+    int field4480 = 4480;
+    int field4481 = 4481;
+    int field4482 = 4482;
+    int field4483 = 4483;
+    int field4484 = 4484;
+    int field4485 = 4485;
+    int field4486 = 4486;
+    int field4487 = 4487;
+    int field4488 = 4488;
+    int field4489 = 4489;
+    int field4490 = 4490;
+    int field4491 = 4491;
+    int field4492 = 4492;
+    int field4493 = 4493;
+    int field4494 = 4494;
+    int field4495 = 4495;
+    int field4496 = 4496;
+    int field4497 = 4497;
+    int field4498 = 4498;
+    int field4499 = 4499;
+    int field4500 = 4500;
+    int field4501 = 4501;
+    int field4502 = 4502;
+    int field4503 = 4503;
+    int field4504 = 4504;
+    int field4505 = 4505;
+    int field4506 = 4506;
+    int field4507 = 4507;
+    int field4508 = 4508;
+    int field4509 = 4509;
+    int field4510 = 4510;
+    int field4511 = 4511;
+    int field4512 = 4512;
+    int field4513 = 4513;
+    int field4514 = 4514;
+    int field4515 = 4515;
+    int field4516 = 4516;
+    int field4517 = 4517;
+    int field4518 = 4518;
+    int field4519 = 4519;
+    int field4520 = 4520;
+    int field4521 = 4521;
+    int field4522 = 4522;
+    int field4523 = 4523;
+    int field4524 = 4524;
+    int field4525 = 4525;
+    int field4526 = 4526;
+    int field4527 = 4527;
+    int field4528 = 4528;
+    int field4529 = 4529;
+    int field4530 = 4530;
+    int field4531 = 4531;
+    int field4532 = 4532;
+    int field4533 = 4533;
+    int field4534 = 4534;
+    int field4535 = 4535;
+    int field4536 = 4536;
+    int field4537 = 4537;
+    int field4538 = 4538;
+    int field4539 = 4539;
+    int field4540 = 4540;
+    int field4541 = 4541;
+    int field4542 = 4542;
+    int field4543 = 4543;
+    int field4544 = 4544;
+    int field4545 = 4545;
+    int field4546 = 4546;
+    int field4547 = 4547;
+    int field4548 = 4548;
+    int field4549 = 4549;
+    int field4550 = 4550;
+    int field4551 = 4551;
+    int field4552 = 4552;
+    int field4553 = 4553;
+    int field4554 = 4554;
+    int field4555 = 4555;
+    int field4556 = 4556;
+    int field4557 = 4557;
+    int field4558 = 4558;
+    int field4559 = 4559;
+    int field4560 = 4560;
+    int field4561 = 4561;
+    int field4562 = 4562;
+    int field4563 = 4563;
+    int field4564 = 4564;
+    int field4565 = 4565;
+    int field4566 = 4566;
+    int field4567 = 4567;
+    int field4568 = 4568;
+    int field4569 = 4569;
+    int field4570 = 4570;
+    int field4571 = 4571;
+    int field4572 = 4572;
+    int field4573 = 4573;
+    int field4574 = 4574;
+    int field4575 = 4575;
+    int field4576 = 4576;
+    int field4577 = 4577;
+    int field4578 = 4578;
+    int field4579 = 4579;
+    int field4580 = 4580;
+    int field4581 = 4581;
+    int field4582 = 4582;
+    int field4583 = 4583;
+    int field4584 = 4584;
+    int field4585 = 4585;
+    int field4586 = 4586;
+    int field4587 = 4587;
+    int field4588 = 4588;
+    int field4589 = 4589;
+    int field4590 = 4590;
+    int field4591 = 4591;
+    int field4592 = 4592;
+    int field4593 = 4593;
+    int field4594 = 4594;
+    int field4595 = 4595;
+    int field4596 = 4596;
+    int field4597 = 4597;
+    int field4598 = 4598;
+    int field4599 = 4599;
+    int field4600 = 4600;
+    int field4601 = 4601;
+    int field4602 = 4602;
+    int field4603 = 4603;
+    int field4604 = 4604;
+    int field4605 = 4605;
+    int field4606 = 4606;
+    int field4607 = 4607;
+    int field4608 = 4608;
+    int field4609 = 4609;
+    int field4610 = 4610;
+    int field4611 = 4611;
+    int field4612 = 4612;
+    int field4613 = 4613;
+    int field4614 = 4614;
+    int field4615 = 4615;
+    int field4616 = 4616;
+    int field4617 = 4617;
+    int field4618 = 4618;
+    int field4619 = 4619;
+    int field4620 = 4620;
+    int field4621 = 4621;
+    int field4622 = 4622;
+    int field4623 = 4623;
+    int field4624 = 4624;
+    int field4625 = 4625;
+    int field4626 = 4626;
+    int field4627 = 4627;
+    int field4628 = 4628;
+    int field4629 = 4629;
+    int field4630 = 4630;
+    int field4631 = 4631;
+    int field4632 = 4632;
+    int field4633 = 4633;
+    int field4634 = 4634;
+    int field4635 = 4635;
+    int field4636 = 4636;
+    int field4637 = 4637;
+    int field4638 = 4638;
+    int field4639 = 4639;
+    int field4640 = 4640;
+    int field4641 = 4641;
+    int field4642 = 4642;
+    int field4643 = 4643;
+    int field4644 = 4644;
+    int field4645 = 4645;
+    int field4646 = 4646;
+    int field4647 = 4647;
+    int field4648 = 4648;
+    int field4649 = 4649;
+    int field4650 = 4650;
+    int field4651 = 4651;
+    int field4652 = 4652;
+    int field4653 = 4653;
+    int field4654 = 4654;
+    int field4655 = 4655;
+    int field4656 = 4656;
+    int field4657 = 4657;
+    int field4658 = 4658;
+    int field4659 = 4659;
+    int field4660 = 4660;
+    int field4661 = 4661;
+    int field4662 = 4662;
+    int field4663 = 4663;
+    int field4664 = 4664;
+    int field4665 = 4665;
+    int field4666 = 4666;
+    int field4667 = 4667;
+    int field4668 = 4668;
+    int field4669 = 4669;
+    int field4670 = 4670;
+    int field4671 = 4671;
+    int field4672 = 4672;
+    int field4673 = 4673;
+    int field4674 = 4674;
+    int field4675 = 4675;
+    int field4676 = 4676;
+    int field4677 = 4677;
+    int field4678 = 4678;
+    int field4679 = 4679;
+    int field4680 = 4680;
+    int field4681 = 4681;
+    int field4682 = 4682;
+    int field4683 = 4683;
+    int field4684 = 4684;
+    int field4685 = 4685;
+    int field4686 = 4686;
+    int field4687 = 4687;
+    int field4688 = 4688;
+    int field4689 = 4689;
+    int field4690 = 4690;
+    int field4691 = 4691;
+    int field4692 = 4692;
+    int field4693 = 4693;
+    int field4694 = 4694;
+    int field4695 = 4695;
+    int field4696 = 4696;
+    int field4697 = 4697;
+    int field4698 = 4698;
+    int field4699 = 4699;
+    int field4700 = 4700;
+    int field4701 = 4701;
+    int field4702 = 4702;
+    int field4703 = 4703;
+    int field4704 = 4704;
+    int field4705 = 4705;
+    int field4706 = 4706;
+    int field4707 = 4707;
+    int field4708 = 4708;
+    int field4709 = 4709;
+    int field4710 = 4710;
+    int field4711 = 4711;
+    int field4712 = 4712;
+    int field4713 = 4713;
+    int field4714 = 4714;
+    int field4715 = 4715;
+    int field4716 = 4716;
+    int field4717 = 4717;
+    int field4718 = 4718;
+    int field4719 = 4719;
+    int field4720 = 4720;
+    int field4721 = 4721;
+    int field4722 = 4722;
+    int field4723 = 4723;
+    int field4724 = 4724;
+    int field4725 = 4725;
+    int field4726 = 4726;
+    int field4727 = 4727;
+    int field4728 = 4728;
+    int field4729 = 4729;
+    int field4730 = 4730;
+    int field4731 = 4731;
+    int field4732 = 4732;
+    int field4733 = 4733;
+    int field4734 = 4734;
+    int field4735 = 4735;
+    int field4736 = 4736;
+    int field4737 = 4737;
+    int field4738 = 4738;
+    int field4739 = 4739;
+    int field4740 = 4740;
+    int field4741 = 4741;
+    int field4742 = 4742;
+    int field4743 = 4743;
+    int field4744 = 4744;
+    int field4745 = 4745;
+    int field4746 = 4746;
+    int field4747 = 4747;
+    int field4748 = 4748;
+    int field4749 = 4749;
+    int field4750 = 4750;
+    int field4751 = 4751;
+    int field4752 = 4752;
+    int field4753 = 4753;
+    int field4754 = 4754;
+    int field4755 = 4755;
+    int field4756 = 4756;
+    int field4757 = 4757;
+    int field4758 = 4758;
+    int field4759 = 4759;
+    int field4760 = 4760;
+    int field4761 = 4761;
+    int field4762 = 4762;
+    int field4763 = 4763;
+    int field4764 = 4764;
+    int field4765 = 4765;
+    int field4766 = 4766;
+    int field4767 = 4767;
+    int field4768 = 4768;
+    int field4769 = 4769;
+    int field4770 = 4770;
+    int field4771 = 4771;
+    int field4772 = 4772;
+    int field4773 = 4773;
+    int field4774 = 4774;
+    int field4775 = 4775;
+    int field4776 = 4776;
+    int field4777 = 4777;
+    int field4778 = 4778;
+    int field4779 = 4779;
+    int field4780 = 4780;
+    int field4781 = 4781;
+    int field4782 = 4782;
+    int field4783 = 4783;
+    int field4784 = 4784;
+    int field4785 = 4785;
+    int field4786 = 4786;
+    int field4787 = 4787;
+    int field4788 = 4788;
+    int field4789 = 4789;
+    int field4790 = 4790;
+    int field4791 = 4791;
+    int field4792 = 4792;
+    int field4793 = 4793;
+    int field4794 = 4794;
+    int field4795 = 4795;
+    int field4796 = 4796;
+    int field4797 = 4797;
+    int field4798 = 4798;
+    int field4799 = 4799;
+    int field4800 = 4800;
+    int field4801 = 4801;
+    int field4802 = 4802;
+    int field4803 = 4803;
+    int field4804 = 4804;
+    int field4805 = 4805;
+    int field4806 = 4806;
+    int field4807 = 4807;
+    int field4808 = 4808;
+    int field4809 = 4809;
+    int field4810 = 4810;
+    int field4811 = 4811;
+    int field4812 = 4812;
+    int field4813 = 4813;
+    int field4814 = 4814;
+    int field4815 = 4815;
+    int field4816 = 4816;
+    int field4817 = 4817;
+    int field4818 = 4818;
+    int field4819 = 4819;
+    int field4820 = 4820;
+    int field4821 = 4821;
+    int field4822 = 4822;
+    int field4823 = 4823;
+    int field4824 = 4824;
+    int field4825 = 4825;
+    int field4826 = 4826;
+    int field4827 = 4827;
+    int field4828 = 4828;
+    int field4829 = 4829;
+    int field4830 = 4830;
+    int field4831 = 4831;
+    int field4832 = 4832;
+    int field4833 = 4833;
+    int field4834 = 4834;
+    int field4835 = 4835;
+    int field4836 = 4836;
+    int field4837 = 4837;
+    int field4838 = 4838;
+    int field4839 = 4839;
+    int field4840 = 4840;
+    int field4841 = 4841;
+    int field4842 = 4842;
+    int field4843 = 4843;
+    int field4844 = 4844;
+    int field4845 = 4845;
+    int field4846 = 4846;
+    int field4847 = 4847;
+    int field4848 = 4848;
+    int field4849 = 4849;
+    int field4850 = 4850;
+    int field4851 = 4851;
+    int field4852 = 4852;
+    int field4853 = 4853;
+    int field4854 = 4854;
+    int field4855 = 4855;
+    int field4856 = 4856;
+    int field4857 = 4857;
+    int field4858 = 4858;
+    int field4859 = 4859;
+    int field4860 = 4860;
+    int field4861 = 4861;
+    int field4862 = 4862;
+    int field4863 = 4863;
+    int field4864 = 4864;
+    int field4865 = 4865;
+    int field4866 = 4866;
+    int field4867 = 4867;
+    int field4868 = 4868;
+    int field4869 = 4869;
+    int field4870 = 4870;
+    int field4871 = 4871;
+    int field4872 = 4872;
+    int field4873 = 4873;
+    int field4874 = 4874;
+    int field4875 = 4875;
+    int field4876 = 4876;
+    int field4877 = 4877;
+    int field4878 = 4878;
+    int field4879 = 4879;
+    int field4880 = 4880;
+    int field4881 = 4881;
+    int field4882 = 4882;
+    int field4883 = 4883;
+    int field4884 = 4884;
+    int field4885 = 4885;
+    int field4886 = 4886;
+    int field4887 = 4887;
+    int field4888 = 4888;
+    int field4889 = 4889;
+    int field4890 = 4890;
+    int field4891 = 4891;
+    int field4892 = 4892;
+    int field4893 = 4893;
+    int field4894 = 4894;
+    int field4895 = 4895;
+    int field4896 = 4896;
+    int field4897 = 4897;
+    int field4898 = 4898;
+    int field4899 = 4899;
+    int field4900 = 4900;
+    int field4901 = 4901;
+    int field4902 = 4902;
+    int field4903 = 4903;
+    int field4904 = 4904;
+    int field4905 = 4905;
+    int field4906 = 4906;
+    int field4907 = 4907;
+    int field4908 = 4908;
+    int field4909 = 4909;
+    int field4910 = 4910;
+    int field4911 = 4911;
+    int field4912 = 4912;
+    int field4913 = 4913;
+    int field4914 = 4914;
+    int field4915 = 4915;
+    int field4916 = 4916;
+    int field4917 = 4917;
+    int field4918 = 4918;
+    int field4919 = 4919;
+    int field4920 = 4920;
+    int field4921 = 4921;
+    int field4922 = 4922;
+    int field4923 = 4923;
+    int field4924 = 4924;
+    int field4925 = 4925;
+    int field4926 = 4926;
+    int field4927 = 4927;
+    int field4928 = 4928;
+    int field4929 = 4929;
+    int field4930 = 4930;
+    int field4931 = 4931;
+    int field4932 = 4932;
+    int field4933 = 4933;
+    int field4934 = 4934;
+    int field4935 = 4935;
+    int field4936 = 4936;
+    int field4937 = 4937;
+    int field4938 = 4938;
+    int field4939 = 4939;
+    int field4940 = 4940;
+    int field4941 = 4941;
+    int field4942 = 4942;
+    int field4943 = 4943;
+    int field4944 = 4944;
+    int field4945 = 4945;
+    int field4946 = 4946;
+    int field4947 = 4947;
+    int field4948 = 4948;
+    int field4949 = 4949;
+    int field4950 = 4950;
+    int field4951 = 4951;
+    int field4952 = 4952;
+    int field4953 = 4953;
+    int field4954 = 4954;
+    int field4955 = 4955;
+    int field4956 = 4956;
+    int field4957 = 4957;
+    int field4958 = 4958;
+    int field4959 = 4959;
+    int field4960 = 4960;
+    int field4961 = 4961;
+    int field4962 = 4962;
+    int field4963 = 4963;
+    int field4964 = 4964;
+    int field4965 = 4965;
+    int field4966 = 4966;
+    int field4967 = 4967;
+    int field4968 = 4968;
+    int field4969 = 4969;
+    int field4970 = 4970;
+    int field4971 = 4971;
+    int field4972 = 4972;
+    int field4973 = 4973;
+    int field4974 = 4974;
+    int field4975 = 4975;
+    int field4976 = 4976;
+    int field4977 = 4977;
+    int field4978 = 4978;
+    int field4979 = 4979;
+    int field4980 = 4980;
+    int field4981 = 4981;
+    int field4982 = 4982;
+    int field4983 = 4983;
+    int field4984 = 4984;
+    int field4985 = 4985;
+    int field4986 = 4986;
+    int field4987 = 4987;
+    int field4988 = 4988;
+    int field4989 = 4989;
+    int field4990 = 4990;
+    int field4991 = 4991;
+    int field4992 = 4992;
+    int field4993 = 4993;
+    int field4994 = 4994;
+    int field4995 = 4995;
+    int field4996 = 4996;
+    int field4997 = 4997;
+    int field4998 = 4998;
+    int field4999 = 4999;
+    int field5000 = 5000;
+    int field5001 = 5001;
+    int field5002 = 5002;
+    int field5003 = 5003;
+    int field5004 = 5004;
+    int field5005 = 5005;
+    int field5006 = 5006;
+    int field5007 = 5007;
+    int field5008 = 5008;
+    int field5009 = 5009;
+    int field5010 = 5010;
+    int field5011 = 5011;
+    int field5012 = 5012;
+    int field5013 = 5013;
+    int field5014 = 5014;
+    int field5015 = 5015;
+    int field5016 = 5016;
+    int field5017 = 5017;
+    int field5018 = 5018;
+    int field5019 = 5019;
+    int field5020 = 5020;
+    int field5021 = 5021;
+    int field5022 = 5022;
+    int field5023 = 5023;
+    int field5024 = 5024;
+    int field5025 = 5025;
+    int field5026 = 5026;
+    int field5027 = 5027;
+    int field5028 = 5028;
+    int field5029 = 5029;
+    int field5030 = 5030;
+    int field5031 = 5031;
+    int field5032 = 5032;
+    int field5033 = 5033;
+    int field5034 = 5034;
+    int field5035 = 5035;
+    int field5036 = 5036;
+    int field5037 = 5037;
+    int field5038 = 5038;
+    int field5039 = 5039;
+    int field5040 = 5040;
+    int field5041 = 5041;
+    int field5042 = 5042;
+    int field5043 = 5043;
+    int field5044 = 5044;
+    int field5045 = 5045;
+    int field5046 = 5046;
+    int field5047 = 5047;
+    int field5048 = 5048;
+    int field5049 = 5049;
+    int field5050 = 5050;
+    int field5051 = 5051;
+    int field5052 = 5052;
+    int field5053 = 5053;
+    int field5054 = 5054;
+    int field5055 = 5055;
+    int field5056 = 5056;
+    int field5057 = 5057;
+    int field5058 = 5058;
+    int field5059 = 5059;
+    int field5060 = 5060;
+    int field5061 = 5061;
+    int field5062 = 5062;
+    int field5063 = 5063;
+    int field5064 = 5064;
+    int field5065 = 5065;
+    int field5066 = 5066;
+    int field5067 = 5067;
+    int field5068 = 5068;
+    int field5069 = 5069;
+    int field5070 = 5070;
+    int field5071 = 5071;
+    int field5072 = 5072;
+    int field5073 = 5073;
+    int field5074 = 5074;
+    int field5075 = 5075;
+    int field5076 = 5076;
+    int field5077 = 5077;
+    int field5078 = 5078;
+    int field5079 = 5079;
+    int field5080 = 5080;
+    int field5081 = 5081;
+    int field5082 = 5082;
+    int field5083 = 5083;
+    int field5084 = 5084;
+    int field5085 = 5085;
+    int field5086 = 5086;
+    int field5087 = 5087;
+    int field5088 = 5088;
+    int field5089 = 5089;
+    int field5090 = 5090;
+    int field5091 = 5091;
+    int field5092 = 5092;
+    int field5093 = 5093;
+    int field5094 = 5094;
+    int field5095 = 5095;
+    int field5096 = 5096;
+    int field5097 = 5097;
+    int field5098 = 5098;
+    int field5099 = 5099;
+    int field5100 = 5100;
+    int field5101 = 5101;
+    int field5102 = 5102;
+    int field5103 = 5103;
+    int field5104 = 5104;
+    int field5105 = 5105;
+    int field5106 = 5106;
+    int field5107 = 5107;
+    int field5108 = 5108;
+    int field5109 = 5109;
+    int field5110 = 5110;
+    int field5111 = 5111;
+    int field5112 = 5112;
+    int field5113 = 5113;
+    int field5114 = 5114;
+    int field5115 = 5115;
+    int field5116 = 5116;
+    int field5117 = 5117;
+    int field5118 = 5118;
+    int field5119 = 5119;
+    int field5120 = 5120;
+    int field5121 = 5121;
+    int field5122 = 5122;
+    int field5123 = 5123;
+    int field5124 = 5124;
+    int field5125 = 5125;
+    int field5126 = 5126;
+    int field5127 = 5127;
+    int field5128 = 5128;
+    int field5129 = 5129;
+    int field5130 = 5130;
+    int field5131 = 5131;
+    int field5132 = 5132;
+    int field5133 = 5133;
+    int field5134 = 5134;
+    int field5135 = 5135;
+    int field5136 = 5136;
+    int field5137 = 5137;
+    int field5138 = 5138;
+    int field5139 = 5139;
+    int field5140 = 5140;
+    int field5141 = 5141;
+    int field5142 = 5142;
+    int field5143 = 5143;
+    int field5144 = 5144;
+    int field5145 = 5145;
+    int field5146 = 5146;
+    int field5147 = 5147;
+    int field5148 = 5148;
+    int field5149 = 5149;
+    int field5150 = 5150;
+    int field5151 = 5151;
+    int field5152 = 5152;
+    int field5153 = 5153;
+    int field5154 = 5154;
+    int field5155 = 5155;
+    int field5156 = 5156;
+    int field5157 = 5157;
+    int field5158 = 5158;
+    int field5159 = 5159;
+    int field5160 = 5160;
+    int field5161 = 5161;
+    int field5162 = 5162;
+    int field5163 = 5163;
+    int field5164 = 5164;
+    int field5165 = 5165;
+    int field5166 = 5166;
+    int field5167 = 5167;
+    int field5168 = 5168;
+    int field5169 = 5169;
+    int field5170 = 5170;
+    int field5171 = 5171;
+    int field5172 = 5172;
+    int field5173 = 5173;
+    int field5174 = 5174;
+    int field5175 = 5175;
+    int field5176 = 5176;
+    int field5177 = 5177;
+    int field5178 = 5178;
+    int field5179 = 5179;
+    int field5180 = 5180;
+    int field5181 = 5181;
+    int field5182 = 5182;
+    int field5183 = 5183;
+    int field5184 = 5184;
+    int field5185 = 5185;
+    int field5186 = 5186;
+    int field5187 = 5187;
+    int field5188 = 5188;
+    int field5189 = 5189;
+    int field5190 = 5190;
+    int field5191 = 5191;
+    int field5192 = 5192;
+    int field5193 = 5193;
+    int field5194 = 5194;
+    int field5195 = 5195;
+    int field5196 = 5196;
+    int field5197 = 5197;
+    int field5198 = 5198;
+    int field5199 = 5199;
+    int field5200 = 5200;
+    int field5201 = 5201;
+    int field5202 = 5202;
+    int field5203 = 5203;
+    int field5204 = 5204;
+    int field5205 = 5205;
+    int field5206 = 5206;
+    int field5207 = 5207;
+    int field5208 = 5208;
+    int field5209 = 5209;
+    int field5210 = 5210;
+    int field5211 = 5211;
+    int field5212 = 5212;
+    int field5213 = 5213;
+    int field5214 = 5214;
+    int field5215 = 5215;
+    int field5216 = 5216;
+    int field5217 = 5217;
+    int field5218 = 5218;
+    int field5219 = 5219;
+    int field5220 = 5220;
+    int field5221 = 5221;
+    int field5222 = 5222;
+    int field5223 = 5223;
+    int field5224 = 5224;
+    int field5225 = 5225;
+    int field5226 = 5226;
+    int field5227 = 5227;
+    int field5228 = 5228;
+    int field5229 = 5229;
+    int field5230 = 5230;
+    int field5231 = 5231;
+    int field5232 = 5232;
+    int field5233 = 5233;
+    int field5234 = 5234;
+    int field5235 = 5235;
+    int field5236 = 5236;
+    int field5237 = 5237;
+    int field5238 = 5238;
+    int field5239 = 5239;
+    int field5240 = 5240;
+    int field5241 = 5241;
+    int field5242 = 5242;
+    int field5243 = 5243;
+    int field5244 = 5244;
+    int field5245 = 5245;
+    int field5246 = 5246;
+    int field5247 = 5247;
+    int field5248 = 5248;
+    int field5249 = 5249;
+    int field5250 = 5250;
+    int field5251 = 5251;
+    int field5252 = 5252;
+    int field5253 = 5253;
+    int field5254 = 5254;
+    int field5255 = 5255;
+    int field5256 = 5256;
+    int field5257 = 5257;
+    int field5258 = 5258;
+    int field5259 = 5259;
+    int field5260 = 5260;
+    int field5261 = 5261;
+    int field5262 = 5262;
+    int field5263 = 5263;
+    int field5264 = 5264;
+    int field5265 = 5265;
+    int field5266 = 5266;
+    int field5267 = 5267;
+    int field5268 = 5268;
+    int field5269 = 5269;
+    int field5270 = 5270;
+    int field5271 = 5271;
+    int field5272 = 5272;
+    int field5273 = 5273;
+    int field5274 = 5274;
+    int field5275 = 5275;
+    int field5276 = 5276;
+    int field5277 = 5277;
+    int field5278 = 5278;
+    int field5279 = 5279;
+    int field5280 = 5280;
+    int field5281 = 5281;
+    int field5282 = 5282;
+    int field5283 = 5283;
+    int field5284 = 5284;
+    int field5285 = 5285;
+    int field5286 = 5286;
+    int field5287 = 5287;
+    int field5288 = 5288;
+    int field5289 = 5289;
+    int field5290 = 5290;
+    int field5291 = 5291;
+    int field5292 = 5292;
+    int field5293 = 5293;
+    int field5294 = 5294;
+    int field5295 = 5295;
+    int field5296 = 5296;
+    int field5297 = 5297;
+    int field5298 = 5298;
+    int field5299 = 5299;
+    int field5300 = 5300;
+    int field5301 = 5301;
+    int field5302 = 5302;
+    int field5303 = 5303;
+    int field5304 = 5304;
+    int field5305 = 5305;
+    int field5306 = 5306;
+    int field5307 = 5307;
+    int field5308 = 5308;
+    int field5309 = 5309;
+    int field5310 = 5310;
+    int field5311 = 5311;
+    int field5312 = 5312;
+    int field5313 = 5313;
+    int field5314 = 5314;
+    int field5315 = 5315;
+    int field5316 = 5316;
+    int field5317 = 5317;
+    int field5318 = 5318;
+    int field5319 = 5319;
+    int field5320 = 5320;
+    int field5321 = 5321;
+    int field5322 = 5322;
+    int field5323 = 5323;
+    int field5324 = 5324;
+    int field5325 = 5325;
+    int field5326 = 5326;
+    int field5327 = 5327;
+    int field5328 = 5328;
+    int field5329 = 5329;
+    int field5330 = 5330;
+    int field5331 = 5331;
+    int field5332 = 5332;
+    int field5333 = 5333;
+    int field5334 = 5334;
+    int field5335 = 5335;
+    int field5336 = 5336;
+    int field5337 = 5337;
+    int field5338 = 5338;
+    int field5339 = 5339;
+    int field5340 = 5340;
+    int field5341 = 5341;
+    int field5342 = 5342;
+    int field5343 = 5343;
+    int field5344 = 5344;
+    int field5345 = 5345;
+    int field5346 = 5346;
+    int field5347 = 5347;
+    int field5348 = 5348;
+    int field5349 = 5349;
+    int field5350 = 5350;
+    int field5351 = 5351;
+    int field5352 = 5352;
+    int field5353 = 5353;
+    int field5354 = 5354;
+    int field5355 = 5355;
+    int field5356 = 5356;
+    int field5357 = 5357;
+    int field5358 = 5358;
+    int field5359 = 5359;
+    int field5360 = 5360;
+    int field5361 = 5361;
+    int field5362 = 5362;
+    int field5363 = 5363;
+    int field5364 = 5364;
+    int field5365 = 5365;
+    int field5366 = 5366;
+    int field5367 = 5367;
+    int field5368 = 5368;
+    int field5369 = 5369;
+    int field5370 = 5370;
+    int field5371 = 5371;
+    int field5372 = 5372;
+    int field5373 = 5373;
+    int field5374 = 5374;
+    int field5375 = 5375;
+    int field5376 = 5376;
+    int field5377 = 5377;
+    int field5378 = 5378;
+    int field5379 = 5379;
+    int field5380 = 5380;
+    int field5381 = 5381;
+    int field5382 = 5382;
+    int field5383 = 5383;
+    int field5384 = 5384;
+    int field5385 = 5385;
+    int field5386 = 5386;
+    int field5387 = 5387;
+    int field5388 = 5388;
+    int field5389 = 5389;
+    int field5390 = 5390;
+    int field5391 = 5391;
+    int field5392 = 5392;
+    int field5393 = 5393;
+    int field5394 = 5394;
+    int field5395 = 5395;
+    int field5396 = 5396;
+    int field5397 = 5397;
+    int field5398 = 5398;
+    int field5399 = 5399;
+    int field5400 = 5400;
+    int field5401 = 5401;
+    int field5402 = 5402;
+    int field5403 = 5403;
+    int field5404 = 5404;
+    int field5405 = 5405;
+    int field5406 = 5406;
+    int field5407 = 5407;
+    int field5408 = 5408;
+    int field5409 = 5409;
+    int field5410 = 5410;
+    int field5411 = 5411;
+    int field5412 = 5412;
+    int field5413 = 5413;
+    int field5414 = 5414;
+    int field5415 = 5415;
+    int field5416 = 5416;
+    int field5417 = 5417;
+    int field5418 = 5418;
+    int field5419 = 5419;
+    int field5420 = 5420;
+    int field5421 = 5421;
+    int field5422 = 5422;
+    int field5423 = 5423;
+    int field5424 = 5424;
+    int field5425 = 5425;
+    int field5426 = 5426;
+    int field5427 = 5427;
+    int field5428 = 5428;
+    int field5429 = 5429;
+    int field5430 = 5430;
+    int field5431 = 5431;
+    int field5432 = 5432;
+    int field5433 = 5433;
+    int field5434 = 5434;
+    int field5435 = 5435;
+    int field5436 = 5436;
+    int field5437 = 5437;
+    int field5438 = 5438;
+    int field5439 = 5439;
+    int field5440 = 5440;
+    int field5441 = 5441;
+    int field5442 = 5442;
+    int field5443 = 5443;
+    int field5444 = 5444;
+    int field5445 = 5445;
+    int field5446 = 5446;
+    int field5447 = 5447;
+    int field5448 = 5448;
+    int field5449 = 5449;
+    int field5450 = 5450;
+    int field5451 = 5451;
+    int field5452 = 5452;
+    int field5453 = 5453;
+    int field5454 = 5454;
+    int field5455 = 5455;
+    int field5456 = 5456;
+    int field5457 = 5457;
+    int field5458 = 5458;
+    int field5459 = 5459;
+    int field5460 = 5460;
+    int field5461 = 5461;
+    int field5462 = 5462;
+    int field5463 = 5463;
+    int field5464 = 5464;
+    int field5465 = 5465;
+    int field5466 = 5466;
+    int field5467 = 5467;
+    int field5468 = 5468;
+    int field5469 = 5469;
+    int field5470 = 5470;
+    int field5471 = 5471;
+    int field5472 = 5472;
+    int field5473 = 5473;
+    int field5474 = 5474;
+    int field5475 = 5475;
+    int field5476 = 5476;
+    int field5477 = 5477;
+    int field5478 = 5478;
+    int field5479 = 5479;
+    int field5480 = 5480;
+    int field5481 = 5481;
+    int field5482 = 5482;
+    int field5483 = 5483;
+    int field5484 = 5484;
+    int field5485 = 5485;
+    int field5486 = 5486;
+    int field5487 = 5487;
+    int field5488 = 5488;
+    int field5489 = 5489;
+    int field5490 = 5490;
+    int field5491 = 5491;
+    int field5492 = 5492;
+    int field5493 = 5493;
+    int field5494 = 5494;
+    int field5495 = 5495;
+    int field5496 = 5496;
+    int field5497 = 5497;
+    int field5498 = 5498;
+    int field5499 = 5499;
+    int field5500 = 5500;
+    int field5501 = 5501;
+    int field5502 = 5502;
+    int field5503 = 5503;
+    int field5504 = 5504;
+    int field5505 = 5505;
+    int field5506 = 5506;
+    int field5507 = 5507;
+    int field5508 = 5508;
+    int field5509 = 5509;
+    int field5510 = 5510;
+    int field5511 = 5511;
+    int field5512 = 5512;
+    int field5513 = 5513;
+    int field5514 = 5514;
+    int field5515 = 5515;
+    int field5516 = 5516;
+    int field5517 = 5517;
+    int field5518 = 5518;
+    int field5519 = 5519;
+    int field5520 = 5520;
+    int field5521 = 5521;
+    int field5522 = 5522;
+    int field5523 = 5523;
+    int field5524 = 5524;
+    int field5525 = 5525;
+    int field5526 = 5526;
+    int field5527 = 5527;
+    int field5528 = 5528;
+    int field5529 = 5529;
+    int field5530 = 5530;
+    int field5531 = 5531;
+    int field5532 = 5532;
+    int field5533 = 5533;
+    int field5534 = 5534;
+    int field5535 = 5535;
+    int field5536 = 5536;
+    int field5537 = 5537;
+    int field5538 = 5538;
+    int field5539 = 5539;
+    int field5540 = 5540;
+    int field5541 = 5541;
+    int field5542 = 5542;
+    int field5543 = 5543;
+    int field5544 = 5544;
+    int field5545 = 5545;
+    int field5546 = 5546;
+    int field5547 = 5547;
+    int field5548 = 5548;
+    int field5549 = 5549;
+    int field5550 = 5550;
+    int field5551 = 5551;
+    int field5552 = 5552;
+    int field5553 = 5553;
+    int field5554 = 5554;
+    int field5555 = 5555;
+    int field5556 = 5556;
+    int field5557 = 5557;
+    int field5558 = 5558;
+    int field5559 = 5559;
+    int field5560 = 5560;
+    int field5561 = 5561;
+    int field5562 = 5562;
+    int field5563 = 5563;
+    int field5564 = 5564;
+    int field5565 = 5565;
+    int field5566 = 5566;
+    int field5567 = 5567;
+    int field5568 = 5568;
+    int field5569 = 5569;
+    int field5570 = 5570;
+    int field5571 = 5571;
+    int field5572 = 5572;
+    int field5573 = 5573;
+    int field5574 = 5574;
+    int field5575 = 5575;
+    int field5576 = 5576;
+    int field5577 = 5577;
+    int field5578 = 5578;
+    int field5579 = 5579;
+    int field5580 = 5580;
+    int field5581 = 5581;
+    int field5582 = 5582;
+    int field5583 = 5583;
+    int field5584 = 5584;
+    int field5585 = 5585;
+    int field5586 = 5586;
+    int field5587 = 5587;
+    int field5588 = 5588;
+    int field5589 = 5589;
+    int field5590 = 5590;
+    int field5591 = 5591;
+    int field5592 = 5592;
+    int field5593 = 5593;
+    int field5594 = 5594;
+    int field5595 = 5595;
+    int field5596 = 5596;
+    int field5597 = 5597;
+    int field5598 = 5598;
+    int field5599 = 5599;
+    int field5600 = 5600;
+    int field5601 = 5601;
+    int field5602 = 5602;
+    int field5603 = 5603;
+    int field5604 = 5604;
+    int field5605 = 5605;
+    int field5606 = 5606;
+    int field5607 = 5607;
+    int field5608 = 5608;
+    int field5609 = 5609;
+    int field5610 = 5610;
+    int field5611 = 5611;
+    int field5612 = 5612;
+    int field5613 = 5613;
+    int field5614 = 5614;
+    int field5615 = 5615;
+    int field5616 = 5616;
+    int field5617 = 5617;
+    int field5618 = 5618;
+    int field5619 = 5619;
+    int field5620 = 5620;
+    int field5621 = 5621;
+    int field5622 = 5622;
+    int field5623 = 5623;
+    int field5624 = 5624;
+    int field5625 = 5625;
+    int field5626 = 5626;
+    int field5627 = 5627;
+    int field5628 = 5628;
+    int field5629 = 5629;
+    int field5630 = 5630;
+    int field5631 = 5631;
+    int field5632 = 5632;
+    int field5633 = 5633;
+    int field5634 = 5634;
+    int field5635 = 5635;
+    int field5636 = 5636;
+    int field5637 = 5637;
+    int field5638 = 5638;
+    int field5639 = 5639;
+    int field5640 = 5640;
+    int field5641 = 5641;
+    int field5642 = 5642;
+    int field5643 = 5643;
+    int field5644 = 5644;
+    int field5645 = 5645;
+    int field5646 = 5646;
+    int field5647 = 5647;
+    int field5648 = 5648;
+    int field5649 = 5649;
+    int field5650 = 5650;
+    int field5651 = 5651;
+    int field5652 = 5652;
+    int field5653 = 5653;
+    int field5654 = 5654;
+    int field5655 = 5655;
+    int field5656 = 5656;
+    int field5657 = 5657;
+    int field5658 = 5658;
+    int field5659 = 5659;
+    int field5660 = 5660;
+    int field5661 = 5661;
+    int field5662 = 5662;
+    int field5663 = 5663;
+    int field5664 = 5664;
+    int field5665 = 5665;
+    int field5666 = 5666;
+    int field5667 = 5667;
+    int field5668 = 5668;
+    int field5669 = 5669;
+    int field5670 = 5670;
+    int field5671 = 5671;
+    int field5672 = 5672;
+    int field5673 = 5673;
+    int field5674 = 5674;
+    int field5675 = 5675;
+    int field5676 = 5676;
+    int field5677 = 5677;
+    int field5678 = 5678;
+    int field5679 = 5679;
+    int field5680 = 5680;
+    int field5681 = 5681;
+    int field5682 = 5682;
+    int field5683 = 5683;
+    int field5684 = 5684;
+    int field5685 = 5685;
+    int field5686 = 5686;
+    int field5687 = 5687;
+    int field5688 = 5688;
+    int field5689 = 5689;
+    int field5690 = 5690;
+    int field5691 = 5691;
+    int field5692 = 5692;
+    int field5693 = 5693;
+    int field5694 = 5694;
+    int field5695 = 5695;
+    int field5696 = 5696;
+    int field5697 = 5697;
+    int field5698 = 5698;
+    int field5699 = 5699;
+    int field5700 = 5700;
+    int field5701 = 5701;
+    int field5702 = 5702;
+    int field5703 = 5703;
+    int field5704 = 5704;
+    int field5705 = 5705;
+    int field5706 = 5706;
+    int field5707 = 5707;
+    int field5708 = 5708;
+    int field5709 = 5709;
+    int field5710 = 5710;
+    int field5711 = 5711;
+    int field5712 = 5712;
+    int field5713 = 5713;
+    int field5714 = 5714;
+    int field5715 = 5715;
+    int field5716 = 5716;
+    int field5717 = 5717;
+    int field5718 = 5718;
+    int field5719 = 5719;
+    int field5720 = 5720;
+    int field5721 = 5721;
+    int field5722 = 5722;
+    int field5723 = 5723;
+    int field5724 = 5724;
+    int field5725 = 5725;
+    int field5726 = 5726;
+    int field5727 = 5727;
+    int field5728 = 5728;
+    int field5729 = 5729;
+    int field5730 = 5730;
+    int field5731 = 5731;
+    int field5732 = 5732;
+    int field5733 = 5733;
+    int field5734 = 5734;
+    int field5735 = 5735;
+    int field5736 = 5736;
+    int field5737 = 5737;
+    int field5738 = 5738;
+    int field5739 = 5739;
+    int field5740 = 5740;
+    int field5741 = 5741;
+    int field5742 = 5742;
+    int field5743 = 5743;
+    int field5744 = 5744;
+    int field5745 = 5745;
+    int field5746 = 5746;
+    int field5747 = 5747;
+    int field5748 = 5748;
+    int field5749 = 5749;
+    int field5750 = 5750;
+    int field5751 = 5751;
+    int field5752 = 5752;
+    int field5753 = 5753;
+    int field5754 = 5754;
+    int field5755 = 5755;
+    int field5756 = 5756;
+    int field5757 = 5757;
+    int field5758 = 5758;
+    int field5759 = 5759;
+    int field5760 = 5760;
+    int field5761 = 5761;
+    int field5762 = 5762;
+    int field5763 = 5763;
+    int field5764 = 5764;
+    int field5765 = 5765;
+    int field5766 = 5766;
+    int field5767 = 5767;
+    int field5768 = 5768;
+    int field5769 = 5769;
+    int field5770 = 5770;
+    int field5771 = 5771;
+    int field5772 = 5772;
+    int field5773 = 5773;
+    int field5774 = 5774;
+    int field5775 = 5775;
+    int field5776 = 5776;
+    int field5777 = 5777;
+    int field5778 = 5778;
+    int field5779 = 5779;
+    int field5780 = 5780;
+    int field5781 = 5781;
+    int field5782 = 5782;
+    int field5783 = 5783;
+    int field5784 = 5784;
+    int field5785 = 5785;
+    int field5786 = 5786;
+    int field5787 = 5787;
+    int field5788 = 5788;
+    int field5789 = 5789;
+    int field5790 = 5790;
+    int field5791 = 5791;
+    int field5792 = 5792;
+    int field5793 = 5793;
+    int field5794 = 5794;
+    int field5795 = 5795;
+    int field5796 = 5796;
+    int field5797 = 5797;
+    int field5798 = 5798;
+    int field5799 = 5799;
+    int field5800 = 5800;
+    int field5801 = 5801;
+    int field5802 = 5802;
+    int field5803 = 5803;
+    int field5804 = 5804;
+    int field5805 = 5805;
+    int field5806 = 5806;
+    int field5807 = 5807;
+    int field5808 = 5808;
+    int field5809 = 5809;
+    int field5810 = 5810;
+    int field5811 = 5811;
+    int field5812 = 5812;
+    int field5813 = 5813;
+    int field5814 = 5814;
+    int field5815 = 5815;
+    int field5816 = 5816;
+    int field5817 = 5817;
+    int field5818 = 5818;
+    int field5819 = 5819;
+    int field5820 = 5820;
+    int field5821 = 5821;
+    int field5822 = 5822;
+    int field5823 = 5823;
+    int field5824 = 5824;
+    int field5825 = 5825;
+    int field5826 = 5826;
+    int field5827 = 5827;
+    int field5828 = 5828;
+    int field5829 = 5829;
+    int field5830 = 5830;
+    int field5831 = 5831;
+    int field5832 = 5832;
+    int field5833 = 5833;
+    int field5834 = 5834;
+    int field5835 = 5835;
+    int field5836 = 5836;
+    int field5837 = 5837;
+    int field5838 = 5838;
+    int field5839 = 5839;
+    int field5840 = 5840;
+    int field5841 = 5841;
+    int field5842 = 5842;
+    int field5843 = 5843;
+    int field5844 = 5844;
+    int field5845 = 5845;
+    int field5846 = 5846;
+    int field5847 = 5847;
+    int field5848 = 5848;
+    int field5849 = 5849;
+    int field5850 = 5850;
+    int field5851 = 5851;
+    int field5852 = 5852;
+    int field5853 = 5853;
+    int field5854 = 5854;
+    int field5855 = 5855;
+    int field5856 = 5856;
+    int field5857 = 5857;
+    int field5858 = 5858;
+    int field5859 = 5859;
+    int field5860 = 5860;
+    int field5861 = 5861;
+    int field5862 = 5862;
+    int field5863 = 5863;
+    int field5864 = 5864;
+    int field5865 = 5865;
+    int field5866 = 5866;
+    int field5867 = 5867;
+    int field5868 = 5868;
+    int field5869 = 5869;
+    int field5870 = 5870;
+    int field5871 = 5871;
+    int field5872 = 5872;
+    int field5873 = 5873;
+    int field5874 = 5874;
+    int field5875 = 5875;
+    int field5876 = 5876;
+    int field5877 = 5877;
+    int field5878 = 5878;
+    int field5879 = 5879;
+    int field5880 = 5880;
+    int field5881 = 5881;
+    int field5882 = 5882;
+    int field5883 = 5883;
+    int field5884 = 5884;
+    int field5885 = 5885;
+    int field5886 = 5886;
+    int field5887 = 5887;
+    int field5888 = 5888;
+    int field5889 = 5889;
+    int field5890 = 5890;
+    int field5891 = 5891;
+    int field5892 = 5892;
+    int field5893 = 5893;
+    int field5894 = 5894;
+    int field5895 = 5895;
+    int field5896 = 5896;
+    int field5897 = 5897;
+    int field5898 = 5898;
+    int field5899 = 5899;
+    int field5900 = 5900;
+    int field5901 = 5901;
+    int field5902 = 5902;
+    int field5903 = 5903;
+    int field5904 = 5904;
+    int field5905 = 5905;
+    int field5906 = 5906;
+    int field5907 = 5907;
+    int field5908 = 5908;
+    int field5909 = 5909;
+    int field5910 = 5910;
+    int field5911 = 5911;
+    int field5912 = 5912;
+    int field5913 = 5913;
+    int field5914 = 5914;
+    int field5915 = 5915;
+    int field5916 = 5916;
+    int field5917 = 5917;
+    int field5918 = 5918;
+    int field5919 = 5919;
+    int field5920 = 5920;
+    int field5921 = 5921;
+    int field5922 = 5922;
+    int field5923 = 5923;
+    int field5924 = 5924;
+    int field5925 = 5925;
+    int field5926 = 5926;
+    int field5927 = 5927;
+    int field5928 = 5928;
+    int field5929 = 5929;
+    int field5930 = 5930;
+    int field5931 = 5931;
+    int field5932 = 5932;
+    int field5933 = 5933;
+    int field5934 = 5934;
+    int field5935 = 5935;
+    int field5936 = 5936;
+    int field5937 = 5937;
+    int field5938 = 5938;
+    int field5939 = 5939;
+    int field5940 = 5940;
+    int field5941 = 5941;
+    int field5942 = 5942;
+    int field5943 = 5943;
+    int field5944 = 5944;
+    int field5945 = 5945;
+    int field5946 = 5946;
+    int field5947 = 5947;
+    int field5948 = 5948;
+    int field5949 = 5949;
+    int field5950 = 5950;
+    int field5951 = 5951;
+    int field5952 = 5952;
+    int field5953 = 5953;
+    int field5954 = 5954;
+    int field5955 = 5955;
+    int field5956 = 5956;
+    int field5957 = 5957;
+    int field5958 = 5958;
+    int field5959 = 5959;
+    int field5960 = 5960;
+    int field5961 = 5961;
+    int field5962 = 5962;
+    int field5963 = 5963;
+    int field5964 = 5964;
+    int field5965 = 5965;
+    int field5966 = 5966;
+    int field5967 = 5967;
+    int field5968 = 5968;
+    int field5969 = 5969;
+    int field5970 = 5970;
+    int field5971 = 5971;
+    int field5972 = 5972;
+    int field5973 = 5973;
+    int field5974 = 5974;
+    int field5975 = 5975;
+    int field5976 = 5976;
+    int field5977 = 5977;
+    int field5978 = 5978;
+    int field5979 = 5979;
+    int field5980 = 5980;
+    int field5981 = 5981;
+    int field5982 = 5982;
+    int field5983 = 5983;
+    int field5984 = 5984;
+    int field5985 = 5985;
+    int field5986 = 5986;
+    int field5987 = 5987;
+    int field5988 = 5988;
+    int field5989 = 5989;
+    int field5990 = 5990;
+    int field5991 = 5991;
+    int field5992 = 5992;
+    int field5993 = 5993;
+    int field5994 = 5994;
+    int field5995 = 5995;
+    int field5996 = 5996;
+    int field5997 = 5997;
+    int field5998 = 5998;
+    int field5999 = 5999;
+    int field6000 = 6000;
+    int field6001 = 6001;
+    int field6002 = 6002;
+    int field6003 = 6003;
+    int field6004 = 6004;
+    int field6005 = 6005;
+    int field6006 = 6006;
+    int field6007 = 6007;
+    int field6008 = 6008;
+    int field6009 = 6009;
+    int field6010 = 6010;
+    int field6011 = 6011;
+    int field6012 = 6012;
+    int field6013 = 6013;
+    int field6014 = 6014;
+    int field6015 = 6015;
+    int field6016 = 6016;
+    int field6017 = 6017;
+    int field6018 = 6018;
+    int field6019 = 6019;
+    int field6020 = 6020;
+    int field6021 = 6021;
+    int field6022 = 6022;
+    int field6023 = 6023;
+    int field6024 = 6024;
+    int field6025 = 6025;
+    int field6026 = 6026;
+    int field6027 = 6027;
+    int field6028 = 6028;
+    int field6029 = 6029;
+    int field6030 = 6030;
+    int field6031 = 6031;
+    int field6032 = 6032;
+    int field6033 = 6033;
+    int field6034 = 6034;
+    int field6035 = 6035;
+    int field6036 = 6036;
+    int field6037 = 6037;
+    int field6038 = 6038;
+    int field6039 = 6039;
+    int field6040 = 6040;
+    int field6041 = 6041;
+    int field6042 = 6042;
+    int field6043 = 6043;
+    int field6044 = 6044;
+    int field6045 = 6045;
+    int field6046 = 6046;
+    int field6047 = 6047;
+    int field6048 = 6048;
+    int field6049 = 6049;
+    int field6050 = 6050;
+    int field6051 = 6051;
+    int field6052 = 6052;
+    int field6053 = 6053;
+    int field6054 = 6054;
+    int field6055 = 6055;
+    int field6056 = 6056;
+    int field6057 = 6057;
+    int field6058 = 6058;
+    int field6059 = 6059;
+    int field6060 = 6060;
+    int field6061 = 6061;
+    int field6062 = 6062;
+    int field6063 = 6063;
+    int field6064 = 6064;
+    int field6065 = 6065;
+    int field6066 = 6066;
+    int field6067 = 6067;
+    int field6068 = 6068;
+    int field6069 = 6069;
+    int field6070 = 6070;
+    int field6071 = 6071;
+    int field6072 = 6072;
+    int field6073 = 6073;
+    int field6074 = 6074;
+    int field6075 = 6075;
+    int field6076 = 6076;
+    int field6077 = 6077;
+    int field6078 = 6078;
+    int field6079 = 6079;
+    int field6080 = 6080;
+    int field6081 = 6081;
+    int field6082 = 6082;
+    int field6083 = 6083;
+    int field6084 = 6084;
+    int field6085 = 6085;
+    int field6086 = 6086;
+    int field6087 = 6087;
+    int field6088 = 6088;
+    int field6089 = 6089;
+    int field6090 = 6090;
+    int field6091 = 6091;
+    int field6092 = 6092;
+    int field6093 = 6093;
+    int field6094 = 6094;
+    int field6095 = 6095;
+    int field6096 = 6096;
+    int field6097 = 6097;
+    int field6098 = 6098;
+    int field6099 = 6099;
+    int field6100 = 6100;
+    int field6101 = 6101;
+    int field6102 = 6102;
+    int field6103 = 6103;
+    int field6104 = 6104;
+    int field6105 = 6105;
+    int field6106 = 6106;
+    int field6107 = 6107;
+    int field6108 = 6108;
+    int field6109 = 6109;
+    int field6110 = 6110;
+    int field6111 = 6111;
+    int field6112 = 6112;
+    int field6113 = 6113;
+    int field6114 = 6114;
+    int field6115 = 6115;
+    int field6116 = 6116;
+    int field6117 = 6117;
+    int field6118 = 6118;
+    int field6119 = 6119;
+    int field6120 = 6120;
+    int field6121 = 6121;
+    int field6122 = 6122;
+    int field6123 = 6123;
+    int field6124 = 6124;
+    int field6125 = 6125;
+    int field6126 = 6126;
+    int field6127 = 6127;
+    int field6128 = 6128;
+    int field6129 = 6129;
+    int field6130 = 6130;
+    int field6131 = 6131;
+    int field6132 = 6132;
+    int field6133 = 6133;
+    int field6134 = 6134;
+    int field6135 = 6135;
+    int field6136 = 6136;
+    int field6137 = 6137;
+    int field6138 = 6138;
+    int field6139 = 6139;
+    int field6140 = 6140;
+    int field6141 = 6141;
+    int field6142 = 6142;
+    int field6143 = 6143;
+    int field6144 = 6144;
+    int field6145 = 6145;
+    int field6146 = 6146;
+    int field6147 = 6147;
+    int field6148 = 6148;
+    int field6149 = 6149;
+    int field6150 = 6150;
+    int field6151 = 6151;
+    int field6152 = 6152;
+    int field6153 = 6153;
+    int field6154 = 6154;
+    int field6155 = 6155;
+    int field6156 = 6156;
+    int field6157 = 6157;
+    int field6158 = 6158;
+    int field6159 = 6159;
+    int field6160 = 6160;
+    int field6161 = 6161;
+    int field6162 = 6162;
+    int field6163 = 6163;
+    int field6164 = 6164;
+    int field6165 = 6165;
+    int field6166 = 6166;
+    int field6167 = 6167;
+    int field6168 = 6168;
+    int field6169 = 6169;
+    int field6170 = 6170;
+    int field6171 = 6171;
+    int field6172 = 6172;
+    int field6173 = 6173;
+    int field6174 = 6174;
+    int field6175 = 6175;
+    int field6176 = 6176;
+    int field6177 = 6177;
+    int field6178 = 6178;
+    int field6179 = 6179;
+    int field6180 = 6180;
+    int field6181 = 6181;
+    int field6182 = 6182;
+    int field6183 = 6183;
+    int field6184 = 6184;
+    int field6185 = 6185;
+    int field6186 = 6186;
+    int field6187 = 6187;
+    int field6188 = 6188;
+    int field6189 = 6189;
+    int field6190 = 6190;
+    int field6191 = 6191;
+    int field6192 = 6192;
+    int field6193 = 6193;
+    int field6194 = 6194;
+    int field6195 = 6195;
+    int field6196 = 6196;
+    int field6197 = 6197;
+    int field6198 = 6198;
+    int field6199 = 6199;
+    int field6200 = 6200;
+    int field6201 = 6201;
+    int field6202 = 6202;
+    int field6203 = 6203;
+    int field6204 = 6204;
+    int field6205 = 6205;
+    int field6206 = 6206;
+    int field6207 = 6207;
+    int field6208 = 6208;
+    int field6209 = 6209;
+    int field6210 = 6210;
+    int field6211 = 6211;
+    int field6212 = 6212;
+    int field6213 = 6213;
+    int field6214 = 6214;
+    int field6215 = 6215;
+    int field6216 = 6216;
+    int field6217 = 6217;
+    int field6218 = 6218;
+    int field6219 = 6219;
+    int field6220 = 6220;
+    int field6221 = 6221;
+    int field6222 = 6222;
+    int field6223 = 6223;
+    int field6224 = 6224;
+    int field6225 = 6225;
+    int field6226 = 6226;
+    int field6227 = 6227;
+    int field6228 = 6228;
+    int field6229 = 6229;
+    int field6230 = 6230;
+    int field6231 = 6231;
+    int field6232 = 6232;
+    int field6233 = 6233;
+    int field6234 = 6234;
+    int field6235 = 6235;
+    int field6236 = 6236;
+    int field6237 = 6237;
+    int field6238 = 6238;
+    int field6239 = 6239;
+    int field6240 = 6240;
+    int field6241 = 6241;
+    int field6242 = 6242;
+    int field6243 = 6243;
+    int field6244 = 6244;
+    int field6245 = 6245;
+    int field6246 = 6246;
+    int field6247 = 6247;
+    int field6248 = 6248;
+    int field6249 = 6249;
+    int field6250 = 6250;
+    int field6251 = 6251;
+    int field6252 = 6252;
+    int field6253 = 6253;
+    int field6254 = 6254;
+    int field6255 = 6255;
+    int field6256 = 6256;
+    int field6257 = 6257;
+    int field6258 = 6258;
+    int field6259 = 6259;
+    int field6260 = 6260;
+    int field6261 = 6261;
+    int field6262 = 6262;
+    int field6263 = 6263;
+    int field6264 = 6264;
+    int field6265 = 6265;
+    int field6266 = 6266;
+    int field6267 = 6267;
+    int field6268 = 6268;
+    int field6269 = 6269;
+    int field6270 = 6270;
+    int field6271 = 6271;
+    int field6272 = 6272;
+    int field6273 = 6273;
+    int field6274 = 6274;
+    int field6275 = 6275;
+    int field6276 = 6276;
+    int field6277 = 6277;
+    int field6278 = 6278;
+    int field6279 = 6279;
+    int field6280 = 6280;
+    int field6281 = 6281;
+    int field6282 = 6282;
+    int field6283 = 6283;
+    int field6284 = 6284;
+    int field6285 = 6285;
+    int field6286 = 6286;
+    int field6287 = 6287;
+    int field6288 = 6288;
+    int field6289 = 6289;
+    int field6290 = 6290;
+    int field6291 = 6291;
+    int field6292 = 6292;
+    int field6293 = 6293;
+    int field6294 = 6294;
+    int field6295 = 6295;
+    int field6296 = 6296;
+    int field6297 = 6297;
+    int field6298 = 6298;
+    int field6299 = 6299;
+    int field6300 = 6300;
+    int field6301 = 6301;
+    int field6302 = 6302;
+    int field6303 = 6303;
+    int field6304 = 6304;
+    int field6305 = 6305;
+    int field6306 = 6306;
+    int field6307 = 6307;
+    int field6308 = 6308;
+    int field6309 = 6309;
+    int field6310 = 6310;
+    int field6311 = 6311;
+    int field6312 = 6312;
+    int field6313 = 6313;
+    int field6314 = 6314;
+    int field6315 = 6315;
+    int field6316 = 6316;
+    int field6317 = 6317;
+    int field6318 = 6318;
+    int field6319 = 6319;
+    int field6320 = 6320;
+    int field6321 = 6321;
+    int field6322 = 6322;
+    int field6323 = 6323;
+    int field6324 = 6324;
+    int field6325 = 6325;
+    int field6326 = 6326;
+    int field6327 = 6327;
+    int field6328 = 6328;
+    int field6329 = 6329;
+    int field6330 = 6330;
+    int field6331 = 6331;
+    int field6332 = 6332;
+    int field6333 = 6333;
+    int field6334 = 6334;
+    int field6335 = 6335;
+    int field6336 = 6336;
+    int field6337 = 6337;
+    int field6338 = 6338;
+    int field6339 = 6339;
+    int field6340 = 6340;
+    int field6341 = 6341;
+    int field6342 = 6342;
+    int field6343 = 6343;
+    int field6344 = 6344;
+    int field6345 = 6345;
+    int field6346 = 6346;
+    int field6347 = 6347;
+    int field6348 = 6348;
+    int field6349 = 6349;
+    int field6350 = 6350;
+    int field6351 = 6351;
+    int field6352 = 6352;
+    int field6353 = 6353;
+    int field6354 = 6354;
+    int field6355 = 6355;
+    int field6356 = 6356;
+    int field6357 = 6357;
+    int field6358 = 6358;
+    int field6359 = 6359;
+    int field6360 = 6360;
+    int field6361 = 6361;
+    int field6362 = 6362;
+    int field6363 = 6363;
+    int field6364 = 6364;
+    int field6365 = 6365;
+    int field6366 = 6366;
+    int field6367 = 6367;
+    int field6368 = 6368;
+    int field6369 = 6369;
+    int field6370 = 6370;
+    int field6371 = 6371;
+    int field6372 = 6372;
+    int field6373 = 6373;
+    int field6374 = 6374;
+    int field6375 = 6375;
+    int field6376 = 6376;
+    int field6377 = 6377;
+    int field6378 = 6378;
+    int field6379 = 6379;
+    int field6380 = 6380;
+    int field6381 = 6381;
+    int field6382 = 6382;
+    int field6383 = 6383;
+    int field6384 = 6384;
+    int field6385 = 6385;
+    int field6386 = 6386;
+    int field6387 = 6387;
+    int field6388 = 6388;
+    int field6389 = 6389;
+    int field6390 = 6390;
+    int field6391 = 6391;
+    int field6392 = 6392;
+    int field6393 = 6393;
+    int field6394 = 6394;
+    int field6395 = 6395;
+    int field6396 = 6396;
+    int field6397 = 6397;
+    int field6398 = 6398;
+    int field6399 = 6399;
+    int field6400 = 6400;
+    int field6401 = 6401;
+    int field6402 = 6402;
+    int field6403 = 6403;
+    int field6404 = 6404;
+    int field6405 = 6405;
+    int field6406 = 6406;
+    int field6407 = 6407;
+    int field6408 = 6408;
+    int field6409 = 6409;
+    int field6410 = 6410;
+    int field6411 = 6411;
+    int field6412 = 6412;
+    int field6413 = 6413;
+    int field6414 = 6414;
+    int field6415 = 6415;
+    int field6416 = 6416;
+    int field6417 = 6417;
+    int field6418 = 6418;
+    int field6419 = 6419;
+    int field6420 = 6420;
+    int field6421 = 6421;
+    int field6422 = 6422;
+    int field6423 = 6423;
+    int field6424 = 6424;
+    int field6425 = 6425;
+    int field6426 = 6426;
+    int field6427 = 6427;
+    int field6428 = 6428;
+    int field6429 = 6429;
+    int field6430 = 6430;
+    int field6431 = 6431;
+    int field6432 = 6432;
+    int field6433 = 6433;
+    int field6434 = 6434;
+    int field6435 = 6435;
+    int field6436 = 6436;
+    int field6437 = 6437;
+    int field6438 = 6438;
+    int field6439 = 6439;
+    int field6440 = 6440;
+    int field6441 = 6441;
+    int field6442 = 6442;
+    int field6443 = 6443;
+    int field6444 = 6444;
+    int field6445 = 6445;
+    int field6446 = 6446;
+    int field6447 = 6447;
+    int field6448 = 6448;
+    int field6449 = 6449;
+    int field6450 = 6450;
+    int field6451 = 6451;
+    int field6452 = 6452;
+    int field6453 = 6453;
+    int field6454 = 6454;
+    int field6455 = 6455;
+    int field6456 = 6456;
+    int field6457 = 6457;
+    int field6458 = 6458;
+    int field6459 = 6459;
+    int field6460 = 6460;
+    int field6461 = 6461;
+    int field6462 = 6462;
+    int field6463 = 6463;
+    int field6464 = 6464;
+    int field6465 = 6465;
+    int field6466 = 6466;
+    int field6467 = 6467;
+    int field6468 = 6468;
+    int field6469 = 6469;
+    int field6470 = 6470;
+    int field6471 = 6471;
+    int field6472 = 6472;
+    int field6473 = 6473;
+    int field6474 = 6474;
+    int field6475 = 6475;
+    int field6476 = 6476;
+    int field6477 = 6477;
+    int field6478 = 6478;
+    int field6479 = 6479;
+    int field6480 = 6480;
+    int field6481 = 6481;
+    int field6482 = 6482;
+    int field6483 = 6483;
+    int field6484 = 6484;
+    int field6485 = 6485;
+    int field6486 = 6486;
+    int field6487 = 6487;
+    int field6488 = 6488;
+    int field6489 = 6489;
+    int field6490 = 6490;
+    int field6491 = 6491;
+    int field6492 = 6492;
+    int field6493 = 6493;
+    int field6494 = 6494;
+    int field6495 = 6495;
+    int field6496 = 6496;
+    int field6497 = 6497;
+    int field6498 = 6498;
+    int field6499 = 6499;
+    int field6500 = 6500;
+    int field6501 = 6501;
+    int field6502 = 6502;
+    int field6503 = 6503;
+    int field6504 = 6504;
+    int field6505 = 6505;
+    int field6506 = 6506;
+    int field6507 = 6507;
+    int field6508 = 6508;
+    int field6509 = 6509;
+    int field6510 = 6510;
+    int field6511 = 6511;
+    int field6512 = 6512;
+    int field6513 = 6513;
+    int field6514 = 6514;
+    int field6515 = 6515;
+    int field6516 = 6516;
+    int field6517 = 6517;
+    int field6518 = 6518;
+    int field6519 = 6519;
+    int field6520 = 6520;
+    int field6521 = 6521;
+    int field6522 = 6522;
+    int field6523 = 6523;
+    int field6524 = 6524;
+    int field6525 = 6525;
+    int field6526 = 6526;
+    int field6527 = 6527;
+    int field6528 = 6528;
+    int field6529 = 6529;
+    int field6530 = 6530;
+    int field6531 = 6531;
+    int field6532 = 6532;
+    int field6533 = 6533;
+    int field6534 = 6534;
+    int field6535 = 6535;
+    int field6536 = 6536;
+    int field6537 = 6537;
+    int field6538 = 6538;
+    int field6539 = 6539;
+    int field6540 = 6540;
+    int field6541 = 6541;
+    int field6542 = 6542;
+    int field6543 = 6543;
+    int field6544 = 6544;
+    int field6545 = 6545;
+    int field6546 = 6546;
+    int field6547 = 6547;
+    int field6548 = 6548;
+    int field6549 = 6549;
+    int field6550 = 6550;
+    int field6551 = 6551;
+    int field6552 = 6552;
+    int field6553 = 6553;
+    int field6554 = 6554;
+    int field6555 = 6555;
+    int field6556 = 6556;
+    int field6557 = 6557;
+    int field6558 = 6558;
+    int field6559 = 6559;
+    int field6560 = 6560;
+    int field6561 = 6561;
+    int field6562 = 6562;
+    int field6563 = 6563;
+    int field6564 = 6564;
+    int field6565 = 6565;
+    int field6566 = 6566;
+    int field6567 = 6567;
+    int field6568 = 6568;
+    int field6569 = 6569;
+    int field6570 = 6570;
+    int field6571 = 6571;
+    int field6572 = 6572;
+    int field6573 = 6573;
+    int field6574 = 6574;
+    int field6575 = 6575;
+    int field6576 = 6576;
+    int field6577 = 6577;
+    int field6578 = 6578;
+    int field6579 = 6579;
+    int field6580 = 6580;
+    int field6581 = 6581;
+    int field6582 = 6582;
+    int field6583 = 6583;
+    int field6584 = 6584;
+    int field6585 = 6585;
+    int field6586 = 6586;
+    int field6587 = 6587;
+    int field6588 = 6588;
+    int field6589 = 6589;
+    int field6590 = 6590;
+    int field6591 = 6591;
+    int field6592 = 6592;
+    int field6593 = 6593;
+    int field6594 = 6594;
+    int field6595 = 6595;
+    int field6596 = 6596;
+    int field6597 = 6597;
+    int field6598 = 6598;
+    int field6599 = 6599;
+    int field6600 = 6600;
+    int field6601 = 6601;
+    int field6602 = 6602;
+    int field6603 = 6603;
+    int field6604 = 6604;
+    int field6605 = 6605;
+    int field6606 = 6606;
+    int field6607 = 6607;
+    int field6608 = 6608;
+    int field6609 = 6609;
+    int field6610 = 6610;
+    int field6611 = 6611;
+    int field6612 = 6612;
+    int field6613 = 6613;
+    int field6614 = 6614;
+    int field6615 = 6615;
+    int field6616 = 6616;
+    int field6617 = 6617;
+    int field6618 = 6618;
+    int field6619 = 6619;
+    int field6620 = 6620;
+    int field6621 = 6621;
+    int field6622 = 6622;
+    int field6623 = 6623;
+    int field6624 = 6624;
+    int field6625 = 6625;
+    int field6626 = 6626;
+    int field6627 = 6627;
+    int field6628 = 6628;
+    int field6629 = 6629;
+    int field6630 = 6630;
+    int field6631 = 6631;
+    int field6632 = 6632;
+    int field6633 = 6633;
+    int field6634 = 6634;
+    int field6635 = 6635;
+    int field6636 = 6636;
+    int field6637 = 6637;
+    int field6638 = 6638;
+    int field6639 = 6639;
+    int field6640 = 6640;
+    int field6641 = 6641;
+    int field6642 = 6642;
+    int field6643 = 6643;
+    int field6644 = 6644;
+    int field6645 = 6645;
+    int field6646 = 6646;
+    int field6647 = 6647;
+    int field6648 = 6648;
+    int field6649 = 6649;
+    int field6650 = 6650;
+    int field6651 = 6651;
+    int field6652 = 6652;
+    int field6653 = 6653;
+    int field6654 = 6654;
+    int field6655 = 6655;
+    int field6656 = 6656;
+    int field6657 = 6657;
+    int field6658 = 6658;
+    int field6659 = 6659;
+    int field6660 = 6660;
+    int field6661 = 6661;
+    int field6662 = 6662;
+    int field6663 = 6663;
+    int field6664 = 6664;
+    int field6665 = 6665;
+    int field6666 = 6666;
+    int field6667 = 6667;
+    int field6668 = 6668;
+    int field6669 = 6669;
+    int field6670 = 6670;
+    int field6671 = 6671;
+    int field6672 = 6672;
+    int field6673 = 6673;
+    int field6674 = 6674;
+    int field6675 = 6675;
+    int field6676 = 6676;
+    int field6677 = 6677;
+    int field6678 = 6678;
+    int field6679 = 6679;
+    int field6680 = 6680;
+    int field6681 = 6681;
+    int field6682 = 6682;
+    int field6683 = 6683;
+    int field6684 = 6684;
+    int field6685 = 6685;
+    int field6686 = 6686;
+    int field6687 = 6687;
+    int field6688 = 6688;
+    int field6689 = 6689;
+    int field6690 = 6690;
+    int field6691 = 6691;
+    int field6692 = 6692;
+    int field6693 = 6693;
+    int field6694 = 6694;
+    int field6695 = 6695;
+    int field6696 = 6696;
+    int field6697 = 6697;
+    int field6698 = 6698;
+    int field6699 = 6699;
+    int field6700 = 6700;
+    int field6701 = 6701;
+    int field6702 = 6702;
+    int field6703 = 6703;
+    int field6704 = 6704;
+    int field6705 = 6705;
+    int field6706 = 6706;
+    int field6707 = 6707;
+    int field6708 = 6708;
+    int field6709 = 6709;
+    int field6710 = 6710;
+    int field6711 = 6711;
+    int field6712 = 6712;
+    int field6713 = 6713;
+    int field6714 = 6714;
+    int field6715 = 6715;
+    int field6716 = 6716;
+    int field6717 = 6717;
+    int field6718 = 6718;
+    int field6719 = 6719;
+    int field6720 = 6720;
+    int field6721 = 6721;
+    int field6722 = 6722;
+    int field6723 = 6723;
+    int field6724 = 6724;
+    int field6725 = 6725;
+    int field6726 = 6726;
+    int field6727 = 6727;
+    int field6728 = 6728;
+    int field6729 = 6729;
+    int field6730 = 6730;
+    int field6731 = 6731;
+    int field6732 = 6732;
+    int field6733 = 6733;
+    int field6734 = 6734;
+    int field6735 = 6735;
+    int field6736 = 6736;
+    int field6737 = 6737;
+    int field6738 = 6738;
+    int field6739 = 6739;
+    int field6740 = 6740;
+    int field6741 = 6741;
+    int field6742 = 6742;
+    int field6743 = 6743;
+    int field6744 = 6744;
+    int field6745 = 6745;
+    int field6746 = 6746;
+    int field6747 = 6747;
+    int field6748 = 6748;
+    int field6749 = 6749;
+    int field6750 = 6750;
+    int field6751 = 6751;
+    int field6752 = 6752;
+    int field6753 = 6753;
+    int field6754 = 6754;
+    int field6755 = 6755;
+    int field6756 = 6756;
+    int field6757 = 6757;
+    int field6758 = 6758;
+    int field6759 = 6759;
+    int field6760 = 6760;
+    int field6761 = 6761;
+    int field6762 = 6762;
+    int field6763 = 6763;
+    int field6764 = 6764;
+    int field6765 = 6765;
+    int field6766 = 6766;
+    int field6767 = 6767;
+    int field6768 = 6768;
+    int field6769 = 6769;
+    int field6770 = 6770;
+    int field6771 = 6771;
+    int field6772 = 6772;
+    int field6773 = 6773;
+    int field6774 = 6774;
+    int field6775 = 6775;
+    int field6776 = 6776;
+    int field6777 = 6777;
+    int field6778 = 6778;
+    int field6779 = 6779;
+    int field6780 = 6780;
+    int field6781 = 6781;
+    int field6782 = 6782;
+    int field6783 = 6783;
+    int field6784 = 6784;
+    int field6785 = 6785;
+    int field6786 = 6786;
+    int field6787 = 6787;
+    int field6788 = 6788;
+    int field6789 = 6789;
+    int field6790 = 6790;
+    int field6791 = 6791;
+    int field6792 = 6792;
+    int field6793 = 6793;
+    int field6794 = 6794;
+    int field6795 = 6795;
+    int field6796 = 6796;
+    int field6797 = 6797;
+    int field6798 = 6798;
+    int field6799 = 6799;
+    int field6800 = 6800;
+    int field6801 = 6801;
+    int field6802 = 6802;
+    int field6803 = 6803;
+    int field6804 = 6804;
+    int field6805 = 6805;
+    int field6806 = 6806;
+    int field6807 = 6807;
+    int field6808 = 6808;
+    int field6809 = 6809;
+    int field6810 = 6810;
+    int field6811 = 6811;
+    int field6812 = 6812;
+    int field6813 = 6813;
+    int field6814 = 6814;
+    int field6815 = 6815;
+    int field6816 = 6816;
+    int field6817 = 6817;
+    int field6818 = 6818;
+    int field6819 = 6819;
+    int field6820 = 6820;
+    int field6821 = 6821;
+    int field6822 = 6822;
+    int field6823 = 6823;
+    int field6824 = 6824;
+    int field6825 = 6825;
+    int field6826 = 6826;
+    int field6827 = 6827;
+    int field6828 = 6828;
+    int field6829 = 6829;
+    int field6830 = 6830;
+    int field6831 = 6831;
+    int field6832 = 6832;
+    int field6833 = 6833;
+    int field6834 = 6834;
+    int field6835 = 6835;
+    int field6836 = 6836;
+    int field6837 = 6837;
+    int field6838 = 6838;
+    int field6839 = 6839;
+    int field6840 = 6840;
+    int field6841 = 6841;
+    int field6842 = 6842;
+    int field6843 = 6843;
+    int field6844 = 6844;
+    int field6845 = 6845;
+    int field6846 = 6846;
+    int field6847 = 6847;
+    int field6848 = 6848;
+    int field6849 = 6849;
+    int field6850 = 6850;
+    int field6851 = 6851;
+    int field6852 = 6852;
+    int field6853 = 6853;
+    int field6854 = 6854;
+    int field6855 = 6855;
+    int field6856 = 6856;
+    int field6857 = 6857;
+    int field6858 = 6858;
+    int field6859 = 6859;
+    int field6860 = 6860;
+    int field6861 = 6861;
+    int field6862 = 6862;
+    int field6863 = 6863;
+    int field6864 = 6864;
+    int field6865 = 6865;
+    int field6866 = 6866;
+    int field6867 = 6867;
+    int field6868 = 6868;
+    int field6869 = 6869;
+    int field6870 = 6870;
+    int field6871 = 6871;
+    int field6872 = 6872;
+    int field6873 = 6873;
+    int field6874 = 6874;
+    int field6875 = 6875;
+    int field6876 = 6876;
+    int field6877 = 6877;
+    int field6878 = 6878;
+    int field6879 = 6879;
+    int field6880 = 6880;
+    int field6881 = 6881;
+    int field6882 = 6882;
+    int field6883 = 6883;
+    int field6884 = 6884;
+    int field6885 = 6885;
+    int field6886 = 6886;
+    int field6887 = 6887;
+    int field6888 = 6888;
+    int field6889 = 6889;
+    int field6890 = 6890;
+    int field6891 = 6891;
+    int field6892 = 6892;
+    int field6893 = 6893;
+    int field6894 = 6894;
+    int field6895 = 6895;
+    int field6896 = 6896;
+    int field6897 = 6897;
+    int field6898 = 6898;
+    int field6899 = 6899;
+    int field6900 = 6900;
+    int field6901 = 6901;
+    int field6902 = 6902;
+    int field6903 = 6903;
+    int field6904 = 6904;
+    int field6905 = 6905;
+    int field6906 = 6906;
+    int field6907 = 6907;
+    int field6908 = 6908;
+    int field6909 = 6909;
+    int field6910 = 6910;
+    int field6911 = 6911;
+    int field6912 = 6912;
+    int field6913 = 6913;
+    int field6914 = 6914;
+    int field6915 = 6915;
+    int field6916 = 6916;
+    int field6917 = 6917;
+    int field6918 = 6918;
+    int field6919 = 6919;
+    int field6920 = 6920;
+    int field6921 = 6921;
+    int field6922 = 6922;
+    int field6923 = 6923;
+    int field6924 = 6924;
+    int field6925 = 6925;
+    int field6926 = 6926;
+    int field6927 = 6927;
+    int field6928 = 6928;
+    int field6929 = 6929;
+    int field6930 = 6930;
+    int field6931 = 6931;
+    int field6932 = 6932;
+    int field6933 = 6933;
+    int field6934 = 6934;
+    int field6935 = 6935;
+    int field6936 = 6936;
+    int field6937 = 6937;
+    int field6938 = 6938;
+    int field6939 = 6939;
+    int field6940 = 6940;
+    int field6941 = 6941;
+    int field6942 = 6942;
+    int field6943 = 6943;
+    int field6944 = 6944;
+    int field6945 = 6945;
+    int field6946 = 6946;
+    int field6947 = 6947;
+    int field6948 = 6948;
+    int field6949 = 6949;
+    int field6950 = 6950;
+    int field6951 = 6951;
+    int field6952 = 6952;
+    int field6953 = 6953;
+    int field6954 = 6954;
+    int field6955 = 6955;
+    int field6956 = 6956;
+    int field6957 = 6957;
+    int field6958 = 6958;
+    int field6959 = 6959;
+    int field6960 = 6960;
+    int field6961 = 6961;
+    int field6962 = 6962;
+    int field6963 = 6963;
+    int field6964 = 6964;
+    int field6965 = 6965;
+    int field6966 = 6966;
+    int field6967 = 6967;
+    int field6968 = 6968;
+    int field6969 = 6969;
+    int field6970 = 6970;
+    int field6971 = 6971;
+    int field6972 = 6972;
+    int field6973 = 6973;
+    int field6974 = 6974;
+    int field6975 = 6975;
+    int field6976 = 6976;
+    int field6977 = 6977;
+    int field6978 = 6978;
+    int field6979 = 6979;
+    int field6980 = 6980;
+    int field6981 = 6981;
+    int field6982 = 6982;
+    int field6983 = 6983;
+    int field6984 = 6984;
+    int field6985 = 6985;
+    int field6986 = 6986;
+    int field6987 = 6987;
+    int field6988 = 6988;
+    int field6989 = 6989;
+    int field6990 = 6990;
+    int field6991 = 6991;
+    int field6992 = 6992;
+    int field6993 = 6993;
+    int field6994 = 6994;
+    int field6995 = 6995;
+    int field6996 = 6996;
+    int field6997 = 6997;
+    int field6998 = 6998;
+    int field6999 = 6999;
+    int field7000 = 7000;
+    int field7001 = 7001;
+    int field7002 = 7002;
+    int field7003 = 7003;
+    int field7004 = 7004;
+    int field7005 = 7005;
+    int field7006 = 7006;
+    int field7007 = 7007;
+    int field7008 = 7008;
+    int field7009 = 7009;
+    int field7010 = 7010;
+    int field7011 = 7011;
+    int field7012 = 7012;
+    int field7013 = 7013;
+    int field7014 = 7014;
+    int field7015 = 7015;
+    int field7016 = 7016;
+    int field7017 = 7017;
+    int field7018 = 7018;
+    int field7019 = 7019;
+    int field7020 = 7020;
+    int field7021 = 7021;
+    int field7022 = 7022;
+    int field7023 = 7023;
+    int field7024 = 7024;
+    int field7025 = 7025;
+    int field7026 = 7026;
+    int field7027 = 7027;
+    int field7028 = 7028;
+    int field7029 = 7029;
+    int field7030 = 7030;
+    int field7031 = 7031;
+    int field7032 = 7032;
+    int field7033 = 7033;
+    int field7034 = 7034;
+    int field7035 = 7035;
+    int field7036 = 7036;
+    int field7037 = 7037;
+    int field7038 = 7038;
+    int field7039 = 7039;
+    int field7040 = 7040;
+    int field7041 = 7041;
+    int field7042 = 7042;
+    int field7043 = 7043;
+    int field7044 = 7044;
+    int field7045 = 7045;
+    int field7046 = 7046;
+    int field7047 = 7047;
+    int field7048 = 7048;
+    int field7049 = 7049;
+    int field7050 = 7050;
+    int field7051 = 7051;
+    int field7052 = 7052;
+    int field7053 = 7053;
+    int field7054 = 7054;
+    int field7055 = 7055;
+    int field7056 = 7056;
+    int field7057 = 7057;
+    int field7058 = 7058;
+    int field7059 = 7059;
+    int field7060 = 7060;
+    int field7061 = 7061;
+    int field7062 = 7062;
+    int field7063 = 7063;
+    int field7064 = 7064;
+    int field7065 = 7065;
+    int field7066 = 7066;
+    int field7067 = 7067;
+    int field7068 = 7068;
+    int field7069 = 7069;
+    int field7070 = 7070;
+    int field7071 = 7071;
+    int field7072 = 7072;
+    int field7073 = 7073;
+    int field7074 = 7074;
+    int field7075 = 7075;
+    int field7076 = 7076;
+    int field7077 = 7077;
+    int field7078 = 7078;
+    int field7079 = 7079;
+    int field7080 = 7080;
+    int field7081 = 7081;
+    int field7082 = 7082;
+    int field7083 = 7083;
+    int field7084 = 7084;
+    int field7085 = 7085;
+    int field7086 = 7086;
+    int field7087 = 7087;
+    int field7088 = 7088;
+    int field7089 = 7089;
+    int field7090 = 7090;
+    int field7091 = 7091;
+    int field7092 = 7092;
+    int field7093 = 7093;
+    int field7094 = 7094;
+    int field7095 = 7095;
+    int field7096 = 7096;
+    int field7097 = 7097;
+    int field7098 = 7098;
+    int field7099 = 7099;
+    int field7100 = 7100;
+    int field7101 = 7101;
+    int field7102 = 7102;
+    int field7103 = 7103;
+    int field7104 = 7104;
+    int field7105 = 7105;
+    int field7106 = 7106;
+    int field7107 = 7107;
+    int field7108 = 7108;
+    int field7109 = 7109;
+    int field7110 = 7110;
+    int field7111 = 7111;
+    int field7112 = 7112;
+    int field7113 = 7113;
+    int field7114 = 7114;
+    int field7115 = 7115;
+    int field7116 = 7116;
+    int field7117 = 7117;
+    int field7118 = 7118;
+    int field7119 = 7119;
+    int field7120 = 7120;
+    int field7121 = 7121;
+    int field7122 = 7122;
+    int field7123 = 7123;
+    int field7124 = 7124;
+    int field7125 = 7125;
+    int field7126 = 7126;
+    int field7127 = 7127;
+    int field7128 = 7128;
+    int field7129 = 7129;
+    int field7130 = 7130;
+    int field7131 = 7131;
+    int field7132 = 7132;
+    int field7133 = 7133;
+    int field7134 = 7134;
+    int field7135 = 7135;
+    int field7136 = 7136;
+    int field7137 = 7137;
+    int field7138 = 7138;
+    int field7139 = 7139;
+    int field7140 = 7140;
+    int field7141 = 7141;
+    int field7142 = 7142;
+    int field7143 = 7143;
+    int field7144 = 7144;
+    int field7145 = 7145;
+    int field7146 = 7146;
+    int field7147 = 7147;
+    int field7148 = 7148;
+    int field7149 = 7149;
+    int field7150 = 7150;
+    int field7151 = 7151;
+    int field7152 = 7152;
+    int field7153 = 7153;
+    int field7154 = 7154;
+    int field7155 = 7155;
+    int field7156 = 7156;
+    int field7157 = 7157;
+    int field7158 = 7158;
+    int field7159 = 7159;
+    int field7160 = 7160;
+    int field7161 = 7161;
+    int field7162 = 7162;
+    int field7163 = 7163;
+    int field7164 = 7164;
+    int field7165 = 7165;
+    int field7166 = 7166;
+    int field7167 = 7167;
+    int field7168 = 7168;
+    int field7169 = 7169;
+    int field7170 = 7170;
+    int field7171 = 7171;
+    int field7172 = 7172;
+    int field7173 = 7173;
+    int field7174 = 7174;
+    int field7175 = 7175;
+    int field7176 = 7176;
+    int field7177 = 7177;
+    int field7178 = 7178;
+    int field7179 = 7179;
+    int field7180 = 7180;
+    int field7181 = 7181;
+    int field7182 = 7182;
+    int field7183 = 7183;
+    int field7184 = 7184;
+    int field7185 = 7185;
+    int field7186 = 7186;
+    int field7187 = 7187;
+    int field7188 = 7188;
+    int field7189 = 7189;
+    int field7190 = 7190;
+    int field7191 = 7191;
+    int field7192 = 7192;
+    int field7193 = 7193;
+    int field7194 = 7194;
+    int field7195 = 7195;
+    int field7196 = 7196;
+    int field7197 = 7197;
+    int field7198 = 7198;
+    int field7199 = 7199;
+    int field7200 = 7200;
+    int field7201 = 7201;
+    int field7202 = 7202;
+    int field7203 = 7203;
+    int field7204 = 7204;
+    int field7205 = 7205;
+    int field7206 = 7206;
+    int field7207 = 7207;
+    int field7208 = 7208;
+    int field7209 = 7209;
+    int field7210 = 7210;
+    int field7211 = 7211;
+    int field7212 = 7212;
+    int field7213 = 7213;
+    int field7214 = 7214;
+    int field7215 = 7215;
+    int field7216 = 7216;
+    int field7217 = 7217;
+    int field7218 = 7218;
+    int field7219 = 7219;
+    int field7220 = 7220;
+    int field7221 = 7221;
+    int field7222 = 7222;
+    int field7223 = 7223;
+    int field7224 = 7224;
+    int field7225 = 7225;
+    int field7226 = 7226;
+    int field7227 = 7227;
+    int field7228 = 7228;
+    int field7229 = 7229;
+    int field7230 = 7230;
+    int field7231 = 7231;
+    int field7232 = 7232;
+    int field7233 = 7233;
+    int field7234 = 7234;
+    int field7235 = 7235;
+    int field7236 = 7236;
+    int field7237 = 7237;
+    int field7238 = 7238;
+    int field7239 = 7239;
+    int field7240 = 7240;
+    int field7241 = 7241;
+    int field7242 = 7242;
+    int field7243 = 7243;
+    int field7244 = 7244;
+    int field7245 = 7245;
+    int field7246 = 7246;
+    int field7247 = 7247;
+    int field7248 = 7248;
+    int field7249 = 7249;
+    int field7250 = 7250;
+    int field7251 = 7251;
+    int field7252 = 7252;
+    int field7253 = 7253;
+    int field7254 = 7254;
+    int field7255 = 7255;
+    int field7256 = 7256;
+    int field7257 = 7257;
+    int field7258 = 7258;
+    int field7259 = 7259;
+    int field7260 = 7260;
+    int field7261 = 7261;
+    int field7262 = 7262;
+    int field7263 = 7263;
+    int field7264 = 7264;
+    int field7265 = 7265;
+    int field7266 = 7266;
+    int field7267 = 7267;
+    int field7268 = 7268;
+    int field7269 = 7269;
+    int field7270 = 7270;
+    int field7271 = 7271;
+    int field7272 = 7272;
+    int field7273 = 7273;
+    int field7274 = 7274;
+    int field7275 = 7275;
+    int field7276 = 7276;
+    int field7277 = 7277;
+    int field7278 = 7278;
+    int field7279 = 7279;
+    int field7280 = 7280;
+    int field7281 = 7281;
+    int field7282 = 7282;
+    int field7283 = 7283;
+    int field7284 = 7284;
+    int field7285 = 7285;
+    int field7286 = 7286;
+    int field7287 = 7287;
+    int field7288 = 7288;
+    int field7289 = 7289;
+    int field7290 = 7290;
+    int field7291 = 7291;
+    int field7292 = 7292;
+    int field7293 = 7293;
+    int field7294 = 7294;
+    int field7295 = 7295;
+    int field7296 = 7296;
+    int field7297 = 7297;
+    int field7298 = 7298;
+    int field7299 = 7299;
+    int field7300 = 7300;
+    int field7301 = 7301;
+    int field7302 = 7302;
+    int field7303 = 7303;
+    int field7304 = 7304;
+    int field7305 = 7305;
+    int field7306 = 7306;
+    int field7307 = 7307;
+    int field7308 = 7308;
+    int field7309 = 7309;
+    int field7310 = 7310;
+    int field7311 = 7311;
+    int field7312 = 7312;
+    int field7313 = 7313;
+    int field7314 = 7314;
+    int field7315 = 7315;
+    int field7316 = 7316;
+    int field7317 = 7317;
+    int field7318 = 7318;
+    int field7319 = 7319;
+    int field7320 = 7320;
+    int field7321 = 7321;
+    int field7322 = 7322;
+    int field7323 = 7323;
+    int field7324 = 7324;
+    int field7325 = 7325;
+    int field7326 = 7326;
+    int field7327 = 7327;
+    int field7328 = 7328;
+    int field7329 = 7329;
+    int field7330 = 7330;
+    int field7331 = 7331;
+    int field7332 = 7332;
+    int field7333 = 7333;
+    int field7334 = 7334;
+    int field7335 = 7335;
+    int field7336 = 7336;
+    int field7337 = 7337;
+    int field7338 = 7338;
+    int field7339 = 7339;
+    int field7340 = 7340;
+    int field7341 = 7341;
+    int field7342 = 7342;
+    int field7343 = 7343;
+    int field7344 = 7344;
+    int field7345 = 7345;
+    int field7346 = 7346;
+    int field7347 = 7347;
+    int field7348 = 7348;
+    int field7349 = 7349;
+    int field7350 = 7350;
+    int field7351 = 7351;
+    int field7352 = 7352;
+    int field7353 = 7353;
+    int field7354 = 7354;
+    int field7355 = 7355;
+    int field7356 = 7356;
+    int field7357 = 7357;
+    int field7358 = 7358;
+    int field7359 = 7359;
+    int field7360 = 7360;
+    int field7361 = 7361;
+    int field7362 = 7362;
+    int field7363 = 7363;
+    int field7364 = 7364;
+    int field7365 = 7365;
+    int field7366 = 7366;
+    int field7367 = 7367;
+    int field7368 = 7368;
+    int field7369 = 7369;
+    int field7370 = 7370;
+    int field7371 = 7371;
+    int field7372 = 7372;
+    int field7373 = 7373;
+    int field7374 = 7374;
+    int field7375 = 7375;
+    int field7376 = 7376;
+    int field7377 = 7377;
+    int field7378 = 7378;
+    int field7379 = 7379;
+    int field7380 = 7380;
+    int field7381 = 7381;
+    int field7382 = 7382;
+    int field7383 = 7383;
+    int field7384 = 7384;
+    int field7385 = 7385;
+    int field7386 = 7386;
+    int field7387 = 7387;
+    int field7388 = 7388;
+    int field7389 = 7389;
+    int field7390 = 7390;
+    int field7391 = 7391;
+    int field7392 = 7392;
+    int field7393 = 7393;
+    int field7394 = 7394;
+    int field7395 = 7395;
+    int field7396 = 7396;
+    int field7397 = 7397;
+    int field7398 = 7398;
+    int field7399 = 7399;
+    int field7400 = 7400;
+    int field7401 = 7401;
+    int field7402 = 7402;
+    int field7403 = 7403;
+    int field7404 = 7404;
+    int field7405 = 7405;
+    int field7406 = 7406;
+    int field7407 = 7407;
+    int field7408 = 7408;
+    int field7409 = 7409;
+    int field7410 = 7410;
+    int field7411 = 7411;
+    int field7412 = 7412;
+    int field7413 = 7413;
+    int field7414 = 7414;
+    int field7415 = 7415;
+    int field7416 = 7416;
+    int field7417 = 7417;
+    int field7418 = 7418;
+    int field7419 = 7419;
+    int field7420 = 7420;
+    int field7421 = 7421;
+    int field7422 = 7422;
+    int field7423 = 7423;
+    int field7424 = 7424;
+    int field7425 = 7425;
+    int field7426 = 7426;
+    int field7427 = 7427;
+    int field7428 = 7428;
+    int field7429 = 7429;
+    int field7430 = 7430;
+    int field7431 = 7431;
+    int field7432 = 7432;
+    int field7433 = 7433;
+    int field7434 = 7434;
+    int field7435 = 7435;
+    int field7436 = 7436;
+    int field7437 = 7437;
+    int field7438 = 7438;
+    int field7439 = 7439;
+    int field7440 = 7440;
+    int field7441 = 7441;
+    int field7442 = 7442;
+    int field7443 = 7443;
+    int field7444 = 7444;
+    int field7445 = 7445;
+    int field7446 = 7446;
+    int field7447 = 7447;
+    int field7448 = 7448;
+    int field7449 = 7449;
+    int field7450 = 7450;
+    int field7451 = 7451;
+    int field7452 = 7452;
+    int field7453 = 7453;
+    int field7454 = 7454;
+    int field7455 = 7455;
+    int field7456 = 7456;
+    int field7457 = 7457;
+    int field7458 = 7458;
+    int field7459 = 7459;
+    int field7460 = 7460;
+    int field7461 = 7461;
+    int field7462 = 7462;
+    int field7463 = 7463;
+    int field7464 = 7464;
+    int field7465 = 7465;
+    int field7466 = 7466;
+    int field7467 = 7467;
+    int field7468 = 7468;
+    int field7469 = 7469;
+    int field7470 = 7470;
+    int field7471 = 7471;
+    int field7472 = 7472;
+    int field7473 = 7473;
+    int field7474 = 7474;
+    int field7475 = 7475;
+    int field7476 = 7476;
+    int field7477 = 7477;
+    int field7478 = 7478;
+    int field7479 = 7479;
+    int field7480 = 7480;
+    int field7481 = 7481;
+    int field7482 = 7482;
+    int field7483 = 7483;
+    int field7484 = 7484;
+    int field7485 = 7485;
+    int field7486 = 7486;
+    int field7487 = 7487;
+    int field7488 = 7488;
+    int field7489 = 7489;
+    int field7490 = 7490;
+    int field7491 = 7491;
+    int field7492 = 7492;
+    int field7493 = 7493;
+    int field7494 = 7494;
+    int field7495 = 7495;
+    int field7496 = 7496;
+    int field7497 = 7497;
+    int field7498 = 7498;
+    int field7499 = 7499;
+    int field7500 = 7500;
+    int field7501 = 7501;
+    int field7502 = 7502;
+    int field7503 = 7503;
+    int field7504 = 7504;
+    int field7505 = 7505;
+    int field7506 = 7506;
+    int field7507 = 7507;
+    int field7508 = 7508;
+    int field7509 = 7509;
+    int field7510 = 7510;
+    int field7511 = 7511;
+    int field7512 = 7512;
+    int field7513 = 7513;
+    int field7514 = 7514;
+    int field7515 = 7515;
+    int field7516 = 7516;
+    int field7517 = 7517;
+    int field7518 = 7518;
+    int field7519 = 7519;
+    int field7520 = 7520;
+    int field7521 = 7521;
+    int field7522 = 7522;
+    int field7523 = 7523;
+    int field7524 = 7524;
+    int field7525 = 7525;
+    int field7526 = 7526;
+    int field7527 = 7527;
+    int field7528 = 7528;
+    int field7529 = 7529;
+    int field7530 = 7530;
+    int field7531 = 7531;
+    int field7532 = 7532;
+    int field7533 = 7533;
+    int field7534 = 7534;
+    int field7535 = 7535;
+    int field7536 = 7536;
+    int field7537 = 7537;
+    int field7538 = 7538;
+    int field7539 = 7539;
+    int field7540 = 7540;
+    int field7541 = 7541;
+    int field7542 = 7542;
+    int field7543 = 7543;
+    int field7544 = 7544;
+    int field7545 = 7545;
+    int field7546 = 7546;
+    int field7547 = 7547;
+    int field7548 = 7548;
+    int field7549 = 7549;
+    int field7550 = 7550;
+    int field7551 = 7551;
+    int field7552 = 7552;
+    int field7553 = 7553;
+    int field7554 = 7554;
+    int field7555 = 7555;
+    int field7556 = 7556;
+    int field7557 = 7557;
+    int field7558 = 7558;
+    int field7559 = 7559;
+    int field7560 = 7560;
+    int field7561 = 7561;
+    int field7562 = 7562;
+    int field7563 = 7563;
+    int field7564 = 7564;
+    int field7565 = 7565;
+    int field7566 = 7566;
+    int field7567 = 7567;
+    int field7568 = 7568;
+    int field7569 = 7569;
+    int field7570 = 7570;
+    int field7571 = 7571;
+    int field7572 = 7572;
+    int field7573 = 7573;
+    int field7574 = 7574;
+    int field7575 = 7575;
+    int field7576 = 7576;
+    int field7577 = 7577;
+    int field7578 = 7578;
+    int field7579 = 7579;
+    int field7580 = 7580;
+    int field7581 = 7581;
+    int field7582 = 7582;
+    int field7583 = 7583;
+    int field7584 = 7584;
+    int field7585 = 7585;
+    int field7586 = 7586;
+    int field7587 = 7587;
+    int field7588 = 7588;
+    int field7589 = 7589;
+    int field7590 = 7590;
+    int field7591 = 7591;
+    int field7592 = 7592;
+    int field7593 = 7593;
+    int field7594 = 7594;
+    int field7595 = 7595;
+    int field7596 = 7596;
+    int field7597 = 7597;
+    int field7598 = 7598;
+    int field7599 = 7599;
+    int field7600 = 7600;
+    int field7601 = 7601;
+    int field7602 = 7602;
+    int field7603 = 7603;
+    int field7604 = 7604;
+    int field7605 = 7605;
+    int field7606 = 7606;
+    int field7607 = 7607;
+    int field7608 = 7608;
+    int field7609 = 7609;
+    int field7610 = 7610;
+    int field7611 = 7611;
+    int field7612 = 7612;
+    int field7613 = 7613;
+    int field7614 = 7614;
+    int field7615 = 7615;
+    int field7616 = 7616;
+    int field7617 = 7617;
+    int field7618 = 7618;
+    int field7619 = 7619;
+    int field7620 = 7620;
+    int field7621 = 7621;
+    int field7622 = 7622;
+    int field7623 = 7623;
+    int field7624 = 7624;
+    int field7625 = 7625;
+    int field7626 = 7626;
+    int field7627 = 7627;
+    int field7628 = 7628;
+    int field7629 = 7629;
+    int field7630 = 7630;
+    int field7631 = 7631;
+    int field7632 = 7632;
+    int field7633 = 7633;
+    int field7634 = 7634;
+    int field7635 = 7635;
+    int field7636 = 7636;
+    int field7637 = 7637;
+    int field7638 = 7638;
+    int field7639 = 7639;
+    int field7640 = 7640;
+    int field7641 = 7641;
+    int field7642 = 7642;
+    int field7643 = 7643;
+    int field7644 = 7644;
+    int field7645 = 7645;
+    int field7646 = 7646;
+    int field7647 = 7647;
+    int field7648 = 7648;
+    int field7649 = 7649;
+    int field7650 = 7650;
+    int field7651 = 7651;
+    int field7652 = 7652;
+    int field7653 = 7653;
+    int field7654 = 7654;
+    int field7655 = 7655;
+    int field7656 = 7656;
+    int field7657 = 7657;
+    int field7658 = 7658;
+    int field7659 = 7659;
+    int field7660 = 7660;
+    int field7661 = 7661;
+    int field7662 = 7662;
+    int field7663 = 7663;
+    int field7664 = 7664;
+    int field7665 = 7665;
+    int field7666 = 7666;
+    int field7667 = 7667;
+    int field7668 = 7668;
+    int field7669 = 7669;
+    int field7670 = 7670;
+    int field7671 = 7671;
+    int field7672 = 7672;
+    int field7673 = 7673;
+    int field7674 = 7674;
+    int field7675 = 7675;
+    int field7676 = 7676;
+    int field7677 = 7677;
+    int field7678 = 7678;
+    int field7679 = 7679;
+    int field7680 = 7680;
+    int field7681 = 7681;
+    int field7682 = 7682;
+    int field7683 = 7683;
+    int field7684 = 7684;
+    int field7685 = 7685;
+    int field7686 = 7686;
+    int field7687 = 7687;
+    int field7688 = 7688;
+    int field7689 = 7689;
+    int field7690 = 7690;
+    int field7691 = 7691;
+    int field7692 = 7692;
+    int field7693 = 7693;
+    int field7694 = 7694;
+    int field7695 = 7695;
+    int field7696 = 7696;
+    int field7697 = 7697;
+    int field7698 = 7698;
+    int field7699 = 7699;
+    int field7700 = 7700;
+    int field7701 = 7701;
+    int field7702 = 7702;
+    int field7703 = 7703;
+    int field7704 = 7704;
+    int field7705 = 7705;
+    int field7706 = 7706;
+    int field7707 = 7707;
+    int field7708 = 7708;
+    int field7709 = 7709;
+    int field7710 = 7710;
+    int field7711 = 7711;
+    int field7712 = 7712;
+    int field7713 = 7713;
+    int field7714 = 7714;
+    int field7715 = 7715;
+    int field7716 = 7716;
+    int field7717 = 7717;
+    int field7718 = 7718;
+    int field7719 = 7719;
+    int field7720 = 7720;
+    int field7721 = 7721;
+    int field7722 = 7722;
+    int field7723 = 7723;
+    int field7724 = 7724;
+    int field7725 = 7725;
+    int field7726 = 7726;
+    int field7727 = 7727;
+    int field7728 = 7728;
+    int field7729 = 7729;
+    int field7730 = 7730;
+    int field7731 = 7731;
+    int field7732 = 7732;
+    int field7733 = 7733;
+    int field7734 = 7734;
+    int field7735 = 7735;
+    int field7736 = 7736;
+    int field7737 = 7737;
+    int field7738 = 7738;
+    int field7739 = 7739;
+    int field7740 = 7740;
+    int field7741 = 7741;
+    int field7742 = 7742;
+    int field7743 = 7743;
+    int field7744 = 7744;
+    int field7745 = 7745;
+    int field7746 = 7746;
+    int field7747 = 7747;
+    int field7748 = 7748;
+    int field7749 = 7749;
+    int field7750 = 7750;
+    int field7751 = 7751;
+    int field7752 = 7752;
+    int field7753 = 7753;
+    int field7754 = 7754;
+    int field7755 = 7755;
+    int field7756 = 7756;
+    int field7757 = 7757;
+    int field7758 = 7758;
+    int field7759 = 7759;
+    int field7760 = 7760;
+    int field7761 = 7761;
+    int field7762 = 7762;
+    int field7763 = 7763;
+    int field7764 = 7764;
+    int field7765 = 7765;
+    int field7766 = 7766;
+    int field7767 = 7767;
+    int field7768 = 7768;
+    int field7769 = 7769;
+    int field7770 = 7770;
+    int field7771 = 7771;
+    int field7772 = 7772;
+    int field7773 = 7773;
+    int field7774 = 7774;
+    int field7775 = 7775;
+    int field7776 = 7776;
+    int field7777 = 7777;
+    int field7778 = 7778;
+    int field7779 = 7779;
+    int field7780 = 7780;
+    int field7781 = 7781;
+    int field7782 = 7782;
+    int field7783 = 7783;
+    int field7784 = 7784;
+    int field7785 = 7785;
+    int field7786 = 7786;
+    int field7787 = 7787;
+    int field7788 = 7788;
+    int field7789 = 7789;
+    int field7790 = 7790;
+    int field7791 = 7791;
+    int field7792 = 7792;
+    int field7793 = 7793;
+    int field7794 = 7794;
+    int field7795 = 7795;
+    int field7796 = 7796;
+    int field7797 = 7797;
+    int field7798 = 7798;
+    int field7799 = 7799;
+    int field7800 = 7800;
+    int field7801 = 7801;
+    int field7802 = 7802;
+    int field7803 = 7803;
+    int field7804 = 7804;
+    int field7805 = 7805;
+    int field7806 = 7806;
+    int field7807 = 7807;
+    int field7808 = 7808;
+    int field7809 = 7809;
+    int field7810 = 7810;
+    int field7811 = 7811;
+    int field7812 = 7812;
+    int field7813 = 7813;
+    int field7814 = 7814;
+    int field7815 = 7815;
+    int field7816 = 7816;
+    int field7817 = 7817;
+    int field7818 = 7818;
+    int field7819 = 7819;
+    int field7820 = 7820;
+    int field7821 = 7821;
+    int field7822 = 7822;
+    int field7823 = 7823;
+    int field7824 = 7824;
+    int field7825 = 7825;
+    int field7826 = 7826;
+    int field7827 = 7827;
+    int field7828 = 7828;
+    int field7829 = 7829;
+    int field7830 = 7830;
+    int field7831 = 7831;
+    int field7832 = 7832;
+    int field7833 = 7833;
+    int field7834 = 7834;
+    int field7835 = 7835;
+    int field7836 = 7836;
+    int field7837 = 7837;
+    int field7838 = 7838;
+    int field7839 = 7839;
+    int field7840 = 7840;
+    int field7841 = 7841;
+    int field7842 = 7842;
+    int field7843 = 7843;
+    int field7844 = 7844;
+    int field7845 = 7845;
+    int field7846 = 7846;
+    int field7847 = 7847;
+    int field7848 = 7848;
+    int field7849 = 7849;
+    int field7850 = 7850;
+    int field7851 = 7851;
+    int field7852 = 7852;
+    int field7853 = 7853;
+    int field7854 = 7854;
+    int field7855 = 7855;
+    int field7856 = 7856;
+    int field7857 = 7857;
+    int field7858 = 7858;
+    int field7859 = 7859;
+    int field7860 = 7860;
+    int field7861 = 7861;
+    int field7862 = 7862;
+    int field7863 = 7863;
+    int field7864 = 7864;
+    int field7865 = 7865;
+    int field7866 = 7866;
+    int field7867 = 7867;
+    int field7868 = 7868;
+    int field7869 = 7869;
+    int field7870 = 7870;
+    int field7871 = 7871;
+    int field7872 = 7872;
+    int field7873 = 7873;
+    int field7874 = 7874;
+    int field7875 = 7875;
+    int field7876 = 7876;
+    int field7877 = 7877;
+    int field7878 = 7878;
+    int field7879 = 7879;
+    int field7880 = 7880;
+    int field7881 = 7881;
+    int field7882 = 7882;
+    int field7883 = 7883;
+    int field7884 = 7884;
+    int field7885 = 7885;
+    int field7886 = 7886;
+    int field7887 = 7887;
+    int field7888 = 7888;
+    int field7889 = 7889;
+    int field7890 = 7890;
+    int field7891 = 7891;
+    int field7892 = 7892;
+    int field7893 = 7893;
+    int field7894 = 7894;
+    int field7895 = 7895;
+    int field7896 = 7896;
+    int field7897 = 7897;
+    int field7898 = 7898;
+    int field7899 = 7899;
+    int field7900 = 7900;
+    int field7901 = 7901;
+    int field7902 = 7902;
+    int field7903 = 7903;
+    int field7904 = 7904;
+    int field7905 = 7905;
+    int field7906 = 7906;
+    int field7907 = 7907;
+    int field7908 = 7908;
+    int field7909 = 7909;
+    int field7910 = 7910;
+    int field7911 = 7911;
+    int field7912 = 7912;
+    int field7913 = 7913;
+    int field7914 = 7914;
+    int field7915 = 7915;
+    int field7916 = 7916;
+    int field7917 = 7917;
+    int field7918 = 7918;
+    int field7919 = 7919;
+    int field7920 = 7920;
+    int field7921 = 7921;
+    int field7922 = 7922;
+    int field7923 = 7923;
+    int field7924 = 7924;
+    int field7925 = 7925;
+    int field7926 = 7926;
+    int field7927 = 7927;
+    int field7928 = 7928;
+    int field7929 = 7929;
+    int field7930 = 7930;
+    int field7931 = 7931;
+    int field7932 = 7932;
+    int field7933 = 7933;
+    int field7934 = 7934;
+    int field7935 = 7935;
+    int field7936 = 7936;
+    int field7937 = 7937;
+    int field7938 = 7938;
+    int field7939 = 7939;
+    int field7940 = 7940;
+    int field7941 = 7941;
+    int field7942 = 7942;
+    int field7943 = 7943;
+    int field7944 = 7944;
+    int field7945 = 7945;
+    int field7946 = 7946;
+    int field7947 = 7947;
+    int field7948 = 7948;
+    int field7949 = 7949;
+    int field7950 = 7950;
+    int field7951 = 7951;
+    int field7952 = 7952;
+    int field7953 = 7953;
+    int field7954 = 7954;
+    int field7955 = 7955;
+    int field7956 = 7956;
+    int field7957 = 7957;
+    int field7958 = 7958;
+    int field7959 = 7959;
+    int field7960 = 7960;
+    int field7961 = 7961;
+    int field7962 = 7962;
+    int field7963 = 7963;
+    int field7964 = 7964;
+    int field7965 = 7965;
+    int field7966 = 7966;
+    int field7967 = 7967;
+    int field7968 = 7968;
+    int field7969 = 7969;
+    int field7970 = 7970;
+    int field7971 = 7971;
+    int field7972 = 7972;
+    int field7973 = 7973;
+    int field7974 = 7974;
+    int field7975 = 7975;
+    int field7976 = 7976;
+    int field7977 = 7977;
+    int field7978 = 7978;
+    int field7979 = 7979;
+    int field7980 = 7980;
+    int field7981 = 7981;
+    int field7982 = 7982;
+    int field7983 = 7983;
+    int field7984 = 7984;
+    int field7985 = 7985;
+    int field7986 = 7986;
+    int field7987 = 7987;
+    int field7988 = 7988;
+    int field7989 = 7989;
+    int field7990 = 7990;
+    int field7991 = 7991;
+    int field7992 = 7992;
+    int field7993 = 7993;
+    int field7994 = 7994;
+    int field7995 = 7995;
+    int field7996 = 7996;
+    int field7997 = 7997;
+    int field7998 = 7998;
+    int field7999 = 7999;
+    int field8000 = 8000;
+    int field8001 = 8001;
+    int field8002 = 8002;
+    int field8003 = 8003;
+    int field8004 = 8004;
+    int field8005 = 8005;
+    int field8006 = 8006;
+    int field8007 = 8007;
+    int field8008 = 8008;
+    int field8009 = 8009;
+    int field8010 = 8010;
+    int field8011 = 8011;
+    int field8012 = 8012;
+    int field8013 = 8013;
+    int field8014 = 8014;
+    int field8015 = 8015;
+    int field8016 = 8016;
+    int field8017 = 8017;
+    int field8018 = 8018;
+    int field8019 = 8019;
+    int field8020 = 8020;
+    int field8021 = 8021;
+    int field8022 = 8022;
+    int field8023 = 8023;
+    int field8024 = 8024;
+    int field8025 = 8025;
+    int field8026 = 8026;
+    int field8027 = 8027;
+    int field8028 = 8028;
+    int field8029 = 8029;
+    int field8030 = 8030;
+    int field8031 = 8031;
+    int field8032 = 8032;
+    int field8033 = 8033;
+    int field8034 = 8034;
+    int field8035 = 8035;
+    int field8036 = 8036;
+    int field8037 = 8037;
+    int field8038 = 8038;
+    int field8039 = 8039;
+    int field8040 = 8040;
+    int field8041 = 8041;
+    int field8042 = 8042;
+    int field8043 = 8043;
+    int field8044 = 8044;
+    int field8045 = 8045;
+    int field8046 = 8046;
+    int field8047 = 8047;
+    int field8048 = 8048;
+    int field8049 = 8049;
+    int field8050 = 8050;
+    int field8051 = 8051;
+    int field8052 = 8052;
+    int field8053 = 8053;
+    int field8054 = 8054;
+    int field8055 = 8055;
+    int field8056 = 8056;
+    int field8057 = 8057;
+    int field8058 = 8058;
+    int field8059 = 8059;
+    int field8060 = 8060;
+    int field8061 = 8061;
+    int field8062 = 8062;
+    int field8063 = 8063;
+    int field8064 = 8064;
+    int field8065 = 8065;
+    int field8066 = 8066;
+    int field8067 = 8067;
+    int field8068 = 8068;
+    int field8069 = 8069;
+    int field8070 = 8070;
+    int field8071 = 8071;
+    int field8072 = 8072;
+    int field8073 = 8073;
+    int field8074 = 8074;
+    int field8075 = 8075;
+    int field8076 = 8076;
+    int field8077 = 8077;
+    int field8078 = 8078;
+    int field8079 = 8079;
+    int field8080 = 8080;
+    int field8081 = 8081;
+    int field8082 = 8082;
+    int field8083 = 8083;
+    int field8084 = 8084;
+    int field8085 = 8085;
+    int field8086 = 8086;
+    int field8087 = 8087;
+    int field8088 = 8088;
+    int field8089 = 8089;
+    int field8090 = 8090;
+    int field8091 = 8091;
+    int field8092 = 8092;
+    int field8093 = 8093;
+    int field8094 = 8094;
+    int field8095 = 8095;
+    int field8096 = 8096;
+    int field8097 = 8097;
+    int field8098 = 8098;
+    int field8099 = 8099;
+    int field8100 = 8100;
+    int field8101 = 8101;
+    int field8102 = 8102;
+    int field8103 = 8103;
+    int field8104 = 8104;
+    int field8105 = 8105;
+    int field8106 = 8106;
+    int field8107 = 8107;
+    int field8108 = 8108;
+    int field8109 = 8109;
+    int field8110 = 8110;
+    int field8111 = 8111;
+    int field8112 = 8112;
+    int field8113 = 8113;
+    int field8114 = 8114;
+    int field8115 = 8115;
+    int field8116 = 8116;
+    int field8117 = 8117;
+    int field8118 = 8118;
+    int field8119 = 8119;
+    int field8120 = 8120;
+    int field8121 = 8121;
+    int field8122 = 8122;
+    int field8123 = 8123;
+    int field8124 = 8124;
+    int field8125 = 8125;
+    int field8126 = 8126;
+    int field8127 = 8127;
+    int field8128 = 8128;
+    int field8129 = 8129;
+    int field8130 = 8130;
+    int field8131 = 8131;
+    int field8132 = 8132;
+    int field8133 = 8133;
+    int field8134 = 8134;
+    int field8135 = 8135;
+    int field8136 = 8136;
+    int field8137 = 8137;
+    int field8138 = 8138;
+    int field8139 = 8139;
+    int field8140 = 8140;
+    int field8141 = 8141;
+    int field8142 = 8142;
+    int field8143 = 8143;
+    int field8144 = 8144;
+    int field8145 = 8145;
+    int field8146 = 8146;
+    int field8147 = 8147;
+    int field8148 = 8148;
+    int field8149 = 8149;
+    int field8150 = 8150;
+    int field8151 = 8151;
+    int field8152 = 8152;
+    int field8153 = 8153;
+    int field8154 = 8154;
+    int field8155 = 8155;
+    int field8156 = 8156;
+    int field8157 = 8157;
+    int field8158 = 8158;
+    int field8159 = 8159;
+    int field8160 = 8160;
+    int field8161 = 8161;
+    int field8162 = 8162;
+    int field8163 = 8163;
+    int field8164 = 8164;
+    int field8165 = 8165;
+    int field8166 = 8166;
+    int field8167 = 8167;
+    int field8168 = 8168;
+    int field8169 = 8169;
+    int field8170 = 8170;
+    int field8171 = 8171;
+    int field8172 = 8172;
+    int field8173 = 8173;
+    int field8174 = 8174;
+    int field8175 = 8175;
+    int field8176 = 8176;
+    int field8177 = 8177;
+    int field8178 = 8178;
+    int field8179 = 8179;
+    int field8180 = 8180;
+    int field8181 = 8181;
+    int field8182 = 8182;
+    int field8183 = 8183;
+    int field8184 = 8184;
+    int field8185 = 8185;
+    int field8186 = 8186;
+    int field8187 = 8187;
+    int field8188 = 8188;
+    int field8189 = 8189;
+    int field8190 = 8190;
+    int field8191 = 8191;
+    int field8192 = 8192;
+    int field8193 = 8193;
+    int field8194 = 8194;
+    int field8195 = 8195;
+    int field8196 = 8196;
+    int field8197 = 8197;
+    int field8198 = 8198;
+    int field8199 = 8199;
+    int field8200 = 8200;
+    int field8201 = 8201;
+    int field8202 = 8202;
+    int field8203 = 8203;
+    int field8204 = 8204;
+    int field8205 = 8205;
+    int field8206 = 8206;
+    int field8207 = 8207;
+    int field8208 = 8208;
+    int field8209 = 8209;
+    int field8210 = 8210;
+    int field8211 = 8211;
+    int field8212 = 8212;
+    int field8213 = 8213;
+    int field8214 = 8214;
+    int field8215 = 8215;
+    int field8216 = 8216;
+    int field8217 = 8217;
+    int field8218 = 8218;
+    int field8219 = 8219;
+    int field8220 = 8220;
+    int field8221 = 8221;
+    int field8222 = 8222;
+    int field8223 = 8223;
+    int field8224 = 8224;
+    int field8225 = 8225;
+    int field8226 = 8226;
+    int field8227 = 8227;
+    int field8228 = 8228;
+    int field8229 = 8229;
+    int field8230 = 8230;
+    int field8231 = 8231;
+    int field8232 = 8232;
+    int field8233 = 8233;
+    int field8234 = 8234;
+    int field8235 = 8235;
+    int field8236 = 8236;
+    int field8237 = 8237;
+    int field8238 = 8238;
+    int field8239 = 8239;
+    int field8240 = 8240;
+    int field8241 = 8241;
+    int field8242 = 8242;
+    int field8243 = 8243;
+    int field8244 = 8244;
+    int field8245 = 8245;
+    int field8246 = 8246;
+    int field8247 = 8247;
+    int field8248 = 8248;
+    int field8249 = 8249;
+    int field8250 = 8250;
+    int field8251 = 8251;
+    int field8252 = 8252;
+    int field8253 = 8253;
+    int field8254 = 8254;
+    int field8255 = 8255;
+    int field8256 = 8256;
+    int field8257 = 8257;
+    int field8258 = 8258;
+    int field8259 = 8259;
+    int field8260 = 8260;
+    int field8261 = 8261;
+    int field8262 = 8262;
+    int field8263 = 8263;
+    int field8264 = 8264;
+    int field8265 = 8265;
+    int field8266 = 8266;
+    int field8267 = 8267;
+    int field8268 = 8268;
+    int field8269 = 8269;
+    int field8270 = 8270;
+    int field8271 = 8271;
+    int field8272 = 8272;
+    int field8273 = 8273;
+    int field8274 = 8274;
+    int field8275 = 8275;
+    int field8276 = 8276;
+    int field8277 = 8277;
+    int field8278 = 8278;
+    int field8279 = 8279;
+    int field8280 = 8280;
+    int field8281 = 8281;
+    int field8282 = 8282;
+    int field8283 = 8283;
+    int field8284 = 8284;
+    int field8285 = 8285;
+    int field8286 = 8286;
+    int field8287 = 8287;
+    int field8288 = 8288;
+    int field8289 = 8289;
+    int field8290 = 8290;
+    int field8291 = 8291;
+    int field8292 = 8292;
+    int field8293 = 8293;
+    int field8294 = 8294;
+    int field8295 = 8295;
+    int field8296 = 8296;
+    int field8297 = 8297;
+    int field8298 = 8298;
+    int field8299 = 8299;
+    int field8300 = 8300;
+    int field8301 = 8301;
+    int field8302 = 8302;
+    int field8303 = 8303;
+    int field8304 = 8304;
+    int field8305 = 8305;
+    int field8306 = 8306;
+    int field8307 = 8307;
+    int field8308 = 8308;
+    int field8309 = 8309;
+    int field8310 = 8310;
+    int field8311 = 8311;
+    int field8312 = 8312;
+    int field8313 = 8313;
+    int field8314 = 8314;
+    int field8315 = 8315;
+    int field8316 = 8316;
+    int field8317 = 8317;
+    int field8318 = 8318;
+    int field8319 = 8319;
+    int field8320 = 8320;
+    int field8321 = 8321;
+    int field8322 = 8322;
+    int field8323 = 8323;
+    int field8324 = 8324;
+    int field8325 = 8325;
+    int field8326 = 8326;
+    int field8327 = 8327;
+    int field8328 = 8328;
+    int field8329 = 8329;
+    int field8330 = 8330;
+    int field8331 = 8331;
+    int field8332 = 8332;
+    int field8333 = 8333;
+    int field8334 = 8334;
+    int field8335 = 8335;
+    int field8336 = 8336;
+    int field8337 = 8337;
+    int field8338 = 8338;
+    int field8339 = 8339;
+    int field8340 = 8340;
+    int field8341 = 8341;
+    int field8342 = 8342;
+    int field8343 = 8343;
+    int field8344 = 8344;
+    int field8345 = 8345;
+    int field8346 = 8346;
+    int field8347 = 8347;
+    int field8348 = 8348;
+    int field8349 = 8349;
+    int field8350 = 8350;
+    int field8351 = 8351;
+    int field8352 = 8352;
+    int field8353 = 8353;
+    int field8354 = 8354;
+    int field8355 = 8355;
+    int field8356 = 8356;
+    int field8357 = 8357;
+    int field8358 = 8358;
+    int field8359 = 8359;
+    int field8360 = 8360;
+    int field8361 = 8361;
+    int field8362 = 8362;
+    int field8363 = 8363;
+    int field8364 = 8364;
+    int field8365 = 8365;
+    int field8366 = 8366;
+    int field8367 = 8367;
+    int field8368 = 8368;
+    int field8369 = 8369;
+    int field8370 = 8370;
+    int field8371 = 8371;
+    int field8372 = 8372;
+    int field8373 = 8373;
+    int field8374 = 8374;
+    int field8375 = 8375;
+    int field8376 = 8376;
+    int field8377 = 8377;
+    int field8378 = 8378;
+    int field8379 = 8379;
+    int field8380 = 8380;
+    int field8381 = 8381;
+    int field8382 = 8382;
+    int field8383 = 8383;
+    int field8384 = 8384;
+    int field8385 = 8385;
+    int field8386 = 8386;
+    int field8387 = 8387;
+    int field8388 = 8388;
+    int field8389 = 8389;
+    int field8390 = 8390;
+    int field8391 = 8391;
+    int field8392 = 8392;
+    int field8393 = 8393;
+    int field8394 = 8394;
+    int field8395 = 8395;
+    int field8396 = 8396;
+    int field8397 = 8397;
+    int field8398 = 8398;
+    int field8399 = 8399;
+    int field8400 = 8400;
+    int field8401 = 8401;
+    int field8402 = 8402;
+    int field8403 = 8403;
+    int field8404 = 8404;
+    int field8405 = 8405;
+    int field8406 = 8406;
+    int field8407 = 8407;
+    int field8408 = 8408;
+    int field8409 = 8409;
+    int field8410 = 8410;
+    int field8411 = 8411;
+    int field8412 = 8412;
+    int field8413 = 8413;
+    int field8414 = 8414;
+    int field8415 = 8415;
+    int field8416 = 8416;
+    int field8417 = 8417;
+    int field8418 = 8418;
+    int field8419 = 8419;
+    int field8420 = 8420;
+    int field8421 = 8421;
+    int field8422 = 8422;
+    int field8423 = 8423;
+    int field8424 = 8424;
+    int field8425 = 8425;
+    int field8426 = 8426;
+    int field8427 = 8427;
+    int field8428 = 8428;
+    int field8429 = 8429;
+    int field8430 = 8430;
+    int field8431 = 8431;
+    int field8432 = 8432;
+    int field8433 = 8433;
+    int field8434 = 8434;
+    int field8435 = 8435;
+    int field8436 = 8436;
+    int field8437 = 8437;
+    int field8438 = 8438;
+    int field8439 = 8439;
+    int field8440 = 8440;
+    int field8441 = 8441;
+    int field8442 = 8442;
+    int field8443 = 8443;
+    int field8444 = 8444;
+    int field8445 = 8445;
+    int field8446 = 8446;
+    int field8447 = 8447;
+    int field8448 = 8448;
+    int field8449 = 8449;
+    int field8450 = 8450;
+    int field8451 = 8451;
+    int field8452 = 8452;
+    int field8453 = 8453;
+    int field8454 = 8454;
+    int field8455 = 8455;
+    int field8456 = 8456;
+    int field8457 = 8457;
+    int field8458 = 8458;
+    int field8459 = 8459;
+    int field8460 = 8460;
+    int field8461 = 8461;
+    int field8462 = 8462;
+    int field8463 = 8463;
+    int field8464 = 8464;
+    int field8465 = 8465;
+    int field8466 = 8466;
+    int field8467 = 8467;
+    int field8468 = 8468;
+    int field8469 = 8469;
+    int field8470 = 8470;
+    int field8471 = 8471;
+    int field8472 = 8472;
+    int field8473 = 8473;
+    int field8474 = 8474;
+    int field8475 = 8475;
+    int field8476 = 8476;
+    int field8477 = 8477;
+    int field8478 = 8478;
+    int field8479 = 8479;
+    int field8480 = 8480;
+    int field8481 = 8481;
+    int field8482 = 8482;
+    int field8483 = 8483;
+    int field8484 = 8484;
+    int field8485 = 8485;
+    int field8486 = 8486;
+    int field8487 = 8487;
+    int field8488 = 8488;
+    int field8489 = 8489;
+    int field8490 = 8490;
+    int field8491 = 8491;
+    int field8492 = 8492;
+    int field8493 = 8493;
+    int field8494 = 8494;
+    int field8495 = 8495;
+    int field8496 = 8496;
+    int field8497 = 8497;
+    int field8498 = 8498;
+    int field8499 = 8499;
+    int field8500 = 8500;
+    int field8501 = 8501;
+    int field8502 = 8502;
+    int field8503 = 8503;
+    int field8504 = 8504;
+    int field8505 = 8505;
+    int field8506 = 8506;
+    int field8507 = 8507;
+    int field8508 = 8508;
+    int field8509 = 8509;
+    int field8510 = 8510;
+    int field8511 = 8511;
+    int field8512 = 8512;
+    int field8513 = 8513;
+    int field8514 = 8514;
+    int field8515 = 8515;
+    int field8516 = 8516;
+    int field8517 = 8517;
+    int field8518 = 8518;
+    int field8519 = 8519;
+    int field8520 = 8520;
+    int field8521 = 8521;
+    int field8522 = 8522;
+    int field8523 = 8523;
+    int field8524 = 8524;
+    int field8525 = 8525;
+    int field8526 = 8526;
+    int field8527 = 8527;
+    int field8528 = 8528;
+    int field8529 = 8529;
+    int field8530 = 8530;
+    int field8531 = 8531;
+    int field8532 = 8532;
+    int field8533 = 8533;
+    int field8534 = 8534;
+    int field8535 = 8535;
+    int field8536 = 8536;
+    int field8537 = 8537;
+    int field8538 = 8538;
+    int field8539 = 8539;
+    int field8540 = 8540;
+    int field8541 = 8541;
+    int field8542 = 8542;
+    int field8543 = 8543;
+    int field8544 = 8544;
+    int field8545 = 8545;
+    int field8546 = 8546;
+    int field8547 = 8547;
+    int field8548 = 8548;
+    int field8549 = 8549;
+    int field8550 = 8550;
+    int field8551 = 8551;
+    int field8552 = 8552;
+    int field8553 = 8553;
+    int field8554 = 8554;
+    int field8555 = 8555;
+    int field8556 = 8556;
+    int field8557 = 8557;
+    int field8558 = 8558;
+    int field8559 = 8559;
+    int field8560 = 8560;
+    int field8561 = 8561;
+    int field8562 = 8562;
+    int field8563 = 8563;
+    int field8564 = 8564;
+    int field8565 = 8565;
+    int field8566 = 8566;
+    int field8567 = 8567;
+    int field8568 = 8568;
+    int field8569 = 8569;
+    int field8570 = 8570;
+    int field8571 = 8571;
+    int field8572 = 8572;
+    int field8573 = 8573;
+    int field8574 = 8574;
+    int field8575 = 8575;
+    int field8576 = 8576;
+    int field8577 = 8577;
+    int field8578 = 8578;
+    int field8579 = 8579;
+    int field8580 = 8580;
+    int field8581 = 8581;
+    int field8582 = 8582;
+    int field8583 = 8583;
+    int field8584 = 8584;
+    int field8585 = 8585;
+    int field8586 = 8586;
+    int field8587 = 8587;
+    int field8588 = 8588;
+    int field8589 = 8589;
+    int field8590 = 8590;
+    int field8591 = 8591;
+    int field8592 = 8592;
+    int field8593 = 8593;
+    int field8594 = 8594;
+    int field8595 = 8595;
+    int field8596 = 8596;
+    int field8597 = 8597;
+    int field8598 = 8598;
+    int field8599 = 8599;
+    int field8600 = 8600;
+    int field8601 = 8601;
+    int field8602 = 8602;
+    int field8603 = 8603;
+    int field8604 = 8604;
+    int field8605 = 8605;
+    int field8606 = 8606;
+    int field8607 = 8607;
+    int field8608 = 8608;
+    int field8609 = 8609;
+    int field8610 = 8610;
+    int field8611 = 8611;
+    int field8612 = 8612;
+    int field8613 = 8613;
+    int field8614 = 8614;
+    int field8615 = 8615;
+    int field8616 = 8616;
+    int field8617 = 8617;
+    int field8618 = 8618;
+    int field8619 = 8619;
+    int field8620 = 8620;
+    int field8621 = 8621;
+    int field8622 = 8622;
+    int field8623 = 8623;
+    int field8624 = 8624;
+    int field8625 = 8625;
+    int field8626 = 8626;
+    int field8627 = 8627;
+    int field8628 = 8628;
+    int field8629 = 8629;
+    int field8630 = 8630;
+    int field8631 = 8631;
+    int field8632 = 8632;
+    int field8633 = 8633;
+    int field8634 = 8634;
+    int field8635 = 8635;
+    int field8636 = 8636;
+    int field8637 = 8637;
+    int field8638 = 8638;
+    int field8639 = 8639;
+    int field8640 = 8640;
+    int field8641 = 8641;
+    int field8642 = 8642;
+    int field8643 = 8643;
+    int field8644 = 8644;
+    int field8645 = 8645;
+    int field8646 = 8646;
+    int field8647 = 8647;
+    int field8648 = 8648;
+    int field8649 = 8649;
+    int field8650 = 8650;
+    int field8651 = 8651;
+    int field8652 = 8652;
+    int field8653 = 8653;
+    int field8654 = 8654;
+    int field8655 = 8655;
+    int field8656 = 8656;
+    int field8657 = 8657;
+    int field8658 = 8658;
+    int field8659 = 8659;
+    int field8660 = 8660;
+    int field8661 = 8661;
+    int field8662 = 8662;
+    int field8663 = 8663;
+    int field8664 = 8664;
+    int field8665 = 8665;
+    int field8666 = 8666;
+    int field8667 = 8667;
+    int field8668 = 8668;
+    int field8669 = 8669;
+    int field8670 = 8670;
+    int field8671 = 8671;
+    int field8672 = 8672;
+    int field8673 = 8673;
+    int field8674 = 8674;
+    int field8675 = 8675;
+    int field8676 = 8676;
+    int field8677 = 8677;
+    int field8678 = 8678;
+    int field8679 = 8679;
+    int field8680 = 8680;
+    int field8681 = 8681;
+    int field8682 = 8682;
+    int field8683 = 8683;
+    int field8684 = 8684;
+    int field8685 = 8685;
+    int field8686 = 8686;
+    int field8687 = 8687;
+    int field8688 = 8688;
+    int field8689 = 8689;
+    int field8690 = 8690;
+    int field8691 = 8691;
+    int field8692 = 8692;
+    int field8693 = 8693;
+    int field8694 = 8694;
+    int field8695 = 8695;
+    int field8696 = 8696;
+    int field8697 = 8697;
+    int field8698 = 8698;
+    int field8699 = 8699;
+    int field8700 = 8700;
+    int field8701 = 8701;
+    int field8702 = 8702;
+    int field8703 = 8703;
+    int field8704 = 8704;
+    int field8705 = 8705;
+    int field8706 = 8706;
+    int field8707 = 8707;
+    int field8708 = 8708;
+    int field8709 = 8709;
+    int field8710 = 8710;
+    int field8711 = 8711;
+    int field8712 = 8712;
+    int field8713 = 8713;
+    int field8714 = 8714;
+    int field8715 = 8715;
+    int field8716 = 8716;
+    int field8717 = 8717;
+    int field8718 = 8718;
+    int field8719 = 8719;
+    int field8720 = 8720;
+    int field8721 = 8721;
+    int field8722 = 8722;
+    int field8723 = 8723;
+    int field8724 = 8724;
+    int field8725 = 8725;
+    int field8726 = 8726;
+    int field8727 = 8727;
+    int field8728 = 8728;
+    int field8729 = 8729;
+    int field8730 = 8730;
+    int field8731 = 8731;
+    int field8732 = 8732;
+    int field8733 = 8733;
+    int field8734 = 8734;
+    int field8735 = 8735;
+    int field8736 = 8736;
+    int field8737 = 8737;
+    int field8738 = 8738;
+    int field8739 = 8739;
+    int field8740 = 8740;
+    int field8741 = 8741;
+    int field8742 = 8742;
+    int field8743 = 8743;
+    int field8744 = 8744;
+    int field8745 = 8745;
+    int field8746 = 8746;
+    int field8747 = 8747;
+    int field8748 = 8748;
+    int field8749 = 8749;
+    int field8750 = 8750;
+    int field8751 = 8751;
+    int field8752 = 8752;
+    int field8753 = 8753;
+    int field8754 = 8754;
+    int field8755 = 8755;
+    int field8756 = 8756;
+    int field8757 = 8757;
+    int field8758 = 8758;
+    int field8759 = 8759;
+    int field8760 = 8760;
+    int field8761 = 8761;
+    int field8762 = 8762;
+    int field8763 = 8763;
+    int field8764 = 8764;
+    int field8765 = 8765;
+    int field8766 = 8766;
+    int field8767 = 8767;
+    int field8768 = 8768;
+    int field8769 = 8769;
+    int field8770 = 8770;
+    int field8771 = 8771;
+    int field8772 = 8772;
+    int field8773 = 8773;
+    int field8774 = 8774;
+    int field8775 = 8775;
+    int field8776 = 8776;
+    int field8777 = 8777;
+    int field8778 = 8778;
+    int field8779 = 8779;
+    int field8780 = 8780;
+    int field8781 = 8781;
+    int field8782 = 8782;
+    int field8783 = 8783;
+    int field8784 = 8784;
+    int field8785 = 8785;
+    int field8786 = 8786;
+    int field8787 = 8787;
+    int field8788 = 8788;
+    int field8789 = 8789;
+    int field8790 = 8790;
+    int field8791 = 8791;
+    int field8792 = 8792;
+    int field8793 = 8793;
+    int field8794 = 8794;
+    int field8795 = 8795;
+    int field8796 = 8796;
+    int field8797 = 8797;
+    int field8798 = 8798;
+    int field8799 = 8799;
+    int field8800 = 8800;
+    int field8801 = 8801;
+    int field8802 = 8802;
+    int field8803 = 8803;
+    int field8804 = 8804;
+    int field8805 = 8805;
+    int field8806 = 8806;
+    int field8807 = 8807;
+    int field8808 = 8808;
+    int field8809 = 8809;
+    int field8810 = 8810;
+    int field8811 = 8811;
+    int field8812 = 8812;
+    int field8813 = 8813;
+    int field8814 = 8814;
+    int field8815 = 8815;
+    int field8816 = 8816;
+    int field8817 = 8817;
+    int field8818 = 8818;
+    int field8819 = 8819;
+    int field8820 = 8820;
+    int field8821 = 8821;
+    int field8822 = 8822;
+    int field8823 = 8823;
+    int field8824 = 8824;
+    int field8825 = 8825;
+    int field8826 = 8826;
+    int field8827 = 8827;
+    int field8828 = 8828;
+    int field8829 = 8829;
+    int field8830 = 8830;
+    int field8831 = 8831;
+    int field8832 = 8832;
+    int field8833 = 8833;
+    int field8834 = 8834;
+    int field8835 = 8835;
+    int field8836 = 8836;
+    int field8837 = 8837;
+    int field8838 = 8838;
+    int field8839 = 8839;
+    int field8840 = 8840;
+    int field8841 = 8841;
+    int field8842 = 8842;
+    int field8843 = 8843;
+    int field8844 = 8844;
+    int field8845 = 8845;
+    int field8846 = 8846;
+    int field8847 = 8847;
+    int field8848 = 8848;
+    int field8849 = 8849;
+    int field8850 = 8850;
+    int field8851 = 8851;
+    int field8852 = 8852;
+    int field8853 = 8853;
+    int field8854 = 8854;
+    int field8855 = 8855;
+    int field8856 = 8856;
+    int field8857 = 8857;
+    int field8858 = 8858;
+    int field8859 = 8859;
+    int field8860 = 8860;
+    int field8861 = 8861;
+    int field8862 = 8862;
+    int field8863 = 8863;
+    int field8864 = 8864;
+    int field8865 = 8865;
+    int field8866 = 8866;
+    int field8867 = 8867;
+    int field8868 = 8868;
+    int field8869 = 8869;
+    int field8870 = 8870;
+    int field8871 = 8871;
+    int field8872 = 8872;
+    int field8873 = 8873;
+    int field8874 = 8874;
+    int field8875 = 8875;
+    int field8876 = 8876;
+    int field8877 = 8877;
+    int field8878 = 8878;
+    int field8879 = 8879;
+    int field8880 = 8880;
+    int field8881 = 8881;
+    int field8882 = 8882;
+    int field8883 = 8883;
+    int field8884 = 8884;
+    int field8885 = 8885;
+    int field8886 = 8886;
+    int field8887 = 8887;
+    int field8888 = 8888;
+    int field8889 = 8889;
+    int field8890 = 8890;
+    int field8891 = 8891;
+    int field8892 = 8892;
+    int field8893 = 8893;
+    int field8894 = 8894;
+    int field8895 = 8895;
+    int field8896 = 8896;
+    int field8897 = 8897;
+    int field8898 = 8898;
+    int field8899 = 8899;
+    int field8900 = 8900;
+    int field8901 = 8901;
+    int field8902 = 8902;
+    int field8903 = 8903;
+    int field8904 = 8904;
+    int field8905 = 8905;
+    int field8906 = 8906;
+    int field8907 = 8907;
+    int field8908 = 8908;
+    int field8909 = 8909;
+    int field8910 = 8910;
+    int field8911 = 8911;
+    int field8912 = 8912;
+    int field8913 = 8913;
+    int field8914 = 8914;
+    int field8915 = 8915;
+    int field8916 = 8916;
+    int field8917 = 8917;
+    int field8918 = 8918;
+    int field8919 = 8919;
+    int field8920 = 8920;
+    int field8921 = 8921;
+    int field8922 = 8922;
+    int field8923 = 8923;
+    int field8924 = 8924;
+    int field8925 = 8925;
+    int field8926 = 8926;
+    int field8927 = 8927;
+    int field8928 = 8928;
+    int field8929 = 8929;
+    int field8930 = 8930;
+    int field8931 = 8931;
+    int field8932 = 8932;
+    int field8933 = 8933;
+    int field8934 = 8934;
+    int field8935 = 8935;
+    int field8936 = 8936;
+    int field8937 = 8937;
+    int field8938 = 8938;
+    int field8939 = 8939;
+    int field8940 = 8940;
+    int field8941 = 8941;
+    int field8942 = 8942;
+    int field8943 = 8943;
+    int field8944 = 8944;
+    int field8945 = 8945;
+    int field8946 = 8946;
+    int field8947 = 8947;
+    int field8948 = 8948;
+    int field8949 = 8949;
+    int field8950 = 8950;
+    int field8951 = 8951;
+    int field8952 = 8952;
+    int field8953 = 8953;
+    int field8954 = 8954;
+    int field8955 = 8955;
+    int field8956 = 8956;
+    int field8957 = 8957;
+    int field8958 = 8958;
+    int field8959 = 8959;
+    int field8960 = 8960;
+    int field8961 = 8961;
+    int field8962 = 8962;
+    int field8963 = 8963;
+    int field8964 = 8964;
+    int field8965 = 8965;
+    int field8966 = 8966;
+    int field8967 = 8967;
+    int field8968 = 8968;
+    int field8969 = 8969;
+    int field8970 = 8970;
+    int field8971 = 8971;
+    int field8972 = 8972;
+    int field8973 = 8973;
+    int field8974 = 8974;
+    int field8975 = 8975;
+    int field8976 = 8976;
+    int field8977 = 8977;
+    int field8978 = 8978;
+    int field8979 = 8979;
+    int field8980 = 8980;
+    int field8981 = 8981;
+    int field8982 = 8982;
+    int field8983 = 8983;
+    int field8984 = 8984;
+    int field8985 = 8985;
+    int field8986 = 8986;
+    int field8987 = 8987;
+    int field8988 = 8988;
+    int field8989 = 8989;
+    int field8990 = 8990;
+    int field8991 = 8991;
+    int field8992 = 8992;
+    int field8993 = 8993;
+    int field8994 = 8994;
+    int field8995 = 8995;
+    int field8996 = 8996;
+    int field8997 = 8997;
+    int field8998 = 8998;
+    int field8999 = 8999;
+    int field9000 = 9000;
+    int field9001 = 9001;
+    int field9002 = 9002;
+    int field9003 = 9003;
+    int field9004 = 9004;
+    int field9005 = 9005;
+    int field9006 = 9006;
+    int field9007 = 9007;
+    int field9008 = 9008;
+    int field9009 = 9009;
+    int field9010 = 9010;
+    int field9011 = 9011;
+    int field9012 = 9012;
+    int field9013 = 9013;
+    int field9014 = 9014;
+    int field9015 = 9015;
+    int field9016 = 9016;
+    int field9017 = 9017;
+    int field9018 = 9018;
+    int field9019 = 9019;
+    int field9020 = 9020;
+    int field9021 = 9021;
+    int field9022 = 9022;
+    int field9023 = 9023;
+    int field9024 = 9024;
+    int field9025 = 9025;
+    int field9026 = 9026;
+    int field9027 = 9027;
+    int field9028 = 9028;
+    int field9029 = 9029;
+    int field9030 = 9030;
+    int field9031 = 9031;
+    int field9032 = 9032;
+    int field9033 = 9033;
+    int field9034 = 9034;
+    int field9035 = 9035;
+    int field9036 = 9036;
+    int field9037 = 9037;
+    int field9038 = 9038;
+    int field9039 = 9039;
+    int field9040 = 9040;
+    int field9041 = 9041;
+    int field9042 = 9042;
+    int field9043 = 9043;
+    int field9044 = 9044;
+    int field9045 = 9045;
+    int field9046 = 9046;
+    int field9047 = 9047;
+    int field9048 = 9048;
+    int field9049 = 9049;
+    int field9050 = 9050;
+    int field9051 = 9051;
+    int field9052 = 9052;
+    int field9053 = 9053;
+    int field9054 = 9054;
+    int field9055 = 9055;
+    int field9056 = 9056;
+    int field9057 = 9057;
+    int field9058 = 9058;
+    int field9059 = 9059;
+    int field9060 = 9060;
+    int field9061 = 9061;
+    int field9062 = 9062;
+    int field9063 = 9063;
+    int field9064 = 9064;
+    int field9065 = 9065;
+    int field9066 = 9066;
+    int field9067 = 9067;
+    int field9068 = 9068;
+    int field9069 = 9069;
+    int field9070 = 9070;
+    int field9071 = 9071;
+    int field9072 = 9072;
+    int field9073 = 9073;
+    int field9074 = 9074;
+    int field9075 = 9075;
+    int field9076 = 9076;
+    int field9077 = 9077;
+    int field9078 = 9078;
+    int field9079 = 9079;
+    int field9080 = 9080;
+    int field9081 = 9081;
+    int field9082 = 9082;
+    int field9083 = 9083;
+    int field9084 = 9084;
+    int field9085 = 9085;
+    int field9086 = 9086;
+    int field9087 = 9087;
+    int field9088 = 9088;
+    int field9089 = 9089;
+    int field9090 = 9090;
+    int field9091 = 9091;
+    int field9092 = 9092;
+    int field9093 = 9093;
+    int field9094 = 9094;
+    int field9095 = 9095;
+    int field9096 = 9096;
+    int field9097 = 9097;
+    int field9098 = 9098;
+    int field9099 = 9099;
+    int field9100 = 9100;
+    int field9101 = 9101;
+    int field9102 = 9102;
+    int field9103 = 9103;
+    int field9104 = 9104;
+    int field9105 = 9105;
+    int field9106 = 9106;
+    int field9107 = 9107;
+    int field9108 = 9108;
+    int field9109 = 9109;
+    int field9110 = 9110;
+    int field9111 = 9111;
+    int field9112 = 9112;
+    int field9113 = 9113;
+    int field9114 = 9114;
+    int field9115 = 9115;
+    int field9116 = 9116;
+    int field9117 = 9117;
+    int field9118 = 9118;
+    int field9119 = 9119;
+    int field9120 = 9120;
+    int field9121 = 9121;
+    int field9122 = 9122;
+    int field9123 = 9123;
+    int field9124 = 9124;
+    int field9125 = 9125;
+    int field9126 = 9126;
+    int field9127 = 9127;
+    int field9128 = 9128;
+    int field9129 = 9129;
+    int field9130 = 9130;
+    int field9131 = 9131;
+    int field9132 = 9132;
+    int field9133 = 9133;
+    int field9134 = 9134;
+    int field9135 = 9135;
+    int field9136 = 9136;
+    int field9137 = 9137;
+    int field9138 = 9138;
+    int field9139 = 9139;
+    int field9140 = 9140;
+    int field9141 = 9141;
+    int field9142 = 9142;
+    int field9143 = 9143;
+    int field9144 = 9144;
+    int field9145 = 9145;
+    int field9146 = 9146;
+    int field9147 = 9147;
+    int field9148 = 9148;
+    int field9149 = 9149;
+    int field9150 = 9150;
+    int field9151 = 9151;
+    int field9152 = 9152;
+    int field9153 = 9153;
+    int field9154 = 9154;
+    int field9155 = 9155;
+    int field9156 = 9156;
+    int field9157 = 9157;
+    int field9158 = 9158;
+    int field9159 = 9159;
+    int field9160 = 9160;
+    int field9161 = 9161;
+    int field9162 = 9162;
+    int field9163 = 9163;
+    int field9164 = 9164;
+    int field9165 = 9165;
+    int field9166 = 9166;
+    int field9167 = 9167;
+    int field9168 = 9168;
+    int field9169 = 9169;
+    int field9170 = 9170;
+    int field9171 = 9171;
+    int field9172 = 9172;
+    int field9173 = 9173;
+    int field9174 = 9174;
+    int field9175 = 9175;
+    int field9176 = 9176;
+    int field9177 = 9177;
+    int field9178 = 9178;
+    int field9179 = 9179;
+    int field9180 = 9180;
+    int field9181 = 9181;
+    int field9182 = 9182;
+    int field9183 = 9183;
+    int field9184 = 9184;
+    int field9185 = 9185;
+    int field9186 = 9186;
+    int field9187 = 9187;
+    int field9188 = 9188;
+    int field9189 = 9189;
+    int field9190 = 9190;
+    int field9191 = 9191;
+    int field9192 = 9192;
+    int field9193 = 9193;
+    int field9194 = 9194;
+    int field9195 = 9195;
+    int field9196 = 9196;
+    int field9197 = 9197;
+    int field9198 = 9198;
+    int field9199 = 9199;
+    int field9200 = 9200;
+    int field9201 = 9201;
+    int field9202 = 9202;
+    int field9203 = 9203;
+    int field9204 = 9204;
+    int field9205 = 9205;
+    int field9206 = 9206;
+    int field9207 = 9207;
+    int field9208 = 9208;
+    int field9209 = 9209;
+    int field9210 = 9210;
+    int field9211 = 9211;
+    int field9212 = 9212;
+    int field9213 = 9213;
+    int field9214 = 9214;
+    int field9215 = 9215;
+    int field9216 = 9216;
+    int field9217 = 9217;
+    int field9218 = 9218;
+    int field9219 = 9219;
+    int field9220 = 9220;
+    int field9221 = 9221;
+    int field9222 = 9222;
+    int field9223 = 9223;
+    int field9224 = 9224;
+    int field9225 = 9225;
+    int field9226 = 9226;
+    int field9227 = 9227;
+    int field9228 = 9228;
+    int field9229 = 9229;
+    int field9230 = 9230;
+    int field9231 = 9231;
+    int field9232 = 9232;
+    int field9233 = 9233;
+    int field9234 = 9234;
+    int field9235 = 9235;
+    int field9236 = 9236;
+    int field9237 = 9237;
+    int field9238 = 9238;
+    int field9239 = 9239;
+    int field9240 = 9240;
+    int field9241 = 9241;
+    int field9242 = 9242;
+    int field9243 = 9243;
+    int field9244 = 9244;
+    int field9245 = 9245;
+    int field9246 = 9246;
+    int field9247 = 9247;
+    int field9248 = 9248;
+    int field9249 = 9249;
+    int field9250 = 9250;
+    int field9251 = 9251;
+    int field9252 = 9252;
+    int field9253 = 9253;
+    int field9254 = 9254;
+    int field9255 = 9255;
+    int field9256 = 9256;
+    int field9257 = 9257;
+    int field9258 = 9258;
+    int field9259 = 9259;
+    int field9260 = 9260;
+    int field9261 = 9261;
+    int field9262 = 9262;
+    int field9263 = 9263;
+    int field9264 = 9264;
+    int field9265 = 9265;
+    int field9266 = 9266;
+    int field9267 = 9267;
+    int field9268 = 9268;
+    int field9269 = 9269;
+    int field9270 = 9270;
+    int field9271 = 9271;
+    int field9272 = 9272;
+    int field9273 = 9273;
+    int field9274 = 9274;
+    int field9275 = 9275;
+    int field9276 = 9276;
+    int field9277 = 9277;
+    int field9278 = 9278;
+    int field9279 = 9279;
+    int field9280 = 9280;
+    int field9281 = 9281;
+    int field9282 = 9282;
+    int field9283 = 9283;
+    int field9284 = 9284;
+    int field9285 = 9285;
+    int field9286 = 9286;
+    int field9287 = 9287;
+    int field9288 = 9288;
+    int field9289 = 9289;
+    int field9290 = 9290;
+    int field9291 = 9291;
+    int field9292 = 9292;
+    int field9293 = 9293;
+    int field9294 = 9294;
+    int field9295 = 9295;
+    int field9296 = 9296;
+    int field9297 = 9297;
+    int field9298 = 9298;
+    int field9299 = 9299;
+    int field9300 = 9300;
+    int field9301 = 9301;
+    int field9302 = 9302;
+    int field9303 = 9303;
+    int field9304 = 9304;
+    int field9305 = 9305;
+    int field9306 = 9306;
+    int field9307 = 9307;
+    int field9308 = 9308;
+    int field9309 = 9309;
+    int field9310 = 9310;
+    int field9311 = 9311;
+    int field9312 = 9312;
+    int field9313 = 9313;
+    int field9314 = 9314;
+    int field9315 = 9315;
+    int field9316 = 9316;
+    int field9317 = 9317;
+    int field9318 = 9318;
+    int field9319 = 9319;
+    int field9320 = 9320;
+    int field9321 = 9321;
+    int field9322 = 9322;
+    int field9323 = 9323;
+    int field9324 = 9324;
+    int field9325 = 9325;
+    int field9326 = 9326;
+    int field9327 = 9327;
+    int field9328 = 9328;
+    int field9329 = 9329;
+    int field9330 = 9330;
+    int field9331 = 9331;
+    int field9332 = 9332;
+    int field9333 = 9333;
+    int field9334 = 9334;
+    int field9335 = 9335;
+    int field9336 = 9336;
+    int field9337 = 9337;
+    int field9338 = 9338;
+    int field9339 = 9339;
+    int field9340 = 9340;
+    int field9341 = 9341;
+    int field9342 = 9342;
+    int field9343 = 9343;
+    int field9344 = 9344;
+    int field9345 = 9345;
+    int field9346 = 9346;
+    int field9347 = 9347;
+    int field9348 = 9348;
+    int field9349 = 9349;
+    int field9350 = 9350;
+    int field9351 = 9351;
+    int field9352 = 9352;
+    int field9353 = 9353;
+    int field9354 = 9354;
+    int field9355 = 9355;
+    int field9356 = 9356;
+    int field9357 = 9357;
+    int field9358 = 9358;
+    int field9359 = 9359;
+    int field9360 = 9360;
+    int field9361 = 9361;
+    int field9362 = 9362;
+    int field9363 = 9363;
+    int field9364 = 9364;
+    int field9365 = 9365;
+    int field9366 = 9366;
+    int field9367 = 9367;
+    int field9368 = 9368;
+    int field9369 = 9369;
+    int field9370 = 9370;
+    int field9371 = 9371;
+    int field9372 = 9372;
+    int field9373 = 9373;
+    int field9374 = 9374;
+    int field9375 = 9375;
+    int field9376 = 9376;
+    int field9377 = 9377;
+    int field9378 = 9378;
+    int field9379 = 9379;
+    int field9380 = 9380;
+    int field9381 = 9381;
+    int field9382 = 9382;
+    int field9383 = 9383;
+    int field9384 = 9384;
+    int field9385 = 9385;
+    int field9386 = 9386;
+    int field9387 = 9387;
+    int field9388 = 9388;
+    int field9389 = 9389;
+    int field9390 = 9390;
+    int field9391 = 9391;
+    int field9392 = 9392;
+    int field9393 = 9393;
+    int field9394 = 9394;
+    int field9395 = 9395;
+    int field9396 = 9396;
+    int field9397 = 9397;
+    int field9398 = 9398;
+    int field9399 = 9399;
+    int field9400 = 9400;
+    int field9401 = 9401;
+    int field9402 = 9402;
+    int field9403 = 9403;
+    int field9404 = 9404;
+    int field9405 = 9405;
+    int field9406 = 9406;
+    int field9407 = 9407;
+    int field9408 = 9408;
+    int field9409 = 9409;
+    int field9410 = 9410;
+    int field9411 = 9411;
+    int field9412 = 9412;
+    int field9413 = 9413;
+    int field9414 = 9414;
+    int field9415 = 9415;
+    int field9416 = 9416;
+    int field9417 = 9417;
+    int field9418 = 9418;
+    int field9419 = 9419;
+    int field9420 = 9420;
+    int field9421 = 9421;
+    int field9422 = 9422;
+    int field9423 = 9423;
+    int field9424 = 9424;
+    int field9425 = 9425;
+    int field9426 = 9426;
+    int field9427 = 9427;
+    int field9428 = 9428;
+    int field9429 = 9429;
+    int field9430 = 9430;
+    int field9431 = 9431;
+    int field9432 = 9432;
+    int field9433 = 9433;
+    int field9434 = 9434;
+    int field9435 = 9435;
+    int field9436 = 9436;
+    int field9437 = 9437;
+    int field9438 = 9438;
+    int field9439 = 9439;
+    int field9440 = 9440;
+    int field9441 = 9441;
+    int field9442 = 9442;
+    int field9443 = 9443;
+    int field9444 = 9444;
+    int field9445 = 9445;
+    int field9446 = 9446;
+    int field9447 = 9447;
+    int field9448 = 9448;
+    int field9449 = 9449;
+    int field9450 = 9450;
+    int field9451 = 9451;
+    int field9452 = 9452;
+    int field9453 = 9453;
+    int field9454 = 9454;
+    int field9455 = 9455;
+    int field9456 = 9456;
+    int field9457 = 9457;
+    int field9458 = 9458;
+    int field9459 = 9459;
+    int field9460 = 9460;
+    int field9461 = 9461;
+    int field9462 = 9462;
+    int field9463 = 9463;
+    int field9464 = 9464;
+    int field9465 = 9465;
+    int field9466 = 9466;
+    int field9467 = 9467;
+    int field9468 = 9468;
+    int field9469 = 9469;
+    int field9470 = 9470;
+    int field9471 = 9471;
+    int field9472 = 9472;
+    int field9473 = 9473;
+    int field9474 = 9474;
+    int field9475 = 9475;
+    int field9476 = 9476;
+    int field9477 = 9477;
+    int field9478 = 9478;
+    int field9479 = 9479;
+    int field9480 = 9480;
+    int field9481 = 9481;
+    int field9482 = 9482;
+    int field9483 = 9483;
+    int field9484 = 9484;
+    int field9485 = 9485;
+    int field9486 = 9486;
+    int field9487 = 9487;
+    int field9488 = 9488;
+    int field9489 = 9489;
+    int field9490 = 9490;
+    int field9491 = 9491;
+    int field9492 = 9492;
+    int field9493 = 9493;
+    int field9494 = 9494;
+    int field9495 = 9495;
+    int field9496 = 9496;
+    int field9497 = 9497;
+    int field9498 = 9498;
+    int field9499 = 9499;
+    int field9500 = 9500;
+    int field9501 = 9501;
+    int field9502 = 9502;
+    int field9503 = 9503;
+    int field9504 = 9504;
+    int field9505 = 9505;
+    int field9506 = 9506;
+    int field9507 = 9507;
+    int field9508 = 9508;
+    int field9509 = 9509;
+    int field9510 = 9510;
+    int field9511 = 9511;
+    int field9512 = 9512;
+    int field9513 = 9513;
+    int field9514 = 9514;
+    int field9515 = 9515;
+    int field9516 = 9516;
+    int field9517 = 9517;
+    int field9518 = 9518;
+    int field9519 = 9519;
+    int field9520 = 9520;
+    int field9521 = 9521;
+    int field9522 = 9522;
+    int field9523 = 9523;
+    int field9524 = 9524;
+    int field9525 = 9525;
+    int field9526 = 9526;
+    int field9527 = 9527;
+    int field9528 = 9528;
+    int field9529 = 9529;
+    int field9530 = 9530;
+    int field9531 = 9531;
+    int field9532 = 9532;
+    int field9533 = 9533;
+    int field9534 = 9534;
+    int field9535 = 9535;
+    int field9536 = 9536;
+    int field9537 = 9537;
+    int field9538 = 9538;
+    int field9539 = 9539;
+    int field9540 = 9540;
+    int field9541 = 9541;
+    int field9542 = 9542;
+    int field9543 = 9543;
+    int field9544 = 9544;
+    int field9545 = 9545;
+    int field9546 = 9546;
+    int field9547 = 9547;
+    int field9548 = 9548;
+    int field9549 = 9549;
+    int field9550 = 9550;
+    int field9551 = 9551;
+    int field9552 = 9552;
+    int field9553 = 9553;
+    int field9554 = 9554;
+    int field9555 = 9555;
+    int field9556 = 9556;
+    int field9557 = 9557;
+    int field9558 = 9558;
+    int field9559 = 9559;
+    int field9560 = 9560;
+    int field9561 = 9561;
+    int field9562 = 9562;
+    int field9563 = 9563;
+    int field9564 = 9564;
+    int field9565 = 9565;
+    int field9566 = 9566;
+    int field9567 = 9567;
+    int field9568 = 9568;
+    int field9569 = 9569;
+    int field9570 = 9570;
+    int field9571 = 9571;
+    int field9572 = 9572;
+    int field9573 = 9573;
+    int field9574 = 9574;
+    int field9575 = 9575;
+    int field9576 = 9576;
+    int field9577 = 9577;
+    int field9578 = 9578;
+    int field9579 = 9579;
+    int field9580 = 9580;
+    int field9581 = 9581;
+    int field9582 = 9582;
+    int field9583 = 9583;
+    int field9584 = 9584;
+    int field9585 = 9585;
+    int field9586 = 9586;
+    int field9587 = 9587;
+    int field9588 = 9588;
+    int field9589 = 9589;
+    int field9590 = 9590;
+    int field9591 = 9591;
+    int field9592 = 9592;
+    int field9593 = 9593;
+    int field9594 = 9594;
+    int field9595 = 9595;
+    int field9596 = 9596;
+    int field9597 = 9597;
+    int field9598 = 9598;
+    int field9599 = 9599;
+    int field9600 = 9600;
+    int field9601 = 9601;
+    int field9602 = 9602;
+    int field9603 = 9603;
+    int field9604 = 9604;
+    int field9605 = 9605;
+    int field9606 = 9606;
+    int field9607 = 9607;
+    int field9608 = 9608;
+    int field9609 = 9609;
+    int field9610 = 9610;
+    int field9611 = 9611;
+    int field9612 = 9612;
+    int field9613 = 9613;
+    int field9614 = 9614;
+    int field9615 = 9615;
+    int field9616 = 9616;
+    int field9617 = 9617;
+    int field9618 = 9618;
+    int field9619 = 9619;
+    int field9620 = 9620;
+    int field9621 = 9621;
+    int field9622 = 9622;
+    int field9623 = 9623;
+    int field9624 = 9624;
+    int field9625 = 9625;
+    int field9626 = 9626;
+    int field9627 = 9627;
+    int field9628 = 9628;
+    int field9629 = 9629;
+    int field9630 = 9630;
+    int field9631 = 9631;
+    int field9632 = 9632;
+    int field9633 = 9633;
+    int field9634 = 9634;
+    int field9635 = 9635;
+    int field9636 = 9636;
+    int field9637 = 9637;
+    int field9638 = 9638;
+    int field9639 = 9639;
+    int field9640 = 9640;
+    int field9641 = 9641;
+    int field9642 = 9642;
+    int field9643 = 9643;
+    int field9644 = 9644;
+    int field9645 = 9645;
+    int field9646 = 9646;
+    int field9647 = 9647;
+    int field9648 = 9648;
+    int field9649 = 9649;
+    int field9650 = 9650;
+    int field9651 = 9651;
+    int field9652 = 9652;
+    int field9653 = 9653;
+    int field9654 = 9654;
+    int field9655 = 9655;
+    int field9656 = 9656;
+    int field9657 = 9657;
+    int field9658 = 9658;
+    int field9659 = 9659;
+    int field9660 = 9660;
+    int field9661 = 9661;
+    int field9662 = 9662;
+    int field9663 = 9663;
+    int field9664 = 9664;
+    int field9665 = 9665;
+    int field9666 = 9666;
+    int field9667 = 9667;
+    int field9668 = 9668;
+    int field9669 = 9669;
+    int field9670 = 9670;
+    int field9671 = 9671;
+    int field9672 = 9672;
+    int field9673 = 9673;
+    int field9674 = 9674;
+    int field9675 = 9675;
+    int field9676 = 9676;
+    int field9677 = 9677;
+    int field9678 = 9678;
+    int field9679 = 9679;
+    int field9680 = 9680;
+    int field9681 = 9681;
+    int field9682 = 9682;
+    int field9683 = 9683;
+    int field9684 = 9684;
+    int field9685 = 9685;
+    int field9686 = 9686;
+    int field9687 = 9687;
+    int field9688 = 9688;
+    int field9689 = 9689;
+    int field9690 = 9690;
+    int field9691 = 9691;
+    int field9692 = 9692;
+    int field9693 = 9693;
+    int field9694 = 9694;
+    int field9695 = 9695;
+    int field9696 = 9696;
+    int field9697 = 9697;
+    int field9698 = 9698;
+    int field9699 = 9699;
+    int field9700 = 9700;
+    int field9701 = 9701;
+    int field9702 = 9702;
+    int field9703 = 9703;
+    int field9704 = 9704;
+    int field9705 = 9705;
+    int field9706 = 9706;
+    int field9707 = 9707;
+    int field9708 = 9708;
+    int field9709 = 9709;
+    int field9710 = 9710;
+    int field9711 = 9711;
+    int field9712 = 9712;
+    int field9713 = 9713;
+    int field9714 = 9714;
+    int field9715 = 9715;
+    int field9716 = 9716;
+    int field9717 = 9717;
+    int field9718 = 9718;
+    int field9719 = 9719;
+    int field9720 = 9720;
+    int field9721 = 9721;
+    int field9722 = 9722;
+    int field9723 = 9723;
+    int field9724 = 9724;
+    int field9725 = 9725;
+    int field9726 = 9726;
+    int field9727 = 9727;
+    int field9728 = 9728;
+    int field9729 = 9729;
+    int field9730 = 9730;
+    int field9731 = 9731;
+    int field9732 = 9732;
+    int field9733 = 9733;
+    int field9734 = 9734;
+    int field9735 = 9735;
+    int field9736 = 9736;
+    int field9737 = 9737;
+    int field9738 = 9738;
+    int field9739 = 9739;
+    int field9740 = 9740;
+    int field9741 = 9741;
+    int field9742 = 9742;
+    int field9743 = 9743;
+    int field9744 = 9744;
+    int field9745 = 9745;
+    int field9746 = 9746;
+    int field9747 = 9747;
+    int field9748 = 9748;
+    int field9749 = 9749;
+    int field9750 = 9750;
+    int field9751 = 9751;
+    int field9752 = 9752;
+    int field9753 = 9753;
+    int field9754 = 9754;
+    int field9755 = 9755;
+    int field9756 = 9756;
+    int field9757 = 9757;
+    int field9758 = 9758;
+    int field9759 = 9759;
+    int field9760 = 9760;
+    int field9761 = 9761;
+    int field9762 = 9762;
+    int field9763 = 9763;
+    int field9764 = 9764;
+    int field9765 = 9765;
+    int field9766 = 9766;
+    int field9767 = 9767;
+    int field9768 = 9768;
+    int field9769 = 9769;
+    int field9770 = 9770;
+    int field9771 = 9771;
+    int field9772 = 9772;
+    int field9773 = 9773;
+    int field9774 = 9774;
+    int field9775 = 9775;
+    int field9776 = 9776;
+    int field9777 = 9777;
+    int field9778 = 9778;
+    int field9779 = 9779;
+    int field9780 = 9780;
+    int field9781 = 9781;
+    int field9782 = 9782;
+    int field9783 = 9783;
+    int field9784 = 9784;
+    int field9785 = 9785;
+    int field9786 = 9786;
+    int field9787 = 9787;
+    int field9788 = 9788;
+    int field9789 = 9789;
+    int field9790 = 9790;
+    int field9791 = 9791;
+    int field9792 = 9792;
+    int field9793 = 9793;
+    int field9794 = 9794;
+    int field9795 = 9795;
+    int field9796 = 9796;
+    int field9797 = 9797;
+    int field9798 = 9798;
+    int field9799 = 9799;
+    int field9800 = 9800;
+    int field9801 = 9801;
+    int field9802 = 9802;
+    int field9803 = 9803;
+    int field9804 = 9804;
+    int field9805 = 9805;
+    int field9806 = 9806;
+    int field9807 = 9807;
+    int field9808 = 9808;
+    int field9809 = 9809;
+    int field9810 = 9810;
+    int field9811 = 9811;
+    int field9812 = 9812;
+    int field9813 = 9813;
+    int field9814 = 9814;
+    int field9815 = 9815;
+    int field9816 = 9816;
+    int field9817 = 9817;
+    int field9818 = 9818;
+    int field9819 = 9819;
+    int field9820 = 9820;
+    int field9821 = 9821;
+    int field9822 = 9822;
+    int field9823 = 9823;
+    int field9824 = 9824;
+    int field9825 = 9825;
+    int field9826 = 9826;
+    int field9827 = 9827;
+    int field9828 = 9828;
+    int field9829 = 9829;
+    int field9830 = 9830;
+    int field9831 = 9831;
+    int field9832 = 9832;
+    int field9833 = 9833;
+    int field9834 = 9834;
+    int field9835 = 9835;
+    int field9836 = 9836;
+    int field9837 = 9837;
+    int field9838 = 9838;
+    int field9839 = 9839;
+    int field9840 = 9840;
+    int field9841 = 9841;
+    int field9842 = 9842;
+    int field9843 = 9843;
+    int field9844 = 9844;
+    int field9845 = 9845;
+    int field9846 = 9846;
+    int field9847 = 9847;
+    int field9848 = 9848;
+    int field9849 = 9849;
+    int field9850 = 9850;
+    int field9851 = 9851;
+    int field9852 = 9852;
+    int field9853 = 9853;
+    int field9854 = 9854;
+    int field9855 = 9855;
+    int field9856 = 9856;
+    int field9857 = 9857;
+    int field9858 = 9858;
+    int field9859 = 9859;
+    int field9860 = 9860;
+    int field9861 = 9861;
+    int field9862 = 9862;
+    int field9863 = 9863;
+    int field9864 = 9864;
+    int field9865 = 9865;
+    int field9866 = 9866;
+    int field9867 = 9867;
+    int field9868 = 9868;
+    int field9869 = 9869;
+    int field9870 = 9870;
+    int field9871 = 9871;
+    int field9872 = 9872;
+    int field9873 = 9873;
+    int field9874 = 9874;
+    int field9875 = 9875;
+    int field9876 = 9876;
+    int field9877 = 9877;
+    int field9878 = 9878;
+    int field9879 = 9879;
+    int field9880 = 9880;
+    int field9881 = 9881;
+    int field9882 = 9882;
+    int field9883 = 9883;
+    int field9884 = 9884;
+    int field9885 = 9885;
+    int field9886 = 9886;
+    int field9887 = 9887;
+    int field9888 = 9888;
+    int field9889 = 9889;
+    int field9890 = 9890;
+    int field9891 = 9891;
+    int field9892 = 9892;
+    int field9893 = 9893;
+    int field9894 = 9894;
+    int field9895 = 9895;
+    int field9896 = 9896;
+    int field9897 = 9897;
+    int field9898 = 9898;
+    int field9899 = 9899;
+    int field9900 = 9900;
+    int field9901 = 9901;
+    int field9902 = 9902;
+    int field9903 = 9903;
+    int field9904 = 9904;
+    int field9905 = 9905;
+    int field9906 = 9906;
+    int field9907 = 9907;
+    int field9908 = 9908;
+    int field9909 = 9909;
+    int field9910 = 9910;
+    int field9911 = 9911;
+    int field9912 = 9912;
+    int field9913 = 9913;
+    int field9914 = 9914;
+    int field9915 = 9915;
+    int field9916 = 9916;
+    int field9917 = 9917;
+    int field9918 = 9918;
+    int field9919 = 9919;
+    int field9920 = 9920;
+    int field9921 = 9921;
+    int field9922 = 9922;
+    int field9923 = 9923;
+    int field9924 = 9924;
+    int field9925 = 9925;
+    int field9926 = 9926;
+    int field9927 = 9927;
+    int field9928 = 9928;
+    int field9929 = 9929;
+    int field9930 = 9930;
+    int field9931 = 9931;
+    int field9932 = 9932;
+    int field9933 = 9933;
+    int field9934 = 9934;
+    int field9935 = 9935;
+    int field9936 = 9936;
+    int field9937 = 9937;
+    int field9938 = 9938;
+    int field9939 = 9939;
+    int field9940 = 9940;
+    int field9941 = 9941;
+    int field9942 = 9942;
+    int field9943 = 9943;
+    int field9944 = 9944;
+    int field9945 = 9945;
+    int field9946 = 9946;
+    int field9947 = 9947;
+    int field9948 = 9948;
+    int field9949 = 9949;
+    int field9950 = 9950;
+    int field9951 = 9951;
+    int field9952 = 9952;
+    int field9953 = 9953;
+    int field9954 = 9954;
+    int field9955 = 9955;
+    int field9956 = 9956;
+    int field9957 = 9957;
+    int field9958 = 9958;
+    int field9959 = 9959;
+    int field9960 = 9960;
+    int field9961 = 9961;
+    int field9962 = 9962;
+    int field9963 = 9963;
+    int field9964 = 9964;
+    int field9965 = 9965;
+    int field9966 = 9966;
+    int field9967 = 9967;
+    int field9968 = 9968;
+    int field9969 = 9969;
+    int field9970 = 9970;
+    int field9971 = 9971;
+    int field9972 = 9972;
+    int field9973 = 9973;
+    int field9974 = 9974;
+    int field9975 = 9975;
+    int field9976 = 9976;
+    int field9977 = 9977;
+    int field9978 = 9978;
+    int field9979 = 9979;
+    int field9980 = 9980;
+    int field9981 = 9981;
+    int field9982 = 9982;
+    int field9983 = 9983;
+    int field9984 = 9984;
+    int field9985 = 9985;
+    int field9986 = 9986;
+    int field9987 = 9987;
+    int field9988 = 9988;
+    int field9989 = 9989;
+    int field9990 = 9990;
+    int field9991 = 9991;
+    int field9992 = 9992;
+    int field9993 = 9993;
+    int field9994 = 9994;
+    int field9995 = 9995;
+    int field9996 = 9996;
+    int field9997 = 9997;
+    int field9998 = 9998;
+    int field9999 = 9999;
+    int field10000 = 10000;
+    int field10001 = 10001;
+    int field10002 = 10002;
+    int field10003 = 10003;
+    int field10004 = 10004;
+    int field10005 = 10005;
+    int field10006 = 10006;
+    int field10007 = 10007;
+    int field10008 = 10008;
+    int field10009 = 10009;
+    int field10010 = 10010;
+    int field10011 = 10011;
+    int field10012 = 10012;
+    int field10013 = 10013;
+    int field10014 = 10014;
+    int field10015 = 10015;
+    int field10016 = 10016;
+    int field10017 = 10017;
+    int field10018 = 10018;
+    int field10019 = 10019;
+    int field10020 = 10020;
+    int field10021 = 10021;
+    int field10022 = 10022;
+    int field10023 = 10023;
+    int field10024 = 10024;
+    int field10025 = 10025;
+    int field10026 = 10026;
+    int field10027 = 10027;
+    int field10028 = 10028;
+    int field10029 = 10029;
+    int field10030 = 10030;
+    int field10031 = 10031;
+    int field10032 = 10032;
+    int field10033 = 10033;
+    int field10034 = 10034;
+    int field10035 = 10035;
+    int field10036 = 10036;
+    int field10037 = 10037;
+    int field10038 = 10038;
+    int field10039 = 10039;
+    int field10040 = 10040;
+    int field10041 = 10041;
+    int field10042 = 10042;
+    int field10043 = 10043;
+    int field10044 = 10044;
+    int field10045 = 10045;
+    int field10046 = 10046;
+    int field10047 = 10047;
+    int field10048 = 10048;
+    int field10049 = 10049;
+    int field10050 = 10050;
+    int field10051 = 10051;
+    int field10052 = 10052;
+    int field10053 = 10053;
+    int field10054 = 10054;
+    int field10055 = 10055;
+    int field10056 = 10056;
+    int field10057 = 10057;
+    int field10058 = 10058;
+    int field10059 = 10059;
+    int field10060 = 10060;
+    int field10061 = 10061;
+    int field10062 = 10062;
+    int field10063 = 10063;
+    int field10064 = 10064;
+    int field10065 = 10065;
+    int field10066 = 10066;
+    int field10067 = 10067;
+    int field10068 = 10068;
+    int field10069 = 10069;
+    int field10070 = 10070;
+    int field10071 = 10071;
+    int field10072 = 10072;
+    int field10073 = 10073;
+    int field10074 = 10074;
+    int field10075 = 10075;
+    int field10076 = 10076;
+    int field10077 = 10077;
+    int field10078 = 10078;
+    int field10079 = 10079;
+    int field10080 = 10080;
+    int field10081 = 10081;
+    int field10082 = 10082;
+    int field10083 = 10083;
+    int field10084 = 10084;
+    int field10085 = 10085;
+    int field10086 = 10086;
+    int field10087 = 10087;
+    int field10088 = 10088;
+    int field10089 = 10089;
+    int field10090 = 10090;
+    int field10091 = 10091;
+    int field10092 = 10092;
+    int field10093 = 10093;
+    int field10094 = 10094;
+    int field10095 = 10095;
+    int field10096 = 10096;
+    int field10097 = 10097;
+    int field10098 = 10098;
+    int field10099 = 10099;
+    int field10100 = 10100;
+    int field10101 = 10101;
+    int field10102 = 10102;
+    int field10103 = 10103;
+    int field10104 = 10104;
+    int field10105 = 10105;
+    int field10106 = 10106;
+    int field10107 = 10107;
+    int field10108 = 10108;
+    int field10109 = 10109;
+    int field10110 = 10110;
+    int field10111 = 10111;
+    int field10112 = 10112;
+    int field10113 = 10113;
+    int field10114 = 10114;
+    int field10115 = 10115;
+    int field10116 = 10116;
+    int field10117 = 10117;
+    int field10118 = 10118;
+    int field10119 = 10119;
+    int field10120 = 10120;
+    int field10121 = 10121;
+    int field10122 = 10122;
+    int field10123 = 10123;
+    int field10124 = 10124;
+    int field10125 = 10125;
+    int field10126 = 10126;
+    int field10127 = 10127;
+    int field10128 = 10128;
+    int field10129 = 10129;
+    int field10130 = 10130;
+    int field10131 = 10131;
+    int field10132 = 10132;
+    int field10133 = 10133;
+    int field10134 = 10134;
+    int field10135 = 10135;
+    int field10136 = 10136;
+    int field10137 = 10137;
+    int field10138 = 10138;
+    int field10139 = 10139;
+    int field10140 = 10140;
+    int field10141 = 10141;
+    int field10142 = 10142;
+    int field10143 = 10143;
+    int field10144 = 10144;
+    int field10145 = 10145;
+    int field10146 = 10146;
+    int field10147 = 10147;
+    int field10148 = 10148;
+    int field10149 = 10149;
+    int field10150 = 10150;
+    int field10151 = 10151;
+    int field10152 = 10152;
+    int field10153 = 10153;
+    int field10154 = 10154;
+    int field10155 = 10155;
+    int field10156 = 10156;
+    int field10157 = 10157;
+    int field10158 = 10158;
+    int field10159 = 10159;
+    int field10160 = 10160;
+    int field10161 = 10161;
+    int field10162 = 10162;
+    int field10163 = 10163;
+    int field10164 = 10164;
+    int field10165 = 10165;
+    int field10166 = 10166;
+    int field10167 = 10167;
+    int field10168 = 10168;
+    int field10169 = 10169;
+    int field10170 = 10170;
+    int field10171 = 10171;
+    int field10172 = 10172;
+    int field10173 = 10173;
+    int field10174 = 10174;
+    int field10175 = 10175;
+    int field10176 = 10176;
+    int field10177 = 10177;
+    int field10178 = 10178;
+    int field10179 = 10179;
+    int field10180 = 10180;
+    int field10181 = 10181;
+    int field10182 = 10182;
+    int field10183 = 10183;
+    int field10184 = 10184;
+    int field10185 = 10185;
+    int field10186 = 10186;
+    int field10187 = 10187;
+    int field10188 = 10188;
+    int field10189 = 10189;
+    int field10190 = 10190;
+    int field10191 = 10191;
+    int field10192 = 10192;
+    int field10193 = 10193;
+    int field10194 = 10194;
+    int field10195 = 10195;
+    int field10196 = 10196;
+    int field10197 = 10197;
+    int field10198 = 10198;
+    int field10199 = 10199;
+    int field10200 = 10200;
+    int field10201 = 10201;
+    int field10202 = 10202;
+    int field10203 = 10203;
+    int field10204 = 10204;
+    int field10205 = 10205;
+    int field10206 = 10206;
+    int field10207 = 10207;
+    int field10208 = 10208;
+    int field10209 = 10209;
+    int field10210 = 10210;
+    int field10211 = 10211;
+    int field10212 = 10212;
+    int field10213 = 10213;
+    int field10214 = 10214;
+    int field10215 = 10215;
+    int field10216 = 10216;
+    int field10217 = 10217;
+    int field10218 = 10218;
+    int field10219 = 10219;
+    int field10220 = 10220;
+    int field10221 = 10221;
+    int field10222 = 10222;
+    int field10223 = 10223;
+    int field10224 = 10224;
+    int field10225 = 10225;
+    int field10226 = 10226;
+    int field10227 = 10227;
+    int field10228 = 10228;
+    int field10229 = 10229;
+    int field10230 = 10230;
+    int field10231 = 10231;
+    int field10232 = 10232;
+    int field10233 = 10233;
+    int field10234 = 10234;
+    int field10235 = 10235;
+    int field10236 = 10236;
+    int field10237 = 10237;
+    int field10238 = 10238;
+    int field10239 = 10239;
+    int field10240 = 10240;
+    int field10241 = 10241;
+    int field10242 = 10242;
+    int field10243 = 10243;
+    int field10244 = 10244;
+    int field10245 = 10245;
+    int field10246 = 10246;
+    int field10247 = 10247;
+    int field10248 = 10248;
+    int field10249 = 10249;
+    int field10250 = 10250;
+    int field10251 = 10251;
+    int field10252 = 10252;
+    int field10253 = 10253;
+    int field10254 = 10254;
+    int field10255 = 10255;
+    int field10256 = 10256;
+    int field10257 = 10257;
+    int field10258 = 10258;
+    int field10259 = 10259;
+    int field10260 = 10260;
+    int field10261 = 10261;
+    int field10262 = 10262;
+    int field10263 = 10263;
+    int field10264 = 10264;
+    int field10265 = 10265;
+    int field10266 = 10266;
+    int field10267 = 10267;
+    int field10268 = 10268;
+    int field10269 = 10269;
+    int field10270 = 10270;
+    int field10271 = 10271;
+    int field10272 = 10272;
+    int field10273 = 10273;
+    int field10274 = 10274;
+    int field10275 = 10275;
+    int field10276 = 10276;
+    int field10277 = 10277;
+    int field10278 = 10278;
+    int field10279 = 10279;
+    int field10280 = 10280;
+    int field10281 = 10281;
+    int field10282 = 10282;
+    int field10283 = 10283;
+    int field10284 = 10284;
+    int field10285 = 10285;
+    int field10286 = 10286;
+    int field10287 = 10287;
+    int field10288 = 10288;
+    int field10289 = 10289;
+    int field10290 = 10290;
+    int field10291 = 10291;
+    int field10292 = 10292;
+    int field10293 = 10293;
+    int field10294 = 10294;
+    int field10295 = 10295;
+    int field10296 = 10296;
+    int field10297 = 10297;
+    int field10298 = 10298;
+    int field10299 = 10299;
+    int field10300 = 10300;
+    int field10301 = 10301;
+    int field10302 = 10302;
+    int field10303 = 10303;
+    int field10304 = 10304;
+    int field10305 = 10305;
+    int field10306 = 10306;
+    int field10307 = 10307;
+    int field10308 = 10308;
+    int field10309 = 10309;
+    int field10310 = 10310;
+    int field10311 = 10311;
+    int field10312 = 10312;
+    int field10313 = 10313;
+    int field10314 = 10314;
+    int field10315 = 10315;
+    int field10316 = 10316;
+    int field10317 = 10317;
+    int field10318 = 10318;
+    int field10319 = 10319;
+    int field10320 = 10320;
+    int field10321 = 10321;
+    int field10322 = 10322;
+    int field10323 = 10323;
+    int field10324 = 10324;
+    int field10325 = 10325;
+    int field10326 = 10326;
+    int field10327 = 10327;
+    int field10328 = 10328;
+    int field10329 = 10329;
+    int field10330 = 10330;
+    int field10331 = 10331;
+    int field10332 = 10332;
+    int field10333 = 10333;
+    int field10334 = 10334;
+    int field10335 = 10335;
+    int field10336 = 10336;
+    int field10337 = 10337;
+    int field10338 = 10338;
+    int field10339 = 10339;
+    int field10340 = 10340;
+    int field10341 = 10341;
+    int field10342 = 10342;
+    int field10343 = 10343;
+    int field10344 = 10344;
+    int field10345 = 10345;
+    int field10346 = 10346;
+    int field10347 = 10347;
+    int field10348 = 10348;
+    int field10349 = 10349;
+    int field10350 = 10350;
+    int field10351 = 10351;
+    int field10352 = 10352;
+    int field10353 = 10353;
+    int field10354 = 10354;
+    int field10355 = 10355;
+    int field10356 = 10356;
+    int field10357 = 10357;
+    int field10358 = 10358;
+    int field10359 = 10359;
+    int field10360 = 10360;
+    int field10361 = 10361;
+    int field10362 = 10362;
+    int field10363 = 10363;
+    int field10364 = 10364;
+    int field10365 = 10365;
+    int field10366 = 10366;
+    int field10367 = 10367;
+    int field10368 = 10368;
+    int field10369 = 10369;
+    int field10370 = 10370;
+    int field10371 = 10371;
+    int field10372 = 10372;
+    int field10373 = 10373;
+    int field10374 = 10374;
+    int field10375 = 10375;
+    int field10376 = 10376;
+    int field10377 = 10377;
+    int field10378 = 10378;
+    int field10379 = 10379;
+    int field10380 = 10380;
+    int field10381 = 10381;
+    int field10382 = 10382;
+    int field10383 = 10383;
+    int field10384 = 10384;
+    int field10385 = 10385;
+    int field10386 = 10386;
+    int field10387 = 10387;
+    int field10388 = 10388;
+    int field10389 = 10389;
+    int field10390 = 10390;
+    int field10391 = 10391;
+    int field10392 = 10392;
+    int field10393 = 10393;
+    int field10394 = 10394;
+    int field10395 = 10395;
+    int field10396 = 10396;
+    int field10397 = 10397;
+    int field10398 = 10398;
+    int field10399 = 10399;
+    int field10400 = 10400;
+    int field10401 = 10401;
+    int field10402 = 10402;
+    int field10403 = 10403;
+    int field10404 = 10404;
+    int field10405 = 10405;
+    int field10406 = 10406;
+    int field10407 = 10407;
+    int field10408 = 10408;
+    int field10409 = 10409;
+    int field10410 = 10410;
+    int field10411 = 10411;
+    int field10412 = 10412;
+    int field10413 = 10413;
+    int field10414 = 10414;
+    int field10415 = 10415;
+    int field10416 = 10416;
+    int field10417 = 10417;
+    int field10418 = 10418;
+    int field10419 = 10419;
+    int field10420 = 10420;
+    int field10421 = 10421;
+    int field10422 = 10422;
+    int field10423 = 10423;
+    int field10424 = 10424;
+    int field10425 = 10425;
+    int field10426 = 10426;
+    int field10427 = 10427;
+    int field10428 = 10428;
+    int field10429 = 10429;
+    int field10430 = 10430;
+    int field10431 = 10431;
+    int field10432 = 10432;
+    int field10433 = 10433;
+    int field10434 = 10434;
+    int field10435 = 10435;
+    int field10436 = 10436;
+    int field10437 = 10437;
+    int field10438 = 10438;
+    int field10439 = 10439;
+    int field10440 = 10440;
+    int field10441 = 10441;
+    int field10442 = 10442;
+    int field10443 = 10443;
+    int field10444 = 10444;
+    int field10445 = 10445;
+    int field10446 = 10446;
+    int field10447 = 10447;
+    int field10448 = 10448;
+    int field10449 = 10449;
+    int field10450 = 10450;
+    int field10451 = 10451;
+    int field10452 = 10452;
+    int field10453 = 10453;
+    int field10454 = 10454;
+    int field10455 = 10455;
+    int field10456 = 10456;
+    int field10457 = 10457;
+    int field10458 = 10458;
+    int field10459 = 10459;
+    int field10460 = 10460;
+    int field10461 = 10461;
+    int field10462 = 10462;
+    int field10463 = 10463;
+    int field10464 = 10464;
+    int field10465 = 10465;
+    int field10466 = 10466;
+    int field10467 = 10467;
+    int field10468 = 10468;
+    int field10469 = 10469;
+    int field10470 = 10470;
+    int field10471 = 10471;
+    int field10472 = 10472;
+    int field10473 = 10473;
+    int field10474 = 10474;
+    int field10475 = 10475;
+    int field10476 = 10476;
+    int field10477 = 10477;
+    int field10478 = 10478;
+    int field10479 = 10479;
+    int field10480 = 10480;
+    int field10481 = 10481;
+    int field10482 = 10482;
+    int field10483 = 10483;
+    int field10484 = 10484;
+    int field10485 = 10485;
+    int field10486 = 10486;
+    int field10487 = 10487;
+    int field10488 = 10488;
+    int field10489 = 10489;
+    int field10490 = 10490;
+    int field10491 = 10491;
+    int field10492 = 10492;
+    int field10493 = 10493;
+    int field10494 = 10494;
+    int field10495 = 10495;
+    int field10496 = 10496;
+    int field10497 = 10497;
+    int field10498 = 10498;
+    int field10499 = 10499;
+    int field10500 = 10500;
+    int field10501 = 10501;
+    int field10502 = 10502;
+    int field10503 = 10503;
+    int field10504 = 10504;
+    int field10505 = 10505;
+    int field10506 = 10506;
+    int field10507 = 10507;
+    int field10508 = 10508;
+    int field10509 = 10509;
+    int field10510 = 10510;
+    int field10511 = 10511;
+    int field10512 = 10512;
+    int field10513 = 10513;
+    int field10514 = 10514;
+    int field10515 = 10515;
+    int field10516 = 10516;
+    int field10517 = 10517;
+    int field10518 = 10518;
+    int field10519 = 10519;
+    int field10520 = 10520;
+    int field10521 = 10521;
+    int field10522 = 10522;
+    int field10523 = 10523;
+    int field10524 = 10524;
+    int field10525 = 10525;
+    int field10526 = 10526;
+    int field10527 = 10527;
+    int field10528 = 10528;
+    int field10529 = 10529;
+    int field10530 = 10530;
+    int field10531 = 10531;
+    int field10532 = 10532;
+    int field10533 = 10533;
+    int field10534 = 10534;
+    int field10535 = 10535;
+    int field10536 = 10536;
+    int field10537 = 10537;
+    int field10538 = 10538;
+    int field10539 = 10539;
+    int field10540 = 10540;
+    int field10541 = 10541;
+    int field10542 = 10542;
+    int field10543 = 10543;
+    int field10544 = 10544;
+    int field10545 = 10545;
+    int field10546 = 10546;
+    int field10547 = 10547;
+    int field10548 = 10548;
+    int field10549 = 10549;
+    int field10550 = 10550;
+    int field10551 = 10551;
+    int field10552 = 10552;
+    int field10553 = 10553;
+    int field10554 = 10554;
+    int field10555 = 10555;
+    int field10556 = 10556;
+    int field10557 = 10557;
+    int field10558 = 10558;
+    int field10559 = 10559;
+    int field10560 = 10560;
+    int field10561 = 10561;
+    int field10562 = 10562;
+    int field10563 = 10563;
+    int field10564 = 10564;
+    int field10565 = 10565;
+    int field10566 = 10566;
+    int field10567 = 10567;
+    int field10568 = 10568;
+    int field10569 = 10569;
+    int field10570 = 10570;
+    int field10571 = 10571;
+    int field10572 = 10572;
+    int field10573 = 10573;
+    int field10574 = 10574;
+    int field10575 = 10575;
+    int field10576 = 10576;
+    int field10577 = 10577;
+    int field10578 = 10578;
+    int field10579 = 10579;
+    int field10580 = 10580;
+    int field10581 = 10581;
+    int field10582 = 10582;
+    int field10583 = 10583;
+    int field10584 = 10584;
+    int field10585 = 10585;
+    int field10586 = 10586;
+    int field10587 = 10587;
+    int field10588 = 10588;
+    int field10589 = 10589;
+    int field10590 = 10590;
+    int field10591 = 10591;
+    int field10592 = 10592;
+    int field10593 = 10593;
+    int field10594 = 10594;
+    int field10595 = 10595;
+    int field10596 = 10596;
+    int field10597 = 10597;
+    int field10598 = 10598;
+    int field10599 = 10599;
+    int field10600 = 10600;
+    int field10601 = 10601;
+    int field10602 = 10602;
+    int field10603 = 10603;
+    int field10604 = 10604;
+    int field10605 = 10605;
+    int field10606 = 10606;
+    int field10607 = 10607;
+    int field10608 = 10608;
+    int field10609 = 10609;
+    int field10610 = 10610;
+    int field10611 = 10611;
+    int field10612 = 10612;
+    int field10613 = 10613;
+    int field10614 = 10614;
+    int field10615 = 10615;
+    int field10616 = 10616;
+    int field10617 = 10617;
+    int field10618 = 10618;
+    int field10619 = 10619;
+    int field10620 = 10620;
+    int field10621 = 10621;
+    int field10622 = 10622;
+    int field10623 = 10623;
+    int field10624 = 10624;
+    int field10625 = 10625;
+    int field10626 = 10626;
+    int field10627 = 10627;
+    int field10628 = 10628;
+    int field10629 = 10629;
+    int field10630 = 10630;
+    int field10631 = 10631;
+    int field10632 = 10632;
+    int field10633 = 10633;
+    int field10634 = 10634;
+    int field10635 = 10635;
+    int field10636 = 10636;
+    int field10637 = 10637;
+    int field10638 = 10638;
+    int field10639 = 10639;
+    int field10640 = 10640;
+    int field10641 = 10641;
+    int field10642 = 10642;
+    int field10643 = 10643;
+    int field10644 = 10644;
+    int field10645 = 10645;
+    int field10646 = 10646;
+    int field10647 = 10647;
+    int field10648 = 10648;
+    int field10649 = 10649;
+    int field10650 = 10650;
+    int field10651 = 10651;
+    int field10652 = 10652;
+    int field10653 = 10653;
+    int field10654 = 10654;
+    int field10655 = 10655;
+    int field10656 = 10656;
+    int field10657 = 10657;
+    int field10658 = 10658;
+    int field10659 = 10659;
+    int field10660 = 10660;
+    int field10661 = 10661;
+    int field10662 = 10662;
+    int field10663 = 10663;
+    int field10664 = 10664;
+    int field10665 = 10665;
+    int field10666 = 10666;
+    int field10667 = 10667;
+    int field10668 = 10668;
+    int field10669 = 10669;
+    int field10670 = 10670;
+    int field10671 = 10671;
+    int field10672 = 10672;
+    int field10673 = 10673;
+    int field10674 = 10674;
+    int field10675 = 10675;
+    int field10676 = 10676;
+    int field10677 = 10677;
+    int field10678 = 10678;
+    int field10679 = 10679;
+    int field10680 = 10680;
+    int field10681 = 10681;
+    int field10682 = 10682;
+    int field10683 = 10683;
+    int field10684 = 10684;
+    int field10685 = 10685;
+    int field10686 = 10686;
+    int field10687 = 10687;
+    int field10688 = 10688;
+    int field10689 = 10689;
+    int field10690 = 10690;
+    int field10691 = 10691;
+    int field10692 = 10692;
+    int field10693 = 10693;
+    int field10694 = 10694;
+    int field10695 = 10695;
+    int field10696 = 10696;
+    int field10697 = 10697;
+    int field10698 = 10698;
+    int field10699 = 10699;
+    int field10700 = 10700;
+    int field10701 = 10701;
+    int field10702 = 10702;
+    int field10703 = 10703;
+    int field10704 = 10704;
+    int field10705 = 10705;
+    int field10706 = 10706;
+    int field10707 = 10707;
+    int field10708 = 10708;
+    int field10709 = 10709;
+    int field10710 = 10710;
+    int field10711 = 10711;
+    int field10712 = 10712;
+    int field10713 = 10713;
+    int field10714 = 10714;
+    int field10715 = 10715;
+    int field10716 = 10716;
+    int field10717 = 10717;
+    int field10718 = 10718;
+    int field10719 = 10719;
+    int field10720 = 10720;
+    int field10721 = 10721;
+    int field10722 = 10722;
+    int field10723 = 10723;
+    int field10724 = 10724;
+    int field10725 = 10725;
+    int field10726 = 10726;
+    int field10727 = 10727;
+    int field10728 = 10728;
+    int field10729 = 10729;
+    int field10730 = 10730;
+    int field10731 = 10731;
+    int field10732 = 10732;
+    int field10733 = 10733;
+    int field10734 = 10734;
+    int field10735 = 10735;
+    int field10736 = 10736;
+    int field10737 = 10737;
+    int field10738 = 10738;
+    int field10739 = 10739;
+    int field10740 = 10740;
+    int field10741 = 10741;
+    int field10742 = 10742;
+    int field10743 = 10743;
+    int field10744 = 10744;
+    int field10745 = 10745;
+    int field10746 = 10746;
+    int field10747 = 10747;
+    int field10748 = 10748;
+    int field10749 = 10749;
+    int field10750 = 10750;
+    int field10751 = 10751;
+    int field10752 = 10752;
+    int field10753 = 10753;
+    int field10754 = 10754;
+    int field10755 = 10755;
+    int field10756 = 10756;
+    int field10757 = 10757;
+    int field10758 = 10758;
+    int field10759 = 10759;
+    int field10760 = 10760;
+    int field10761 = 10761;
+    int field10762 = 10762;
+    int field10763 = 10763;
+    int field10764 = 10764;
+    int field10765 = 10765;
+    int field10766 = 10766;
+    int field10767 = 10767;
+    int field10768 = 10768;
+    int field10769 = 10769;
+    int field10770 = 10770;
+    int field10771 = 10771;
+    int field10772 = 10772;
+    int field10773 = 10773;
+    int field10774 = 10774;
+    int field10775 = 10775;
+    int field10776 = 10776;
+    int field10777 = 10777;
+    int field10778 = 10778;
+    int field10779 = 10779;
+    int field10780 = 10780;
+    int field10781 = 10781;
+    int field10782 = 10782;
+    int field10783 = 10783;
+    int field10784 = 10784;
+    int field10785 = 10785;
+    int field10786 = 10786;
+    int field10787 = 10787;
+    int field10788 = 10788;
+    int field10789 = 10789;
+    int field10790 = 10790;
+    int field10791 = 10791;
+    int field10792 = 10792;
+    int field10793 = 10793;
+    int field10794 = 10794;
+    int field10795 = 10795;
+    int field10796 = 10796;
+    int field10797 = 10797;
+    int field10798 = 10798;
+    int field10799 = 10799;
+    int field10800 = 10800;
+    int field10801 = 10801;
+    int field10802 = 10802;
+    int field10803 = 10803;
+    int field10804 = 10804;
+    int field10805 = 10805;
+    int field10806 = 10806;
+    int field10807 = 10807;
+    int field10808 = 10808;
+    int field10809 = 10809;
+    int field10810 = 10810;
+    int field10811 = 10811;
+    int field10812 = 10812;
+    int field10813 = 10813;
+    int field10814 = 10814;
+    int field10815 = 10815;
+    int field10816 = 10816;
+    int field10817 = 10817;
+    int field10818 = 10818;
+    int field10819 = 10819;
+    int field10820 = 10820;
+    int field10821 = 10821;
+    int field10822 = 10822;
+    int field10823 = 10823;
+    int field10824 = 10824;
+    int field10825 = 10825;
+    int field10826 = 10826;
+    int field10827 = 10827;
+    int field10828 = 10828;
+    int field10829 = 10829;
+    int field10830 = 10830;
+    int field10831 = 10831;
+    int field10832 = 10832;
+    int field10833 = 10833;
+    int field10834 = 10834;
+    int field10835 = 10835;
+    int field10836 = 10836;
+    int field10837 = 10837;
+    int field10838 = 10838;
+    int field10839 = 10839;
+    int field10840 = 10840;
+    int field10841 = 10841;
+    int field10842 = 10842;
+    int field10843 = 10843;
+    int field10844 = 10844;
+    int field10845 = 10845;
+    int field10846 = 10846;
+    int field10847 = 10847;
+    int field10848 = 10848;
+    int field10849 = 10849;
+    int field10850 = 10850;
+    int field10851 = 10851;
+    int field10852 = 10852;
+    int field10853 = 10853;
+    int field10854 = 10854;
+    int field10855 = 10855;
+    int field10856 = 10856;
+    int field10857 = 10857;
+    int field10858 = 10858;
+    int field10859 = 10859;
+    int field10860 = 10860;
+    int field10861 = 10861;
+    int field10862 = 10862;
+    int field10863 = 10863;
+    int field10864 = 10864;
+    int field10865 = 10865;
+    int field10866 = 10866;
+    int field10867 = 10867;
+    int field10868 = 10868;
+    int field10869 = 10869;
+    int field10870 = 10870;
+    int field10871 = 10871;
+    int field10872 = 10872;
+    int field10873 = 10873;
+    int field10874 = 10874;
+    int field10875 = 10875;
+    int field10876 = 10876;
+    int field10877 = 10877;
+    int field10878 = 10878;
+    int field10879 = 10879;
+    int field10880 = 10880;
+    int field10881 = 10881;
+    int field10882 = 10882;
+    int field10883 = 10883;
+    int field10884 = 10884;
+    int field10885 = 10885;
+    int field10886 = 10886;
+    int field10887 = 10887;
+    int field10888 = 10888;
+    int field10889 = 10889;
+    int field10890 = 10890;
+    int field10891 = 10891;
+    int field10892 = 10892;
+    int field10893 = 10893;
+    int field10894 = 10894;
+    int field10895 = 10895;
+    int field10896 = 10896;
+    int field10897 = 10897;
+    int field10898 = 10898;
+    int field10899 = 10899;
+    int field10900 = 10900;
+    int field10901 = 10901;
+    int field10902 = 10902;
+    int field10903 = 10903;
+    int field10904 = 10904;
+    int field10905 = 10905;
+    int field10906 = 10906;
+    int field10907 = 10907;
+    int field10908 = 10908;
+    int field10909 = 10909;
+    int field10910 = 10910;
+    int field10911 = 10911;
+    int field10912 = 10912;
+    int field10913 = 10913;
+    int field10914 = 10914;
+    int field10915 = 10915;
+    int field10916 = 10916;
+    int field10917 = 10917;
+    int field10918 = 10918;
+    int field10919 = 10919;
+    int field10920 = 10920;
+    int field10921 = 10921;
+    int field10922 = 10922;
+    int field10923 = 10923;
+    int field10924 = 10924;
+    int field10925 = 10925;
+    int field10926 = 10926;
+    int field10927 = 10927;
+    int field10928 = 10928;
+    int field10929 = 10929;
+    int field10930 = 10930;
+    int field10931 = 10931;
+    int field10932 = 10932;
+    int field10933 = 10933;
+    int field10934 = 10934;
+    int field10935 = 10935;
+    int field10936 = 10936;
+    int field10937 = 10937;
+    int field10938 = 10938;
+    int field10939 = 10939;
+    int field10940 = 10940;
+    int field10941 = 10941;
+    int field10942 = 10942;
+    int field10943 = 10943;
+    int field10944 = 10944;
+    int field10945 = 10945;
+    int field10946 = 10946;
+    int field10947 = 10947;
+    int field10948 = 10948;
+    int field10949 = 10949;
+    int field10950 = 10950;
+    int field10951 = 10951;
+    int field10952 = 10952;
+    int field10953 = 10953;
+    int field10954 = 10954;
+    int field10955 = 10955;
+    int field10956 = 10956;
+    int field10957 = 10957;
+    int field10958 = 10958;
+    int field10959 = 10959;
+    int field10960 = 10960;
+    int field10961 = 10961;
+    int field10962 = 10962;
+    int field10963 = 10963;
+    int field10964 = 10964;
+    int field10965 = 10965;
+    int field10966 = 10966;
+    int field10967 = 10967;
+    int field10968 = 10968;
+    int field10969 = 10969;
+    int field10970 = 10970;
+    int field10971 = 10971;
+    int field10972 = 10972;
+    int field10973 = 10973;
+    int field10974 = 10974;
+    int field10975 = 10975;
+    int field10976 = 10976;
+    int field10977 = 10977;
+    int field10978 = 10978;
+    int field10979 = 10979;
+    int field10980 = 10980;
+    int field10981 = 10981;
+    int field10982 = 10982;
+    int field10983 = 10983;
+    int field10984 = 10984;
+    int field10985 = 10985;
+    int field10986 = 10986;
+    int field10987 = 10987;
+    int field10988 = 10988;
+    int field10989 = 10989;
+    int field10990 = 10990;
+    int field10991 = 10991;
+    int field10992 = 10992;
+    int field10993 = 10993;
+    int field10994 = 10994;
+    int field10995 = 10995;
+    int field10996 = 10996;
+    int field10997 = 10997;
+    int field10998 = 10998;
+    int field10999 = 10999;
+    int field11000 = 11000;
+    int field11001 = 11001;
+    int field11002 = 11002;
+    int field11003 = 11003;
+    int field11004 = 11004;
+    int field11005 = 11005;
+    int field11006 = 11006;
+    int field11007 = 11007;
+    int field11008 = 11008;
+    int field11009 = 11009;
+    int field11010 = 11010;
+    int field11011 = 11011;
+    int field11012 = 11012;
+    int field11013 = 11013;
+    int field11014 = 11014;
+    int field11015 = 11015;
+    int field11016 = 11016;
+    int field11017 = 11017;
+    int field11018 = 11018;
+    int field11019 = 11019;
+    int field11020 = 11020;
+    int field11021 = 11021;
+    int field11022 = 11022;
+    int field11023 = 11023;
+    int field11024 = 11024;
+    int field11025 = 11025;
+    int field11026 = 11026;
+    int field11027 = 11027;
+    int field11028 = 11028;
+    int field11029 = 11029;
+    int field11030 = 11030;
+    int field11031 = 11031;
+    int field11032 = 11032;
+    int field11033 = 11033;
+    int field11034 = 11034;
+    int field11035 = 11035;
+    int field11036 = 11036;
+    int field11037 = 11037;
+    int field11038 = 11038;
+    int field11039 = 11039;
+    int field11040 = 11040;
+    int field11041 = 11041;
+    int field11042 = 11042;
+    int field11043 = 11043;
+    int field11044 = 11044;
+    int field11045 = 11045;
+    int field11046 = 11046;
+    int field11047 = 11047;
+    int field11048 = 11048;
+    int field11049 = 11049;
+    int field11050 = 11050;
+    int field11051 = 11051;
+    int field11052 = 11052;
+    int field11053 = 11053;
+    int field11054 = 11054;
+    int field11055 = 11055;
+    int field11056 = 11056;
+    int field11057 = 11057;
+    int field11058 = 11058;
+    int field11059 = 11059;
+    int field11060 = 11060;
+    int field11061 = 11061;
+    int field11062 = 11062;
+    int field11063 = 11063;
+    int field11064 = 11064;
+    int field11065 = 11065;
+    int field11066 = 11066;
+    int field11067 = 11067;
+    int field11068 = 11068;
+    int field11069 = 11069;
+    int field11070 = 11070;
+    int field11071 = 11071;
+    int field11072 = 11072;
+    int field11073 = 11073;
+    int field11074 = 11074;
+    int field11075 = 11075;
+    int field11076 = 11076;
+    int field11077 = 11077;
+    int field11078 = 11078;
+    int field11079 = 11079;
+    int field11080 = 11080;
+    int field11081 = 11081;
+    int field11082 = 11082;
+    int field11083 = 11083;
+    int field11084 = 11084;
+    int field11085 = 11085;
+    int field11086 = 11086;
+    int field11087 = 11087;
+    int field11088 = 11088;
+    int field11089 = 11089;
+    int field11090 = 11090;
+    int field11091 = 11091;
+    int field11092 = 11092;
+    int field11093 = 11093;
+    int field11094 = 11094;
+    int field11095 = 11095;
+    int field11096 = 11096;
+    int field11097 = 11097;
+    int field11098 = 11098;
+    int field11099 = 11099;
+    int field11100 = 11100;
+    int field11101 = 11101;
+    int field11102 = 11102;
+    int field11103 = 11103;
+    int field11104 = 11104;
+    int field11105 = 11105;
+    int field11106 = 11106;
+    int field11107 = 11107;
+    int field11108 = 11108;
+    int field11109 = 11109;
+    int field11110 = 11110;
+    int field11111 = 11111;
+    int field11112 = 11112;
+    int field11113 = 11113;
+    int field11114 = 11114;
+    int field11115 = 11115;
+    int field11116 = 11116;
+    int field11117 = 11117;
+    int field11118 = 11118;
+    int field11119 = 11119;
+    int field11120 = 11120;
+    int field11121 = 11121;
+    int field11122 = 11122;
+    int field11123 = 11123;
+    int field11124 = 11124;
+    int field11125 = 11125;
+    int field11126 = 11126;
+    int field11127 = 11127;
+    int field11128 = 11128;
+    int field11129 = 11129;
+    int field11130 = 11130;
+    int field11131 = 11131;
+    int field11132 = 11132;
+    int field11133 = 11133;
+    int field11134 = 11134;
+    int field11135 = 11135;
+    int field11136 = 11136;
+    int field11137 = 11137;
+    int field11138 = 11138;
+    int field11139 = 11139;
+    int field11140 = 11140;
+    int field11141 = 11141;
+    int field11142 = 11142;
+    int field11143 = 11143;
+    int field11144 = 11144;
+    int field11145 = 11145;
+    int field11146 = 11146;
+    int field11147 = 11147;
+    int field11148 = 11148;
+    int field11149 = 11149;
+    int field11150 = 11150;
+    int field11151 = 11151;
+    int field11152 = 11152;
+    int field11153 = 11153;
+    int field11154 = 11154;
+    int field11155 = 11155;
+    int field11156 = 11156;
+    int field11157 = 11157;
+    int field11158 = 11158;
+    int field11159 = 11159;
+    int field11160 = 11160;
+    int field11161 = 11161;
+    int field11162 = 11162;
+    int field11163 = 11163;
+    int field11164 = 11164;
+    int field11165 = 11165;
+    int field11166 = 11166;
+    int field11167 = 11167;
+    int field11168 = 11168;
+    int field11169 = 11169;
+    int field11170 = 11170;
+    int field11171 = 11171;
+    int field11172 = 11172;
+    int field11173 = 11173;
+    int field11174 = 11174;
+    int field11175 = 11175;
+    int field11176 = 11176;
+    int field11177 = 11177;
+    int field11178 = 11178;
+    int field11179 = 11179;
+    int field11180 = 11180;
+    int field11181 = 11181;
+    int field11182 = 11182;
+    int field11183 = 11183;
+    int field11184 = 11184;
+    int field11185 = 11185;
+    int field11186 = 11186;
+    int field11187 = 11187;
+    int field11188 = 11188;
+    int field11189 = 11189;
+    int field11190 = 11190;
+    int field11191 = 11191;
+    int field11192 = 11192;
+    int field11193 = 11193;
+    int field11194 = 11194;
+    int field11195 = 11195;
+    int field11196 = 11196;
+    int field11197 = 11197;
+    int field11198 = 11198;
+    int field11199 = 11199;
+    int field11200 = 11200;
+    int field11201 = 11201;
+    int field11202 = 11202;
+    int field11203 = 11203;
+    int field11204 = 11204;
+    int field11205 = 11205;
+    int field11206 = 11206;
+    int field11207 = 11207;
+    int field11208 = 11208;
+    int field11209 = 11209;
+    int field11210 = 11210;
+    int field11211 = 11211;
+    int field11212 = 11212;
+    int field11213 = 11213;
+    int field11214 = 11214;
+    int field11215 = 11215;
+    int field11216 = 11216;
+    int field11217 = 11217;
+    int field11218 = 11218;
+    int field11219 = 11219;
+    int field11220 = 11220;
+    int field11221 = 11221;
+    int field11222 = 11222;
+    int field11223 = 11223;
+    int field11224 = 11224;
+    int field11225 = 11225;
+    int field11226 = 11226;
+    int field11227 = 11227;
+    int field11228 = 11228;
+    int field11229 = 11229;
+    int field11230 = 11230;
+    int field11231 = 11231;
+    int field11232 = 11232;
+    int field11233 = 11233;
+    int field11234 = 11234;
+    int field11235 = 11235;
+    int field11236 = 11236;
+    int field11237 = 11237;
+    int field11238 = 11238;
+    int field11239 = 11239;
+    int field11240 = 11240;
+    int field11241 = 11241;
+    int field11242 = 11242;
+    int field11243 = 11243;
+    int field11244 = 11244;
+    int field11245 = 11245;
+    int field11246 = 11246;
+    int field11247 = 11247;
+    int field11248 = 11248;
+    int field11249 = 11249;
+    int field11250 = 11250;
+    int field11251 = 11251;
+    int field11252 = 11252;
+    int field11253 = 11253;
+    int field11254 = 11254;
+    int field11255 = 11255;
+    int field11256 = 11256;
+    int field11257 = 11257;
+    int field11258 = 11258;
+    int field11259 = 11259;
+    int field11260 = 11260;
+    int field11261 = 11261;
+    int field11262 = 11262;
+    int field11263 = 11263;
+    int field11264 = 11264;
+    int field11265 = 11265;
+    int field11266 = 11266;
+    int field11267 = 11267;
+    int field11268 = 11268;
+    int field11269 = 11269;
+    int field11270 = 11270;
+    int field11271 = 11271;
+    int field11272 = 11272;
+    int field11273 = 11273;
+    int field11274 = 11274;
+    int field11275 = 11275;
+    int field11276 = 11276;
+    int field11277 = 11277;
+    int field11278 = 11278;
+    int field11279 = 11279;
+    int field11280 = 11280;
+    int field11281 = 11281;
+    int field11282 = 11282;
+    int field11283 = 11283;
+    int field11284 = 11284;
+    int field11285 = 11285;
+    int field11286 = 11286;
+    int field11287 = 11287;
+    int field11288 = 11288;
+    int field11289 = 11289;
+    int field11290 = 11290;
+    int field11291 = 11291;
+    int field11292 = 11292;
+    int field11293 = 11293;
+    int field11294 = 11294;
+    int field11295 = 11295;
+    int field11296 = 11296;
+    int field11297 = 11297;
+    int field11298 = 11298;
+    int field11299 = 11299;
+    int field11300 = 11300;
+    int field11301 = 11301;
+    int field11302 = 11302;
+    int field11303 = 11303;
+    int field11304 = 11304;
+    int field11305 = 11305;
+    int field11306 = 11306;
+    int field11307 = 11307;
+    int field11308 = 11308;
+    int field11309 = 11309;
+    int field11310 = 11310;
+    int field11311 = 11311;
+    int field11312 = 11312;
+    int field11313 = 11313;
+    int field11314 = 11314;
+    int field11315 = 11315;
+    int field11316 = 11316;
+    int field11317 = 11317;
+    int field11318 = 11318;
+    int field11319 = 11319;
+    int field11320 = 11320;
+    int field11321 = 11321;
+    int field11322 = 11322;
+    int field11323 = 11323;
+    int field11324 = 11324;
+    int field11325 = 11325;
+    int field11326 = 11326;
+    int field11327 = 11327;
+    int field11328 = 11328;
+    int field11329 = 11329;
+    int field11330 = 11330;
+    int field11331 = 11331;
+    int field11332 = 11332;
+    int field11333 = 11333;
+    int field11334 = 11334;
+    int field11335 = 11335;
+    int field11336 = 11336;
+    int field11337 = 11337;
+    int field11338 = 11338;
+    int field11339 = 11339;
+    int field11340 = 11340;
+    int field11341 = 11341;
+    int field11342 = 11342;
+    int field11343 = 11343;
+    int field11344 = 11344;
+    int field11345 = 11345;
+    int field11346 = 11346;
+    int field11347 = 11347;
+    int field11348 = 11348;
+    int field11349 = 11349;
+    int field11350 = 11350;
+    int field11351 = 11351;
+    int field11352 = 11352;
+    int field11353 = 11353;
+    int field11354 = 11354;
+    int field11355 = 11355;
+    int field11356 = 11356;
+    int field11357 = 11357;
+    int field11358 = 11358;
+    int field11359 = 11359;
+    int field11360 = 11360;
+    int field11361 = 11361;
+    int field11362 = 11362;
+    int field11363 = 11363;
+    int field11364 = 11364;
+    int field11365 = 11365;
+    int field11366 = 11366;
+    int field11367 = 11367;
+    int field11368 = 11368;
+    int field11369 = 11369;
+    int field11370 = 11370;
+    int field11371 = 11371;
+    int field11372 = 11372;
+    int field11373 = 11373;
+    int field11374 = 11374;
+    int field11375 = 11375;
+    int field11376 = 11376;
+    int field11377 = 11377;
+    int field11378 = 11378;
+    int field11379 = 11379;
+    int field11380 = 11380;
+    int field11381 = 11381;
+    int field11382 = 11382;
+    int field11383 = 11383;
+    int field11384 = 11384;
+    int field11385 = 11385;
+    int field11386 = 11386;
+    int field11387 = 11387;
+    int field11388 = 11388;
+    int field11389 = 11389;
+    int field11390 = 11390;
+    int field11391 = 11391;
+    int field11392 = 11392;
+    int field11393 = 11393;
+    int field11394 = 11394;
+    int field11395 = 11395;
+    int field11396 = 11396;
+    int field11397 = 11397;
+    int field11398 = 11398;
+    int field11399 = 11399;
+    int field11400 = 11400;
+    int field11401 = 11401;
+    int field11402 = 11402;
+    int field11403 = 11403;
+    int field11404 = 11404;
+    int field11405 = 11405;
+    int field11406 = 11406;
+    int field11407 = 11407;
+    int field11408 = 11408;
+    int field11409 = 11409;
+    int field11410 = 11410;
+    int field11411 = 11411;
+    int field11412 = 11412;
+    int field11413 = 11413;
+    int field11414 = 11414;
+    int field11415 = 11415;
+    int field11416 = 11416;
+    int field11417 = 11417;
+    int field11418 = 11418;
+    int field11419 = 11419;
+    int field11420 = 11420;
+    int field11421 = 11421;
+    int field11422 = 11422;
+    int field11423 = 11423;
+    int field11424 = 11424;
+    int field11425 = 11425;
+    int field11426 = 11426;
+    int field11427 = 11427;
+    int field11428 = 11428;
+    int field11429 = 11429;
+    int field11430 = 11430;
+    int field11431 = 11431;
+    int field11432 = 11432;
+    int field11433 = 11433;
+    int field11434 = 11434;
+    int field11435 = 11435;
+    int field11436 = 11436;
+    int field11437 = 11437;
+    int field11438 = 11438;
+    int field11439 = 11439;
+    int field11440 = 11440;
+    int field11441 = 11441;
+    int field11442 = 11442;
+    int field11443 = 11443;
+    int field11444 = 11444;
+    int field11445 = 11445;
+    int field11446 = 11446;
+    int field11447 = 11447;
+    int field11448 = 11448;
+    int field11449 = 11449;
+    int field11450 = 11450;
+    int field11451 = 11451;
+    int field11452 = 11452;
+    int field11453 = 11453;
+    int field11454 = 11454;
+    int field11455 = 11455;
+    int field11456 = 11456;
+    int field11457 = 11457;
+    int field11458 = 11458;
+    int field11459 = 11459;
+    int field11460 = 11460;
+    int field11461 = 11461;
+    int field11462 = 11462;
+    int field11463 = 11463;
+    int field11464 = 11464;
+    int field11465 = 11465;
+    int field11466 = 11466;
+    int field11467 = 11467;
+    int field11468 = 11468;
+    int field11469 = 11469;
+    int field11470 = 11470;
+    int field11471 = 11471;
+    int field11472 = 11472;
+    int field11473 = 11473;
+    int field11474 = 11474;
+    int field11475 = 11475;
+    int field11476 = 11476;
+    int field11477 = 11477;
+    int field11478 = 11478;
+    int field11479 = 11479;
+    int field11480 = 11480;
+    int field11481 = 11481;
+    int field11482 = 11482;
+    int field11483 = 11483;
+    int field11484 = 11484;
+    int field11485 = 11485;
+    int field11486 = 11486;
+    int field11487 = 11487;
+    int field11488 = 11488;
+    int field11489 = 11489;
+    int field11490 = 11490;
+    int field11491 = 11491;
+    int field11492 = 11492;
+    int field11493 = 11493;
+    int field11494 = 11494;
+    int field11495 = 11495;
+    int field11496 = 11496;
+    int field11497 = 11497;
+    int field11498 = 11498;
+    int field11499 = 11499;
+    int field11500 = 11500;
+    int field11501 = 11501;
+    int field11502 = 11502;
+    int field11503 = 11503;
+    int field11504 = 11504;
+    int field11505 = 11505;
+    int field11506 = 11506;
+    int field11507 = 11507;
+    int field11508 = 11508;
+    int field11509 = 11509;
+    int field11510 = 11510;
+    int field11511 = 11511;
+    int field11512 = 11512;
+    int field11513 = 11513;
+    int field11514 = 11514;
+    int field11515 = 11515;
+    int field11516 = 11516;
+    int field11517 = 11517;
+    int field11518 = 11518;
+    int field11519 = 11519;
+    int field11520 = 11520;
+    int field11521 = 11521;
+    int field11522 = 11522;
+    int field11523 = 11523;
+    int field11524 = 11524;
+    int field11525 = 11525;
+    int field11526 = 11526;
+    int field11527 = 11527;
+    int field11528 = 11528;
+    int field11529 = 11529;
+    int field11530 = 11530;
+    int field11531 = 11531;
+    int field11532 = 11532;
+    int field11533 = 11533;
+    int field11534 = 11534;
+    int field11535 = 11535;
+    int field11536 = 11536;
+    int field11537 = 11537;
+    int field11538 = 11538;
+    int field11539 = 11539;
+    int field11540 = 11540;
+    int field11541 = 11541;
+    int field11542 = 11542;
+    int field11543 = 11543;
+    int field11544 = 11544;
+    int field11545 = 11545;
+    int field11546 = 11546;
+    int field11547 = 11547;
+    int field11548 = 11548;
+    int field11549 = 11549;
+    int field11550 = 11550;
+    int field11551 = 11551;
+    int field11552 = 11552;
+    int field11553 = 11553;
+    int field11554 = 11554;
+    int field11555 = 11555;
+    int field11556 = 11556;
+    int field11557 = 11557;
+    int field11558 = 11558;
+    int field11559 = 11559;
+    int field11560 = 11560;
+    int field11561 = 11561;
+    int field11562 = 11562;
+    int field11563 = 11563;
+    int field11564 = 11564;
+    int field11565 = 11565;
+    int field11566 = 11566;
+    int field11567 = 11567;
+    int field11568 = 11568;
+    int field11569 = 11569;
+    int field11570 = 11570;
+    int field11571 = 11571;
+    int field11572 = 11572;
+    int field11573 = 11573;
+    int field11574 = 11574;
+    int field11575 = 11575;
+    int field11576 = 11576;
+    int field11577 = 11577;
+    int field11578 = 11578;
+    int field11579 = 11579;
+    int field11580 = 11580;
+    int field11581 = 11581;
+    int field11582 = 11582;
+    int field11583 = 11583;
+    int field11584 = 11584;
+    int field11585 = 11585;
+    int field11586 = 11586;
+    int field11587 = 11587;
+    int field11588 = 11588;
+    int field11589 = 11589;
+    int field11590 = 11590;
+    int field11591 = 11591;
+    int field11592 = 11592;
+    int field11593 = 11593;
+    int field11594 = 11594;
+    int field11595 = 11595;
+    int field11596 = 11596;
+    int field11597 = 11597;
+    int field11598 = 11598;
+    int field11599 = 11599;
+    int field11600 = 11600;
+    int field11601 = 11601;
+    int field11602 = 11602;
+    int field11603 = 11603;
+    int field11604 = 11604;
+    int field11605 = 11605;
+    int field11606 = 11606;
+    int field11607 = 11607;
+    int field11608 = 11608;
+    int field11609 = 11609;
+    int field11610 = 11610;
+    int field11611 = 11611;
+    int field11612 = 11612;
+    int field11613 = 11613;
+    int field11614 = 11614;
+    int field11615 = 11615;
+    int field11616 = 11616;
+    int field11617 = 11617;
+    int field11618 = 11618;
+    int field11619 = 11619;
+    int field11620 = 11620;
+    int field11621 = 11621;
+    int field11622 = 11622;
+    int field11623 = 11623;
+    int field11624 = 11624;
+    int field11625 = 11625;
+    int field11626 = 11626;
+    int field11627 = 11627;
+    int field11628 = 11628;
+    int field11629 = 11629;
+    int field11630 = 11630;
+    int field11631 = 11631;
+    int field11632 = 11632;
+    int field11633 = 11633;
+    int field11634 = 11634;
+    int field11635 = 11635;
+    int field11636 = 11636;
+    int field11637 = 11637;
+    int field11638 = 11638;
+    int field11639 = 11639;
+    int field11640 = 11640;
+    int field11641 = 11641;
+    int field11642 = 11642;
+    int field11643 = 11643;
+    int field11644 = 11644;
+    int field11645 = 11645;
+    int field11646 = 11646;
+    int field11647 = 11647;
+    int field11648 = 11648;
+    int field11649 = 11649;
+    int field11650 = 11650;
+    int field11651 = 11651;
+    int field11652 = 11652;
+    int field11653 = 11653;
+    int field11654 = 11654;
+    int field11655 = 11655;
+    int field11656 = 11656;
+    int field11657 = 11657;
+    int field11658 = 11658;
+    int field11659 = 11659;
+    int field11660 = 11660;
+    int field11661 = 11661;
+    int field11662 = 11662;
+    int field11663 = 11663;
+    int field11664 = 11664;
+    int field11665 = 11665;
+    int field11666 = 11666;
+    int field11667 = 11667;
+    int field11668 = 11668;
+    int field11669 = 11669;
+    int field11670 = 11670;
+    int field11671 = 11671;
+    int field11672 = 11672;
+    int field11673 = 11673;
+    int field11674 = 11674;
+    int field11675 = 11675;
+    int field11676 = 11676;
+    int field11677 = 11677;
+    int field11678 = 11678;
+    int field11679 = 11679;
+    int field11680 = 11680;
+    int field11681 = 11681;
+    int field11682 = 11682;
+    int field11683 = 11683;
+    int field11684 = 11684;
+    int field11685 = 11685;
+    int field11686 = 11686;
+    int field11687 = 11687;
+    int field11688 = 11688;
+    int field11689 = 11689;
+    int field11690 = 11690;
+    int field11691 = 11691;
+    int field11692 = 11692;
+    int field11693 = 11693;
+    int field11694 = 11694;
+    int field11695 = 11695;
+    int field11696 = 11696;
+    int field11697 = 11697;
+    int field11698 = 11698;
+    int field11699 = 11699;
+    int field11700 = 11700;
+    int field11701 = 11701;
+    int field11702 = 11702;
+    int field11703 = 11703;
+    int field11704 = 11704;
+    int field11705 = 11705;
+    int field11706 = 11706;
+    int field11707 = 11707;
+    int field11708 = 11708;
+    int field11709 = 11709;
+    int field11710 = 11710;
+    int field11711 = 11711;
+    int field11712 = 11712;
+    int field11713 = 11713;
+    int field11714 = 11714;
+    int field11715 = 11715;
+    int field11716 = 11716;
+    int field11717 = 11717;
+    int field11718 = 11718;
+    int field11719 = 11719;
+    int field11720 = 11720;
+    int field11721 = 11721;
+    int field11722 = 11722;
+    int field11723 = 11723;
+    int field11724 = 11724;
+    int field11725 = 11725;
+    int field11726 = 11726;
+    int field11727 = 11727;
+    int field11728 = 11728;
+    int field11729 = 11729;
+    int field11730 = 11730;
+    int field11731 = 11731;
+    int field11732 = 11732;
+    int field11733 = 11733;
+    int field11734 = 11734;
+    int field11735 = 11735;
+    int field11736 = 11736;
+    int field11737 = 11737;
+    int field11738 = 11738;
+    int field11739 = 11739;
+    int field11740 = 11740;
+    int field11741 = 11741;
+    int field11742 = 11742;
+    int field11743 = 11743;
+    int field11744 = 11744;
+    int field11745 = 11745;
+    int field11746 = 11746;
+    int field11747 = 11747;
+    int field11748 = 11748;
+    int field11749 = 11749;
+    int field11750 = 11750;
+    int field11751 = 11751;
+    int field11752 = 11752;
+    int field11753 = 11753;
+    int field11754 = 11754;
+    int field11755 = 11755;
+    int field11756 = 11756;
+    int field11757 = 11757;
+    int field11758 = 11758;
+    int field11759 = 11759;
+    int field11760 = 11760;
+    int field11761 = 11761;
+    int field11762 = 11762;
+    int field11763 = 11763;
+    int field11764 = 11764;
+}
@@ -0,0 +1,3 @@
+class Unicode {
+    String s = "café 中 😀"; // ü
+}
@@ -0,0 +1,141 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import ghaffarian.progex.SyntheticCorpus;
+
+/**
+ * Input corpora of the benchmarks; which are selected by name:
+ *
+ *   "basic"      the basic test-cases of PROGEX (src/test/resources/java/basic);
+ *   "scaled-N"   N copies of the basic test-cases, each copy in a separate package
+ *                (e.g. "scaled-10"); for measuring how each phase scales with input size.
+ *   "synthetic-N"  N classes generated by the synthetic corpus generator of PROGEX's
+ *                test-classes (with the default profile; e.g. "synthetic-100").
+ *
+ * The directory of the basic test-cases can be set by the 'progex.basic.dir' system property;
+ * by default, it is relative to the working directory (i.e. the root of the repository).
+ * Scaled and synthetic corpora are written to a temporary directory, once per JVM.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public final class BenchmarkCorpus {
+
+	public static final String BASIC = "basic";
+	public static final String SCALED_PREFIX = "scaled-";
+	public static final String SYNTHETIC_PREFIX = "synthetic-";
+
+	private static final Pattern PACKAGE = Pattern.compile("(?m)^\\s*package\\s+[\\w.]+\\s*;");
+
+	private static final Map<String, File[]> corpora = new HashMap<>();
+
+	private BenchmarkCorpus() {
+	}
+
+	/**
+	 * Returns the Java source files of the corpus with the given name.
+	 */
+	public static synchronized File[] get(String name) throws IOException {
+		File[] files = corpora.get(name);
+		if (files == null) {
+			if (name.equals(BASIC))
+				files = basicFiles();
+			else if (name.startsWith(SCALED_PREFIX))
+				files = scaledFiles(Integer.parseInt(name.substring(SCALED_PREFIX.length())));
+			else if (name.startsWith(SYNTHETIC_PREFIX))
+				files = syntheticFiles(Integer.parseInt(name.substring(SYNTHETIC_PREFIX.length())));
+			else
+				throw new IllegalArgumentException("Unknown corpus: " + name);
+			corpora.put(name, files);
+		}
+		return files;
+	}
+
+	/**
+	 * Returns the paths of the Java source files of the corpus with the given name.
+	 */
+	public static String[] getPaths(String name) throws IOException {
+		File[] files = get(name);
+		String[] paths = new String[files.length];
+		for (int i = 0; i < files.length; ++i)
+			paths[i] = files[i].getPath();
+		return paths;
+	}
+
+	private static File[] basicFiles() throws IOException {
+		File dir = new File(System.getProperty("progex.basic.dir", "src/test/resources/java/basic"));
+		File[] files = dir.listFiles((parent, name) -> name.endsWith(".java"));
+		if (files == null || files.length == 0)
+			throw new IOException("No Java files in: " + dir.getAbsolutePath());
+		Arrays.sort(files);
+		return files;
+	}
+
+	/**
+	 * Generate a synthetic corpus with the given number of classes.
+	 */
+	private static File[] syntheticFiles(int classes) throws IOException {
+		SyntheticCorpus.Profile profile = new SyntheticCorpus.Profile();
+		profile.classes = classes;
+		Path root = Files.createTempDirectory("progex-synthetic-");
+		String[] paths = new SyntheticCorpus(profile).generate(root.toFile());
+		File[] files = new File[paths.length];
+		for (int i = 0; i < paths.length; ++i)
+			files[i] = new File(paths[i]);
+		deleteOnExit(root.toFile());
+		return files;
+	}
+
+	/**
+	 * Register the given directory and all of its contents to be deleted on exit.
+	 */
+	private static void deleteOnExit(File dir) {
+		dir.deleteOnExit();
+		File[] children = dir.listFiles();
+		if (children != null)
+			for (File child: children)
+				deleteOnExit(child);
+	}
+
+	/**
+	 * Write the given number of copies of the basic test-cases, in separate packages.
+	 */
+	private static File[] scaledFiles(int copies) throws IOException {
+		if (copies < 1)
+			throw new IllegalArgumentException("Invalid number of copies: " + copies);
+		File[] basic = get(BASIC);
+		String[] sources = new String[basic.length];
+		for (int i = 0; i < basic.length; ++i)
+			sources[i] = new String(Files.readAllBytes(basic[i].toPath()), StandardCharsets.UTF_8);
+		Path root = Files.createTempDirectory("progex-corpus-");
+		root.toFile().deleteOnExit();
+		List<File> files = new ArrayList<>(copies * basic.length);
+		for (int c = 1; c <= copies; ++c) {
+			String pkg = "scaled.p" + c;
+			Path dir = root.resolve("scaled").resolve("p" + c);
+			Files.createDirectories(dir);
+			dir.getParent().toFile().deleteOnExit();
+			dir.toFile().deleteOnExit();
+			for (int i = 0; i < basic.length; ++i) {
+				String source = PACKAGE.matcher(sources[i]).find()
+						? PACKAGE.matcher(sources[i]).replaceFirst("package " + pkg + ";")
+						: "package " + pkg + ";\n" + sources[i];
+				File file = dir.resolve(basic[i].getName()).toFile();
+				Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+				file.deleteOnExit();
+				files.add(file);
+			}
+		}
+		return files.toArray(new File[files.size()]);
+	}
+}
@@ -0,0 +1,110 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.antlr.v4.runtime.tree.ParseTree;
+import ghaffarian.nanologger.Logger;
+import ghaffarian.progex.AnalysisSession;
+import ghaffarian.progex.java.JavaASTBuilder;
+import ghaffarian.progex.java.JavaCDGBuilder;
+import ghaffarian.progex.java.JavaCFGBuilder;
+import ghaffarian.progex.java.JavaDDGBuilder;
+import ghaffarian.progex.java.JavaICFGBuilder;
+
+/**
+ * Benchmarks of the graph builders over all files of a corpus.
+ *
+ * The builders get their parse-trees from the parse-tree cache of one analysis session;
+ * with 'parseTrees=warm' all trees are cached (and held) in the setup, so only the builders
+ * are measured; with 'parseTrees=cold' the cache is cleared before each call,
+ * so parsing is measured as well (as in a single run of PROGEX).
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuilderBenchmarks {
+
+	@Param({"basic", "scaled-10", "synthetic-20"})
+	public String corpus;
+
+	@Param({"warm", "cold"})
+	public String parseTrees;
+
+	private File[] files;
+	private AnalysisSession session;
+	// the cache does not hold its parse-trees, so the warm ones are held here
+	private ParseTree[] warmTrees;
+
+	@Setup
+	public void prepare() throws IOException {
+		Logger.setEchoToStdOut(false);
+		files = BenchmarkCorpus.get(corpus);
+		session = new AnalysisSession();
+		if (parseTrees.equals("warm")) {
+			warmTrees = new ParseTree[files.length];
+			for (int i = 0; i < files.length; ++i)
+				warmTrees[i] = session.getParseTreeCache().parse(files[i]);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void clearParseTrees() {
+		if (parseTrees.equals("cold"))
+			session.getParseTreeCache().clear();
+	}
+
+	@TearDown
+	public void close() {
+		session.close();
+		warmTrees = null;
+	}
+
+	@Benchmark
+	public void buildAST(Blackhole hole) throws IOException {
+		for (File file: files)
+			hole.consume(JavaASTBuilder.build(session, file));
+	}
+
+	@Benchmark
+	public void buildCFG(Blackhole hole) throws IOException {
+		for (File file: files)
+			hole.consume(JavaCFGBuilder.build(session, file));
+	}
+
+	@Benchmark
+	public void buildCDG(Blackhole hole) throws IOException {
+		for (File file: files)
+			hole.consume(JavaCDGBuilder.build(session, file));
+	}
+
+	@Benchmark
+	public Object buildDDG() throws IOException {
+		return JavaDDGBuilder.buildForAll(session, files, null);
+	}
+
+	@Benchmark
+	public Object buildICFG() throws IOException {
+		return JavaICFGBuilder.buildForAll(session, files);
+	}
+}
@@ -0,0 +1,101 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ghaffarian.nanologger.Logger;
+import ghaffarian.progex.graphs.CompactGraph;
+import ghaffarian.progex.graphs.pdg.ProgramDependeceGraph;
+import ghaffarian.progex.java.JavaASTBuilder;
+import ghaffarian.progex.java.JavaCFGBuilder;
+import ghaffarian.progex.java.JavaICFGBuilder;
+import ghaffarian.progex.java.JavaPDGBuilder;
+
+/**
+ * Benchmarks of the exporters; i.e. exporting all graphs of a kind
+ * (for all files of a corpus) to one of the output formats.
+ *
+ * Graphs are built and frozen in the setup (as in an execution; see CompactGraph),
+ * and exported files are written to a temporary directory.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportBenchmarks {
+
+	@Param({"basic", "scaled-10", "synthetic-20"})
+	public String corpus;
+
+	@Param({"AST", "CFG", "ICFG", "PDG-CTRL", "PDG-DATA"})
+	public String graph;
+
+	@Param({"DOT", "GML", "JSON", "BIN"})
+	public String format;
+
+	private List<CompactGraph<?, ?>> graphs;
+	private File outDir;
+
+	@Setup
+	public void buildGraphs() throws IOException {
+		Logger.setEchoToStdOut(false);
+		File[] files = BenchmarkCorpus.get(corpus);
+		graphs = new ArrayList<>();
+		switch (graph) {
+			case "AST":
+				for (File file: files)
+					graphs.add(JavaASTBuilder.build(file).freeze());
+				break;
+			case "CFG":
+				for (File file: files)
+					graphs.add(JavaCFGBuilder.build(file).freeze());
+				break;
+			case "ICFG":
+				graphs.add(JavaICFGBuilder.buildForAll(files).freeze());
+				break;
+			case "PDG-CTRL":
+			case "PDG-DATA":
+				for (ProgramDependeceGraph pdg: JavaPDGBuilder.buildForAll(files))
+					graphs.add(graph.equals("PDG-CTRL") ? pdg.CDS.freeze() : pdg.DDS.freeze());
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown graph: " + graph);
+		}
+		outDir = Files.createTempDirectory("progex-export-").toFile();
+	}
+
+	@TearDown
+	public void deleteOutputs() {
+		File[] outputs = outDir.listFiles();
+		if (outputs != null)
+			for (File output: outputs)
+				output.delete();
+		outDir.delete();
+	}
+
+	@Benchmark
+	public void export() throws IOException {
+		for (CompactGraph<?, ?> g: graphs)
+			g.export(format, outDir.getPath());
+	}
+}
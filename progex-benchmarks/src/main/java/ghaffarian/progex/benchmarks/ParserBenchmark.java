@@ -0,0 +1,74 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ghaffarian.progex.java.JavaParserFactory;
+
+/**
+ * Benchmark of parsing the Java source files of a corpus; i.e. the time of
+ * lexing and 'JavaParser.compilationUnit()' for all files of the corpus.
+ * Sources are read into memory in the setup, so no I/O is measured.
+ *
+ * The 'strategy' parameter compares the plain full-LL parsing ('LL') with the
+ * two-stage parsing of JavaParserFactory ('SLL-LL'); the number of files which
+ * needed the LL fallback is printed at the end of each trial.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+	@Param({"basic", "scaled-10", "synthetic-20"})
+	public String corpus;
+
+	@Param({"LL", "SLL-LL"})
+	public String strategy;
+
+	private char[][] sources;
+
+	@Setup
+	public void readSources() throws IOException {
+		JavaParserFactory.setTwoStage(strategy.equals("SLL-LL"));
+		File[] files = BenchmarkCorpus.get(corpus);
+		sources = new char[files.length][];
+		for (int i = 0; i < files.length; ++i)
+			sources[i] = new String(Files.readAllBytes(files[i].toPath()), StandardCharsets.UTF_8).toCharArray();
+	}
+
+	@TearDown
+	public void printFallbacks() {
+		System.out.println("\nLL fallbacks: " + JavaParserFactory.getFallbackCount() 
+				+ " of " + JavaParserFactory.getParseCount() + " parses");
+		JavaParserFactory.resetStats();
+		JavaParserFactory.setTwoStage(true);
+	}
+
+	@Benchmark
+	public void compilationUnit(Blackhole hole) {
+		for (char[] source: sources)
+			hole.consume(JavaParserFactory.parseCompilationUnit(new ANTLRInputStream(source, source.length)));
+	}
+}
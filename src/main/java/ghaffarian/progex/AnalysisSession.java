@@ -0,0 +1,162 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex;
+
+import ghaffarian.progex.java.JavaClassExtractor;
+import ghaffarian.progex.java.ParseTreeCache;
+
+/**
+ * An analysis session, which holds the options of the graph builders,
+ * and the parse-tree cache used by them.
+ *
+ * Every build call which is given a session keeps all of its per-run state
+ * (such as class-infos, method DEF infos, and symbol indices) in a builder
+ * instance of that call; which is never shared with other calls or sessions,
+ * and is garbage-collected once the call returns. Hence, any number of
+ * sessions can run analyses concurrently in a single process.
+ *
+ * Parse-trees are kept in the cache of the session, so each source file is parsed
+ * once for all analyses of a session; and they are released when the session is
+ * closed (or garbage-collected). A long-lived cache can also be shared by several
+ * sessions (e.g. in server mode), which is content-keyed and thread-safe.
+ * The only other state shared between sessions is that of the library sources; i.e.
+ * the persistent library summaries, and the store of library class signatures
+ * (see JavaClassExtractor), which is opened once per process.
+ *
+ * Build calls without a session parameter use a new session with the options of the
+ * default session (see newDefault), which is closed when the call returns; so their
+ * parse-trees are never kept after the call. The static option setters of the builders
+ * are the options of the default session (see getDefault).
+ *
+ * A session is not meant to be modified while it is used by a build call.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public class AnalysisSession implements AutoCloseable {
+
+	// the default session only holds options; so its cache does not keep any parse-tree
+	private static final AnalysisSession DEFAULT = new AnalysisSession(new ParseTreeCache(0));
+
+	/**
+	 * Returns the default session; whose options are used by all build calls without a session.
+	 * This session does not keep any parse-trees.
+	 */
+	public static AnalysisSession getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns a new session with the current options of the default session,
+	 * and a parse-tree cache of its own; which is used for a build call without a session,
+	 * and must be closed when the call returns.
+	 */
+	public static AnalysisSession newDefault() {
+		AnalysisSession session = new AnalysisSession();
+		session.threads = DEFAULT.threads;
+		session.legacyDataFlow = DEFAULT.legacyDataFlow;
+		session.legacyIteration = DEFAULT.legacyIteration;
+		session.syntacticCDG = DEFAULT.syntacticCDG;
+		return session;
+	}
+
+	private final ParseTreeCache parseTrees;
+	private final boolean ownsCache;
+	private int threads;
+	private boolean legacyDataFlow;
+	private boolean legacyIteration;
+	private boolean syntacticCDG;
+
+	/**
+	 * Construct a new analysis session with the default options,
+	 * and a parse-tree cache of its own.
+	 */
+	public AnalysisSession() {
+		this(new ParseTreeCache(), true);
+	}
+
+	/**
+	 * Construct a new analysis session with the default options, which uses the given
+	 * parse-tree cache; the cache is not cleared when this session is closed.
+	 */
+	public AnalysisSession(ParseTreeCache cache) {
+		this(cache, false);
+	}
+
+	private AnalysisSession(ParseTreeCache cache, boolean owned) {
+		parseTrees = cache;
+		ownsCache = owned;
+		threads = 1;
+		legacyDataFlow = false;
+		legacyIteration = false;
+		syntacticCDG = true;
+	}
+
+	/**
+	 * Set the number of threads for the builders of this session
+	 * (e.g. for the iterative DEF-USE analysis of source files).
+	 */
+	public boolean setThreadCount(int count) {
+		if (count < 1)
+			return false;
+		threads = count;
+		return true;
+	}
+
+	public int getThreadCount() {
+		return threads;
+	}
+
+	/**
+	 * Set whether data-flow edges are added by traversing all control-flow paths
+	 * (the legacy method), instead of the reaching-definitions analysis.
+	 */
+	public void setLegacyDataFlow(boolean legacy) {
+		legacyDataFlow = legacy;
+	}
+
+	public boolean isLegacyDataFlow() {
+		return legacyDataFlow;
+	}
+
+	/**
+	 * Set whether the DEF-USE analysis re-visits all files until nothing changes
+	 * (the legacy method), instead of using a call-graph ordered worklist of methods.
+	 */
+	public void setLegacyIteration(boolean legacy) {
+		legacyIteration = legacy;
+	}
+
+	public boolean isLegacyIteration() {
+		return legacyIteration;
+	}
+
+	/**
+	 * Set whether the control dependence subgraphs are built by the syntactic
+	 * visitor (the default), instead of post-dominator trees of the control flow graphs.
+	 */
+	public void setSyntacticCDG(boolean syntactic) {
+		syntacticCDG = syntactic;
+	}
+
+	public boolean isSyntacticCDG() {
+		return syntacticCDG;
+	}
+
+	/**
+	 * Returns the parse-tree cache of this session.
+	 */
+	public ParseTreeCache getParseTreeCache() {
+		return parseTrees;
+	}
+
+	/**
+	 * Release the parse-trees of this session, unless its cache is shared (see constructors);
+	 * and save the library signatures which are extracted by the analyses of this session.
+	 * A closed session can still be used, but its parse-trees are parsed again.
+	 */
+	@Override
+	public void close() {
+		if (ownsCache)
+			parseTrees.clear();
+		JavaClassExtractor.saveLibrarySignatures();
+	}
+}
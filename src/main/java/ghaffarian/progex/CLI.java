@@ -14,9 +14,19 @@ import ghaffarian.nanologger.Logger;
 public class CLI {
 	
 	private final Execution exec;
+	private final boolean exitOnError;
 	
 	public CLI() {
+		this(true);
+	}
+	
+	/**
+	 * Construct a new CLI; if not exiting on errors, then parsing errors 
+	 * are thrown as IllegalArgumentException (e.g. in server mode).
+	 */
+	public CLI(boolean exitOnError) {
 		exec = new Execution();
+		this.exitOnError = exitOnError;
 	}
 	
 	/**
@@ -60,12 +70,10 @@ public class CLI {
 							if (i < args.length - 1) {
 								++i;
 								if (!exec.setOutputDirectory(args[i])) {
-									printHelp("Output directory is not valid!");
-									System.exit(1);
+									fail("Output directory is not valid!");
 								}
 							} else {
-								printHelp("Output directory not specified!");
-								System.exit(1);
+								fail("Output directory not specified!");
 							}
 							break;
 						//
@@ -82,13 +90,23 @@ public class CLI {
 									case "json":
 										exec.setOutputFormat(Execution.Formats.JSON);
 										break;
+									case "bin":
+										exec.setOutputFormat(Execution.Formats.BIN);
+										break;
 									default:
-										printHelp("Unknown output format: " + args[i]);
-										System.exit(1);
+										fail("Unknown output format: " + args[i]);
 								}
 							} else {
-								printHelp("Format not specified!");
-								System.exit(1);
+								fail("Format not specified!");
+							}
+							break;
+						//
+						case "stream":
+							if (i < args.length - 1) {
+								++i;
+								exec.setStreamOutput(args[i]);
+							} else {
+								fail("Stream output not specified!");
 							}
 							break;
 						//
@@ -100,15 +118,49 @@ public class CLI {
 										exec.setLanguage(Execution.Languages.JAVA);
 										break;
 									default:
-										printHelp("Unsupported language: " + args[i]);
-										System.exit(1);
+										fail("Unsupported language: " + args[i]);
+								}
+							} else {
+								fail("Language not specified!");
+							}
+							break;
+						//
+						case "threads":
+							if (i < args.length - 1) {
+								++i;
+								int count;
+								try {
+									count = Integer.parseInt(args[i]);
+								} catch (NumberFormatException ex) {
+									count = 0;
+								}
+								if (!exec.setThreadCount(count)) {
+									fail("Invalid number of threads: " + args[i]);
+								}
+							} else {
+								fail("Number of threads not specified!");
+							}
+							break;
+						//
+						case "incremental":
+							if (i < args.length - 1) {
+								++i;
+								if (!exec.setIncrementalCache(args[i])) {
+									fail("Incremental cache directory is not valid!");
 								}
 							} else {
-								printHelp("Language not specified!");
-								System.exit(1);
+								fail("Incremental cache directory not specified!");
 							}
 							break;
 						//
+						case "lowmem":
+							exec.setStreamingPDG(true);
+							break;
+						//
+						case "postdom":
+							exec.setPostDominatorCDG(true);
+							break;
+						//
 						case "debug":
                             exec.setDebugMode(true);
                             try {
@@ -124,12 +176,10 @@ public class CLI {
 							break;
 						//
 						default:
-							printHelp("Unknown Option: " + args[i]);
-							System.exit(1);
+							fail("Unknown Option: " + args[i]);
 					}
 				} else {
-					printHelp("Invalid Option: " + args[i]);
-					System.exit(1);
+					fail("Invalid Option: " + args[i]);
 				}
 			} else {
 				// any argument that does not start with a '-' is considered an input file path
@@ -143,6 +193,16 @@ public class CLI {
 		return exec;
 	}
 	
+	/**
+	 * Report an invalid command line and stop parsing.
+	 */
+	private void fail(String errMsg) {
+		printHelp(errMsg);
+		if (exitOnError)
+			System.exit(1);
+		throw new IllegalArgumentException(errMsg);
+	}
+	
 	/**
 	 * Prints the usage guide for the program.
 	 * If an error message is given, the message is also printed to the output.
@@ -156,8 +216,13 @@ public class CLI {
 			"OPTIONS:\n",
 			"   -help      Print this help message",
 			"   -outdir    Specify path of output directory",
-			"   -format    Specify output format; either 'DOT', 'GML', or 'JSON'",
-			"   -lang      Specify language of program source codes\n",
+			"   -format    Specify output format; either 'DOT', 'GML', 'JSON', or 'BIN'",
+			"   -stream    Stream all graphs as NDJSON lines to a single file ('-' for stdout; '.gz' for GZIP)",
+			"   -lang      Specify language of program source codes",
+			"   -threads   Specify number of threads for analyses (AST, CFG, PDG, INFO)",
+			"   -incremental  Specify a cache directory, to reuse results of unchanged files (AST, CFG, PDG)",
+			"   -lowmem    Build and output PDGs one file at a time, to bound the memory usage (PDG)",
+			"   -postdom   Build control dependences from post-dominators of the CFGs; see NOTES (PDG)\n",
 			"   -ast       Perform AST (Abstract Syntax Tree) analysis",
 			"   -cfg       Perfomt CFG (Control Flow Graph) analysis",
 			"   -icfg      Perform ICFG (Interprocedural CFG) analysis",
@@ -165,10 +230,16 @@ public class CLI {
 			"   -pdg       Perform PDG (Program Dependence Graph) analysis\n",
 			"   -debug     Enable more detailed logs (only for debugging)",
 			"   -timetags  Enable time-tags and labels for logs (only for debugging)\n",
+			"   -server [port]  Run as a resident server, accepting analysis requests on a local port",
+			"   -client [port]  Send the given options to a running server, instead of a local run\n",
 			"DEFAULTS:\n",
 			"   - If not specified, the default output directory is the current working directory.",
 			"   - If not specified, the default output format is DOT.",
 			"   - If not specified, the default language is Java.",
+			"   - If not specified, all analyses are performed on a single thread.",
+			"   - If not specified, incremental analysis is disabled.",
+			"   - If not specified, control dependences are built syntactically (with region nodes).",
+			"   - If not specified, the default server port is " + Server.DEFAULT_PORT + ".",
 			"   - There is no default value for analysis type.",
 			"   - There is no default value for input directory path.\n",
 			"EXAMPLES:\n",
@@ -190,6 +261,22 @@ public class CLI {
 			"     of very large programs (i.e. about one million LoC). Needless to say, this ",
 			"     is possible on a computer with at least 8 giga-bytes of RAM:\n",
 			"        java -Xmx5G -jar PROGEX.jar -pdg ...\n",
+			"     Alternatively, the '-lowmem' option builds the PDGs in two phases: first the ",
+			"     method summaries of all files are computed, and then the PDG of each file is ",
+			"     built and exported before the next one; so the required memory depends on ",
+			"     the largest source file, instead of the whole program (yet it is slower).\n",
+			"   - The '-postdom' option computes the control dependences from post-dominator ",
+			"     trees of the CFGs (which are already built for PDG-DATA), instead of visiting ",
+			"     the syntax tree again; but its PDG-CTRL graphs are different, so it is not ",
+			"     the default. The default graphs follow the nesting of statements: each one ",
+			"     depends on its enclosing branch or loop (through THEN, ELSE, LOOP, etc. region ",
+			"     nodes), and the statements after a jump (e.g. 'break') depend on the other ",
+			"     branch. The post-dominator graphs are the control dependences of the CFG: ",
+			"     e.g. the body of a 'do-while' loop depends on its condition, a loop condition ",
+			"     depends on the branches which jump back to it, and jumps have no nodes; these ",
+			"     are different dependences, hence the default graphs cannot be derived from ",
+			"     post-dominators. With '-postdom' there are no region nodes, an 'exit' node ",
+			"     (at line 0) is added for each method, and edges are labeled as the CFG edges.\n",
 		};
 		
 		for (String line: help)
@@ -0,0 +1,138 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A thin client for a resident PROGEX server.
+ *
+ * The client accepts the same options as the CLI, and sends them to the server;
+ * all paths are made absolute, since the server has its own working directory.
+ * Streaming graphs to the standard output ("-stream -") is not supported by the client,
+ * since the graphs would be written to the standard output of the server.
+ * The paths of output files and code information are printed as received.
+ * The client does not initialize any analysis component, hence it starts quickly.
+ * Each request starts with the token of the server, which is read from its token file;
+ * so only the user who runs the server can send requests to it.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public class Client {
+
+	private final int port;
+
+	public Client(int port) {
+		this.port = port;
+	}
+
+	/**
+	 * Send the given command-line options to the server, and print the response.
+	 * Returns the exit status of the request; or 2 if the server is not reachable.
+	 */
+	public int send(String[] args) {
+		String[] request;
+		try {
+			request = args.length == 1 && args[0].equals(Server.SHUTDOWN) ? args : resolvePaths(args);
+		} catch (IllegalArgumentException ex) {
+			System.err.println("ERROR -- " + ex.getMessage());
+			return 1;
+		}
+		byte[] token;
+		try {
+			token = Files.readAllBytes(Server.tokenFile(port).toPath());
+		} catch (NoSuchFileException ex) {
+			System.err.println("ERROR -- PROGEX server is not running on port " + port);
+			return 2;
+		} catch (IOException ex) {
+			System.err.println("ERROR -- Cannot read the token of PROGEX server: " + ex);
+			return 2;
+		}
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			out.writeInt(token.length);
+			out.write(token);
+			out.writeInt(request.length);
+			for (String arg: request)
+				Server.writeString(out, arg);
+			out.flush();
+			//
+			DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			while (true) {
+				byte kind = in.readByte();
+				String msg = Server.readString(in);
+				switch (kind) {
+					case Server.OUTPUT:
+					case Server.INFO:
+						System.out.println(msg);
+						break;
+					case Server.ERROR:
+						System.err.println("ERROR -- " + msg);
+						break;
+					case Server.RESULT:
+						return Integer.parseInt(msg);
+				}
+			}
+		} catch (IOException ex) {
+			System.err.println("ERROR -- PROGEX server is not reachable on port " + port + ": " + ex);
+			return 2;
+		}
+	}
+
+	/**
+	 * Make all input paths and path options absolute, and set the output
+	 * directory to the current working directory, if not specified.
+	 * Throws an IllegalArgumentException for the options which are not supported by the client.
+	 */
+	private static String[] resolvePaths(String[] args) {
+		List<String> request = new ArrayList<>();
+		boolean hasOutDir = false;
+		for (int i = 0; i < args.length; ++i) {
+			if (args[i].startsWith("-")) {
+				String opt = args[i].replaceFirst("^--?", "").toLowerCase();
+				request.add(args[i]);
+				switch (opt) {
+					case "outdir":
+					case "incremental":
+						hasOutDir |= opt.equals("outdir");
+						if (i < args.length - 1)
+							request.add(new File(args[++i]).getAbsolutePath());
+						break;
+					//
+					case "stream":
+						if (i < args.length - 1) {
+							String target = args[++i];
+							if (target.equals(GraphStream.STDOUT))
+								throw new IllegalArgumentException("Streaming to the standard output is not supported in client mode!");
+							request.add(new File(target).getAbsolutePath());
+						}
+						break;
+					//
+					case "format":
+					case "lang":
+					case "threads":
+						if (i < args.length - 1)
+							request.add(args[++i]);
+						break;
+				}
+			} else {
+				request.add(new File(args[i]).getAbsolutePath());
+			}
+		}
+		if (!hasOutDir) {
+			request.add(0, "-outdir");
+			request.add(1, System.getProperty("user.dir"));
+		}
+		return request.toArray(new String[request.size()]);
+	}
+}
@@ -3,10 +3,20 @@ package ghaffarian.progex;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
+import ghaffarian.progex.graphs.CompactGraph;
+import ghaffarian.progex.graphs.GraphOutput;
 import ghaffarian.progex.graphs.ast.ASTBuilder;
-import ghaffarian.progex.graphs.ast.AbstractSyntaxTree;
 import ghaffarian.progex.graphs.cfg.CFGBuilder;
 import ghaffarian.progex.graphs.cfg.ControlFlowGraph;
 import ghaffarian.progex.graphs.cfg.ICFGBuilder;
@@ -17,6 +27,8 @@ import ghaffarian.progex.utils.SystemUtils;
 import ghaffarian.nanologger.Logger;
 import ghaffarian.progex.java.JavaClass;
 import ghaffarian.progex.java.JavaClassExtractor;
+import ghaffarian.progex.java.JavaParserFactory;
+import ghaffarian.progex.java.ParseTreeCache;
 import java.util.List;
 
 /**
@@ -30,12 +42,28 @@ public class Execution {
 	private final ArrayList<Analysis> analysisTypes;
 	private final ArrayList<String> inputPaths;
     private boolean debugMode;
+	private int threads;
+	private ResultCache resultCache;
+	private ResultListener resultListener;
+	private ParseTreeCache parseTrees;
+	private boolean streamingPDG;
+	private boolean postDominatorCDG;
+	private String streamTarget;
+	private GraphStream graphStream;
 	private String outputDir;
 	private Languages lang;
 	private Formats format;
 	
 	public Execution() {
         debugMode = false;
+		threads = 1;
+		resultCache = null;
+		resultListener = null;
+		parseTrees = null;
+		streamingPDG = false;
+		postDominatorCDG = false;
+		streamTarget = null;
+		graphStream = null;
 		analysisTypes = new ArrayList<>();
 		inputPaths = new ArrayList<>();
 		lang = Languages.JAVA;
@@ -90,7 +118,7 @@ public class Execution {
 	 * Enumeration of different supported output formats.
 	 */
 	public enum Formats {
-		DOT, GML, JSON
+		DOT, GML, JSON, BIN
 	}
 	
 	
@@ -113,6 +141,58 @@ public class Execution {
         debugMode = isDebug;
     }
 	
+	public boolean setThreadCount(int count) {
+		if (count < 1)
+			return false;
+		threads = count;
+		return true;
+	}
+	
+	public boolean setIncrementalCache(String cacheDir) {
+		ResultCache cache = new ResultCache(cacheDir);
+		if (!cache.isValid())
+			return false;
+		resultCache = cache;
+		return true;
+	}
+	
+	public void setResultListener(ResultListener listener) {
+		resultListener = listener;
+	}
+	
+	/**
+	 * Use the given parse-tree cache, which is kept after this execution (e.g. by a server);
+	 * otherwise, the parse-trees of each execution are released when it is finished.
+	 */
+	public void setParseTreeCache(ParseTreeCache cache) {
+		parseTrees = cache;
+	}
+	
+	/**
+	 * Build and output the PDGs one file at a time, with bounded memory (see PDGBuilder.buildForEach);
+	 * instead of building the PDGs of all files before any output.
+	 */
+	public void setStreamingPDG(boolean streaming) {
+		streamingPDG = streaming;
+	}
+	
+	/**
+	 * Build the control dependences of PDGs from the post-dominator trees of the CFGs,
+	 * instead of the syntactic visitor (see JavaPDGBuilder.setSyntacticCDG).
+	 */
+	public void setPostDominatorCDG(boolean postDominators) {
+		postDominatorCDG = postDominators;
+	}
+	
+	/**
+	 * Stream all graphs as NDJSON to the given target (a file path, or "-" for stdout),
+	 * instead of exporting each graph to its own file (see GraphStream).
+	 * Incremental analysis is not used for streamed graphs.
+	 */
+	public void setStreamOutput(String target) {
+		streamTarget = target;
+	}
+	
 	public void setOutputFormat(Formats fmt) {
 		format = fmt;
 	}
@@ -136,8 +216,16 @@ public class Execution {
 		StringBuilder str = new StringBuilder();
 		str.append("PROGEX execution config:");
 		str.append("\n  Language = ").append(lang);
-		str.append("\n  Output format = ").append(format);
-		str.append("\n  Output directory = ").append(outputDir);
+		str.append("\n  Output format = ").append(streamTarget != null ? "NDJSON" : format);
+		if (streamTarget != null)
+			str.append("\n  Output stream = ").append(streamTarget);
+		else
+			str.append("\n  Output directory = ").append(outputDir);
+		str.append("\n  Threads = ").append(threads);
+		if (resultCache != null)
+			str.append("\n  Incremental = ON");
+		if (streamingPDG)
+			str.append("\n  Low-memory PDG = ON");
 		str.append("\n  Analysis types = ").append(Arrays.toString(analysisTypes.toArray()));
 		str.append("\n  Input paths = \n");
 		for (String path: inputPaths)
@@ -147,19 +235,37 @@ public class Execution {
 	
 	/**
 	 * Execute the PROGEX program with the given options.
+	 * Returns false if the execution is aborted due to invalid options.
 	 */
-	public void execute() {
+	public boolean execute() {
 		if (inputPaths.isEmpty()) {
 			Logger.info("No input path provided!\nAbort.");
-			System.exit(0);
+			return false;
 		}
 		if (analysisTypes.isEmpty()) {
 			Logger.info("No analysis type provided!\nAbort.");
-			System.exit(0);
+			return false;
 		}
 		
 		Logger.info(toString());
 		
+		if (streamTarget == null)
+			return analyze();
+		try (GraphStream stream = new GraphStream(streamTarget)) {
+			graphStream = stream;
+			return analyze();
+		} catch (IOException ex) {
+			Logger.error(ex);
+			return false;
+		} finally {
+			graphStream = null;
+		}
+	}
+	
+	/**
+	 * Perform all analyses on the input paths, and output the results.
+	 */
+	private boolean analyze() {
 		// 1. Extract source files from input-paths, based on selected language
 		String[] paths = inputPaths.toArray(new String[inputPaths.size()]);
 		String[] filePaths = new String[0];
@@ -171,9 +277,14 @@ public class Execution {
 		if (!lang.equals(Languages.JAVA)) {
 			Logger.info("Analysis of " + lang.name + " programs is not yet supported!");
 			Logger.info("Abort.");
-			System.exit(0);
+			return false;
 		}
 
+		// All per-run state of the builders belongs to this session
+		AnalysisSession session = parseTrees == null ? new AnalysisSession() : new AnalysisSession(parseTrees);
+		session.setThreadCount(threads);
+		session.setSyntacticCDG(!postDominatorCDG);
+		
 		// 2. For each analysis type, do the analysis and output results
 		for (Analysis analysis: analysisTypes) {
 			
@@ -187,28 +298,18 @@ public class Execution {
 					Logger.info("\nAbstract Syntax Analysis");
 					Logger.info("========================");
 					Logger.debug("START: " + Logger.time() + '\n');
-					for (String srcFile : filePaths) {
-						try {
-                            AbstractSyntaxTree ast = ASTBuilder.build(lang.name, srcFile);
-							ast.export(format.toString(), outputDir);
-						} catch (IOException ex) {
-							Logger.error(ex);
-						}
-					}
+					forEachFileCached(filePaths, analysis,
+							(srcFile) -> ASTBuilder.build(session, lang.name, srcFile).freeze(),
+							(srcFile, ast) -> export(srcFile, "AST", ast), "AST");
 					break;
 				//
 				case "CFG":
 					Logger.info("\nControl-Flow Analysis");
 					Logger.info("=====================");
 					Logger.debug("START: " + Logger.time() + '\n');
-					for (String srcFile : filePaths) {
-						try {
-							ControlFlowGraph cfg = CFGBuilder.build(lang.name, srcFile);
-							cfg.export(format.toString(), outputDir);
-						} catch (IOException ex) {
-							Logger.error(ex);
-						}
-					}
+					forEachFileCached(filePaths, analysis,
+							(srcFile) -> CFGBuilder.build(session, lang.name, srcFile).freeze(),
+							(srcFile, cfg) -> export(srcFile, "CFG", cfg), "CFG");
 					break;
 				//
 				case "ICFG":
@@ -216,8 +317,11 @@ public class Execution {
 					Logger.info("=====================================");
 					Logger.debug("START: " + Logger.time() + '\n');
 					try {
-						ControlFlowGraph icfg = ICFGBuilder.buildForAll(lang.name, filePaths);
-						icfg.export(format.toString(), outputDir);
+						ControlFlowGraph icfg = ICFGBuilder.buildForAll(session, lang.name, filePaths);
+						String icfgName = icfg.fileName;
+						export(icfgName, "ICFG", icfg.freeze());
+						if (graphStream == null)
+							outputsWritten(icfgName, "CFG");
 					} catch (IOException ex) {
 						Logger.error(ex);
 					}
@@ -228,13 +332,20 @@ public class Execution {
 					Logger.info("===========================");
 					Logger.debug("START: " + Logger.time() + '\n');
 					try {
-						for (ProgramDependeceGraph pdg: PDGBuilder.buildForAll(lang.name, filePaths)) {
-							pdg.CDS.export(format.toString(), outputDir);
-							pdg.DDS.export(format.toString(), outputDir);
-                            if (debugMode) {
-                                pdg.DDS.getCFG().export(format.toString(), outputDir);
-                                pdg.DDS.printAllNodesUseDefs(Logger.Level.DEBUG);
-                            }
+						if (resultCache != null && !debugMode && graphStream == null) {
+							exportPDGsIncremental(session, filePaths);
+							break;
+						}
+						if (streamingPDG) {
+							PDGBuilder.buildForEach(session, lang.name, filePaths, null, 
+									(srcFile, pdg) -> exportPDG(srcFile.getPath(), pdg));
+							break;
+						}
+						ProgramDependeceGraph[] pdgs = PDGBuilder.buildForAll(session, lang.name, filePaths, null);
+						for (int i = 0; i < pdgs.length; ++i) {
+							exportPDG(filePaths[i], pdgs[i]);
+							// release each PDG once it is exported
+							pdgs[i] = null;
 						}
 					} catch (IOException ex) {
 						Logger.error(ex);
@@ -245,8 +356,15 @@ public class Execution {
 					Logger.info("\nCode Information Analysis");
 					Logger.info("=========================");
 					Logger.debug("START: " + Logger.time() + '\n');
-					for (String srcFile : filePaths)
-						analyzeInfo(lang.name, srcFile);
+					forEachFile(filePaths, 
+							(srcFile) -> analyzeInfo(session, lang.name, srcFile),
+							(srcFile, info) -> {
+								for (String line: info) {
+									Logger.info(line);
+									if (resultListener != null)
+										resultListener.infoLine(line);
+								}
+							});
 					break;
 				//
 				default:
@@ -254,39 +372,294 @@ public class Execution {
 			}
 			Logger.debug("\nFINISH: " + Logger.time());
 		}
+		session.getParseTreeCache().logStats(Logger.Level.DEBUG);
+		// release the parse-trees of this execution (unless a long-lived cache is given)
+		session.close();
+		JavaParserFactory.logStats(Logger.Level.DEBUG);
+		if (resultCache != null)
+			resultCache.logStats(Logger.Level.INFO);
 		//
 		Logger.debug("\nMemory Status");
 		Logger.debug("=============");
 		Logger.debug(SystemUtils.getMemoryStats());
+		return true;
+	}
+	
+	/**
+	 * Output the given frozen graph of the given source file; which is either written 
+	 * to the graph stream (if any), or exported to a file in the output directory.
+	 * Graphs are frozen as soon as they are finished (see CompactGraph); so only their
+	 * compact form is kept until the output, and the original graphs are released.
+	 */
+	private void export(String srcFile, String kind, CompactGraph<?, ?> graph) throws IOException {
+		if (graphStream != null)
+			graphStream.write(srcFile, kind, graph);
+		else
+			graph.export(format.toString(), outputDir);
+	}
+	
+	/**
+	 * Output the control and data dependence subgraphs of the given PDG;
+	 * and in debug mode, also its control flow graph and the DEF-USE info of its nodes.
+	 */
+	private void exportPDG(String srcFile, ProgramDependeceGraph pdg) throws IOException {
+		export(srcFile, "PDG-CTRL", pdg.CDS.freeze());
+		export(srcFile, "PDG-DATA", pdg.DDS.freeze());
+		if (graphStream == null)
+			outputsWritten(pdg.DDS.fileName, "PDG-CTRL", "PDG-DATA");
+		if (debugMode) {
+			export(srcFile, "CFG", pdg.DDS.getCFG().freeze());
+			if (graphStream == null)
+				outputsWritten(pdg.DDS.fileName, "CFG");
+			pdg.DDS.printAllNodesUseDefs(Logger.Level.DEBUG);
+		}
+	}
+	
+	/**
+	 * Report the output files of the given source file, with the given suffixes,
+	 * to the result listener (if any).
+	 */
+	private void outputsWritten(String srcFile, String... suffixes) {
+		if (resultListener != null)
+			for (String name: outputFileNames(srcFile, suffixes))
+				resultListener.outputFile(outputDir + name);
 	}
     
-	private void analyzeInfo(String lang, String srcFilePath) {
-		switch (lang.toLowerCase()) {
-			case "c":
-				return;
-			//
-			case "java":
+	/**
+	 * Perform the given per-file analysis on each of the given source files, 
+	 * and pass the result of each analysis to the given output action.
+	 * If more than one thread is set, the analyses are performed concurrently 
+	 * on a work-stealing thread-pool; yet the output actions are always 
+	 * performed on the calling thread and in the order of the given files, 
+	 * hence the output files and logs are deterministic.
+	 */
+	private <T> void forEachFile(String[] filePaths, FileAnalysis<T> analysis, FileOutput<T> output) {
+		if (threads == 1) {
+			for (String srcFile : filePaths) {
 				try {
-					Logger.info("\n========================================\n");
-					Logger.info("FILE: " + srcFilePath);
-					// first extract class info
-					List<JavaClass> classInfoList = JavaClassExtractor.extractInfo(srcFilePath);
-					for (JavaClass classInfo : classInfoList)
-						Logger.info("\n" + classInfo);
-					// then extract imports info
-					if (classInfoList.size() > 0) {
-						Logger.info("\n- - - - - - - - - - - - - - - - - - - - -");
-						String[] imports = classInfoList.get(0).IMPORTS;
-						for (JavaClass importInfo : JavaClassExtractor.extractImportsInfo(imports)) 
-							Logger.info("\n" + importInfo);
-					}
+					output.write(srcFile, analysis.analyze(srcFile));
 				} catch (IOException ex) {
 					Logger.error(ex);
 				}
+			}
+			return;
+		}
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			// only a limited number of results are kept in memory at any time
+			Deque<Future<T>> pending = new ArrayDeque<>();
+			int next = 0;
+			for (String srcFile : filePaths) {
+				while (next < filePaths.length && pending.size() < 2 * threads) {
+					String nextFile = filePaths[next++];
+					pending.add(pool.submit(() -> analysis.analyze(nextFile)));
+				}
+				try {
+					output.write(srcFile, pending.remove().get());
+				} catch (ExecutionException ex) {
+					Logger.error(ex.getCause());
+				} catch (IOException ex) {
+					Logger.error(ex);
+				}
+			}
+		} catch (InterruptedException ex) {
+			Logger.error(ex);
+			Thread.currentThread().interrupt();
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+	
+	/**
+	 * Same as forEachFile; but if incremental analysis is enabled, the output files 
+	 * of each source file are restored from the result cache, whenever available;
+	 * otherwise the analysis is performed and its output files are added to the cache.
+	 * The output files are named by the given suffixes (e.g. "AST" for "X-AST.dot").
+	 */
+	private <T> void forEachFileCached(String[] filePaths, Analysis type, FileAnalysis<T> analysis, 
+			FileOutput<T> output, String... outputSuffixes) {
+		if (graphStream != null) {
+			// streamed graphs are neither cached, nor output files
+			forEachFile(filePaths, analysis, output);
+			return;
+		}
+		if (resultCache == null) {
+			forEachFile(filePaths, analysis, (srcFile, result) -> {
+				output.write(srcFile, result);
+				outputsWritten(srcFile, outputSuffixes);
+			});
+			return;
+		}
+		forEachFile(filePaths, 
+				(srcFile) -> {
+					String key = fileKey(srcFile, type);
+					// the analysis is skipped, if the result is available in the cache
+					return new CachedResult<>(key, resultCache.contains(key) ? null : analysis.analyze(srcFile));
+				},
+				(srcFile, cached) -> {
+					if (cached.result == null && resultCache.restore(cached.key, outputDir)) {
+						outputsWritten(srcFile, outputSuffixes);
+						return;
+					}
+					output.write(srcFile, cached.result != null ? cached.result : analysis.analyze(srcFile));
+					resultCache.store(cached.key, outputDir, outputFileNames(srcFile, outputSuffixes));
+					outputsWritten(srcFile, outputSuffixes);
+				});
+	}
+	
+	/**
+	 * Build the PDGs of the given source files, using the result cache.
+	 * If none of the source files is changed since a previous run, all outputs are 
+	 * restored without any analysis. Otherwise, the DEF-USE analysis is performed for
+	 * all files (since method DEF infos depend on other files), but the PDG of a file is
+	 * built only if the file, or any of the method DEF infos it references, is changed.
+	 */
+	private void exportPDGsIncremental(AnalysisSession session, String[] filePaths) throws IOException {
+		String[] contentKeys = new String[filePaths.length];
+		Map<String, Integer> fileIndex = new HashMap<>();
+		for (int i = 0; i < filePaths.length; ++i) {
+			contentKeys[i] = ResultCache.key(fileKey(filePaths[i], Analysis.PDG).getBytes(StandardCharsets.UTF_8), 
+					PDGBuilder.getEngine(session, lang.name));
+			fileIndex.put(new File(filePaths[i]).getPath(), i);
+		}
+		String runKey = ResultCache.key(String.join("\n", contentKeys).getBytes(StandardCharsets.UTF_8), "PDG-RUN");
+		List<String> outputKeys = resultCache.getList(runKey);
+		if (outputKeys != null && outputKeys.size() == filePaths.length) {
+			boolean restored = true;
+			for (String key: outputKeys)
+				restored &= resultCache.contains(key);
+			for (int i = 0; restored && i < filePaths.length; ++i)
+				restored &= resultCache.restore(outputKeys.get(i), outputDir);
+			if (restored) {
+				for (String srcFile: filePaths)
+					outputsWritten(srcFile, "PDG-CTRL", "PDG-DATA");
 				return;
+			}
+		}
+		//
+		// The output key of each file depends on the DEF infos it references, which are
+		// only known to the builder; so the key of a file is set when it is filtered.
+		// A file without a key is never restored from the cache, nor added to it.
+		String[] keys = new String[filePaths.length];
+		BiPredicate<String, String> filter = (srcFile, defsSummary) -> {
+			Integer i = fileIndex.get(srcFile);
+			if (i == null)
+				return true;
+			keys[i] = ResultCache.key(defsSummary.getBytes(StandardCharsets.UTF_8), contentKeys[i]);
+			return !resultCache.contains(keys[i]);
+		};
+		GraphOutput<ProgramDependeceGraph> output = (srcFile, pdg) -> {
+			Integer i = fileIndex.get(srcFile.getPath());
+			String key = i == null ? null : keys[i];
+			if (pdg == null) {
+				if (key == null || !resultCache.restore(key, outputDir))
+					Logger.error("Result cache entry not found for: " + srcFile.getPath());
+			} else {
+				pdg.CDS.export(format.toString(), outputDir);
+				pdg.DDS.export(format.toString(), outputDir);
+				if (key != null)
+					resultCache.store(key, outputDir, outputFileNames(srcFile.getPath(), "PDG-CTRL", "PDG-DATA"));
+			}
+			outputsWritten(srcFile.getPath(), "PDG-CTRL", "PDG-DATA");
+		};
+		if (streamingPDG) {
+			PDGBuilder.buildForEach(session, lang.name, filePaths, filter, output);
+		} else {
+			ProgramDependeceGraph[] pdgs = PDGBuilder.buildForAll(session, lang.name, filePaths, filter);
+			for (int i = 0; i < filePaths.length; ++i)
+				output.write(new File(filePaths[i]), pdgs[i]);
+		}
+		// the outputs of a run are only restored as a whole, if all files have a key
+		if (!Arrays.asList(keys).contains(null))
+			resultCache.putList(runKey, Arrays.asList(keys));
+	}
+	
+	/**
+	 * Returns the result cache key of the given source file for the given analysis,
+	 * which depends on the file name and content, the output format, and PROGEX version.
+	 */
+	private String fileKey(String srcFile, Analysis analysis) throws IOException {
+		return ResultCache.fileKey(srcFile, new File(srcFile).getName(), 
+				analysis.type, format.toString(), Main.VERSION);
+	}
+	
+	/**
+	 * Returns the names of the output files of the given source file, with the given suffixes.
+	 */
+	private String[] outputFileNames(String srcFile, String... suffixes) {
+		String filename = new File(srcFile).getName();
+		filename = filename.substring(0, filename.indexOf('.'));
+		String[] names = new String[suffixes.length];
+		for (int i = 0; i < suffixes.length; ++i)
+			names[i] = filename + '-' + suffixes[i] + '.' + format.toString().toLowerCase();
+		return names;
+	}
+	
+	/**
+	 * The result of a single-file analysis along with its result cache key;
+	 * where the result is null if it is available in the cache.
+	 */
+	private static class CachedResult<T> {
+		final String key;
+		final T result;
+		CachedResult(String key, T result) {
+			this.key = key;
+			this.result = result;
+		}
+	}
+	
+	/**
+	 * A listener for the results of an execution; i.e. the paths of output files,
+	 * and the lines of code information. Listeners are called on the executing thread.
+	 */
+	public interface ResultListener {
+		void outputFile(String path);
+		void infoLine(String line);
+	}
+	
+	/**
+	 * An analysis which is performed on a single source file.
+	 */
+	private interface FileAnalysis<T> {
+		T analyze(String srcFile) throws IOException;
+	}
+	
+	/**
+	 * An output action for the result of a single-file analysis.
+	 */
+	private interface FileOutput<T> {
+		void write(String srcFile, T result) throws IOException;
+	}
+    
+	/**
+	 * Extract detailed information about the given source file.
+	 * The information is returned as lines of text to be logged.
+	 */
+	private List<String> analyzeInfo(AnalysisSession session, String lang, String srcFilePath) throws IOException {
+		List<String> info = new ArrayList<>();
+		switch (lang.toLowerCase()) {
+			case "c":
+				break;
+			//
+			case "java":
+				info.add("\n========================================\n");
+				info.add("FILE: " + srcFilePath);
+				// first extract class info
+				List<JavaClass> classInfoList = JavaClassExtractor.extractInfo(session, new File(srcFilePath));
+				for (JavaClass classInfo : classInfoList)
+					info.add("\n" + classInfo);
+				// then extract imports info
+				if (classInfoList.size() > 0) {
+					info.add("\n- - - - - - - - - - - - - - - - - - - - -");
+					String[] imports = classInfoList.get(0).IMPORTS;
+					for (JavaClass importInfo : JavaClassExtractor.extractImportsInfo(imports)) 
+						info.add("\n" + importInfo);
+				}
+				break;
 			//
 			case "python":
-				return;
+				break;
 		}
+		return info;
 	}
 }
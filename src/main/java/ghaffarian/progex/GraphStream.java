@@ -0,0 +1,168 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import ghaffarian.progex.graphs.CompactGraph;
+
+/**
+ * A streaming output sink for program graphs, in the NDJSON (newline-delimited JSON) format.
+ *
+ * All graphs are written to a single stream (a file, or the standard output),
+ * one JSON object per graph per line:
+ *
+ *     {"path":"/path/to/Source.java","graph":"CFG","data":{...}}
+ *
+ * where 'path' is the path of the source file (so same-named files in different
+ * packages are distinguishable), 'graph' is the kind of the graph (e.g. "AST",
+ * "CFG", "PDG-CTRL", "PDG-DATA", or "ICFG"), and 'data' is the same JSON object
+ * as the exported JSON file of the graph, without any insignificant whitespace.
+ * Each line is flushed when written; hence it can be consumed while PROGEX runs.
+ * If the name of the output file ends with ".gz", the stream is GZIP compressed.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public class GraphStream implements AutoCloseable {
+
+	/**
+	 * The target name of the standard output.
+	 */
+	public static final String STDOUT = "-";
+
+	private final PrintWriter out;
+	private final boolean closeable;
+
+	/**
+	 * Open a new graph stream to the given target;
+	 * which is either a file path, or "-" for the standard output.
+	 */
+	public GraphStream(String target) throws IOException {
+		OutputStream stream;
+		if (target.equals(STDOUT)) {
+			stream = System.out;
+			closeable = false;
+		} else {
+			stream = new FileOutputStream(target);
+			if (target.toLowerCase().endsWith(".gz"))
+				stream = new GZIPOutputStream(stream, 65536, true);
+			closeable = true;
+		}
+		Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 65536);
+		out = new PrintWriter(new CompactJsonWriter(writer));
+	}
+
+	/**
+	 * Write the given frozen graph of the given source file as a single line, and flush it.
+	 * This method is thread-safe; each line contains a whole graph.
+	 */
+	public synchronized void write(String srcFile, String kind,
+			CompactGraph<?, ?> graph) throws IOException {
+		out.print("{\"path\":\"");
+		out.print(escapeJson(srcFile));
+		out.print("\",\"graph\":\"");
+		out.print(kind);
+		out.print("\",\"data\":");
+		graph.writeJSON(out);
+		out.print('}');
+		out.flush();
+		if (out.checkError())
+			throw new IOException("Failed writing to the graph stream!");
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (closeable)
+			out.close();
+		else
+			out.flush();
+	}
+
+	/**
+	 * Returns the given string, escaped as the content of a JSON string.
+	 */
+	private static String escapeJson(String str) {
+		StringBuilder escaped = new StringBuilder(str.length() + 8);
+		for (int i = 0; i < str.length(); ++i) {
+			char chr = str.charAt(i);
+			if (chr == '"' || chr == '\\')
+				escaped.append('\\').append(chr);
+			else if (chr < 0x20)
+				escaped.append(String.format("\\u%04x", (int) chr));
+			else
+				escaped.append(chr);
+		}
+		return escaped.toString();
+	}
+
+	/**
+	 * A writer which removes the insignificant whitespace of the written JSON text
+	 * (i.e. outside of strings); and ends a line whenever a top-level value is closed.
+	 */
+	private static class CompactJsonWriter extends FilterWriter {
+
+		private int depth;
+		private boolean inString;
+		private boolean escaped;
+
+		CompactJsonWriter(Writer out) {
+			super(out);
+			depth = 0;
+			inString = false;
+			escaped = false;
+		}
+
+		@Override
+		public void write(int chr) throws IOException {
+			if (inString) {
+				if (escaped)
+					escaped = false;
+				else if (chr == '\\')
+					escaped = true;
+				else if (chr == '"')
+					inString = false;
+				else if (chr == '\n' || chr == '\r') {
+					out.write(chr == '\n' ? "\\n" : "\\r");
+					return;
+				}
+				out.write(chr);
+				return;
+			}
+			switch (chr) {
+				case ' ': case '\t': case '\n': case '\r':
+					return;
+				case '"':
+					inString = true;
+					break;
+				case '{': case '[':
+					++depth;
+					break;
+				case '}': case ']':
+					out.write(chr);
+					if (--depth == 0)
+						out.write('\n');
+					return;
+			}
+			out.write(chr);
+		}
+
+		@Override
+		public void write(char[] buffer, int offset, int length) throws IOException {
+			for (int i = offset; i < offset + length; ++i)
+				write(buffer[i]);
+		}
+
+		@Override
+		public void write(String str, int offset, int length) throws IOException {
+			for (int i = offset; i < offset + length; ++i)
+				write(str.charAt(i));
+		}
+	}
+}
@@ -1,6 +1,7 @@
 /*** In The Name of Allah ***/
 package ghaffarian.progex;
 
+import java.util.Arrays;
 import ghaffarian.nanologger.Logger;
 
 /**
@@ -16,9 +17,16 @@ public class Main {
      * @param args the command line arguments
      */
     public static void main(String[] args) {
+		// the thin client only forwards its options to a running server
+		if (args.length > 0 && isOption(args[0], "client")) {
+			int skip = isPort(args) ? 2 : 1;
+			System.exit(new Client(portOption(args)).send(Arrays.copyOfRange(args, skip, args.length)));
+		}
+		//
 		try {
 			Logger.init("progex.log");
-            Logger.setEchoToStdOut(true);
+            // the standard output is reserved for graphs, when streaming to it
+            Logger.setEchoToStdOut(!isStdOutStream(args));
             Logger.setTimeTagEnabled(false);
 		} catch (java.io.IOException ex) {
 			System.err.println("[ERR] LOGGER INIT FAILED : " + ex);
@@ -31,10 +39,71 @@ public class Main {
 			CLI.printHelp(null);
 			// if there are no command-line arguments, show the GUI;
 			new GUI().show();
+		} else if (isOption(args[0], "server")) {
+			// run as a resident server, until a shutdown request
+			Logger.Level level = hasOption(args, "debug") ? Logger.Level.DEBUG : Logger.Level.INFO;
+			boolean timeTags = hasOption(args, "timetags");
+			Logger.setActiveLevel(level);
+			Logger.setTimeTagEnabled(timeTags);
+			try {
+				new Server(portOption(args), level, timeTags).run();
+			} catch (java.io.IOException ex) {
+				Logger.error(ex);
+				System.exit(1);
+			}
 		} else {
 			// otherwise, parse the arguments and execute accordingly.
 			new CLI().parse(args).execute();
 		}
     }
+	
+	/**
+	 * Check whether the given argument is the given option (starting with '-' or '--').
+	 */
+	private static boolean isOption(String arg, String option) {
+		return arg.equalsIgnoreCase("-" + option) || arg.equalsIgnoreCase("--" + option);
+	}
+	
+	/**
+	 * Check whether the given option is among the arguments.
+	 */
+	private static boolean hasOption(String[] args, String option) {
+		for (String arg: args)
+			if (isOption(arg, option))
+				return true;
+		return false;
+	}
+	
+	/**
+	 * Check whether the arguments stream the output graphs to the standard output.
+	 */
+	private static boolean isStdOutStream(String[] args) {
+		for (int i = 0; i < args.length - 1; ++i)
+			if (isOption(args[i], "stream") && args[i + 1].equals(GraphStream.STDOUT))
+				return true;
+		return false;
+	}
+	
+	/**
+	 * Check whether the second argument is a port number.
+	 */
+	private static boolean isPort(String[] args) {
+		return args.length > 1 && args[1].matches("\\d{1,5}");
+	}
+	
+	/**
+	 * Returns the port number given after the server/client option; or the default port.
+	 * Exits, if the given port number is out of the valid range (1 to 65535).
+	 */
+	private static int portOption(String[] args) {
+		if (!isPort(args))
+			return Server.DEFAULT_PORT;
+		int port = Integer.parseInt(args[1]);
+		if (port < 1 || port > 65535) {
+			System.err.println("ERROR -- Invalid port number: " + args[1]);
+			System.exit(1);
+		}
+		return port;
+	}
 
 }
@@ -0,0 +1,209 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import ghaffarian.nanologger.Logger;
+
+/**
+ * A content-addressed cache of analysis results, used for incremental analysis.
+ *
+ * Each cache entry holds the (compressed) output files of an analysis, and its key
+ * is a hash of everything the outputs depend on; e.g. the content of the source file,
+ * the analysis type, the output format, and the PROGEX version.
+ * Hence entries are never invalidated; a changed input simply leads to a new key.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public class ResultCache {
+
+	private final File cacheDir;
+	// updated by the worker threads of a multi-threaded analysis
+	private final AtomicInteger hits, misses;
+
+	/**
+	 * Construct a result cache in the given directory.
+	 */
+	public ResultCache(String cacheDir) {
+		this.cacheDir = new File(cacheDir);
+		this.cacheDir.mkdirs();
+		hits = new AtomicInteger();
+		misses = new AtomicInteger();
+	}
+
+	/**
+	 * Check whether the cache directory exists and is writable.
+	 */
+	public boolean isValid() {
+		return cacheDir.isDirectory() && cacheDir.canWrite();
+	}
+
+	/**
+	 * Returns the cache key of the given content and key parts.
+	 */
+	public static String key(byte[] content, String... parts) {
+		try {
+			MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+			for (String part: parts) {
+				sha1.update(part.getBytes(StandardCharsets.UTF_8));
+				sha1.update((byte) 0);
+			}
+			byte[] hash = sha1.digest(content);
+			StringBuilder hex = new StringBuilder(2 * hash.length);
+			for (byte b: hash)
+				hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			return hex.toString();
+		} catch (NoSuchAlgorithmException ex) {
+			// every Java platform is required to support SHA-1
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Returns the cache key of the given source file, for the given analysis parts.
+	 */
+	public static String fileKey(String srcFile, String... parts) throws IOException {
+		return key(Files.readAllBytes(new File(srcFile).toPath()), parts);
+	}
+
+	/**
+	 * Check whether an entry for the given key exists in the cache.
+	 */
+	public boolean contains(String key) {
+		return entryFile(key).isFile();
+	}
+
+	/**
+	 * Restore the output files of the given cache entry into the given output directory.
+	 * Returns false if there is no such entry, or the entry could not be read.
+	 */
+	public boolean restore(String key, String outputDir) {
+		Map<String, byte[]> files = read(key);
+		if (files == null)
+			return false;
+		try {
+			for (Map.Entry<String, byte[]> file: files.entrySet()) {
+				String filepath = outputDir + file.getKey();
+				Files.write(new File(filepath).toPath(), file.getValue());
+				Logger.info("Restored from cache: " + filepath);
+			}
+		} catch (IOException ex) {
+			Logger.error(ex);
+			return false;
+		}
+		hits.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Store the given output files from the given output directory, as a new cache entry.
+	 */
+	public void store(String key, String outputDir, String... fileNames) {
+		misses.incrementAndGet();
+		Map<String, byte[]> files = new LinkedHashMap<>();
+		try {
+			for (String name: fileNames)
+				files.put(name, Files.readAllBytes(new File(outputDir + name).toPath()));
+		} catch (IOException ex) {
+			Logger.error(ex);
+			return;
+		}
+		write(key, files);
+	}
+
+	/**
+	 * Returns the list of strings stored for the given key; or null if not found.
+	 */
+	public List<String> getList(String key) {
+		Map<String, byte[]> files = read(key);
+		if (files == null || !files.containsKey(""))
+			return null;
+		String list = new String(files.get(""), StandardCharsets.UTF_8);
+		return list.isEmpty() ? new ArrayList<String>() : Arrays.asList(list.split("\n"));
+	}
+
+	/**
+	 * Store the given list of strings for the given key.
+	 */
+	public void putList(String key, List<String> list) {
+		Map<String, byte[]> files = new LinkedHashMap<>();
+		files.put("", String.join("\n", list).getBytes(StandardCharsets.UTF_8));
+		write(key, files);
+	}
+
+	/**
+	 * Log the usage statistics of this cache.
+	 */
+	public void logStats(Logger.Level level) {
+		Logger.log(String.format("Result cache: %d hits, %d misses", hits.get(), misses.get()), level);
+	}
+
+	private File entryFile(String key) {
+		return new File(new File(cacheDir, key.substring(0, 2)), key + ".gz");
+	}
+
+	private Map<String, byte[]> read(String key) {
+		File entry = entryFile(key);
+		if (!entry.isFile())
+			return null;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new GZIPInputStream(new FileInputStream(entry), 65536)))) {
+			int count = in.readInt();
+			Map<String, byte[]> files = new LinkedHashMap<>();
+			for (int i = 0; i < count; ++i) {
+				String name = in.readUTF();
+				byte[] content = new byte[in.readInt()];
+				in.readFully(content);
+				files.put(name, content);
+			}
+			return files;
+		} catch (IOException ex) {
+			Logger.warn("Corrupt cache entry: " + entry.getPath());
+			return null;
+		}
+	}
+
+	private void write(String key, Map<String, byte[]> files) {
+		File entry = entryFile(key);
+		entry.getParentFile().mkdirs();
+		File tmpEntry = null;
+		try {
+			// a unique temporary file; since other threads and processes may share the cache directory
+			tmpEntry = File.createTempFile(entry.getName(), ".tmp", entry.getParentFile());
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+					new GZIPOutputStream(new FileOutputStream(tmpEntry), 65536)))) {
+				out.writeInt(files.size());
+				for (Map.Entry<String, byte[]> file: files.entrySet()) {
+					out.writeUTF(file.getKey());
+					out.writeInt(file.getValue().length);
+					out.write(file.getValue());
+				}
+			}
+			// the entry becomes visible only after it is completely written
+			Files.move(tmpEntry.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException ex) {
+			Logger.error(ex);
+			if (tmpEntry != null)
+				tmpEntry.delete();
+		}
+	}
+}
@@ -0,0 +1,293 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import ghaffarian.progex.java.ParseTreeCache;
+import ghaffarian.nanologger.Logger;
+
+/**
+ * A resident PROGEX server, which accepts analysis requests on a local TCP port.
+ *
+ * Since any local user can connect to a loopback port, each request must start with
+ * a random token, which the server writes to a file only readable by its own user
+ * (see {@link #tokenFile(int)}); requests without the token are rejected.
+ *
+ * Keeping PROGEX resident avoids paying the JVM startup, parser initialization,
+ * and JIT warm-up costs for each analysis; and also parse-trees of unchanged
+ * source files are shared between requests, by a parse-tree cache of the server.
+ *
+ * Each request is the token, followed by the array of command-line options of an analysis,
+ * and the response is a sequence of messages; each message is a kind byte
+ * followed by a string, and the response ends with a RESULT message
+ * which holds the exit status of the request (0 for success).
+ * Strings are sent as their length followed by their UTF-8 bytes.
+ * Requests are served one at a time, in order of arrival; so a client which does not
+ * send its request in time (see {@link #REQUEST_TIMEOUT}) is dropped, to not block
+ * the later requests. The log options of a request (e.g. -debug) do not apply to
+ * the later requests, which are served with the log options of the server.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public class Server {
+
+	public static final int DEFAULT_PORT = 7354;
+
+	// Message kinds of the response
+	static final byte OUTPUT = 'O';
+	static final byte INFO   = 'I';
+	static final byte ERROR  = 'E';
+	static final byte RESULT = 'R';
+
+	// Special request to stop the server
+	static final String SHUTDOWN = "-shutdown";
+
+	// Limits of the received messages; a request beyond these is rejected
+	static final int MAX_ARGS = 1 << 16;
+	static final int MAX_STRING_LENGTH = 1 << 20;
+	static final int MAX_TOKEN_LENGTH = 256;
+
+	// Number of random bytes of the token
+	private static final int TOKEN_BYTES = 32;
+
+	// Time limit for receiving a request (in milliseconds)
+	static final int REQUEST_TIMEOUT = 30000;
+
+	private final int port;
+	private final Logger.Level logLevel;
+	private final boolean timeTags;
+	private final ParseTreeCache parseTrees;
+	private byte[] token;
+	private boolean running;
+	private int requestTimeout;
+
+	public Server(int port) {
+		this(port, Logger.Level.INFO, false);
+	}
+
+	/**
+	 * Construct a server with the given log options; i.e. the active log level
+	 * and time-tags, which are restored after each request.
+	 */
+	public Server(int port, Logger.Level logLevel, boolean timeTags) {
+		this.port = port;
+		this.logLevel = logLevel;
+		this.timeTags = timeTags;
+		parseTrees = new ParseTreeCache();
+		running = false;
+		requestTimeout = REQUEST_TIMEOUT;
+	}
+
+	/**
+	 * Set the time limit for receiving the token and options of a request (in milliseconds).
+	 */
+	void setRequestTimeout(int millis) {
+		requestTimeout = millis;
+	}
+
+	/**
+	 * Returns the file of the token of a server on the given port;
+	 * which is in the '.progex' directory of the user's home.
+	 */
+	public static File tokenFile(int port) {
+		return new File(new File(System.getProperty("user.home"), ".progex"), "server-" + port + ".token");
+	}
+
+	/**
+	 * Start serving requests, until a shutdown request is received.
+	 * The server only listens on the loopback address.
+	 */
+	public void run() throws IOException {
+		warmUp();
+		try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+			File tokenFile = tokenFile(server.getLocalPort());
+			token = newToken();
+			writeToken(tokenFile, token);
+			try {
+				Logger.info("PROGEX server listening on port " + server.getLocalPort());
+				running = true;
+				while (running) {
+					try (Socket client = server.accept()) {
+						client.setSoTimeout(requestTimeout);
+						serve(client);
+					} catch (SocketTimeoutException ex) {
+						Logger.warn("Dropped a client which did not send its request in time.");
+					} catch (IOException | RuntimeException ex) {
+						// a failed request must not stop the server
+						Logger.error(ex);
+					}
+				}
+			} finally {
+				Files.deleteIfExists(tokenFile.toPath());
+			}
+		}
+		Logger.info("PROGEX server stopped.");
+	}
+
+	/**
+	 * Returns a new random token, as the bytes of its hex string.
+	 */
+	private static byte[] newToken() {
+		byte[] random = new byte[TOKEN_BYTES];
+		new SecureRandom().nextBytes(random);
+		StringBuilder hex = new StringBuilder(2 * TOKEN_BYTES);
+		for (byte b: random)
+			hex.append(String.format("%02x", b));
+		return hex.toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Write the given token to the given file; which is created (along with its directory)
+	 * to be only accessible by the owner, before the token is written to it.
+	 */
+	private static void writeToken(File file, byte[] token) throws IOException {
+		Path path = file.toPath();
+		boolean posix = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+		if (!file.getParentFile().isDirectory()) {
+			if (posix)
+				Files.createDirectories(path.getParent(),
+						PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+			else
+				Files.createDirectories(path.getParent());
+		}
+		// a stale file (e.g. of a killed server) may have other permissions
+		Files.deleteIfExists(path);
+		if (posix) {
+			Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+		} else {
+			Files.createFile(path);
+			file.setReadable(false, false);
+			file.setWritable(false, false);
+			file.setReadable(true, true);
+			file.setWritable(true, true);
+		}
+		Files.write(path, token);
+	}
+
+	/**
+	 * Parse a small program, so the lexer and parser are initialized before any request.
+	 */
+	private void warmUp() throws IOException {
+		byte[] warmUp = "class WarmUp { void run() { int x = 0; while (x < 10) ++x; } }".getBytes(StandardCharsets.UTF_8);
+		new ParseTreeCache(0).parse("WarmUp.java", warmUp);
+	}
+
+	/**
+	 * Serve a single request from the given client.
+	 */
+	private void serve(Socket client) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(client.getInputStream()));
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(client.getOutputStream()));
+		byte[] received = new byte[readLength(in, MAX_TOKEN_LENGTH)];
+		in.readFully(received);
+		if (!MessageDigest.isEqual(received, token)) {
+			Logger.warn("Rejected a request with an invalid token.");
+			send(out, ERROR, "Invalid server token!");
+			send(out, RESULT, "1");
+			out.flush();
+			return;
+		}
+		String[] args = new String[readLength(in, MAX_ARGS)];
+		for (int i = 0; i < args.length; ++i)
+			args[i] = readString(in);
+		//
+		if (args.length == 1 && args[0].equals(SHUTDOWN)) {
+			running = false;
+			send(out, RESULT, "0");
+			out.flush();
+			return;
+		}
+		Logger.info("\nRequest: " + String.join(" ", args));
+		int status;
+		PrintStream stdErr = System.err;
+		try {
+			Execution exec = new CLI(false).parse(args);
+			exec.setParseTreeCache(parseTrees);
+			exec.setResultListener(new Execution.ResultListener() {
+				@Override
+				public void outputFile(String path) {
+					send(out, OUTPUT, path);
+				}
+				@Override
+				public void infoLine(String line) {
+					send(out, INFO, line);
+				}
+			});
+			status = exec.execute() ? 0 : 1;
+		} catch (UncheckedIOException ex) {
+			// the client is disconnected
+			throw ex.getCause();
+		} catch (RuntimeException ex) {
+			Logger.error(ex);
+			send(out, ERROR, ex.getMessage() == null ? ex.toString() : ex.getMessage());
+			status = 1;
+		} finally {
+			resetLogger(stdErr);
+		}
+		send(out, RESULT, Integer.toString(status));
+		out.flush();
+	}
+
+	/**
+	 * Reset the log options which may be set by a request (i.e. -debug and -timetags)
+	 * to those of the server; and restore the standard error stream,
+	 * closing the file which a -debug request may have redirected it to.
+	 */
+	private void resetLogger(PrintStream stdErr) {
+		Logger.setActiveLevel(logLevel);
+		Logger.setTimeTagEnabled(timeTags);
+		if (System.err != stdErr) {
+			System.err.close();
+			System.setErr(stdErr);
+		}
+	}
+
+	private static void send(DataOutputStream out, byte kind, String msg) {
+		try {
+			out.writeByte(kind);
+			writeString(out, msg);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	static void writeString(DataOutputStream out, String str) throws IOException {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readLength(in, MAX_STRING_LENGTH)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Read a length field, which must not be negative or greater than the given limit;
+	 * so a malformed message cannot make the receiver allocate an arbitrary array.
+	 */
+	private static int readLength(DataInputStream in, int limit) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > limit)
+			throw new IOException("Invalid message length: " + length);
+		return length;
+	}
+}
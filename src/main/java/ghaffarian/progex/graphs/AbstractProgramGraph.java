@@ -3,6 +3,7 @@ package ghaffarian.progex.graphs;
 
 import ghaffarian.graphs.Digraph;
 import java.io.IOException;
+import java.io.PrintWriter;
 
 /**
  * Abstract Program Graph is the base class for all graphical program representations.
@@ -25,6 +26,30 @@ public abstract class AbstractProgramGraph<N, E> extends Digraph<N, E>  {
         super(g);
     }
     
+	/**
+	 * Returns a compact, immutable snapshot of this program graph (see CompactGraph);
+	 * which is used for the output of a finished graph, and for fast traversals.
+	 * The snapshot is a copy, in addition to this graph; so a finished graph is
+	 * released once it is frozen, and any later change to this graph is not
+	 * reflected in the snapshot.
+	 */
+	public CompactGraph<N, E> freeze() {
+		return new CompactGraph<>(this, allVertices, allEdges, properties, exporter());
+	}
+
+	/**
+	 * Returns the exporter of this program graph; which must not keep this graph.
+	 */
+	protected abstract GraphExporter<N, E> exporter();
+
+	/**
+	 * Returns the type of the given edge label, as stored in a frozen graph.
+	 * Subclasses with typed edges return the ordinal of the label's type.
+	 */
+	protected byte edgeType(E label) {
+		return 0;
+	}
+    
 	/**
 	 * Export this program graph to specified file format.
      * The file will be saved in current working directory.
@@ -38,19 +63,7 @@ public abstract class AbstractProgramGraph<N, E> extends Digraph<N, E>  {
      * The file will be saved in the given directory path.
 	 */
 	public void export(String format, String outDir) throws IOException {
-		switch (format) {
-            case "DOT":
-                exportDOT(outDir);
-                break;
-
-            case "GML":
-                exportGML(outDir);
-                break;
-
-            case "JSON":
-				exportJSON(outDir);
-             			break;
-		}
+		freeze().export(format, outDir);
 	}
     
     /**
@@ -67,7 +80,9 @@ public abstract class AbstractProgramGraph<N, E> extends Digraph<N, E>  {
      * The DOT file will be saved inside the given directory. 
      * The DOT format is mainly aimed for visualization purposes.
      */
-    public abstract void exportDOT(String outDir) throws IOException;
+    public void exportDOT(String outDir) throws IOException {
+        freeze().export("DOT", outDir);
+    }
     
 	/**
 	 * Export this program graph to GML format.
@@ -81,7 +96,9 @@ public abstract class AbstractProgramGraph<N, E> extends Digraph<N, E>  {
 	 * Export this program graph to GML format.
 	 * The JSON file will be saved inside the given directory path.
 	 */
-	public abstract void exportGML(String outDir) throws IOException;
+	public void exportGML(String outDir) throws IOException {
+		freeze().export("GML", outDir);
+	}
 
     /**
 	 * Export this program graph to JSON format.
@@ -95,5 +112,25 @@ public abstract class AbstractProgramGraph<N, E> extends Digraph<N, E>  {
 	 * Export this program graph to JSON format.
 	 * The JSON file will be saved inside the given directory path.
 	 */
-	public abstract void exportJSON(String outDir) throws IOException;
+	public void exportJSON(String outDir) throws IOException {
+		freeze().export("JSON", outDir);
+	}
+
+	/**
+	 * Write this program graph in JSON format to the given writer;
+	 * which is the same content as the exported JSON file.
+	 */
+	public void writeJSON(PrintWriter json) {
+		freeze().writeJSON(json);
+	}
+
+	/**
+	 * Export this program graph to the compact binary (BIN) format.
+	 * The BIN file will be saved inside the given directory path.
+	 * The BIN format has the same content as the JSON format,
+	 * and is aimed for fast loading by other programs (see BinaryGraphReader).
+	 */
+	public void exportBIN(String outDir) throws IOException {
+		freeze().export("BIN", outDir);
+	}
 }
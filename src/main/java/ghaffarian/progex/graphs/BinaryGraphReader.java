@@ -0,0 +1,254 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.graphs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A reader for the compact binary (BIN) format of program graphs.
+ *
+ * The file is memory-mapped, and only the varints of the nodes and edges are
+ * decoded into a few primitive arrays when the file is opened; no objects are
+ * created per node or edge. Strings are referred to by their index in the string
+ * table, and are decoded from the mapped file only when requested; hence a
+ * downstream job can compare or hash the string IDs of a graph without decoding.
+ *
+ * @see BinaryGraphWriter
+ * @author Seyed Mohammad Ghaffarian
+ */
+public final class BinaryGraphReader {
+
+	private final ByteBuffer buffer;
+	private final int[] stringOffsets;
+	private final String kind;
+	private final Map<String, String> properties;
+	private final String[] attributes;
+	private final String[] edgeTypes;
+
+	private final int[] nodeLines;
+	private final int[] nodeValues;
+	private final int[] edgeSources;
+	private final int[] edgeTargets;
+	private final byte[] edgeTypeBytes;
+	private final int[] edgeLabels;
+
+	// position of the next varint to be decoded
+	private int position;
+
+	/**
+	 * Open and read the BIN file at the given path.
+	 */
+	public static BinaryGraphReader open(String filepath) throws IOException {
+		try (FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ)) {
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new BinaryGraphReader(mapped);
+		}
+	}
+
+	/**
+	 * Read a BIN graph from the given buffer;
+	 * the buffer must not be modified, while this reader is used.
+	 */
+	public BinaryGraphReader(ByteBuffer buffer) throws IOException {
+		this.buffer = buffer;
+		if (buffer.limit() < BinaryGraphWriter.HEADER_SIZE)
+			throw new IOException("Not a PROGEX binary graph!");
+		for (int i = 0; i < BinaryGraphWriter.MAGIC.length; ++i)
+			if (buffer.get(i) != BinaryGraphWriter.MAGIC[i])
+				throw new IOException("Not a PROGEX binary graph!");
+		if (buffer.get(4) != BinaryGraphWriter.VERSION)
+			throw new IOException("Unsupported binary graph version: " + buffer.get(4));
+		try {
+			// string table
+			position = buffer.getInt(8);
+			stringOffsets = new int[readVarInt()];
+			for (int s = 0; s < stringOffsets.length; ++s) {
+				stringOffsets[s] = position;
+				int length = readVarInt();
+				position += length;
+			}
+			// graph info
+			position = buffer.getInt(12);
+			kind = readString();
+			Map<String, String> props = new LinkedHashMap<>();
+			for (int count = readVarInt(); count > 0; --count)
+				props.put(readString(), readString());
+			properties = Collections.unmodifiableMap(props);
+			attributes = new String[readVarInt()];
+			for (int a = 0; a < attributes.length; ++a)
+				attributes[a] = readString();
+			edgeTypes = new String[readVarInt()];
+			for (int t = 0; t < edgeTypes.length; ++t)
+				edgeTypes[t] = readString();
+			// nodes
+			position = buffer.getInt(16);
+			nodeLines = new int[readVarInt()];
+			nodeValues = new int[nodeLines.length * attributes.length];
+			for (int n = 0, v = 0; n < nodeLines.length; ++n) {
+				int line = readVarInt();
+				nodeLines[n] = (line >>> 1) ^ -(line & 1);
+				for (int a = 0; a < attributes.length; ++a)
+					nodeValues[v++] = readVarInt();
+			}
+			// edges
+			position = buffer.getInt(20);
+			int edgeCount = readVarInt();
+			edgeSources = new int[edgeCount];
+			edgeTargets = new int[edgeCount];
+			edgeTypeBytes = new byte[edgeCount];
+			edgeLabels = new int[edgeCount];
+			for (int e = 0; e < edgeCount; ++e) {
+				edgeSources[e] = readVarInt();
+				edgeTargets[e] = readVarInt();
+				edgeTypeBytes[e] = buffer.get(position++);
+				edgeLabels[e] = readVarInt();
+			}
+		} catch (IndexOutOfBoundsException ex) {
+			throw new IOException("Corrupted binary graph!", ex);
+		}
+	}
+
+	/**
+	 * Returns the kind of this graph (e.g. "CFG", or "PDG-DATA").
+	 */
+	public String getKind() {
+		return kind;
+	}
+
+	public String getProperty(String key) {
+		return properties.get(key);
+	}
+
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Returns the names of the node attributes of this graph.
+	 */
+	public String[] getNodeAttributes() {
+		return Arrays.copyOf(attributes, attributes.length);
+	}
+
+	/**
+	 * Returns the index of the given node attribute; or -1 if there is no such attribute.
+	 */
+	public int getAttributeIndex(String attribute) {
+		for (int a = 0; a < attributes.length; ++a)
+			if (attributes[a].equals(attribute))
+				return a;
+		return -1;
+	}
+
+	/**
+	 * Returns the names of the edge types of this graph;
+	 * the type of each edge is an index of this array.
+	 */
+	public String[] getEdgeTypes() {
+		return Arrays.copyOf(edgeTypes, edgeTypes.length);
+	}
+
+	public int nodeCount() {
+		return nodeLines.length;
+	}
+
+	public int edgeCount() {
+		return edgeSources.length;
+	}
+
+	public int getLine(int node) {
+		return nodeLines[node];
+	}
+
+	/**
+	 * Returns the string ID of the given attribute (index) of the given node.
+	 */
+	public int getNodeValueID(int node, int attribute) {
+		return nodeValues[node * attributes.length + attribute];
+	}
+
+	/**
+	 * Returns the value of the given attribute (index) of the given node.
+	 */
+	public String getNodeValue(int node, int attribute) {
+		return getString(getNodeValueID(node, attribute));
+	}
+
+	public int getSource(int edge) {
+		return edgeSources[edge];
+	}
+
+	public int getTarget(int edge) {
+		return edgeTargets[edge];
+	}
+
+	/**
+	 * Returns the type of the given edge; i.e. an index of the edge-type names.
+	 */
+	public int getType(int edge) {
+		return edgeTypeBytes[edge] & 0xFF;
+	}
+
+	/**
+	 * Returns the string ID of the label of the given edge.
+	 */
+	public int getLabelID(int edge) {
+		return edgeLabels[edge];
+	}
+
+	public String getLabel(int edge) {
+		return getString(edgeLabels[edge]);
+	}
+
+	/**
+	 * Returns the number of strings in the string table.
+	 */
+	public int stringCount() {
+		return stringOffsets.length;
+	}
+
+	/**
+	 * Returns the string with the given ID; which is decoded from the mapped file.
+	 */
+	public String getString(int id) {
+		int pos = stringOffsets[id];
+		int length = 0;
+		for (int shift = 0; ; shift += 7) {
+			byte b = buffer.get(pos++);
+			length |= (b & 0x7F) << shift;
+			if (b >= 0)
+				break;
+		}
+		byte[] utf8 = new byte[length];
+		ByteBuffer view = buffer.duplicate();
+		view.position(pos);
+		view.get(utf8);
+		return new String(utf8, StandardCharsets.UTF_8);
+	}
+
+	private String readString() {
+		return getString(readVarInt());
+	}
+
+	/**
+	 * Read an unsigned varint at the current position.
+	 */
+	private int readVarInt() {
+		int value = 0;
+		for (int shift = 0; ; shift += 7) {
+			byte b = buffer.get(position++);
+			value |= (b & 0x7F) << shift;
+			if (b >= 0)
+				return value;
+		}
+	}
+}
@@ -0,0 +1,228 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.graphs;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A writer for the compact binary (BIN) format of program graphs.
+ *
+ * A BIN file has the same content as the exported JSON file of the graph,
+ * but all strings are stored once in a string table, and all numbers are
+ * stored as variable-length integers (varints); which makes the files much
+ * smaller, and much faster to load than the text formats.
+ * The layout of a BIN file is as follows (multi-byte integers are big-endian):
+ *
+ *   HEADER   'P' 'G' 'X' 'B', version (1 byte), 3 reserved bytes,
+ *            and the offsets of the STRINGS, GRAPH, NODES, and EDGES sections (4 bytes each).
+ *   STRINGS  count, then the UTF-8 length and bytes of each string;
+ *            string 0 is always the empty string.
+ *   GRAPH    the kind of the graph (e.g. "CFG"), the properties of the graph as
+ *            (key, value) pairs, the names of node attributes, and the names of edge types.
+ *   NODES    count, then for each node: its line (zig-zag encoded),
+ *            and the value of each node attribute.
+ *   EDGES    count, then for each edge: its source and target nodes,
+ *            its type (1 byte; an index of the edge-type names), and its label.
+ *
+ * All counts and indices are unsigned varints, and all strings in the GRAPH, NODES,
+ * and EDGES sections are indices of the string table. Nodes and edges are in the
+ * same order (and have the same IDs) as in the exported JSON file.
+ *
+ * @see BinaryGraphReader
+ * @author Seyed Mohammad Ghaffarian
+ */
+public final class BinaryGraphWriter {
+
+	static final byte[] MAGIC = {'P', 'G', 'X', 'B'};
+	static final byte VERSION = 1;
+	static final int HEADER_SIZE = 24;
+
+	private final Map<String, Integer> stringIDs;
+	private final Bytes strings;
+	private final Bytes graph;
+	private final Bytes nodes;
+	private final Bytes edges;
+	private final int attributeCount;
+	private final int edgeTypeCount;
+	private int nodeCount;
+	private int edgeCount;
+
+	/**
+	 * Construct a new writer for a graph of the given kind, with the given graph
+	 * properties, names of node attributes, and names of edge types.
+	 */
+	public BinaryGraphWriter(String kind, Map<String, String> properties,
+			String[] nodeAttributes, String[] edgeTypes) {
+		if (edgeTypes.length > 256)
+			throw new IllegalArgumentException("Too many edge types: " + edgeTypes.length);
+		stringIDs = new HashMap<>();
+		strings = new Bytes(4096);
+		graph = new Bytes(256);
+		nodes = new Bytes(4096);
+		edges = new Bytes(4096);
+		intern("");
+		graph.writeVarInt(intern(kind));
+		graph.writeVarInt(properties.size());
+		for (Map.Entry<String, String> property: properties.entrySet()) {
+			graph.writeVarInt(intern(property.getKey()));
+			graph.writeVarInt(intern(property.getValue()));
+		}
+		attributeCount = nodeAttributes.length;
+		graph.writeVarInt(attributeCount);
+		for (String attribute: nodeAttributes)
+			graph.writeVarInt(intern(attribute));
+		edgeTypeCount = edgeTypes.length;
+		graph.writeVarInt(edgeTypeCount);
+		for (String type: edgeTypes)
+			graph.writeVarInt(intern(type));
+		nodeCount = 0;
+		edgeCount = 0;
+	}
+
+	/**
+	 * Add a node with the given line and attribute values, and return its ID.
+	 * The values must be in the order of the node attribute names;
+	 * a null value is stored as the empty string.
+	 */
+	public int addNode(int line, String... values) {
+		if (values.length != attributeCount)
+			throw new IllegalArgumentException("Expected " + attributeCount + " node attributes!");
+		nodes.writeVarInt((line << 1) ^ (line >> 31));
+		for (String value: values)
+			nodes.writeVarInt(intern(value));
+		return nodeCount++;
+	}
+
+	/**
+	 * Add an edge from the given source node to the given target node, with the
+	 * given type (an index of the edge-type names) and label; and return its ID.
+	 */
+	public int addEdge(int source, int target, int type, String label) {
+		if (type < 0 || type >= edgeTypeCount)
+			throw new IllegalArgumentException("Invalid edge type: " + type);
+		edges.writeVarInt(source);
+		edges.writeVarInt(target);
+		edges.write(type);
+		edges.writeVarInt(intern(label));
+		return edgeCount++;
+	}
+
+	/**
+	 * Write the graph to the given file path.
+	 */
+	public void write(String filepath) throws IOException {
+		try (OutputStream out = new FileOutputStream(filepath)) {
+			write(out);
+		}
+	}
+
+	/**
+	 * Write the graph to the given output stream.
+	 */
+	public void write(OutputStream out) throws IOException {
+		Bytes counts = new Bytes(16);
+		counts.writeVarInt(stringIDs.size());
+		int countSize = counts.size;
+		counts.writeVarInt(nodeCount);
+		int nodesCountSize = counts.size - countSize;
+		counts.writeVarInt(edgeCount);
+		//
+		int stringsOffset = HEADER_SIZE;
+		int graphOffset = stringsOffset + countSize + strings.size;
+		int nodesOffset = graphOffset + graph.size;
+		int edgesOffset = nodesOffset + nodesCountSize + nodes.size;
+		Bytes header = new Bytes(HEADER_SIZE);
+		header.write(MAGIC, 0, MAGIC.length);
+		header.write(VERSION);
+		header.write(0);
+		header.write(0);
+		header.write(0);
+		header.writeInt(stringsOffset);
+		header.writeInt(graphOffset);
+		header.writeInt(nodesOffset);
+		header.writeInt(edgesOffset);
+		//
+		out.write(header.buffer, 0, header.size);
+		out.write(counts.buffer, 0, countSize);
+		out.write(strings.buffer, 0, strings.size);
+		out.write(graph.buffer, 0, graph.size);
+		out.write(counts.buffer, countSize, nodesCountSize);
+		out.write(nodes.buffer, 0, nodes.size);
+		out.write(counts.buffer, countSize + nodesCountSize, counts.size - countSize - nodesCountSize);
+		out.write(edges.buffer, 0, edges.size);
+	}
+
+	/**
+	 * Returns the index of the given string in the string table;
+	 * the string is added to the table, if not already added.
+	 */
+	private int intern(String str) {
+		if (str == null)
+			str = "";
+		Integer id = stringIDs.get(str);
+		if (id == null) {
+			id = stringIDs.size();
+			stringIDs.put(str, id);
+			byte[] utf8 = str.getBytes(StandardCharsets.UTF_8);
+			strings.writeVarInt(utf8.length);
+			strings.write(utf8, 0, utf8.length);
+		}
+		return id;
+	}
+
+	/**
+	 * A growable array of bytes.
+	 */
+	private static final class Bytes {
+
+		byte[] buffer;
+		int size;
+
+		Bytes(int capacity) {
+			buffer = new byte[capacity];
+			size = 0;
+		}
+
+		void write(int b) {
+			ensure(1);
+			buffer[size++] = (byte) b;
+		}
+
+		void write(byte[] bytes, int offset, int length) {
+			ensure(length);
+			System.arraycopy(bytes, offset, buffer, size, length);
+			size += length;
+		}
+
+		void writeInt(int value) {
+			ensure(4);
+			buffer[size++] = (byte) (value >>> 24);
+			buffer[size++] = (byte) (value >>> 16);
+			buffer[size++] = (byte) (value >>> 8);
+			buffer[size++] = (byte) value;
+		}
+
+		/**
+		 * Write the given value as an unsigned varint; i.e. 7 bits per byte,
+		 * least significant group first, and the high bit set on all but the last byte.
+		 */
+		void writeVarInt(int value) {
+			ensure(5);
+			while ((value & ~0x7F) != 0) {
+				buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[size++] = (byte) value;
+		}
+
+		private void ensure(int length) {
+			if (size + length > buffer.length)
+				buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, size + length));
+		}
+	}
+}
@@ -0,0 +1,311 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.graphs;
+
+import ghaffarian.graphs.Edge;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An immutable, compact snapshot of a finished program graph.
+ *
+ * Vertices are identified by dense integer IDs (in the insertion order of the
+ * original graph), and the adjacency of vertices is stored in the Compressed
+ * Sparse Row (CSR) format; i.e. for each vertex, the IDs of its outgoing (and
+ * incoming) edges are stored contiguously in a primitive array, and an offsets
+ * array holds the start of each vertex's range. Edges are also identified by
+ * dense IDs (in the insertion order of the original graph), and for each edge
+ * only its source/target IDs, a type byte, and an index into a table of the
+ * distinct (interned) edge labels are stored.
+ *
+ * Hence a frozen graph requires a few primitive arrays instead of a number of
+ * objects per edge (i.e. the edge objects, and the hash-sets of all edges and of
+ * the edges of each vertex), and traversals over it need no hashing or iterators.
+ * No map of vertices to their IDs is kept; the IDs of a few vertices (such as
+ * method entries) are found with one scan of the vertices (see getIDs).
+ *
+ * All exporters work on the frozen form of graphs (see GraphExporter); so once a
+ * graph is finished, it can be frozen and released, and only the compact form is
+ * kept until it is exported (see Execution). The analyses which traverse a graph
+ * many times (i.e. reaching definitions and post-dominators) also use this form.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public final class CompactGraph<N, E> {
+
+	private final N[] vertices;
+	private final E[] labels;
+	private final Map<String, String> properties;
+	private final GraphExporter<N, E> exporter;
+
+	private final int[] edgeSources;
+	private final int[] edgeTargets;
+	private final byte[] edgeTypes;
+	private final int[] edgeLabels;
+
+	private final int[] outOffsets;
+	private final int[] outEdges;
+	private final int[] inOffsets;
+	private final int[] inEdges;
+
+	/**
+	 * Construct a compact snapshot of the given program graph, with the given
+	 * vertices, edges, and properties of the graph, and the exporter of the graph.
+	 */
+	@SuppressWarnings("unchecked")
+	CompactGraph(AbstractProgramGraph<N, E> graph, Collection<N> allVertices,
+			Collection<Edge<N, E>> allEdges, Map<String, String> graphProperties,
+			GraphExporter<N, E> exporter) {
+		this.exporter = exporter;
+		vertices = (N[]) new Object[allVertices.size()];
+		// the IDs of vertices are only mapped while the edges are added
+		Map<N, Integer> vertexIDs = new IdentityHashMap<>(vertices.length);
+		int v = 0;
+		for (N vertex: allVertices) {
+			vertices[v] = vertex;
+			vertexIDs.put(vertex, v++);
+		}
+		properties = Collections.unmodifiableMap(new LinkedHashMap<>(graphProperties));
+		//
+		int edgeCount = allEdges.size();
+		edgeSources = new int[edgeCount];
+		edgeTargets = new int[edgeCount];
+		edgeTypes = new byte[edgeCount];
+		edgeLabels = new int[edgeCount];
+		Map<String, Integer> labelIDs = new HashMap<>();
+		Object[] labelTable = new Object[8];
+		int[] outDegrees = new int[vertices.length];
+		int[] inDegrees = new int[vertices.length];
+		int e = 0;
+		for (Edge<N, E> edge: allEdges) {
+			edgeSources[e] = vertexIDs.get(edge.source);
+			edgeTargets[e] = vertexIDs.get(edge.target);
+			edgeTypes[e] = graph.edgeType(edge.label);
+			// labels are interned by their type and their string value
+			String key = edgeTypes[e] + ":" + edge.label;
+			Integer label = labelIDs.get(key);
+			if (label == null) {
+				label = labelIDs.size();
+				labelIDs.put(key, label);
+				if (label == labelTable.length)
+					labelTable = Arrays.copyOf(labelTable, 2 * label);
+				labelTable[label] = edge.label;
+			}
+			edgeLabels[e] = label;
+			++outDegrees[edgeSources[e]];
+			++inDegrees[edgeTargets[e]];
+			++e;
+		}
+		labels = (E[]) Arrays.copyOf(labelTable, labelIDs.size());
+		//
+		outOffsets = offsets(outDegrees);
+		inOffsets = offsets(inDegrees);
+		outEdges = new int[edgeCount];
+		inEdges = new int[edgeCount];
+		for (e = 0; e < edgeCount; ++e) {
+			outEdges[outOffsets[edgeSources[e] + 1] - outDegrees[edgeSources[e]]--] = e;
+			inEdges[inOffsets[edgeTargets[e] + 1] - inDegrees[edgeTargets[e]]--] = e;
+		}
+	}
+
+	/**
+	 * Returns the offsets array for the given degrees;
+	 * the range of vertex v is [offsets[v], offsets[v+1]).
+	 */
+	private static int[] offsets(int[] degrees) {
+		int[] offsets = new int[degrees.length + 1];
+		for (int v = 0; v < degrees.length; ++v)
+			offsets[v + 1] = offsets[v] + degrees[v];
+		return offsets;
+	}
+
+	public int vertexCount() {
+		return vertices.length;
+	}
+
+	public int edgeCount() {
+		return edgeSources.length;
+	}
+
+	/**
+	 * Returns the vertex with the given ID.
+	 */
+	public N getVertex(int id) {
+		return vertices[id];
+	}
+
+	/**
+	 * Returns the ID of the given vertex; or -1 if it is not in this graph.
+	 * This is a linear scan of the vertices; see getIDs for several vertices.
+	 */
+	public int getID(N vertex) {
+		for (int v = 0; v < vertices.length; ++v)
+			if (vertices[v] == vertex)
+				return v;
+		return -1;
+	}
+
+	/**
+	 * Returns the IDs of the given vertices, with one scan of the vertices of this graph;
+	 * the ID of a vertex which is not in this graph is -1.
+	 */
+	public int[] getIDs(N[] queries) {
+		Map<N, Integer> indices = new IdentityHashMap<>(queries.length);
+		for (int i = 0; i < queries.length; ++i)
+			indices.put(queries[i], i);
+		int[] ids = new int[queries.length];
+		Arrays.fill(ids, -1);
+		for (int v = 0; v < vertices.length; ++v) {
+			Integer index = indices.get(vertices[v]);
+			if (index != null)
+				ids[index] = v;
+		}
+		// a vertex may be repeated in the queries
+		for (int i = 0; i < queries.length; ++i)
+			ids[i] = ids[indices.get(queries[i])];
+		return ids;
+	}
+
+	public String getProperty(String key) {
+		return properties.get(key);
+	}
+
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Returns the exporter of this graph.
+	 */
+	public GraphExporter<N, E> getExporter() {
+		return exporter;
+	}
+
+	/**
+	 * Export this graph to the specified file format (i.e. DOT, GML, JSON, or BIN),
+	 * inside the given directory path.
+	 */
+	public void export(String format, String outDir) throws IOException {
+		switch (format) {
+			case "DOT":
+				exporter.exportDOT(this, outDir);
+				break;
+
+			case "GML":
+				exporter.exportGML(this, outDir);
+				break;
+
+			case "JSON":
+				exporter.exportJSON(this, outDir);
+				break;
+
+			case "BIN":
+				exporter.exportBIN(this, outDir);
+				break;
+		}
+	}
+
+	/**
+	 * Write this graph in JSON format to the given writer;
+	 * which is the same content as the exported JSON file.
+	 */
+	public void writeJSON(PrintWriter json) {
+		exporter.writeJSON(this, json);
+	}
+
+	public int getSource(int edge) {
+		return edgeSources[edge];
+	}
+
+	public int getTarget(int edge) {
+		return edgeTargets[edge];
+	}
+
+	/**
+	 * Returns the type of the given edge, as defined by the original graph class
+	 * (e.g. the ordinal of the edge-type enumeration).
+	 */
+	public byte getType(int edge) {
+		return edgeTypes[edge];
+	}
+
+	/**
+	 * Returns the (interned) label of the given edge.
+	 */
+	public E getLabel(int edge) {
+		return labels[edgeLabels[edge]];
+	}
+
+	/**
+	 * Returns the index of the given edge's label, in the label table.
+	 */
+	public int getLabelIndex(int edge) {
+		return edgeLabels[edge];
+	}
+
+	/**
+	 * Returns the number of distinct edge labels.
+	 */
+	public int labelCount() {
+		return labels.length;
+	}
+
+	/**
+	 * Returns the label at the given index of the label table.
+	 */
+	public E getLabelAt(int index) {
+		return labels[index];
+	}
+
+	public int getOutDegree(int vertex) {
+		return outOffsets[vertex + 1] - outOffsets[vertex];
+	}
+
+	public int getInDegree(int vertex) {
+		return inOffsets[vertex + 1] - inOffsets[vertex];
+	}
+
+	/**
+	 * Returns the ID of the i-th outgoing edge of the given vertex.
+	 * Outgoing edges of each vertex are in the insertion order of the original graph.
+	 */
+	public int getOutEdge(int vertex, int i) {
+		return outEdges[outOffsets[vertex] + i];
+	}
+
+	/**
+	 * Returns the ID of the i-th incoming edge of the given vertex.
+	 * Incoming edges of each vertex are in the insertion order of the original graph.
+	 */
+	public int getInEdge(int vertex, int i) {
+		return inEdges[inOffsets[vertex] + i];
+	}
+
+	/**
+	 * Returns the IDs of the successors of the given vertex,
+	 * in order of the outgoing edges (duplicates are possible).
+	 */
+	public int[] getSuccessors(int vertex) {
+		int[] successors = new int[getOutDegree(vertex)];
+		for (int i = 0; i < successors.length; ++i)
+			successors[i] = edgeTargets[outEdges[outOffsets[vertex] + i]];
+		return successors;
+	}
+
+	/**
+	 * Returns the IDs of the predecessors of the given vertex,
+	 * in order of the incoming edges (duplicates are possible).
+	 */
+	public int[] getPredecessors(int vertex) {
+		int[] predecessors = new int[getInDegree(vertex)];
+		for (int i = 0; i < predecessors.length; ++i)
+			predecessors[i] = edgeSources[inEdges[inOffsets[vertex] + i]];
+		return predecessors;
+	}
+}
@@ -0,0 +1,62 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.graphs;
+
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The exporters of a kind of program graph, which work on its frozen form (see CompactGraph).
+ *
+ * An exporter only holds the information of a graph which is not in its compact form
+ * (e.g. the name of the source file); so exporting a frozen graph does not need the
+ * original graph, which can be released as soon as it is frozen.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public abstract class GraphExporter<N, E> {
+
+	/**
+	 * Size of the output buffer of exporters (in chars).
+	 */
+	protected static final int EXPORT_BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Open a UTF-8 writer for exporting to the given file path, with a large output buffer;
+	 * which is shared by all exporters (DOT, GML, and JSON) of all program graphs.
+	 */
+	protected static PrintWriter openWriter(String filepath) throws FileNotFoundException {
+		return new PrintWriter(new BufferedWriter(new OutputStreamWriter(
+				new FileOutputStream(filepath), StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE));
+	}
+
+	/**
+	 * Export the given graph to DOT format, inside the given directory.
+	 */
+	public abstract void exportDOT(CompactGraph<N, E> graph, String outDir) throws IOException;
+
+	/**
+	 * Export the given graph to GML format, inside the given directory.
+	 */
+	public abstract void exportGML(CompactGraph<N, E> graph, String outDir) throws IOException;
+
+	/**
+	 * Export the given graph to JSON format, inside the given directory.
+	 */
+	public abstract void exportJSON(CompactGraph<N, E> graph, String outDir) throws IOException;
+
+	/**
+	 * Write the given graph in JSON format to the given writer;
+	 * which is the same content as the exported JSON file.
+	 */
+	public abstract void writeJSON(CompactGraph<N, E> graph, PrintWriter json);
+
+	/**
+	 * Export the given graph to the compact binary (BIN) format, inside the given directory.
+	 */
+	public abstract void exportBIN(CompactGraph<N, E> graph, String outDir) throws IOException;
+}
@@ -0,0 +1,21 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.graphs;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * An output action for the graph of a single source file, which is called by 
+ * the builders that build and output graphs one file at a time (e.g. the 
+ * streaming PDG builder); so each graph can be discarded after its output.
+ * 
+ * @author Seyed Mohammad Ghaffarian
+ */
+public interface GraphOutput<G> {
+	
+	/**
+	 * Output the graph of the given source file; 
+	 * the graph is null if the file is skipped by the builder.
+	 */
+	void write(File srcFile, G graph) throws IOException;
+}
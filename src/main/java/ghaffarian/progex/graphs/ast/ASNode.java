@@ -2,11 +2,16 @@
 package ghaffarian.progex.graphs.ast;
 
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * Class type of Abstract Syntax (AS) nodes.
+ *
+ * The well-known properties of AS nodes are kept in typed fields;
+ * and the map of properties is only created for other (ad-hoc) keys.
+ * As with the map, a property which is set to null is not a property of the node.
  * 
  * @author Seyed Mohammad Ghaffarian
  */
@@ -71,60 +76,109 @@ public class ASNode {
     }
 
     
+    private Type type;
+    private int line;
+    private boolean hasLine;
+    private String code;
+    private String normalized;
     private Map<String, Object> properties;
 
     public ASNode(Type type) {
-        properties = new LinkedHashMap<>();
+        properties = null;
         setLineOfCode(0);
         setType(type);
     }
 
     public final void setType(Type type) {
-        properties.put("type", type);
+        this.type = type;
     }
 
     public final Type getType() {
-        return (Type) properties.get("type");
+        return type;
     }
 
     public final void setLineOfCode(int line) {
-        properties.put("line", line);
+        this.line = line;
+        hasLine = true;
     }
 
+    /**
+     * Returns the line of code of this node;
+     * which fails if the line is unset (as for a missing property).
+     */
     public final int getLineOfCode() {
-        return (Integer) properties.get("line");
+        if (!hasLine)
+            throw new IllegalStateException("Line of code is not set: " + code);
+        return line;
     }
 
     public final void setCode(String code) {
-        properties.put("code", code);
+        this.code = code;
     }
 
     public final String getCode() {
-        return (String) properties.get("code");
+        return code;
     }
     
     public final void setNormalizedCode(String normal) {
         if (normal != null)
-            properties.put("normalized", normal);
+            normalized = normal;
     }
 
     public final String getNormalizedCode() {
-        String normalized = (String) properties.get("normalized");
         if (normalized != null && !normalized.isEmpty())
             return normalized;
-        return (String) properties.get("code");
+        return code;
     }
     
     public final void setProperty(String key, Object value) {
-        properties.put(key.toLowerCase(), value);
+        switch (key) {
+            case "type":       type = (Type) value;          break;
+            case "line":
+                hasLine = value != null;
+                line = hasLine ? (Integer) value : 0;
+                break;
+            case "code":       code = (String) value;        break;
+            case "normalized": normalized = (String) value;  break;
+            default:
+                String lowerKey = key.toLowerCase();
+                if (!lowerKey.equals(key)) {
+                    setProperty(lowerKey, value);
+                } else {
+                    if (properties == null)
+                        properties = new LinkedHashMap<>();
+                    properties.put(key, value);
+                }
+        }
     }
 
     public Object getProperty(String key) {
-        return properties.get(key.toLowerCase());
+        switch (key) {
+            case "type":       return type;
+            case "line":       return hasLine ? (Object) line : null;
+            case "code":       return code;
+            case "normalized": return normalized;
+            default:
+                String lowerKey = key.toLowerCase();
+                if (!lowerKey.equals(key))
+                    return getProperty(lowerKey);
+                return properties == null ? null : properties.get(key);
+        }
     }
 
     public Set<String> getAllProperties() {
-        return properties.keySet();
+        Set<String> keys = new LinkedHashSet<>();
+        if (hasLine)
+            keys.add("line");
+        if (type != null)
+            keys.add("type");
+        if (code != null)
+            keys.add("code");
+        if (normalized != null)
+            keys.add("normalized");
+        if (properties != null)
+            keys.addAll(properties.keySet());
+        return keys;
     }
 
     @Override
@@ -133,7 +187,7 @@ public class ASNode {
         if (code == null || code.isEmpty())
             return getType().label;
         if (getType().label.isEmpty())
-            return getLineOfCode() + ":  " + code;
+            return getProperty("line") + ":  " + code;
         return getType().label + ": " + code;
     }
 }
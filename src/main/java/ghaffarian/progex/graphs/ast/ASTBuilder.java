@@ -1,7 +1,9 @@
 /*** In The Name of Allah ***/
 package ghaffarian.progex.graphs.ast;
 
+import java.io.File;
 import java.io.IOException;
+import ghaffarian.progex.AnalysisSession;
 import ghaffarian.progex.java.JavaASTBuilder;
 
 /**
@@ -30,5 +32,25 @@ public class ASTBuilder {
 				return null;
 		}
 	}
+	
+	/**
+	 * Build and return the AST of the given source code file with specified language,
+	 * using the parse-tree cache of the given analysis session.
+	 */
+	public static AbstractSyntaxTree build(AnalysisSession session, String lang, String srcFilePath) throws IOException {
+		switch (lang) {
+			case "C":
+				return null;
+			//
+			case "Java":
+				return JavaASTBuilder.build(session, new File(srcFilePath));
+			//
+			case "Python":
+				return null;
+			//
+			default:
+				return null;
+		}
+	}
 
 }
@@ -1,13 +1,14 @@
 /*** In The Name of Allah ***/
 package ghaffarian.progex.graphs.ast;
 
-import ghaffarian.graphs.Edge;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
-import java.io.UnsupportedEncodingException;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import ghaffarian.progex.graphs.BinaryGraphWriter;
+import ghaffarian.progex.graphs.CompactGraph;
+import ghaffarian.progex.graphs.GraphExporter;
 import ghaffarian.progex.utils.StringUtils;
 import ghaffarian.nanologger.Logger;
 import ghaffarian.progex.graphs.AbstractProgramGraph;
@@ -50,106 +51,115 @@ public class AbstractSyntaxTree extends AbstractProgramGraph<ASNode, ASEdge> {
     }
     
     @Override
-    public void exportDOT(String outDir) throws FileNotFoundException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-        String filename = fileName.substring(0, fileName.lastIndexOf('.'));
-        String filepath = outDir + filename + "-AST.dot";
-        try (PrintWriter dot = new PrintWriter(filepath, "UTF-8")) {
-            dot.println("digraph " + filename + "_AST {");
-            dot.println("  // graph-vertices");
-            Map<ASNode, String> nodeNames = new LinkedHashMap<>();
-            int nodeCounter = 1;
-            for (ASNode node : allVertices) {
-                String name = "n" + nodeCounter++;
-                nodeNames.put(node, name);
-                StringBuilder label = new StringBuilder("  [label=\"");
-                label.append(StringUtils.escape(node.toString())).append("\"];");
-                dot.println("  " + name + label.toString());
-            }
-			dot.println("  // graph-edges");
-            for (Edge<ASNode, ASEdge> edge : allEdges) {
-                String src = nodeNames.get(edge.source);
-                String trg = nodeNames.get(edge.target);
-                dot.println("  " + src + " -> " + trg + ";");
+    protected GraphExporter<ASNode, ASEdge> exporter() {
+        return new Exporter(fileName);
+    }
+    
+    /**
+     * The exporters of abstract syntax trees, which work on their frozen form.
+     */
+    private static class Exporter extends GraphExporter<ASNode, ASEdge> {
+        
+        private final String fileName;
+        
+        Exporter(String fileName) {
+            this.fileName = fileName;
+        }
+        
+        @Override
+        public void exportDOT(CompactGraph<ASNode, ASEdge> graph, String outDir) throws FileNotFoundException {
+            if (!outDir.endsWith(File.separator))
+                outDir += File.separator;
+            File outDirFile = new File(outDir);
+            outDirFile.mkdirs();
+            String filename = fileName.substring(0, fileName.lastIndexOf('.'));
+            String filepath = outDir + filename + "-AST.dot";
+            try (PrintWriter dot = openWriter(filepath)) {
+                dot.println("digraph " + filename + "_AST {");
+                dot.println("  // graph-vertices");
+                StringBuilder label = new StringBuilder(256);
+                for (int v = 0; v < graph.vertexCount(); ++v) {
+                    label.setLength(0);
+                    label.append("  n").append(v + 1).append("  [label=\"");
+                    StringUtils.escape(graph.getVertex(v).toString(), label).append("\"];");
+                    dot.println(label);
+                }
+                dot.println("  // graph-edges");
+                for (int e = 0; e < graph.edgeCount(); ++e)
+                    dot.println("  n" + (graph.getSource(e) + 1) + " -> n" + (graph.getTarget(e) + 1) + ";");
+                dot.println("  // end-of-graph\n}");
             }
-			dot.println("  // end-of-graph\n}");
-        } catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
+            Logger.info("AST exported to: " + filepath);
         }
-		Logger.info("AST exported to: " + filepath);
-    }
 
-    @Override
-    public void exportGML(String outDir) throws IOException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-		String filename = fileName.substring(0, fileName.lastIndexOf('.'));
-		String filepath = outDir + filename + "-AST.gml";
-		try (PrintWriter gml = new PrintWriter(filepath, "UTF-8")) {
-			gml.println("graph [");
-			gml.println("  directed 1");
-			for (Map.Entry<String, String> property: properties.entrySet()) {
-                switch (property.getKey()) {
-                    case "directed":
-                        continue;
-                    default:
-                        gml.println("  " + property.getKey() + " \"" + property.getValue() + "\"");
+        @Override
+        public void exportGML(CompactGraph<ASNode, ASEdge> graph, String outDir) throws IOException {
+            if (!outDir.endsWith(File.separator))
+                outDir += File.separator;
+            File outDirFile = new File(outDir);
+            outDirFile.mkdirs();
+            String filename = fileName.substring(0, fileName.lastIndexOf('.'));
+            String filepath = outDir + filename + "-AST.gml";
+            try (PrintWriter gml = openWriter(filepath)) {
+                gml.println("graph [");
+                gml.println("  directed 1");
+                for (Map.Entry<String, String> property: graph.getProperties().entrySet()) {
+                    switch (property.getKey()) {
+                        case "directed":
+                            continue;
+                        default:
+                            gml.println("  " + property.getKey() + " \"" + property.getValue() + "\"");
+                    }
+                }
+                gml.println("  file \"" + this.fileName + "\"\n");
+                //
+                for (int v = 0; v < graph.vertexCount(); ++v) {
+                    ASNode node = graph.getVertex(v);
+                    gml.println("  node [");
+                    gml.println("    id " + v);
+                    gml.println("    line " + node.getLineOfCode());
+                    gml.println("    type \"" + node.getType() + "\"");
+                    String code = node.getCode();
+                    code = StringUtils.isEmpty(code) ? node.getType().label : StringUtils.escape(code);
+                    gml.println("    label \"" + code + "\"");
+                    String normalized = node.getNormalizedCode();
+                    normalized = StringUtils.isEmpty(normalized) ? code : StringUtils.escape(normalized);
+                    gml.println("    normalized \"" + normalized + "\"");
+                    gml.println("  ]");
                 }
+                gml.println();
+                //
+                for (int e = 0; e < graph.edgeCount(); ++e) {
+                    gml.println("  edge [");
+                    gml.println("    id " + e);
+                    gml.println("    source " + graph.getSource(e));
+                    gml.println("    target " + graph.getTarget(e));
+                    gml.println("    label \"" + graph.getLabel(e) + "\"");
+                    gml.println("  ]");
+                }
+                gml.println("]");
             }
-            gml.println("  file \"" + this.fileName + "\"\n");
-            //
-			Map<ASNode, Integer> nodeIDs = new LinkedHashMap<>();
-			int nodeCounter = 0;
-			for (ASNode node: allVertices) {
-				gml.println("  node [");
-				gml.println("    id " + nodeCounter);
-				gml.println("    line " + node.getLineOfCode());
-				gml.println("    type \"" + node.getType() + "\"");
-                String code = node.getCode();
-                code = StringUtils.isEmpty(code) ? node.getType().label : StringUtils.escape(code);
-				gml.println("    label \"" + code + "\"");
-                String normalized = node.getNormalizedCode();
-                normalized = StringUtils.isEmpty(normalized) ? code : StringUtils.escape(normalized);
-				gml.println("    normalized \"" + normalized + "\"");
-				gml.println("  ]");
-				nodeIDs.put(node, nodeCounter);
-				++nodeCounter;
-			}
-            gml.println();
-            //
-			int edgeCounter = 0;
-			for (Edge<ASNode, ASEdge> edge: allEdges) {
-				gml.println("  edge [");
-				gml.println("    id " + edgeCounter);
-				gml.println("    source " + nodeIDs.get(edge.source));
-				gml.println("    target " + nodeIDs.get(edge.target));
-				gml.println("    label \"" + edge.label + "\"");
-				gml.println("  ]");
-				++edgeCounter;
-			}
-			gml.println("]");
-		} catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
-		}
-		Logger.info("AST exported to: " + filepath);
-    }
-	
-    @Override
-	public void exportJSON(String outDir) throws FileNotFoundException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-		String filename = fileName.substring(0, fileName.indexOf('.'));
-		String filepath = outDir + filename + "-AST.json";
-		try (PrintWriter json = new PrintWriter(filepath, "UTF-8")) {
-			json.println("{\n  \"directed\": true,");
-			for (Entry<String, String> property: properties.entrySet()) {
+            Logger.info("AST exported to: " + filepath);
+        }
+        
+        @Override
+        public void exportJSON(CompactGraph<ASNode, ASEdge> graph, String outDir) throws FileNotFoundException {
+            if (!outDir.endsWith(File.separator))
+                outDir += File.separator;
+            File outDirFile = new File(outDir);
+            outDirFile.mkdirs();
+            String filename = fileName.substring(0, fileName.indexOf('.'));
+            String filepath = outDir + filename + "-AST.json";
+            try (PrintWriter json = openWriter(filepath)) {
+                writeJSON(graph, json);
+            }
+            Logger.info("AST exported to: " + filepath);
+        }
+
+        @Override
+        public void writeJSON(CompactGraph<ASNode, ASEdge> graph, PrintWriter json) {
+            json.println("{\n  \"directed\": true,");
+            for (Entry<String, String> property: graph.getProperties().entrySet()) {
                 switch (property.getKey()) {
                     case "directed":
                         continue;
@@ -157,51 +167,70 @@ public class AbstractSyntaxTree extends AbstractProgramGraph<ASNode, ASEdge> {
                         json.println("  \"" + property.getKey() + "\": \"" + property.getValue() + "\",");
                 }
             }
-			json.println("  \"file\": \"" + fileName + "\",\n");
-			json.println("  \"nodes\": [");
+            json.println("  \"file\": \"" + fileName + "\",\n");
+            json.println("  \"nodes\": [");
             //
-			Map<ASNode, Integer> nodeIDs = new LinkedHashMap<>();
-			int nodeCounter = 0;
-			for (ASNode node: allVertices) {
-				json.println("    {");
-				json.println("      \"id\": " + nodeCounter + ",");
-				json.println("      \"line\": " + node.getLineOfCode() + ",");
-				json.println("      \"type\": \"" + node.getType() + "\",");
+            for (int v = 0; v < graph.vertexCount(); ++v) {
+                ASNode node = graph.getVertex(v);
+                json.println("    {");
+                json.println("      \"id\": " + v + ",");
+                json.println("      \"line\": " + node.getLineOfCode() + ",");
+                json.println("      \"type\": \"" + node.getType() + "\",");
                 String code = node.getCode();
                 code = StringUtils.isEmpty(code) ? node.getType().label : StringUtils.escape(code);
-				json.println("      \"label\": \"" + code + "\",");
+                json.println("      \"label\": \"" + code + "\",");
                 String normalized = node.getNormalizedCode();
                 normalized = StringUtils.isEmpty(normalized) ? code : StringUtils.escape(normalized);
-				json.println("      \"normalized\": \"" + normalized + "\"");
-				nodeIDs.put(node, nodeCounter);
-				++nodeCounter;
-                if (nodeCounter == allVertices.size())
+                json.println("      \"normalized\": \"" + normalized + "\"");
+                if (v == graph.vertexCount() - 1)
                     json.println("    }");
                 else
                     json.println("    },");
-			}
+            }
             //
-			json.println("  ],\n\n  \"edges\": [");
-			int edgeCounter = 0;
-			for (Edge<ASNode, ASEdge> edge: allEdges) {
-				json.println("    {");
-				json.println("      \"id\": " + edgeCounter + ",");
-				json.println("      \"source\": " + nodeIDs.get(edge.source) + ",");
-				json.println("      \"target\": " + nodeIDs.get(edge.target) + ",");
-				json.println("      \"label\": \"\"");  // TODO: should be 'edge.label'; 
+            json.println("  ],\n\n  \"edges\": [");
+            for (int e = 0; e < graph.edgeCount(); ++e) {
+                json.println("    {");
+                json.println("      \"id\": " + e + ",");
+                json.println("      \"source\": " + graph.getSource(e) + ",");
+                json.println("      \"target\": " + graph.getTarget(e) + ",");
+                json.println("      \"label\": \"\"");  // TODO: should be 'edge.label'; 
                 // Java-AST-Builder uses Digraph::addEdge(V, V) which is addEdge(new Edge(V, null, V))!
                 // Using a null edge label can have its use-cases, but in this case we need something like
                 // Digraph::addDefaultEdge(V, V) which is addEdge(V, new E(), V) using a default constructor.
-				++edgeCounter;
-                if (edgeCounter == allEdges.size())
+                if (e == graph.edgeCount() - 1)
                     json.println("    }");
                 else
                     json.println("    },");
-			}
-			json.println("  ]\n}");
-		} catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
-		}
-		Logger.info("AST exported to: " + filepath);
+            }
+            json.println("  ]\n}");
+        }
+
+        @Override
+        public void exportBIN(CompactGraph<ASNode, ASEdge> graph, String outDir) throws IOException {
+            if (!outDir.endsWith(File.separator))
+                outDir += File.separator;
+            File outDirFile = new File(outDir);
+            outDirFile.mkdirs();
+            String filename = fileName.substring(0, fileName.indexOf('.'));
+            String filepath = outDir + filename + "-AST.bin";
+            Map<String, String> props = new LinkedHashMap<>(graph.getProperties());
+            props.put("file", fileName);
+            String[] edgeTypes = {""};
+            BinaryGraphWriter bin = new BinaryGraphWriter("AST", props,
+                    new String[] {"type", "label", "normalized"}, edgeTypes);
+            for (int v = 0; v < graph.vertexCount(); ++v) {
+                ASNode node = graph.getVertex(v);
+                String code = node.getCode();
+                code = StringUtils.isEmpty(code) ? node.getType().label : code;
+                String normalized = node.getNormalizedCode();
+                normalized = StringUtils.isEmpty(normalized) ? code : normalized;
+                bin.addNode(node.getLineOfCode(), node.getType().toString(), code, normalized);
+            }
+            for (int e = 0; e < graph.edgeCount(); ++e)
+                bin.addEdge(graph.getSource(e), graph.getTarget(e), 0, "");
+            bin.write(filepath);
+            Logger.info("AST exported to: " + filepath);
+        }
     }
 }
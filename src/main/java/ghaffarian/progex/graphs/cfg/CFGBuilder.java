@@ -1,7 +1,9 @@
 /*** In The Name of Allah ***/
 package ghaffarian.progex.graphs.cfg;
 
+import java.io.File;
 import java.io.IOException;
+import ghaffarian.progex.AnalysisSession;
 import ghaffarian.progex.java.JavaCFGBuilder;
 
 /**
@@ -31,4 +33,24 @@ public class CFGBuilder {
 		}
 	}
 	
+	/**
+	 * Build and return the CFG of the given source code file with specified language,
+	 * using the parse-tree cache of the given analysis session.
+	 */
+	public static ControlFlowGraph build(AnalysisSession session, String lang, String srcFilePath) throws IOException {
+		switch (lang) {
+			case "C":
+				return null;
+			//
+			case "Java":
+				return JavaCFGBuilder.build(session, new File(srcFilePath));
+			//
+			case "Python":
+				return null;
+			//
+			default:
+				return null;
+		}
+	}
+	
 }
@@ -2,6 +2,8 @@
 package ghaffarian.progex.graphs.cfg;
 
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import ghaffarian.progex.graphs.pdg.PDNode;
@@ -9,51 +11,152 @@ import ghaffarian.progex.graphs.pdg.PDNode;
 /**
  * Class type of Control Flow (CF) nodes.
  * 
+ * The well-known properties of CF nodes are kept in typed fields;
+ * and the map of properties is only created for other (ad-hoc) keys.
+ * As with the map, a line which is not set is not a property of the node.
+ *
  * @author Seyed Mohammad Ghaffarian
  */
 public class CFNode {
 	
+	private int line;
+	private boolean hasLine;
+	private String code;
+	private PDNode pdNode;
+	private String name;
+	private String className;
+	private List<?> calls;
+	private List<CFNode> exits;
 	private Map<String, Object> properties;
 	
 	public CFNode() {
-		properties = new LinkedHashMap<>();
+		line = 0;
+		hasLine = false;
+		properties = null;
 	}
 	
 	public void setLineOfCode(int line) {
-		properties.put("line", line);
+		this.line = line;
+		hasLine = true;
 	}
 	
+	/**
+	 * Returns the line of code of this node;
+	 * which fails if the line is not set (as for a missing property).
+	 */
 	public int getLineOfCode() {
-		return (Integer) properties.get("line");
+		if (!hasLine)
+			throw new IllegalStateException("Line of code is not set: " + code);
+		return line;
 	}
 	
 	public void setCode(String code) {
-		properties.put("code", code);
+		this.code = code;
 	}
 	
 	public String getCode() {
-		return (String) properties.get("code");
+		return code;
 	}
     
+    public void setPDNode(PDNode node) {
+        pdNode = node;
+    }
+    
     public PDNode getPDNode() {
-        return (PDNode) getProperty("pdnode");
+        return pdNode;
     }
 	
+	/**
+	 * Set the name of the method (or block) which starts at this entry node.
+	 */
+	public void setName(String name) {
+		this.name = name;
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	/**
+	 * Set the name of the class which holds the method of this entry node.
+	 */
+	public void setClassName(String cls) {
+		className = cls;
+	}
+	
+	public String getClassName() {
+		return className;
+	}
+	
+	/**
+	 * Set the list of exit nodes of the method which starts at this entry node.
+	 */
+	public void setExits(List<CFNode> exits) {
+		this.exits = exits;
+	}
+	
+	public List<CFNode> getExits() {
+		return exits;
+	}
+	
+	@SuppressWarnings("unchecked")
 	public void setProperty(String key, Object value) {
-		properties.put(key.toLowerCase(), value);
+		switch (key) {
+			case "line":
+				hasLine = value != null;
+				line = hasLine ? (Integer) value : 0;
+				break;
+			case "code":   code = (String) value;          break;
+			case "pdnode": pdNode = (PDNode) value;        break;
+			case "name":   name = (String) value;          break;
+			case "class":  className = (String) value;     break;
+			case "calls":  calls = (List<?>) value;        break;
+			case "exits":  exits = (List<CFNode>) value;   break;
+			default:
+				String lowerKey = key.toLowerCase();
+				if (!lowerKey.equals(key)) {
+					setProperty(lowerKey, value);
+				} else {
+					if (properties == null)
+						properties = new LinkedHashMap<>();
+					properties.put(key, value);
+				}
+		}
 	}
 	
 	public Object getProperty(String key) {
-		return properties.get(key.toLowerCase());
+		switch (key) {
+			case "line":   return hasLine ? (Object) line : null;
+			case "code":   return code;
+			case "pdnode": return pdNode;
+			case "name":   return name;
+			case "class":  return className;
+			case "calls":  return calls;
+			case "exits":  return exits;
+			default:
+				String lowerKey = key.toLowerCase();
+				if (!lowerKey.equals(key))
+					return getProperty(lowerKey);
+				return properties == null ? null : properties.get(key);
+		}
 	}
 	
 	public Set<String> getAllProperties() {
-		return properties.keySet();
+		Set<String> keys = new LinkedHashSet<>();
+		if (hasLine)           keys.add("line");
+		if (code != null)      keys.add("code");
+		if (pdNode != null)    keys.add("pdnode");
+		if (name != null)      keys.add("name");
+		if (className != null) keys.add("class");
+		if (calls != null)     keys.add("calls");
+		if (exits != null)     keys.add("exits");
+		if (properties != null)
+			keys.addAll(properties.keySet());
+		return keys;
 	}
 	
 	@Override
 	public String toString() {
-		return (Integer) properties.get("line") + ": " + 
-				(String) properties.get("code");
+		return getProperty("line") + ": " + code;
 	}
 }
@@ -1,15 +1,16 @@
 /*** In The Name of Allah ***/
 package ghaffarian.progex.graphs.cfg;
 
-import ghaffarian.graphs.Edge;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
-import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import ghaffarian.progex.graphs.BinaryGraphWriter;
+import ghaffarian.progex.graphs.CompactGraph;
+import ghaffarian.progex.graphs.GraphExporter;
 import ghaffarian.progex.utils.StringUtils;
 import ghaffarian.nanologger.Logger;
 import ghaffarian.progex.graphs.AbstractProgramGraph;
@@ -53,152 +54,195 @@ public class ControlFlowGraph extends AbstractProgramGraph<CFNode, CFEdge> {
 	}
 	
     @Override
-	public void exportDOT(String outDir) throws FileNotFoundException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-		String filename = fileName.substring(0, fileName.indexOf('.'));
-		String filepath = outDir + filename + "-CFG.dot";
-		try (PrintWriter dot = new PrintWriter(filepath, "UTF-8")) {
-			dot.println("digraph " + filename + "_CFG {");
-            dot.println("  // graph-vertices");
-			Map<CFNode, String> nodeNames = new LinkedHashMap<>();
-			int nodeCounter = 1;
-			for (CFNode node: allVertices) {
-				String name = "v" + nodeCounter++;
-				nodeNames.put(node, name);
-				StringBuilder label = new StringBuilder("  [label=\"");
-				if (node.getLineOfCode() > 0)
-					label.append(node.getLineOfCode()).append(":  ");
-				label.append(StringUtils.escape(node.getCode())).append("\"];");
-				dot.println("  " + name + label.toString());
-			}
-			dot.println("  // graph-edges");
-			for (Edge<CFNode, CFEdge> edge: allEdges) {
-				String src = nodeNames.get(edge.source);
-				String trg = nodeNames.get(edge.target);
-				if (edge.label.type.equals(CFEdge.Type.EPSILON))
-					dot.println("  " + src + " -> " + trg + ";");
-				else
-					dot.println("  " + src + " -> " + trg + "  [label=\"" + edge.label.type + "\"];");
+	protected byte edgeType(CFEdge label) {
+		return (byte) label.type.ordinal();
+	}
+	
+    @Override
+	protected GraphExporter<CFNode, CFEdge> exporter() {
+		return new Exporter(fileName, pkgName);
+	}
+	
+	/**
+	 * The exporters of control flow graphs, which work on their frozen form.
+	 */
+	private static class Exporter extends GraphExporter<CFNode, CFEdge> {
+		
+		private final String fileName;
+		private final String pkgName;
+		
+		Exporter(String fileName, String pkgName) {
+			this.fileName = fileName;
+			this.pkgName = pkgName;
+		}
+		
+		@Override
+		public void exportDOT(CompactGraph<CFNode, CFEdge> graph, String outDir) throws FileNotFoundException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-CFG.dot";
+			try (PrintWriter dot = openWriter(filepath)) {
+				dot.println("digraph " + filename + "_CFG {");
+				dot.println("  // graph-vertices");
+				StringBuilder label = new StringBuilder(256);
+				for (int v = 0; v < graph.vertexCount(); ++v) {
+					CFNode node = graph.getVertex(v);
+					label.setLength(0);
+					label.append("  v").append(v + 1).append("  [label=\"");
+					if (node.getLineOfCode() > 0)
+						label.append(node.getLineOfCode()).append(":  ");
+					StringUtils.escape(node.getCode(), label).append("\"];");
+					dot.println(label);
+				}
+				dot.println("  // graph-edges");
+				for (int e = 0; e < graph.edgeCount(); ++e) {
+					String src = "v" + (graph.getSource(e) + 1);
+					String trg = "v" + (graph.getTarget(e) + 1);
+					CFEdge.Type type = graph.getLabel(e).type;
+					if (type.equals(CFEdge.Type.EPSILON))
+						dot.println("  " + src + " -> " + trg + ";");
+					else
+						dot.println("  " + src + " -> " + trg + "  [label=\"" + type + "\"];");
+				}
+				dot.println("  // end-of-graph\n}");
 			}
-			dot.println("  // end-of-graph\n}");
-		} catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
+			Logger.info("CFG exported to: " + filepath);
 		}
-		Logger.info("CFG exported to: " + filepath);
-	}	
 
-    @Override
-    public void exportGML(String outDir) throws IOException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-		String filename = fileName.substring(0, fileName.indexOf('.'));
-		String filepath = outDir + filename + "-CFG.gml";
-		try (PrintWriter gml = new PrintWriter(filepath, "UTF-8")) {
-			gml.println("graph [");
-			gml.println("  directed 1");
-			gml.println("  multigraph 1");
-			for (Entry<String, String> property: properties.entrySet()) {
-                switch (property.getKey()) {
-                    case "directed":
-                        continue;
-                    default:
-                        gml.println("  " + property.getKey() + " \"" + property.getValue() + "\"");
-                }
-            }
-            gml.println("  file \"" + this.fileName + "\"");
-            gml.println("  package \"" + this.pkgName + "\"\n");
-            //
-			Map<CFNode, Integer> nodeIDs = new LinkedHashMap<>();
-			int nodeCounter = 0;
-			for (CFNode node: allVertices) {
-				gml.println("  node [");
-				gml.println("    id " + nodeCounter);
-				gml.println("    line " + node.getLineOfCode());
-				gml.println("    label \"" + StringUtils.escape(node.getCode()) + "\"");
-				gml.println("  ]");
-				nodeIDs.put(node, nodeCounter);
-				++nodeCounter;
+		@Override
+		public void exportGML(CompactGraph<CFNode, CFEdge> graph, String outDir) throws IOException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-CFG.gml";
+			try (PrintWriter gml = openWriter(filepath)) {
+				gml.println("graph [");
+				gml.println("  directed 1");
+				gml.println("  multigraph 1");
+				for (Entry<String, String> property: graph.getProperties().entrySet()) {
+					switch (property.getKey()) {
+						case "directed":
+							continue;
+						default:
+							gml.println("  " + property.getKey() + " \"" + property.getValue() + "\"");
+					}
+				}
+				gml.println("  file \"" + this.fileName + "\"");
+				gml.println("  package \"" + this.pkgName + "\"\n");
+				//
+				StringBuilder line = new StringBuilder(256);
+				for (int v = 0; v < graph.vertexCount(); ++v) {
+					CFNode node = graph.getVertex(v);
+					gml.println("  node [");
+					gml.println("    id " + v);
+					gml.println("    line " + node.getLineOfCode());
+					line.setLength(0);
+					StringUtils.escape(node.getCode(), line.append("    label \"")).append("\"");
+					gml.println(line);
+					gml.println("  ]");
+				}
+				gml.println();
+				//
+				for (int e = 0; e < graph.edgeCount(); ++e) {
+					gml.println("  edge [");
+					gml.println("    id " + e);
+					gml.println("    source " + graph.getSource(e));
+					gml.println("    target " + graph.getTarget(e));
+					gml.println("    label \"" + graph.getLabel(e).type + "\"");
+					gml.println("  ]");
+				}
+				gml.println("]");
 			}
-            gml.println();
-            //
-			int edgeCounter = 0;
-			for (Edge<CFNode, CFEdge> edge: allEdges) {
-				gml.println("  edge [");
-				gml.println("    id " + edgeCounter);
-				gml.println("    source " + nodeIDs.get(edge.source));
-				gml.println("    target " + nodeIDs.get(edge.target));
-				gml.println("    label \"" + edge.label.type + "\"");
-				gml.println("  ]");
-				++edgeCounter;
+			Logger.info("CFG exported to: " + filepath);
+		}
+		
+		@Override
+		public void exportJSON(CompactGraph<CFNode, CFEdge> graph, String outDir) throws FileNotFoundException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-CFG.json";
+			try (PrintWriter json = openWriter(filepath)) {
+				writeJSON(graph, json);
 			}
-			gml.println("]");
-		} catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
+			Logger.info("CFG exported to: " + filepath);
 		}
-		Logger.info("CFG exported to: " + filepath);
-    }
-	
-    @Override
-	public void exportJSON(String outDir) throws FileNotFoundException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-		String filename = fileName.substring(0, fileName.indexOf('.'));
-		String filepath = outDir + filename + "-CFG.json";
-		try (PrintWriter json = new PrintWriter(filepath, "UTF-8")) {
+
+		@Override
+		public void writeJSON(CompactGraph<CFNode, CFEdge> graph, PrintWriter json) {
 			json.println("{\n  \"directed\": true,");
 			json.println("  \"multigraph\": true,");
-			for (Entry<String, String> property: properties.entrySet()) {
-                switch (property.getKey()) {
-                    case "directed":
-                        continue;
-                    default:
-                        json.println("  \"" + property.getKey() + "\": \"" + property.getValue() + "\",");
-                }
-            }
+			for (Entry<String, String> property: graph.getProperties().entrySet()) {
+				switch (property.getKey()) {
+					case "directed":
+						continue;
+					default:
+						json.println("  \"" + property.getKey() + "\": \"" + property.getValue() + "\",");
+				}
+			}
 			json.println("  \"file\": \"" + fileName + "\",");
-            json.println("  \"package\": \"" + this.pkgName + "\",\n");
-            //
+			json.println("  \"package\": \"" + this.pkgName + "\",\n");
+			//
 			json.println("  \"nodes\": [");
-			Map<CFNode, Integer> nodeIDs = new LinkedHashMap<>();
-			int nodeCounter = 0;
-			for (CFNode node: allVertices) {
-                json.println("    {");
-				json.println("      \"id\": " + nodeCounter + ",");
+			StringBuilder line = new StringBuilder(256);
+			for (int v = 0; v < graph.vertexCount(); ++v) {
+				CFNode node = graph.getVertex(v);
+				json.println("    {");
+				json.println("      \"id\": " + v + ",");
 				json.println("      \"line\": " + node.getLineOfCode() + ",");
-				json.println("      \"label\": \"" + StringUtils.escape(node.getCode()) + "\"");
-				nodeIDs.put(node, nodeCounter);
-				++nodeCounter;
-                if (nodeCounter == allVertices.size())
-                    json.println("    }");
-                else
-                    json.println("    },");
+				line.setLength(0);
+				StringUtils.escape(node.getCode(), line.append("      \"label\": \"")).append("\"");
+				json.println(line);
+				if (v == graph.vertexCount() - 1)
+					json.println("    }");
+				else
+					json.println("    },");
 			}
-            //
+			//
 			json.println("  ],\n\n  \"edges\": [");
-			int edgeCounter = 0;
-			for (Edge<CFNode, CFEdge> edge: allEdges) {
+			for (int e = 0; e < graph.edgeCount(); ++e) {
 				json.println("    {");
-				json.println("      \"id\": " + edgeCounter + ",");
-				json.println("      \"source\": " + nodeIDs.get(edge.source) + ",");
-				json.println("      \"target\": " + nodeIDs.get(edge.target) + ",");
-				json.println("      \"label\": \"" + edge.label.type + "\"");
-				++edgeCounter;
-                if (edgeCounter == allEdges.size())
-                    json.println("    }");
-                else
-                    json.println("    },");
+				json.println("      \"id\": " + e + ",");
+				json.println("      \"source\": " + graph.getSource(e) + ",");
+				json.println("      \"target\": " + graph.getTarget(e) + ",");
+				json.println("      \"label\": \"" + graph.getLabel(e).type + "\"");
+				if (e == graph.edgeCount() - 1)
+					json.println("    }");
+				else
+					json.println("    },");
 			}
 			json.println("  ]\n}");
-		} catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
 		}
-		Logger.info("CFG exported to: " + filepath);
+
+		@Override
+		public void exportBIN(CompactGraph<CFNode, CFEdge> graph, String outDir) throws IOException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-CFG.bin";
+			Map<String, String> props = new LinkedHashMap<>(graph.getProperties());
+			props.put("file", fileName);
+			props.put("package", pkgName);
+			CFEdge.Type[] types = CFEdge.Type.values();
+			String[] edgeTypes = new String[types.length];
+			for (int i = 0; i < types.length; ++i)
+				edgeTypes[i] = types[i].toString();
+			BinaryGraphWriter bin = new BinaryGraphWriter("CFG", props, new String[] {"label"}, edgeTypes);
+			for (int v = 0; v < graph.vertexCount(); ++v)
+				bin.addNode(graph.getVertex(v).getLineOfCode(), graph.getVertex(v).getCode());
+			for (int e = 0; e < graph.edgeCount(); ++e)
+				bin.addEdge(graph.getSource(e), graph.getTarget(e), graph.getType(e), "");
+			bin.write(filepath);
+			Logger.info("CFG exported to: " + filepath);
+		}
 	}
 }
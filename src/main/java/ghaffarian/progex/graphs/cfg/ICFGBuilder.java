@@ -2,6 +2,7 @@
 package ghaffarian.progex.graphs.cfg;
 
 import java.io.IOException;
+import ghaffarian.progex.AnalysisSession;
 import ghaffarian.progex.java.JavaICFGBuilder;
 
 /**
@@ -30,4 +31,24 @@ public class ICFGBuilder {
 				return null;
 		}
 	}
+	
+	/**
+	 * Build and return ICFG of given source code files with specified language,
+	 * using the parse-tree cache of the given analysis session.
+	 */
+	public static ControlFlowGraph buildForAll(AnalysisSession session, String lang, String[] javaFilePaths) throws IOException {
+		switch (lang) {
+			case "C":
+				return null;
+			//
+			case "Java":
+				return JavaICFGBuilder.buildForAll(session, javaFilePaths);
+			//
+			case "Python":
+				return null;
+			//
+			default:
+				return null;
+		}
+	}
 }
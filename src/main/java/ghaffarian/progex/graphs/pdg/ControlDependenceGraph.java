@@ -1,13 +1,14 @@
 /*** In The Name of Allah ***/
 package ghaffarian.progex.graphs.pdg;
 
-import ghaffarian.graphs.Edge;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
-import java.io.UnsupportedEncodingException;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import ghaffarian.progex.graphs.BinaryGraphWriter;
+import ghaffarian.progex.graphs.CompactGraph;
+import ghaffarian.progex.graphs.GraphExporter;
 import ghaffarian.progex.utils.StringUtils;
 import ghaffarian.nanologger.Logger;
 import ghaffarian.progex.graphs.AbstractProgramGraph;
@@ -31,148 +32,188 @@ public class ControlDependenceGraph extends AbstractProgramGraph<PDNode, CDEdge>
 	}
 	
     @Override
-	public void exportDOT(String outDir) throws FileNotFoundException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-		String filename = fileName.substring(0, fileName.indexOf('.'));
-		String filepath = outDir + filename + "-PDG-CTRL.dot";
-		try (PrintWriter dot = new PrintWriter(filepath, "UTF-8")) {
-			dot.println("digraph " + filename + "_PDG_CTRL {");
-            dot.println("  // graph-vertices");
-			Map<PDNode, String> nodeNames = new LinkedHashMap<>();
-			int nodeCounter = 1;
-			for (PDNode node: allVertices) {
-				String name = "v" + nodeCounter++;
-				nodeNames.put(node, name);
-				StringBuilder label = new StringBuilder("  [label=\"");
-				if (node.getLineOfCode() > 0)
-					label.append(node.getLineOfCode()).append(":  ");
-				label.append(StringUtils.escape(node.getCode())).append("\"];");
-				dot.println("  " + name + label.toString());
-			}
-			dot.println("  // graph-edges");
-			for (Edge<PDNode, CDEdge> edge: allEdges) {
-				String src = nodeNames.get(edge.source);
-				String trg = nodeNames.get(edge.target);
-				if (edge.label.type.equals(CDEdge.Type.EPSILON))
-					dot.println("  " + src + " -> " + trg + ";");
-				else
-					dot.println("  " + src + " -> " + trg + "  [label=\"" + edge.label.type + "\"];");
+	protected byte edgeType(CDEdge label) {
+		return (byte) label.type.ordinal();
+	}
+	
+    @Override
+	protected GraphExporter<PDNode, CDEdge> exporter() {
+		return new Exporter(fileName);
+	}
+	
+	/**
+	 * The exporters of control dependence graphs, which work on their frozen form.
+	 */
+	private static class Exporter extends GraphExporter<PDNode, CDEdge> {
+		
+		private final String fileName;
+		
+		Exporter(String fileName) {
+			this.fileName = fileName;
+		}
+		
+		@Override
+		public void exportDOT(CompactGraph<PDNode, CDEdge> graph, String outDir) throws FileNotFoundException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-PDG-CTRL.dot";
+			try (PrintWriter dot = openWriter(filepath)) {
+				dot.println("digraph " + filename + "_PDG_CTRL {");
+				dot.println("  // graph-vertices");
+				StringBuilder label = new StringBuilder(256);
+				for (int v = 0; v < graph.vertexCount(); ++v) {
+					PDNode node = graph.getVertex(v);
+					label.setLength(0);
+					label.append("  v").append(v + 1).append("  [label=\"");
+					if (node.getLineOfCode() > 0)
+						label.append(node.getLineOfCode()).append(":  ");
+					StringUtils.escape(node.getCode(), label).append("\"];");
+					dot.println(label);
+				}
+				dot.println("  // graph-edges");
+				for (int e = 0; e < graph.edgeCount(); ++e) {
+					String src = "v" + (graph.getSource(e) + 1);
+					String trg = "v" + (graph.getTarget(e) + 1);
+					CDEdge.Type type = graph.getLabel(e).type;
+					if (type.equals(CDEdge.Type.EPSILON))
+						dot.println("  " + src + " -> " + trg + ";");
+					else
+						dot.println("  " + src + " -> " + trg + "  [label=\"" + type + "\"];");
+				}
+				dot.println("  // end-of-graph\n}");
 			}
-			dot.println("  // end-of-graph\n}");
-		} catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
+			Logger.info("CDS of PDG exported to: " + filepath);
 		}
-		Logger.info("CDS of PDG exported to: " + filepath);
-	}
 
-    @Override
-    public void exportGML(String outDir) throws IOException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-		String filename = fileName.substring(0, fileName.indexOf('.'));
-		String filepath = outDir + filename + "-PDG-CTRL.gml";
-		try (PrintWriter gml = new PrintWriter(filepath, "UTF-8")) {
-			gml.println("graph [");
-			gml.println("  directed 1");
-			for (Entry<String, String> property: properties.entrySet()) {
-                switch (property.getKey()) {
-                    case "directed":
-                        continue;
-                    default:
-                        gml.println("  " + property.getKey() + " \"" + property.getValue() + "\"");
-                }
-            }
-            gml.println("  file \"" + this.fileName + "\"\n");
-            //
-			Map<PDNode, Integer> nodeIDs = new LinkedHashMap<>();
-			int nodeCounter = 0;
-			for (PDNode node: allVertices) {
-				gml.println("  node [");
-				gml.println("    id " + nodeCounter);
-				gml.println("    line " + node.getLineOfCode());
-				gml.println("    label \"" + StringUtils.escape(node.getCode()) + "\"");
-				gml.println("  ]");
-				nodeIDs.put(node, nodeCounter);
-				++nodeCounter;
+		@Override
+		public void exportGML(CompactGraph<PDNode, CDEdge> graph, String outDir) throws IOException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-PDG-CTRL.gml";
+			try (PrintWriter gml = openWriter(filepath)) {
+				gml.println("graph [");
+				gml.println("  directed 1");
+				for (Entry<String, String> property: graph.getProperties().entrySet()) {
+					switch (property.getKey()) {
+						case "directed":
+							continue;
+						default:
+							gml.println("  " + property.getKey() + " \"" + property.getValue() + "\"");
+					}
+				}
+				gml.println("  file \"" + this.fileName + "\"\n");
+				//
+				StringBuilder line = new StringBuilder(256);
+				for (int v = 0; v < graph.vertexCount(); ++v) {
+					PDNode node = graph.getVertex(v);
+					gml.println("  node [");
+					gml.println("    id " + v);
+					gml.println("    line " + node.getLineOfCode());
+					line.setLength(0);
+					StringUtils.escape(node.getCode(), line.append("    label \"")).append("\"");
+					gml.println(line);
+					gml.println("  ]");
+				}
+				gml.println();
+				//
+				for (int e = 0; e < graph.edgeCount(); ++e) {
+					gml.println("  edge [");
+					gml.println("    id " + e);
+					gml.println("    source " + graph.getSource(e));
+					gml.println("    target " + graph.getTarget(e));
+					gml.println("    label \"" + graph.getLabel(e).type + "\"");
+					gml.println("  ]");
+				}
+				gml.println("]");
 			}
-            gml.println();
-            //
-			int edgeCounter = 0;
-			for (Edge<PDNode, CDEdge> edge: allEdges) {
-				gml.println("  edge [");
-				gml.println("    id " + edgeCounter);
-				gml.println("    source " + nodeIDs.get(edge.source));
-				gml.println("    target " + nodeIDs.get(edge.target));
-				gml.println("    label \"" + edge.label.type + "\"");
-				gml.println("  ]");
-				++edgeCounter;
+			Logger.info("CDS of PDG exported to: " + filepath);
+		}
+		
+		@Override
+		public void exportJSON(CompactGraph<PDNode, CDEdge> graph, String outDir) throws FileNotFoundException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-PDG-CTRL.json";
+			try (PrintWriter json = openWriter(filepath)) {
+				writeJSON(graph, json);
 			}
-			gml.println("]");
-		} catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
+			Logger.info("CDS of PDG exported to: " + filepath);
 		}
-		Logger.info("CDS of PDG exported to: " + filepath);
-    }
-	
-    @Override
-	public void exportJSON(String outDir) throws FileNotFoundException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-		String filename = fileName.substring(0, fileName.indexOf('.'));
-		String filepath = outDir + filename + "-PDG-CTRL.json";
-		try (PrintWriter json = new PrintWriter(filepath, "UTF-8")) {
+
+		@Override
+		public void writeJSON(CompactGraph<PDNode, CDEdge> graph, PrintWriter json) {
 			json.println("{\n  \"directed\": true,");
-			for (Entry<String, String> property: properties.entrySet()) {
-                switch (property.getKey()) {
-                    case "directed":
-                        continue;
-                    default:
-                        json.println("  \"" + property.getKey() + "\": \"" + property.getValue() + "\",");
-                }
-            }
+			for (Entry<String, String> property: graph.getProperties().entrySet()) {
+				switch (property.getKey()) {
+					case "directed":
+						continue;
+					default:
+						json.println("  \"" + property.getKey() + "\": \"" + property.getValue() + "\",");
+				}
+			}
 			json.println("  \"file\": \"" + fileName + "\",\n");
-            //
+			//
 			json.println("  \"nodes\": [");
-			Map<PDNode, Integer> nodeIDs = new LinkedHashMap<>();
-			int nodeCounter = 0;
-			for (PDNode node: allVertices) {
+			StringBuilder line = new StringBuilder(256);
+			for (int v = 0; v < graph.vertexCount(); ++v) {
+				PDNode node = graph.getVertex(v);
 				json.println("    {");
-				json.println("      \"id\": " + nodeCounter + ",");
+				json.println("      \"id\": " + v + ",");
 				json.println("      \"line\": " + node.getLineOfCode() + ",");
-				json.println("      \"label\": \"" + StringUtils.escape(node.getCode()) + "\"");
-				nodeIDs.put(node, nodeCounter);
-				++nodeCounter;
-                if (nodeCounter == allVertices.size())
-                    json.println("    }");
-                else
-                    json.println("    },");
+				line.setLength(0);
+				StringUtils.escape(node.getCode(), line.append("      \"label\": \"")).append("\"");
+				json.println(line);
+				if (v == graph.vertexCount() - 1)
+					json.println("    }");
+				else
+					json.println("    },");
 			}
-            //
+			//
 			json.println("  ],\n\n  \"edges\": [");
-			int edgeCounter = 0;
-			for (Edge<PDNode, CDEdge> edge: allEdges) {
+			for (int e = 0; e < graph.edgeCount(); ++e) {
 				json.println("    {");
-				json.println("      \"id\": " + edgeCounter + ",");
-				json.println("      \"source\": " + nodeIDs.get(edge.source) + ",");
-				json.println("      \"target\": " + nodeIDs.get(edge.target) + ",");
-				json.println("      \"label\": \"" + edge.label.type + "\"");
-				++edgeCounter;
-                if (edgeCounter == allEdges.size())
-                    json.println("    }");
-                else
-                    json.println("    },");
+				json.println("      \"id\": " + e + ",");
+				json.println("      \"source\": " + graph.getSource(e) + ",");
+				json.println("      \"target\": " + graph.getTarget(e) + ",");
+				json.println("      \"label\": \"" + graph.getLabel(e).type + "\"");
+				if (e == graph.edgeCount() - 1)
+					json.println("    }");
+				else
+					json.println("    },");
 			}
 			json.println("  ]\n}");
-		} catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
 		}
-		Logger.info("CDS of PDG exported to: " + filepath);
+
+		@Override
+		public void exportBIN(CompactGraph<PDNode, CDEdge> graph, String outDir) throws IOException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-PDG-CTRL.bin";
+			Map<String, String> props = new LinkedHashMap<>(graph.getProperties());
+			props.put("file", fileName);
+			CDEdge.Type[] types = CDEdge.Type.values();
+			String[] edgeTypes = new String[types.length];
+			for (int i = 0; i < types.length; ++i)
+				edgeTypes[i] = types[i].toString();
+			BinaryGraphWriter bin = new BinaryGraphWriter("PDG-CTRL", props, new String[] {"label"}, edgeTypes);
+			for (int v = 0; v < graph.vertexCount(); ++v)
+				bin.addNode(graph.getVertex(v).getLineOfCode(), graph.getVertex(v).getCode());
+			for (int e = 0; e < graph.edgeCount(); ++e)
+				bin.addEdge(graph.getSource(e), graph.getTarget(e), graph.getType(e), "");
+			bin.write(filepath);
+			Logger.info("CDS of PDG exported to: " + filepath);
+		}
 	}
 }
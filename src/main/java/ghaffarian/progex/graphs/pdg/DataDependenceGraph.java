@@ -1,13 +1,14 @@
 /*** In The Name of Allah ***/
 package ghaffarian.progex.graphs.pdg;
 
-import ghaffarian.graphs.Edge;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
-import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
 import java.util.Map;
+import ghaffarian.progex.graphs.BinaryGraphWriter;
+import ghaffarian.progex.graphs.CompactGraph;
+import ghaffarian.progex.graphs.GraphExporter;
 import ghaffarian.progex.graphs.cfg.CFEdge;
 import ghaffarian.progex.graphs.cfg.CFNode;
 import ghaffarian.progex.graphs.cfg.ControlFlowGraph;
@@ -15,7 +16,6 @@ import ghaffarian.progex.utils.StringUtils;
 import ghaffarian.nanologger.Logger;
 import ghaffarian.progex.graphs.AbstractProgramGraph;
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 
 /**
@@ -52,220 +52,285 @@ public class DataDependenceGraph extends AbstractProgramGraph<PDNode, DDEdge> {
 		}
 	}
 
+	@Override
+	protected byte edgeType(DDEdge label) {
+		return (byte) label.type.ordinal();
+	}
+
     @Override
-    public void exportDOT(String outDir) throws IOException {
-        exportDOT(outDir, true);
-    }
+	protected GraphExporter<PDNode, DDEdge> exporter() {
+		return new Exporter(fileName, cfg == null ? null : cfg.freeze());
+	}
 
     /**
 	 * Export this Data Dependence Subgraph (DDG) of PDG to DOT file format.
-     * The 2nd parameter determines whether the attached CFG (if any) should also be exported.
+     * The 2nd parameter determines whether the labels of control edges of the attached CFG are exported.
 	 * The DOT file will be saved inside the given directory.
 	 * The DOT format is mainly aimed for visualization purposes.
 	 */
     public void exportDOT(String outDir, boolean ctrlEdgeLabels) throws FileNotFoundException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-		String filename = fileName.substring(0, fileName.indexOf('.'));
-		String filepath = outDir + filename + "-PDG-DATA.dot";
-		try (PrintWriter dot = new PrintWriter(filepath, "UTF-8")) {
-			dot.println("digraph " + filename + "_PDG_DATA {");
-            dot.println("  // graph-vertices");
-			Map<CFNode, String> ctrlNodes = new LinkedHashMap<>();
-			Map<PDNode, String> dataNodes = new LinkedHashMap<>();
-			int nodeCounter = 1;
-            Iterator<CFNode> cfNodes = cfg.allVerticesIterator();
-			while (cfNodes.hasNext()) {
-                CFNode node = cfNodes.next();
-				String name = "v" + nodeCounter++;
-				ctrlNodes.put(node, name);
-				PDNode pdNode = (PDNode) node.getProperty("pdnode");
-				if (pdNode != null)
-					dataNodes.put(pdNode, name);
-				StringBuilder label = new StringBuilder("  [label=\"");
-				if (node.getLineOfCode() > 0)
-					label.append(node.getLineOfCode()).append(":  ");
-				label.append(StringUtils.escape(node.getCode())).append("\"];");
-				dot.println("  " + name + label.toString());
-			}
-			dot.println("  // graph-edges");
-            Iterator<Edge<CFNode, CFEdge>> cfEdges = cfg.allEdgesIterator();
-			while (cfEdges.hasNext()) {
-                Edge<CFNode, CFEdge> ctrlEdge = cfEdges.next();
-				String src = ctrlNodes.get(ctrlEdge.source);
-				String trg = ctrlNodes.get(ctrlEdge.target);
-				if (ctrlEdgeLabels)
-					dot.println("  " + src + " -> " + trg + 
-                                "  [arrowhead=empty, color=gray, style=dashed, label=\"" + ctrlEdge.label.type + "\"];");
-				else
-					dot.println("  " + src + " -> " + trg + "  [arrowhead=empty, color=gray, style=dashed];");
-			}
-			for (Edge<PDNode, DDEdge> dataEdge: allEdges) {
-				String src = dataNodes.get(dataEdge.source);
-				String trg = dataNodes.get(dataEdge.target);
-				dot.println("   " + src + " -> " + trg + "   [style=bold, label=\" (" + dataEdge.label.var + ")\"];");
-			}
-			dot.println("  // end-of-graph\n}");
-		} catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
-		}
-		Logger.info("DDS of PDG exported to: " + filepath);
+		CompactGraph<PDNode, DDEdge> frozen = freeze();
+		((Exporter) frozen.getExporter()).exportDOT(frozen, outDir, ctrlEdgeLabels);
 	}
 	
-    @Override
-    public void exportGML(String outDir) throws IOException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-		String filename = fileName.substring(0, fileName.indexOf('.'));
-		String filepath = outDir + filename + "-PDG-DATA.gml";
-		try (PrintWriter gml = new PrintWriter(filepath, "UTF-8")) {
-			gml.println("graph [");
-			gml.println("  directed 1");
-			gml.println("  multigraph 1");
-			for (Map.Entry<String, String> property: properties.entrySet()) {
-                switch (property.getKey()) {
-                    case "directed":
-                        continue;
-                    default:
-                        gml.println("  " + property.getKey() + " \"" + property.getValue() + "\"");
-                }
-            }
-            gml.println("  file \"" + this.fileName + "\"\n");
-            //
-			Map<CFNode, Integer> ctrlNodes = new LinkedHashMap<>();
-			Map<PDNode, Integer> dataNodes = new LinkedHashMap<>();
-            Iterator<CFNode> cfNodes = cfg.allVerticesIterator();
-			int nodeCounter = 0;
-			while (cfNodes.hasNext()) {
-                CFNode node = cfNodes.next();
-				gml.println("  node [");
-				gml.println("    id " + nodeCounter);
-				gml.println("    line " + node.getLineOfCode());
-				gml.println("    label \"" + StringUtils.escape(node.getCode()) + "\"");
-				PDNode pdNode = (PDNode) node.getProperty("pdnode");
-				if (pdNode != null) {
-					dataNodes.put(pdNode, nodeCounter);
-					gml.println("    defs " + StringUtils.toGmlArray(pdNode.getAllDEFs(), "var"));
-					gml.println("    uses " + StringUtils.toGmlArray(pdNode.getAllUSEs(), "var"));
+	/**
+	 * The exporters of data dependence graphs, which work on their frozen form.
+	 * All nodes and edges of the attached CFG are exported along with the data edges;
+	 * so the exporter keeps the frozen form of the CFG.
+	 */
+	private static class Exporter extends GraphExporter<PDNode, DDEdge> {
+		
+		private final String fileName;
+		private final CompactGraph<CFNode, CFEdge> cfg;
+		
+		Exporter(String fileName, CompactGraph<CFNode, CFEdge> cfg) {
+			this.fileName = fileName;
+			this.cfg = cfg;
+		}
+		
+		/**
+		 * Returns the exported node ID of each vertex of the given DDG;
+		 * which is the ID of its node in the CFG (or -1, if it has none).
+		 */
+		private int[] dataNodeIDs(CompactGraph<PDNode, DDEdge> graph) {
+			PDNode[] pdNodes = new PDNode[cfg.vertexCount()];
+			for (int v = 0; v < pdNodes.length; ++v)
+				pdNodes[v] = cfg.getVertex(v).getPDNode();
+			int[] ids = graph.getIDs(pdNodes);
+			int[] dataNodes = new int[graph.vertexCount()];
+			Arrays.fill(dataNodes, -1);
+			for (int v = 0; v < ids.length; ++v)
+				if (ids[v] >= 0)
+					dataNodes[ids[v]] = v;
+			return dataNodes;
+		}
+
+		@Override
+		public void exportDOT(CompactGraph<PDNode, DDEdge> graph, String outDir) throws FileNotFoundException {
+			exportDOT(graph, outDir, true);
+		}
+
+		void exportDOT(CompactGraph<PDNode, DDEdge> graph, String outDir, boolean ctrlEdgeLabels) throws FileNotFoundException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-PDG-DATA.dot";
+			try (PrintWriter dot = openWriter(filepath)) {
+				dot.println("digraph " + filename + "_PDG_DATA {");
+				dot.println("  // graph-vertices");
+				StringBuilder label = new StringBuilder(256);
+				for (int v = 0; v < cfg.vertexCount(); ++v) {
+					CFNode node = cfg.getVertex(v);
+					label.setLength(0);
+					label.append("  v").append(v + 1).append("  [label=\"");
+					if (node.getLineOfCode() > 0)
+						label.append(node.getLineOfCode()).append(":  ");
+					StringUtils.escape(node.getCode(), label).append("\"];");
+					dot.println(label);
+				}
+				dot.println("  // graph-edges");
+				for (int e = 0; e < cfg.edgeCount(); ++e) {
+					String src = "v" + (cfg.getSource(e) + 1);
+					String trg = "v" + (cfg.getTarget(e) + 1);
+					if (ctrlEdgeLabels)
+						dot.println("  " + src + " -> " + trg + 
+									"  [arrowhead=empty, color=gray, style=dashed, label=\"" + cfg.getLabel(e).type + "\"];");
+					else
+						dot.println("  " + src + " -> " + trg + "  [arrowhead=empty, color=gray, style=dashed];");
+				}
+				int[] dataNodes = dataNodeIDs(graph);
+				for (int e = 0; e < graph.edgeCount(); ++e) {
+					String src = "v" + (dataNodes[graph.getSource(e)] + 1);
+					String trg = "v" + (dataNodes[graph.getTarget(e)] + 1);
+					dot.println("   " + src + " -> " + trg + "   [style=bold, label=\" (" + graph.getLabel(e).var + ")\"];");
 				}
-				gml.println("  ]");
-                ctrlNodes.put(node, nodeCounter);
-				++nodeCounter;
+				dot.println("  // end-of-graph\n}");
 			}
-            gml.println();
-            //
-			int edgeCounter = 0;
-            Iterator<Edge<CFNode, CFEdge>> cfEdges = cfg.allEdgesIterator();
-			while (cfEdges.hasNext()) {
-                Edge<CFNode, CFEdge> ctrlEdge = cfEdges.next();
-				gml.println("  edge [");
-				gml.println("    id " + edgeCounter);
-				gml.println("    source " + ctrlNodes.get(ctrlEdge.source));
-				gml.println("    target " + ctrlNodes.get(ctrlEdge.target));
-				gml.println("    type \"Control\"");
-				gml.println("    label \"" + ctrlEdge.label.type + "\"");
-                gml.println("  ]");
-				++edgeCounter;
+			Logger.info("DDS of PDG exported to: " + filepath);
+		}
+		
+		@Override
+		public void exportGML(CompactGraph<PDNode, DDEdge> graph, String outDir) throws IOException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-PDG-DATA.gml";
+			try (PrintWriter gml = openWriter(filepath)) {
+				gml.println("graph [");
+				gml.println("  directed 1");
+				gml.println("  multigraph 1");
+				for (Map.Entry<String, String> property: graph.getProperties().entrySet()) {
+					switch (property.getKey()) {
+						case "directed":
+							continue;
+						default:
+							gml.println("  " + property.getKey() + " \"" + property.getValue() + "\"");
+					}
+				}
+				gml.println("  file \"" + this.fileName + "\"\n");
+				//
+				StringBuilder line = new StringBuilder(256);
+				for (int v = 0; v < cfg.vertexCount(); ++v) {
+					CFNode node = cfg.getVertex(v);
+					gml.println("  node [");
+					gml.println("    id " + v);
+					gml.println("    line " + node.getLineOfCode());
+					line.setLength(0);
+					StringUtils.escape(node.getCode(), line.append("    label \"")).append("\"");
+					gml.println(line);
+					PDNode pdNode = node.getPDNode();
+					if (pdNode != null) {
+						gml.println("    defs " + StringUtils.toGmlArray(pdNode.getAllDEFs(), "var"));
+						gml.println("    uses " + StringUtils.toGmlArray(pdNode.getAllUSEs(), "var"));
+					}
+					gml.println("  ]");
+				}
+				gml.println();
+				//
+				for (int e = 0; e < cfg.edgeCount(); ++e) {
+					gml.println("  edge [");
+					gml.println("    id " + e);
+					gml.println("    source " + cfg.getSource(e));
+					gml.println("    target " + cfg.getTarget(e));
+					gml.println("    type \"Control\"");
+					gml.println("    label \"" + cfg.getLabel(e).type + "\"");
+					gml.println("  ]");
+				}
+				int[] dataNodes = dataNodeIDs(graph);
+				for (int e = 0; e < graph.edgeCount(); ++e) {
+					DDEdge edge = graph.getLabel(e);
+					gml.println("  edge [");
+					gml.println("    id " + (cfg.edgeCount() + e));
+					gml.println("    source " + dataNodes[graph.getSource(e)]);
+					gml.println("    target " + dataNodes[graph.getTarget(e)]);
+					gml.println("    type \"" + edge.type + "\"");
+					gml.println("    label \"" + edge.var + "\"");
+					gml.println("  ]");
+				}
+				gml.println("]");
 			}
-			for (Edge<PDNode, DDEdge> dataEdge: allEdges) {
-				gml.println("  edge [");
-				gml.println("    id " + edgeCounter);
-				gml.println("    source " + dataNodes.get(dataEdge.source));
-				gml.println("    target " + dataNodes.get(dataEdge.target));
-				gml.println("    type \"" + dataEdge.label.type + "\"");
-				gml.println("    label \"" + dataEdge.label.var + "\"");
-				gml.println("  ]");
-				++edgeCounter;
+			Logger.info("DDS of PDG exported to: " + filepath);
+		}
+
+		@Override
+		public void exportJSON(CompactGraph<PDNode, DDEdge> graph, String outDir) throws FileNotFoundException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-PDG-DATA.json";
+			try (PrintWriter json = openWriter(filepath)) {
+				writeJSON(graph, json);
 			}
-			gml.println("]");
-		} catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
+			Logger.info("DDS of PDG exported to: " + filepath);
 		}
-		Logger.info("DDS of PDG exported to: " + filepath);
-    }
 
-    @Override
-	public void exportJSON(String outDir) throws FileNotFoundException {
-        if (!outDir.endsWith(File.separator))
-            outDir += File.separator;
-        File outDirFile = new File(outDir);
-        outDirFile.mkdirs();
-		String filename = fileName.substring(0, fileName.indexOf('.'));
-		String filepath = outDir + filename + "-PDG-DATA.json";
-		try (PrintWriter json = new PrintWriter(filepath, "UTF-8")) {
+		@Override
+		public void writeJSON(CompactGraph<PDNode, DDEdge> graph, PrintWriter json) {
 			json.println("{\n  \"directed\": true,");
 			json.println("  \"multigraph\": true,");
-			for (Map.Entry<String, String> property: properties.entrySet()) {
-                switch (property.getKey()) {
-                    case "directed":
-                        continue;
-                    default:
-                        json.println("  \"" + property.getKey() + "\": \"" + property.getValue() + "\",");
-                }
-            }
+			for (Map.Entry<String, String> property: graph.getProperties().entrySet()) {
+				switch (property.getKey()) {
+					case "directed":
+						continue;
+					default:
+						json.println("  \"" + property.getKey() + "\": \"" + property.getValue() + "\",");
+				}
+			}
 			json.println("  \"file\": \"" + fileName + "\",\n");
-            //
+			//
 			json.println("  \"nodes\": [");
-			Map<CFNode, Integer> ctrlNodes = new LinkedHashMap<>();
-			Map<PDNode, Integer> dataNodes = new LinkedHashMap<>();
-            Iterator<CFNode> cfNodes = cfg.allVerticesIterator();
-			int nodeCounter = 0;
-			while (cfNodes.hasNext()) {
-                CFNode node = cfNodes.next();
+			StringBuilder line = new StringBuilder(256);
+			for (int v = 0; v < cfg.vertexCount(); ++v) {
+				CFNode node = cfg.getVertex(v);
 				json.println("    {");
-				json.println("      \"id\": " + nodeCounter + ",");
+				json.println("      \"id\": " + v + ",");
 				json.println("      \"line\": " + node.getLineOfCode() + ",");
-				PDNode pdNode = (PDNode) node.getProperty("pdnode");
+				PDNode pdNode = node.getPDNode();
 				if (pdNode != null) {
-                    json.println("      \"label\": \"" + StringUtils.escape(node.getCode()) + "\",");
-					dataNodes.put(pdNode, nodeCounter);
+					line.setLength(0);
+					StringUtils.escape(node.getCode(), line.append("      \"label\": \"")).append("\",");
+					json.println(line);
 					json.println("      \"defs\": " + StringUtils.toJsonArray(pdNode.getAllDEFs()) + ",");
 					json.println("      \"uses\": " + StringUtils.toJsonArray(pdNode.getAllUSEs()));
-				} else
-                    json.println("      \"label\": \"" + StringUtils.escape(node.getCode()) + "\"");
-				ctrlNodes.put(node, nodeCounter);
-				++nodeCounter;
-                if (nodeCounter == cfg.vertexCount())
-                    json.println("    }");
-                else
-                    json.println("    },");
+				} else {
+					line.setLength(0);
+					StringUtils.escape(node.getCode(), line.append("      \"label\": \"")).append("\"");
+					json.println(line);
+				}
+				if (v == cfg.vertexCount() - 1)
+					json.println("    }");
+				else
+					json.println("    },");
 			}
-            //
+			//
 			json.println("  ],\n\n  \"edges\": [");
-			int edgeCounter = 0;
-            Iterator<Edge<CFNode, CFEdge>> cfEdges = cfg.allEdgesIterator();
-			while (cfEdges.hasNext()) {
-                Edge<CFNode, CFEdge> ctrlEdge = cfEdges.next();
+			for (int e = 0; e < cfg.edgeCount(); ++e) {
 				json.println("    {");
-				json.println("      \"id\": " + edgeCounter + ",");
-				json.println("      \"source\": " + ctrlNodes.get(ctrlEdge.source) + ",");
-				json.println("      \"target\": " + ctrlNodes.get(ctrlEdge.target) + ",");
+				json.println("      \"id\": " + e + ",");
+				json.println("      \"source\": " + cfg.getSource(e) + ",");
+				json.println("      \"target\": " + cfg.getTarget(e) + ",");
 				json.println("      \"type\": \"Control\",");
-				json.println("      \"label\": \"" + ctrlEdge.label.type + "\"");
-                json.println("    },");
-				++edgeCounter;
+				json.println("      \"label\": \"" + cfg.getLabel(e).type + "\"");
+				json.println("    },");
 			}
-			for (Edge<PDNode, DDEdge> dataEdge: allEdges) {
+			int[] dataNodes = dataNodeIDs(graph);
+			for (int e = 0; e < graph.edgeCount(); ++e) {
+				DDEdge edge = graph.getLabel(e);
 				json.println("    {");
-				json.println("      \"id\": " + edgeCounter + ",");
-				json.println("      \"source\": " + dataNodes.get(dataEdge.source) + ",");
-				json.println("      \"target\": " + dataNodes.get(dataEdge.target) + ",");
-				json.println("      \"type\": \"" + dataEdge.label.type + "\",");
-				json.println("      \"label\": \"" + dataEdge.label.var + "\"");
-				++edgeCounter;
-                if (edgeCounter == cfg.edgeCount() + allEdges.size())
-                    json.println("    }");
-                else
-                    json.println("    },");
+				json.println("      \"id\": " + (cfg.edgeCount() + e) + ",");
+				json.println("      \"source\": " + dataNodes[graph.getSource(e)] + ",");
+				json.println("      \"target\": " + dataNodes[graph.getTarget(e)] + ",");
+				json.println("      \"type\": \"" + edge.type + "\",");
+				json.println("      \"label\": \"" + edge.var + "\"");
+				if (e == graph.edgeCount() - 1)
+					json.println("    }");
+				else
+					json.println("    },");
 			}
 			json.println("  ]\n}");
-		} catch (UnsupportedEncodingException ex) {
-			Logger.error(ex);
 		}
-		Logger.info("DDS of PDG exported to: " + filepath);
+
+		@Override
+		public void exportBIN(CompactGraph<PDNode, DDEdge> graph, String outDir) throws IOException {
+			if (!outDir.endsWith(File.separator))
+				outDir += File.separator;
+			File outDirFile = new File(outDir);
+			outDirFile.mkdirs();
+			String filename = fileName.substring(0, fileName.indexOf('.'));
+			String filepath = outDir + filename + "-PDG-DATA.bin";
+			Map<String, String> props = new LinkedHashMap<>(graph.getProperties());
+			props.put("file", fileName);
+			// the control-flow edges come first (as in the JSON format), followed by the data edges
+			DDEdge.Type[] types = DDEdge.Type.values();
+			String[] edgeTypes = new String[types.length + 1];
+			edgeTypes[0] = "Control";
+			for (int i = 0; i < types.length; ++i)
+				edgeTypes[i + 1] = types[i].toString();
+			BinaryGraphWriter bin = new BinaryGraphWriter("PDG-DATA", props,
+					new String[] {"label", "defs", "uses"}, edgeTypes);
+			for (int v = 0; v < cfg.vertexCount(); ++v) {
+				CFNode node = cfg.getVertex(v);
+				PDNode pdNode = node.getPDNode();
+				if (pdNode != null)
+					bin.addNode(node.getLineOfCode(), node.getCode(),
+							StringUtils.toJsonArray(pdNode.getAllDEFs()), StringUtils.toJsonArray(pdNode.getAllUSEs()));
+				else
+					bin.addNode(node.getLineOfCode(), node.getCode(), null, null);
+			}
+			for (int e = 0; e < cfg.edgeCount(); ++e)
+				bin.addEdge(cfg.getSource(e), cfg.getTarget(e), 0, cfg.getLabel(e).type.toString());
+			int[] dataNodes = dataNodeIDs(graph);
+			for (int e = 0; e < graph.edgeCount(); ++e)
+				bin.addEdge(dataNodes[graph.getSource(e)], dataNodes[graph.getTarget(e)],
+						graph.getType(e) + 1, graph.getLabel(e).var);
+			bin.write(filepath);
+			Logger.info("DDS of PDG exported to: " + filepath);
+		}
 	}
 }
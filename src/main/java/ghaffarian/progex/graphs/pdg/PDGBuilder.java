@@ -1,7 +1,12 @@
 /*** In The Name of Allah ***/
 package ghaffarian.progex.graphs.pdg;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.function.BiPredicate;
+import ghaffarian.progex.AnalysisSession;
+import ghaffarian.progex.graphs.GraphOutput;
+import ghaffarian.progex.java.JavaDDGBuilder;
 import ghaffarian.progex.java.JavaPDGBuilder;
 
 /**
@@ -12,13 +17,59 @@ import ghaffarian.progex.java.JavaPDGBuilder;
  */
 public class PDGBuilder {
 	
+	/**
+	 * Set the number of threads used by the PDG builders of all languages,
+	 * for builds without a given analysis session.
+	 */
+	public static boolean setThreadCount(int count) {
+		return JavaDDGBuilder.setThreadCount(count);
+	}
+	
+	/**
+	 * Returns a short name of the PDG engine of the given language;
+	 * results of different engines should not be mixed (e.g. in a result cache).
+	 */
+	public static String getEngine(String lang) {
+		switch (lang) {
+			case "Java":
+				return JavaPDGBuilder.getCDGEngine();
+			//
+			default:
+				return "";
+		}
+	}
+	
+	/**
+	 * Returns a short name of the PDG engine of the given language,
+	 * with the options of the given analysis session.
+	 */
+	public static String getEngine(AnalysisSession session, String lang) {
+		switch (lang) {
+			case "Java":
+				return JavaPDGBuilder.getCDGEngine(session);
+			//
+			default:
+				return "";
+		}
+	}
+	
 	public static ProgramDependeceGraph[] buildForAll(String lang, String[] srcFilePaths) throws IOException {
+		return buildForAll(lang, srcFilePaths, null);
+	}
+	
+	/**
+	 * Build the PDGs of the given source files which are accepted by the given filter.
+	 * The filter is tested with the path of each file and a summary of the method 
+	 * DEF infos referenced by that file; the PDG of non-accepted files is null.
+	 */
+	public static ProgramDependeceGraph[] buildForAll(String lang, String[] srcFilePaths,
+			BiPredicate<String, String> filter) throws IOException {
 		switch (lang) {
 			case "C":
 				return null;
 			//
 			case "Java":
-				return JavaPDGBuilder.buildForAll(srcFilePaths);
+				return JavaPDGBuilder.buildForAll(srcFilePaths, filter);
 			//
 			case "Python":
 				return null;
@@ -28,4 +79,46 @@ public class PDGBuilder {
 		}
 	}
 	
+	/**
+	 * Build the PDGs of the given source files which are accepted by the given filter,
+	 * with the options of the given analysis session (see AnalysisSession).
+	 */
+	public static ProgramDependeceGraph[] buildForAll(AnalysisSession session, String lang, 
+			String[] srcFilePaths, BiPredicate<String, String> filter) throws IOException {
+		switch (lang) {
+			case "C":
+				return null;
+			//
+			case "Java":
+				return JavaPDGBuilder.buildForAll(session, srcFilePaths, filter);
+			//
+			case "Python":
+				return null;
+			//
+			default:
+				return null;
+		}
+	}
+	
+	/**
+	 * Build the PDGs of the given source files one file at a time, with the options of 
+	 * the given analysis session, and pass each PDG to the given output action; so only 
+	 * the PDG of one file is kept in memory. A file which is not accepted by the filter 
+	 * is passed as a null graph (see buildForAll). Returns false if the language is not supported.
+	 */
+	public static boolean buildForEach(AnalysisSession session, String lang, String[] srcFilePaths, 
+			BiPredicate<String, String> filter, GraphOutput<ProgramDependeceGraph> output) throws IOException {
+		switch (lang) {
+			case "Java":
+				File[] javaFiles = new File[srcFilePaths.length];
+				for (int i = 0; i < javaFiles.length; ++i)
+					javaFiles[i] = new File(srcFilePaths[i]);
+				JavaPDGBuilder.buildForEach(session, javaFiles, filter, output);
+				return true;
+			//
+			default:
+				return false;
+		}
+	}
+	
 }
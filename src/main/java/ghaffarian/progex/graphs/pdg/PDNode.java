@@ -3,90 +3,143 @@ package ghaffarian.progex.graphs.pdg;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * Class type of PDG nodes.
  * 
+ * The line and code of PDG nodes are kept in typed fields; and the map
+ * of properties, as well as the DEF/USE sets, are only created when needed.
+ * As with the map, a line which is not set is not a property of the node.
+ *
  * @author Seyed Mohammad Ghaffarian
  */
 public class PDNode {
 
+	private static final String[] NONE = new String[0];
+
+	private int line;
+	private boolean hasLine;
+	private String code;
 	private Map<String, Object> properties;
 	private Set<String> DEFs, USEs, selfFlows;
 	
 	public PDNode() {
-		DEFs = new HashSet<>();
-		USEs = new HashSet<>();
-		selfFlows = new HashSet<>();
-		properties = new HashMap<>();
+		line = 0;
+		hasLine = false;
+		DEFs = null;
+		USEs = null;
+		selfFlows = null;
+		properties = null;
 	}
 	
 	public void setLineOfCode(int line) {
-		properties.put("line", line);
+		this.line = line;
+		hasLine = true;
 	}
 	
+	/**
+	 * Returns the line of code of this node;
+	 * which fails if the line is not set (as for a missing property).
+	 */
 	public int getLineOfCode() {
-		return (Integer) properties.get("line");
+		if (!hasLine)
+			throw new IllegalStateException("Line of code is not set: " + code);
+		return line;
 	}
 	
 	public void setCode(String code) {
-		properties.put("code", code);
+		this.code = code;
 	}
 	
 	public String getCode() {
-		return (String) properties.get("code");
+		return code;
 	}
 	
 	public boolean addDEF(String var) {
+		if (DEFs == null)
+			DEFs = new HashSet<>();
 		return DEFs.add(var);
 	}
 	
 	public boolean hasDEF(String var) {
-		return DEFs.contains(var);
+		return DEFs != null && DEFs.contains(var);
 	}
 
 	public String[] getAllDEFs() {
-		return DEFs.toArray(new String[DEFs.size()]);
+		return DEFs == null ? NONE : DEFs.toArray(new String[DEFs.size()]);
 	}
 	
 	public boolean addUSE(String var) {
+		if (USEs == null)
+			USEs = new HashSet<>();
 		return USEs.add(var);
 	}
 	
 	public boolean hasUSE(String var) {
-		return USEs.contains(var);
+		return USEs != null && USEs.contains(var);
 	}
 	
 	public String[] getAllUSEs() {
-		return USEs.toArray(new String[USEs.size()]);
+		return USEs == null ? NONE : USEs.toArray(new String[USEs.size()]);
 	}
 	
 	public boolean addSelfFlow(String var) {
+		if (selfFlows == null)
+			selfFlows = new HashSet<>();
 		return selfFlows.add(var);
 	}
 	
 	public String[] getAllSelfFlows() {
-		return selfFlows.toArray(new String[selfFlows.size()]);
+		return selfFlows == null ? NONE : selfFlows.toArray(new String[selfFlows.size()]);
 	}
 	
 	public void setProperty(String key, Object value) {
-		properties.put(key.toLowerCase(), value);
+		switch (key) {
+			case "line":
+				hasLine = value != null;
+				line = hasLine ? (Integer) value : 0;
+				break;
+			case "code": code = (String) value;  break;
+			default:
+				String lowerKey = key.toLowerCase();
+				if (!lowerKey.equals(key)) {
+					setProperty(lowerKey, value);
+				} else {
+					if (properties == null)
+						properties = new HashMap<>();
+					properties.put(key, value);
+				}
+		}
 	}
 	
 	public Object getProperty(String key) {
-		return properties.get(key.toLowerCase());
+		switch (key) {
+			case "line": return hasLine ? (Object) line : null;
+			case "code": return code;
+			default:
+				String lowerKey = key.toLowerCase();
+				if (!lowerKey.equals(key))
+					return getProperty(lowerKey);
+				return properties == null ? null : properties.get(key);
+		}
 	}
 	
 	public Set<String> getAllProperties() {
-		return properties.keySet();
+		Set<String> keys = new LinkedHashSet<>();
+		if (hasLine)
+			keys.add("line");
+		if (code != null)
+			keys.add("code");
+		if (properties != null)
+			keys.addAll(properties.keySet());
+		return keys;
 	}
 	
 	@Override
 	public String toString() {
-		int line = (Integer) properties.get("line");
-		String code = (String) properties.get("code");
-		return (line + ": " + code);
+		return (getProperty("line") + ": " + code);
 	}
 }
@@ -0,0 +1,338 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.graphs.pdg;
+
+import ghaffarian.graphs.Edge;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import ghaffarian.progex.graphs.CompactGraph;
+import ghaffarian.progex.graphs.cfg.CFEdge;
+import ghaffarian.progex.graphs.cfg.CFNode;
+import ghaffarian.progex.graphs.cfg.ControlFlowGraph;
+
+/**
+ * Control dependence analysis over Control Flow Graphs (CFG), using post-dominator trees.
+ *
+ * For each method of the CFG, the post-dominator tree is computed using the iterative
+ * algorithm of Cooper, Harvey and Kennedy ("A Simple, Fast Dominance Algorithm") on the
+ * reverse CFG; then for each CFG edge A->B where B does not post-dominate A, all nodes on
+ * the post-dominator tree path from B up to (but excluding) the immediate post-dominator
+ * of A are control dependent on A (Ferrante, Ottenstein and Warren).
+ * A virtual START node with edges to the method entry and EXIT, makes the nodes which
+ * are always executed dependent on the method entry.
+ *
+ * The nodes of the resulting CDG are the PDNodes attached to CFG nodes (if any);
+ * so the CDG and the DDG share the same node instances. CFG nodes without a PDNode
+ * (such as 'endif' nodes) are not part of the CDG; and if such a node controls other
+ * nodes, those nodes are instead dependent on the controllers of that node.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public class PostDominators {
+
+	private final CompactGraph<CFNode, CFEdge> cfg;
+	private final int[] nodes;       // local-ID -> CFG vertex-ID
+	private final int exit, start;   // virtual nodes
+	private final int[][] successors;
+	private final CDEdge.Type[][] successorTypes;
+	private final int[][] predecessors;
+	private int[] ipdom;
+
+	/**
+	 * Construct a new post-dominator analysis for the method
+	 * of the given (frozen) CFG which starts at the given entry node.
+	 */
+	private PostDominators(CompactGraph<CFNode, CFEdge> cfg, int entry) {
+		this.cfg = cfg;
+		// assign dense IDs to all nodes reachable from the method entry
+		int[] ids = new int[cfg.vertexCount()];
+		Arrays.fill(ids, -1);
+		int[] order = new int[cfg.vertexCount()];
+		int count = 0;
+		ids[entry] = count;
+		order[count++] = entry;
+		for (int i = 0; i < count; ++i) {
+			for (int s = 0; s < cfg.getOutDegree(order[i]); ++s) {
+				int next = cfg.getTarget(cfg.getOutEdge(order[i], s));
+				if (ids[next] < 0) {
+					ids[next] = count;
+					order[count++] = next;
+				}
+			}
+		}
+		nodes = Arrays.copyOf(order, count);
+		exit = count;
+		start = count + 1;
+		successors = new int[count + 2][];
+		successorTypes = new CDEdge.Type[count + 2][];
+		for (int i = 0; i < count; ++i) {
+			int degree = cfg.getOutDegree(nodes[i]);
+			if (degree == 0) {
+				successors[i] = new int[] {exit};
+				successorTypes[i] = new CDEdge.Type[] {CDEdge.Type.EPSILON};
+			} else {
+				successors[i] = new int[degree];
+				successorTypes[i] = new CDEdge.Type[degree];
+				for (int s = 0; s < degree; ++s) {
+					int edge = cfg.getOutEdge(nodes[i], s);
+					successors[i][s] = ids[cfg.getTarget(edge)];
+					successorTypes[i][s] = typeOf(cfg.getLabel(edge));
+				}
+			}
+		}
+		successors[exit] = new int[0];
+		successorTypes[exit] = new CDEdge.Type[0];
+		successors[start] = new int[] {0, exit};
+		successorTypes[start] = new CDEdge.Type[] {CDEdge.Type.EPSILON, CDEdge.Type.EPSILON};
+		connectToExit();
+		predecessors = predecessorsOf(successors);
+	}
+
+	/**
+	 * Returns the CD edge type of the given CF edge.
+	 */
+	private static CDEdge.Type typeOf(CFEdge edge) {
+		switch (edge.type) {
+			case TRUE:   return CDEdge.Type.TRUE;
+			case FALSE:  return CDEdge.Type.FALSE;
+			case THROWS: return CDEdge.Type.THROWS;
+			default:     return CDEdge.Type.EPSILON;
+		}
+	}
+
+	/**
+	 * Nodes which cannot reach the EXIT (i.e. inside infinite loops) have no post-dominators;
+	 * so a virtual edge to EXIT is added from the first such node of each infinite loop.
+	 */
+	private void connectToExit() {
+		int[][] preds = predecessorsOf(successors);
+		boolean[] reaches = new boolean[successors.length];
+		int[] stack = new int[successors.length];
+		int top = 0;
+		reaches[exit] = true;
+		stack[top++] = exit;
+		for (int n = -1; n < exit; ++n) {
+			if (n >= 0) {
+				if (reaches[n])
+					continue;
+				successors[n] = Arrays.copyOf(successors[n], successors[n].length + 1);
+				successors[n][successors[n].length - 1] = exit;
+				successorTypes[n] = Arrays.copyOf(successorTypes[n], successorTypes[n].length + 1);
+				successorTypes[n][successorTypes[n].length - 1] = CDEdge.Type.EPSILON;
+				reaches[n] = true;
+				stack[top++] = n;
+			}
+			while (top > 0) {
+				int m = stack[--top];
+				for (int p: preds[m]) {
+					if (!reaches[p]) {
+						reaches[p] = true;
+						stack[top++] = p;
+					}
+				}
+			}
+		}
+	}
+
+	private static int[][] predecessorsOf(int[][] successors) {
+		int[] inDegrees = new int[successors.length];
+		for (int[] succs: successors)
+			for (int s: succs)
+				++inDegrees[s];
+		int[][] predecessors = new int[successors.length][];
+		for (int i = 0; i < successors.length; ++i)
+			predecessors[i] = new int[inDegrees[i]];
+		for (int i = successors.length - 1; i >= 0; --i)
+			for (int s: successors[i])
+				predecessors[s][--inDegrees[s]] = i;
+		return predecessors;
+	}
+
+	/**
+	 * Compute the immediate post-dominators of all nodes, as dominators of the reverse CFG
+	 * rooted at EXIT, using the Cooper-Harvey-Kennedy iterative algorithm.
+	 */
+	private void solve() {
+		// post-order numbering of the reverse CFG, using an explicit DFS stack
+		int size = successors.length;
+		int[] postOrder = new int[size];
+		int[] rpo = new int[size];
+		Arrays.fill(postOrder, -1);
+		boolean[] visited = new boolean[size];
+		int[] stack = new int[size];
+		int[] next = new int[size];
+		int top = 0, counter = 0;
+		stack[top++] = exit;
+		visited[exit] = true;
+		while (top > 0) {
+			int n = stack[top - 1];
+			if (next[n] < predecessors[n].length) {
+				int p = predecessors[n][next[n]++];
+				if (!visited[p]) {
+					visited[p] = true;
+					stack[top++] = p;
+				}
+			} else {
+				--top;
+				postOrder[n] = counter;
+				rpo[size - 1 - counter] = n;
+				++counter;
+			}
+		}
+		int first = size - counter;  // rpo[first] == exit
+		//
+		ipdom = new int[size];
+		Arrays.fill(ipdom, -1);
+		ipdom[exit] = exit;
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (int i = first + 1; i < size; ++i) {
+				int n = rpo[i];
+				int newIpdom = -1;
+				for (int s: successors[n]) {
+					if (ipdom[s] < 0)
+						continue;
+					newIpdom = newIpdom < 0 ? s : intersect(s, newIpdom, postOrder);
+				}
+				if (ipdom[n] != newIpdom) {
+					ipdom[n] = newIpdom;
+					changed = true;
+				}
+			}
+		}
+	}
+
+	private int intersect(int a, int b, int[] postOrder) {
+		while (a != b) {
+			while (postOrder[a] < postOrder[b])
+				a = ipdom[a];
+			while (postOrder[b] < postOrder[a])
+				b = ipdom[b];
+		}
+		return a;
+	}
+
+	/**
+	 * Find the control dependences of this method, and add them to the given CDG.
+	 */
+	private void addEdges(ControlDependenceGraph cdg) {
+		List<List<Dependence>> controllers = new ArrayList<>(successors.length);
+		for (int i = 0; i < successors.length; ++i)
+			controllers.add(null);
+		for (int a = 0; a < successors.length; ++a) {
+			for (int s = 0; s < successors[a].length; ++s) {
+				int b = successors[a][s];
+				for (int runner = b; runner != ipdom[a] && runner != exit; runner = ipdom[runner]) {
+					if (controllers.get(runner) == null)
+						controllers.set(runner, new ArrayList<Dependence>(2));
+					addDependence(controllers.get(runner), new Dependence(a, successorTypes[a][s]));
+				}
+			}
+		}
+		//
+		PDNode entry = pdNodeOf(0);
+		PDNode[] pdNodes = new PDNode[exit];
+		pdNodes[0] = entry;
+		cdg.addVertex(entry);
+		for (int n = 1; n < exit; ++n) {
+			pdNodes[n] = cfg.getVertex(nodes[n]).getPDNode();
+			if (pdNodes[n] != null)
+				cdg.addVertex(pdNodes[n]);
+		}
+		// edges are added in order of the controlling nodes, and then the dependent nodes
+		List<List<Dependence>> dependents = new ArrayList<>(exit);
+		for (int n = 0; n < exit; ++n)
+			dependents.add(new ArrayList<Dependence>());
+		for (int n = 0; n < exit; ++n) {
+			if (pdNodes[n] == null || controllers.get(n) == null)
+				continue;
+			List<Dependence> resolved = new ArrayList<>(2);
+			resolveControllers(n, controllers, pdNodes, new boolean[successors.length], resolved);
+			for (Dependence dep: resolved) {
+				if (dep.node == start && n == 0)
+					continue;
+				int controller = dep.node == start ? 0 : dep.node;
+				dependents.get(controller).add(new Dependence(n, dep.type));
+			}
+		}
+		for (int n = 0; n < exit; ++n)
+			for (Dependence dep: dependents.get(n))
+				cdg.addEdge(new Edge<>(pdNodes[n], new CDEdge(dep.type), pdNodes[dep.node]));
+		//
+		PDNode exitNode = new PDNode();
+		exitNode.setLineOfCode(0);
+		exitNode.setCode("exit");
+		cdg.addVertex(exitNode);
+		cdg.addEdge(new Edge<>(entry, new CDEdge(CDEdge.Type.EPSILON), exitNode));
+	}
+
+	/**
+	 * Add the given dependence to the given list, if not already added.
+	 */
+	private static void addDependence(List<Dependence> list, Dependence dep) {
+		for (Dependence other: list)
+			if (other.node == dep.node && other.type == dep.type)
+				return;
+		list.add(dep);
+	}
+
+	/**
+	 * Find the controllers of the given node which have a PDNode (or is START);
+	 * the controllers of a node without a PDNode are replaced by its own controllers.
+	 */
+	private void resolveControllers(int node, List<List<Dependence>> controllers, PDNode[] pdNodes,
+			boolean[] visited, List<Dependence> resolved) {
+		visited[node] = true;
+		for (Dependence dep: controllers.get(node)) {
+			if (dep.node == start || pdNodes[dep.node] != null)
+				addDependence(resolved, dep);
+			else if (!visited[dep.node] && controllers.get(dep.node) != null)
+				resolveControllers(dep.node, controllers, pdNodes, visited, resolved);
+		}
+	}
+
+	/**
+	 * Returns the PDNode of the given node; a new PDNode is created for a method entry
+	 * without a PDNode (such as static blocks, which have no DEF-USE info).
+	 */
+	private PDNode pdNodeOf(int n) {
+		CFNode node = cfg.getVertex(nodes[n]);
+		if (node.getPDNode() == null) {
+			PDNode pdNode = new PDNode();
+			pdNode.setLineOfCode(node.getLineOfCode());
+			pdNode.setCode(node.getCode());
+			node.setPDNode(pdNode);
+		}
+		return node.getPDNode();
+	}
+
+	/**
+	 * Builds the Control Dependence Graph of the given CFG, for each of its methods.
+	 */
+	public static ControlDependenceGraph buildCDG(ControlFlowGraph cfg) {
+		ControlDependenceGraph cdg = new ControlDependenceGraph(cfg.fileName);
+		CompactGraph<CFNode, CFEdge> frozen = cfg.freeze();
+		int[] entries = frozen.getIDs(cfg.getAllMethodEntries());
+		for (int entry: entries) {
+			PostDominators analysis = new PostDominators(frozen, entry);
+			analysis.solve();
+			analysis.addEdges(cdg);
+		}
+		return cdg;
+	}
+
+	/**
+	 * A control dependence on (or of) a node, with the type of the dependence.
+	 */
+	private static class Dependence {
+
+		final int node;
+		final CDEdge.Type type;
+
+		Dependence(int node, CDEdge.Type type) {
+			this.node = node;
+			this.type = type;
+		}
+	}
+}
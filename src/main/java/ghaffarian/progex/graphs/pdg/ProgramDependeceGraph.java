@@ -1,45 +1,188 @@
 /*** In The Name of Allah ***/
 package ghaffarian.progex.graphs.pdg;
 
+import ghaffarian.graphs.Digraph;
+import ghaffarian.graphs.Edge;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Program Dependence Graph (PDG).
  * A PDG consists of two main subgraphs:
  * Control Dependence Subgraph (CDS),
  * and Data Dependence Subgraph (DDS).
  * In this class, both the CDS and DDS are accessible.
- * 
- * NOTE: the vertex-sets of the two subgraphs are not equivalent and 
- *       are different sets with different node instances.
- *       This might change in future versions.
- * 
+ *
+ * The PDG also provides a unified view of the two subgraphs, where each
+ * statement is a single node with both its control and data dependences;
+ * this view is used for combined traversals, such as program slicing.
+ * Nodes of the unified view are identified by dense integer IDs.
+ *
+ * NOTE: the CDS and DDS built by the PDG builders share the nodes of the same
+ *       statements; so the unified view is only the union of the two subgraphs,
+ *       which is traversed in place (without any copy of the edges). Nodes which
+ *       are only in the CDS (e.g. region nodes) come after the DDS nodes.
+ *       The CDS and DDS remain separate graphs for the exporters.
+ *
  * @author Seyed Mohammad Ghaffarian
  */
-public class ProgramDependeceGraph {	
-	
+public class ProgramDependeceGraph {
+
 	/**
 	 * Name of the corresponding Java source file.
 	 */
 	public final String FILE_NAME;
-	
+
 	/**
 	 * Control Dependence Subgraph (CDS) of this PDG.
 	 */
 	public final ControlDependenceGraph CDS;
-	
+
 	/**
 	 * Data Dependence Subgraph (DDS) of this PDG.
 	 */
 	public final DataDependenceGraph DDS;
-	
+
+	// the node IDs of the unified view; which are assigned on first use
+	private PDNode[] nodes;
+	private Map<PDNode, Integer> nodeIDs;
+
 	/**
-	 * Constructs a new Program Dependence Graph (PDG) instance, 
-	 * based on the given Java file-name, Control Dependence Graph, 
+	 * Constructs a new Program Dependence Graph (PDG) instance,
+	 * based on the given Java file-name, Control Dependence Graph,
 	 * and Data Dependence Graph.
 	 */
-	public ProgramDependeceGraph(String name, 
+	public ProgramDependeceGraph(String name,
 			ControlDependenceGraph cds, DataDependenceGraph dds) {
 		FILE_NAME = name;
 		CDS = cds;
 		DDS = dds;
 	}
+
+	/**
+	 * Returns the number of nodes in the unified view of this PDG.
+	 */
+	public int nodeCount() {
+		unify();
+		return nodes.length;
+	}
+
+	/**
+	 * Returns the node with the given ID, in the unified view of this PDG.
+	 */
+	public PDNode getNode(int id) {
+		unify();
+		return nodes[id];
+	}
+
+	/**
+	 * Returns the ID of the given node in the unified view of this PDG;
+	 * or -1 if the node is not in this PDG.
+	 */
+	public int getID(PDNode node) {
+		unify();
+		Integer id = nodeIDs.get(node);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Returns the backward slice of the given criterion node; i.e. all nodes
+	 * which the criterion is (transitively) control or data-flow dependent on.
+	 * The criterion itself is included; and the nodes are in the order visited.
+	 */
+	public Set<PDNode> backwardSlice(PDNode criterion) {
+		return slice(criterion, true);
+	}
+
+	/**
+	 * Returns the forward slice of the given criterion node; i.e. all nodes
+	 * which are (transitively) control or data-flow dependent on the criterion.
+	 * The criterion itself is included; and the nodes are in the order visited.
+	 */
+	public Set<PDNode> forwardSlice(PDNode criterion) {
+		return slice(criterion, false);
+	}
+
+	/**
+	 * Traverse the control and data-flow dependences of the unified view,
+	 * starting from the given node; which visits each edge at most once.
+	 */
+	private Set<PDNode> slice(PDNode criterion, boolean backward) {
+		int start = getID(criterion);
+		if (start < 0)
+			throw new IllegalArgumentException("Node is not in the PDG: " + criterion);
+		boolean[] visited = new boolean[nodes.length];
+		int[] queue = new int[nodes.length];
+		int head = 0, tail = 0;
+		visited[start] = true;
+		queue[tail++] = start;
+		while (head < tail) {
+			PDNode node = nodes[queue[head++]];
+			if (CDS.containsVertex(node)) {
+				Iterator<Edge<PDNode, CDEdge>> edges = edgesOf(CDS, node, backward);
+				while (edges.hasNext()) {
+					Edge<PDNode, CDEdge> edge = edges.next();
+					tail = enqueue(backward ? edge.source : edge.target, visited, queue, tail);
+				}
+			}
+			if (DDS.containsVertex(node)) {
+				Iterator<Edge<PDNode, DDEdge>> edges = edgesOf(DDS, node, backward);
+				while (edges.hasNext()) {
+					Edge<PDNode, DDEdge> edge = edges.next();
+					if (edge.label.type == DDEdge.Type.FLOW)
+						tail = enqueue(backward ? edge.source : edge.target, visited, queue, tail);
+				}
+			}
+		}
+		Set<PDNode> slice = new LinkedHashSet<>();
+		for (int i = 0; i < tail; ++i)
+			slice.add(nodes[queue[i]]);
+		return slice;
+	}
+
+	private static <E> Iterator<Edge<PDNode, E>> edgesOf(Digraph<PDNode, E> graph, PDNode node, boolean incoming) {
+		return incoming ? graph.incomingEdgesIterator(node) : graph.outgoingEdgesIterator(node);
+	}
+
+	/**
+	 * Add the given node to the queue, if not visited; and return the new tail of the queue.
+	 */
+	private int enqueue(PDNode node, boolean[] visited, int[] queue, int tail) {
+		int id = nodeIDs.get(node);
+		if (!visited[id]) {
+			visited[id] = true;
+			queue[tail++] = id;
+		}
+		return tail;
+	}
+
+	/**
+	 * Assign the IDs of the unified view of this PDG, if not already assigned.
+	 * The nodes of the DDS come first, followed by the CDS-only nodes.
+	 */
+	private synchronized void unify() {
+		if (nodes != null)
+			return;
+		nodeIDs = new IdentityHashMap<>();
+		PDNode[] all = new PDNode[DDS.vertexCount() + CDS.vertexCount()];
+		int count = 0;
+		for (Iterator<PDNode> it = DDS.allVerticesIterator(); it.hasNext(); ) {
+			all[count] = it.next();
+			nodeIDs.put(all[count], count);
+			++count;
+		}
+		for (Iterator<PDNode> it = CDS.allVerticesIterator(); it.hasNext(); ) {
+			PDNode node = it.next();
+			if (!nodeIDs.containsKey(node)) {
+				all[count] = node;
+				nodeIDs.put(node, count);
+				++count;
+			}
+		}
+		nodes = Arrays.copyOf(all, count);
+	}
 }
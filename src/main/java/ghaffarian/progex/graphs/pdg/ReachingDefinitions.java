@@ -0,0 +1,216 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.graphs.pdg;
+
+import ghaffarian.graphs.Edge;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import ghaffarian.progex.graphs.CompactGraph;
+import ghaffarian.progex.graphs.cfg.CFEdge;
+import ghaffarian.progex.graphs.cfg.CFNode;
+import ghaffarian.progex.graphs.cfg.ControlFlowGraph;
+
+/**
+ * Reaching-Definitions analysis over Control Flow Graphs (CFG).
+ *
+ * This is a classic worklist-based data-flow solver which works on each method
+ * of the CFG separately, using dense integer node-IDs and bit-vector GEN/KILL sets;
+ * the CFG is frozen into a compact graph first, so no hashing is needed per node.
+ * The DEF-USE info of each CFG node is taken from its attached PDNode (if any),
+ * and a Flow-dependence edge is added to the DDG for each definition which
+ * reaches a node that uses the defined variable.
+ *
+ * The resulting set of edges is the same as those found by traversing the
+ * control-flow paths from each definition until a redefinition;
+ * but the running time is linear in the size of the CFG for each pass over
+ * the bit-vectors, instead of the number of paths per definition.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public class ReachingDefinitions {
+
+	private final CFNode[] nodes;
+	private final PDNode[] pdNodes;
+	private final int[][] successors;
+	private final int[][] predecessors;
+
+	private int[] defNodes;
+	private String[] defVars;
+	private BitSet[] gen, kill;
+	private BitSet[] in, out;
+
+	/**
+	 * Construct a new reaching-definitions analysis for the method
+	 * of the given (frozen) CFG which starts at the given entry node.
+	 */
+	private ReachingDefinitions(CompactGraph<CFNode, CFEdge> cfg, int entry) {
+		// assign dense IDs to all nodes reachable from the method entry
+		int[] ids = new int[cfg.vertexCount()];
+		Arrays.fill(ids, -1);
+		int[] order = new int[cfg.vertexCount()];
+		int count = 0;
+		ids[entry] = count;
+		order[count++] = entry;
+		for (int i = 0; i < count; ++i) {
+			for (int s = 0; s < cfg.getOutDegree(order[i]); ++s) {
+				int next = cfg.getTarget(cfg.getOutEdge(order[i], s));
+				if (ids[next] < 0) {
+					ids[next] = count;
+					order[count++] = next;
+				}
+			}
+		}
+		nodes = new CFNode[count];
+		pdNodes = new PDNode[count];
+		successors = new int[count][];
+		int[] inDegrees = new int[count];
+		for (int i = 0; i < count; ++i) {
+			nodes[i] = cfg.getVertex(order[i]);
+			pdNodes[i] = nodes[i].getPDNode();
+			successors[i] = cfg.getSuccessors(order[i]);
+			for (int s = 0; s < successors[i].length; ++s) {
+				successors[i][s] = ids[successors[i][s]];
+				++inDegrees[successors[i][s]];
+			}
+		}
+		predecessors = new int[count][];
+		for (int i = 0; i < count; ++i)
+			predecessors[i] = new int[inDegrees[i]];
+		for (int i = 0; i < count; ++i)
+			for (int s: successors[i])
+				predecessors[s][--inDegrees[s]] = i;
+	}
+
+	/**
+	 * Traverses each method of the CFG and uses the extracted DEF-USE info
+	 * to add Flow-dependence edges to the corresponding DDG.
+	 */
+	public static void addDataFlowEdges(ControlFlowGraph cfg, DataDependenceGraph ddg) {
+		CompactGraph<CFNode, CFEdge> frozen = cfg.freeze();
+		int[] entries = frozen.getIDs(cfg.getAllMethodEntries());
+		for (int entry: entries) {
+			ReachingDefinitions analysis = new ReachingDefinitions(frozen, entry);
+			analysis.initDefinitions();
+			analysis.solve();
+			analysis.addEdges(ddg);
+		}
+	}
+
+	/**
+	 * Enumerate all definitions, and build the GEN and KILL sets of each node.
+	 * Each definition is a pair of a defining node and a defined variable.
+	 */
+	private void initDefinitions() {
+		List<Integer> defNodesList = new ArrayList<>();
+		List<String> defVarsList = new ArrayList<>();
+		Map<String, BitSet> varDefs = new HashMap<>();
+		for (int i = 0; i < nodes.length; ++i) {
+			if (pdNodes[i] == null)
+				continue;
+			for (String var: pdNodes[i].getAllDEFs()) {
+				BitSet defs = varDefs.get(var);
+				if (defs == null) {
+					defs = new BitSet();
+					varDefs.put(var, defs);
+				}
+				defs.set(defVarsList.size());
+				defNodesList.add(i);
+				defVarsList.add(var);
+			}
+		}
+		defNodes = new int[defNodesList.size()];
+		for (int d = 0; d < defNodes.length; ++d)
+			defNodes[d] = defNodesList.get(d);
+		defVars = defVarsList.toArray(new String[defVarsList.size()]);
+		//
+		gen = new BitSet[nodes.length];
+		kill = new BitSet[nodes.length];
+		for (int i = 0; i < nodes.length; ++i) {
+			gen[i] = new BitSet();
+			kill[i] = new BitSet();
+		}
+		for (int d = 0; d < defNodes.length; ++d) {
+			gen[defNodes[d]].set(d);
+			kill[defNodes[d]].or(varDefs.get(defVars[d]));
+		}
+	}
+
+	/**
+	 * Solve the data-flow equations using a worklist of node-IDs:
+	 *   IN[n]  = Union of OUT[p] for all predecessors p of n
+	 *   OUT[n] = GEN[n] + (IN[n] - KILL[n])
+	 */
+	private void solve() {
+		in = new BitSet[nodes.length];
+		out = new BitSet[nodes.length];
+		for (int i = 0; i < nodes.length; ++i) {
+			in[i] = new BitSet();
+			out[i] = (BitSet) gen[i].clone();
+		}
+		ArrayDeque<Integer> worklist = new ArrayDeque<>(nodes.length);
+		boolean[] queued = new boolean[nodes.length];
+		for (int i = 0; i < nodes.length; ++i) {
+			worklist.add(i);
+			queued[i] = true;
+		}
+		BitSet newOut = new BitSet();
+		while (!worklist.isEmpty()) {
+			int n = worklist.remove();
+			queued[n] = false;
+			for (int p: predecessors[n])
+				in[n].or(out[p]);
+			newOut.clear();
+			newOut.or(in[n]);
+			newOut.andNot(kill[n]);
+			newOut.or(gen[n]);
+			if (!newOut.equals(out[n])) {
+				out[n].clear();
+				out[n].or(newOut);
+				for (int s: successors[n]) {
+					if (!queued[s]) {
+						worklist.add(s);
+						queued[s] = true;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Add a Flow-dependence edge for each definition reaching a use of its variable.
+	 * Edges are added in order of the defining nodes, and each node's self-flows come first.
+	 */
+	private void addEdges(DataDependenceGraph ddg) {
+		int[][] reaches = new int[defNodes.length][];
+		int[] reachCounts = new int[defNodes.length];
+		for (int u = 0; u < nodes.length; ++u) {
+			if (pdNodes[u] == null)
+				continue;
+			for (int d = in[u].nextSetBit(0); d >= 0; d = in[u].nextSetBit(d + 1)) {
+				if (defNodes[d] != u && pdNodes[u].hasUSE(defVars[d])) {
+					if (reaches[d] == null)
+						reaches[d] = new int[4];
+					else if (reachCounts[d] == reaches[d].length)
+						reaches[d] = Arrays.copyOf(reaches[d], 2 * reachCounts[d]);
+					reaches[d][reachCounts[d]++] = u;
+				}
+			}
+		}
+		//
+		int d = 0;
+		for (int n = 0; n < nodes.length; ++n) {
+			if (d == defNodes.length || defNodes[d] != n)
+				continue;
+			PDNode defNode = pdNodes[n];
+			for (String flow: defNode.getAllSelfFlows())
+				ddg.addEdge(new Edge<>(defNode, new DDEdge(DDEdge.Type.FLOW, flow), defNode));
+			for (; d < defNodes.length && defNodes[d] == n; ++d)
+				for (int r = 0; r < reachCounts[d]; ++r)
+					ddg.addEdge(new Edge<>(defNode, new DDEdge(DDEdge.Type.FLOW, defVars[d]), pdNodes[reaches[d][r]]));
+		}
+	}
+}
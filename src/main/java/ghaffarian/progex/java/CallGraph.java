@@ -0,0 +1,121 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Method-level call-graph of the DEF-USE analysis.
+ * 
+ * There is an edge from each method unit to every unit which declares
+ * a method DEF info that is called by the former unit.
+ * 
+ * @author Seyed Mohammad Ghaffarian
+ */
+class CallGraph {
+	
+	/**
+	 * Returns the given method units in bottom-up order of the call-graph;
+	 * i.e. the strongly connected components (SCC) of the call-graph are in
+	 * reverse topological order, so the callees of each SCC come before it.
+	 * The units of each SCC are contiguous, and in their original relative order.
+	 */
+	public static MethodUnit[] bottomUpOrder(List<MethodUnit> units) {
+		Map<MethodDefInfo, List<Integer>> declarers = new IdentityHashMap<>();
+		for (int u = 0; u < units.size(); ++u) {
+			MethodDefInfo own = units.get(u).ownDef;
+			if (own != null) {
+				List<Integer> list = declarers.get(own);
+				if (list == null) {
+					list = new ArrayList<>(1);
+					declarers.put(own, list);
+				}
+				list.add(u);
+			}
+		}
+		int[][] callees = new int[units.size()][];
+		for (int u = 0; u < callees.length; ++u) {
+			List<Integer> targets = new ArrayList<>();
+			for (MethodDefInfo called: units.get(u).calledDefs) {
+				List<Integer> list = declarers.get(called);
+				if (list != null)
+					targets.addAll(list);
+			}
+			callees[u] = new int[targets.size()];
+			for (int t = 0; t < callees[u].length; ++t)
+				callees[u][t] = targets.get(t);
+		}
+		//
+		int[] sccs = stronglyConnectedComponents(callees);
+		Integer[] order = new Integer[units.size()];
+		for (int u = 0; u < order.length; ++u)
+			order[u] = u;
+		Arrays.sort(order, (u1, u2) -> sccs[u1] != sccs[u2] ? Integer.compare(sccs[u1], sccs[u2]) : Integer.compare(u1, u2));
+		MethodUnit[] result = new MethodUnit[order.length];
+		for (int i = 0; i < order.length; ++i)
+			result[i] = units.get(order[i]);
+		return result;
+	}
+	
+	/**
+	 * Tarjan's algorithm for finding the strongly connected components of a graph,
+	 * given as the array of successors of each vertex. The number of each vertex's SCC
+	 * is returned; SCCs are numbered in reverse topological order (successors first).
+	 * This is an iterative implementation, so deep call-chains cannot overflow the stack.
+	 */
+	static int[] stronglyConnectedComponents(int[][] successors) {
+		int n = successors.length;
+		int[] index = new int[n];
+		int[] lowLink = new int[n];
+		int[] scc = new int[n];
+		boolean[] onStack = new boolean[n];
+		Arrays.fill(index, -1);
+		int[] stack = new int[n];
+		int stackSize = 0;
+		int[] callStack = new int[n];
+		int[] nextEdge = new int[n];
+		int counter = 0, sccCount = 0;
+		for (int root = 0; root < n; ++root) {
+			if (index[root] >= 0)
+				continue;
+			int depth = 0;
+			callStack[depth++] = root;
+			index[root] = lowLink[root] = counter++;
+			stack[stackSize++] = root;
+			onStack[root] = true;
+			while (depth > 0) {
+				int v = callStack[depth - 1];
+				if (nextEdge[v] < successors[v].length) {
+					int w = successors[v][nextEdge[v]++];
+					if (index[w] < 0) {
+						index[w] = lowLink[w] = counter++;
+						stack[stackSize++] = w;
+						onStack[w] = true;
+						callStack[depth++] = w;
+					} else if (onStack[w]) {
+						lowLink[v] = Math.min(lowLink[v], index[w]);
+					}
+				} else {
+					--depth;
+					if (lowLink[v] == index[v]) {
+						int w;
+						do {
+							w = stack[--stackSize];
+							onStack[w] = false;
+							scc[w] = sccCount;
+						} while (w != v);
+						++sccCount;
+					}
+					if (depth > 0) {
+						int parent = callStack[depth - 1];
+						lowLink[parent] = Math.min(lowLink[parent], lowLink[v]);
+					}
+				}
+			}
+		}
+		return scc;
+	}
+}
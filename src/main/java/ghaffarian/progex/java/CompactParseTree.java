@@ -0,0 +1,362 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.java;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import ghaffarian.progex.java.parser.JavaParser;
+
+/**
+ * A compact storage form of a Java parse-tree, for the entries
+ * of the parse-tree cache (see ParseTreeCache); which is several
+ * times smaller than the ANTLR parse-tree and its tokens,
+ * and from which an equal parse-tree can be rebuilt, much faster than
+ * parsing the source code again. The graph builders do not use this form;
+ * they always visit the rebuilt ANTLR parse-tree.
+ *
+ * The nodes are stored in pre-order, in a few parallel arrays: the kind of each node
+ * (a byte, for its context class; or zero, for a terminal), the size of its subtree
+ * (so the children of a node are found by skipping over the subtrees of its previous
+ * siblings), and the index of its token (for a terminal) or of its rule (otherwise).
+ * Rules have the indices of their start and stop tokens, and tokens have their
+ * type and character offsets into the source code; which is kept as the CharStream
+ * of the lexer, so the text of tokens is not copied.
+ *
+ * Parse-trees with syntax errors are not lowered (see 'lower').
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+final class CompactParseTree {
+
+	// Context classes of the Java parser, indexed by their node kind (minus one)
+	private static final Class<?>[] CONTEXTS;
+	private static final Map<Class<?>, Integer> KINDS;
+	// Constructors of the context classes; and the base-class constructors of labeled alternatives
+	private static final Constructor<?>[] CONSTRUCTORS;
+	private static final Constructor<?>[] BASE_CONSTRUCTORS;
+
+	static {
+		List<Class<?>> contexts = new ArrayList<>();
+		for (Class<?> cls: JavaParser.class.getDeclaredClasses())
+			if (ParserRuleContext.class.isAssignableFrom(cls) && !Modifier.isAbstract(cls.getModifiers()))
+				contexts.add(cls);
+		contexts.sort(Comparator.comparing(Class::getName));
+		if (contexts.size() > 255)
+			throw new IllegalStateException("Too many context classes: " + contexts.size());
+		CONTEXTS = contexts.toArray(new Class<?>[contexts.size()]);
+		KINDS = new HashMap<>();
+		CONSTRUCTORS = new Constructor<?>[CONTEXTS.length];
+		BASE_CONSTRUCTORS = new Constructor<?>[CONTEXTS.length];
+		try {
+			for (int k = 0; k < CONTEXTS.length; ++k) {
+				KINDS.put(CONTEXTS[k], k + 1);
+				Class<?> base = CONTEXTS[k].getSuperclass();
+				if (base == ParserRuleContext.class) {
+					CONSTRUCTORS[k] = CONTEXTS[k].getConstructor(ParserRuleContext.class, int.class);
+				} else {
+					// a labeled alternative, which is constructed from a context of its rule
+					CONSTRUCTORS[k] = CONTEXTS[k].getConstructor(base);
+					BASE_CONSTRUCTORS[k] = base.getConstructor(ParserRuleContext.class, int.class);
+				}
+			}
+		} catch (NoSuchMethodException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	// node arrays, in pre-order
+	private final byte[] kinds;
+	private final int[] sizes;
+	private final int[] refs;
+	// rule arrays
+	private final int[] ruleStarts;
+	private final int[] ruleStops;
+	private final int[] ruleStates;
+	// token arrays
+	private final byte[] tokenTypes;
+	private final int[] tokenStarts;
+	private final int[] tokenStops;
+	private final int[] tokenLines;
+	private final int[] tokenColumns;
+	private final int[] tokenIndices;
+	private final String eofText;
+	private final CharStream input;
+
+	private CompactParseTree(Lowering lowering) {
+		kinds = Arrays.copyOf(lowering.kinds, lowering.nodes);
+		sizes = Arrays.copyOf(lowering.sizes, lowering.nodes);
+		refs = Arrays.copyOf(lowering.refs, lowering.nodes);
+		ruleStarts = Arrays.copyOf(lowering.ruleStarts, lowering.rules);
+		ruleStops = Arrays.copyOf(lowering.ruleStops, lowering.rules);
+		ruleStates = Arrays.copyOf(lowering.ruleStates, lowering.rules);
+		tokenTypes = Arrays.copyOf(lowering.tokenTypes, lowering.tokens);
+		tokenStarts = Arrays.copyOf(lowering.tokenStarts, lowering.tokens);
+		tokenStops = Arrays.copyOf(lowering.tokenStops, lowering.tokens);
+		tokenLines = Arrays.copyOf(lowering.tokenLines, lowering.tokens);
+		tokenColumns = Arrays.copyOf(lowering.tokenColumns, lowering.tokens);
+		tokenIndices = Arrays.copyOf(lowering.tokenIndices, lowering.tokens);
+		eofText = lowering.eofText;
+		input = lowering.input;
+	}
+
+	/**
+	 * Returns the compact form of the given parse-tree of the Java parser;
+	 * or null, if it cannot be lowered (i.e. it has error nodes or recognition
+	 * exceptions, or tokens not from the same character stream).
+	 */
+	static CompactParseTree lower(ParseTree tree) {
+		if (!(tree instanceof ParserRuleContext))
+			return null;
+		Lowering lowering = new Lowering();
+		if (!lowering.lower((ParserRuleContext) tree) || !lowering.resolvePending() || lowering.input == null)
+			return null;
+		return new CompactParseTree(lowering);
+	}
+
+	/**
+	 * Returns an estimate of the memory size of this tree (in bytes);
+	 * including its source code, as a character stream of one byte per character
+	 * for ASCII sources (see JavaSource), and two bytes per character otherwise.
+	 */
+	long memorySize() {
+		long size = kinds.length * 9L + ruleStarts.length * 12L + tokenTypes.length * 21L;
+		int bytesPerChar = input instanceof JavaSource.AsciiCharStream ? 1 : 2;
+		return size + (long) bytesPerChar * input.size() + 12 * 16;
+	}
+
+	/**
+	 * Rebuild the ANTLR parse-tree of this compact tree.
+	 * The result is equal to the lowered parse-tree; i.e. with the same context classes,
+	 * the same token types, texts, and positions, and the same source intervals.
+	 * Yet it is a new tree, with new contexts and tokens; and the token source of its
+	 * tokens is a list of the tokens of the tree (i.e. without hidden-channel tokens).
+	 */
+	ParseTree toParseTree() {
+		// the token source of the rebuilt tokens only has the tokens of the tree
+		List<Token> tokenList = new ArrayList<>(tokenTypes.length);
+		Pair<TokenSource, CharStream> source = new Pair<>(new ListTokenSource(tokenList), input);
+		Token[] tokens = new Token[tokenTypes.length];
+		for (int t = 0; t < tokens.length; ++t) {
+			CommonToken token = new CommonToken(source, tokenTypes[t], Token.DEFAULT_CHANNEL, tokenStarts[t], tokenStops[t]);
+			token.setLine(tokenLines[t]);
+			token.setCharPositionInLine(tokenColumns[t]);
+			token.setTokenIndex(tokenIndices[t]);
+			if (tokenTypes[t] == Token.EOF)
+				token.setText(eofText);
+			tokens[t] = token;
+			tokenList.add(token);
+		}
+		//
+		ParserRuleContext root = null;
+		// the open contexts, and the end positions of their subtrees
+		ParserRuleContext[] parents = new ParserRuleContext[16];
+		int[] ends = new int[16];
+		int depth = 0;
+		for (int n = 0; n < kinds.length; ++n) {
+			while (depth > 0 && ends[depth - 1] <= n)
+				--depth;
+			ParserRuleContext parent = depth > 0 ? parents[depth - 1] : null;
+			if (kinds[n] == 0) {
+				TerminalNodeImpl terminal = new TerminalNodeImpl(tokens[refs[n]]);
+				terminal.parent = parent;
+				parent.children.add(terminal);
+				continue;
+			}
+			int rule = refs[n];
+			ParserRuleContext ctx = newContext(kinds[n] & 0xFF, parent, ruleStates[rule]);
+			ctx.start = ruleStarts[rule] < 0 ? null : tokens[ruleStarts[rule]];
+			ctx.stop = ruleStops[rule] < 0 ? null : tokens[ruleStops[rule]];
+			if (sizes[n] > 1)
+				ctx.children = new ArrayList<>(countChildren(n));
+			if (parent == null)
+				root = ctx;
+			else
+				parent.children.add(ctx);
+			if (depth == parents.length) {
+				parents = Arrays.copyOf(parents, depth * 2);
+				ends = Arrays.copyOf(ends, depth * 2);
+			}
+			parents[depth] = ctx;
+			ends[depth] = n + sizes[n];
+			++depth;
+		}
+		return root;
+	}
+
+	/**
+	 * Returns the number of children of the node at the given position.
+	 */
+	private int countChildren(int n) {
+		int count = 0;
+		int end = n + sizes[n];
+		for (int c = n + 1; c < end; c += sizes[c])
+			++count;
+		return count;
+	}
+
+	private static ParserRuleContext newContext(int kind, ParserRuleContext parent, int invokingState) {
+		try {
+			int k = kind - 1;
+			if (BASE_CONSTRUCTORS[k] == null)
+				return (ParserRuleContext) CONSTRUCTORS[k].newInstance(parent, invokingState);
+			Object base = BASE_CONSTRUCTORS[k].newInstance(parent, invokingState);
+			return (ParserRuleContext) CONSTRUCTORS[k].newInstance(base);
+		} catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * The state of lowering a parse-tree; i.e. the arrays of a compact tree,
+	 * which grow in a single pre-order traversal of the parse-tree.
+	 */
+	private static final class Lowering {
+
+		byte[] kinds = new byte[1024];
+		int[] sizes = new int[1024];
+		int[] refs = new int[1024];
+		int[] ruleStarts = new int[512];
+		int[] ruleStops = new int[512];
+		int[] ruleStates = new int[512];
+		byte[] tokenTypes = new byte[512];
+		int[] tokenStarts = new int[512];
+		int[] tokenStops = new int[512];
+		int[] tokenLines = new int[512];
+		int[] tokenColumns = new int[512];
+		int[] tokenIndices = new int[512];
+		Token[] tokenSymbols = new Token[512];
+		int nodes, rules, tokens;
+		List<Integer> pendingRules = new ArrayList<>();
+		List<Token> pendingStarts = new ArrayList<>();
+		String eofText;
+		CharStream input;
+
+		/**
+		 * Add the subtree of the given context; returns false if it cannot be lowered.
+		 */
+		boolean lower(ParserRuleContext ctx) {
+			Integer kind = KINDS.get(ctx.getClass());
+			if (kind == null || ctx.exception != null)
+				return false;
+			int node = addNode(kind);
+			int rule = rules;
+			if (rule == ruleStarts.length) {
+				ruleStarts = Arrays.copyOf(ruleStarts, rule * 2);
+				ruleStops = Arrays.copyOf(ruleStops, rule * 2);
+				ruleStates = Arrays.copyOf(ruleStates, rule * 2);
+			}
+			++rules;
+			refs[node] = rule;
+			ruleStates[rule] = ctx.invokingState;
+			// the start token is the next terminal, unless the rule is empty
+			int firstToken = tokens;
+			for (int i = 0; i < ctx.getChildCount(); ++i) {
+				ParseTree child = ctx.getChild(i);
+				if (child instanceof ParserRuleContext) {
+					if (!lower((ParserRuleContext) child))
+						return false;
+				} else if (child instanceof ErrorNode || !(child instanceof TerminalNode)) {
+					return false;
+				} else {
+					int terminal = addNode(0);
+					refs[terminal] = tokens;
+					if (!addToken(((TerminalNode) child).getSymbol()))
+						return false;
+				}
+			}
+			sizes[node] = nodes - node;
+			// the stop token is the last terminal, unless the rule is empty
+			ruleStarts[rule] = ctx.start == null ? -1 : findToken(ctx.start, firstToken);
+			ruleStops[rule] = ctx.stop == null ? -1 : findToken(ctx.stop, tokens - 1);
+			if (ruleStarts[rule] == -2) {
+				// the start of an empty rule is a terminal after it, which is not added yet
+				pendingRules.add(rule);
+				pendingStarts.add(ctx.start);
+			}
+			return ruleStops[rule] != -2;
+		}
+
+		/**
+		 * Resolve the start tokens of empty rules; returns false if one is not a terminal.
+		 */
+		boolean resolvePending() {
+			for (int i = 0; i < pendingRules.size(); ++i) {
+				int rule = pendingRules.get(i);
+				ruleStarts[rule] = findToken(pendingStarts.get(i), -1);
+				if (ruleStarts[rule] == -2)
+					return false;
+			}
+			return true;
+		}
+
+		private int addNode(int kind) {
+			if (nodes == kinds.length) {
+				kinds = Arrays.copyOf(kinds, nodes * 2);
+				sizes = Arrays.copyOf(sizes, nodes * 2);
+				refs = Arrays.copyOf(refs, nodes * 2);
+			}
+			kinds[nodes] = (byte) kind;
+			sizes[nodes] = 1;
+			return nodes++;
+		}
+
+		private boolean addToken(Token token) {
+			if (token.getChannel() != Token.DEFAULT_CHANNEL || token.getType() > Byte.MAX_VALUE)
+				return false;
+			if (input == null)
+				input = token.getInputStream();
+			// the same character stream, and in the order of the token stream (so tokens can be found by index)
+			if (token.getInputStream() != input || tokens > 0 && token.getTokenIndex() <= tokenIndices[tokens - 1])
+				return false;
+			if (tokens == tokenTypes.length) {
+				int length = tokens * 2;
+				tokenTypes = Arrays.copyOf(tokenTypes, length);
+				tokenStarts = Arrays.copyOf(tokenStarts, length);
+				tokenStops = Arrays.copyOf(tokenStops, length);
+				tokenLines = Arrays.copyOf(tokenLines, length);
+				tokenColumns = Arrays.copyOf(tokenColumns, length);
+				tokenIndices = Arrays.copyOf(tokenIndices, length);
+				tokenSymbols = Arrays.copyOf(tokenSymbols, length);
+			}
+			if (token.getType() == Token.EOF)
+				eofText = token.getText();
+			tokenTypes[tokens] = (byte) token.getType();
+			tokenStarts[tokens] = token.getStartIndex();
+			tokenStops[tokens] = token.getStopIndex();
+			tokenLines[tokens] = token.getLine();
+			tokenColumns[tokens] = token.getCharPositionInLine();
+			tokenIndices[tokens] = token.getTokenIndex();
+			tokenSymbols[tokens] = token;
+			++tokens;
+			return true;
+		}
+
+		/**
+		 * Returns the number of the given token among the terminals so far, trying
+		 * the expected number first; or -2 if it is not (yet) a terminal.
+		 */
+		private int findToken(Token token, int expected) {
+			if (expected >= 0 && expected < tokens && tokenSymbols[expected] == token)
+				return expected;
+			int t = Arrays.binarySearch(tokenIndices, 0, tokens, token.getTokenIndex());
+			return t >= 0 && tokenSymbols[t] == token ? t : -2;
+		}
+	}
+}
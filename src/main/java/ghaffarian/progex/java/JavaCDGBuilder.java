@@ -3,23 +3,20 @@ package ghaffarian.progex.java;
 
 import ghaffarian.graphs.*;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.CommonTokenStream;
+import java.util.Map;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.misc.Interval;
 import org.antlr.v4.runtime.tree.ParseTree;
+import ghaffarian.progex.AnalysisSession;
 import ghaffarian.progex.graphs.pdg.CDEdge;
 import ghaffarian.progex.graphs.pdg.ControlDependenceGraph;
 import ghaffarian.progex.graphs.pdg.PDNode;
 import ghaffarian.progex.java.parser.JavaBaseVisitor;
-import ghaffarian.progex.java.parser.JavaLexer;
 import ghaffarian.progex.java.parser.JavaParser;
 import ghaffarian.nanologger.Logger;
 
@@ -33,17 +30,30 @@ import ghaffarian.nanologger.Logger;
 public class JavaCDGBuilder {
 	
 	public static ControlDependenceGraph build(File javaFile) throws IOException {
+		try (AnalysisSession session = AnalysisSession.newDefault()) {
+			return build(session, javaFile);
+		}
+	}
+	
+	public static ControlDependenceGraph build(AnalysisSession session, File javaFile) throws IOException {
 		if (!javaFile.getName().endsWith(".java"))
 			throw new IOException("Not a Java File!");
-		InputStream inFile = new FileInputStream(javaFile);
-		ANTLRInputStream input = new ANTLRInputStream(inFile);
-		JavaLexer lexer = new JavaLexer(input);
-		CommonTokenStream tokens = new CommonTokenStream(lexer);
-		JavaParser parser = new JavaParser(tokens);
-		ParseTree tree = parser.compilationUnit();
+		ParseTree tree = session.getParseTreeCache().parse(javaFile);
 		Logger.debug("CTRL DEP ANALYSIS: " + javaFile.getPath());
-		ControlDependenceGraph cdg = new ControlDependenceGraph(javaFile.getName());
-		ControlDependencyVisitor visitor = new ControlDependencyVisitor(cdg);
+		return build(javaFile.getName(), tree, null);
+	}
+	
+	/**
+	 * Build and return the Control Dependence Graph (CDG) for the given Parse-Tree.
+	 * The 'ctxNodes' map includes the nodes of another graph built on the same
+	 * parse-tree (i.e. the DDG); the CDG uses the node of a context from this map,
+	 * instead of a new node. So the CDG and the DDG share the nodes of the same
+	 * statements (see ProgramDependeceGraph).
+	 */
+	public static ControlDependenceGraph build(String javaFileName, ParseTree tree, 
+			Map<ParserRuleContext, Object> ctxNodes) {
+		ControlDependenceGraph cdg = new ControlDependenceGraph(javaFileName);
+		ControlDependencyVisitor visitor = new ControlDependencyVisitor(cdg, ctxNodes);
 		visitor.visit(tree);
 		return cdg;
 	}
@@ -52,6 +62,7 @@ public class JavaCDGBuilder {
 	private static class ControlDependencyVisitor extends JavaBaseVisitor<Void> {
 		
 		private ControlDependenceGraph cdg;
+		private Map<ParserRuleContext, Object> ctxNodes;
 		private Deque<PDNode> ctrlDeps;
 		private Deque<PDNode> negDeps;
 		private Deque<Integer> jmpCounts;
@@ -62,8 +73,9 @@ public class JavaCDGBuilder {
 		private int regionCounter;
 		private int jmpCounter;
 
-		public ControlDependencyVisitor(ControlDependenceGraph cdg) {
+		public ControlDependencyVisitor(ControlDependenceGraph cdg, Map<ParserRuleContext, Object> ctxNodes) {
 			this.cdg = cdg;
+			this.ctxNodes = ctxNodes;
 			ctrlDeps = new ArrayDeque<>();
 			negDeps = new ArrayDeque<>();
 			jumpDeps = new ArrayDeque<>();
@@ -120,9 +132,8 @@ public class JavaCDGBuilder {
 			// Identifier formalParameters ('throws' qualifiedNameList)?  constructorBody
 			init();
 			//
-			PDNode entry = new PDNode();
-			entry.setLineOfCode(ctx.getStart().getLine());
-			entry.setCode(ctx.Identifier().getText() + ' ' + getOriginalCodeText(ctx.formalParameters()));
+			PDNode entry = newNode(ctx, ctx.getStart().getLine(), 
+					ctx.Identifier().getText() + ' ' + getOriginalCodeText(ctx.formalParameters()));
 			cdg.addVertex(entry);
 			//
 			pushCtrlDep(entry);
@@ -143,15 +154,13 @@ public class JavaCDGBuilder {
 			//     ('throws' qualifiedNameList)?  ( methodBody | ';' )
 			init();
 			//
-			PDNode entry = new PDNode();
-			entry.setLineOfCode(ctx.getStart().getLine());
 			String retType;
 			if (ctx.typeType() == null)
 				retType = "void";
 			else
-				retType = getOriginalCodeText(ctx.typeType());
+				retType = ctx.typeType().getText();
 			String args = getOriginalCodeText(ctx.formalParameters());
-			entry.setCode(retType + " " + ctx.Identifier() + args);
+			PDNode entry = newNode(ctx, ctx.getStart().getLine(), retType + " " + ctx.Identifier() + args);
 			cdg.addVertex(entry);
 			//
 			pushCtrlDep(entry);
@@ -169,9 +178,7 @@ public class JavaCDGBuilder {
 		@Override
 		public Void visitStatementExpression(JavaParser.StatementExpressionContext ctx) {
 			// statementExpression ';'
-			PDNode expr = new PDNode();
-			expr.setLineOfCode(ctx.getStart().getLine());
-			expr.setCode(getOriginalCodeText(ctx));
+			PDNode expr = newNode(ctx, ctx.getStart().getLine(), getOriginalCodeText(ctx));
 			Logger.debug(expr.getLineOfCode() + ": " + expr.getCode());
 			addNodeEdge(expr);
 			return null;
@@ -180,9 +187,7 @@ public class JavaCDGBuilder {
 		@Override
 		public Void visitLocalVariableDeclaration(JavaParser.LocalVariableDeclarationContext ctx) {
 			// localVariableDeclaration :  variableModifier* typeType variableDeclarators
-			PDNode varDec = new PDNode();
-			varDec.setLineOfCode(ctx.getStart().getLine());
-			varDec.setCode(getOriginalCodeText(ctx));
+			PDNode varDec = newNode(ctx, ctx.getStart().getLine(), getOriginalCodeText(ctx));
 			addNodeEdge(varDec);
 			return null;
 		}
@@ -190,9 +195,7 @@ public class JavaCDGBuilder {
 		@Override
 		public Void visitIfStatement(JavaParser.IfStatementContext ctx) {
 			// 'if' parExpression statement ('else' statement)?
-			PDNode ifNode = new PDNode();
-			ifNode.setLineOfCode(ctx.getStart().getLine());
-			ifNode.setCode("if " + getOriginalCodeText(ctx.parExpression()));
+			PDNode ifNode = newNode(ctx, ctx.getStart().getLine(), "if " + getOriginalCodeText(ctx.parExpression()));
 			addNodeEdge(ifNode);
 			//
 			PDNode thenRegion = new PDNode();
@@ -238,9 +241,8 @@ public class JavaCDGBuilder {
 				// This is a for-each loop;
 				//   enhancedForControl: 
 				//     variableModifier* typeType variableDeclaratorId ':' expression
-				PDNode forExpr = new PDNode();
-				forExpr.setLineOfCode(ctx.forControl().getStart().getLine());
-				forExpr.setCode("for (" + getOriginalCodeText(ctx.forControl()) + ")");
+				PDNode forExpr = newNode(ctx.forControl().enhancedForControl(), ctx.forControl().getStart().getLine(), 
+						"for (" + getOriginalCodeText(ctx.forControl()) + ")");
 				addNodeEdge(forExpr);
 				//
 				PDNode loopRegion = new PDNode();
@@ -258,9 +260,8 @@ public class JavaCDGBuilder {
 				PDNode forInit;
 				PDNode forExpr, forUpdate;
 				if (ctx.forControl().forInit() != null) { // non-empty init
-					forInit = new PDNode();
-					forInit.setLineOfCode(ctx.forControl().forInit().getStart().getLine());
-					forInit.setCode(getOriginalCodeText(ctx.forControl().forInit()));
+					forInit = newNode(ctx.forControl().forInit(), ctx.forControl().forInit().getStart().getLine(), 
+							getOriginalCodeText(ctx.forControl().forInit()));
 					addNodeEdge(forInit);
 				}
 				int forExprLine;
@@ -272,9 +273,7 @@ public class JavaCDGBuilder {
 					forExprCode = getOriginalCodeText(ctx.forControl().expression());
 					forExprLine = ctx.forControl().expression().getStart().getLine();
 				}
-				forExpr = new PDNode();
-				forExpr.setLineOfCode(forExprLine);
-				forExpr.setCode("for (" + forExprCode + ")");
+				forExpr = newNode(ctx.forControl().expression(), forExprLine, "for (" + forExprCode + ")");
 				addNodeEdge(forExpr);
 				//
 				PDNode loopRegion = new PDNode();
@@ -286,9 +285,8 @@ public class JavaCDGBuilder {
 				pushLoopBlockDep(loopRegion);
 				visit(ctx.statement());
 				if (ctx.forControl().forUpdate() != null) { // non-empty for-update
-					forUpdate = new PDNode();
-					forUpdate.setLineOfCode(ctx.forControl().forUpdate().getStart().getLine());
-					forUpdate.setCode(getOriginalCodeText(ctx.forControl().forUpdate()));
+					forUpdate = newNode(ctx.forControl().forUpdate(), ctx.forControl().forUpdate().getStart().getLine(), 
+							getOriginalCodeText(ctx.forControl().forUpdate()));
 					// we don't use 'addNodeEdge(forUpdate)' because the behavior of for-update
 					// step is different from other statements with regards to break/continue.
 					cdg.addVertex(forUpdate);
@@ -302,9 +300,7 @@ public class JavaCDGBuilder {
 		@Override
 		public Void visitWhileStatement(JavaParser.WhileStatementContext ctx) {
 			// 'while' parExpression statement
-			PDNode whileNode = new PDNode();
-			whileNode.setLineOfCode(ctx.getStart().getLine());
-			whileNode.setCode("while " + getOriginalCodeText(ctx.parExpression()));
+			PDNode whileNode = newNode(ctx, ctx.getStart().getLine(), "while " + getOriginalCodeText(ctx.parExpression()));
 			addNodeEdge(whileNode);
 			//
 			PDNode loopRegion = new PDNode();
@@ -330,9 +326,8 @@ public class JavaCDGBuilder {
 			pushLoopBlockDep(doRegion);
 			visit(ctx.statement());
 			// the while-node is treated as the last statement of the loop
-			PDNode whileNode = new PDNode();
-			whileNode.setLineOfCode(ctx.parExpression().getStart().getLine());
-			whileNode.setCode("while " + getOriginalCodeText(ctx.parExpression()));
+			PDNode whileNode = newNode(ctx, ctx.parExpression().getStart().getLine(), 
+					"while " + getOriginalCodeText(ctx.parExpression()));
 			addNodeEdge(whileNode);
 			//
 			popLoopBlockDep(doRegion);
@@ -345,9 +340,7 @@ public class JavaCDGBuilder {
 		@Override
 		public Void visitSwitchStatement(JavaParser.SwitchStatementContext ctx) {
 			// 'switch' parExpression '{' switchBlockStatementGroup* switchLabel* '}'
-			PDNode switchNode = new PDNode();
-			switchNode.setLineOfCode(ctx.getStart().getLine());
-			switchNode.setCode("switch " + getOriginalCodeText(ctx.parExpression()));
+			PDNode switchNode = newNode(ctx, ctx.getStart().getLine(), "switch " + getOriginalCodeText(ctx.parExpression()));
 			addNodeEdge(switchNode);
 			//
 			pushLoopBlockDep(switchNode);
@@ -442,9 +435,7 @@ public class JavaCDGBuilder {
 		@Override
 		public Void visitSynchBlockStatement(JavaParser.SynchBlockStatementContext ctx) {
 			// 'synchronized' parExpression block
-			PDNode syncRegion = new PDNode();
-			syncRegion.setLineOfCode(ctx.getStart().getLine());
-			syncRegion.setCode("synchronized " + getOriginalCodeText(ctx.parExpression()));
+			PDNode syncRegion = newNode(ctx, ctx.getStart().getLine(), "synchronized " + getOriginalCodeText(ctx.parExpression()));
 			addNodeEdge(syncRegion);
 			pushCtrlDep(syncRegion);
 			visit(ctx.block());
@@ -499,9 +490,7 @@ public class JavaCDGBuilder {
 		@Override
 		public Void visitReturnStatement(JavaParser.ReturnStatementContext ctx) {
 			// 'return' expression? ';'
-			PDNode ret = new PDNode();
-			ret.setLineOfCode(ctx.getStart().getLine());
-			ret.setCode(getOriginalCodeText(ctx));
+			PDNode ret = newNode(ctx, ctx.getStart().getLine(), getOriginalCodeText(ctx));
 			addNodeEdge(ret);
 			// NOTE: an important assumption here is that 'return' 
 			//       is the last statement inside an if-else body
@@ -519,9 +508,7 @@ public class JavaCDGBuilder {
 		@Override
 		public Void visitThrowStatement(JavaParser.ThrowStatementContext ctx) {
 			// 'throw' expression ';'
-			PDNode thr = new PDNode();
-			thr.setLineOfCode(ctx.getStart().getLine());
-			thr.setCode(getOriginalCodeText(ctx));
+			PDNode thr = newNode(ctx, ctx.getStart().getLine(), "throw " + getOriginalCodeText(ctx.expression()));
 			addNodeEdge(thr);
 			// NOTE: an important assumption here is that 'throw' 
 			//       is the last statement inside an if-else body,
@@ -553,9 +540,8 @@ public class JavaCDGBuilder {
 				// 'catch' '(' variableModifier* catchType Identifier ')' block
 				PDNode catchNode;
 				for (JavaParser.CatchClauseContext cx : ctx.catchClause()) {
-					catchNode = new PDNode();
-					catchNode.setLineOfCode(cx.getStart().getLine());
-					catchNode.setCode("catch (" + cx.catchType().getText() + " " + cx.Identifier().getText() + ")");
+					catchNode = newNode(cx, cx.getStart().getLine(), 
+							"catch (" + cx.catchType().getText() + " " + cx.Identifier().getText() + ")");
 					cdg.addVertex(catchNode);
 					cdg.addEdge(new Edge<>(tryRegion, new CDEdge(CDEdge.Type.THROWS), catchNode));
 					pushCtrlDep(catchNode);
@@ -596,9 +582,7 @@ public class JavaCDGBuilder {
 			//
 			// Iterate over all resources ...
 			for (JavaParser.ResourceContext rsrc: ctx.resourceSpecification().resources().resource()) {
-				PDNode resource = new PDNode();
-				resource.setLineOfCode(rsrc.getStart().getLine());
-				resource.setCode(getOriginalCodeText(rsrc));
+				PDNode resource = newNode(rsrc, rsrc.getStart().getLine(), getOriginalCodeText(rsrc));
 				addNodeEdge(resource);
 			}
 			//
@@ -608,9 +592,8 @@ public class JavaCDGBuilder {
 				// 'catch' '(' variableModifier* catchType Identifier ')' block
 				PDNode catchNode;
 				for (JavaParser.CatchClauseContext cx : ctx.catchClause()) {
-					catchNode = new PDNode();
-					catchNode.setLineOfCode(cx.getStart().getLine());
-					catchNode.setCode("catch (" + cx.catchType().getText() + " " + cx.Identifier().getText() + ")");
+					catchNode = newNode(cx, cx.getStart().getLine(), 
+							"catch (" + cx.catchType().getText() + " " + cx.Identifier().getText() + ")");
 					cdg.addVertex(catchNode);
 					cdg.addEdge(new Edge<>(tryRegion, new CDEdge(CDEdge.Type.THROWS), catchNode));
 					pushCtrlDep(catchNode);
@@ -635,6 +618,23 @@ public class JavaCDGBuilder {
 			return null;
 		}
 
+		/**
+		 * Returns the node of the given context in the 'ctxNodes' map (if any);
+		 * otherwise, a new node with the given line and code.
+		 * The line and code of each statement are the same as in the DDG.
+		 */
+		private PDNode newNode(ParserRuleContext ctx, int line, String code) {
+			if (ctxNodes != null && ctx != null) {
+				Object linked = ctxNodes.get(ctx);
+				if (linked instanceof PDNode)
+					return (PDNode) linked;
+			}
+			PDNode node = new PDNode();
+			node.setLineOfCode(line);
+			node.setCode(code);
+			return node;
+		}
+
 		/**
 		 * Add given node to the CD-subgraph and 
 		 * create a new CD-edge based on the last control-dependency.
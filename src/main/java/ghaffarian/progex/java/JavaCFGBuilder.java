@@ -3,25 +3,21 @@ package ghaffarian.progex.java;
 
 import ghaffarian.graphs.*;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.misc.Interval;
 import org.antlr.v4.runtime.tree.ParseTree;
+import ghaffarian.progex.AnalysisSession;
 import ghaffarian.progex.graphs.cfg.CFEdge;
 import ghaffarian.progex.graphs.cfg.CFNode;
 import ghaffarian.progex.graphs.cfg.ControlFlowGraph;
 import ghaffarian.progex.java.parser.JavaBaseVisitor;
-import ghaffarian.progex.java.parser.JavaLexer;
 import ghaffarian.progex.java.parser.JavaParser;
 import ghaffarian.nanologger.Logger;
 
@@ -45,14 +41,19 @@ public class JavaCFGBuilder {
 	 * ‌Build and return the Control Flow Graph (CFG) for the given Java source file.
 	 */
 	public static ControlFlowGraph build(File javaFile) throws IOException {
+		try (AnalysisSession session = AnalysisSession.newDefault()) {
+			return build(session, javaFile);
+		}
+	}
+	
+	/**
+	 * ‌Build and return the Control Flow Graph (CFG) for the given Java source file,
+	 * using the parse-tree cache of the given analysis session.
+	 */
+	public static ControlFlowGraph build(AnalysisSession session, File javaFile) throws IOException {
 		if (!javaFile.getName().endsWith(".java"))
 			throw new IOException("Not a Java File!");
-		InputStream inFile = new FileInputStream(javaFile);
-		ANTLRInputStream input = new ANTLRInputStream(inFile);
-		JavaLexer lexer = new JavaLexer(input);
-		CommonTokenStream tokens = new CommonTokenStream(lexer);
-		JavaParser parser = new JavaParser(tokens);
-		ParseTree tree = parser.compilationUnit();
+		ParseTree tree = session.getParseTreeCache().parse(javaFile);
 		return build(javaFile.getName(), tree, null, null);
 	}
 	
@@ -174,8 +175,8 @@ public class JavaCFGBuilder {
 				addContextualProperty(block, ctx);
 				cfg.addVertex(block);
 				//
-				block.setProperty("name", "static-block");
-				block.setProperty("class", classNames.peek());
+				block.setName("static-block");
+				block.setClassName(classNames.peek());
 				cfg.addMethodEntry(block);
 				//
 				preNodes.push(block);
@@ -195,8 +196,8 @@ public class JavaCFGBuilder {
 			addContextualProperty(entry, ctx);
 			cfg.addVertex(entry);
 			//
-			entry.setProperty("name", ctx.Identifier().getText());
-			entry.setProperty("class", classNames.peek());
+			entry.setName(ctx.Identifier().getText());
+			entry.setClassName(classNames.peek());
 			cfg.addMethodEntry(entry);
 			//
 			preNodes.push(entry);
@@ -221,8 +222,8 @@ public class JavaCFGBuilder {
 			addContextualProperty(entry, ctx);
 			cfg.addVertex(entry);
 			//
-			entry.setProperty("name", ctx.Identifier().getText());
-			entry.setProperty("class", classNames.peek());
+			entry.setName(ctx.Identifier().getText());
+			entry.setClassName(classNames.peek());
 			entry.setProperty("type", retType);
 			cfg.addMethodEntry(entry);
 			//
@@ -3,11 +3,18 @@ package ghaffarian.progex.java;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * A simple structure for storing key information about a Java class declaration.
  * 
+ * Methods and fields are also indexed by their names; the indices are
+ * created on first lookup, and discarded when a member is added.
+ * 
  * @author Seyed Mohammad Ghaffarian
  */
 public class JavaClass {
@@ -21,6 +28,8 @@ public class JavaClass {
 	private String[] implementations;
 	private ArrayList<JavaField> fields;
 	private ArrayList<JavaMethod> methods;
+	private volatile Map<String, List<JavaMethod>> methodsByName;
+	private volatile Map<String, JavaField> fieldsByName;
 	
 	public JavaClass(String name, String pkg, String extend, String filePath, String[] imports) {
 		NAME = name;
@@ -43,6 +52,21 @@ public class JavaClass {
 	
 	public void addField(JavaField field) {
 		fields.add(field);
+		fieldsByName = null;
+	}
+	
+	/**
+	 * Returns the field with the given name; or null if no such field exists.
+	 * If there are several fields with the same name, the last one is returned.
+	 */
+	public JavaField getField(String name) {
+		if (fieldsByName == null) {
+			Map<String, JavaField> index = new HashMap<>();
+			for (JavaField fld: fields)
+				index.put(fld.NAME, fld);
+			fieldsByName = index;
+		}
+		return fieldsByName.get(name);
 	}
 	
 	public boolean hasField(String name) {
@@ -58,6 +82,22 @@ public class JavaClass {
 	
 	public void addMethod(JavaMethod mtd) {
 		methods.add(mtd);
+		methodsByName = null;
+	}
+	
+	/**
+	 * Returns the (overloaded) methods with the given name, in order of declaration;
+	 * the returned list is unmodifiable, and is empty if no such method exists.
+	 */
+	public List<JavaMethod> getMethods(String name) {
+		if (methodsByName == null) {
+			Map<String, List<JavaMethod>> index = new HashMap<>();
+			for (JavaMethod mtd: methods)
+				index.computeIfAbsent(mtd.NAME, k -> new ArrayList<>(2)).add(mtd);
+			methodsByName = index;
+		}
+		List<JavaMethod> list = methodsByName.get(name);
+		return list == null ? Collections.<JavaMethod>emptyList() : Collections.unmodifiableList(list);
 	}
 	
 	public boolean hasMethod(String name) {
@@ -2,45 +2,60 @@
 package ghaffarian.progex.java;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.Enumeration;
 import java.util.List;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
+import ghaffarian.nanologger.Logger;
+import ghaffarian.progex.AnalysisSession;
 import ghaffarian.progex.java.parser.JavaBaseVisitor;
-import ghaffarian.progex.java.parser.JavaLexer;
 import ghaffarian.progex.java.parser.JavaParser;
 
 /**
  * A utility class for building JavaClass structures from a given Java source file.
  * 
+ * Since only the signatures are needed, the source files are parsed without
+ * the bodies of methods (see SignatureParser); unless the full parse-tree of
+ * the file is already available (e.g. in the parse-tree cache).
+ * Signatures of the library classes (in 'lib/src.zip') are loaded from
+ * a persistent store (see LibrarySignatureStore); so each library source
+ * is parsed only once, and not in every run.
+ * Unlike the parse-tree cache, the store is not kept in an analysis session:
+ * it is opened once per process, and shared by all sessions (and threads);
+ * since the library sources are the same for all analyses.
+ * New signatures are saved to the store file once per session (when it is closed),
+ * and not after each extraction.
+ * 
  * @author Seyed Mohammad Ghaffarian
  */
 public class JavaClassExtractor {
 	
+	// Library sources, and the persistent store of their class signatures (shared by all sessions)
+	private static final String LIB_SRC_ZIP = "lib/src.zip";
+	private static final String LIB_SIGNATURES = "lib/src.signatures";
+	
+	private static LibrarySignatureStore libraryStore;
+	
 	public static List<JavaClass> extractInfo(String javaFile) throws IOException {
 		return extractInfo(new File(javaFile));
 	}
 	
 	public static List<JavaClass> extractInfo(File javaFile) throws IOException {
-		return extractInfo(javaFile.getAbsolutePath(), new FileInputStream(javaFile));
+		try (AnalysisSession session = AnalysisSession.newDefault()) {
+			return extractInfo(session, javaFile);
+		}
+	}
+	
+	public static List<JavaClass> extractInfo(AnalysisSession session, File javaFile) throws IOException {
+		return extractInfo(javaFile.getAbsolutePath(), session.getParseTreeCache().parseSignatures(javaFile));
 	}
 	
 	public static List<JavaClass> extractInfo(String javaFilePath, InputStream inStream) throws IOException {
-		ANTLRInputStream input = new ANTLRInputStream(inStream);
-		JavaLexer lexer = new JavaLexer(input);
-		CommonTokenStream tokens = new CommonTokenStream(lexer);
-		JavaParser parser = new JavaParser(tokens);
-		ParseTree tree = parser.compilationUnit();
-		return extractInfo(javaFilePath, tree);
+		JavaSource source = JavaSource.read(javaFilePath, inStream);
+		return extractInfo(javaFilePath, SignatureParser.parse(source.toCharStream()));
 	}
 	
 	public static List<JavaClass> extractInfo(String javaFilePath, ParseTree tree) {
@@ -49,59 +64,48 @@ public class JavaClassExtractor {
 	}
 	
 	public static List<JavaClass> extractJavaLangInfo() throws IOException {
-		ZipFile zip = new ZipFile("lib/src.zip");
-		ArrayList<JavaClass> javaLangClasses = new ArrayList<>();
-		String qualifiedName = "java.lang.*";
-		for (ZipEntry ent: getPackageEntries(zip, qualifiedName))
-			javaLangClasses.addAll(JavaClassExtractor.extractInfo("src.zip/" + ent.getName(), zip.getInputStream(ent)));
-		return javaLangClasses;
+		return extractImportsInfo(new String[] {"java.lang.*"});
 	}
 	
 	public static List<JavaClass> extractImportsInfo(String[] imports) throws IOException {
-		ZipFile zip = new ZipFile("lib/src.zip");
 		ArrayList<JavaClass> classes = new ArrayList<>();
+		LibrarySignatureStore store = getLibraryStore();
 		for (String qualifiedName: imports) {
-			if (qualifiedName.endsWith(".*")) {
-				for (ZipEntry ent: getPackageEntries(zip, qualifiedName))
-					classes.addAll(JavaClassExtractor.extractInfo("src.zip/" + ent.getName(), zip.getInputStream(ent)));
-			} else {
-				ZipEntry entry = getZipEntry(zip, qualifiedName);
-				if (entry == null)
-					continue;
-				classes.addAll(JavaClassExtractor.extractInfo("src.zip/" + entry.getName(), zip.getInputStream(entry)));
-			}
+			if (qualifiedName.endsWith(".*"))
+				classes.addAll(store.getPackage(qualifiedName));
+			else
+				classes.addAll(store.getClass(qualifiedName));
 		}
 		return classes;
 	}
 	
-	private static ZipEntry getZipEntry(ZipFile zip, String qualifiedName) {
-		// qualifiedName does not end with ".*"
-		return zip.getEntry(qualifiedName.replace('.', '/') + ".java");
-	}
-	
-	private static ZipEntry[] getPackageEntries(ZipFile zip, String qualifiedName) {
-		// qualifiedName ends with ".*"
-		String pkg = qualifiedName.replace('.', '/').substring(0, qualifiedName.length() - 1);
-		int slashCount = countSlashes(pkg);
-		ArrayList<ZipEntry> entries = new ArrayList<>();
-		Enumeration<? extends ZipEntry> zipEntries = zip.entries();
-		while (zipEntries.hasMoreElements()) {
-			ZipEntry entry = zipEntries.nextElement();
-			if (entry.getName().startsWith(pkg) 
-					&& !entry.isDirectory()
-					&& slashCount == countSlashes(entry.getName())) {
-				entries.add(entry);
+	/**
+	 * Save the signatures which are newly added to the library store (if any) to its file;
+	 * which is done when an analysis session is closed (see AnalysisSession.close).
+	 * If the store cannot be saved, it is not tried again by this process.
+	 */
+	public static void saveLibrarySignatures() {
+		LibrarySignatureStore store;
+		synchronized (JavaClassExtractor.class) {
+			store = libraryStore;
+		}
+		if (store != null && store.isModified()) {
+			try {
+				store.save();
+			} catch (IOException ex) {
+				Logger.warn("Could not save library signatures: " + ex);
 			}
 		}
-		return entries.toArray(new ZipEntry[entries.size()]);
 	}
 	
-	private static int countSlashes(String str) {
-		int slashCount = 0;
-		for (char chr: str.toCharArray())
-			if (chr == '/')
-				++slashCount;
-		return slashCount;
+	/**
+	 * Returns the signature store of the library sources; which is opened on first use,
+	 * and then shared by all sessions of this process (the store is thread-safe).
+	 */
+	private static synchronized LibrarySignatureStore getLibraryStore() throws IOException {
+		if (libraryStore == null)
+			libraryStore = LibrarySignatureStore.open(new File(LIB_SRC_ZIP), new File(LIB_SIGNATURES));
+		return libraryStore;
 	}
 	
 	private static class JavaClassVisitor extends JavaBaseVisitor<String> {
@@ -3,36 +3,44 @@ package ghaffarian.progex.java;
 
 import ghaffarian.graphs.*;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.misc.Interval;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
+import ghaffarian.progex.AnalysisSession;
+import ghaffarian.progex.graphs.GraphOutput;
 import ghaffarian.progex.graphs.cfg.CFNode;
 import ghaffarian.progex.graphs.cfg.CFPathTraversal;
 import ghaffarian.progex.graphs.cfg.ControlFlowGraph;
+import ghaffarian.progex.graphs.pdg.ControlDependenceGraph;
 import ghaffarian.progex.graphs.pdg.DDEdge;
 import ghaffarian.progex.graphs.pdg.DataDependenceGraph;
 import ghaffarian.progex.graphs.pdg.PDNode;
+import ghaffarian.progex.graphs.pdg.ProgramDependeceGraph;
+import ghaffarian.progex.graphs.pdg.ReachingDefinitions;
 import ghaffarian.progex.java.parser.JavaBaseVisitor;
-import ghaffarian.progex.java.parser.JavaLexer;
 import ghaffarian.progex.java.parser.JavaParser;
 import ghaffarian.nanologger.Logger;
 
@@ -45,41 +53,225 @@ import ghaffarian.nanologger.Logger;
  */
 public class JavaDDGBuilder {
 	
-	// Just for debugging
-	private static String currentFile;
-	
 	// NOTE: This doesn't handle duplicate class names;
 	//       yet assuming no duplicate class names is fair enough.
 	//       To handle that, we should use 'Map<String, List<JavaClass>>'
-	private static Map<String, JavaClass> allClassInfos;
+	private Map<String, JavaClass> allClassInfos;
 
-    private static Map<String, List<MethodDefInfo>> methodDEFs;
+    private Map<String, List<MethodDefInfo>> methodDEFs;
+	
+	// Options of the analysis session of this builder
+	private final AnalysisSession session;
+	
+	// Library sources, and the persistent index of their DEF summaries
+	private static final String JDK_SRC_ZIP = "res/jdk7-src.zip";
+	
+	/**
+	 * Construct a new DDG builder for a single run, with the options of the given session.
+	 * All per-run state (i.e. class-infos and method DEF infos) is kept in this instance.
+	 */
+	private JavaDDGBuilder(AnalysisSession session) {
+		this.session = session;
+	}
+	
+	/**
+	 * Set whether data-flow edges are added by traversing all control-flow paths
+	 * (the legacy method), instead of the reaching-definitions analysis.
+	 * Both methods produce the same set of edges; the legacy one is much slower.
+	 * This is the option of the default session (see AnalysisSession.getDefault).
+	 */
+	public static void setLegacyDataFlow(boolean legacy) {
+		AnalysisSession.getDefault().setLegacyDataFlow(legacy);
+	}
+	
+	/**
+	 * Set whether the DEF-USE analysis re-visits all files until nothing changes
+	 * (the legacy method), instead of using a call-graph ordered worklist of methods.
+	 * Both methods reach the same fixed-point; the legacy one does more re-visits.
+	 * This is the option of the default session (see AnalysisSession.getDefault).
+	 */
+	public static void setLegacyIteration(boolean legacy) {
+		AnalysisSession.getDefault().setLegacyIteration(legacy);
+	}
+	
+	/**
+	 * Set the number of threads for the iterative DEF-USE analysis of source files.
+	 * With more than one thread, the files are visited concurrently in each iteration;
+	 * the analysis reaches the same fixed-point as with a single thread.
+	 * This is the option of the default session (see AnalysisSession.getDefault).
+	 */
+	public static boolean setThreadCount(int count) {
+		return AnalysisSession.getDefault().setThreadCount(count);
+	}
 	
 	public static DataDependenceGraph[] buildForAll(File[] files) throws IOException {
+		return buildForAll(files, null);
+	}
+	
+	/**
+	 * Build the DDGs of the given Java files, only for those files accepted by the given filter.
+	 * After the DEF-USE analysis of all files, the filter is tested with the path of each file
+	 * and a summary of all method DEF infos which are referenced by the file; 
+	 * and if not accepted, the DDG of that file is not built and is null in the returned array.
+	 * A null filter accepts all files.
+	 */
+	public static DataDependenceGraph[] buildForAll(File[] files, BiPredicate<String, String> filter) throws IOException {
+		try (AnalysisSession session = AnalysisSession.newDefault()) {
+			return buildForAll(session, files, filter);
+		}
+	}
+	
+	/**
+	 * Build the DDGs of the given Java files, with the options of the given analysis session.
+	 * See above for the details of the filter parameter.
+	 */
+	public static DataDependenceGraph[] buildForAll(AnalysisSession session, File[] files, 
+			BiPredicate<String, String> filter) throws IOException {
+		ProgramDependeceGraph[] graphs = new JavaDDGBuilder(session).build(files, filter, false);
+		DataDependenceGraph[] ddgs = new DataDependenceGraph[graphs.length];
+		for (int i = 0; i < graphs.length; ++i)
+			ddgs[i] = graphs[i] == null ? null : graphs[i].DDS;
+		return ddgs;
+	}
+	
+	/**
+	 * Build the DDGs of the given Java files one file at a time, with the options of the 
+	 * given analysis session, and pass each DDG to the given output action; so the DDG
+	 * of a file can be discarded before the next one is built (i.e. with bounded memory).
+	 * The DDGs are the same as 'buildForAll', and a file which is not accepted by the 
+	 * filter is passed as a null graph.
+	 */
+	public static void buildForEach(AnalysisSession session, File[] files, 
+			BiPredicate<String, String> filter, GraphOutput<DataDependenceGraph> output) throws IOException {
+		new JavaDDGBuilder(session).buildEach(files, filter, false, 
+				(javaFile, graph) -> output.write(javaFile, graph == null ? null : graph.DDS));
+	}
+	
+	/**
+	 * Build the PDGs of the given Java files, with the options of the given analysis session;
+	 * where the CDG of each file is built by the syntactic visitor (see JavaCDGBuilder) 
+	 * on the same parse-tree as its DDG, so the two subgraphs share the nodes of the 
+	 * same statements. See above for the details of the filter parameter.
+	 */
+	static ProgramDependeceGraph[] buildPDGs(AnalysisSession session, File[] files, 
+			BiPredicate<String, String> filter) throws IOException {
+		return new JavaDDGBuilder(session).build(files, filter, true);
+	}
+	
+	/**
+	 * Build the PDGs of the given Java files one file at a time (as 'buildPDGs'), 
+	 * and pass each PDG to the given output action (see 'buildForEach').
+	 */
+	static void buildEachPDG(AnalysisSession session, File[] files, 
+			BiPredicate<String, String> filter, GraphOutput<ProgramDependeceGraph> output) throws IOException {
+		new JavaDDGBuilder(session).buildEach(files, filter, true, output);
+	}
+	
+	/**
+	 * Build the DDGs of the given Java files; which is a single run of this builder.
+	 * The DDGs are returned as PDGs, which only have a CDS if 'withCDGs' is true
+	 * (otherwise the CDS is null); and the PDG of a skipped file is null.
+	 */
+	private ProgramDependeceGraph[] build(File[] files, BiPredicate<String, String> filter, 
+			boolean withCDGs) throws IOException {
 		// Parse all Java source files
 		Logger.info("Parsing all source files ... ");
 		ParseTree[] parseTrees = new ParseTree[files.length];
-		for (int i = 0; i < files.length; ++i) {
-			InputStream inFile = new FileInputStream(files[i]);
-			ANTLRInputStream input = new ANTLRInputStream(inFile);
-			JavaLexer lexer = new JavaLexer(input);
-			CommonTokenStream tokens = new CommonTokenStream(lexer);
-			JavaParser parser = new JavaParser(tokens);
-			parseTrees[i] = parser.compilationUnit();
-		}
+		for (int i = 0; i < files.length; ++i)
+			parseTrees[i] = session.getParseTreeCache().parse(files[i]);
 		Logger.info("Done.");
 		
 		// Extract the information of all given Java classes
 		Logger.info("\nExtracting class-infos ... ");
-		allClassInfos = new HashMap<>();
 		List<JavaClass[]> filesClasses = new ArrayList<>();
 		for (int i = 0; i < files.length; ++i) {
 			List<JavaClass> classesList = JavaClassExtractor.extractInfo(files[i].getPath(), parseTrees[i]);
 			filesClasses.add(classesList.toArray(new JavaClass[classesList.size()]));
-			for (JavaClass cls: classesList) 
-				allClassInfos.put(cls.NAME, cls);
 		}
 		Logger.info("Done.");
+		initDefInfos(filesClasses);
+		
+		// Iteratively, extract USE-DEF info for all program statements ...
+		DataDependenceGraph[] ddgs = new DataDependenceGraph[files.length];
+		for (int i = 0; i < ddgs.length; ++i)
+			ddgs[i] = new DataDependenceGraph(files[i].getName());
+		//
+		Map<ParserRuleContext, Object>[] pdNodes = new Map[parseTrees.length];
+		for (int i = 0; i < parseTrees.length; ++i)
+			pdNodes[i] = new IdentityHashMap<>();
+		//
+		Set<MethodDefInfo>[] referencedDefs = new Set[files.length];
+		for (int i = 0; i < files.length; ++i)
+			referencedDefs[i] = Collections.newSetFromMap(new IdentityHashMap<MethodDefInfo, Boolean>());
+		//
+		Logger.info("\nIterative DEF-USE analysis ... ");
+		int threads = session.getThreadCount();
+		ForkJoinPool pool = threads > 1 && files.length > 1 ? new ForkJoinPool(threads) : null;
+		try {
+			if (session.isLegacyIteration())
+				iterateDefUse(pool, files, parseTrees, filesClasses, ddgs, pdNodes, referencedDefs);
+			else
+				worklistDefUse(pool, files, parseTrees, filesClasses, ddgs, pdNodes, referencedDefs);
+		} finally {
+			if (pool != null)
+				pool.shutdownNow();
+		}
+		Logger.info("Done.");
+		
+		// Skip the files which are not accepted by the filter
+		if (filter != null) {
+			for (int i = 0; i < files.length; ++i) {
+				if (!filter.test(files[i].getPath(), summarizeDefInfos(referencedDefs[i])))
+					ddgs[i] = null;
+			}
+		}
+		
+		// Build control-flow graphs for all Java files including the extracted DEF-USE info ...
+		Logger.info("\nExtracting CFGs ... ");
+		ControlFlowGraph[] cfgs = new ControlFlowGraph[files.length];
+		for (int i = 0; i < files.length; ++i) 
+			if (ddgs[i] != null)
+				cfgs[i] = JavaCFGBuilder.build(files[i].getName(), parseTrees[i], "pdnode", pdNodes[i]);
+		Logger.info("Done.");
+		
+		// Finally, traverse all control-flow paths and draw data-flow dependency edges ...
+		Logger.info("\nAdding data-flow edges ... ");
+		for (int i = 0; i < files.length; ++i) {
+			if (ddgs[i] == null)
+				continue;
+			if (session.isLegacyDataFlow())
+				addDataFlowEdges(cfgs[i], ddgs[i]);
+			else
+				ReachingDefinitions.addDataFlowEdges(cfgs[i], ddgs[i]);
+			ddgs[i].attachCFG(cfgs[i]);
+		}
+		Logger.info("Done.\n");
+		
+		// Build the control dependences, with the same nodes as the DDGs ...
+		ControlDependenceGraph[] cdgs = new ControlDependenceGraph[files.length];
+		if (withCDGs) {
+			Logger.info("Extracting CDGs ... ");
+			for (int i = 0; i < files.length; ++i)
+				if (ddgs[i] != null)
+					cdgs[i] = JavaCDGBuilder.build(files[i].getName(), parseTrees[i], pdNodes[i]);
+			Logger.info("Done.\n");
+		}
+		ProgramDependeceGraph[] graphs = new ProgramDependeceGraph[files.length];
+		for (int i = 0; i < files.length; ++i)
+			if (ddgs[i] != null)
+				graphs[i] = new ProgramDependeceGraph(files[i].getName(), cdgs[i], ddgs[i]);
+		return graphs;
+	}
+	
+	/**
+	 * Initialize the class-infos and method DEF infos of this builder, 
+	 * for the given classes of all files and their imported libraries.
+	 */
+	private void initDefInfos(List<JavaClass[]> filesClasses) throws IOException {
+		allClassInfos = new HashMap<>();
+		for (JavaClass[] classArray: filesClasses)
+			for (JavaClass cls: classArray)
+				allClassInfos.put(cls.NAME, cls);
 		
 		// Initialize method DEF information
 		Logger.info("\nInitializing method-DEF infos ... ");
@@ -103,139 +295,455 @@ public class JavaDDGBuilder {
 		
 		// Analyze method DEF information for imported libraries
 		analyzeImportsDEF(filesClasses);
+	}
+	
+	/**
+	 * Build the DDGs of the given Java files one file at a time, and pass each DDG
+	 * to the given output action (in the order of the files); with bounded memory.
+	 * 
+	 * In the first phase, only the global summaries are computed; i.e. the class-infos
+	 * of all files, and the converged method DEF infos. The DEF-USE analysis is done
+	 * by a worklist of files, where each visit has its own temporary nodes which are
+	 * discarded afterwards; and parse-trees are not kept (nor added to the parse-tree
+	 * cache), so each file is re-parsed for each visit. In the second phase, the DDG of each 
+	 * file is built by a single visit with the converged DEF infos, and it is passed
+	 * to the output action before building the next one. Hence no per-file state of
+	 * other files is kept, and the peak memory depends on the largest file, instead 
+	 * of the whole project. The resulting DDGs are the same as the 'build' method;
+	 * and as there, they are passed as PDGs, with a CDS only if 'withCDGs' is true.
+	 * Files which are not accepted by the filter are passed as null graphs.
+	 */
+	private void buildEach(File[] files, BiPredicate<String, String> filter, boolean withCDGs,
+			GraphOutput<ProgramDependeceGraph> output) throws IOException {
+		// Extract the information of all given Java classes
+		Logger.info("Extracting class-infos ... ");
+		List<JavaClass[]> filesClasses = new ArrayList<>();
+		for (int i = 0; i < files.length; ++i) {
+			ParseTree tree = session.getParseTreeCache().parseSignatures(files[i]);
+			List<JavaClass> classesList = JavaClassExtractor.extractInfo(files[i].getPath(), tree);
+			filesClasses.add(classesList.toArray(new JavaClass[classesList.size()]));
+		}
+		Logger.info("Done.");
+		initDefInfos(filesClasses);
+		
+		// Phase one: iterate the DEF-USE analysis until method DEF infos converge
+		Logger.info("\nIterative DEF-USE analysis of method summaries ... ");
+		int threads = session.getThreadCount();
+		ForkJoinPool pool = threads > 1 && files.length > 1 ? new ForkJoinPool(threads) : null;
+		try {
+			summarizeDefUse(pool, files, filesClasses);
+		} finally {
+			if (pool != null)
+				pool.shutdownNow();
+		}
+		Logger.info("Done.");
 		
-		// Iteratively, extract USE-DEF info for all program statements ...
-		DataDependenceGraph[] ddgs = new DataDependenceGraph[files.length];
-		for (int i = 0; i < ddgs.length; ++i)
-			ddgs[i] = new DataDependenceGraph(files[i].getName());
-		//
-		Map<ParserRuleContext, Object>[] pdNodes = new Map[parseTrees.length];
-		for (int i = 0; i < parseTrees.length; ++i)
-			pdNodes[i] = new IdentityHashMap<>();
-		//
-		Logger.info("\nIterative DEF-USE analysis ... ");
+		// Phase two: build each DDG, and output it before the next one
+		Logger.info("\nBuilding DDGs ... ");
+		for (int i = 0; i < files.length; ++i) {
+			ParseTree tree = session.getParseTreeCache().parseTransient(files[i]);
+			DataDependenceGraph ddg = new DataDependenceGraph(files[i].getName());
+			Map<ParserRuleContext, Object> pdNodes = new IdentityHashMap<>();
+			DefUseVisitor visitor = new DefUseVisitor(1, files[i].getName(), filesClasses.get(i), ddg, pdNodes);
+			visitor.referencedDefs = Collections.newSetFromMap(new IdentityHashMap<MethodDefInfo, Boolean>());
+			visitor.visit(tree);
+			if (filter != null && !filter.test(files[i].getPath(), summarizeDefInfos(visitor.referencedDefs))) {
+				output.write(files[i], null);
+				continue;
+			}
+			ControlFlowGraph cfg = JavaCFGBuilder.build(files[i].getName(), tree, "pdnode", pdNodes);
+			if (session.isLegacyDataFlow())
+				addDataFlowEdges(cfg, ddg);
+			else
+				ReachingDefinitions.addDataFlowEdges(cfg, ddg);
+			ddg.attachCFG(cfg);
+			ControlDependenceGraph cdg = null;
+			if (withCDGs)
+				cdg = JavaCDGBuilder.build(files[i].getName(), tree, pdNodes);
+			output.write(files[i], new ProgramDependeceGraph(files[i].getName(), cdg, ddg));
+		}
+		Logger.info("Done.\n");
+	}
+	
+	/**
+	 * The DEF-USE analysis of all files, only for computing the method DEF infos;
+	 * using a worklist of files, where a file is re-visited only if any of the 
+	 * method DEF infos it references is modified. The nodes created by each visit
+	 * are temporary, and the parse-trees are not kept between visits.
+	 * This reaches the same fixed-point as the other DEF-USE analysis methods.
+	 */
+	private void summarizeDefUse(ForkJoinPool pool, File[] files, List<JavaClass[]> filesClasses) throws IOException {
+		Map<MethodDefInfo, List<Integer>> referencing = new IdentityHashMap<>();
+		BitSet visited = new BitSet(files.length);
+		BitSet worklist = new BitSet(files.length);
+		worklist.set(0, files.length);
+		int rounds = 0, visits = 0;
+		while (!worklist.isEmpty()) {
+			++rounds;
+			int[] round = worklist.stream().toArray();
+			worklist.clear();
+			Set<MethodDefInfo>[] referenced = new Set[round.length];
+			Set<MethodDefInfo>[] modified = new Set[round.length];
+			for (int r = 0; r < round.length; ++r) {
+				// the referenced DEF infos of a file do not change between visits
+				if (!visited.get(round[r]))
+					referenced[r] = Collections.newSetFromMap(new IdentityHashMap<MethodDefInfo, Boolean>());
+				modified[r] = Collections.newSetFromMap(new IdentityHashMap<MethodDefInfo, Boolean>());
+			}
+			if (pool == null) {
+				for (int r = 0; r < round.length; ++r)
+					summarizeFile(files[round[r]], filesClasses.get(round[r]), referenced[r], modified[r]);
+			} else {
+				List<Callable<Boolean>> tasks = new ArrayList<>(round.length);
+				for (int r = 0; r < round.length; ++r) {
+					int i = round[r];
+					Set<MethodDefInfo> fileReferenced = referenced[r];
+					Set<MethodDefInfo> fileModified = modified[r];
+					tasks.add(() -> {
+						summarizeFile(files[i], filesClasses.get(i), fileReferenced, fileModified);
+						return true;
+					});
+				}
+				invokeAll(pool, tasks);
+			}
+			for (int r = 0; r < round.length; ++r) {
+				if (referenced[r] != null) {
+					visited.set(round[r]);
+					for (MethodDefInfo info: referenced[r]) {
+						List<Integer> list = referencing.get(info);
+						if (list == null) {
+							list = new ArrayList<>(2);
+							referencing.put(info, list);
+						}
+						list.add(round[r]);
+					}
+				}
+				markCallers(modified[r], referencing, worklist);
+			}
+			visits += round.length;
+		}
+		Logger.debug("Files = " + files.length + ";  Rounds = " + rounds + ";  Visits = " + visits);
+	}
+	
+	/**
+	 * Visit the given file for the DEF-USE analysis of method summaries, and collect
+	 * the method DEF infos referenced (if not null) and modified by the file.
+	 * All nodes of this visit, and the parse-tree, are discarded afterwards.
+	 */
+	private void summarizeFile(File file, JavaClass[] classes, 
+			Set<MethodDefInfo> referenced, Set<MethodDefInfo> modified) throws IOException {
+		DefUseVisitor visitor = new DefUseVisitor(1, file.getName(), classes, 
+				new DataDependenceGraph(file.getName()), new IdentityHashMap<ParserRuleContext, Object>());
+		visitor.referencedDefs = referenced;
+		visitor.modifiedDefs = modified;
+		visitor.visit(session.getParseTreeCache().parseTransient(file));
+	}
+	
+	/**
+	 * The DEF-USE analysis of all files, by re-visiting all files until no DEF-USE info changes.
+	 */
+	private void iterateDefUse(ForkJoinPool pool, File[] files, ParseTree[] parseTrees, 
+			List<JavaClass[]> filesClasses, DataDependenceGraph[] ddgs, 
+			Map<ParserRuleContext, Object>[] pdNodes, Set<MethodDefInfo>[] referencedDefs) {
 		boolean changed;
 		int iteration = 0;
 		do {
 			++iteration;
 			changed = false;
+			DefUseVisitor[] visitors = new DefUseVisitor[files.length];
 			for (int i = 0; i < files.length; ++i) {
-				currentFile = files[i].getName();
-				DefUseVisitor defUse = new DefUseVisitor(iteration, filesClasses.get(i), ddgs[i], pdNodes[i]);
-				defUse.visit(parseTrees[i]);
-				changed |= defUse.changed;
+				visitors[i] = new DefUseVisitor(iteration, files[i].getName(), filesClasses.get(i), ddgs[i], pdNodes[i]);
+				visitors[i].referencedDefs = referencedDefs[i];
+			}
+			if (pool == null) {
+				for (int i = 0; i < files.length; ++i) {
+					visitors[i].visit(parseTrees[i]);
+					changed |= visitors[i].changed;
+				}
+			} else {
+				changed = visitAll(pool, visitors, parseTrees);
 			}
 			Logger.debug("Iteration #" + iteration + ": " + (changed ? "CHANGED" : "NO-CHANGE"));
 			Logger.debug("\n========================================\n");
 		} while (changed);
-		Logger.info("Done.");
-		
-		// Build control-flow graphs for all Java files including the extracted DEF-USE info ...
-		Logger.info("\nExtracting CFGs ... ");
-		ControlFlowGraph[] cfgs = new ControlFlowGraph[files.length];
-		for (int i = 0; i < files.length; ++i) 
-			cfgs[i] = JavaCFGBuilder.build(files[i].getName(), parseTrees[i], "pdnode", pdNodes[i]);
-		Logger.info("Done.");
-		
-		// Finally, traverse all control-flow paths and draw data-flow dependency edges ...
-		Logger.info("\nAdding data-flow edges ... ");
+	}
+	
+	/**
+	 * The DEF-USE analysis of all files, using a worklist of methods ordered by the call-graph.
+	 * 
+	 * The DEF-USE info of a method only depends on the DEF summaries of its callees;
+	 * hence after a first visit of all files, which creates all nodes and discovers all 
+	 * methods and calls, only the callers of methods whose summaries have changed are visited.
+	 * Methods are visited bottom-up in the order of the strongly connected components (SCC)
+	 * of the call-graph; so callees are (re-)visited before their callers, and only the 
+	 * methods of recursive SCCs may need more than one re-visit.
+	 */
+	private void worklistDefUse(ForkJoinPool pool, File[] files, ParseTree[] parseTrees, 
+			List<JavaClass[]> filesClasses, DataDependenceGraph[] ddgs, 
+			Map<ParserRuleContext, Object>[] pdNodes, Set<MethodDefInfo>[] referencedDefs) {
+		// First, visit all files to create all nodes and collect all methods
+		DefUseVisitor[] visitors = new DefUseVisitor[files.length];
 		for (int i = 0; i < files.length; ++i) {
-			addDataFlowEdges(cfgs[i], ddgs[i]);
-			ddgs[i].attachCFG(cfgs[i]);
+			visitors[i] = new DefUseVisitor(1, files[i].getName(), filesClasses.get(i), ddgs[i], pdNodes[i]);
+			visitors[i].referencedDefs = referencedDefs[i];
+			visitors[i].units = new ArrayList<>();
+			visitors[i].modifiedDefs = Collections.newSetFromMap(new IdentityHashMap<MethodDefInfo, Boolean>());
+		}
+		if (pool == null) {
+			for (int i = 0; i < files.length; ++i)
+				visitors[i].visit(parseTrees[i]);
+		} else {
+			visitAll(pool, visitors, parseTrees);
+		}
+		List<MethodUnit> units = new ArrayList<>();
+		Set<MethodDefInfo> modified = Collections.newSetFromMap(new IdentityHashMap<MethodDefInfo, Boolean>());
+		for (int i = 0; i < files.length; ++i) {
+			for (MethodUnit unit: visitors[i].units) {
+				unit.file = i;
+				units.add(unit);
+			}
+			modified.addAll(visitors[i].modifiedDefs);
 		}
-		Logger.info("Done.\n");
-		
-		return ddgs;
+		//
+		// Order the methods bottom-up, and find the callers of each method summary
+		MethodUnit[] order = CallGraph.bottomUpOrder(units);
+		Map<MethodDefInfo, List<Integer>> callers = new IdentityHashMap<>();
+		for (int u = 0; u < order.length; ++u) {
+			for (MethodDefInfo callee: order[u].calledDefs) {
+				List<Integer> list = callers.get(callee);
+				if (list == null) {
+					list = new ArrayList<>(2);
+					callers.put(callee, list);
+				}
+				list.add(u);
+			}
+		}
+		//
+		// Then, re-visit the callers of modified summaries, until no summary changes
+		BitSet worklist = new BitSet(order.length);
+		markCallers(modified, callers, worklist);
+		int visits = 0;
+		for (int u = worklist.nextSetBit(0); u >= 0; u = worklist.nextSetBit(0)) {
+			worklist.clear(u);
+			MethodUnit unit = order[u];
+			DefUseVisitor visitor = new DefUseVisitor(2, files[unit.file].getName(), 
+					filesClasses.get(unit.file), ddgs[unit.file], pdNodes[unit.file]);
+			visitor.modifiedDefs = Collections.newSetFromMap(new IdentityHashMap<MethodDefInfo, Boolean>());
+			for (int c = unit.classes.length - 1; c >= 0; --c)
+				visitor.activeClasses.push(unit.classes[c]);
+			visitor.visit(unit.ctx);
+			markCallers(visitor.modifiedDefs, callers, worklist);
+			++visits;
+		}
+		Logger.debug("Methods = " + order.length + ";  Re-visits = " + visits);
+	}
+	
+	/**
+	 * Add the callers of the given modified method summaries to the worklist.
+	 */
+	private static void markCallers(Set<MethodDefInfo> modified, 
+			Map<MethodDefInfo, List<Integer>> callers, BitSet worklist) {
+		for (MethodDefInfo info: modified) {
+			List<Integer> list = callers.get(info);
+			if (list != null)
+				for (int u: list)
+					worklist.set(u);
+		}
+	}
+	
+	/**
+	 * Perform a single iteration of the DEF-USE analysis, by visiting all files concurrently.
+	 * The per-file state (DDG nodes and the map of PD nodes) is only accessed by the 
+	 * visitor of that file; and the shared method DEF infos are only updated monotonically,
+	 * so a stale read in this iteration can only cause another iteration, not a different result.
+	 * Returns true if any file's DEF-USE info has changed.
+	 */
+	private static boolean visitAll(ForkJoinPool pool, DefUseVisitor[] visitors, ParseTree[] parseTrees) {
+		List<Callable<Boolean>> tasks = new ArrayList<>(visitors.length);
+		for (int i = 0; i < visitors.length; ++i) {
+			DefUseVisitor visitor = visitors[i];
+			ParseTree tree = parseTrees[i];
+			tasks.add(() -> {
+				visitor.visit(tree);
+				return visitor.changed;
+			});
+		}
+		boolean changed = false;
+		for (Future<Boolean> result: pool.invokeAll(tasks)) {
+			try {
+				changed |= result.get();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(ex);
+			} catch (ExecutionException ex) {
+				if (ex.getCause() instanceof RuntimeException)
+					throw (RuntimeException) ex.getCause();
+				throw new IllegalStateException(ex.getCause());
+			}
+		}
+		return changed;
+	}
+	
+	/**
+	 * Run the given tasks on the given pool, and wait for all of them to finish;
+	 * any exception of a task is re-thrown.
+	 */
+	private static void invokeAll(ForkJoinPool pool, List<Callable<Boolean>> tasks) throws IOException {
+		for (Future<Boolean> result: pool.invokeAll(tasks)) {
+			try {
+				result.get();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(ex);
+			} catch (ExecutionException ex) {
+				if (ex.getCause() instanceof IOException)
+					throw (IOException) ex.getCause();
+				if (ex.getCause() instanceof RuntimeException)
+					throw (RuntimeException) ex.getCause();
+				throw new IllegalStateException(ex.getCause());
+			}
+		}
+	}
+	
+	/**
+	 * Returns a textual summary of the given method DEF infos, which is independent of their order.
+	 */
+	private static String summarizeDefInfos(Set<MethodDefInfo> defInfos) {
+		List<String> summaries = new ArrayList<>(defInfos.size());
+		for (MethodDefInfo info: defInfos)
+			summaries.add(summarizeDefInfo(info));
+		Collections.sort(summaries);
+		StringBuilder summary = new StringBuilder();
+		for (String str: summaries)
+			summary.append(str).append('\n');
+		return summary.toString();
+	}
+	
+	/**
+	 * Returns a textual summary of the DEF information of the given method.
+	 */
+	private static String summarizeDefInfo(MethodDefInfo info) {
+		return info.toString() + " DEFs: " + info.doesStateDEF() + ' ' 
+				+ Arrays.toString(info.argDEFs()) + ' ' + Arrays.toString(info.fieldDEFs());
 	}
 	
 	/**
 	 * Analyze method DEF information for imported libraries. 
+	 * All imported library sources are analyzed together, with the classes and methods
+	 * of the given files; and the resulting summaries are kept in a persistent index
+	 * (see LibrarySummaryIndex), which is keyed by the imported entries and the signatures
+	 * of the given classes and methods which are named in those entries. So the analysis
+	 * is skipped for the same imports and named signatures.
 	 */
-	private static void analyzeImportsDEF(List<JavaClass[]> filesClasses) throws IOException {
+	private void analyzeImportsDEF(List<JavaClass[]> filesClasses) throws IOException {
 		// Extract the import strings
-		Logger.info("\nExtracting & Parsing imports ... ");
+		Logger.info("\nExtracting imports ... ");
 		Set<String> rawImports = new LinkedHashSet<>();
 		rawImports.add("java.lang.*");
 		for (JavaClass[] classes: filesClasses) 
 			for (JavaClass cls: classes) 
 				for (String qualifiedName: cls.IMPORTS)
 					rawImports.add(qualifiedName);
-		// NOTE: imports can contain specific or whole package imports;
-		//       so, we need to extract specific ZIP-entries for all imports.
-		// For each import find the ZIP-entries, 
-		// and extract the ParseTree and JavaClass[] infos
-		ZipFile zip = new ZipFile("res/jdk7-src.zip");
-		Set<String> imports = new LinkedHashSet<>();
-		List<ParseTree> importsParseTrees = new ArrayList<>();
-		List<JavaClass[]> importsClassInfos = new ArrayList<>();
-		for (String qualifiedName: rawImports) {
-			if (qualifiedName.endsWith(".*")) {
-				for (ZipEntry ent: getPackageEntries(zip, qualifiedName)) {
-					if (imports.add(ent.getName())) {
-						ANTLRInputStream input = new ANTLRInputStream(zip.getInputStream(ent));
-						JavaLexer lexer = new JavaLexer(input);
-						CommonTokenStream tokens = new CommonTokenStream(lexer);
-						JavaParser parser = new JavaParser(tokens);
-						ParseTree tree = parser.compilationUnit();
-						//
-						importsParseTrees.add(tree);
-						List<JavaClass> list = JavaClassExtractor.extractInfo("src.zip/" + ent.getName(), tree);
-						importsClassInfos.add(list.toArray(new JavaClass[list.size()]));
-						for (JavaClass cls: list) 
-							allClassInfos.put(cls.NAME, cls);
+		File zipFile = new File(JDK_SRC_ZIP);
+		try (ZipFile zip = new ZipFile(zipFile)) {
+			// NOTE: imports can contain specific or whole package imports;
+			//       so, we need to extract specific ZIP-entries for all imports.
+			// Map each imported entry to whether it was imported as a whole package
+			Map<String, Boolean> imports = new LinkedHashMap<>();
+			for (String qualifiedName: rawImports) {
+				if (qualifiedName.endsWith(".*")) {
+					for (ZipEntry ent: getPackageEntries(zip, qualifiedName))
+						if (!imports.containsKey(ent.getName()))
+							imports.put(ent.getName(), true);
+				} else {
+					String path = qualifiedName.replace('.', '/') + ".java";
+					if (!imports.containsKey(path) && zip.getEntry(path) != null)
+						imports.put(path, false);
+				}
+			}
+			Logger.info("Done.");
+			LibrarySummaryIndex index = LibrarySummaryIndex.open(zip, LibrarySummaryIndex.indexFileOf(zipFile));
+			String key = LibrarySummaryIndex.key(imports, index.getNames(zip, imports), filesClasses);
+			LibrarySummaryIndex.Record record = index.get(key);
+			if (record != null) {
+				for (int i = 0; i < record.paths.size(); ++i) {
+					LibrarySummaryIndex.Summary summary = record.summaries.get(i);
+					for (int c = 0; c < summary.classes.length; ++c) {
+						if (record.wholePackage.get(i))
+							allClassInfos.put(summary.classes[c].NAME, summary.classes[c]);
+						for (MethodDefInfo mtd: summary.methods[c])
+							addMethodDefInfo(methodDEFs, mtd);
 					}
 				}
+				Logger.info("\nLoaded DEF summaries of " + record.paths.size() + " imports.");
 			} else {
-				String path = qualifiedName.replace('.', '/') + ".java";
-				if (imports.add(path)) {
-					ZipEntry entry = zip.getEntry(path);
-					if (entry == null) {
-						imports.remove(path);
-						continue;
-					}
-					//
-					ANTLRInputStream input = new ANTLRInputStream(zip.getInputStream(entry));
-					JavaLexer lexer = new JavaLexer(input);
-					CommonTokenStream tokens = new CommonTokenStream(lexer);
-					JavaParser parser = new JavaParser(tokens);
-					ParseTree tree = parser.compilationUnit();
-					//
-					importsParseTrees.add(tree);
-					List<JavaClass> list = JavaClassExtractor.extractInfo("src.zip/" + path, tree);
-					importsClassInfos.add(list.toArray(new JavaClass[list.size()]));
+				record = analyzeImports(zip, imports);
+				if (record != null)
+					index.put(key, record);
+			}
+			if (index.isModified()) {
+				try {
+					index.save();
+				} catch (IOException ex) {
+					Logger.warn("Could not save library summaries: " + ex);
 				}
 			}
 		}
+	}
+	
+	/**
+	 * Parse the given imported entries of the library ZIP file, and analyze their 
+	 * DEF-USE information until a fixed-point; which is added to the DEF infos of this builder.
+	 * Returns the summaries of the imported entries; or null, if the analysis of imports
+	 * has changed any DEF info of the given files (e.g. due to a clash of class names),
+	 * so the summaries cannot be reused for other files with the same named signatures.
+	 */
+	private LibrarySummaryIndex.Record analyzeImports(ZipFile zip, Map<String, Boolean> imports) throws IOException {
+		List<String> projectDefInfos = summarizeAllDefInfos();
+		Logger.info("\nParsing imports ... ");
+		LibrarySummaryIndex.Record record = new LibrarySummaryIndex.Record();
+		List<ParseTree> importsParseTrees = new ArrayList<>();
+		List<JavaClass[]> importsClassInfos = new ArrayList<>();
+		for (Map.Entry<String, Boolean> imprt: imports.entrySet()) {
+			// library parse-trees are only used here, and are not cached
+			JavaSource source = JavaSource.read(zip, zip.getEntry(imprt.getKey()));
+			ParseTree tree = JavaParserFactory.parseCompilationUnit(source.toCharStream());
+			importsParseTrees.add(tree);
+			List<JavaClass> list = JavaClassExtractor.extractInfo("src.zip/" + imprt.getKey(), tree);
+			importsClassInfos.add(list.toArray(new JavaClass[list.size()]));
+			if (imprt.getValue())
+				for (JavaClass cls: list) 
+					allClassInfos.put(cls.NAME, cls);
+		}
 		Logger.info("Done.");
 		// 
-		for (JavaClass[] classArray: importsClassInfos) {
-			for (JavaClass cls : classArray) {
-				for (JavaMethod mtd : cls.getAllMethods()) {
-					List<MethodDefInfo> list = methodDEFs.get(mtd.NAME);
-					if (list == null) {
-						list = new ArrayList<>();
-						list.add(new MethodDefInfo(mtd.RET_TYPE, mtd.NAME, cls.PACKAGE, cls.NAME, mtd.ARG_TYPES));
-						methodDEFs.put(mtd.NAME, list);
-					} else {
-						list.add(new MethodDefInfo(mtd.RET_TYPE, mtd.NAME, cls.PACKAGE, cls.NAME, mtd.ARG_TYPES));
-						// no need to do 'methodDEFs.put(...)' again
-					}
+		int i = 0;
+		for (Map.Entry<String, Boolean> imprt: imports.entrySet()) {
+			JavaClass[] classes = importsClassInfos.get(i++);
+			MethodDefInfo[][] methods = new MethodDefInfo[classes.length][];
+			for (int c = 0; c < classes.length; ++c) {
+				JavaMethod[] clsMethods = classes[c].getAllMethods();
+				methods[c] = new MethodDefInfo[clsMethods.length];
+				for (int m = 0; m < clsMethods.length; ++m) {
+					JavaMethod mtd = clsMethods[m];
+					methods[c][m] = new MethodDefInfo(mtd.RET_TYPE, mtd.NAME, classes[c].PACKAGE, classes[c].NAME, mtd.ARG_TYPES);
+					addMethodDefInfo(methodDEFs, methods[c][m]);
 				}
 			}
+			record.add(imprt.getKey(), imprt.getValue(), new LibrarySummaryIndex.Summary(classes, methods));
 		}
 		//
 		Logger.info("\nAnalyzing imports DEF-USE ... ");
-		Map<ParserRuleContext, Object> dummyMap = new HashMap<>();
+		Map<ParserRuleContext, Object> dummyMap = new IdentityHashMap<>();
 		DataDependenceGraph dummyDDG = new DataDependenceGraph("Dummy.java");
 		boolean changed;
 		int iteration = 0;
 		do {
 			++iteration;
 			changed = false;
-			int i = 0;
-			for (String imprt: imports) {
-				currentFile = "src.zip/" + imprt;
-				DefUseVisitor defUse = new DefUseVisitor(iteration, importsClassInfos.get(i), dummyDDG, dummyMap);
+			i = 0;
+			for (String imprt: imports.keySet()) {
+				DefUseVisitor defUse = new DefUseVisitor(iteration, "src.zip/" + imprt, importsClassInfos.get(i), dummyDDG, dummyMap);
 				defUse.visit(importsParseTrees.get(i));
 				changed |= defUse.changed;
 				++i;
@@ -243,8 +751,37 @@ public class JavaDDGBuilder {
 		} while (changed);
 		Logger.info("Done.");
 		//
-		dummyDDG = null;
-		dummyMap.clear();
+		// the DEF infos of the project are only shared with the library ones (after the analysis)
+		List<String> libraryDefInfos = summarizeAllDefInfos();
+		for (LibrarySummaryIndex.Summary summary: record.summaries)
+			for (MethodDefInfo[] methods: summary.methods)
+				for (MethodDefInfo mtd: methods)
+					libraryDefInfos.remove(summarizeDefInfo(mtd));
+		return libraryDefInfos.equals(projectDefInfos) ? record : null;
+	}
+	
+	/**
+	 * Returns the sorted summaries of all method DEF infos of this builder.
+	 */
+	private List<String> summarizeAllDefInfos() {
+		List<String> summaries = new ArrayList<>();
+		for (List<MethodDefInfo> list: methodDEFs.values())
+			for (MethodDefInfo info: list)
+				summaries.add(summarizeDefInfo(info));
+		Collections.sort(summaries);
+		return summaries;
+	}
+	
+	/**
+	 * Add the given method DEF info to the list of methods with the same name.
+	 */
+	private static void addMethodDefInfo(Map<String, List<MethodDefInfo>> defInfos, MethodDefInfo mtd) {
+		List<MethodDefInfo> list = defInfos.get(mtd.NAME);
+		if (list == null) {
+			list = new ArrayList<>();
+			defInfos.put(mtd.NAME, list);
+		}
+		list.add(mtd);
 	}
 	
 	/**
@@ -281,6 +818,8 @@ public class JavaDDGBuilder {
 	/**
 	 * Traverses each CFG and uses the extracted DEF-USE info 
 	 * to add Flow-dependence edges to the corresponding DDG.
+	 * This is the legacy method which enumerates control-flow paths
+	 * from each definition; see ReachingDefinitions for the default.
 	 */
 	private static void addDataFlowEdges(ControlFlowGraph cfg, DataDependenceGraph ddg) {
 		Set<CFNode> visitedDefs = new LinkedHashSet<>();
@@ -293,7 +832,7 @@ public class JavaDDGBuilder {
 					defTraversal.continueNextPath();
 					continue;
 				}
-				PDNode defNode = (PDNode) defCFNode.getProperty("pdnode");
+				PDNode defNode = defCFNode.getPDNode();
 				if (defNode == null) {
 					//Logger.debug("No PDNode: " + defCFNode);
 					continue;
@@ -313,7 +852,7 @@ public class JavaDDGBuilder {
 					visitedUses.add(useCFNode);
 					while (useTraversal.hasNext()) {
 						useCFNode = useTraversal.next();
-						PDNode useNode = (PDNode) useCFNode.getProperty("pdnode");
+						PDNode useNode = useCFNode.getPDNode();
 						if (useNode == null) {
 							//Logger.debug("No PDNode: " + useCFNode);
 							continue;
@@ -334,7 +873,7 @@ public class JavaDDGBuilder {
 	/**
 	 * Visitor class which performs iterative DEF-USE analysis for all program statements.
 	 */
-	private static class DefUseVisitor extends JavaBaseVisitor<String> {
+	private class DefUseVisitor extends JavaBaseVisitor<String> {
 		
 		private static final int PARAM = 1;
 		private static final int FIELD = 101;
@@ -352,10 +891,14 @@ public class JavaDDGBuilder {
 		private MethodDefInfo methodDefInfo;
 		private JavaField[] methodParams;
 		private List<JavaField> localVars;
+		private Set<MethodDefInfo> referencedDefs;
+		private Set<MethodDefInfo> modifiedDefs;
+		private List<MethodUnit> units;
+		private MethodUnit currentUnit;
 		
-		public DefUseVisitor(int iter, JavaClass[] classInfos, 
+		public DefUseVisitor(int iter, String fileName, JavaClass[] classInfos, 
 				DataDependenceGraph ddg, Map<ParserRuleContext, Object> pdNodes) {
-			Logger.debug("FILE IS: " + currentFile);
+			Logger.debug("FILE IS: " + fileName);
 			this.ddg = ddg;
 			changed = false;
 			iteration = iter;
@@ -369,6 +912,51 @@ public class JavaDDGBuilder {
 			methodDefInfo = null;
 			methodParams = new JavaField[0];
 			localVars = new ArrayList<>();
+			referencedDefs = null;
+			modifiedDefs = null;
+			units = null;
+			currentUnit = null;
+		}
+		
+		/**
+		 * Record the given method-definition-info as referenced by the current file.
+		 */
+		private MethodDefInfo referenced(MethodDefInfo defInfo) {
+			if (defInfo != null && referencedDefs != null)
+				referencedDefs.add(defInfo);
+			if (defInfo != null && currentUnit != null)
+				currentUnit.calledDefs.add(defInfo);
+			return defInfo;
+		}
+		
+		/**
+		 * Record the given method-definition-info as declared by the current method.
+		 */
+		private MethodDefInfo declared(MethodDefInfo defInfo) {
+			if (defInfo != null && referencedDefs != null)
+				referencedDefs.add(defInfo);
+			return defInfo;
+		}
+		
+		/**
+		 * Start a new method unit for the given method declaration, if units are being collected.
+		 * Returns the unit of the enclosing method (if any), which should be restored afterwards.
+		 */
+		private MethodUnit enterUnit(ParserRuleContext ctx) {
+			MethodUnit outerUnit = currentUnit;
+			if (units != null) {
+				currentUnit = new MethodUnit(ctx, activeClasses.toArray(new JavaClass[activeClasses.size()]));
+				units.add(currentUnit);
+			}
+			return outerUnit;
+		}
+		
+		/**
+		 * Record a change of the given method-definition-info, if modifications are tracked.
+		 */
+		private void modified(MethodDefInfo defInfo) {
+			if (modifiedDefs != null)
+				modifiedDefs.add(defInfo);
 		}
 		
 		private void analyseDefUse(PDNode node, ParseTree expression) {
@@ -397,10 +985,12 @@ public class JavaDDGBuilder {
 				int status = isDefined(def);
 				if (status > -1) {
 					if (status < 100) {
-						methodDefInfo.setArgDEF(status, true);
+						if (methodDefInfo.setArgDEF(status, true))
+							modified(methodDefInfo);
 						Logger.debug("Method defines argument #" + status);
 					} else if (status == FIELD) {
-						methodDefInfo.setStateDEF(true);
+						if (methodDefInfo.setStateDEF(true))
+							modified(methodDefInfo);
 						if (def.startsWith("this."))
 							def = def.substring(5);
 						def = "$THIS." + def;
@@ -716,6 +1306,7 @@ public class JavaDDGBuilder {
 		@Override
 		public String visitConstructorDeclaration(JavaParser.ConstructorDeclarationContext ctx) {
 			// Identifier formalParameters ('throws' qualifiedNameList)?  constructorBody
+			MethodUnit outerUnit = enterUnit(ctx);
 			PDNode entry;
 			if (iteration == 1) {
 				entry = new PDNode();
@@ -754,7 +1345,9 @@ public class JavaDDGBuilder {
 				methodParams = (JavaField[]) entry.getProperty("params");
 			}
 
-			methodDefInfo = findDefInfo((String) entry.getProperty("name"), null, methodParams);
+			methodDefInfo = declared(findDefInfo((String) entry.getProperty("name"), null, methodParams));
+			if (currentUnit != null)
+				currentUnit.ownDef = methodDefInfo;
 
 			if (methodDefInfo == null) {
 				Logger.error("Constructor NOT FOUND!");
@@ -774,6 +1367,7 @@ public class JavaDDGBuilder {
 			//
 			localVars.clear();
 			methodParams = new JavaField[0];
+			currentUnit = outerUnit;
 			return null;
 		}
 		
@@ -792,6 +1386,7 @@ public class JavaDDGBuilder {
 			//
 			// lastFormalParameter :  variableModifier* typeType '...' variableDeclaratorId
 			//
+			MethodUnit outerUnit = enterUnit(ctx);
 			PDNode entry;
 			if (iteration == 1) {
 				entry = new PDNode();
@@ -835,8 +1430,10 @@ public class JavaDDGBuilder {
 				methodParams = (JavaField[]) entry.getProperty("params");
 			}
 			
-			methodDefInfo = findDefInfo((String) entry.getProperty("name"), 
-										(String) entry.getProperty("type"),	methodParams);
+			methodDefInfo = declared(findDefInfo((String) entry.getProperty("name"), 
+										(String) entry.getProperty("type"),	methodParams));
+			if (currentUnit != null)
+				currentUnit.ownDef = methodDefInfo;
 			if (methodDefInfo == null) {
 				Logger.error("Method NOT FOUND!");
 				Logger.error("NAME = " + (String) entry.getProperty("name"));
@@ -856,6 +1453,7 @@ public class JavaDDGBuilder {
 			//
 			localVars.clear();
 			methodParams = new JavaField[0];
+			currentUnit = outerUnit;
 			return null;
 		}
 		
@@ -1409,7 +2007,7 @@ public class JavaDDGBuilder {
 				args.append(arg);
 				if (isUsableExpression(arg)) {
 					useList.add(arg);
-					if (defInfo != null && defInfo.argDEFs()[0])
+					if (defInfo != null && defInfo.doesArgDEF(0))
 						defList.add(arg);
 				}
 				for (int i = 1; i < argsList.size(); ++i) {
@@ -1417,7 +2015,7 @@ public class JavaDDGBuilder {
 					args.append(", ").append(arg);
 					if (isUsableExpression(arg)) {
 						useList.add(arg);
-						if (defInfo != null && defInfo.argDEFs()[i])
+						if (defInfo != null && defInfo.doesArgDEF(i))
 							defList.add(arg);
 					}
 				}
@@ -1454,7 +2052,7 @@ public class JavaDDGBuilder {
 				methodName = callExpression;
 			}
 			//
-			MethodDefInfo defInfo = findDefInfo(callee, methodName, ctx.expressionList());
+			MethodDefInfo defInfo = referenced(findDefInfo(callee, methodName, ctx.expressionList()));
 			Logger.debug("FIND DEF RESULT: " + defInfo);
 			Logger.debug("---");
 			if (callee != null && defInfo != null && defInfo.doesStateDEF())
@@ -1522,7 +2120,7 @@ public class JavaDDGBuilder {
 			} else {
 				// class constructor ...
 				JavaParser.ArgumentsContext argsCtx = ctx.creator().classCreatorRest().arguments();
-				MethodDefInfo defInfo = findDefInfo(null, creator, argsCtx.expressionList());
+				MethodDefInfo defInfo = referenced(findDefInfo(null, creator, argsCtx.expressionList()));
 				rest = '(' + visitMethodArgs(argsCtx.expressionList(), defInfo) + ')';
 			}
 			return "$NEW " + creator + rest;
@@ -1544,7 +2142,7 @@ public class JavaDDGBuilder {
 			String creator = ctx.innerCreator().Identifier().getText();
 			// 3rd process constructor arguments ...
 			JavaParser.ArgumentsContext argsCtx = ctx.innerCreator().classCreatorRest().arguments();
-			MethodDefInfo defInfo = findDefInfo(null, creator, argsCtx.expressionList());
+			MethodDefInfo defInfo = referenced(findDefInfo(null, creator, argsCtx.expressionList()));
 			String rest = '(' + visitMethodArgs(argsCtx.expressionList(), defInfo) + ')';
 			return expression + ".$NEW " + creator + rest;
 		}
@@ -1936,6 +2534,7 @@ public class JavaDDGBuilder {
 
 /**
  * A simple structure to store DEF information about a Java method.
+ * The DEF info can be updated (only monotonically) from concurrent DEF-USE visitors.
  * 
  * @author Seyed Mohammad Ghaffarian
  */
@@ -1949,7 +2548,7 @@ class MethodDefInfo {
 	public final String[] PARAM_TYPES;
 	
 	// DEF Info
-	private boolean stateDEF;
+	private volatile boolean stateDEF;
 	private boolean[] argDEFs;
 	private List<String> fieldDEFs;
 	
@@ -1965,6 +2564,18 @@ class MethodDefInfo {
 		argDEFs = new boolean[PARAM_TYPES.length];  // all initialized to 'false'
 	}
 
+	/**
+	 * Construct a method DEF info with the given (previously computed) DEF info;
+	 * instead of the initial guess, which is only valid at the start of the analysis.
+	 */
+	public MethodDefInfo(String ret, String name, String pkg, String cls, String[] args,
+						boolean stateDef, boolean[] argDefs, String[] fieldDefs) {
+		this(ret, name, pkg, cls, args);
+		fieldDEFs.addAll(Arrays.asList(fieldDefs));
+		stateDEF = stateDef;
+		argDEFs = Arrays.copyOf(argDefs, PARAM_TYPES.length);
+	}
+
 	private boolean guessByTypeOrName() {
 		// First check if this method is a constructor ...
 		if (RET_TYPE == null)
@@ -1981,27 +2592,48 @@ class MethodDefInfo {
 		return stateDEF;
 	}
 
-	public void setStateDEF(boolean stateDef) {
-		stateDEF = stateDef;
+	/**
+	 * Mark this method as defining the object state, if the given DEF is true.
+	 * As with the other DEF info, it is only added and never removed.
+	 * Returns true if the state-DEF info is changed.
+	 */
+	public synchronized boolean setStateDEF(boolean stateDef) {
+		boolean changed = stateDef && !stateDEF;
+		stateDEF |= stateDef;
+		return changed;
 	}
 
-	public boolean[] argDEFs() {
-		return argDEFs;
-	}
-	
-	public void setArgDEF(int argIndex, boolean def) {
-		argDEFs[argIndex] = def;
+	/**
+	 * Returns a copy of the DEF info of all arguments.
+	 */
+	public synchronized boolean[] argDEFs() {
+		return argDEFs.clone();
 	}
 
-	public void setAllArgDEFs(boolean[] argDefs) {
-		argDEFs = argDefs;
+	/**
+	 * Returns whether the given argument is defined by this method.
+	 */
+	public synchronized boolean doesArgDEF(int argIndex) {
+		return argDEFs[argIndex];
+	}
+	
+	/**
+	 * Mark the given argument as defined by this method.
+	 * During the DEF-USE analysis, DEF info is only added and never removed;
+	 * hence concurrent readers may only miss a recent update, until the next iteration.
+	 * Returns true if the argument DEF info is changed.
+	 */
+	public synchronized boolean setArgDEF(int argIndex, boolean def) {
+		boolean changed = def && !argDEFs[argIndex];
+		argDEFs[argIndex] |= def;
+		return changed;
 	}
 
-	public String[] fieldDEFs() {
+	public synchronized String[] fieldDEFs() {
 		return fieldDEFs.toArray(new String[fieldDEFs.size()]);
 	}
 
-	public void addFieldDEF(String fieldName) {
+	public synchronized void addFieldDEF(String fieldName) {
 		if (!fieldDEFs.contains(fieldName)) {
 			fieldDEFs.add(fieldName);
 			stateDEF = true;
@@ -2031,3 +2663,25 @@ class MethodDefInfo {
 		return str.toString();
 	}
 }
+
+/**
+ * A method (or constructor) declaration, as a unit of the DEF-USE analysis.
+ * 
+ * @author Seyed Mohammad Ghaffarian
+ */
+class MethodUnit {
+	
+	public final ParserRuleContext ctx;
+	public final JavaClass[] classes;  // enclosing classes, innermost first
+	public final Set<MethodDefInfo> calledDefs;
+	public MethodDefInfo ownDef;
+	public int file;
+	
+	public MethodUnit(ParserRuleContext ctx, JavaClass[] classes) {
+		this.ctx = ctx;
+		this.classes = classes;
+		calledDefs = Collections.newSetFromMap(new IdentityHashMap<MethodDefInfo, Boolean>());
+		ownDef = null;
+		file = -1;
+	}
+}
@@ -3,71 +3,91 @@ package ghaffarian.progex.java;
 
 import ghaffarian.graphs.*;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
+import ghaffarian.progex.AnalysisSession;
 import ghaffarian.progex.graphs.cfg.CFEdge;
 import ghaffarian.progex.graphs.cfg.CFNode;
 import ghaffarian.progex.graphs.cfg.ControlFlowGraph;
 import ghaffarian.progex.java.parser.JavaBaseVisitor;
-import ghaffarian.progex.java.parser.JavaLexer;
 import ghaffarian.progex.java.parser.JavaParser;
 
 /**
  * A Interprocedural Control Flow Graph (ICFG) builder for Java programs. 
  * A Java parser generated via ANTLRv4 is used
  * for this purpose. This implementation is based on ANTLRv4's Visitor pattern.
+ * Builds are reentrant; the state of each build is kept in its own builder instance.
  *
  * @author Hossein Homaei, Seyed Mohammad Ghaffarian
  */
 public class JavaICFGBuilder {
 
-	private static ArrayList<JavaClass> javaClasses = new ArrayList<>();
-	private static ArrayList<JavaClass> alwaysAvailableClasses = new ArrayList<>();
-	private static ArrayList<JavaClass> currentFileClasses = new ArrayList<>();
+	// Per-run state; each build is a new instance of this builder
+	private final AnalysisSession session;
+	private final ArrayList<JavaClass> javaClasses;
+	private final ArrayList<JavaClass> alwaysAvailableClasses;
+	private final ArrayList<JavaClass> currentFileClasses;
+	private JavaSymbolIndex projectIndex;
+
+	private JavaICFGBuilder(AnalysisSession session) {
+		this.session = session;
+		javaClasses = new ArrayList<>();
+		alwaysAvailableClasses = new ArrayList<>();
+		currentFileClasses = new ArrayList<>();
+		projectIndex = null;
+	}
 
 	public static ControlFlowGraph buildForAll(String[] javaFilePaths) throws IOException {
+		try (AnalysisSession session = AnalysisSession.newDefault()) {
+			return buildForAll(session, javaFilePaths);
+		}
+	}
+
+	public static ControlFlowGraph buildForAll(AnalysisSession session, String[] javaFilePaths) throws IOException {
 		File[] javaFiles = new File[javaFilePaths.length];
 		for (int i = 0; i < javaFiles.length; ++i) 
 			javaFiles[i] = new File(javaFilePaths[i]);
-		return buildForAll(javaFiles);
+		return buildForAll(session, javaFiles);
 	}
 
 	public static ControlFlowGraph buildForAll(File[] javaFiles) throws IOException {
+		try (AnalysisSession session = AnalysisSession.newDefault()) {
+			return buildForAll(session, javaFiles);
+		}
+	}
+
+	public static ControlFlowGraph buildForAll(AnalysisSession session, File[] javaFiles) throws IOException {
+		return new JavaICFGBuilder(session).build(javaFiles);
+	}
+
+	private ControlFlowGraph build(File[] javaFiles) throws IOException {
 		//Map<ParserRuleContext, MethodKey>[] ctxToKey = new Map<ParserRuleContext, MethodKey>[files.length];
 		// Parse all Java source files
 		ParseTree[] parseTrees = new ParseTree[javaFiles.length];
-		for (int i = 0; i < javaFiles.length; i++) {
-			InputStream is = new FileInputStream(javaFiles[i]);
-			ANTLRInputStream input = new ANTLRInputStream(is);
-			JavaLexer lexer = new JavaLexer(input);
-			CommonTokenStream tokens = new CommonTokenStream(lexer);
-			JavaParser parser = new JavaParser(tokens);
-			parseTrees[i] = parser.compilationUnit();
-		}
+		for (int i = 0; i < javaFiles.length; i++)
+			parseTrees[i] = session.getParseTreeCache().parse(javaFiles[i]);
 
 		//Extract all class-info
 		for (File javaFile : javaFiles) {
 			try {
-				for (JavaClass jc : JavaClassExtractor.extractInfo(javaFile)) 
+				for (JavaClass jc : JavaClassExtractor.extractInfo(session, javaFile)) 
 					javaClasses.add(jc);
 			} catch (IOException ex) {
 				System.err.println(ex);
 			}
 		}
+		projectIndex = new JavaSymbolIndex(javaClasses);
 		//Extract Java Lang class Info
 		alwaysAvailableClasses.addAll(JavaClassExtractor.extractJavaLangInfo());
 
@@ -121,7 +141,7 @@ public class JavaICFGBuilder {
 						exitpoints.add(node);
 					}
 				}
-				entry.setProperty("exits", exitpoints);
+				entry.setExits(exitpoints);
 				icfg.addGraph(cfg);
 				icfg.addMethodEntry(entry);
 			}
@@ -131,7 +151,7 @@ public class JavaICFGBuilder {
 		Map<MethodKey, CFNode> keyToEntry = new HashMap<>();
 		CFNode[] entries = icfg.getAllMethodEntries();
 		for (CFNode node : entries) {
-			MethodKey key = new MethodKey((String) node.getProperty("packageName"), (String) node.getProperty("class"), (String) node.getProperty("name"), node.getLineOfCode());
+			MethodKey key = new MethodKey((String) node.getProperty("packageName"), node.getClassName(), node.getName(), node.getLineOfCode());
 			keyToEntry.put(key, node);
 		}
 
@@ -152,7 +172,7 @@ public class JavaICFGBuilder {
 						// add CALLS edge from 'node' to 'entry'
 						if (!icfg.containsEdge(node, entry)) {
 							icfg.addEdge(new Edge<>(node, new CFEdge(CFEdge.Type.CALLS/*, counter++*/), entry));
-							for (CFNode exitNode : (ArrayList<CFNode>) entry.getProperty("exits")) {
+							for (CFNode exitNode : entry.getExits()) {
 								icfg.addEdge(new Edge<>(exitNode, new CFEdge(CFEdge.Type.RETURN), node));
 							}
 						}
@@ -165,9 +185,11 @@ public class JavaICFGBuilder {
 		return icfg;
 	}
 
-	private static class ICFGVisitor extends JavaBaseVisitor<String> {
+	private class ICFGVisitor extends JavaBaseVisitor<String> {
 
-		private ArrayList<JavaClass> availableClasses;
+		private HashSet<JavaClass> availableClasses;
+		private HashMap<String, JavaClass> availableClassesByName;
+		private HashMap<String, JavaClass> resolvedClasses;
 		private Deque<JavaClass> activeClasses;
 		private LinkedHashMap<String, String> globalVariables;
 		private LinkedHashMap<String, JavaClass> localVariables;
@@ -182,7 +204,9 @@ public class JavaICFGBuilder {
 			activeClasses = new ArrayDeque<>();
 			globalVariables = new LinkedHashMap<>();
 			localVariables = new LinkedHashMap<>();
-			availableClasses = new ArrayList<>();
+			availableClasses = new HashSet<>();
+			availableClassesByName = new HashMap<>();
+			resolvedClasses = new HashMap<>();
 			// = new ArrayList<>();
 			currentPackageName = "";
 			returnMethod = new ArrayList<>();
@@ -190,8 +214,19 @@ public class JavaICFGBuilder {
 			notImplemented = new JavaMethod("", false, false, "", "NULL", null, 0);
 			contextualProperties = new HashMap<>();
 			currentContext = null;
-			availableClasses.addAll(alwaysAvailableClasses);
-			availableClasses.addAll(currentFileClasses);
+			for (JavaClass jc : alwaysAvailableClasses)
+				addAvailableClass(jc);
+			for (JavaClass jc : currentFileClasses)
+				addAvailableClass(jc);
+		}
+
+		/**
+		 * Make the given class available for name resolution; a simple name
+		 * always resolves to the first available class with that name.
+		 */
+		private void addAvailableClass(JavaClass jc) {
+			availableClasses.add(jc);
+			availableClassesByName.putIfAbsent(jc.NAME, jc);
 		}
 
 		@Override
@@ -200,10 +235,8 @@ public class JavaICFGBuilder {
 			//annotation* 'package' qualifiedName ';'
 			currentPackageName = ctx.qualifiedName().getText();
 			//All classes of a package can be used in other files in the same package
-			for (JavaClass jc : javaClasses) {
-				if (jc.PACKAGE.equals(currentPackageName)) {
-					availableClasses.add(jc);
-				}
+			for (JavaClass jc : projectIndex.getPackageClasses(currentPackageName)) {
+				addAvailableClass(jc);
 			}
 			return null;
 		}
@@ -218,16 +251,12 @@ public class JavaICFGBuilder {
 			String importedPackage = ctx.qualifiedName().getText();
 
 			if (ctx.getText().contains(".*")) {
-				for (JavaClass jc : javaClasses) {
-					if (importedPackage.equals(jc.PACKAGE)) {
-						availableClasses.add(jc);
-					}
+				for (JavaClass jc : projectIndex.getPackageClasses(importedPackage)) {
+					addAvailableClass(jc);
 				}
 			} else {
-				for (JavaClass jc : javaClasses) {
-					if (importedPackage.equals(jc.PACKAGE + '.' + jc.NAME)) {
-						availableClasses.add(jc);
-					}
+				for (JavaClass jc : projectIndex.getClasses(importedPackage)) {
+					addAvailableClass(jc);
 				}
 			}
 			return null;
@@ -236,11 +265,9 @@ public class JavaICFGBuilder {
 		@Override
 		public String visitClassDeclaration(JavaParser.ClassDeclarationContext ctx) {
 
-			for (JavaClass jc : javaClasses) {
-				if (jc.NAME.equals(ctx.Identifier().getText()) && jc.PACKAGE.equals(currentPackageName)) {
-					activeClasses.push(jc);
-					break;
-				}
+			JavaClass declared = projectIndex.findClass(currentPackageName, ctx.Identifier().getText());
+			if (declared != null) {
+				activeClasses.push(declared);
 			}
 
 			//Add current class fields to he global variables list
@@ -254,7 +281,7 @@ public class JavaICFGBuilder {
 			try {
 				for (JavaClass jc : JavaClassExtractor.extractImportsInfo(activeClasses.peek().IMPORTS)) {
 					if (!availableClasses.contains(jc)) {
-						availableClasses.add(jc);
+						addAvailableClass(jc);
 					}
 				}
 
@@ -919,11 +946,7 @@ public class JavaICFGBuilder {
 			}
 			//currentClass = activeClasses.peek();
 
-			for (JavaMethod jm : currentClass.getAllMethods()) {
-				if (jm.NAME.equals(methodName)) {
-					matchedMethods.add(jm);
-				}
-			}
+			matchedMethods.addAll(currentClass.getMethods(methodName));
 
 			if (!matchedMethods.isEmpty()) {
 				return matchedMethods;
@@ -943,31 +966,17 @@ public class JavaICFGBuilder {
 			if (cls == null) {
 				return null;
 			}
-			String fieldType = null;
-			for (JavaField jf : cls.getAllFields()) {
-				if (jf.NAME.equals(fieldName)) {
-					fieldType = jf.TYPE;
-				}
-			}
-			return findClassbyName(fieldType);
+			JavaField field = cls.getField(fieldName);
+			return findClassbyName(field == null ? null : field.TYPE);
 
 		}
 
 		private JavaClass findVariableType(String var) {
-			if (!localVariables.isEmpty()) {
-				for (String str : localVariables.keySet()) {
-					if (str.equals(var)) {
-						return localVariables.get(str);
-					}
-				}
+			if (localVariables.containsKey(var)) {
+				return localVariables.get(var);
 			}
-
-			if (!globalVariables.isEmpty()) {
-				for (String str : globalVariables.keySet()) {
-					if (str.equals(var)) {
-						return findClassbyName(globalVariables.get(str));
-					}
-				}
+			if (globalVariables.containsKey(var)) {
+				return findClassbyName(globalVariables.get(var));
 			}
 			return null;
 		}
@@ -977,6 +986,13 @@ public class JavaICFGBuilder {
 			if (className == null) {
 				return null;
 			}
+			// resolved names (and generic instances) never change, since
+			// a simple name always resolves to the first available class
+			JavaClass resolved = resolvedClasses.get(className);
+			if (resolved != null) {
+				return resolved;
+			}
+			String fullName = className;
 
 			StringBuilder clsName = new StringBuilder(className);
 			String genericTypes = null;
@@ -987,11 +1003,11 @@ public class JavaICFGBuilder {
 			}
 			className = clsName.toString();
 
-			for (JavaClass jc : availableClasses) {
-				if (jc.NAME.equals(className)) {
-					JavaClass cls = classInstantiate(jc, genericTypes);
-					return cls;
-				}
+			JavaClass jc = availableClassesByName.get(className);
+			if (jc != null) {
+				JavaClass cls = classInstantiate(jc, genericTypes);
+				resolvedClasses.put(fullName, cls);
+				return cls;
 			}
 			return null;
 		}
@@ -3,8 +3,12 @@ package ghaffarian.progex.java;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.function.BiPredicate;
+import ghaffarian.progex.AnalysisSession;
+import ghaffarian.progex.graphs.GraphOutput;
 import ghaffarian.progex.graphs.pdg.ControlDependenceGraph;
 import ghaffarian.progex.graphs.pdg.DataDependenceGraph;
+import ghaffarian.progex.graphs.pdg.PostDominators;
 import ghaffarian.progex.graphs.pdg.ProgramDependeceGraph;
 
 /**
@@ -16,38 +20,138 @@ import ghaffarian.progex.graphs.pdg.ProgramDependeceGraph;
  */
 public class JavaPDGBuilder {
 	
+	/**
+	 * Set whether the control dependence subgraphs are built by the syntactic visitor 
+	 * (the default, which also adds region nodes for branches and loops), instead of 
+	 * computing post-dominator trees on the CFGs built for the DDGs.
+	 * Both kinds of CDGs share the nodes of the DDGs (for the same statements);
+	 * but they are different dependences: the syntactic CDGs follow the nesting
+	 * of statements (with heuristics for jumps), while the post-dominator CDGs are
+	 * the control dependences of the CFGs; so the former cannot be derived from
+	 * the latter. The post-dominator CDGs have no region nodes and no jump nodes,
+	 * add an 'exit' node for each method, and their edges are labeled as the CFG edges.
+	 * This is the option of the default session (see AnalysisSession.getDefault).
+	 */
+	public static void setSyntacticCDG(boolean syntactic) {
+		AnalysisSession.getDefault().setSyntacticCDG(syntactic);
+	}
+	
+	/**
+	 * Returns a short name of the current control dependence engine;
+	 * which is used for distinguishing the results of different engines.
+	 */
+	public static String getCDGEngine() {
+		return getCDGEngine(AnalysisSession.getDefault());
+	}
+	
+	/**
+	 * Returns a short name of the control dependence engine of the given session.
+	 */
+	public static String getCDGEngine(AnalysisSession session) {
+		return session.isSyntacticCDG() ? "syntactic-cdg" : "postdom-cdg";
+	}
+	
 	/**
 	 * Builds and returns Program Dependence Graphs (PDG) for each given Java file.
 	 */
 	public static ProgramDependeceGraph[] buildForAll(String[] javaFilePaths) throws IOException {
+		return buildForAll(javaFilePaths, null);
+	}
+	
+	/**
+	 * Builds and returns Program Dependence Graphs (PDG) for the given Java files,
+	 * which are accepted by the given filter; the PDG of other files are null.
+	 */
+	public static ProgramDependeceGraph[] buildForAll(String[] javaFilePaths, 
+			BiPredicate<String, String> filter) throws IOException {
+		try (AnalysisSession session = AnalysisSession.newDefault()) {
+			return buildForAll(session, javaFilePaths, filter);
+		}
+	}
+	
+	/**
+	 * Builds and returns Program Dependence Graphs (PDG) for the given Java files,
+	 * with the options of the given analysis session.
+	 */
+	public static ProgramDependeceGraph[] buildForAll(AnalysisSession session, String[] javaFilePaths, 
+			BiPredicate<String, String> filter) throws IOException {
 		File[] javaFiles = new File[javaFilePaths.length];
 		for (int i = 0; i < javaFiles.length; ++i)
 			javaFiles[i] = new File(javaFilePaths[i]);
-		return buildForAll(javaFiles);
+		return buildForAll(session, javaFiles, filter);
 	}
 	
 	/**
 	 * Builds and returns Program Dependence Graphs (PDG) for each given Java file.
 	 */
 	public static ProgramDependeceGraph[] buildForAll(File[] javaFiles) throws IOException {
-		
+		return buildForAll(javaFiles, null);
+	}
+	
+	/**
+	 * Builds and returns Program Dependence Graphs (PDG) for the given Java files,
+	 * which are accepted by the given filter; the PDG of other files are null.
+	 * See JavaDDGBuilder for the details of the filter parameters.
+	 */
+	public static ProgramDependeceGraph[] buildForAll(File[] javaFiles, 
+			BiPredicate<String, String> filter) throws IOException {
+		try (AnalysisSession session = AnalysisSession.newDefault()) {
+			return buildForAll(session, javaFiles, filter);
+		}
+	}
+	
+	/**
+	 * Builds and returns Program Dependence Graphs (PDG) for the given Java files,
+	 * with the options of the given analysis session.
+	 */
+	public static ProgramDependeceGraph[] buildForAll(AnalysisSession session, File[] javaFiles, 
+			BiPredicate<String, String> filter) throws IOException {
+		// the syntactic CDGs are built along with the DDGs, on the same parse-trees
+		if (session.isSyntacticCDG())
+			return JavaDDGBuilder.buildPDGs(session, javaFiles, filter);
+		//
+		DataDependenceGraph[] dataSubgraphs;
+		dataSubgraphs = JavaDDGBuilder.buildForAll(session, javaFiles, filter);
+        //
 		ControlDependenceGraph[] ctrlSubgraphs;
 		ctrlSubgraphs = new ControlDependenceGraph[javaFiles.length];
-		for (int i = 0; i < javaFiles.length; ++i)
-			ctrlSubgraphs[i] = JavaCDGBuilder.build(javaFiles[i]);
-        //
-		DataDependenceGraph[] dataSubgraphs;
-		dataSubgraphs = JavaDDGBuilder.buildForAll(javaFiles);
+		for (int i = 0; i < javaFiles.length; ++i) {
+			if (dataSubgraphs[i] != null)
+				ctrlSubgraphs[i] = PostDominators.buildCDG(dataSubgraphs[i].getCFG());
+		}
         //
 		// Join the subgraphs into PDGs
 		ProgramDependeceGraph[] pdgArray = new ProgramDependeceGraph[javaFiles.length];
 		for (int i = 0; i < javaFiles.length; ++i) {
-			pdgArray[i] = new ProgramDependeceGraph(javaFiles[i].getName(), 
-					ctrlSubgraphs[i], dataSubgraphs[i]);
+			if (dataSubgraphs[i] != null)
+				pdgArray[i] = new ProgramDependeceGraph(javaFiles[i].getName(), 
+						ctrlSubgraphs[i], dataSubgraphs[i]);
 		}
 		
 		return pdgArray;
 	}
+	
+	/**
+	 * Builds the Program Dependence Graphs (PDG) of the given Java files one file at a time,
+	 * with the options of the given analysis session, and passes each PDG to the given output;
+	 * so the PDG of each file is discarded after its output (see JavaDDGBuilder.buildForEach).
+	 * A file which is not accepted by the filter is passed as a null graph.
+	 */
+	public static void buildForEach(AnalysisSession session, File[] javaFiles, 
+			BiPredicate<String, String> filter, GraphOutput<ProgramDependeceGraph> output) throws IOException {
+		if (session.isSyntacticCDG()) {
+			JavaDDGBuilder.buildEachPDG(session, javaFiles, filter, output);
+			return;
+		}
+		JavaDDGBuilder.buildForEach(session, javaFiles, filter, (javaFile, dataSubgraph) -> {
+			if (dataSubgraph == null) {
+				output.write(javaFile, null);
+				return;
+			}
+			ControlDependenceGraph ctrlSubgraph = PostDominators.buildCDG(dataSubgraph.getCFG());
+			output.write(javaFile, new ProgramDependeceGraph(javaFile.getName(), ctrlSubgraph, dataSubgraph));
+		});
+	}
 
 }
 
@@ -0,0 +1,116 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.java;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import ghaffarian.nanologger.Logger;
+import ghaffarian.progex.java.parser.JavaLexer;
+import ghaffarian.progex.java.parser.JavaParser;
+
+/**
+ * The single place where Java source code is parsed by all builders.
+ *
+ * Parsing is done in two stages: first with the SLL prediction mode of ANTLR and
+ * a bail-out error strategy, which is much faster and succeeds for almost all valid
+ * programs; and only if that fails, the tokens are parsed again with the full LL
+ * prediction mode and the default error strategy (i.e. the same as a plain parser).
+ * For valid programs both stages result in the same parse-tree; and invalid programs
+ * get the same error reports and recovery as before.
+ *
+ * The number of parses, and the number of parses which needed the LL stage, are counted.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public final class JavaParserFactory {
+
+	// Parse with SLL first, and fall back to LL on failure (disabled only for verification)
+	private static volatile boolean twoStage = true;
+
+	private static final AtomicLong parses = new AtomicLong();
+	private static final AtomicLong fallbacks = new AtomicLong();
+
+	private JavaParserFactory() {
+	}
+
+	/**
+	 * Set whether the two-stage (SLL then LL) parsing is used;
+	 * otherwise every source is parsed with the full LL prediction mode.
+	 */
+	public static void setTwoStage(boolean enabled) {
+		twoStage = enabled;
+	}
+
+	public static boolean isTwoStage() {
+		return twoStage;
+	}
+
+	/**
+	 * Lex and parse the given Java source code, and return its compilation-unit parse-tree.
+	 */
+	public static ParseTree parseCompilationUnit(CharStream input) {
+		return parseCompilationUnit(new CommonTokenStream(new JavaLexer(input)));
+	}
+
+	/**
+	 * Parse the given stream of Java tokens, and return its compilation-unit parse-tree.
+	 * The token stream must be seekable to its start, in case of the LL stage.
+	 */
+	public static ParseTree parseCompilationUnit(TokenStream tokens) {
+		parses.incrementAndGet();
+		JavaParser parser = new JavaParser(tokens);
+		if (!twoStage)
+			return parser.compilationUnit();
+		parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+		parser.setErrorHandler(new BailErrorStrategy());
+		parser.removeErrorListeners();
+		try {
+			return parser.compilationUnit();
+		} catch (ParseCancellationException ex) {
+			fallbacks.incrementAndGet();
+			// rewinds the token stream as well
+			parser.reset();
+			parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+			parser.setErrorHandler(new DefaultErrorStrategy());
+			parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+			return parser.compilationUnit();
+		}
+	}
+
+	/**
+	 * Returns the number of sources parsed since the start (or the last reset).
+	 */
+	public static long getParseCount() {
+		return parses.get();
+	}
+
+	/**
+	 * Returns the number of sources which needed the LL stage since the start (or the last reset).
+	 */
+	public static long getFallbackCount() {
+		return fallbacks.get();
+	}
+
+	/**
+	 * Reset the counters of parses and fallbacks.
+	 */
+	public static void resetStats() {
+		parses.set(0);
+		fallbacks.set(0);
+	}
+
+	/**
+	 * Log the usage statistics of the parsers.
+	 */
+	public static void logStats(Logger.Level level) {
+		Logger.log(String.format("Java parser: %d parses, %d with LL fallback (%s)",
+				parses.get(), fallbacks.get(), twoStage ? "SLL-LL" : "LL"), level);
+	}
+}
@@ -0,0 +1,295 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.java;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * The content of a Java source file, as loaded for the lexer;
+ * this is how all Java parsers read their input.
+ *
+ * Files are read through a FileChannel, with a single read into an array of
+ * the exact size of the file; and large files are memory-mapped instead.
+ * The channel is always closed after loading.
+ *
+ * Most source files are pure ASCII, and for these the lexer input is a CharStream
+ * directly over the loaded bytes; so the content is neither decoded nor copied
+ * (and takes one byte per character, for as long as its tokens are alive).
+ * Other files are decoded as UTF-8 once, into a reusable buffer of each thread,
+ * and from there into a character array of the exact length.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public final class JavaSource {
+
+	// Files of at least this size are memory-mapped; smaller files are cheaper to read.
+	// Since the mapping is kept until its last token is collected, this also
+	// bounds the number of live mappings, when many parse-trees are cached.
+	private static final long MAP_THRESHOLD = 256 * 1024;
+
+	private static final ThreadLocal<CharBuffer> DECODE_BUFFER =
+			ThreadLocal.withInitial(() -> CharBuffer.allocate(64 * 1024));
+
+	private final String name;
+	private final ByteBuffer content;
+
+	private JavaSource(String name, ByteBuffer content) {
+		this.name = name;
+		this.content = content;
+	}
+
+	/**
+	 * Load the content of the given Java source file.
+	 */
+	public static JavaSource read(File javaFile) throws IOException {
+		try (FileChannel channel = FileChannel.open(javaFile.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+				throw new IOException("Source file is too large: " + javaFile);
+			ByteBuffer content;
+			if (size >= MAP_THRESHOLD) {
+				content = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			} else {
+				content = ByteBuffer.allocate((int) size);
+				while (content.hasRemaining())
+					if (channel.read(content) < 0)
+						break;
+				content.flip();
+			}
+			return new JavaSource(javaFile.getAbsolutePath(), content);
+		}
+	}
+
+	/**
+	 * Load the content of the given Java source entry of a ZIP file.
+	 */
+	public static JavaSource read(ZipFile zip, ZipEntry entry) throws IOException {
+		try (InputStream in = zip.getInputStream(entry)) {
+			return read(zip.getName() + '!' + entry.getName(), in, entry.getSize());
+		}
+	}
+
+	/**
+	 * Load the content of the given Java source stream; the stream is not closed.
+	 */
+	public static JavaSource read(String name, InputStream in) throws IOException {
+		return read(name, in, -1);
+	}
+
+	private static JavaSource read(String name, InputStream in, long size) throws IOException {
+		byte[] bytes = new byte[size >= 0 && size < Integer.MAX_VALUE ? (int) size + 1 : 8192];
+		int length = 0, n;
+		// one more byte than the expected size, so the end is detected without copying
+		while ((n = in.read(bytes, length, bytes.length - length)) >= 0) {
+			length += n;
+			if (length == bytes.length)
+				bytes = Arrays.copyOf(bytes, bytes.length * 2);
+		}
+		return new JavaSource(name, ByteBuffer.wrap(bytes, 0, length));
+	}
+
+	/**
+	 * Returns a Java source with the given content,
+	 * where the name is only used as the source-name of the lexer input.
+	 */
+	public static JavaSource wrap(String name, byte[] content) {
+		return new JavaSource(name, ByteBuffer.wrap(content));
+	}
+
+	/**
+	 * Returns the name (i.e. the path) of this source.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the length of this source in bytes.
+	 */
+	public int length() {
+		return content.remaining();
+	}
+
+	/**
+	 * Returns the SHA-1 hash of the content of this source.
+	 */
+	public byte[] hash() {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			digest.update(content.duplicate());
+			return digest.digest();
+		} catch (NoSuchAlgorithmException ex) {
+			// every Java platform is required to support SHA-1
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Returns the content of this source as the input of a lexer.
+	 */
+	public CharStream toCharStream() {
+		ByteBuffer bytes = content.slice();
+		if (isAscii(bytes))
+			return new AsciiCharStream(name, bytes);
+		char[] data = decode(bytes);
+		ANTLRInputStream input = new ANTLRInputStream(data, data.length);
+		input.name = name;
+		return input;
+	}
+
+	private static boolean isAscii(ByteBuffer bytes) {
+		if (bytes.hasArray()) {
+			byte[] array = bytes.array();
+			int end = bytes.arrayOffset() + bytes.limit();
+			for (int i = bytes.arrayOffset(); i < end; ++i)
+				if (array[i] < 0)
+					return false;
+		} else {
+			for (int i = 0; i < bytes.limit(); ++i)
+				if (bytes.get(i) < 0)
+					return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Decode the given UTF-8 content; malformed input is replaced (as in an InputStreamReader).
+	 */
+	private static char[] decode(ByteBuffer bytes) {
+		CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		CharBuffer chars = DECODE_BUFFER.get();
+		// UTF-8 never has more characters than bytes
+		if (chars.capacity() < bytes.remaining()) {
+			chars = CharBuffer.allocate(bytes.remaining());
+			DECODE_BUFFER.set(chars);
+		}
+		chars.clear();
+		CoderResult result = decoder.decode(bytes, chars, true);
+		if (!result.isUnderflow())
+			throw new IllegalStateException(result.toString());
+		decoder.flush(chars);
+		chars.flip();
+		char[] data = new char[chars.remaining()];
+		chars.get(data);
+		return data;
+	}
+
+	/**
+	 * A CharStream directly over a buffer of ASCII bytes;
+	 * with the same behavior as an ANTLRInputStream of the same text.
+	 * The backing array of a heap buffer is accessed directly, since 'LA' is
+	 * the innermost operation of the lexer.
+	 */
+	static final class AsciiCharStream implements CharStream {
+
+		private final String name;
+		private final ByteBuffer bytes;
+		private final byte[] array;  // null for a mapped buffer
+		private final int offset;
+		private final int n;
+		private int p;
+
+		AsciiCharStream(String name, ByteBuffer bytes) {
+			this.name = name;
+			this.bytes = bytes;
+			this.array = bytes.hasArray() ? bytes.array() : null;
+			this.offset = bytes.hasArray() ? bytes.arrayOffset() : 0;
+			this.n = bytes.limit();
+			this.p = 0;
+		}
+
+		@Override
+		public void consume() {
+			if (p >= n)
+				throw new IllegalStateException("cannot consume EOF");
+			++p;
+		}
+
+		@Override
+		public int LA(int i) {
+			if (i == 0)
+				return 0; // undefined
+			if (i < 0) {
+				++i; // e.g., translate LA(-1) to use offset i=0; then bytes[p+0-1]
+				if (p + i - 1 < 0)
+					return IntStream.EOF;
+			}
+			int k = p + i - 1;
+			if (k >= n)
+				return IntStream.EOF;
+			return array != null ? array[offset + k] : bytes.get(k);
+		}
+
+		@Override
+		public int mark() {
+			return -1;
+		}
+
+		@Override
+		public void release(int marker) {
+		}
+
+		@Override
+		public int index() {
+			return p;
+		}
+
+		@Override
+		public void seek(int index) {
+			// the stream is entirely in memory, so seeking is setting the index
+			p = Math.max(0, Math.min(index, n));
+		}
+
+		@Override
+		public int size() {
+			return n;
+		}
+
+		@Override
+		public String getSourceName() {
+			return name == null || name.isEmpty() ? IntStream.UNKNOWN_SOURCE_NAME : name;
+		}
+
+		@Override
+		public String getText(Interval interval) {
+			int start = interval.a;
+			int stop = Math.min(interval.b, n - 1);
+			if (start >= n)
+				return "";
+			int count = stop - start + 1;
+			if (count <= 0)
+				return "";
+			if (array != null)
+				return new String(array, offset + start, count, StandardCharsets.ISO_8859_1);
+			byte[] text = new byte[count];
+			for (int i = 0; i < count; ++i)
+				text[i] = bytes.get(start + i);
+			return new String(text, StandardCharsets.ISO_8859_1);
+		}
+
+		@Override
+		public String toString() {
+			return getText(Interval.of(0, n - 1));
+		}
+	}
+}
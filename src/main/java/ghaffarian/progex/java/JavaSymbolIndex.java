@@ -0,0 +1,64 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the classes of a Java project, by package and by qualified name.
+ *
+ * The index is built once per run (after the class-info of all source files is
+ * extracted), and replaces linear scans over all project classes for resolving
+ * package members and imports. In each bucket, classes are in the given order.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+class JavaSymbolIndex {
+
+	private final Map<String, List<JavaClass>> byPackage;
+	private final Map<String, List<JavaClass>> byQualifiedName;
+
+	JavaSymbolIndex(List<JavaClass> classes) {
+		byPackage = new HashMap<>();
+		byQualifiedName = new HashMap<>();
+		for (JavaClass cls: classes) {
+			byPackage.computeIfAbsent(cls.PACKAGE, k -> new ArrayList<>()).add(cls);
+			byQualifiedName.computeIfAbsent(qualifiedName(cls.PACKAGE, cls.NAME), k -> new ArrayList<>(1)).add(cls);
+		}
+	}
+
+	/**
+	 * Returns the qualified name of a class with the given package and simple name;
+	 * which is the package name, followed by a dot, and the simple name.
+	 */
+	static String qualifiedName(String pkg, String name) {
+		return pkg + '.' + name;
+	}
+
+	/**
+	 * Returns all classes of the given package.
+	 */
+	List<JavaClass> getPackageClasses(String pkg) {
+		List<JavaClass> list = byPackage.get(pkg);
+		return list == null ? Collections.<JavaClass>emptyList() : list;
+	}
+
+	/**
+	 * Returns all classes with the given qualified name (usually at most one).
+	 */
+	List<JavaClass> getClasses(String qualifiedName) {
+		List<JavaClass> list = byQualifiedName.get(qualifiedName);
+		return list == null ? Collections.<JavaClass>emptyList() : list;
+	}
+
+	/**
+	 * Returns the first class with the given package and simple name; or null.
+	 */
+	JavaClass findClass(String pkg, String name) {
+		List<JavaClass> list = byQualifiedName.get(qualifiedName(pkg, name));
+		return list == null ? null : list.get(0);
+	}
+}
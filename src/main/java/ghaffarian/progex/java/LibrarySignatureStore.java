@@ -0,0 +1,432 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.java;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.antlr.v4.runtime.tree.ParseTree;
+import ghaffarian.nanologger.Logger;
+
+/**
+ * A persistent store of class signatures (JavaClass, JavaMethod, and JavaField
+ * records) for the Java library sources.
+ *
+ * The store is a binary file which is memory-mapped when opened. It holds the
+ * index of all packages of the library ZIP and their source entries, which is
+ * generated once; and the class signatures of the source entries extracted so far.
+ * Entries of a package are extracted (parsed) on its first request, and their
+ * records are only decoded when requested; so resolving an import is a hash lookup.
+ * The store is versioned by the size and modification time of the ZIP file;
+ * so any change in the library sources invalidates the whole store.
+ * A corrupt store file (e.g. a truncated one) is also replaced by a new store.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+class LibrarySignatureStore {
+
+	private static final int MAGIC = 0x50475358;  // "PGSX"
+	private static final int FORMAT_VERSION = 1;
+
+	private final File zipFile;
+	private final File storeFile;
+	private final long zipSize;
+	private final long zipModified;
+	private final ByteBuffer buffer;
+	private final Map<String, int[]> entries;          // entry-path -> {offset, length} or null
+	private final Map<String, List<String>> packages;  // package-dir -> entry-paths
+	private final Map<String, byte[]> addedEntries;
+	private final Map<String, List<JavaClass>> decoded;
+	private boolean modified;
+	private boolean unsaveable;
+
+	private LibrarySignatureStore(File zipFile, File storeFile, ByteBuffer buffer) {
+		this.zipFile = zipFile;
+		this.storeFile = storeFile;
+		this.zipSize = zipFile.length();
+		this.zipModified = zipFile.lastModified();
+		this.buffer = buffer;
+		entries = new LinkedHashMap<>();
+		packages = new LinkedHashMap<>();
+		addedEntries = new HashMap<>();
+		decoded = new HashMap<>();
+		modified = false;
+		unsaveable = false;
+	}
+
+	/**
+	 * Open the signature store of the given library ZIP file.
+	 * If the store file does not exist, or it belongs to a different version
+	 * of the library sources (or it is corrupt), a new store is generated by indexing the ZIP entries.
+	 */
+	public static LibrarySignatureStore open(File zipFile, File storeFile) throws IOException {
+		if (storeFile.isFile()) {
+			ByteBuffer buffer;
+			try (FileChannel channel = FileChannel.open(storeFile.toPath(), StandardOpenOption.READ)) {
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+			if (buffer.remaining() >= 24 && buffer.getInt() == MAGIC && buffer.getInt() == FORMAT_VERSION
+					&& buffer.getLong() == zipFile.length() && buffer.getLong() == zipFile.lastModified()) {
+				LibrarySignatureStore store = new LibrarySignatureStore(zipFile, storeFile, buffer);
+				try {
+					store.readDirectory();
+					return store;
+				} catch (RuntimeException ex) {
+					Logger.warn("Library signatures are corrupt: " + storeFile.getPath());
+				}
+			} else {
+				Logger.info("Library signatures are outdated: " + storeFile.getPath());
+			}
+		}
+		LibrarySignatureStore store = new LibrarySignatureStore(zipFile, storeFile, null);
+		store.indexEntries();
+		return store;
+	}
+
+	private void readDirectory() {
+		int entryCount = buffer.getInt();
+		List<int[]> extracted = new ArrayList<>();
+		for (int i = 0; i < entryCount; ++i) {
+			String path = readString(buffer);
+			int offset = buffer.getInt();
+			int length = buffer.getInt();
+			int[] entry = offset < 0 ? null : new int[] {offset, length};
+			if (entry != null)
+				extracted.add(entry);
+			addEntry(path, entry);
+		}
+		// record offsets are relative to the end of the directory
+		int base = buffer.position();
+		for (int[] entry: extracted) {
+			if (entry[0] < 0 || entry[1] < 0 || entry[0] > buffer.limit() - base - entry[1])
+				throw new IllegalStateException("Invalid record: " + entry[0] + "+" + entry[1]);
+			entry[0] += base;
+		}
+	}
+
+	private void indexEntries() throws IOException {
+		try (ZipFile zip = new ZipFile(zipFile)) {
+			Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+			while (zipEntries.hasMoreElements()) {
+				ZipEntry entry = zipEntries.nextElement();
+				if (!entry.isDirectory() && entry.getName().endsWith(".java"))
+					addEntry(entry.getName(), null);
+			}
+		}
+		modified = true;
+	}
+
+	private void addEntry(String path, int[] entry) {
+		entries.put(path, entry);
+		List<String> list = packages.get(packageOf(path));
+		if (list == null) {
+			list = new ArrayList<>();
+			packages.put(packageOf(path), list);
+		}
+		list.add(path);
+	}
+
+	/**
+	 * Returns the class signatures of all source entries of the given package (e.g. "java.util.*").
+	 * Entries which are not yet in the store are extracted from the library ZIP.
+	 */
+	public synchronized List<JavaClass> getPackage(String qualifiedName) throws IOException {
+		// qualifiedName ends with ".*"
+		String pkg = qualifiedName.replace('.', '/').substring(0, qualifiedName.length() - 1);
+		List<String> paths = packages.get(pkg);
+		if (paths == null)
+			return Collections.emptyList();
+		extractMissing(paths);
+		List<JavaClass> classes = new ArrayList<>();
+		for (String path: paths)
+			classes.addAll(get(path));
+		return classes;
+	}
+
+	/**
+	 * Returns the class signatures of the given class (e.g. "java.util.List"),
+	 * or an empty list if there is no such source entry in the library.
+	 */
+	public synchronized List<JavaClass> getClass(String qualifiedName) throws IOException {
+		// qualifiedName does not end with ".*"
+		String path = qualifiedName.replace('.', '/') + ".java";
+		if (!entries.containsKey(path))
+			return Collections.emptyList();
+		extractMissing(Collections.singletonList(path));
+		return get(path);
+	}
+
+	/**
+	 * Check whether any new signatures are added since the store was last saved;
+	 * a store which could not be saved is never considered modified again.
+	 */
+	public synchronized boolean isModified() {
+		return modified && !unsaveable;
+	}
+
+	private List<JavaClass> get(String entryPath) throws IOException {
+		List<JavaClass> classes = decoded.get(entryPath);
+		if (classes == null) {
+			byte[] added = addedEntries.get(entryPath);
+			if (added != null) {
+				classes = decode(entryPath, ByteBuffer.wrap(added));
+			} else {
+				int[] entry = entries.get(entryPath);
+				ByteBuffer record = buffer.duplicate();
+				record.position(entry[0]);
+				record.limit(entry[0] + entry[1]);
+				try {
+					classes = decode(entryPath, record.slice());
+				} catch (RuntimeException ex) {
+					// a corrupt record is extracted again
+					Logger.warn("Library signatures are corrupt: " + entryPath);
+					entries.put(entryPath, null);
+					extractMissing(Collections.singletonList(entryPath));
+					return decoded.get(entryPath);
+				}
+			}
+			decoded.put(entryPath, classes);
+		}
+		return classes;
+	}
+
+	/**
+	 * Extract the class signatures of the given entries which are not yet in the store.
+	 */
+	private void extractMissing(List<String> paths) throws IOException {
+		ZipFile zip = null;
+		try {
+			for (String path: paths) {
+				if (entries.get(path) != null || addedEntries.containsKey(path))
+					continue;
+				if (zip == null)
+					zip = new ZipFile(zipFile);
+				ZipEntry entry = zip.getEntry(path);
+				// the signatures are kept in this store, so the parse-tree is not cached
+				ParseTree tree = SignatureParser.parse(JavaSource.read(zip, entry).toCharStream());
+				List<JavaClass> classes = JavaClassExtractor.extractInfo("src.zip/" + path, tree);
+				addedEntries.put(path, encode(classes));
+				decoded.put(path, classes);
+				modified = true;
+			}
+		} finally {
+			if (zip != null)
+				zip.close();
+		}
+	}
+
+	/**
+	 * Write this store to its file, including all previously stored signatures.
+	 * The new file replaces the old one only after it is completely written.
+	 * If the store cannot be written, the temporary file is deleted;
+	 * and the store is not saved again (see isModified).
+	 */
+	public synchronized void save() throws IOException {
+		File tmpFile = null;
+		boolean moved = false;
+		try {
+			// a unique temporary file; since concurrent sessions may save the same store
+			File dir = storeFile.getAbsoluteFile().getParentFile();
+			tmpFile = File.createTempFile(storeFile.getName(), ".tmp", dir);
+			write(tmpFile);
+			Files.move(tmpFile.toPath(), storeFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			moved = true;
+			modified = false;
+		} catch (IOException ex) {
+			unsaveable = true;
+			throw ex;
+		} finally {
+			if (tmpFile != null && !moved)
+				tmpFile.delete();
+		}
+	}
+
+	private void write(File file) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(file), 65536))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeLong(zipSize);
+			out.writeLong(zipModified);
+			out.writeInt(entries.size());
+			int offset = 0;
+			for (Map.Entry<String, int[]> entry: entries.entrySet()) {
+				writeString(out, entry.getKey());
+				int length = recordLength(entry.getKey(), entry.getValue());
+				out.writeInt(length < 0 ? -1 : offset);
+				out.writeInt(length);
+				if (length > 0)
+					offset += length;
+			}
+			byte[] copy = new byte[8192];
+			for (Map.Entry<String, int[]> entry: entries.entrySet()) {
+				if (entry.getValue() != null) {
+					ByteBuffer record = buffer.duplicate();
+					record.position(entry.getValue()[0]);
+					record.limit(entry.getValue()[0] + entry.getValue()[1]);
+					while (record.hasRemaining()) {
+						int n = Math.min(copy.length, record.remaining());
+						record.get(copy, 0, n);
+						out.write(copy, 0, n);
+					}
+				} else if (addedEntries.containsKey(entry.getKey())) {
+					out.write(addedEntries.get(entry.getKey()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the length of the record of the given entry, or -1 if it is not extracted.
+	 */
+	private int recordLength(String path, int[] entry) {
+		if (entry != null)
+			return entry[1];
+		byte[] added = addedEntries.get(path);
+		return added == null ? -1 : added.length;
+	}
+
+	/**
+	 * Returns the package directory of the given entry path (e.g. "java/util/").
+	 */
+	private static String packageOf(String entryPath) {
+		return entryPath.substring(0, entryPath.lastIndexOf('/') + 1);
+	}
+
+	private static byte[] encode(List<JavaClass> classes) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(classes.size());
+			for (JavaClass cls: classes) {
+				writeString(out, cls.NAME);
+				writeString(out, cls.PACKAGE);
+				writeString(out, cls.EXTENDS);
+				writeString(out, cls.getTypeParameters());
+				writeStrings(out, cls.IMPORTS);
+				writeStrings(out, cls.getInterfaces());
+				JavaField[] fields = cls.getAllFields();
+				out.writeInt(fields.length);
+				for (JavaField fld: fields) {
+					writeString(out, fld.MODIFIER);
+					out.writeBoolean(fld.STATIC);
+					writeString(out, fld.TYPE);
+					writeString(out, fld.NAME);
+				}
+				JavaMethod[] methods = cls.getAllMethods();
+				out.writeInt(methods.length);
+				for (JavaMethod mtd: methods) {
+					writeString(out, mtd.MODIFIER);
+					out.writeBoolean(mtd.STATIC);
+					out.writeBoolean(mtd.ABSTRACT);
+					writeString(out, mtd.RET_TYPE);
+					writeString(out, mtd.NAME);
+					writeStrings(out, mtd.ARG_TYPES);
+					out.writeInt(mtd.LINE_OF_CODE);
+				}
+			}
+			out.flush();
+			return bytes.toByteArray();
+		} catch (IOException ex) {
+			// writing to a byte-array never throws
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static List<JavaClass> decode(String entryPath, ByteBuffer in) {
+		int classCount = in.getInt();
+		if (classCount < 0 || classCount > in.remaining())
+			throw new BufferUnderflowException();
+		List<JavaClass> classes = new ArrayList<>(classCount);
+		for (int c = 0; c < classCount; ++c) {
+			String name = readString(in);
+			String pkg = readString(in);
+			String extend = readString(in);
+			String typeParams = readString(in);
+			String[] imports = readStrings(in);
+			JavaClass cls = new JavaClass(name, pkg, extend, "src.zip/" + entryPath, imports);
+			cls.setTypeParameters(typeParams);
+			cls.setInterfaces(readStrings(in));
+			int fieldCount = in.getInt();
+			for (int f = 0; f < fieldCount; ++f) {
+				String modifier = readString(in);
+				boolean isStatic = in.get() != 0;
+				String type = readString(in);
+				cls.addField(new JavaField(modifier, isStatic, type, readString(in)));
+			}
+			int methodCount = in.getInt();
+			for (int m = 0; m < methodCount; ++m) {
+				String modifier = readString(in);
+				boolean isStatic = in.get() != 0;
+				boolean isAbstract = in.get() != 0;
+				String retType = readString(in);
+				String mtdName = readString(in);
+				String[] args = readStrings(in);
+				cls.addMethod(new JavaMethod(modifier, isStatic, isAbstract, retType, mtdName, args, in.getInt()));
+			}
+			classes.add(cls);
+		}
+		return classes;
+	}
+
+	private static void writeStrings(DataOutputStream out, String[] strs) throws IOException {
+		if (strs == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(strs.length);
+			for (String str: strs)
+				writeString(out, str);
+		}
+	}
+
+	private static String[] readStrings(ByteBuffer in) {
+		int length = in.getInt();
+		if (length < 0)
+			return null;
+		if (length > in.remaining() / 4)
+			throw new BufferUnderflowException();
+		String[] strs = new String[length];
+		for (int i = 0; i < length; ++i)
+			strs[i] = readString(in);
+		return strs;
+	}
+
+	private static void writeString(DataOutputStream out, String str) throws IOException {
+		if (str == null) {
+			out.writeInt(-1);
+		} else {
+			byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static String readString(ByteBuffer in) {
+		int length = in.getInt();
+		if (length < 0)
+			return null;
+		if (length > in.remaining())
+			throw new BufferUnderflowException();
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,497 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.java;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.antlr.v4.runtime.Token;
+import ghaffarian.nanologger.Logger;
+import ghaffarian.progex.java.parser.JavaLexer;
+
+/**
+ * A persistent index of method DEF summaries for the Java library sources.
+ *
+ * The DEF summaries of library methods are the result of a joint DEF-USE analysis
+ * of all imported library sources, in which the classes and methods of the analyzed
+ * project are also visible (e.g. a call in the library may resolve to a project method
+ * of the same name). Calls are resolved by the names of methods and classes; so a set
+ * of summaries is only valid for the same imported entries, and the same signatures of
+ * the project classes and methods which are named in the imported entries (see 'getNames');
+ * and it is stored as a record of the index, keyed by a hash of both (see 'key').
+ * A project with the same imports and named signatures (e.g. the same project analyzed
+ * again, after any changes which do not add or modify such a signature) loads the summaries
+ * from the index; any other project has its imports analyzed, and the results added to the index.
+ * The names of each set of imports are kept in the index as well.
+ *
+ * The index is a binary file which is memory-mapped when opened, and records are
+ * only decoded when requested. The index is versioned by a checksum of the ZIP entries;
+ * so any change in the library sources invalidates the whole index. At most
+ * MAX_RECORDS records are kept, and the least-recently added ones are dropped.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+class LibrarySummaryIndex {
+
+	private static final int MAGIC = 0x50474458;  // "PGDX"
+	private static final int FORMAT_VERSION = 3;
+	private static final int MAX_RECORDS = 32;
+
+	// prefix of the keys of name records (see 'getNames')
+	private static final String NAMES = "names:";
+
+	/**
+	 * The system property for the location of the index file.
+	 */
+	public static final String PROPERTY = "progex.summaries";
+
+	private final File indexFile;
+	private final long checksum;
+	private final ByteBuffer buffer;
+	private final LinkedHashMap<String, int[]> records;  // key -> {offset, length}
+	private final Map<String, byte[]> addedRecords;
+	private boolean modified;
+
+	private LibrarySummaryIndex(File indexFile, long checksum, ByteBuffer buffer) {
+		this.indexFile = indexFile;
+		this.checksum = checksum;
+		this.buffer = buffer;
+		records = new LinkedHashMap<>();
+		addedRecords = new LinkedHashMap<>();
+		modified = false;
+	}
+
+	/**
+	 * Returns the index file of the given library ZIP file.
+	 * This is the value of the 'progex.summaries' system property, if it is set;
+	 * otherwise it is next to the ZIP file (with the '.summaries' extension), if that
+	 * directory is writable; or else in the '.progex' directory of the user's home.
+	 */
+	public static File indexFileOf(File zipFile) {
+		String property = System.getProperty(PROPERTY);
+		if (property != null && !property.isEmpty())
+			return new File(property);
+		String name = zipFile.getName();
+		if (name.endsWith(".zip"))
+			name = name.substring(0, name.length() - 4);
+		name += ".summaries";
+		File dir = zipFile.getAbsoluteFile().getParentFile();
+		File indexFile = new File(dir, name);
+		if (dir.canWrite() && (!indexFile.exists() || indexFile.canWrite()))
+			return indexFile;
+		return new File(new File(System.getProperty("user.home"), ".progex"), name);
+	}
+
+	/**
+	 * Open the summary index of the given library ZIP file.
+	 * If the index file does not exist, or it belongs to a different version
+	 * of the library sources, or it cannot be read, an empty index is returned.
+	 */
+	public static LibrarySummaryIndex open(ZipFile zip, File indexFile) {
+		long checksum = checksum(zip);
+		if (indexFile.exists()) {
+			try {
+				ByteBuffer buffer;
+				try (FileChannel channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ)) {
+					buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				}
+				if (buffer.remaining() >= 16 && buffer.getInt() == MAGIC
+						&& buffer.getInt() == FORMAT_VERSION && buffer.getLong() == checksum) {
+					LibrarySummaryIndex index = new LibrarySummaryIndex(indexFile, checksum, buffer);
+					index.readDirectory();
+					return index;
+				}
+				Logger.info("Library summaries are outdated: " + indexFile.getPath());
+			} catch (IOException | RuntimeException ex) {
+				Logger.warn("Could not read library summaries: " + ex);
+			}
+		}
+		return new LibrarySummaryIndex(indexFile, checksum, null);
+	}
+
+	private void readDirectory() {
+		int recordCount = buffer.getInt();
+		for (int i = 0; i < recordCount; ++i) {
+			String key = readString(buffer);
+			records.put(key, new int[] {buffer.getInt(), buffer.getInt()});
+		}
+		// record offsets are relative to the end of the directory
+		int base = buffer.position();
+		for (int[] record: records.values()) {
+			if (record[0] < 0 || record[1] < 0 || (long) base + record[0] + record[1] > buffer.limit())
+				throw new IllegalStateException("Invalid record offset");
+			record[0] += base;
+		}
+	}
+
+	/**
+	 * Returns the key of the names of the given imported entries (see 'getNames');
+	 * i.e. a hash of the paths of the entries, in order, and whether each one is
+	 * imported as part of a whole package.
+	 */
+	public static String key(Map<String, Boolean> imports) {
+		MessageDigest digest = newDigest();
+		updateImports(digest, imports);
+		return NAMES + toHex(digest);
+	}
+
+	/**
+	 * Returns the key of the summaries of the given imported entries for a project with
+	 * the given classes; i.e. a hash of the imported entries (as above), and the names,
+	 * packages, and method signatures of the project classes and methods which are in
+	 * the given names of the imported entries (see 'getNames'). Other project classes
+	 * and methods cannot be resolved by the analysis of the imports, and are not hashed.
+	 */
+	public static String key(Map<String, Boolean> imports, Set<String> names, List<JavaClass[]> projectClasses) {
+		MessageDigest digest = newDigest();
+		updateImports(digest, imports);
+		update(digest, "#");
+		for (JavaClass[] classes: projectClasses) {
+			for (JavaClass cls: classes) {
+				// all methods of a named class are visible through its name
+				boolean named = names.contains(cls.NAME);
+				if (named) {
+					// 'class' is not a class name
+					update(digest, "class");
+					update(digest, cls.NAME);
+					update(digest, cls.PACKAGE);
+				}
+				for (JavaMethod mtd: cls.getAllMethods()) {
+					if (!named && !names.contains(mtd.NAME))
+						continue;
+					update(digest, cls.NAME);
+					update(digest, cls.PACKAGE);
+					update(digest, mtd.RET_TYPE);
+					update(digest, mtd.NAME);
+					update(digest, mtd.ARG_TYPES == null ? null : Arrays.toString(mtd.ARG_TYPES));
+				}
+			}
+		}
+		return toHex(digest);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException ex) {
+			// every Java platform is required to support SHA-1
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void updateImports(MessageDigest digest, Map<String, Boolean> imports) {
+		for (Map.Entry<String, Boolean> imprt: imports.entrySet()) {
+			update(digest, imprt.getKey());
+			update(digest, imprt.getValue().toString());
+		}
+	}
+
+	private static String toHex(MessageDigest digest) {
+		StringBuilder hex = new StringBuilder();
+		for (byte b: digest.digest())
+			hex.append(String.format("%02x", b));
+		return hex.toString();
+	}
+
+	private static void update(MessageDigest digest, String str) {
+		if (str == null) {
+			digest.update((byte) 0);
+		} else {
+			digest.update((byte) 1);
+			digest.update(str.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+	}
+
+	/**
+	 * Check whether any new summaries are added since the index was opened.
+	 */
+	public boolean isModified() {
+		return modified;
+	}
+
+	/**
+	 * Returns the summaries of all imported entries for the given key,
+	 * or null if the key is not in the index.
+	 */
+	public Record get(String key) {
+		ByteBuffer bytes = getBytes(key);
+		return bytes == null ? null : decode(bytes);
+	}
+
+	/**
+	 * Add the summaries of all imported entries for the given key.
+	 */
+	public void put(String key, Record record) {
+		putBytes(key, encode(record));
+	}
+
+	/**
+	 * Returns the names in the given imported entries of the library ZIP file; i.e. all
+	 * identifiers in their source code, which include the names of all methods and classes
+	 * that the calls in these entries can be resolved to. The names are kept in this index;
+	 * so each set of imports is only lexed once.
+	 */
+	public Set<String> getNames(ZipFile zip, Map<String, Boolean> imports) throws IOException {
+		String key = key(imports);
+		Set<String> names = new HashSet<>();
+		ByteBuffer bytes = getBytes(key);
+		if (bytes != null) {
+			for (int count = bytes.getInt(); count > 0; --count)
+				names.add(readString(bytes));
+			return names;
+		}
+		for (String path: imports.keySet()) {
+			JavaLexer lexer = new JavaLexer(JavaSource.read(zip, zip.getEntry(path)).toCharStream());
+			// lexical errors are reported when the entry is parsed
+			lexer.removeErrorListeners();
+			for (Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken())
+				if (token.getType() == JavaLexer.Identifier)
+					names.add(token.getText());
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream(16 * names.size());
+		DataOutputStream data = new DataOutputStream(out);
+		data.writeInt(names.size());
+		for (String name: names)
+			writeString(data, name);
+		data.flush();
+		putBytes(key, out.toByteArray());
+		return names;
+	}
+
+	private ByteBuffer getBytes(String key) {
+		byte[] added = addedRecords.get(key);
+		if (added != null)
+			return ByteBuffer.wrap(added);
+		int[] record = records.get(key);
+		if (record == null)
+			return null;
+		ByteBuffer bytes = buffer.duplicate();
+		bytes.position(record[0]);
+		bytes.limit(record[0] + record[1]);
+		return bytes.slice();
+	}
+
+	private void putBytes(String key, byte[] bytes) {
+		records.remove(key);
+		records.put(key, null);
+		addedRecords.put(key, bytes);
+		modified = true;
+		// drop the least-recently added records
+		Iterator<Map.Entry<String, int[]>> eldest = records.entrySet().iterator();
+		while (records.size() > MAX_RECORDS) {
+			addedRecords.remove(eldest.next().getKey());
+			eldest.remove();
+		}
+	}
+
+	/**
+	 * Write this index to its file, including all previously indexed summaries.
+	 * The new file replaces the old one only after it is completely written.
+	 */
+	public void save() throws IOException {
+		// a unique temporary file; since concurrent sessions may save the same index
+		File dir = indexFile.getAbsoluteFile().getParentFile();
+		if (!dir.isDirectory() && !dir.mkdirs())
+			throw new IOException("Cannot create directory: " + dir);
+		File tmpFile = File.createTempFile(indexFile.getName(), ".tmp", dir);
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(tmpFile), 65536))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeLong(checksum);
+			out.writeInt(records.size());
+			int offset = 0;
+			for (Map.Entry<String, int[]> record: records.entrySet()) {
+				int length = record.getValue() == null ? addedRecords.get(record.getKey()).length : record.getValue()[1];
+				writeString(out, record.getKey());
+				out.writeInt(offset);
+				out.writeInt(length);
+				offset += length;
+			}
+			byte[] copy = new byte[8192];
+			for (Map.Entry<String, int[]> record: records.entrySet()) {
+				if (record.getValue() == null) {
+					out.write(addedRecords.get(record.getKey()));
+				} else {
+					ByteBuffer bytes = buffer.duplicate();
+					bytes.position(record.getValue()[0]);
+					bytes.limit(record.getValue()[0] + record.getValue()[1]);
+					while (bytes.hasRemaining()) {
+						int n = Math.min(copy.length, bytes.remaining());
+						bytes.get(copy, 0, n);
+						out.write(copy, 0, n);
+					}
+				}
+			}
+		} catch (IOException ex) {
+			tmpFile.delete();
+			throw ex;
+		}
+		Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Compute a checksum of the ZIP file, using the names, sizes and CRCs of all entries.
+	 */
+	private static long checksum(ZipFile zip) {
+		CRC32 crc = new CRC32();
+		ByteBuffer fields = ByteBuffer.allocate(16);
+		Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+		while (zipEntries.hasMoreElements()) {
+			ZipEntry entry = zipEntries.nextElement();
+			crc.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+			fields.clear();
+			fields.putLong(entry.getSize()).putLong(entry.getCrc());
+			crc.update(fields.array());
+		}
+		return (crc.getValue() << 32) | zip.size();
+	}
+
+	private static byte[] encode(Record record) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(record.paths.size());
+			for (int i = 0; i < record.paths.size(); ++i) {
+				writeString(out, record.paths.get(i));
+				out.writeBoolean(record.wholePackage.get(i));
+				Summary summary = record.summaries.get(i);
+				out.writeInt(summary.classes.length);
+				for (int c = 0; c < summary.classes.length; ++c) {
+					writeString(out, summary.classes[c].NAME);
+					writeString(out, summary.classes[c].PACKAGE);
+					out.writeInt(summary.methods[c].length);
+					for (MethodDefInfo mtd: summary.methods[c]) {
+						writeString(out, mtd.RET_TYPE);
+						writeString(out, mtd.NAME);
+						out.writeInt(mtd.PARAM_TYPES.length);
+						for (String type: mtd.PARAM_TYPES)
+							writeString(out, type);
+						out.writeBoolean(mtd.doesStateDEF());
+						for (boolean def: mtd.argDEFs())
+							out.writeBoolean(def);
+						String[] fields = mtd.fieldDEFs();
+						out.writeInt(fields.length);
+						for (String field: fields)
+							writeString(out, field);
+					}
+				}
+			}
+			out.flush();
+			return bytes.toByteArray();
+		} catch (IOException ex) {
+			// writing to a byte-array never throws
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static Record decode(ByteBuffer in) {
+		Record record = new Record();
+		int entryCount = in.getInt();
+		for (int i = 0; i < entryCount; ++i) {
+			String entryPath = readString(in);
+			boolean wholePackage = in.get() != 0;
+			int classCount = in.getInt();
+			JavaClass[] classes = new JavaClass[classCount];
+			MethodDefInfo[][] methods = new MethodDefInfo[classCount][];
+			for (int c = 0; c < classCount; ++c) {
+				String clsName = readString(in);
+				String clsPackage = readString(in);
+				classes[c] = new JavaClass(clsName, clsPackage, null, "src.zip/" + entryPath, new String[0]);
+				methods[c] = new MethodDefInfo[in.getInt()];
+				for (int m = 0; m < methods[c].length; ++m) {
+					String retType = readString(in);
+					String name = readString(in);
+					String[] params = new String[in.getInt()];
+					for (int p = 0; p < params.length; ++p)
+						params[p] = readString(in);
+					boolean stateDEF = in.get() != 0;
+					boolean[] argDEFs = new boolean[params.length];
+					for (int p = 0; p < argDEFs.length; ++p)
+						argDEFs[p] = in.get() != 0;
+					String[] fieldDEFs = new String[in.getInt()];
+					for (int f = 0; f < fieldDEFs.length; ++f)
+						fieldDEFs[f] = readString(in);
+					methods[c][m] = new MethodDefInfo(retType, name, clsPackage, clsName, params, stateDEF, argDEFs, fieldDEFs);
+					classes[c].addMethod(new JavaMethod(null, false, false, retType, name, params, 0));
+				}
+			}
+			record.add(entryPath, wholePackage, new Summary(classes, methods));
+		}
+		return record;
+	}
+
+	private static void writeString(DataOutputStream out, String str) throws IOException {
+		if (str == null) {
+			out.writeInt(-1);
+		} else {
+			byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static String readString(ByteBuffer in) {
+		int length = in.getInt();
+		if (length < 0)
+			return null;
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * The class-infos and method DEF summaries of a single source entry.
+	 * The methods of each class are in the same order as the class-info's methods.
+	 */
+	static class Summary {
+
+		final JavaClass[] classes;
+		final MethodDefInfo[][] methods;
+
+		Summary(JavaClass[] classes, MethodDefInfo[][] methods) {
+			this.classes = classes;
+			this.methods = methods;
+		}
+	}
+
+	/**
+	 * The summaries of all imported entries, in the order of the analysis;
+	 * and whether each entry is imported as part of a whole package.
+	 */
+	static class Record {
+
+		final List<String> paths = new ArrayList<>();
+		final List<Boolean> wholePackage = new ArrayList<>();
+		final List<Summary> summaries = new ArrayList<>();
+
+		void add(String path, boolean whole, Summary summary) {
+			paths.add(path);
+			wholePackage.add(whole);
+			summaries.add(summary);
+		}
+	}
+}
@@ -0,0 +1,297 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.java;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.antlr.v4.runtime.tree.ParseTree;
+import ghaffarian.nanologger.Logger;
+
+/**
+ * A size-bounded cache of Java parse-trees, shared by all Java graph builders
+ * of an analysis session (see AnalysisSession).
+ *
+ * Entries are keyed by the path of the source file together with a hash of its
+ * contents; hence each source file is lexed and parsed only once per session,
+ * regardless of how many analyses are performed on it, and a modified file
+ * is never served with a stale parse-tree.
+ *
+ * Signature-only parse-trees (see {@link #parseSignatures(File)}) are cached
+ * separately; but a cached full parse-tree is also used for the signatures.
+ *
+ * Parse-trees are not kept as such; each one is lowered to a compact tree
+ * (see CompactParseTree), which is several times smaller, and the ANTLR
+ * parse-tree is only weakly referenced. So a parse-tree is released as soon as
+ * the builders which use it are done; and later requests for it are served by
+ * rebuilding it from the compact tree, which is much faster than parsing.
+ * Hence a caller gets the same parse-tree (and contexts) as before only while
+ * the tree is still held; a caller which maps contexts (e.g. in an IdentityHashMap)
+ * must keep its own reference to the parse-tree, instead of requesting it again.
+ * The compact form keeps the source code (as the character stream of the lexer),
+ * but not the tokens. Parse-trees with syntax errors are kept as such.
+ *
+ * The size of each entry is an estimate of its memory (in bytes), and when the total
+ * size exceeds the capacity, the least-recently used entries are evicted.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public class ParseTreeCache {
+
+	// suffix of the cache keys of signature-only parse-trees
+	private static final String SIGNATURES = "#signatures";
+
+	private final long capacity;
+	private final LinkedHashMap<String, Entry> entries;
+	private long size;
+	private int hits, misses, evictions;
+
+	// estimated memory of an ANTLR parse-tree, per character of source code
+	private static final int TREE_BYTES_PER_CHAR = 32;
+
+	/**
+	 * Construct a new parse-tree cache with the default capacity;
+	 * which is a quarter of the maximum heap size.
+	 */
+	public ParseTreeCache() {
+		this(Runtime.getRuntime().maxMemory() / 4);
+	}
+
+	/**
+	 * Construct a new parse-tree cache with the given capacity,
+	 * which is the maximum total estimated memory of cached parse-trees (in bytes).
+	 * A cache with zero capacity does not keep any parse-tree.
+	 */
+	public ParseTreeCache(long capacity) {
+		this.capacity = capacity;
+		entries = new LinkedHashMap<>(64, 0.75f, true);
+		size = 0;
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/**
+	 * Returns the parse-tree of the given Java source file.
+	 */
+	public ParseTree parse(File javaFile) throws IOException {
+		return parse(JavaSource.read(javaFile));
+	}
+
+	/**
+	 * Returns the parse-tree of the given Java source file, if it is cached;
+	 * otherwise the file is parsed, but its parse-tree is not added to the cache.
+	 * This is for analyses which visit each file once at a time, and should not
+	 * keep parse-trees in memory (e.g. the low-memory PDG builder).
+	 */
+	public ParseTree parseTransient(File javaFile) throws IOException {
+		JavaSource source = JavaSource.read(javaFile);
+		Entry entry = find(source.getName(), source.hash());
+		if (entry != null)
+			return entry.getTree();
+		return JavaParserFactory.parseCompilationUnit(source.toCharStream());
+	}
+
+	/**
+	 * Returns the parse-tree of the given Java source entry of a ZIP file.
+	 */
+	public ParseTree parse(ZipFile zip, ZipEntry entry) throws IOException {
+		return parse(JavaSource.read(zip, entry));
+	}
+
+	/**
+	 * Returns the parse-tree of the given Java source code,
+	 * where the path is only used as the key of the cache.
+	 */
+	public ParseTree parse(String path, byte[] content) throws IOException {
+		return parse(JavaSource.wrap(path, content));
+	}
+
+	/**
+	 * Returns the parse-tree of the given Java source,
+	 * where its name is used as the key of the cache.
+	 */
+	public ParseTree parse(JavaSource source) {
+		byte[] hash = source.hash();
+		Entry entry = find(source.getName(), hash);
+		if (entry != null)
+			return entry.getTree();
+		ParseTree tree = JavaParserFactory.parseCompilationUnit(source.toCharStream());
+		put(source.getName(), hash, tree, source.length());
+		return tree;
+	}
+
+	/**
+	 * Returns a signature-only parse-tree of the given Java source file;
+	 * i.e. without the statements of method, constructor and initializer bodies.
+	 * If the full parse-tree of the file is already cached, it is returned instead.
+	 */
+	public ParseTree parseSignatures(File javaFile) throws IOException {
+		return parseSignatures(JavaSource.read(javaFile));
+	}
+
+	/**
+	 * Returns a signature-only parse-tree of the given Java source entry of a ZIP file.
+	 * If the full parse-tree of the entry is already cached, it is returned instead.
+	 */
+	public ParseTree parseSignatures(ZipFile zip, ZipEntry entry) throws IOException {
+		return parseSignatures(JavaSource.read(zip, entry));
+	}
+
+	/**
+	 * Returns a signature-only parse-tree of the given Java source code,
+	 * where the path is only used as the key of the cache.
+	 */
+	public ParseTree parseSignatures(String path, byte[] content) throws IOException {
+		return parseSignatures(JavaSource.wrap(path, content));
+	}
+
+	/**
+	 * Returns a signature-only parse-tree of the given Java source,
+	 * where its name is used as the key of the cache.
+	 */
+	public ParseTree parseSignatures(JavaSource source) {
+		byte[] hash = source.hash();
+		String path = source.getName();
+		String sigPath = path + SIGNATURES;
+		Entry entry;
+		synchronized (this) {
+			// a full parse-tree also has all the signatures
+			entry = entries.get(path);
+			if (entry == null || !Arrays.equals(entry.hash, hash))
+				entry = entries.get(sigPath);
+			if (entry != null && Arrays.equals(entry.hash, hash)) {
+				++hits;
+			} else {
+				entry = null;
+				++misses;
+			}
+		}
+		if (entry != null)
+			return entry.getTree();
+		ParseTree tree = SignatureParser.parse(source.toCharStream());
+		put(sigPath, hash, tree, source.length());
+		return tree;
+	}
+
+	/**
+	 * Returns the entry of the given path, if it is cached with the given hash; otherwise null.
+	 */
+	private synchronized Entry find(String path, byte[] hash) {
+		Entry entry = entries.get(path);
+		if (entry != null && Arrays.equals(entry.hash, hash)) {
+			++hits;
+			return entry;
+		}
+		++misses;
+		return null;
+	}
+
+	private void put(String path, byte[] hash, ParseTree tree, int length) {
+		if (capacity <= 0)
+			return;
+		// the parse-tree is lowered outside the lock of the cache
+		Entry entry = new Entry(hash, tree, length);
+		synchronized (this) {
+			Entry old = entries.put(path, entry);
+			if (old != null)
+				size -= old.size;
+			size += entry.size;
+			shrink();
+		}
+	}
+
+	/**
+	 * While the total size exceeds the capacity, evict the least-recently used entries.
+	 * The newest entry is always kept.
+	 */
+	private void shrink() {
+		Iterator<Entry> lru = entries.values().iterator();
+		while (size > capacity && entries.size() > 1) {
+			Entry eldest = lru.next();
+			lru.remove();
+			size -= eldest.size;
+			++evictions;
+		}
+	}
+
+	/**
+	 * Remove all cached parse-trees.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		size = 0;
+	}
+
+	synchronized int getHits() {
+		return hits;
+	}
+
+	synchronized int getMisses() {
+		return misses;
+	}
+
+	synchronized int getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the total estimated size of the cached parse-trees (in bytes).
+	 */
+	synchronized long getSize() {
+		return size;
+	}
+
+	/**
+	 * Log the usage statistics of this cache.
+	 */
+	public synchronized void logStats(Logger.Level level) {
+		Logger.log(String.format("Parse-tree cache: %d hits, %d misses, %d evictions, %d entries (%d bytes)",
+				hits, misses, evictions, entries.size(), size), level);
+	}
+
+	/**
+	 * A cached parse-tree along with the hash of its source code, and its estimated size.
+	 * The parse-tree is kept in compact form, with a weak reference to the last ANTLR
+	 * parse-tree in use; unless it cannot be lowered, which is kept as such.
+	 */
+	private static class Entry {
+
+		final byte[] hash;
+		final long size;
+		private final CompactParseTree compact;
+		private final ParseTree tree;
+		private WeakReference<ParseTree> live;
+
+		Entry(byte[] hash, ParseTree tree, int length) {
+			this.hash = hash;
+			compact = CompactParseTree.lower(tree);
+			if (compact != null) {
+				this.tree = null;
+				live = new WeakReference<>(tree);
+				size = compact.memorySize();
+			} else {
+				this.tree = tree;
+				size = (long) TREE_BYTES_PER_CHAR * length;
+			}
+		}
+
+		/**
+		 * Returns the parse-tree of this entry; which is rebuilt if it has been released.
+		 */
+		synchronized ParseTree getTree() {
+			if (compact == null)
+				return tree;
+			ParseTree result = live.get();
+			if (result == null) {
+				result = compact.toParseTree();
+				live = new WeakReference<>(result);
+			}
+			return result;
+		}
+	}
+}
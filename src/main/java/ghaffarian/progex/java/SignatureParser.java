@@ -0,0 +1,120 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import ghaffarian.progex.java.parser.JavaLexer;
+
+/**
+ * A fast parser for the signatures of Java source files.
+ *
+ * The tokens of method, constructor, and initializer bodies are removed
+ * by brace-matching over the token stream (leaving empty '{' '}' blocks),
+ * before the tokens are given to the parser. The resulting parse-tree has
+ * the package, imports, type declarations, fields, and method signatures
+ * of the source file, with their original lines; which is all that the
+ * class-info extraction needs, at a fraction of the cost of a full parse.
+ *
+ * Field initializers are kept intact (they may contain anonymous classes).
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+final class SignatureParser {
+
+	private SignatureParser() {
+	}
+
+	/**
+	 * Returns the signature-only parse-tree of the given Java source code.
+	 */
+	static ParseTree parse(CharStream input) {
+		List<Token> tokens = stripBodies(new JavaLexer(input).getAllTokens());
+		return JavaParserFactory.parseCompilationUnit(new CommonTokenStream(new ListTokenSource(tokens)));
+	}
+
+	/**
+	 * Returns the given list of tokens, without the tokens inside
+	 * the bodies of methods, constructors, and initializer blocks.
+	 */
+	static List<Token> stripBodies(List<? extends Token> tokens) {
+		List<Token> signatures = new ArrayList<>(tokens.size());
+		// depth of nested type bodies; the top-level is depth zero
+		int typeDepth = 0;
+		// state of the current member declaration at the current type depth
+		int parens = 0;
+		boolean isType = false, isInitializer = false;
+		int prevType = Token.INVALID_TYPE;
+		for (int i = 0; i < tokens.size(); ++i) {
+			Token token = tokens.get(i);
+			signatures.add(token);
+			switch (token.getType()) {
+				case JavaLexer.LPAREN:
+					++parens;
+					break;
+				case JavaLexer.RPAREN:
+					--parens;
+					break;
+				case JavaLexer.ASSIGN:
+					isInitializer |= parens == 0;
+					break;
+				case JavaLexer.CLASS:
+				case JavaLexer.INTERFACE:
+				case JavaLexer.ENUM:
+					// not a class literal, such as 'String.class'
+					isType |= parens == 0 && prevType != JavaLexer.DOT;
+					break;
+				case JavaLexer.SEMI:
+					if (parens == 0)
+						isType = isInitializer = false;
+					break;
+				case JavaLexer.RBRACE:
+					--typeDepth;
+					parens = 0;
+					isType = isInitializer = false;
+					break;
+				case JavaLexer.LBRACE:
+					if (parens > 0 || isInitializer) {
+						// an array initializer or anonymous class; keep all of it
+						i = matchBrace(tokens, i, signatures);
+					} else if (isType || typeDepth == 0) {
+						++typeDepth;
+						isType = false;
+					} else {
+						// a method, constructor, or initializer body
+						i = matchBrace(tokens, i, null);
+						signatures.add(tokens.get(i));
+						isType = isInitializer = false;
+					}
+					break;
+			}
+			prevType = token.getType();
+		}
+		return signatures;
+	}
+
+	/**
+	 * Returns the index of the closing brace which matches the opening brace at
+	 * the given index; and the tokens after the opening brace (including the
+	 * closing brace) are added to the given list, if not null. If no matching
+	 * brace exists, the index of the last token is returned.
+	 */
+	private static int matchBrace(List<? extends Token> tokens, int open, List<Token> keep) {
+		int depth = 1;
+		int i = open + 1;
+		for (; i < tokens.size(); ++i) {
+			Token token = tokens.get(i);
+			if (keep != null)
+				keep.add(token);
+			if (token.getType() == JavaLexer.LBRACE)
+				++depth;
+			else if (token.getType() == JavaLexer.RBRACE && --depth == 0)
+				return i;
+		}
+		return tokens.size() - 1;
+	}
+}
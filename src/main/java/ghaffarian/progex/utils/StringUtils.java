@@ -16,22 +16,50 @@ public class StringUtils {
     }
 	
 	/**
-	 * A simple escaping method based on REGEX.
+	 * A simple escaping method for the labels of exported graphs.
+	 * Double-quotes are replaced by single-quotes, line breaks by spaces,
+	 * backslashes are escaped, and consecutive spaces are removed
+	 * (see removeConsecutiveSpaces).
 	 */
 	public static String escape(String code) {
         if (code == null)
             return null;
-		// Match and replace all string literals
-		//String escapedCode = code.replaceAll("\".*?\"", "STR");
-		String escapedCode = code.replaceAll("\"", "'");
-        escapedCode = escapedCode.replaceAll("\n", " ");
-        escapedCode = escapedCode.replaceAll("\r", " ");
-		// Match and replace all numeric literals
-		//escapedCode = escapedCode.replaceAll("\\b-?\\d+(.\\d+)*\\b", "$NUM");
-		// Match and escape all backslashes
-		escapedCode = escapedCode.replaceAll("\\\\", "\\\\\\\\");
-        //
-		return removeConsecutiveSpaces(escapedCode);
+        return escape(code, new StringBuilder(code.length() + 8)).toString();
+	}
+	
+	/**
+	 * Append the escaped version of the given code to the given builder, and return the builder.
+	 * This is the same as escape(String), in a single pass over the code; so exporters
+	 * can reuse a single builder for all labels. A null code is appended as "null".
+	 */
+	public static StringBuilder escape(String code, StringBuilder out) {
+        if (code == null)
+            return out.append("null");
+        int spaces = 0;
+        for (int i = 0; i < code.length(); ++i) {
+            char chr = code.charAt(i);
+            if (chr == ' ' || chr == '\n' || chr == '\r') {
+                ++spaces;
+                continue;
+            }
+            if (spaces > 0) {
+                appendSpaces(out, spaces);
+                spaces = 0;
+            }
+            switch (chr) {
+                case '"':
+                    out.append('\'');
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                default:
+                    out.append(chr);
+            }
+        }
+        if (spaces > 0)
+            appendSpaces(out, spaces);
+        return out;
 	}
     
     /**
@@ -39,12 +67,36 @@ public class StringUtils {
      * The resulting string will only have runs of at most two spaces.
      */
     public static String removeConsecutiveSpaces(String str) {
-        String before;
-        do {
-            before = str;
-            str = str.replace("   ", " ");
-        } while (!before.equals(str));
-        return str;
+        if (str.indexOf("   ") < 0)
+            return str;
+        StringBuilder out = new StringBuilder(str.length());
+        int spaces = 0;
+        for (int i = 0; i < str.length(); ++i) {
+            char chr = str.charAt(i);
+            if (chr == ' ') {
+                ++spaces;
+                continue;
+            }
+            if (spaces > 0) {
+                appendSpaces(out, spaces);
+                spaces = 0;
+            }
+            out.append(chr);
+        }
+        if (spaces > 0)
+            appendSpaces(out, spaces);
+        return out.toString();
+    }
+    
+    /**
+     * Append the remainder of a run of the given number of spaces, after all
+     * occurrences of 3 spaces are repeatedly replaced with a single space;
+     * each replacement removes two spaces, so only the parity of a long run remains.
+     */
+    private static void appendSpaces(StringBuilder out, int count) {
+        if (count >= 3)
+            count = 2 - (count & 1);
+        out.append(count == 2 ? "  " : " ");
     }
 	
 	/**
@@ -1,7 +1,55 @@
 /*** In The Name of Allah ***/
 package ghaffarian.progex;
 
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import ghaffarian.graphs.Edge;
+import ghaffarian.progex.graphs.BinaryGraphReader;
+import ghaffarian.progex.graphs.CompactGraph;
+import ghaffarian.progex.graphs.ast.ASNode;
+import ghaffarian.progex.graphs.cfg.CFEdge;
+import ghaffarian.progex.graphs.cfg.CFNode;
+import ghaffarian.progex.graphs.cfg.ControlFlowGraph;
+import ghaffarian.progex.graphs.pdg.CDEdge;
+import ghaffarian.progex.graphs.pdg.ControlDependenceGraph;
+import ghaffarian.progex.graphs.pdg.DDEdge;
+import ghaffarian.progex.graphs.pdg.DataDependenceGraph;
+import ghaffarian.progex.graphs.pdg.PDGBuilder;
+import ghaffarian.progex.graphs.pdg.PDNode;
+import ghaffarian.progex.graphs.pdg.ProgramDependeceGraph;
+import ghaffarian.progex.java.JavaCFGBuilder;
+import ghaffarian.progex.java.JavaClassExtractor;
+import ghaffarian.progex.java.JavaDDGBuilder;
+import ghaffarian.progex.java.ParseTreeCache;
 import ghaffarian.progex.utils.FileUtils;
 
 import static org.junit.Assert.*;
@@ -64,6 +112,51 @@ public class BasicAnalysisTests {
         assertEquals(testFiles.length, outFiles.length);
     }
     
+    @Test
+    public void javaCFGDotMultiThreadedTest() throws IOException {
+        String outDir = OUTPUT_DIR + "CFG-MT/";
+        String[] args = {"-cfg", "-threads", "4", "-outdir", outDir, JAVA_SRC_DIR};
+        Main.main(args);
+        // the single-threaded output, independent of the order of tests
+        String singleDir = OUTPUT_DIR + "CFG/";
+        Main.main(new String[] {"-cfg", "-outdir", singleDir, JAVA_SRC_DIR});
+        //
+        String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+        String[] outFiles = FileUtils.listFilesWithSuffix(new String[] {outDir}, "-CFG.dot");
+        assertEquals(testFiles.length, outFiles.length);
+        for (String outFile: outFiles) {
+            File single = new File(singleDir, new File(outFile).getName());
+            assertTrue(single.getPath(), single.exists());
+            assertArrayEquals(outFile, Files.readAllBytes(single.toPath()), Files.readAllBytes(Paths.get(outFile)));
+        }
+    }
+    
+    @Test
+    public void javaPDGDotIncrementalTest() throws IOException {
+        String cacheDir = OUTPUT_DIR + "cache/";
+        Map<String, Long> cacheFiles = null;
+        for (String run: new String[] {"PDG-INC1/", "PDG-INC2/"}) {
+            String outDir = OUTPUT_DIR + run;
+            String[] args = {"-pdg", "-incremental", cacheDir, "-outdir", outDir, JAVA_SRC_DIR};
+            Main.main(args);
+            //
+            String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+            String[] outDataFiles = FileUtils.listFilesWithSuffix(new String[] {outDir}, "-PDG-DATA.dot");
+            String[] outCtrlFiles = FileUtils.listFilesWithSuffix(new String[] {outDir}, "-PDG-CTRL.dot");
+            assertEquals(testFiles.length, outDataFiles.length);
+            assertEquals(testFiles.length, outCtrlFiles.length);
+            // the second run is restored from the cache, so no cache file is written
+            Map<String, Long> files = new TreeMap<>();
+            try (Stream<Path> paths = Files.walk(Paths.get(cacheDir))) {
+                paths.filter(Files::isRegularFile).forEach(path -> files.put(path.toString(), path.toFile().lastModified()));
+            }
+            assertFalse(files.isEmpty());
+            if (cacheFiles != null)
+                assertEquals(cacheFiles, files);
+            cacheFiles = files;
+        }
+    }
+    
     @Test
     public void javaPDGDotTest() {
         String outDir = OUTPUT_DIR + "PDG/";
@@ -77,6 +170,325 @@ public class BasicAnalysisTests {
         assertEquals(testFiles.length, outCtrlFiles.length);
     }
     
+    @Test
+    public void javaDataFlowLegacyTest() throws IOException {
+        File[] files = javaTestFiles();
+        DataDependenceGraph[] ddgs = JavaDDGBuilder.buildForAll(files);
+        JavaDDGBuilder.setLegacyDataFlow(true);
+        DataDependenceGraph[] legacyDDGs;
+        try {
+            legacyDDGs = JavaDDGBuilder.buildForAll(files);
+        } finally {
+            JavaDDGBuilder.setLegacyDataFlow(false);
+        }
+        assertSameDDGs(legacyDDGs, ddgs);
+    }
+    
+    @Test
+    public void javaDDGParallelTest() throws IOException {
+        File[] files = javaTestFiles();
+        DataDependenceGraph[] ddgs = JavaDDGBuilder.buildForAll(files);
+        JavaDDGBuilder.setThreadCount(4);
+        DataDependenceGraph[] parallelDDGs;
+        try {
+            parallelDDGs = JavaDDGBuilder.buildForAll(files);
+        } finally {
+            JavaDDGBuilder.setThreadCount(1);
+        }
+        assertSameDDGs(ddgs, parallelDDGs);
+    }
+    
+    @Test
+    public void javaDefUseWorklistTest() throws IOException {
+        File[] files = javaTestFiles();
+        DataDependenceGraph[] ddgs = JavaDDGBuilder.buildForAll(files);
+        JavaDDGBuilder.setLegacyIteration(true);
+        DataDependenceGraph[] legacyDDGs;
+        try {
+            legacyDDGs = JavaDDGBuilder.buildForAll(files);
+        } finally {
+            JavaDDGBuilder.setLegacyIteration(false);
+        }
+        assertSameDDGs(legacyDDGs, ddgs);
+    }
+    
+    @Test
+    public void javaLibrarySummariesTest() throws IOException {
+        File[] files = javaTestFiles();
+        File index = new File(OUTPUT_DIR + "summaries/jdk7-src.summaries");
+        index.delete();
+        String property = System.setProperty("progex.summaries", index.getPath());
+        try {
+            // the first build analyzes the imports, and the second one loads their summaries
+            DataDependenceGraph[] freshDDGs = JavaDDGBuilder.buildForAll(files);
+            assertTrue(index.exists());
+            long modified = index.lastModified();
+            DataDependenceGraph[] indexedDDGs = JavaDDGBuilder.buildForAll(files);
+            assertEquals(modified, index.lastModified());
+            assertSameDDGs(freshDDGs, indexedDDGs);
+            // signatures which are not named in the imports do not change the key of the summaries
+            byte[] indexed = Files.readAllBytes(index.toPath());
+            File probe = new File(OUTPUT_DIR + "summaries/ProgexProbe.java");
+            File[] probedFiles = Arrays.copyOf(files, files.length + 1);
+            probedFiles[files.length] = probe;
+            Files.write(probe.toPath(), "class ProgexProbe { int progexProbe(int x) { return x; } }".getBytes(StandardCharsets.UTF_8));
+            JavaDDGBuilder.buildForAll(probedFiles);
+            assertArrayEquals(indexed, Files.readAllBytes(index.toPath()));
+            // but a method with the name of a library method does
+            Files.write(probe.toPath(), "class ProgexProbe { int length() { return 0; } }".getBytes(StandardCharsets.UTF_8));
+            JavaDDGBuilder.buildForAll(probedFiles);
+            assertFalse(Arrays.equals(indexed, Files.readAllBytes(index.toPath())));
+        } finally {
+            if (property == null)
+                System.clearProperty("progex.summaries");
+            else
+                System.setProperty("progex.summaries", property);
+        }
+    }
+
+    @Test
+    public void javaPostDominatorCDGTest() throws IOException {
+        String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+        AnalysisSession session = new AnalysisSession();
+        session.setSyntacticCDG(false);
+        ProgramDependeceGraph[] pdgs = PDGBuilder.buildForAll(session, "Java", testFiles, null);
+        for (ProgramDependeceGraph pdg: pdgs) {
+            ControlDependenceGraph cdg = pdg.CDS;
+            DataDependenceGraph ddg = pdg.DDS;
+            assertTrue(pdg.FILE_NAME, cdg.edgeCount() > 0);
+            for (PDNode node: cdg.copyVertexSet()) {
+                if (node.getCode().equals("exit"))
+                    continue;
+                // all statements are shared with the DDS, and each one is
+                // control dependent on some node, except for method entries
+                assertTrue(node.toString(), ddg.containsVertex(node));
+                if (cdg.getInDegree(node) == 0)
+                    assertTrue(node.toString(), cdg.getOutDegree(node) > 0);
+            }
+        }
+    }
+    
+    @Test
+    public void javaPDGSliceTest() throws IOException {
+        String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+        AnalysisSession postDominators = new AnalysisSession();
+        postDominators.setSyntacticCDG(false);
+        for (AnalysisSession session: new AnalysisSession[] {new AnalysisSession(), postDominators}) {
+            for (ProgramDependeceGraph pdg: PDGBuilder.buildForAll(session, "Java", testFiles, null)) {
+                assertEquals(pdg.FILE_NAME, pdg.DDS.vertexCount(), pdg.getID(pdg.getNode(pdg.DDS.vertexCount() - 1)) + 1);
+                for (Edge<PDNode, DDEdge> edge: pdg.DDS.copyEdgeSet())
+                    assertTrue(edge.toString(), pdg.backwardSlice(edge.target).contains(edge.source));
+                for (Edge<PDNode, CDEdge> edge: pdg.CDS.copyEdgeSet())
+                    assertTrue(edge.toString(), pdg.forwardSlice(edge.source).contains(edge.target));
+                // a node is in the backward slice of another, iff the other is in its forward slice
+                for (int i = 0; i < pdg.nodeCount(); ++i)
+                    for (PDNode node: pdg.backwardSlice(pdg.getNode(i)))
+                        assertTrue(node.toString(), pdg.forwardSlice(node).contains(pdg.getNode(i)));
+            }
+        }
+    }
+    
+    @Test
+    public void javaPDGThrowSliceTest() throws IOException {
+        String[] testFiles = {JAVA_SRC_DIR + "Test5.java"};
+        AnalysisSession postDominators = new AnalysisSession();
+        postDominators.setSyntacticCDG(false);
+        for (AnalysisSession session: new AnalysisSession[] {new AnalysisSession(), postDominators}) {
+            ProgramDependeceGraph pdg = PDGBuilder.buildForAll(session, "Java", testFiles, null)[0];
+            PDNode throwNode = null, ifNode = null, entry = null;
+            for (PDNode node: pdg.DDS.copyVertexSet()) {
+                if (node.getCode().startsWith("throw "))
+                    throwNode = node;
+                else if (node.getCode().equals("if (i == 0)"))
+                    ifNode = node;
+                else if (node.getCode().equals("void test4(int i)"))
+                    entry = node;
+            }
+            assertNotNull(throwNode);
+            assertNotNull(ifNode);
+            assertNotNull(entry);
+            // the 'throw' statement is a single node, with both its control and data dependences
+            assertTrue(throwNode.toString(), pdg.CDS.containsVertex(throwNode));
+            Set<PDNode> slice = pdg.backwardSlice(throwNode);
+            assertTrue(slice.toString(), slice.contains(ifNode));
+            assertTrue(slice.toString(), slice.contains(entry));
+            assertTrue(pdg.forwardSlice(ifNode).contains(throwNode));
+        }
+    }
+    
+    @Test
+    public void javaSignatureExtractionTest() throws IOException {
+        String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+        ParseTreeCache cache = new ParseTreeCache();
+        for (String path: testFiles) {
+            File file = new File(path);
+            String signatures = JavaClassExtractor.extractInfo(file).toString();
+            String full = JavaClassExtractor.extractInfo(file.getAbsolutePath(), 
+                    cache.parse(file)).toString();
+            assertEquals(path, full, signatures);
+        }
+        if (new File("lib/src.zip").exists()) {
+            try (ZipFile zip = new ZipFile("lib/src.zip")) {
+                for (ZipEntry entry: Collections.list(zip.entries())) {
+                    if (!entry.getName().endsWith(".java"))
+                        continue;
+                    String signatures = JavaClassExtractor.extractInfo(entry.getName(), zip.getInputStream(entry)).toString();
+                    String full = JavaClassExtractor.extractInfo(entry.getName(), 
+                            cache.parse(zip, entry)).toString();
+                    assertEquals(entry.getName(), full, signatures);
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void javaConcurrentSessionsTest() throws Exception {
+        File[] files = javaTestFiles();
+        DataDependenceGraph[] expected = JavaDDGBuilder.buildForAll(files);
+        AnalysisSession parallel = new AnalysisSession();
+        parallel.setThreadCount(4);
+        AnalysisSession legacy = new AnalysisSession();
+        legacy.setLegacyIteration(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<DataDependenceGraph[]>> results = new ArrayList<>();
+            for (AnalysisSession session: new AnalysisSession[] {parallel, legacy, parallel, legacy})
+                results.add(executor.submit(() -> JavaDDGBuilder.buildForAll(session, files, null)));
+            for (Future<DataDependenceGraph[]> result: results)
+                assertSameDDGs(expected, result.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    public void javaCFGFreezeTest() throws IOException {
+        String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+        for (String file: testFiles) {
+            ControlFlowGraph cfg = JavaCFGBuilder.build(file);
+            CompactGraph<CFNode, CFEdge> frozen = cfg.freeze();
+            assertEquals(cfg.vertexCount(), frozen.vertexCount());
+            assertEquals(cfg.edgeCount(), frozen.edgeCount());
+            Iterator<CFNode> nodes = cfg.allVerticesIterator();
+            for (int v = 0; nodes.hasNext(); ++v) {
+                CFNode node = nodes.next();
+                assertSame(node, frozen.getVertex(v));
+                assertEquals(v, frozen.getID(node));
+                Iterator<Edge<CFNode, CFEdge>> outEdges = cfg.outgoingEdgesIterator(node);
+                for (int i = 0; i < frozen.getOutDegree(v); ++i) {
+                    Edge<CFNode, CFEdge> edge = outEdges.next();
+                    int e = frozen.getOutEdge(v, i);
+                    assertSame(edge.target, frozen.getVertex(frozen.getTarget(e)));
+                    assertEquals(edge.label.type.ordinal(), frozen.getType(e));
+                    assertEquals(edge.label.type, frozen.getLabel(e).type);
+                }
+                assertFalse(outEdges.hasNext());
+                assertEquals(cfg.getInDegree(node), frozen.getInDegree(v));
+            }
+            assertTrue(frozen.labelCount() <= CFEdge.Type.values().length);
+            // the IDs of several vertices, with one scan
+            CFNode[] entries = cfg.getAllMethodEntries();
+            int[] ids = frozen.getIDs(entries);
+            for (int i = 0; i < entries.length; ++i)
+                assertSame(entries[i], frozen.getVertex(ids[i]));
+            assertEquals(-1, frozen.getIDs(new CFNode[] {new CFNode()})[0]);
+        }
+    }
+    
+    @Test
+    public void nodePropertiesTest() {
+        ASNode asNode = new ASNode(ASNode.Type.BLOCK);
+        CFNode cfNode = new CFNode();
+        PDNode pdNode = new PDNode();
+        cfNode.setLineOfCode(7);
+        pdNode.setLineOfCode(7);
+        asNode.setLineOfCode(7);
+        asNode.setProperty("Extra", "value");
+        assertEquals("value", asNode.getProperty("extra"));
+        // the line is a property only while it is set, for all kinds of nodes
+        for (Object node: new Object[] {asNode, cfNode, pdNode}) {
+            assertEquals(node.toString(), 7, getProperty(node, "line"));
+            setProperty(node, "line", null);
+            assertNull(node.toString(), getProperty(node, "line"));
+            assertFalse(node.toString(), getAllProperties(node).contains("line"));
+            setProperty(node, "line", 9);
+            assertEquals(node.toString(), 9, getProperty(node, "line"));
+            assertTrue(node.toString(), getAllProperties(node).contains("line"));
+        }
+        setProperty(asNode, "line", null);
+        try {
+            asNode.getLineOfCode();
+            fail("unset line of code");
+        } catch (IllegalStateException ex) {
+            // expected, as for CF and PD nodes
+        }
+    }
+    
+    private static Object getProperty(Object node, String key) {
+        if (node instanceof ASNode)
+            return ((ASNode) node).getProperty(key);
+        if (node instanceof CFNode)
+            return ((CFNode) node).getProperty(key);
+        return ((PDNode) node).getProperty(key);
+    }
+    
+    private static void setProperty(Object node, String key, Object value) {
+        if (node instanceof ASNode)
+            ((ASNode) node).setProperty(key, value);
+        else if (node instanceof CFNode)
+            ((CFNode) node).setProperty(key, value);
+        else
+            ((PDNode) node).setProperty(key, value);
+    }
+    
+    private static Set<String> getAllProperties(Object node) {
+        if (node instanceof ASNode)
+            return ((ASNode) node).getAllProperties();
+        if (node instanceof CFNode)
+            return ((CFNode) node).getAllProperties();
+        return ((PDNode) node).getAllProperties();
+    }
+    
+    private File[] javaTestFiles() {
+        String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+        File[] files = new File[testFiles.length];
+        for (int i = 0; i < files.length; ++i)
+            files[i] = new File(testFiles[i]);
+        return files;
+    }
+    
+    private static void assertSameDDGs(DataDependenceGraph[] expected, DataDependenceGraph[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; ++i) {
+            assertEquals(expected[i].fileName, actual[i].fileName);
+            assertEquals(expected[i].fileName, defUses(expected[i]), defUses(actual[i]));
+            assertEquals(expected[i].fileName, flowEdges(expected[i]), flowEdges(actual[i]));
+        }
+    }
+    
+    private static Set<String> defUses(DataDependenceGraph ddg) {
+        Set<String> defUses = new TreeSet<>();
+        Iterator<PDNode> iter = ddg.allVerticesIterator();
+        while (iter.hasNext()) {
+            PDNode node = iter.next();
+            defUses.add(node + " DEFs: " + new TreeSet<>(Arrays.asList(node.getAllDEFs()))
+                    + " USEs: " + new TreeSet<>(Arrays.asList(node.getAllUSEs())));
+        }
+        return defUses;
+    }
+    
+    private static Set<String> flowEdges(DataDependenceGraph ddg) {
+        Set<String> edges = new TreeSet<>();
+        Iterator<Edge<PDNode, DDEdge>> iter = ddg.allEdgesIterator();
+        while (iter.hasNext()) {
+            Edge<PDNode, DDEdge> edge = iter.next();
+            if (edge.label.type == DDEdge.Type.FLOW)
+                edges.add(edge.source.getLineOfCode() + ": " + edge.source.getCode() + " --" + edge.label.var
+                        + "-> " + edge.target.getLineOfCode() + ": " + edge.target.getCode());
+        }
+        return edges;
+    }
+    
     @Test
     public void javaASTreeGmlTest() {
         String outDir = OUTPUT_DIR + "AST/";
@@ -146,4 +558,132 @@ public class BasicAnalysisTests {
         assertEquals(testFiles.length, outDataFiles.length);
         assertEquals(testFiles.length, outCtrlFiles.length);
     }
+    
+    @Test
+    public void javaCFGBinTest() throws IOException {
+        String outDir = OUTPUT_DIR + "BIN/";
+        String[] args = {"-cfg", "-outdir", outDir, "-format", "bin", JAVA_SRC_DIR};
+        Main.main(args);
+        //
+        String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+        String[] outFiles = FileUtils.listFilesWithSuffix(new String[] {outDir}, "-CFG.bin");
+        assertEquals(testFiles.length, outFiles.length);
+        for (String file: testFiles) {
+            ControlFlowGraph cfg = JavaCFGBuilder.build(file);
+            CompactGraph<CFNode, CFEdge> frozen = cfg.freeze();
+            String name = new File(file).getName();
+            BinaryGraphReader bin = BinaryGraphReader.open(outDir + name.substring(0, name.indexOf('.')) + "-CFG.bin");
+            assertEquals("CFG", bin.getKind());
+            assertEquals(name, bin.getProperty("file"));
+            assertEquals(frozen.vertexCount(), bin.nodeCount());
+            assertEquals(frozen.edgeCount(), bin.edgeCount());
+            int label = bin.getAttributeIndex("label");
+            for (int v = 0; v < bin.nodeCount(); ++v) {
+                assertEquals(frozen.getVertex(v).getLineOfCode(), bin.getLine(v));
+                assertEquals(frozen.getVertex(v).getCode(), bin.getNodeValue(v, label));
+            }
+            String[] types = bin.getEdgeTypes();
+            for (int e = 0; e < bin.edgeCount(); ++e) {
+                assertEquals(frozen.getSource(e), bin.getSource(e));
+                assertEquals(frozen.getTarget(e), bin.getTarget(e));
+                assertEquals(frozen.getLabel(e).type.toString(), types[bin.getType(e)]);
+            }
+        }
+    }
+    
+    @Test
+    public void javaPDGStreamTest() throws IOException {
+        String outDir = OUTPUT_DIR + "STREAM/";
+        new File(outDir).mkdirs();
+        String stream = outDir + "graphs.ndjson.gz";
+        String[] args = {"-pdg", "-stream", stream, JAVA_SRC_DIR};
+        Main.main(args);
+        //
+        String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(stream)), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine())
+                lines.add(line);
+        }
+        assertEquals(2 * testFiles.length, lines.size());
+        Set<String> paths = new TreeSet<>();
+        for (String line: lines) {
+            assertTrue(line.startsWith("{\"path\":\""));
+            assertTrue(line.contains("\"graph\":\"PDG-CTRL\"") || line.contains("\"graph\":\"PDG-DATA\""));
+            assertTrue(line.endsWith("}}"));
+            paths.add(line.substring(9, line.indexOf('"', 9)));
+        }
+        assertEquals(testFiles.length, paths.size());
+        // no graph files are exported, when streaming
+        assertEquals(0, FileUtils.listFilesWithSuffix(new String[] {outDir}, ".dot").length);
+    }
+    
+    @Test
+    public void serverClientRoundTripTest() throws Exception {
+        int port;
+        try (ServerSocket probe = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = probe.getLocalPort();
+        }
+        Server server = new Server(port);
+        server.setRequestTimeout(1000);
+        Thread serverThread = new Thread(() -> {
+            try {
+                server.run();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        serverThread.start();
+        //
+        String outDir = OUTPUT_DIR + "SERVER/";
+        String[] args = {"-cfg", "-outdir", outDir, JAVA_SRC_DIR};
+        Client client = new Client(port);
+        int status = client.send(args);
+        // the server may not be listening yet
+        for (int tries = 0; status == 2 && tries < 100; ++tries) {
+            Thread.sleep(100);
+            status = client.send(args);
+        }
+        assertEquals(0, status);
+        String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+        String[] outFiles = FileUtils.listFilesWithSuffix(new String[] {outDir}, "-CFG.dot");
+        assertEquals(testFiles.length, outFiles.length);
+        //
+        // a request with an invalid length is rejected, without stopping the server
+        byte[] token = Files.readAllBytes(Server.tokenFile(port).toPath());
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeInt(token.length);
+            out.write(token);
+            out.writeInt(Integer.MAX_VALUE);
+            out.flush();
+            assertEquals(-1, socket.getInputStream().read());
+        }
+        // a request without the token of the server is rejected
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeInt(4);
+            out.write("fake".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            assertEquals(Server.ERROR, in.readByte());
+            Server.readString(in);
+            assertEquals(Server.RESULT, in.readByte());
+            assertEquals("1", Server.readString(in));
+        }
+        assertEquals(0, client.send(args));
+        // an idle client, or one with a partial request, does not block the later requests
+        try (Socket idle = new Socket(InetAddress.getLoopbackAddress(), port);
+             Socket partial = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            partial.getOutputStream().write(new byte[] {0, 0});
+            partial.getOutputStream().flush();
+            assertEquals(0, client.send(args));
+        }
+        //
+        assertEquals(0, client.send(new String[] {Server.SHUTDOWN}));
+        serverThread.join(10000);
+        assertFalse(serverThread.isAlive());
+        assertFalse(Server.tokenFile(port).exists());
+    }
 }
@@ -0,0 +1,113 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import ghaffarian.progex.utils.FileUtils;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+/**
+ * Tests for different types of analyses using a generated synthetic corpus.
+ * 
+ * @author Seyed Mohammad Ghaffarian
+ */
+public class SyntheticAnalysisTests {
+
+    private static final String JAVA_SRC_DIR = "out/java/synthetic/src/";
+    private static final String OUTPUT_DIR = "out/java/synthetic/";
+    
+    @BeforeClass
+    public static void generate() throws IOException {
+        File out = new File(OUTPUT_DIR);
+        if (out.exists())
+            deleteDir(out);
+        new SyntheticCorpus(profile()).generate(new File(JAVA_SRC_DIR));
+    }
+    
+    private static SyntheticCorpus.Profile profile() {
+        SyntheticCorpus.Profile profile = new SyntheticCorpus.Profile();
+        profile.classes = 24;
+        profile.classesPerPackage = 8;
+        profile.methods = 4;
+        profile.statements = 6;
+        return profile;
+    }
+    
+    private static void deleteDir(File dir) {
+        if (dir.list().length > 0) {
+            for (File file: dir.listFiles()) {
+                if (file.isFile())
+                    file.delete();
+                else
+                    deleteDir(file);
+            }
+        }
+        dir.delete();
+    }
+    
+    @Test
+    public void deterministicTest() {
+        SyntheticCorpus first = new SyntheticCorpus(profile());
+        SyntheticCorpus second = new SyntheticCorpus(profile());
+        for (int c = 0; c < 3; ++c)
+            assertEquals(first.generateClass(c), second.generateClass(c));
+        assertEquals(first.getLineCount(), second.getLineCount());
+        assertTrue(first.getLineCount() > 0);
+    }
+    
+    @Test
+    public void javaCFGTest() {
+        String outDir = OUTPUT_DIR + "CFG/";
+        String[] args = {"-cfg", "-outdir", outDir, JAVA_SRC_DIR};
+        Main.main(args);
+        //
+        String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+        String[] outFiles = FileUtils.listFilesWithSuffix(new String[] {outDir}, "-CFG.dot");
+        assertEquals(profile().classes, testFiles.length);
+        assertEquals(testFiles.length, outFiles.length);
+    }
+    
+    @Test
+    public void javaPDGTest() {
+        String outDir = OUTPUT_DIR + "PDG/";
+        String[] args = {"-pdg", "-threads", "2", "-outdir", outDir, JAVA_SRC_DIR};
+        Main.main(args);
+        //
+        String[] testFiles = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, Execution.Languages.JAVA.suffix);
+        String[] outDataFiles = FileUtils.listFilesWithSuffix(new String[] {outDir}, "-PDG-DATA.dot");
+        String[] outCtrlFiles = FileUtils.listFilesWithSuffix(new String[] {outDir}, "-PDG-CTRL.dot");
+        assertEquals(testFiles.length, outDataFiles.length);
+        assertEquals(testFiles.length, outCtrlFiles.length);
+    }
+    
+    @Test
+    public void javaPDGLowMemoryTest() throws IOException {
+        String outDir = OUTPUT_DIR + "PDG-ALL/";
+        String lowMemDir = OUTPUT_DIR + "PDG-LOWMEM/";
+        Main.main(new String[] {"-pdg", "-outdir", outDir, JAVA_SRC_DIR});
+        Main.main(new String[] {"-pdg", "-lowmem", "-outdir", lowMemDir, JAVA_SRC_DIR});
+        //
+        String[] outFiles = FileUtils.listFilesWithSuffix(new String[] {outDir}, ".dot");
+        String[] lowMemFiles = FileUtils.listFilesWithSuffix(new String[] {lowMemDir}, ".dot");
+        assertEquals(2 * profile().classes, outFiles.length);
+        assertEquals(outFiles.length, lowMemFiles.length);
+        for (String outFile: outFiles) {
+            File lowMemFile = new File(lowMemDir, new File(outFile).getName());
+            assertArrayEquals(outFile, Files.readAllBytes(Paths.get(outFile)), Files.readAllBytes(lowMemFile.toPath()));
+        }
+    }
+    
+    @Test
+    public void javaICFGTest() {
+        String outDir = OUTPUT_DIR + "ICFG/";
+        String[] args = {"-icfg", "-outdir", outDir, JAVA_SRC_DIR};
+        Main.main(args);
+        //
+        String[] outFiles = FileUtils.listFilesWithSuffix(new String[] {outDir}, "-CFG.dot");
+        assertEquals(1, outFiles.length);
+    }
+}
@@ -0,0 +1,300 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.FileOutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * A generator of synthetic Java source code, for scaling experiments.
+ *
+ * The generated sources are valid Java 7 code with controlled properties,
+ * as specified by a profile: number of classes and methods, statements per block,
+ * nesting depth, branch fan-out, density of branches, loops, and calls,
+ * and def-use density (variables per method, and uses per expression).
+ * All methods are static, and calls are between methods of all classes;
+ * so the generated code has a dense inter-procedural call graph.
+ * The output is deterministic for a given profile (including its seed), and
+ * each file is written as it is generated; so millions of LOC can be generated.
+ *
+ * This class can also be run from the command line; e.g.:
+ *
+ *   java ghaffarian.progex.SyntheticCorpus out/synthetic classes=1000 methods=20 depth=4
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public class SyntheticCorpus {
+
+    /**
+     * Profile of a synthetic corpus.
+     */
+    public static class Profile {
+        /** Number of classes (one class per file). */
+        public int classes = 10;
+        /** Number of classes per package. */
+        public int classesPerPackage = 20;
+        /** Number of methods per class. */
+        public int methods = 10;
+        /** Number of statements of each method body; nested blocks have half of it (at least one). */
+        public int statements = 8;
+        /** Maximum nesting depth of compound statements. */
+        public int depth = 3;
+        /** Number of branches of each if-else chain or switch. */
+        public int fanout = 3;
+        /** Probability of a statement being a branch (if-else or switch). */
+        public double branches = 0.2;
+        /** Probability of a statement being a loop (for, while, or do-while). */
+        public double loops = 0.1;
+        /** Probability of a statement being a call to another method. */
+        public double calls = 0.15;
+        /** Number of local variables of each method. */
+        public int variables = 6;
+        /** Number of variables used in each expression. */
+        public int uses = 2;
+        /** Number of static fields of each class. */
+        public int fields = 3;
+        /** Seed of the random generator. */
+        public long seed = 7;
+
+        /**
+         * Set a property of this profile, given as a 'name=value' pair;
+         * where the name is the name of a field of this class.
+         */
+        public Profile set(String property) {
+            int eq = property.indexOf('=');
+            if (eq < 0)
+                throw new IllegalArgumentException("Invalid profile property: " + property);
+            String name = property.substring(0, eq).trim();
+            String value = property.substring(eq + 1).trim();
+            try {
+                java.lang.reflect.Field field = Profile.class.getField(name);
+                if (field.getType() == int.class)
+                    field.setInt(this, Integer.parseInt(value));
+                else if (field.getType() == long.class)
+                    field.setLong(this, Long.parseLong(value));
+                else
+                    field.setDouble(this, Double.parseDouble(value));
+            } catch (NoSuchFieldException | IllegalAccessException ex) {
+                throw new IllegalArgumentException("Unknown profile property: " + name);
+            }
+            return this;
+        }
+    }
+
+    private final Profile profile;
+    private final Random random;
+    private long lines;
+
+    public SyntheticCorpus(Profile profile) {
+        this.profile = profile;
+        this.random = new Random(profile.seed);
+        this.lines = 0;
+    }
+
+    /**
+     * Generate the corpus into the given directory (in package sub-directories),
+     * and return the paths of the generated Java files.
+     */
+    public String[] generate(File outDir) throws IOException {
+        String[] paths = new String[profile.classes];
+        for (int c = 0; c < profile.classes; ++c) {
+            String pkg = packageOf(c);
+            File dir = new File(outDir, pkg.replace('.', File.separatorChar));
+            dir.mkdirs();
+            File file = new File(dir, "C" + c + ".java");
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(file), StandardCharsets.UTF_8), 1 << 16)) {
+                out.write(generateClass(c));
+            }
+            paths[c] = file.getPath();
+        }
+        return paths;
+    }
+
+    /**
+     * Returns the total number of lines generated by this generator.
+     */
+    public long getLineCount() {
+        return lines;
+    }
+
+    private String packageOf(int cls) {
+        return "synthetic.p" + (cls / Math.max(1, profile.classesPerPackage));
+    }
+
+    /**
+     * Returns the source code of the class with the given number.
+     */
+    String generateClass(int cls) {
+        Code code = new Code();
+        code.line("package " + packageOf(cls) + ";");
+        code.line("");
+        // import all other packages, for calls to their classes
+        int packages = (profile.classes + profile.classesPerPackage - 1) / Math.max(1, profile.classesPerPackage);
+        for (int p = 0; p < packages; ++p)
+            if (!("synthetic.p" + p).equals(packageOf(cls)))
+                code.line("import synthetic.p" + p + ".*;");
+        code.line("");
+        code.open("public class C" + cls);
+        for (int f = 0; f < profile.fields; ++f)
+            code.line("static int f" + f + " = " + f + ";");
+        for (int m = 0; m < profile.methods; ++m) {
+            code.line("");
+            code.open("public static int m" + m + "(int a, int b)");
+            StringBuilder decl = new StringBuilder("int v0 = a");
+            for (int v = 1; v < Math.max(1, profile.variables); ++v)
+                decl.append(", v").append(v).append(v % 2 == 1 ? " = b" : " = " + v);
+            code.line(decl.append(';').toString());
+            block(code, 0, profile.statements);
+            code.line("return " + expression() + ";");
+            code.close();
+        }
+        code.close();
+        lines += code.lines;
+        return code.text.toString();
+    }
+
+    /**
+     * Generate the given number of statements at the given nesting depth.
+     */
+    private void block(Code code, int depth, int statements) {
+        for (int s = 0; s < statements; ++s) {
+            double dice = random.nextDouble();
+            int nested = Math.max(1, statements / 2);
+            if (depth < profile.depth && dice < profile.branches) {
+                if (random.nextBoolean())
+                    ifElse(code, depth, nested);
+                else
+                    switchCase(code, depth, nested);
+            } else if (depth < profile.depth && dice < profile.branches + profile.loops) {
+                loop(code, depth, nested);
+            } else if (dice < profile.branches + profile.loops + profile.calls) {
+                int cls = random.nextInt(profile.classes);
+                int method = random.nextInt(Math.max(1, profile.methods));
+                code.line(variable() + " = C" + cls + ".m" + method + "(" + expression() + ", " + variable() + ");");
+            } else if (profile.fields > 0 && random.nextInt(4) == 0) {
+                String field = "f" + random.nextInt(profile.fields);
+                code.line(field + " = " + field + " + " + expression() + ";");
+            } else {
+                code.line(variable() + " = " + expression() + ";");
+            }
+        }
+    }
+
+    private void ifElse(Code code, int depth, int statements) {
+        code.open("if (" + variable() + " > " + expression() + ")");
+        block(code, depth + 1, statements);
+        for (int b = 1; b < profile.fanout; ++b) {
+            code.reopen(b < profile.fanout - 1
+                    ? "else if (" + variable() + " < " + random.nextInt(100) + ")" : "else");
+            block(code, depth + 1, statements);
+        }
+        code.close();
+    }
+
+    private void switchCase(Code code, int depth, int statements) {
+        code.open("switch (" + variable() + " % " + Math.max(1, profile.fanout) + ")");
+        for (int b = 0; b < profile.fanout; ++b) {
+            code.open(b < profile.fanout - 1 ? "case " + b + ":" : "default:");
+            block(code, depth + 1, statements);
+            code.line("break;");
+            code.close();
+        }
+        code.close();
+    }
+
+    private void loop(Code code, int depth, int statements) {
+        String var = variable();
+        switch (random.nextInt(3)) {
+            case 0:
+                code.open("for (int i" + depth + " = 0; i" + depth + " < " + var + "; ++i" + depth + ")");
+                block(code, depth + 1, statements);
+                code.close();
+                break;
+            case 1:
+                code.open("while (" + var + " > 0)");
+                block(code, depth + 1, statements);
+                code.line(var + " = " + var + " - 1;");
+                code.close();
+                break;
+            default:
+                code.open("do");
+                block(code, depth + 1, statements);
+                code.line(var + " = " + var + " - 1;");
+                code.closeWith("while (" + var + " > 0);");
+        }
+    }
+
+    private String variable() {
+        return "v" + random.nextInt(Math.max(1, profile.variables));
+    }
+
+    /**
+     * Returns an arithmetic expression, using the given number of variables.
+     */
+    private String expression() {
+        StringBuilder expr = new StringBuilder(variable());
+        for (int u = 1; u < profile.uses; ++u)
+            expr.append(random.nextBoolean() ? " + " : " * ").append(variable());
+        return expr.append(" + ").append(random.nextInt(10)).toString();
+    }
+
+    /**
+     * A buffer of generated code, with indentation of blocks.
+     */
+    private static class Code {
+        final StringBuilder text = new StringBuilder(4096);
+        int indent = 0;
+        long lines = 0;
+
+        void line(String line) {
+            for (int i = 0; i < indent && !line.isEmpty(); ++i)
+                text.append("    ");
+            text.append(line).append('\n');
+            ++lines;
+        }
+
+        void open(String header) {
+            line(header + " {");
+            ++indent;
+        }
+
+        void reopen(String header) {
+            --indent;
+            line("} " + header + " {");
+            ++indent;
+        }
+
+        void close() {
+            --indent;
+            line("}");
+        }
+
+        void closeWith(String trailer) {
+            --indent;
+            line("} " + trailer);
+        }
+    }
+
+    /**
+     * Generate a corpus from the command line; the first argument is the output
+     * directory, and the rest are properties of the profile (as 'name=value').
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("USAGE: SyntheticCorpus <outdir> [name=value ...]");
+            return;
+        }
+        Profile profile = new Profile();
+        for (int i = 1; i < args.length; ++i)
+            profile.set(args[i]);
+        SyntheticCorpus corpus = new SyntheticCorpus(profile);
+        String[] files = corpus.generate(new File(args[0]));
+        System.out.println("Generated " + files.length + " files, " + corpus.getLineCount() + " lines.");
+    }
+}
@@ -0,0 +1,447 @@
+/*** In The Name of Allah ***/
+package ghaffarian.progex.java;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.Trees;
+import ghaffarian.graphs.Edge;
+import ghaffarian.progex.AnalysisSession;
+import ghaffarian.progex.graphs.cfg.CFEdge;
+import ghaffarian.progex.graphs.cfg.CFNode;
+import ghaffarian.progex.graphs.cfg.ControlFlowGraph;
+import ghaffarian.progex.java.parser.JavaParser;
+import ghaffarian.progex.utils.FileUtils;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+/**
+ * Tests for the package-private infrastructure of the Java builders;
+ * e.g. parsing and caching of source files, and indices of classes.
+ *
+ * @author Seyed Mohammad Ghaffarian
+ */
+public class JavaParsingTests {
+
+    private final String JAVA_SRC_DIR = "src/test/resources/java/basic/";
+
+    @Test
+    public void parseTreeCacheSharedAnalysesTest() throws IOException {
+        String[] paths = FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, ".java");
+        try (AnalysisSession session = new AnalysisSession()) {
+            ParseTreeCache cache = session.getParseTreeCache();
+            for (String path: paths) {
+                File file = new File(path);
+                ParseTree tree = cache.parse(file);
+                JavaASTBuilder.build(session, file);
+                JavaCFGBuilder.build(session, file);
+                JavaCDGBuilder.build(session, file);
+                // while the tree is held, the same tree is served to all analyses
+                assertSame(path, tree, cache.parse(file));
+            }
+            assertEquals(paths.length, cache.getMisses());
+            assertTrue(cache.getHits() >= 4 * paths.length);
+        }
+        // build calls without a session do not keep their parse-trees
+        JavaPDGBuilder.buildForAll(new File[] {new File(paths[0])});
+        assertEquals(0, AnalysisSession.getDefault().getParseTreeCache().getSize());
+    }
+
+    @Test
+    public void parseTreeCacheInvalidationTest() throws IOException {
+        ParseTreeCache cache = new ParseTreeCache();
+        byte[] code = "class A { int f() { return 1; } }".getBytes(StandardCharsets.UTF_8);
+        byte[] modified = "class A { int f() { return 2; } }".getBytes(StandardCharsets.UTF_8);
+        ParseTree tree = cache.parse("A.java", code);
+        assertSame(tree, cache.parse("A.java", code));
+        assertEquals(1, cache.getHits());
+        // the same path with a new content is parsed again
+        ParseTree modifiedTree = cache.parse("A.java", modified);
+        assertNotSame(tree, modifiedTree);
+        assertEquals(2, cache.getMisses());
+        assertTrue(modifiedTree.getText().contains("2"));
+        assertSame(modifiedTree, cache.parse("A.java", modified));
+    }
+
+    @Test
+    public void parseTreeCacheEvictionTest() throws IOException {
+        byte[] code = "class A { int f(int x) { return x + 1; } }".getBytes(StandardCharsets.UTF_8);
+        ParseTreeCache sizing = new ParseTreeCache();
+        ParseTree sizingTree = sizing.parse("A.java", code);
+        // entries are kept in compact form
+        assertEquals(CompactParseTree.lower(sizingTree).memorySize(), sizing.getSize());
+        // a cache for exactly two entries of the same size
+        ParseTreeCache cache = new ParseTreeCache(2 * sizing.getSize());
+        ParseTree treeA = cache.parse("A.java", code);
+        ParseTree treeB = cache.parse("B.java", code);
+        assertSame(treeA, cache.parse("A.java", code));
+        cache.parse("C.java", code);
+        // B is the least-recently used entry, which is evicted
+        assertEquals(1, cache.getEvictions());
+        assertSame(treeA, cache.parse("A.java", code));
+        int misses = cache.getMisses();
+        cache.parse("B.java", code);
+        assertEquals(misses + 1, cache.getMisses());
+        //
+        // the newest entry is kept, even if it does not fit
+        ParseTreeCache tiny = new ParseTreeCache(1);
+        treeA = tiny.parse("A.java", code);
+        assertSame(treeA, tiny.parse("A.java", code));
+        tiny.parse("B.java", code);
+        assertEquals(1, tiny.getEvictions());
+        misses = tiny.getMisses();
+        tiny.parse("A.java", code);
+        assertEquals(misses + 1, tiny.getMisses());
+        //
+        // a cache with zero capacity keeps nothing
+        ParseTreeCache none = new ParseTreeCache(0);
+        none.parse("A.java", code);
+        none.parse("A.java", code);
+        assertEquals(2, none.getMisses());
+        assertEquals(0, none.getSize());
+    }
+
+    @Test
+    public void parseTreeCacheReleaseTest() throws IOException {
+        byte[] code = "class A { int f(int x) { return x + 1; } }".getBytes(StandardCharsets.UTF_8);
+        ParseTreeCache cache = new ParseTreeCache();
+        ParseTree tree = cache.parse("A.java", code);
+        String treeString = tree.toStringTree();
+        WeakReference<ParseTree> released = new WeakReference<>(tree);
+        tree = null;
+        // the cache does not hold the parse-tree, once no caller holds it
+        for (int i = 0; i < 10 && released.get() != null; ++i)
+            System.gc();
+        Assume.assumeTrue(released.get() == null);
+        // so it is rebuilt from the compact form, without parsing again
+        int misses = cache.getMisses();
+        tree = cache.parse("A.java", code);
+        assertEquals(misses, cache.getMisses());
+        assertEquals(treeString, tree.toStringTree());
+        // and the rebuilt parse-tree is served while it is held
+        assertSame(tree, cache.parse("A.java", code));
+    }
+
+    @Test
+    public void javaParserFallbackTest() throws IOException {
+        List<String> ruleNames = Arrays.asList(JavaParser.ruleNames);
+        List<String> sources = new ArrayList<>();
+        for (String path: FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, ".java"))
+            sources.add(new String(Files.readAllBytes(new File(path).toPath()), StandardCharsets.UTF_8));
+        // a syntax error fails the SLL stage, and is recovered by the LL stage
+        String invalid = "class A { int f( { return 1; } }";
+        sources.add(invalid);
+        for (String code: sources) {
+            long fallbacks = JavaParserFactory.getFallbackCount();
+            String twoStage = Trees.toStringTree(parse(code), ruleNames);
+            assertEquals(code.equals(invalid) ? fallbacks + 1 : fallbacks, JavaParserFactory.getFallbackCount());
+            JavaParserFactory.setTwoStage(false);
+            try {
+                // the same parse-tree as the LL prediction mode alone
+                assertEquals(twoStage, Trees.toStringTree(parse(code), ruleNames));
+            } finally {
+                JavaParserFactory.setTwoStage(true);
+            }
+        }
+    }
+
+    private static ParseTree parse(String code) {
+        return JavaParserFactory.parseCompilationUnit(
+                JavaSource.wrap("A.java", code.getBytes(StandardCharsets.UTF_8)).toCharStream());
+    }
+
+    @Test
+    public void javaSourceTest() throws IOException {
+        File dir = new File("out/java/source/");
+        dir.mkdirs();
+        // a large ASCII file (which is memory-mapped), and a small non-ASCII one
+        StringBuilder large = new StringBuilder("class Large {\n");
+        for (int i = 0; large.length() < 300 * 1024; ++i)
+            large.append("    int field").append(i).append(" = ").append(i).append(";\n");
+        large.append("}\n");
+        String unicode = "class Unicode {\n    String s = \"caf\u00e9 \u4e2d \ud83d\ude00\"; // \u00fc\n}\n";
+        for (String code: new String[] {large.toString(), unicode}) {
+            boolean ascii = !code.equals(unicode);
+            byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+            File file = new File(dir, ascii ? "Large.java" : "Unicode.java");
+            Files.write(file.toPath(), bytes);
+            File zipFile = new File(dir, "sources.zip");
+            writeZip(zipFile, "pkg/" + file.getName(), code);
+            JavaSource fromFile = JavaSource.read(file);
+            JavaSource fromStream;
+            try (InputStream in = new ByteArrayInputStream(bytes)) {
+                fromStream = JavaSource.read(file.getName(), in);
+            }
+            JavaSource fromZip;
+            try (ZipFile zip = new ZipFile(zipFile)) {
+                fromZip = JavaSource.read(zip, zip.getEntry("pkg/" + file.getName()));
+            }
+            assertEquals(zipFile.getPath() + "!pkg/" + file.getName(), fromZip.getName());
+            // the same content from all sources, as the original text
+            for (JavaSource source: new JavaSource[] {fromFile, fromStream, fromZip}) {
+                assertEquals(bytes.length, source.length());
+                assertArrayEquals(JavaSource.wrap("", bytes).hash(), source.hash());
+                CharStream input = source.toCharStream();
+                assertEquals(code.length(), input.size());
+                assertEquals(code, input.getText(Interval.of(0, input.size() + 10)));
+                assertEquals(ascii, input instanceof JavaSource.AsciiCharStream);
+            }
+            // the same parse-tree as an ANTLR input stream of the text
+            List<String> ruleNames = Arrays.asList(JavaParser.ruleNames);
+            assertEquals(Trees.toStringTree(JavaParserFactory.parseCompilationUnit(new ANTLRInputStream(code)), ruleNames),
+                    Trees.toStringTree(JavaParserFactory.parseCompilationUnit(fromFile.toCharStream()), ruleNames));
+        }
+        // malformed UTF-8 is replaced, as in an InputStreamReader
+        CharStream input = JavaSource.wrap("", new byte[] {'a', (byte) 0xC3, 'b'}).toCharStream();
+        assertEquals("a\ufffdb", input.getText(Interval.of(0, input.size() - 1)));
+    }
+
+    @Test
+    public void compactParseTreeRoundTripTest() throws IOException {
+        for (String path: FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, ".java")) {
+            ParseTree tree = JavaParserFactory.parseCompilationUnit(JavaSource.read(new File(path)).toCharStream());
+            CompactParseTree compact = CompactParseTree.lower(tree);
+            assertNotNull(path, compact);
+            ParseTree rebuilt = compact.toParseTree();
+            assertNotSame(tree, rebuilt);
+            List<String> ruleNames = Arrays.asList(JavaParser.ruleNames);
+            assertEquals(path, Trees.toStringTree(tree, ruleNames), Trees.toStringTree(rebuilt, ruleNames));
+            assertEquals(path, describe(tree), describe(rebuilt));
+            // rebuilt tokens have a token source, with the same input stream
+            Token first = ((ParserRuleContext) rebuilt).getStart();
+            assertNotNull(first.getTokenSource());
+            assertSame(((ParserRuleContext) tree).getStart().getInputStream(), first.getInputStream());
+        }
+    }
+
+    @Test
+    public void compactParseTreeMemorySizeTest() {
+        String code = "class A { int f() { return 1; } } // e\n";
+        String nonAscii = code.replace("// e", "// é");
+        CompactParseTree ascii = CompactParseTree.lower(JavaParserFactory.parseCompilationUnit(
+                JavaSource.wrap("A.java", code.getBytes(StandardCharsets.UTF_8)).toCharStream()));
+        CompactParseTree decoded = CompactParseTree.lower(JavaParserFactory.parseCompilationUnit(
+                JavaSource.wrap("A.java", nonAscii.getBytes(StandardCharsets.UTF_8)).toCharStream()));
+        // the same tokens, but two bytes per character of the decoded source
+        assertEquals(ascii.memorySize() + code.length(), decoded.memorySize());
+    }
+
+    @Test
+    public void javaSymbolIndexTest() throws IOException {
+        List<JavaClass> classes = new ArrayList<>();
+        for (String path: FileUtils.listFilesWithSuffix(new String[] {JAVA_SRC_DIR}, ".java"))
+            classes.addAll(JavaClassExtractor.extractInfo(path));
+        classes.add(new JavaClass("Test1", "other", null, "Other.java", new String[0]));
+        JavaSymbolIndex index = new JavaSymbolIndex(classes);
+        // the same classes as linear scans, and in the same order
+        for (JavaClass cls: classes) {
+            List<JavaClass> samePackage = new ArrayList<>();
+            List<JavaClass> sameName = new ArrayList<>();
+            for (JavaClass other: classes) {
+                if (other.PACKAGE.equals(cls.PACKAGE)) {
+                    samePackage.add(other);
+                    if (other.NAME.equals(cls.NAME))
+                        sameName.add(other);
+                }
+            }
+            assertEquals(samePackage, index.getPackageClasses(cls.PACKAGE));
+            assertEquals(sameName, index.getClasses(JavaSymbolIndex.qualifiedName(cls.PACKAGE, cls.NAME)));
+            assertSame(sameName.get(0), index.findClass(cls.PACKAGE, cls.NAME));
+        }
+        assertTrue(index.getPackageClasses("no.such.pkg").isEmpty());
+        assertTrue(index.getClasses("no.such.Cls").isEmpty());
+        assertNull(index.findClass("other", "NoSuchClass"));
+    }
+
+    @Test
+    public void javaClassMemberIndexTest() {
+        JavaClass cls = new JavaClass("A", "pkg", null, "A.java", new String[0]);
+        cls.addMethod(new JavaMethod("public", false, false, "int", "f", null, 1));
+        cls.addField(new JavaField("private", false, "int", "x"));
+        assertEquals(1, cls.getMethods("f").size());
+        assertTrue(cls.getMethods("g").isEmpty());
+        assertEquals("int", cls.getField("x").TYPE);
+        // the indices are updated with new members
+        cls.addMethod(new JavaMethod("public", false, false, "int", "f", new String[] {"int"}, 2));
+        cls.addField(new JavaField("private", false, "long", "x"));
+        cls.addField(new JavaField("private", false, "int", "y"));
+        assertEquals(2, cls.getMethods("f").size());
+        assertEquals(2, cls.getMethods("f").get(1).LINE_OF_CODE);
+        // the last field with the same name
+        assertEquals("long", cls.getField("x").TYPE);
+        assertEquals("int", cls.getField("y").TYPE);
+        assertNull(cls.getField("z"));
+    }
+
+    @Test
+    public void javaICFGCallsTest() throws IOException {
+        File dir = new File("out/java/icfg/");
+        dir.mkdirs();
+        File a = new File(dir, "A.java");
+        File b = new File(dir, "B.java");
+        Files.write(a.toPath(), Arrays.asList("package p;", "public class A {",
+                "    public void f() { int y = 2; g(y); B b = new B(); b.h(); }",
+                "    public void g(int x) { x = x + 1; }", "}"), StandardCharsets.UTF_8);
+        Files.write(b.toPath(), Arrays.asList("package p;", "public class B {",
+                "    public void h() { int z = 3; }", "}"), StandardCharsets.UTF_8);
+        ControlFlowGraph icfg;
+        try (AnalysisSession session = new AnalysisSession()) {
+            icfg = JavaICFGBuilder.buildForAll(session, new File[] {a, b});
+        }
+        // a call to a method of the same class, and a call through a variable of another class
+        Set<String> calls = new TreeSet<>();
+        Iterator<Edge<CFNode, CFEdge>> edges = icfg.allEdgesIterator();
+        while (edges.hasNext()) {
+            Edge<CFNode, CFEdge> edge = edges.next();
+            if (edge.label.type == CFEdge.Type.CALLS)
+                calls.add(edge.target.getClassName() + "." + edge.target.getName());
+        }
+        assertEquals(new TreeSet<>(Arrays.asList("A.g", "B.h")), calls);
+    }
+
+    @Test
+    public void librarySignatureStoreTest() throws IOException {
+        File dir = new File("out/java/lib/");
+        dir.mkdirs();
+        File zipFile = new File(dir, "src.zip");
+        File storeFile = new File(dir, "src.signatures");
+        storeFile.delete();
+        String foo = "package java.util;\nimport java.io.*;\npublic class Foo<T> extends Bar implements List<T> {\n"
+                + "    private static int count;\n    protected String[] names = {};\n"
+                + "    public Foo(int n) { count = n; }\n    public <E> void put(E e, T... rest) { }\n}\n";
+        String bar = "package java.util;\nabstract class Bar {\n    abstract int size();\n}\n";
+        writeZip(zipFile, "java/util/Foo.java", foo, "java/util/Bar.java", bar);
+        List<JavaClass> expected = new ArrayList<>();
+        expected.addAll(JavaClassExtractor.extractInfo("src.zip/java/util/Foo.java", 
+                new ByteArrayInputStream(foo.getBytes(StandardCharsets.UTF_8))));
+        expected.addAll(JavaClassExtractor.extractInfo("src.zip/java/util/Bar.java", 
+                new ByteArrayInputStream(bar.getBytes(StandardCharsets.UTF_8))));
+        // the same signatures: when extracted, and when decoded from the saved store
+        LibrarySignatureStore store = LibrarySignatureStore.open(zipFile, storeFile);
+        assertEquals(expected.toString(), store.getPackage("java.util.*").toString());
+        assertTrue(store.isModified());
+        store.save();
+        store = LibrarySignatureStore.open(zipFile, storeFile);
+        assertEquals(expected.toString(), store.getPackage("java.util.*").toString());
+        assertEquals(expected.get(0).toString(), store.getClass("java.util.Foo").get(0).toString());
+        assertEquals("T", store.getClass("java.util.Foo").get(0).getTypeParameters());
+        assertFalse(store.isModified());
+        assertTrue(store.getClass("java.util.Baz").isEmpty());
+        assertTrue(store.getPackage("java.io.*").isEmpty());
+        // a modified library invalidates the store
+        writeZip(zipFile, "java/util/Bar.java", bar.replace("size", "length"));
+        zipFile.setLastModified(zipFile.lastModified() - 10000);
+        store = LibrarySignatureStore.open(zipFile, storeFile);
+        assertTrue(store.getClass("java.util.Foo").isEmpty());
+        assertTrue(store.getClass("java.util.Bar").get(0).hasMethod("length"));
+    }
+
+    @Test
+    public void librarySignatureStoreCorruptTest() throws IOException {
+        File dir = new File("out/java/lib-corrupt/");
+        dir.mkdirs();
+        File zipFile = new File(dir, "src.zip");
+        File storeFile = new File(dir, "src.signatures");
+        new File(storeFile, "occupied").delete();
+        storeFile.delete();
+        String foo = "package java.util;\npublic class Foo {\n    public int size() { return 0; }\n}\n";
+        writeZip(zipFile, "java/util/Foo.java", foo);
+        LibrarySignatureStore store = LibrarySignatureStore.open(zipFile, storeFile);
+        String expected = store.getClass("java.util.Foo").toString();
+        store.save();
+        byte[] saved = Files.readAllBytes(storeFile.toPath());
+        // a truncated store (in its directory, or in a record) is replaced by a new store
+        for (int length: new int[] {30, saved.length - 4}) {
+            Files.write(storeFile.toPath(), Arrays.copyOf(saved, length));
+            store = LibrarySignatureStore.open(zipFile, storeFile);
+            assertEquals(expected, store.getClass("java.util.Foo").toString());
+            assertTrue(store.isModified());
+        }
+        // a corrupt record is extracted again; the record of the only entry starts
+        // after the header (24 bytes) and the directory (4 + 4 + 18 + 4 + 4 bytes)
+        byte[] corrupt = saved.clone();
+        corrupt[58] = (byte) 0x7F;
+        Files.write(storeFile.toPath(), corrupt);
+        store = LibrarySignatureStore.open(zipFile, storeFile);
+        assertEquals(expected, store.getClass("java.util.Foo").toString());
+        assertTrue(store.isModified());
+        //
+        // a store which cannot be saved leaves no temporary file, and is not saved again
+        storeFile.delete();
+        storeFile.mkdir();
+        new File(storeFile, "occupied").createNewFile();
+        store = LibrarySignatureStore.open(zipFile, storeFile);
+        store.getClass("java.util.Foo");
+        try {
+            store.save();
+            fail("The store is saved over a directory!");
+        } catch (IOException ex) {
+            // expected
+        }
+        assertFalse(store.isModified());
+        assertEquals(0, FileUtils.listFilesWithSuffix(new String[] {dir.getPath()}, ".tmp").length);
+        new File(storeFile, "occupied").delete();
+        storeFile.delete();
+    }
+
+    private static void writeZip(File zipFile, String... pathsAndContents) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(zipFile))) {
+            for (int i = 0; i < pathsAndContents.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(pathsAndContents[i]));
+                zip.write(pathsAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Returns the types, texts and positions of all terminals of the given tree,
+     * and the original source text of all its contexts; in pre-order.
+     */
+    private static List<String> describe(ParseTree tree) {
+        List<String> nodes = new ArrayList<>();
+        describe(tree, nodes);
+        return nodes;
+    }
+
+    private static void describe(ParseTree tree, List<String> nodes) {
+        if (tree instanceof TerminalNode) {
+            Token token = ((TerminalNode) tree).getSymbol();
+            nodes.add(token.getType() + " '" + token.getText() + "' " + token.getLine() + ":"
+                    + token.getCharPositionInLine() + " #" + token.getTokenIndex());
+            return;
+        }
+        ParserRuleContext ctx = (ParserRuleContext) tree;
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop();
+        if (start != null && stop != null && stop.getStopIndex() >= start.getStartIndex())
+            nodes.add(ctx.getClass().getSimpleName() + " "
+                    + start.getInputStream().getText(new Interval(start.getStartIndex(), stop.getStopIndex())));
+        else
+            nodes.add(ctx.getClass().getSimpleName() + " " + ctx.getSourceInterval());
+        for (int i = 0; i < ctx.getChildCount(); ++i)
+            describe(ctx.getChild(i), nodes);
+    }
+}